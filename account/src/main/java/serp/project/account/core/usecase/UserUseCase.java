@@ -28,6 +28,7 @@ import serp.project.account.kernel.utils.PaginationUtils;
 import serp.project.account.kernel.utils.ResponseUtils;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -95,6 +96,22 @@ public class UserUseCase {
         }
     }
 
+    public GeneralResponse<?> getUserProfilesByIds(List<Long> userIds) {
+        try {
+            var distinctIds = userIds.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            if (CollectionUtils.isEmpty(distinctIds)) {
+                return responseUtils.success(List.of());
+            }
+            return responseUtils.success(userService.getUserProfilesByIds(distinctIds));
+        } catch (Exception e) {
+            log.error("Get user profiles by ids failed: {}", e.getMessage());
+            return responseUtils.internalServerError(e.getMessage());
+        }
+    }
+
     public GeneralResponse<?> getUsers(GetUserParams params) {
         try {
             var pairUsers = userService.getUsers(params);
@@ -3,13 +3,17 @@ package serp.project.account.ui.controller.internal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import serp.project.account.core.domain.dto.request.GetUserParams;
+import serp.project.account.core.domain.dto.request.GetUsersByIdsRequest;
 import serp.project.account.core.usecase.UserUseCase;
 
 @RequiredArgsConstructor
@@ -26,6 +30,12 @@ public class InternalUserController {
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> getUserProfilesByIds(@Valid @RequestBody GetUsersByIdsRequest request) {
+        var response = userUseCase.getUserProfilesByIds(request.getUserIds());
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
     @GetMapping
     public ResponseEntity<?> getUsers(
             @RequestParam(required = false) Integer page,
@@ -7,8 +7,10 @@ package serp.project.discuss_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class DiscussServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,26 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.discuss_service.core.domain.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class MarkActivitiesReadRequest {
+
+    @NotEmpty(message = "Activity IDs are required")
+    @Size(max = 500, message = "Cannot mark more than 500 activities at once")
+    private List<Long> activityIds;
+}
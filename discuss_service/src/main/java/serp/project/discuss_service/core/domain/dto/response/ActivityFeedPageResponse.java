@@ -0,0 +1,33 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Keyset-paged activity feed response
+ */
+
+package serp.project.discuss_service.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ActivityFeedPageResponse {
+
+    private List<ActivityFeedResponse> items;
+
+    /**
+     * Opaque cursor for the next page, null when there are no more activities
+     */
+    private String nextCursor;
+
+    private Boolean hasNext;
+
+    private Long unreadCount;
+}
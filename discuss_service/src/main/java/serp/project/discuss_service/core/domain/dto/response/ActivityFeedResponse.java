@@ -0,0 +1,58 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Activity feed item response
+ */
+
+package serp.project.discuss_service.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.discuss_service.core.domain.entity.ActivityFeedEntity;
+import serp.project.discuss_service.core.domain.enums.ActionType;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ActivityFeedResponse {
+
+    private Long id;
+    private Long tenantId;
+    private ActionType actionType;
+    private Long actorId;
+    private String entityType;
+    private Long entityId;
+    private Long channelId;
+    private Long messageId;
+    private String title;
+    private String description;
+    private Boolean isRead;
+    private Long readAt;
+    private Long occurredAt;
+    private Map<String, Object> metadata;
+
+    public static ActivityFeedResponse fromEntity(ActivityFeedEntity entity) {
+        return ActivityFeedResponse.builder()
+                .id(entity.getId())
+                .tenantId(entity.getTenantId())
+                .actionType(entity.getActionType())
+                .actorId(entity.getActorId())
+                .entityType(entity.getEntityType())
+                .entityId(entity.getEntityId())
+                .channelId(entity.getChannelId())
+                .messageId(entity.getMessageId())
+                .title(entity.getTitle())
+                .description(entity.getDescription())
+                .isRead(entity.getIsRead())
+                .readAt(entity.getReadAt())
+                .occurredAt(entity.getOccurredAt())
+                .metadata(entity.getMetadata())
+                .build();
+    }
+}
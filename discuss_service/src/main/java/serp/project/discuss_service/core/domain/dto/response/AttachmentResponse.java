@@ -43,6 +43,7 @@ public class AttachmentResponse {
     
     // Presigned URL fields - populated by AttachmentUrlService
     private String downloadUrl;
+    private String previewUrl;
     private Long urlExpiresAt;
 
     public static AttachmentResponse fromEntity(AttachmentEntity entity) {
@@ -43,6 +43,9 @@ public class ChannelResponse {
     
     // Additional computed fields
     private Integer unreadCount;
+    private Boolean isPinned;
+    private Boolean isMuted;
+    private Long lastReadMessageId;
     private Boolean isMember;
     private Boolean canManage;
     private List<ChannelMemberResponse> members;
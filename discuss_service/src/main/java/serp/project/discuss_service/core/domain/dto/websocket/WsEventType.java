@@ -41,6 +41,9 @@ public enum WsEventType {
     // Read status events
     MESSAGE_READ,
     
+    // Several events delivered in one frame, payload is the ordered list of events
+    BATCH,
+
     // Error events
     ERROR
 }
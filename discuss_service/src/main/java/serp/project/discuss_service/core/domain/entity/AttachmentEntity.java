@@ -15,6 +15,7 @@ import lombok.experimental.SuperBuilder;
 import serp.project.discuss_service.core.domain.enums.StorageProvider;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -27,6 +28,11 @@ import java.util.Map;
 @SuperBuilder
 public class AttachmentEntity extends BaseEntity {
 
+    public static final String DERIVATIVE_THUMBNAIL = "thumbnail";
+    public static final String DERIVATIVE_PREVIEW = "preview";
+
+    private static final String DERIVATIVE_KEY_SUFFIX = "Key";
+
     private Long messageId;
     private Long channelId;
     private Long tenantId;
@@ -106,8 +112,39 @@ public class AttachmentEntity extends BaseEntity {
         setUpdatedAt(Instant.now().toEpochMilli());
     }
 
+    /**
+     * Record the storage key of a derived rendition (thumbnail/preview) in metadata
+     */
+    public void setDerivativeKey(String variant, String storageKey) {
+        Map<String, Object> updated = this.metadata != null ? new HashMap<>(this.metadata) : new HashMap<>();
+        updated.put(derivativeMetadataKey(variant), storageKey);
+        this.metadata = updated;
+        setUpdatedAt(Instant.now().toEpochMilli());
+    }
+
     // ==================== QUERY METHODS ====================
 
+    @JsonIgnore
+    public String getDerivativeKey(String variant) {
+        if (this.metadata == null) {
+            return null;
+        }
+        Object key = this.metadata.get(derivativeMetadataKey(variant));
+        return key != null ? key.toString() : null;
+    }
+
+    /**
+     * Metadata field holding the storage key of a derived rendition
+     */
+    public static String derivativeMetadataKey(String variant) {
+        return variant + DERIVATIVE_KEY_SUFFIX;
+    }
+
+    @JsonIgnore
+    public boolean hasDerivative(String variant) {
+        return getDerivativeKey(variant) != null;
+    }
+
     @JsonIgnore
     public boolean isImage() {
         return this.fileType != null && this.fileType.startsWith("image/");
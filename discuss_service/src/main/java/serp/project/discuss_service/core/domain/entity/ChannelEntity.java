@@ -16,6 +16,7 @@ import serp.project.discuss_service.core.domain.enums.ChannelType;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,7 +29,7 @@ import java.util.Optional;
 @AllArgsConstructor
 @Getter
 @Setter
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 public class ChannelEntity extends BaseEntity {
 
     private Long tenantId;
@@ -299,6 +300,19 @@ public class ChannelEntity extends BaseEntity {
                 .orElse(false);
     }
 
+    // ==================== COPY ====================
+
+    /**
+     * Copy that shares no mutable collections with this channel,
+     * so an instance held by an in-process cache is never changed by its readers
+     */
+    public ChannelEntity copy() {
+        return toBuilder()
+                .metadata(metadata != null ? new HashMap<>(metadata) : null)
+                .members(members != null ? new ArrayList<>(members) : null)
+                .build();
+    }
+
     // ==================== VALIDATION HELPERS ====================
 
     private void validateNotArchived() {
@@ -16,9 +16,11 @@ import serp.project.discuss_service.core.domain.enums.MessageType;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Message entity represents a message in a channel.
@@ -32,7 +34,7 @@ import java.util.Optional;
 @AllArgsConstructor
 @Getter
 @Setter
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 public class MessageEntity extends BaseEntity {
 
     private Long channelId;
@@ -397,6 +399,24 @@ public class MessageEntity extends BaseEntity {
 
     // ==================== NESTED VALUE OBJECT ====================
 
+    // ==================== COPY ====================
+
+    /**
+     * Copy that shares no mutable collections with this message,
+     * so an instance held by an in-process cache is never changed by its readers
+     */
+    public MessageEntity copy() {
+        return toBuilder()
+                .mentions(mentions != null ? new ArrayList<>(mentions) : null)
+                .reactions(reactions != null
+                        ? reactions.stream().map(ReactionVO::copy).collect(Collectors.toCollection(ArrayList::new))
+                        : null)
+                .readBy(readBy != null ? new ArrayList<>(readBy) : null)
+                .metadata(metadata != null ? new HashMap<>(metadata) : null)
+                .attachments(attachments != null ? new ArrayList<>(attachments) : null)
+                .build();
+    }
+
     /**
      * Reaction value object
      */
@@ -430,5 +450,9 @@ public class MessageEntity extends BaseEntity {
         public boolean hasUser(Long userId) {
             return this.userIds.contains(userId);
         }
+
+        public ReactionVO copy() {
+            return new ReactionVO(emoji, userIds != null ? new ArrayList<>(userIds) : null);
+        }
     }
 }
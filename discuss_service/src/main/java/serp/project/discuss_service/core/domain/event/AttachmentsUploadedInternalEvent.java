@@ -0,0 +1,23 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Internal Spring event for uploaded attachments
+ */
+
+package serp.project.discuss_service.core.domain.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
+
+import java.util.List;
+
+@Getter
+public class AttachmentsUploadedInternalEvent extends ApplicationEvent {
+
+    private final List<AttachmentEntity> attachments;
+
+    public AttachmentsUploadedInternalEvent(Object source, List<AttachmentEntity> attachments) {
+        super(source);
+        this.attachments = attachments;
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Channel inbox entry value object
+ */
+
+package serp.project.discuss_service.core.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import serp.project.discuss_service.core.domain.entity.ChannelEntity;
+import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+
+/**
+ * A channel as it appears in a user's sidebar: the channel, the user's membership
+ * (pinned/muted/unread) and the latest message preview, if any.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class ChannelInboxEntry {
+
+    private ChannelEntity channel;
+
+    private ChannelMemberEntity membership;
+
+    private MessageEntity lastMessage;
+
+    /**
+     * Last message time, or channel creation time for channels without messages
+     */
+    private Long lastActivityAt;
+}
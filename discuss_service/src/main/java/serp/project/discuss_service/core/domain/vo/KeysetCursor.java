@@ -0,0 +1,50 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Keyset pagination cursor value object
+ */
+
+package serp.project.discuss_service.core.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import serp.project.discuss_service.core.exception.AppException;
+import serp.project.discuss_service.core.exception.ErrorCode;
+
+/**
+ * Position of the last row of a page ordered by (timestamp DESC, id DESC).
+ * Encoded as "{timestampMillis}_{id}" so clients can treat it as opaque.
+ */
+@AllArgsConstructor
+@Getter
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final long timestamp;
+    private final long id;
+
+    public String encode() {
+        return timestamp + SEPARATOR + id;
+    }
+
+    /**
+     * Decode a cursor sent by the client
+     *
+     * @return the cursor, or null for a blank value (first page)
+     * @throws AppException INVALID_CURSOR when the value is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = cursor.split(SEPARATOR);
+        if (parts.length != 2) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+        try {
+            return new KeysetCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
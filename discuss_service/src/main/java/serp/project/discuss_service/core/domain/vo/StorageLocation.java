@@ -65,6 +65,18 @@ public class StorageLocation {
                 .build();
     }
 
+    /**
+     * Location of a derived rendition (thumbnail, preview) of this file in the same bucket.
+     * Format: derived/{variant}/{originalKey}.{extension}
+     */
+    public StorageLocation derive(String variant, String extension) {
+        return StorageLocation.builder()
+                .provider(provider)
+                .bucket(bucket)
+                .key(String.format("derived/%s/%s.%s", variant, key, extension))
+                .build();
+    }
+
     /**
      * Get the full path (bucket + key)
      */
@@ -21,6 +21,7 @@ public enum ErrorCode {
     FORBIDDEN("You do not have permission to perform this action", HttpStatus.FORBIDDEN),
     REQUEST_TIMEOUT("Request timeout", HttpStatus.REQUEST_TIMEOUT),
     BAD_REQUEST("Bad request", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("Invalid pagination cursor", HttpStatus.BAD_REQUEST),
     NOT_FOUND("Resource not found", HttpStatus.NOT_FOUND),
     INTERNAL_SERVER_ERROR("Internal server error", HttpStatus.INTERNAL_SERVER_ERROR),
     SERVICE_UNAVAILABLE("Service is currently unavailable", HttpStatus.SERVICE_UNAVAILABLE),
@@ -0,0 +1,49 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Transactional event listener for attachment events
+ */
+
+package serp.project.discuss_service.core.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
+import serp.project.discuss_service.core.domain.event.AttachmentsUploadedInternalEvent;
+import serp.project.discuss_service.core.service.IAttachmentDerivativeService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+@Component
+@Slf4j
+public class AttachmentEventListener {
+
+    private final IAttachmentDerivativeService derivativeService;
+    private final ExecutorService attachmentDerivativeExecutor;
+
+    public AttachmentEventListener(
+            IAttachmentDerivativeService derivativeService,
+            @Qualifier("attachmentDerivativeExecutor") ExecutorService attachmentDerivativeExecutor) {
+        this.derivativeService = derivativeService;
+        this.attachmentDerivativeExecutor = attachmentDerivativeExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAttachmentsUploaded(AttachmentsUploadedInternalEvent event) {
+        for (AttachmentEntity attachment : event.getAttachments()) {
+            if (!derivativeService.supportsDerivatives(attachment)) {
+                continue;
+            }
+            try {
+                attachmentDerivativeExecutor.execute(() -> derivativeService.generateDerivatives(attachment));
+            } catch (RejectedExecutionException e) {
+                // Clients fall back to the original file until a derivative exists
+                log.warn("Derivative queue full, skipping thumbnail generation for attachment {}",
+                        attachment.getId());
+            }
+        }
+    }
+}
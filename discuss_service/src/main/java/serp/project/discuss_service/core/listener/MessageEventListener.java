@@ -15,8 +15,11 @@ import serp.project.discuss_service.core.domain.event.MessageSentInternalEvent;
 import serp.project.discuss_service.core.domain.event.MessageUpdatedInternalEvent;
 import serp.project.discuss_service.core.domain.event.ReactionAddedInternalEvent;
 import serp.project.discuss_service.core.domain.event.ReactionRemovedInternalEvent;
+import serp.project.discuss_service.core.service.IActivityFeedService;
+import serp.project.discuss_service.core.service.IChannelInboxService;
 import serp.project.discuss_service.core.service.IDiscussCacheService;
 import serp.project.discuss_service.core.service.IDiscussEventPublisher;
+import serp.project.discuss_service.core.service.IThreadService;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -29,14 +32,23 @@ public class MessageEventListener {
 
     private final IDiscussEventPublisher eventPublisher;
     private final IDiscussCacheService cacheService;
+    private final IChannelInboxService channelInboxService;
+    private final IActivityFeedService activityFeedService;
+    private final IThreadService threadService;
     private final ExecutorService messageAsyncExecutor;
 
     public MessageEventListener(
             IDiscussEventPublisher eventPublisher,
             IDiscussCacheService cacheService,
+            IChannelInboxService channelInboxService,
+            IActivityFeedService activityFeedService,
+            IThreadService threadService,
             @Qualifier("messageAsyncExecutor") ExecutorService messageAsyncExecutor) {
         this.eventPublisher = eventPublisher;
         this.cacheService = cacheService;
+        this.channelInboxService = channelInboxService;
+        this.activityFeedService = activityFeedService;
+        this.threadService = threadService;
         this.messageAsyncExecutor = messageAsyncExecutor;
     }
 
@@ -50,9 +62,7 @@ public class MessageEventListener {
                 eventPublisher.publishMessageSent(event.getMessage());
 
                 cacheService.cacheMessage(event.getMessage());
-                if (event.getMessage().getParentId() != null) {
-                    cacheService.invalidateMessage(event.getMessage().getParentId());
-                }
+                threadService.recordReply(event.getMessage());
                 boolean smartUpdated = cacheService.prependMessageToFirstPage(
                         event.getChannelId(), 
                         event.getMessage(), 
@@ -64,6 +74,9 @@ public class MessageEventListener {
                     log.debug("Cache invalidated (no existing cache) for message {}", event.getMessage().getId());
                 }
 
+                channelInboxService.recordChannelActivity(event.getMessage());
+                activityFeedService.recordMentions(event.getMessage());
+
             } catch (Exception e) {
                 log.error("Failed to process post-commit for message {}: {}", 
                         event.getMessage().getId(), e.getMessage(), e);
@@ -101,10 +114,7 @@ public class MessageEventListener {
                 eventPublisher.publishMessageDeleted(event.getMessage());
                 
                 cacheService.invalidateMessage(event.getMessage().getId());
-                
-                if (event.getParentId() != null) {
-                    cacheService.invalidateMessage(event.getParentId());
-                }
+                threadService.recordReplyDeleted(event.getMessage());
                 
                 cacheService.removeMessageFromFirstPage(event.getChannelId(), event.getMessage().getId());
 
@@ -5,6 +5,7 @@
 
 package serp.project.discuss_service.core.port.client;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +15,10 @@ public interface IAccountServiceClient {
 
     Optional<ChannelMemberResponse.UserInfo> getUserById(Long userId);
 
+    /**
+     * Fetch many user profiles in one call. Unknown ids are simply absent from the result.
+     */
+    List<ChannelMemberResponse.UserInfo> getUsersByIds(Collection<Long> userIds);
+
     List<ChannelMemberResponse.UserInfo> getUsersForTenant(Long tenantId, String query);
 }
@@ -7,9 +7,11 @@ package serp.project.discuss_service.core.port.client;
 
 import org.springframework.core.ParameterizedTypeReference;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Generic cache port for Redis operations.
@@ -121,6 +123,36 @@ public interface ICachePort {
      */
     long getListSize(String key);
 
+    // ==================== SORTED SET OPERATIONS ====================
+
+    /**
+     * Add members with scores to a sorted set and (re)set its TTL
+     */
+    void sortedSetAddAll(String key, Map<String, Double> scoredMembers, long ttlSeconds);
+
+    /**
+     * Raise the score of an existing member in each of the given sorted sets using a pipeline.
+     * Sets that do not exist or do not contain the member are left untouched.
+     */
+    void batchSortedSetUpdateIfPresent(Collection<String> keys, String member, double score);
+
+    /**
+     * Get up to count members with score <= maxScore, highest score first
+     *
+     * @return Ordered map of member -> score
+     */
+    Map<String, Double> sortedSetReverseRangeByScore(String key, double maxScore, long count);
+
+    /**
+     * Remove members from a sorted set
+     */
+    void sortedSetRemove(String key, String... members);
+
+    /**
+     * Remove members by rank (lowest score is rank 0); negative ranks count from the highest score
+     */
+    void sortedSetRemoveRangeByRank(String key, long start, long end);
+
     // ==================== HASH OPERATIONS ====================
 
     /**
@@ -182,6 +214,11 @@ public interface ICachePort {
      */
     void publish(String channel, String message);
 
+    /**
+     * Subscribe to messages published to a channel, including those published by this instance
+     */
+    void subscribe(String channel, Consumer<String> listener);
+
     // ==================== BATCH/PIPELINE OPERATIONS ====================
 
     /**
@@ -211,4 +248,22 @@ public interface ICachePort {
     Set<String> scanKeys(String pattern);
 
     Map<String, Map<String, String>> batchHashGetAll(List<String> keys);
+
+    /**
+     * Get typed values for many keys in one round trip (MGET).
+     * Keys that are missing or fail to deserialize are absent from the result.
+     *
+     * @param keys Cache keys
+     * @param clazz Value type
+     * @return Map of key -> value for the keys that were found
+     */
+    <T> Map<String, T> multiGetFromCache(List<String> keys, Class<T> clazz);
+
+    /**
+     * Set many values with the same TTL using a Redis pipeline.
+     *
+     * @param values Map of key -> value (each serialized to JSON)
+     * @param ttlSeconds Time to live in seconds
+     */
+    void batchSetToCache(Map<String, Object> values, long ttlSeconds);
 }
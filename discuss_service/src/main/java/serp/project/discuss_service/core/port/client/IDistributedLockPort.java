@@ -0,0 +1,27 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Distributed lock port
+ */
+
+package serp.project.discuss_service.core.port.client;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Port for cluster-wide mutual exclusion between discuss instances.
+ * Used by periodic jobs that must run on a single node at a time.
+ */
+public interface IDistributedLockPort {
+
+    /**
+     * Run a task while holding the named lock
+     *
+     * @param lockName Lock name shared by all instances
+     * @param ttl      Lease after which the lock is released even if the holder dies
+     * @param task     Task to run
+     * @return the task result, or empty when another instance holds the lock
+     */
+    <T> Optional<T> executeWithLock(String lockName, Duration ttl, Supplier<T> task);
+}
@@ -32,6 +32,16 @@ public interface IStoragePort {
     FileUploadResult upload(InputStream inputStream, String fileName, String contentType,
                             Long fileSize, Long tenantId, Long channelId);
 
+    /**
+     * Upload content to an exact location, used for derived renditions of an existing file
+     *
+     * @param location    The target storage location
+     * @param content     The file content
+     * @param contentType The MIME type of the content
+     * @return FileUploadResult containing storage location or error
+     */
+    FileUploadResult upload(StorageLocation location, byte[] content, String contentType);
+
     /**
      * Download a file from storage
      *
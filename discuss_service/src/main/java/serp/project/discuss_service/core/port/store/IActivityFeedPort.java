@@ -24,6 +24,20 @@ public interface IActivityFeedPort {
      */
     List<ActivityFeedEntity> saveAll(List<ActivityFeedEntity> activities);
 
+    /**
+     * Insert activities in JDBC batches, skipping rows that already exist for the
+     * same recipient, message and action (fan-out retries)
+     *
+     * @return the activities that were actually inserted
+     */
+    List<ActivityFeedEntity> insertAll(List<ActivityFeedEntity> activities);
+
+    /**
+     * Find a page of the user's feed ordered by (occurredAt, id) descending, strictly
+     * before the given position. Null position returns the first page.
+     */
+    List<ActivityFeedEntity> findPage(Long userId, Long tenantId, Long beforeOccurredAt, Long beforeId, int limit);
+
     /**
      * Find activity by ID
      */
@@ -54,6 +68,21 @@ public interface IActivityFeedPort {
      */
     long countUnreadByUserId(Long userId);
 
+    /**
+     * Count unread activities for user within a tenant
+     */
+    long countUnread(Long userId, Long tenantId);
+
+    /**
+     * Mark all activities as read for user within a tenant
+     */
+    int markAllAsRead(Long userId, Long tenantId);
+
+    /**
+     * Mark the user's own activities as read
+     */
+    int markAsRead(Long userId, List<Long> activityIds);
+
     /**
      * Mark all activities as read for user
      */
@@ -22,6 +22,14 @@ public interface IAttachmentPort {
      */
     List<AttachmentEntity> saveAll(List<AttachmentEntity> attachments);
 
+    /**
+     * Write the thumbnail, dimensions and derivative keys of an attachment, leaving its other columns
+     * and metadata fields as they are
+     *
+     * @return false if the attachment no longer exists
+     */
+    boolean updateDerivatives(AttachmentEntity attachment);
+
     /**
      * Find attachment by ID
      */
@@ -7,8 +7,11 @@ package serp.project.discuss_service.core.port.store;
 
 import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
 import serp.project.discuss_service.core.domain.enums.MemberStatus;
+import serp.project.discuss_service.core.domain.vo.ChannelInboxEntry;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IChannelMemberPort {
@@ -77,4 +80,23 @@ public interface IChannelMemberPort {
      * Delete all members in a channel
      */
     void deleteByChannelId(Long channelId);
+
+    /**
+     * Find a page of the user's inbox ordered by last activity (newest first).
+     * Pass null cursor values for the first page.
+     */
+    List<ChannelInboxEntry> findInboxPage(Long userId, Long tenantId,
+                                          Long beforeActivityAt, Long beforeChannelId, int limit);
+
+    /**
+     * Find inbox entries for specific channels of the user (order not guaranteed)
+     */
+    List<ChannelInboxEntry> findInboxByChannelIds(Long userId, Long tenantId, Collection<Long> channelIds);
+
+    /**
+     * Find last activity time of every active, non-archived channel of the user
+     *
+     * @return Map of channelId -> last activity epoch millis
+     */
+    Map<Long, Long> findInboxActivity(Long userId, Long tenantId);
 }
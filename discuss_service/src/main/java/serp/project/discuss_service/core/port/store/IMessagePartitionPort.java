@@ -0,0 +1,30 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Message partition maintenance port interface
+ */
+
+package serp.project.discuss_service.core.port.store;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface IMessagePartitionPort {
+
+    /**
+     * Create the monthly messages partition if it does not exist yet
+     */
+    void createPartition(YearMonth month);
+
+    /**
+     * Months that still have a partition, including one left detached by a failed archive run, oldest first
+     */
+    List<YearMonth> findPartitionMonths();
+
+    /**
+     * Copy a monthly partition into the archive, detach it and drop it.
+     * Safe to rerun after a failure at any step.
+     *
+     * @return Number of archived messages
+     */
+    long archivePartition(YearMonth month);
+}
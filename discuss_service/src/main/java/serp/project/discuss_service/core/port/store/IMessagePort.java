@@ -8,7 +8,9 @@ package serp.project.discuss_service.core.port.store;
 import org.springframework.data.util.Pair;
 import serp.project.discuss_service.core.domain.entity.MessageEntity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IMessagePort {
@@ -34,9 +36,40 @@ public interface IMessagePort {
     List<MessageEntity> findBeforeId(Long channelId, Long beforeId, int limit);
 
     /**
-     * Find thread replies for a message
+     * Find non-deleted messages by IDs, in no particular order
      */
-    List<MessageEntity> findReplies(Long parentId);
+    List<MessageEntity> findByIds(Collection<Long> ids);
+
+    /**
+     * Find thread replies older than a specific reply ID, newest first
+     *
+     * @param beforeId Exclusive upper bound, or null for the latest replies
+     */
+    List<MessageEntity> findRepliesBefore(Long parentId, Long beforeId, int limit);
+
+    /**
+     * Apply thread count deltas to parent messages in place, without rewriting the rows
+     *
+     * @param deltas Delta per parent message ID
+     */
+    void incrementThreadCounts(Map<Long, Long> deltas);
+
+    /**
+     * Find parents whose replies were created or deleted since activeSince, but not since settledBefore
+     *
+     * @param activeSince   Epoch millis, start of the activity window
+     * @param settledBefore Epoch millis, parents with reply activity after it are skipped
+     */
+    List<Long> findSettledThreadParents(long activeSince, long settledBefore, int limit);
+
+    /**
+     * Recount the replies of parent messages and store the count minus the deltas still pending in Redis.
+     * Parents with reply activity after settledBefore are left alone.
+     *
+     * @param pendingDeltas Unflushed delta per parent message ID, 0 when nothing is pending
+     * @return Number of parents whose stored count was corrected
+     */
+    int reconcileThreadCounts(Map<Long, Long> pendingDeltas, long settledBefore);
 
     /**
      * Find messages by sender
@@ -0,0 +1,36 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Interface for activity feed service
+ */
+
+package serp.project.discuss_service.core.service;
+
+import serp.project.discuss_service.core.domain.dto.response.ActivityFeedPageResponse;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+
+import java.util.List;
+
+public interface IActivityFeedService {
+
+    int DEFAULT_PAGE_SIZE = 30;
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Fan out mention activities for a sent message to mentioned channel members.
+     * Rows are handed to the batched writer and persisted asynchronously.
+     */
+    void recordMentions(MessageEntity message);
+
+    /**
+     * Get a page of the user's feed, newest first
+     *
+     * @param cursor Cursor returned by the previous page, or null for the first page
+     */
+    ActivityFeedPageResponse getFeed(Long userId, Long tenantId, String cursor, int limit);
+
+    long getUnreadCount(Long userId, Long tenantId);
+
+    int markAsRead(Long userId, Long tenantId, List<Long> activityIds);
+
+    int markAllAsRead(Long userId, Long tenantId);
+}
@@ -0,0 +1,27 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Interface for batched activity feed writer
+ */
+
+package serp.project.discuss_service.core.service;
+
+import serp.project.discuss_service.core.domain.entity.ActivityFeedEntity;
+
+import java.util.List;
+
+/**
+ * Bounded asynchronous stage between activity fan-out and the database. Rows from many
+ * messages are drained together and inserted with one JDBC batch.
+ */
+public interface IActivityFeedWriter {
+
+    int QUEUE_CAPACITY = 10_000;
+    int MAX_BATCH_SIZE = 500;
+    long POLL_TIMEOUT_MS = 200;
+
+    /**
+     * Queue activities for insertion. When the queue is full the overflow is written on the
+     * calling thread, so producers slow down instead of rows being dropped.
+     */
+    void submit(List<ActivityFeedEntity> activities);
+}
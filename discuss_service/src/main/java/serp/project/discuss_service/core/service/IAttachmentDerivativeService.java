@@ -0,0 +1,20 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Attachment derivative (thumbnail/preview) service interface
+ */
+
+package serp.project.discuss_service.core.service;
+
+import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
+
+public interface IAttachmentDerivativeService {
+
+    boolean supportsDerivatives(AttachmentEntity attachment);
+
+    /**
+     * Generate thumbnail and preview renditions for an image attachment and store them
+     * under derived keys. Returns the updated attachment, or the input unchanged when
+     * the attachment is not eligible or generation fails.
+     */
+    AttachmentEntity generateDerivatives(AttachmentEntity attachment);
+}
@@ -0,0 +1,33 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Interface for user channel inbox service
+ */
+
+package serp.project.discuss_service.core.service;
+
+import serp.project.discuss_service.core.domain.dto.response.ChannelInboxResponse;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+
+public interface IChannelInboxService {
+
+    int DEFAULT_PAGE_SIZE = 30;
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Get a page of the user's channels with last message preview, unread count and
+     * pinned/muted flags, ordered by last activity (newest first).
+     *
+     * @param cursor Cursor returned by the previous page, or null for the first page
+     */
+    ChannelInboxResponse getInbox(Long userId, Long tenantId, String cursor, int limit);
+
+    /**
+     * Move the message's channel to the top of every member's cached inbox
+     */
+    void recordChannelActivity(MessageEntity message);
+
+    /**
+     * Drop the user's cached inbox so it is rebuilt on next read (membership changes)
+     */
+    void invalidateInbox(Long tenantId, Long userId);
+}
@@ -29,6 +29,8 @@ public interface IChannelService {
 
     List<ChannelEntity> getChannelsByTenantId(Long tenantId);
 
+    List<ChannelEntity> getChannelsByIds(List<Long> ids);
+
     List<ChannelEntity> getChannelsByType(Long tenantId, ChannelType type);
 
     Optional<ChannelEntity> getChannelByEntity(Long tenantId, String entityType, Long entityId);
@@ -6,6 +6,13 @@
 
 package serp.project.discuss_service.core.service;
 
+import serp.project.discuss_service.core.domain.dto.websocket.WsEvent;
+import serp.project.discuss_service.core.domain.dto.websocket.WsEventType;
+import serp.project.discuss_service.core.domain.dto.websocket.WsMessagePayload;
+import serp.project.discuss_service.core.domain.dto.websocket.WsReactionPayload;
+
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public interface IDeliveryService {
@@ -29,4 +36,22 @@ public interface IDeliveryService {
     void notifyReaction(Long channelId, Long messageId, Long userId, String emoji, boolean added);
 
     void notifyPresenceChange(Long userId);
+
+    // ==================== BATCH DELIVERY ====================
+
+    /**
+     * Build the MESSAGE_NEW or MESSAGE_UPDATED event for a message, empty if the message no longer exists
+     */
+    Optional<WsEvent<WsMessagePayload>> buildMessageEvent(WsEventType type, Long channelId, Long messageId);
+
+    WsEvent<WsMessagePayload> buildMessageDeletedEvent(Long channelId, Long messageId);
+
+    WsEvent<WsReactionPayload> buildReactionEvent(Long channelId, Long messageId, Long userId, String emoji, boolean added);
+
+    /**
+     * Deliver channel events collected from one consumer poll. Members and presence are resolved
+     * once per channel for the whole batch, and each online recipient gets a single frame holding
+     * all of its events in order (a BATCH event when there is more than one).
+     */
+    void deliverBatch(List<WsEvent<?>> events);
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import serp.project.discuss_service.core.domain.entity.ChannelEntity;
 import serp.project.discuss_service.core.domain.entity.MessageEntity;
 import serp.project.discuss_service.core.domain.entity.UserPresenceEntity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +30,11 @@ public interface IDiscussCacheService {
     String USER_SUBSCRIPTIONS_PREFIX = "discuss:user_subscriptions:";
     String ATTACHMENT_URL_PREFIX = "discuss:attachment_url:";
     String CHANNEL_MESSAGES_PREFIX = "discuss:channel_messages:";
+    String USER_INBOX_PREFIX = "discuss:inbox:";
+    String ACTIVITY_UNREAD_PREFIX = "discuss:activity_unread:";
+    String THREAD_PENDING_PREFIX = "discuss:thread_pending:";
+    String THREAD_DIRTY_KEY = "discuss:thread_dirty";
+    String THREAD_REPLIES_PREFIX = "discuss:thread_replies:";
 
     String USER_PRESENCE_HASH_PREFIX = "discuss:presence:user:";
 
@@ -39,7 +45,17 @@ public interface IDiscussCacheService {
     long PRESENCE_HASH_TTL = 604800;   // 7 days
     long TYPING_TTL = 5;               // 5 seconds
     long SESSION_TTL = 86400;          // 24 hours
+    long USER_INBOX_TTL = 86400;       // 24 hours
+    long ACTIVITY_UNREAD_TTL = 3600;   // 1 hour, bounds drift of the incremental counter
+    long THREAD_PENDING_TTL = 86400;   // 24 hours, far above the flush interval
+    long THREAD_REPLIES_TTL = 600;     // 10 minutes, bounds drift of the latest replies window
     long ATTACHMENT_URL_TTL = 561600;  // 6.5 days
+    long ATTACHMENT_URL_LOCAL_TTL = 300;  // 5 minutes, in-process near-cache
+
+    long ATTACHMENT_URL_LOCAL_MAX_SIZE = 20_000;
+
+    // Pseudo reply ID marking the start of a thread in the latest replies window
+    long THREAD_START_MARKER = 0L;
 
     // ==================== CHANNEL CACHE ====================
 
@@ -57,6 +73,15 @@ public interface IDiscussCacheService {
 
     void invalidateMessage(Long messageId);
 
+    /**
+     * Get cached messages in one round trip
+     *
+     * @return Map of messageId -> message, misses are omitted
+     */
+    Map<Long, MessageEntity> getCachedMessages(Collection<Long> messageIds);
+
+    void cacheMessages(Collection<MessageEntity> messages);
+
     // ==================== CHANNEL MESSAGES PAGE CACHE ====================
 
     /**
@@ -113,6 +138,112 @@ public interface IDiscussCacheService {
 
     long getTotalUnreadCount(Long userId);
 
+    /**
+     * Get all cached unread counts of a user in one call
+     *
+     * @return Map of channelId -> unread count
+     */
+    Map<Long, Integer> getCachedUnreadCounts(Long userId);
+
+    // ==================== USER INBOX ====================
+
+    boolean hasUserInbox(Long tenantId, Long userId);
+
+    /**
+     * Rebuild the user's inbox sorted set (channelId scored by last activity millis)
+     */
+    void cacheUserInbox(Long tenantId, Long userId, Map<Long, Long> channelActivity);
+
+    /**
+     * Get up to limit channels older than the cursor, newest first.
+     * A null cursor starts from the most recent channel.
+     *
+     * @return Ordered map of channelId -> last activity millis
+     */
+    Map<Long, Long> getUserInboxPage(Long tenantId, Long userId, Long beforeActivityAt,
+                                     Long beforeChannelId, int limit);
+
+    /**
+     * Move the channel to the top of each member's inbox; inboxes that are not cached are skipped
+     */
+    void touchUserInboxes(Long tenantId, Set<Long> userIds, Long channelId, long activityAt);
+
+    void removeFromUserInbox(Long tenantId, Long userId, Collection<Long> channelIds);
+
+    void invalidateUserInbox(Long tenantId, Long userId);
+
+    // ==================== ACTIVITY FEED UNREAD ====================
+
+    Optional<Long> getCachedActivityUnreadCount(Long tenantId, Long userId);
+
+    /**
+     * Seed the user's activity unread counter from the database count
+     */
+    void cacheActivityUnreadCount(Long tenantId, Long userId, long count);
+
+    /**
+     * Add newly written feed rows to the recipients' counters. Counters that have not been
+     * seeded are left absent so the next read loads the exact count.
+     *
+     * @param deltas Map of userId -> number of new unread activities
+     */
+    void incrementActivityUnreadCounts(Long tenantId, Map<Long, Long> deltas);
+
+    void invalidateActivityUnreadCount(Long tenantId, Long userId);
+
+    // ==================== THREADS ====================
+
+    /**
+     * Add a thread count change that has not been written to the parent row yet
+     * and mark the parent for the next flush
+     */
+    void incrementPendingThreadCount(Long channelId, Long parentId, long delta);
+
+    /**
+     * @return Map of parentId -> unflushed delta, parents without pending changes are omitted
+     */
+    Map<Long, Long> getPendingThreadCounts(Collection<Long> parentIds);
+
+    /**
+     * Take the parents whose counts changed since the previous drain
+     *
+     * @return Map of parentId -> channelId
+     */
+    Map<Long, Long> drainDirtyThreads();
+
+    /**
+     * Mark parents for the next flush again, e.g. after a flush failed to write their pending deltas
+     *
+     * @param parentToChannel Map of parentId -> channelId
+     */
+    void markThreadsDirty(Map<Long, Long> parentToChannel);
+
+    /**
+     * Subtract deltas that have been written to the parent rows from the pending counters
+     */
+    void acknowledgeFlushedThreadCounts(Map<Long, Long> flushed);
+
+    /**
+     * Get up to count reply IDs of the latest replies window below beforeId, newest first.
+     * {@link #THREAD_START_MARKER} is returned after the oldest reply when the window holds the whole thread.
+     */
+    List<Long> getLatestThreadReplyIds(Long parentId, Long beforeId, int count);
+
+    /**
+     * Replace the latest replies window of a thread
+     *
+     * @param replyIds    Newest reply IDs of the thread
+     * @param wholeThread Whether replyIds are all replies of the thread
+     */
+    void cacheLatestThreadReplyIds(Long parentId, List<Long> replyIds, boolean wholeThread);
+
+    /**
+     * Add a new reply to the latest replies window, keeping the newest windowSize replies
+     */
+    void appendLatestThreadReply(Long parentId, Long replyId, int windowSize);
+
+    void removeLatestThreadReply(Long parentId, Long replyId);
+
     // ==================== SESSION MANAGEMENT ====================
 
     void storeSession(String sessionId, Long userId, String instanceId);
@@ -154,6 +285,17 @@ public interface IDiscussCacheService {
 
     Optional<CachedAttachmentUrl> getCachedAttachmentUrl(Long attachmentId);
 
+    /**
+     * Resolve many attachment URLs at once: in-process near-cache first, then one MGET for the rest.
+     * Missing ids are absent from the result.
+     */
+    Map<Long, CachedAttachmentUrl> getCachedAttachmentUrls(Collection<Long> attachmentIds);
+
+    /**
+     * Write many attachment URLs back in one Redis pipeline and populate the near-cache.
+     */
+    void cacheAttachmentUrls(Map<Long, CachedAttachmentUrl> urls);
+
     void invalidateAttachmentUrl(Long attachmentId);
 
     // ==================== VALUE OBJECTS ====================
@@ -161,7 +303,7 @@ public interface IDiscussCacheService {
     record SessionInfo(String sessionId, Long userId, String instanceId, long createdAt) {
     }
 
-    record CachedAttachmentUrl(String downloadUrl, String thumbnailUrl, long expiresAt) {
+    record CachedAttachmentUrl(String downloadUrl, String thumbnailUrl, String previewUrl, long expiresAt) {
     }
 
     record CachedMessagesPage(long totalCount, List<MessageEntity> messages) {
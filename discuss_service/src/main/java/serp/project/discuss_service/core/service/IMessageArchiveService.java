@@ -0,0 +1,17 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Interface for message archive service
+ */
+
+package serp.project.discuss_service.core.service;
+
+public interface IMessageArchiveService {
+
+    String MAINTENANCE_LOCK_NAME = "discuss:lock:message_partition_maintenance";
+
+    /**
+     * Premake upcoming monthly partitions and move partitions past the retention window
+     * into the archive. Runs on one instance at a time.
+     */
+    void maintainPartitions();
+}
@@ -24,8 +24,6 @@ public interface IMessageService {
 
     List<MessageEntity> getMessagesBefore(Long channelId, Long beforeId, int limit);
 
-    List<MessageEntity> getThreadReplies(Long parentId);
-
     List<MessageEntity> searchMessages(Long channelId, String query, int page, int size);
 
     MessageEntity editMessage(Long messageId, String newContent, Long editorId);
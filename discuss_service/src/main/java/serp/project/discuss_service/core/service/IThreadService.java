@@ -0,0 +1,54 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Interface for thread service
+ */
+
+package serp.project.discuss_service.core.service;
+
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+
+import java.util.List;
+
+public interface IThreadService {
+
+    int DEFAULT_PAGE_SIZE = 50;
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Number of newest replies per thread kept in Redis
+     */
+    int LATEST_REPLIES_WINDOW = 100;
+
+    String FLUSH_LOCK_NAME = "discuss:lock:thread_count_flush";
+
+    /**
+     * Count a committed reply against its parent and add it to the latest replies window.
+     * The parent row is updated later by {@link #flushPendingThreadCounts()}.
+     */
+    void recordReply(MessageEntity reply);
+
+    void recordReplyDeleted(MessageEntity reply);
+
+    /**
+     * Get a page of thread replies, oldest first within the page
+     *
+     * @param beforeId ID of the oldest reply of the previous page, or null for the latest replies
+     */
+    List<MessageEntity> getReplies(Long parentId, Long beforeId, int limit);
+
+    /**
+     * Add thread count changes that have not been flushed yet to the given root messages
+     */
+    void applyPendingThreadCounts(List<MessageEntity> messages);
+
+    /**
+     * Write pending thread count changes to the parent rows. Runs on one instance at a time.
+     */
+    void flushPendingThreadCounts();
+
+    /**
+     * Recount the replies of recently active threads and correct parent rows that drifted, e.g. after
+     * a lost Redis increment or a flush replayed after a crash. Shares the flush lock.
+     */
+    void reconcileThreadCounts();
+}
@@ -9,7 +9,9 @@ import serp.project.discuss_service.core.domain.dto.response.ChannelMemberRespon
 import serp.project.discuss_service.core.domain.dto.response.MessageResponse;
 import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IUserInfoService {
@@ -17,6 +19,8 @@ public interface IUserInfoService {
     String USER_INFO_CACHE_PREFIX = "discuss:user_info:";
     String USER_INFO_BY_TENANT_CACHE_PREFIX = "discuss:tenant:%d:user_info";
     long USER_INFO_CACHE_TTL = 3600;
+    long USER_INFO_LOCAL_TTL = 60;
+    int USER_INFO_LOCAL_MAX_SIZE = 50_000;
 
     List<ChannelMemberResponse> enrichMembersWithUserInfo(List<ChannelMemberEntity> members);
 
@@ -28,5 +32,11 @@ public interface IUserInfoService {
 
     Optional<ChannelMemberResponse.UserInfo> getUserById(Long userId);
 
+    /**
+     * Resolve many users through the local cache, one Redis MGET and at most one
+     * coalesced account call. Users that cannot be resolved are absent from the result.
+     */
+    Map<Long, ChannelMemberResponse.UserInfo> getUsersByIds(Collection<Long> userIds);
+
     List<ChannelMemberResponse.UserInfo> getUsersForTenant(Long tenantId, String query);
 }
@@ -0,0 +1,28 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Interface for coalescing user profile loader
+ */
+
+package serp.project.discuss_service.core.service;
+
+import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads user profiles from account service, coalescing ids requested by concurrent
+ * callers within a short window into a single bulk call.
+ */
+public interface IUserProfileLoader {
+
+    long BATCH_WINDOW_MS = 5;
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * Load profiles for the given ids. Ids unknown to account service are absent from the result.
+     * The returned future always completes normally.
+     */
+    CompletableFuture<Map<Long, ChannelMemberResponse.UserInfo>> loadAll(Collection<Long> userIds);
+}
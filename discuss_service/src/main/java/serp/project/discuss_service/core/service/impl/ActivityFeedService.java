@@ -0,0 +1,138 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Activity feed service implementation
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.discuss_service.core.domain.dto.response.ActivityFeedPageResponse;
+import serp.project.discuss_service.core.domain.dto.response.ActivityFeedResponse;
+import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse.UserInfo;
+import serp.project.discuss_service.core.domain.entity.ActivityFeedEntity;
+import serp.project.discuss_service.core.domain.entity.ChannelEntity;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.domain.vo.KeysetCursor;
+import serp.project.discuss_service.core.port.store.IActivityFeedPort;
+import serp.project.discuss_service.core.service.IActivityFeedService;
+import serp.project.discuss_service.core.service.IActivityFeedWriter;
+import serp.project.discuss_service.core.service.IChannelMemberService;
+import serp.project.discuss_service.core.service.IChannelService;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.core.service.IUserInfoService;
+
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityFeedService implements IActivityFeedService {
+
+    private static final String UNKNOWN_ACTOR = "Someone";
+    private static final String UNNAMED_CHANNEL = "a conversation";
+
+    private final IActivityFeedPort activityFeedPort;
+    private final IActivityFeedWriter activityFeedWriter;
+    private final IChannelMemberService memberService;
+    private final IChannelService channelService;
+    private final IUserInfoService userInfoService;
+    private final IDiscussCacheService cacheService;
+
+    @Override
+    public void recordMentions(MessageEntity message) {
+        if (message == null || !message.hasMentions()) {
+            return;
+        }
+
+        Set<Long> memberIds = memberService.getMemberIds(message.getChannelId());
+        List<Long> recipients = message.getMentions().stream()
+                .distinct()
+                .filter(userId -> !userId.equals(message.getSenderId()))
+                .filter(memberIds::contains)
+                .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        String actorName = userInfoService.getUserById(message.getSenderId())
+                .map(UserInfo::getName)
+                .orElse(UNKNOWN_ACTOR);
+        String channelName = channelService.getChannelById(message.getChannelId())
+                .map(ChannelEntity::getName)
+                .filter(name -> !name.isBlank())
+                .orElse(UNNAMED_CHANNEL);
+        Long occurredAt = message.getCreatedAt();
+
+        List<ActivityFeedEntity> activities = recipients.stream()
+                .map(userId -> {
+                    ActivityFeedEntity activity = ActivityFeedEntity.createMention(message.getTenantId(), userId,
+                            message.getSenderId(), message.getChannelId(), message.getId(), actorName, channelName);
+                    if (occurredAt != null) {
+                        activity.setOccurredAt(occurredAt);
+                    }
+                    return activity;
+                })
+                .toList();
+
+        activityFeedWriter.submit(activities);
+        log.debug("Queued {} mention activities for message {}", activities.size(), message.getId());
+    }
+
+    @Override
+    public ActivityFeedPageResponse getFeed(Long userId, Long tenantId, String cursor, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        List<ActivityFeedEntity> rows = activityFeedPort.findPage(userId, tenantId,
+                position != null ? position.getTimestamp() : null,
+                position != null ? position.getId() : null,
+                pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ActivityFeedEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ActivityFeedEntity last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getOccurredAt(), last.getId()).encode();
+        }
+
+        return ActivityFeedPageResponse.builder()
+                .items(page.stream().map(ActivityFeedResponse::fromEntity).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .unreadCount(getUnreadCount(userId, tenantId))
+                .build();
+    }
+
+    @Override
+    public long getUnreadCount(Long userId, Long tenantId) {
+        return cacheService.getCachedActivityUnreadCount(tenantId, userId)
+                .orElseGet(() -> {
+                    long count = activityFeedPort.countUnread(userId, tenantId);
+                    cacheService.cacheActivityUnreadCount(tenantId, userId, count);
+                    return count;
+                });
+    }
+
+    @Override
+    @Transactional
+    public int markAsRead(Long userId, Long tenantId, List<Long> activityIds) {
+        int updated = activityFeedPort.markAsRead(userId, activityIds);
+        if (updated > 0) {
+            cacheService.invalidateActivityUnreadCount(tenantId, userId);
+        }
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int markAllAsRead(Long userId, Long tenantId) {
+        int updated = activityFeedPort.markAllAsRead(userId, tenantId);
+        cacheService.cacheActivityUnreadCount(tenantId, userId, 0);
+        return updated;
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Batched activity feed writer
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import serp.project.discuss_service.core.domain.entity.ActivityFeedEntity;
+import serp.project.discuss_service.core.port.store.IActivityFeedPort;
+import serp.project.discuss_service.core.service.IActivityFeedWriter;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A single drain loop takes whatever has accumulated in the queue (up to {@link #MAX_BATCH_SIZE})
+ * and inserts it in one batch, so batches grow with load without adding latency when idle.
+ * After each insert the recipients' unread counters are bumped once per user.
+ */
+@Service
+@Slf4j
+public class ActivityFeedWriter implements IActivityFeedWriter {
+
+    private final IActivityFeedPort activityFeedPort;
+    private final IDiscussCacheService cacheService;
+    private final ExecutorService executor;
+    private final BlockingQueue<ActivityFeedEntity> queue;
+    private final int maxBatchSize;
+
+    private volatile boolean running = false;
+
+    @Autowired
+    public ActivityFeedWriter(IActivityFeedPort activityFeedPort,
+                              IDiscussCacheService cacheService,
+                              @Qualifier("activityFeedWriterExecutor") ExecutorService executor) {
+        this(activityFeedPort, cacheService, executor, QUEUE_CAPACITY, MAX_BATCH_SIZE);
+    }
+
+    ActivityFeedWriter(IActivityFeedPort activityFeedPort, IDiscussCacheService cacheService,
+                       ExecutorService executor, int queueCapacity, int maxBatchSize) {
+        this.activityFeedPort = activityFeedPort;
+        this.cacheService = cacheService;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        executor.execute(this::drainLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Activity feed writer did not drain in time, {} activities pending", queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void submit(List<ActivityFeedEntity> activities) {
+        if (activities == null || activities.isEmpty()) {
+            return;
+        }
+        List<ActivityFeedEntity> overflow = new ArrayList<>();
+        for (ActivityFeedEntity activity : activities) {
+            if (!queue.offer(activity)) {
+                overflow.add(activity);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            log.warn("Activity feed queue full, writing {} activities inline", overflow.size());
+            write(overflow);
+        }
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                ActivityFeedEntity first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<ActivityFeedEntity> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drain and write one batch from the queue
+     *
+     * @return number of activities taken from the queue
+     */
+    int flushPending() {
+        List<ActivityFeedEntity> batch = new ArrayList<>(maxBatchSize);
+        queue.drainTo(batch, maxBatchSize);
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        return batch.size();
+    }
+
+    private void write(List<ActivityFeedEntity> batch) {
+        try {
+            List<ActivityFeedEntity> inserted = activityFeedPort.insertAll(batch);
+            inserted.stream()
+                    .filter(ActivityFeedEntity::isUnread)
+                    .collect(Collectors.groupingBy(ActivityFeedEntity::getTenantId,
+                            Collectors.groupingBy(ActivityFeedEntity::getUserId, Collectors.counting())))
+                    .forEach(cacheService::incrementActivityUnreadCounts);
+            log.debug("Wrote {} of {} activities", inserted.size(), batch.size());
+        } catch (Exception e) {
+            log.error("Failed to write {} activities: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Attachment derivative (thumbnail/preview) service implementation
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
+import serp.project.discuss_service.core.domain.vo.FileUploadResult;
+import serp.project.discuss_service.core.domain.vo.StorageLocation;
+import serp.project.discuss_service.core.port.client.IStoragePort;
+import serp.project.discuss_service.core.port.store.IAttachmentPort;
+import serp.project.discuss_service.core.service.IAttachmentDerivativeService;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.kernel.property.StorageProperties;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttachmentDerivativeService implements IAttachmentDerivativeService {
+
+    private static final String SVG_CONTENT_TYPE = "image/svg+xml";
+
+    private final IStoragePort storagePort;
+    private final IAttachmentPort attachmentPort;
+    private final IDiscussCacheService cacheService;
+    private final StorageProperties storageProperties;
+
+    @Override
+    public boolean supportsDerivatives(AttachmentEntity attachment) {
+        StorageProperties.DerivativeProperties props = storageProperties.getDerivative();
+        return props.isEnabled()
+                && attachment != null
+                && attachment.getId() != null
+                && attachment.getStorageKey() != null
+                && attachment.isImage()
+                && !SVG_CONTENT_TYPE.equals(attachment.getFileType())
+                && attachment.getFileSize() != null
+                && attachment.getFileSize() <= props.getMaxSourceSize();
+    }
+
+    @Override
+    public AttachmentEntity generateDerivatives(AttachmentEntity attachment) {
+        if (!supportsDerivatives(attachment)) {
+            return attachment;
+        }
+
+        StorageLocation source = StorageLocation.ofS3(attachment.getStorageBucket(), attachment.getStorageKey());
+        StorageProperties.DerivativeProperties props = storageProperties.getDerivative();
+
+        try {
+            BufferedImage original;
+            try (InputStream in = storagePort.download(source)) {
+                original = decode(in, attachment, props.getMaxSourcePixels());
+            }
+            if (original == null) {
+                return attachment;
+            }
+
+            StorageLocation thumbnail = storeRendition(source, AttachmentEntity.DERIVATIVE_THUMBNAIL,
+                    original, props.getThumbnailMaxDimension());
+            StorageLocation preview = storeRendition(source, AttachmentEntity.DERIVATIVE_PREVIEW,
+                    original, props.getPreviewMaxDimension());
+
+            attachment.setThumbnail(thumbnail.getUrl(), original.getWidth(), original.getHeight());
+            attachment.setDerivativeKey(AttachmentEntity.DERIVATIVE_THUMBNAIL, thumbnail.getKey());
+            attachment.setDerivativeKey(AttachmentEntity.DERIVATIVE_PREVIEW, preview.getKey());
+
+            // Runs after the upload committed; write only the derived columns so edits made since are kept
+            if (!attachmentPort.updateDerivatives(attachment)) {
+                log.info("Attachment {} was deleted while its derivatives were generated, discarding them",
+                        attachment.getId());
+                storagePort.delete(thumbnail);
+                storagePort.delete(preview);
+                return attachment;
+            }
+            cacheService.invalidateAttachmentUrl(attachment.getId());
+
+            log.info("Generated derivatives for attachment {}: thumbnail={}, preview={}",
+                    attachment.getId(), thumbnail.getKey(), preview.getKey());
+            return attachment;
+
+        } catch (Exception e) {
+            log.error("Failed to generate derivatives for attachment {}: {}", attachment.getId(), e.getMessage());
+            return attachment;
+        }
+    }
+
+    /**
+     * Decode the image, reading its dimensions from the header first so an image whose pixels would not
+     * fit in memory is rejected before any are decoded.
+     *
+     * @return null if no reader supports the format or the image has more than maxPixels pixels
+     */
+    private BufferedImage decode(InputStream in, AttachmentEntity attachment, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.debug("No image reader for attachment {} ({}), skipping derivatives",
+                        attachment.getId(), attachment.getFileType());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Attachment {} is {}x{} pixels, above the limit of {}, skipping derivatives",
+                            attachment.getId(), width, height, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Downscale the image so its longest edge fits maxDimension and upload it under a derived key.
+     * Images with transparency are kept as PNG, everything else is re-encoded as JPEG.
+     */
+    private StorageLocation storeRendition(StorageLocation source, String variant,
+                                           BufferedImage original, int maxDimension) throws IOException {
+        boolean hasAlpha = original.getColorModel().hasAlpha();
+        String format = hasAlpha ? "png" : "jpg";
+        String contentType = hasAlpha ? "image/png" : "image/jpeg";
+
+        BufferedImage scaled = scale(original, maxDimension, hasAlpha);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(scaled, format, out)) {
+            throw new IOException("No image writer for format " + format);
+        }
+
+        FileUploadResult result = storagePort.upload(source.derive(variant, format), out.toByteArray(), contentType);
+        if (result.isFailed()) {
+            throw new IOException(result.getErrorMessage());
+        }
+        return result.getStorageLocation();
+    }
+
+    private BufferedImage scale(BufferedImage original, int maxDimension, boolean hasAlpha) {
+        int width = original.getWidth();
+        int height = original.getHeight();
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight,
+                hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!hasAlpha) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, targetWidth, targetHeight);
+            }
+            graphics.drawImage(original, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
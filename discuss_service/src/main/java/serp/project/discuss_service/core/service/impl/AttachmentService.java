@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,6 +41,7 @@ public class AttachmentService implements IAttachmentService {
     private final IAttachmentPort attachmentPort;
     private final StorageProperties storageProperties;
     private final ExecutorService attachmentUploadExecutor;
+    private final Semaphore uploadPermits;
 
     public AttachmentService(
             IStoragePort storagePort,
@@ -50,6 +52,7 @@ public class AttachmentService implements IAttachmentService {
         this.attachmentPort = attachmentPort;
         this.storageProperties = storageProperties;
         this.attachmentUploadExecutor = attachmentUploadExecutor;
+        this.uploadPermits = new Semaphore(Math.max(1, storageProperties.getUpload().getMaxConcurrentUploads()));
     }
 
     @Override
@@ -116,7 +119,7 @@ public class AttachmentService implements IAttachmentService {
 
         List<CompletableFuture<AttachmentEntity>> uploadFutures = files.stream()
                 .map(file -> CompletableFuture.supplyAsync(
-                        () -> uploadFileToStorage(file, messageId, channelId, tenantId),
+                        () -> uploadWithPermit(file, messageId, channelId, tenantId),
                         attachmentUploadExecutor))
                 .toList();
 
@@ -147,6 +150,24 @@ public class AttachmentService implements IAttachmentService {
         return savedAttachments;
     }
 
+    /**
+     * Upload a file once a node-wide upload slot is free, so a burst of large files
+     * cannot buffer an unbounded number of multipart parts at the same time.
+     */
+    private AttachmentEntity uploadWithPermit(MultipartFile file, Long messageId, Long channelId, Long tenantId) {
+        try {
+            uploadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        try {
+            return uploadFileToStorage(file, messageId, channelId, tenantId);
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
     /**
      * Upload a single file to storage (S3/MinIO) WITHOUT saving to database.
      */
@@ -243,6 +264,7 @@ public class AttachmentService implements IAttachmentService {
         } catch (Exception e) {
             log.error("Failed to delete file from storage: {} - {}", attachment.getStorageKey(), e.getMessage());
         }
+        deleteDerivatives(attachment);
 
         attachmentPort.deleteById(attachmentId);
 
@@ -264,6 +286,7 @@ public class AttachmentService implements IAttachmentService {
             } catch (Exception e) {
                 log.error("Failed to delete file from storage: {} - {}", attachment.getStorageKey(), e.getMessage());
             }
+            deleteDerivatives(attachment);
         }
 
         attachmentPort.deleteByMessageId(messageId);
@@ -299,6 +322,20 @@ public class AttachmentService implements IAttachmentService {
         return fileSize <= storageProperties.getUpload().getMaxFileSize();
     }
 
+    private void deleteDerivatives(AttachmentEntity attachment) {
+        for (String variant : List.of(AttachmentEntity.DERIVATIVE_THUMBNAIL, AttachmentEntity.DERIVATIVE_PREVIEW)) {
+            String derivedKey = attachment.getDerivativeKey(variant);
+            if (derivedKey == null) {
+                continue;
+            }
+            try {
+                storagePort.delete(StorageLocation.ofS3(attachment.getStorageBucket(), derivedKey));
+            } catch (Exception e) {
+                log.error("Failed to delete derived file from storage: {} - {}", derivedKey, e.getMessage());
+            }
+        }
+    }
+
     private void validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new AppException(ErrorCode.FILE_REQUIRED);
@@ -22,7 +22,11 @@ import serp.project.discuss_service.kernel.property.StorageProperties;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -67,23 +71,11 @@ public class AttachmentUrlService implements IAttachmentUrlService {
             return new ArrayList<>();
         }
 
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            List<Future<AttachmentResponse>> futures = attachments.stream()
-                    .map(attachment -> executor.submit(() -> enrichWithUrls(attachment)))
-                    .toList();
-
-            return futures.stream()
-                    .map(future -> {
-                        try {
-                            return future.get();
-                        } catch (Exception e) {
-                            log.warn("Failed to enrich attachment with URL: {}", e.getMessage());
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-        }
+        Map<Long, CachedAttachmentUrl> urls = resolveUrls(attachments);
+        return attachments.stream()
+                .filter(Objects::nonNull)
+                .map(attachment -> toResponse(attachment, urls))
+                .toList();
     }
 
     @Override
@@ -102,14 +94,34 @@ public class AttachmentUrlService implements IAttachmentUrlService {
         return response;
     }
 
+    /**
+     * Enrich a whole page of messages with a single batch URL resolution
+     * instead of one cache round trip per attachment.
+     */
     @Override
     public List<MessageResponse> enrichMessagesWithUrls(List<MessageEntity> messages) {
         if (messages == null || messages.isEmpty()) {
             return new ArrayList<>();
         }
 
+        List<AttachmentEntity> allAttachments = messages.stream()
+                .filter(message -> message.getAttachments() != null)
+                .flatMap(message -> message.getAttachments().stream())
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, CachedAttachmentUrl> urls = resolveUrls(allAttachments);
+
         return messages.stream()
-                .map(this::enrichMessageWithUrls)
+                .map(message -> {
+                    MessageResponse response = MessageResponse.fromEntity(message);
+                    if (message.getAttachments() != null && !message.getAttachments().isEmpty()) {
+                        response.setAttachments(message.getAttachments().stream()
+                                .filter(Objects::nonNull)
+                                .map(attachment -> toResponse(attachment, urls))
+                                .toList());
+                    }
+                    return response;
+                })
                 .toList();
     }
 
@@ -121,36 +133,18 @@ public class AttachmentUrlService implements IAttachmentUrlService {
     private void applyCachedUrls(AttachmentResponse response, CachedAttachmentUrl cached) {
         response.setDownloadUrl(cached.downloadUrl());
         response.setThumbnailUrl(cached.thumbnailUrl());
+        response.setPreviewUrl(cached.previewUrl());
         response.setUrlExpiresAt(cached.expiresAt());
     }
 
     private void generateAndCacheUrl(AttachmentEntity attachment, AttachmentResponse response) {
         try {
-            StorageLocation location = StorageLocation.ofS3(
-                    attachment.getStorageBucket(),
-                    attachment.getStorageKey()
-            );
-
-            Duration expiry = Duration.ofDays(getUrlExpiryDays());
-            String presignedUrl = storagePort.generatePresignedUrl(location, expiry);
-            long expiresAt = calculateExpiryTimestamp(expiry);
-
-            response.setDownloadUrl(presignedUrl);
-
-            // For images/videos, thumbnailUrl is the same as downloadUrl
-            String thumbnailUrl = null;
-            if (attachment.isImage() || attachment.isVideo()) {
-                thumbnailUrl = presignedUrl;
-                response.setThumbnailUrl(thumbnailUrl);
-            }
-
-            response.setUrlExpiresAt(expiresAt);
-
-            CachedAttachmentUrl urlInfo = new CachedAttachmentUrl(presignedUrl, thumbnailUrl, expiresAt);
+            CachedAttachmentUrl urlInfo = signUrls(attachment);
+            applyCachedUrls(response, urlInfo);
             cacheService.cacheAttachmentUrl(attachment.getId(), urlInfo);
 
             log.debug("Generated and cached presigned URL for attachment {}: expires at {}",
-                    attachment.getId(), expiresAt);
+                    attachment.getId(), urlInfo.expiresAt());
 
         } catch (Exception e) {
             log.error("Failed to generate presigned URL for attachment {}: {}",
@@ -159,6 +153,114 @@ public class AttachmentUrlService implements IAttachmentUrlService {
         }
     }
 
+    /**
+     * Resolve URLs for many attachments: one batch cache lookup (near-cache + MGET),
+     * parallel local signing of the misses, and one pipelined write-back.
+     */
+    private Map<Long, CachedAttachmentUrl> resolveUrls(List<AttachmentEntity> attachments) {
+        Map<Long, AttachmentEntity> signable = new LinkedHashMap<>();
+        for (AttachmentEntity attachment : attachments) {
+            if (attachment != null && attachment.getId() != null && attachment.getStorageKey() != null) {
+                signable.putIfAbsent(attachment.getId(), attachment);
+            }
+        }
+        if (signable.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        long now = System.currentTimeMillis();
+        Map<Long, CachedAttachmentUrl> resolved = new HashMap<>();
+        cacheService.getCachedAttachmentUrls(signable.keySet()).forEach((attachmentId, cached) -> {
+            if (cached != null && cached.expiresAt() > now) {
+                resolved.put(attachmentId, cached);
+            }
+        });
+
+        List<AttachmentEntity> misses = signable.values().stream()
+                .filter(attachment -> !resolved.containsKey(attachment.getId()))
+                .toList();
+        if (misses.isEmpty()) {
+            return resolved;
+        }
+
+        Map<Long, CachedAttachmentUrl> signed = signUrls(misses);
+        cacheService.cacheAttachmentUrls(signed);
+        resolved.putAll(signed);
+
+        log.debug("Resolved {} attachment URLs ({} signed)", resolved.size(), signed.size());
+        return resolved;
+    }
+
+    private Map<Long, CachedAttachmentUrl> signUrls(List<AttachmentEntity> attachments) {
+        Map<Long, CachedAttachmentUrl> signed = new HashMap<>();
+        if (attachments.size() == 1) {
+            AttachmentEntity attachment = attachments.get(0);
+            try {
+                signed.put(attachment.getId(), signUrls(attachment));
+            } catch (Exception e) {
+                log.error("Failed to generate presigned URL for attachment {}: {}",
+                        attachment.getId(), e.getMessage());
+            }
+            return signed;
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Map<Long, Future<CachedAttachmentUrl>> futures = new LinkedHashMap<>();
+            for (AttachmentEntity attachment : attachments) {
+                futures.put(attachment.getId(), executor.submit(() -> signUrls(attachment)));
+            }
+
+            futures.forEach((attachmentId, future) -> {
+                try {
+                    signed.put(attachmentId, future.get());
+                } catch (Exception e) {
+                    log.error("Failed to generate presigned URL for attachment {}: {}",
+                            attachmentId, e.getMessage());
+                }
+            });
+        }
+        return signed;
+    }
+
+    private CachedAttachmentUrl signUrls(AttachmentEntity attachment) {
+        StorageLocation location = StorageLocation.ofS3(
+                attachment.getStorageBucket(),
+                attachment.getStorageKey()
+        );
+
+        Duration expiry = Duration.ofDays(getUrlExpiryDays());
+        String presignedUrl = storagePort.generatePresignedUrl(location, expiry);
+        long expiresAt = calculateExpiryTimestamp(expiry);
+
+        // Prefer generated renditions; until they exist images/videos fall back to the original
+        String thumbnailUrl = null;
+        String previewUrl = null;
+        if (attachment.isImage() || attachment.isVideo()) {
+            thumbnailUrl = presignDerivative(attachment, AttachmentEntity.DERIVATIVE_THUMBNAIL, expiry, presignedUrl);
+            previewUrl = presignDerivative(attachment, AttachmentEntity.DERIVATIVE_PREVIEW, expiry, presignedUrl);
+        }
+
+        return new CachedAttachmentUrl(presignedUrl, thumbnailUrl, previewUrl, expiresAt);
+    }
+
+    private AttachmentResponse toResponse(AttachmentEntity attachment, Map<Long, CachedAttachmentUrl> urls) {
+        AttachmentResponse response = AttachmentResponse.fromEntity(attachment);
+        CachedAttachmentUrl urlInfo = urls.get(attachment.getId());
+        if (urlInfo != null) {
+            applyCachedUrls(response, urlInfo);
+        }
+        return response;
+    }
+
+    private String presignDerivative(AttachmentEntity attachment, String variant, Duration expiry, String fallbackUrl) {
+        String derivedKey = attachment.getDerivativeKey(variant);
+        if (derivedKey == null) {
+            return fallbackUrl;
+        }
+        StorageLocation location = StorageLocation.ofS3(attachment.getStorageBucket(), derivedKey);
+        return storagePort.generatePresignedUrl(location, expiry);
+    }
+
     private long calculateExpiryTimestamp(Duration expiry) {
         return Instant.now().plus(expiry).toEpochMilli();
     }
@@ -0,0 +1,157 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - User channel inbox service implementation
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import serp.project.discuss_service.core.domain.dto.response.ChannelInboxResponse;
+import serp.project.discuss_service.core.domain.dto.response.ChannelResponse;
+import serp.project.discuss_service.core.domain.dto.response.MessageResponse;
+import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.domain.vo.ChannelInboxEntry;
+import serp.project.discuss_service.core.domain.vo.KeysetCursor;
+import serp.project.discuss_service.core.port.store.IChannelMemberPort;
+import serp.project.discuss_service.core.service.IChannelInboxService;
+import serp.project.discuss_service.core.service.IChannelMemberService;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the sidebar from a per-user sorted set of channels scored by last activity.
+ * The set is kept fresh on every message; a page then costs one ZRANGEBYSCORE, one indexed
+ * inbox query by channel ids and one HGETALL for unread counts. On a miss the page is read
+ * with the keyset inbox query and the set is rebuilt from the user's channel ids.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChannelInboxService implements IChannelInboxService {
+
+    private final IChannelMemberPort memberPort;
+    private final IChannelMemberService memberService;
+    private final IDiscussCacheService cacheService;
+
+    @Override
+    public ChannelInboxResponse getInbox(Long userId, Long tenantId, String cursor, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Long beforeActivityAt = position != null ? position.getTimestamp() : null;
+        Long beforeChannelId = position != null ? position.getId() : null;
+
+        InboxPage page = cacheService.hasUserInbox(tenantId, userId)
+                ? loadCachedPage(userId, tenantId, beforeActivityAt, beforeChannelId, pageSize)
+                : loadColdPage(userId, tenantId, beforeActivityAt, beforeChannelId, pageSize);
+
+        Map<Long, Integer> unreadCounts = cacheService.getCachedUnreadCounts(userId);
+        List<ChannelResponse> items = page.entries().stream()
+                .map(entry -> toResponse(entry, unreadCounts))
+                .toList();
+
+        String nextCursor = null;
+        if (page.hasNext() && !page.entries().isEmpty()) {
+            ChannelInboxEntry last = page.entries().getLast();
+            nextCursor = new KeysetCursor(last.getLastActivityAt(), last.getChannel().getId()).encode();
+        }
+
+        return ChannelInboxResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    @Override
+    public void recordChannelActivity(MessageEntity message) {
+        if (message == null || message.getChannelId() == null) {
+            return;
+        }
+        Set<Long> memberIds = memberService.getMemberIds(message.getChannelId());
+        long activityAt = message.getCreatedAt() != null ? message.getCreatedAt() : System.currentTimeMillis();
+        cacheService.touchUserInboxes(message.getTenantId(), memberIds, message.getChannelId(), activityAt);
+    }
+
+    @Override
+    public void invalidateInbox(Long tenantId, Long userId) {
+        cacheService.invalidateUserInbox(tenantId, userId);
+    }
+
+    private InboxPage loadCachedPage(Long userId, Long tenantId,
+                                     Long beforeActivityAt, Long beforeChannelId, int pageSize) {
+        Map<Long, Long> ordered = cacheService.getUserInboxPage(tenantId, userId, beforeActivityAt, beforeChannelId,
+                pageSize + 1);
+        Map<Long, Long> pageIds = new LinkedHashMap<>();
+        ordered.entrySet().stream()
+                .limit(pageSize)
+                .forEach(entry -> pageIds.put(entry.getKey(), entry.getValue()));
+
+        Map<Long, ChannelInboxEntry> found = memberPort.findInboxByChannelIds(userId, tenantId, pageIds.keySet())
+                .stream()
+                .collect(Collectors.toMap(entry -> entry.getChannel().getId(), Function.identity()));
+
+        List<Long> stale = pageIds.keySet().stream()
+                .filter(channelId -> !found.containsKey(channelId))
+                .toList();
+        if (!stale.isEmpty()) {
+            // Left or archived since the inbox was cached
+            cacheService.removeFromUserInbox(tenantId, userId, stale);
+        }
+
+        // The cursor continues from the cached scores, so entries carry those rather than the row values
+        List<ChannelInboxEntry> entries = new ArrayList<>();
+        pageIds.forEach((channelId, activityAt) -> {
+            ChannelInboxEntry entry = found.get(channelId);
+            if (entry != null) {
+                entries.add(ChannelInboxEntry.builder()
+                        .channel(entry.getChannel())
+                        .membership(entry.getMembership())
+                        .lastMessage(entry.getLastMessage())
+                        .lastActivityAt(activityAt)
+                        .build());
+            }
+        });
+        return new InboxPage(entries, ordered.size() > pageSize);
+    }
+
+    private InboxPage loadColdPage(Long userId, Long tenantId,
+                                   Long beforeActivityAt, Long beforeChannelId, int pageSize) {
+        // Cold (or Redis unavailable): serve the page with the keyset query, then warm the set
+        List<ChannelInboxEntry> rows = memberPort.findInboxPage(userId, tenantId, beforeActivityAt, beforeChannelId,
+                pageSize + 1);
+
+        Map<Long, Long> activity = memberPort.findInboxActivity(userId, tenantId);
+        cacheService.cacheUserInbox(tenantId, userId, activity);
+        log.debug("Rebuilt inbox of {} channels for user {}", activity.size(), userId);
+
+        return new InboxPage(rows.stream().limit(pageSize).toList(), rows.size() > pageSize);
+    }
+
+    private ChannelResponse toResponse(ChannelInboxEntry entry, Map<Long, Integer> unreadCounts) {
+        ChannelMemberEntity membership = entry.getMembership();
+        ChannelResponse response = ChannelResponse.fromEntity(entry.getChannel());
+        response.setIsMember(true);
+        response.setCanManage(membership.canManageChannel());
+        response.setIsPinned(membership.getIsPinned());
+        response.setIsMuted(membership.getIsMuted());
+        response.setLastReadMessageId(membership.getLastReadMsgId());
+        response.setUnreadCount(unreadCounts.getOrDefault(entry.getChannel().getId(), membership.getUnreadCount()));
+        if (entry.getLastMessage() != null) {
+            response.setLastMessage(MessageResponse.fromEntity(entry.getLastMessage()));
+        }
+        return response;
+    }
+
+    private record InboxPage(List<ChannelInboxEntry> entries, boolean hasNext) {
+    }
+}
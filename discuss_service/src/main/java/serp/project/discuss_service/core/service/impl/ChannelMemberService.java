@@ -40,7 +40,7 @@ public class ChannelMemberService implements IChannelMemberService {
             if (member.getStatus() == MemberStatus.LEFT) {
                 member.rejoin();
                 ChannelMemberEntity saved = memberPort.save(member);
-                updateCaches(channelId, userId);
+                updateCaches(channelId, userId, member.getTenantId());
                 log.info("User {} rejoined channel {}", userId, channelId);
                 return saved;
             }
@@ -59,7 +59,7 @@ public class ChannelMemberService implements IChannelMemberService {
         }
 
         ChannelMemberEntity saved = memberPort.save(member);
-        updateCaches(channelId, userId);
+        updateCaches(channelId, userId, tenantId);
         log.info("Added user {} to channel {} with role {}", userId, channelId, role);
         return saved;
     }
@@ -199,6 +199,7 @@ public class ChannelMemberService implements IChannelMemberService {
         ChannelMemberEntity saved = memberPort.save(member);
         
         cacheService.removeMemberFromChannelCache(channelId, userId);
+        cacheService.invalidateUserInbox(member.getTenantId(), userId);
         
         log.info("User {} left channel {}", userId, channelId);
         return saved;
@@ -211,6 +212,7 @@ public class ChannelMemberService implements IChannelMemberService {
         ChannelMemberEntity saved = memberPort.save(member);
         
         cacheService.removeMemberFromChannelCache(channelId, userId);
+        cacheService.invalidateUserInbox(member.getTenantId(), userId);
         
         log.info("User {} was removed from channel {} by {}", userId, channelId, removerId);
         return saved;
@@ -273,7 +275,8 @@ public class ChannelMemberService implements IChannelMemberService {
         return memberPort.countActiveMembers(channelId);
     }
 
-    private void updateCaches(Long channelId, Long userId) {
+    private void updateCaches(Long channelId, Long userId, Long tenantId) {
         cacheService.addMemberToChannelCache(channelId, userId);
+        cacheService.invalidateUserInbox(tenantId, userId);
     }
 }
@@ -101,6 +101,14 @@ public class ChannelService implements IChannelService {
         return channelPort.findByTenantId(tenantId);
     }
 
+    @Override
+    public List<ChannelEntity> getChannelsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return channelPort.findByIds(ids);
+    }
+
     @Override
     public List<ChannelEntity> getChannelsByType(Long tenantId, ChannelType type) {
         return channelPort.findByTenantIdAndType(tenantId, type);
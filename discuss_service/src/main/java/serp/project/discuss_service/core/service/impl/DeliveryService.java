@@ -15,6 +15,11 @@ import serp.project.discuss_service.core.domain.entity.MessageEntity;
 import serp.project.discuss_service.core.port.client.IWebSocketHubPort;
 import serp.project.discuss_service.core.service.*;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -106,15 +111,7 @@ public class DeliveryService implements IDeliveryService {
         if (channelId == null || messageId == null) {
             log.warn("Cannot notify new message with null channelId or messageId");
         }
-        Optional<MessageResponse> messageOpt = getMessageById(messageId);
-        messageOpt.ifPresent(message -> {
-            WsMessagePayload payload = WsMessagePayload.builder()
-                    .messageId(messageId)
-                    .channelId(channelId)
-                    .senderId(message.getSenderId())
-                    .message(message)
-                    .build();
-            WsEvent<WsMessagePayload> event = WsEvent.of(WsEventType.MESSAGE_NEW, payload, channelId);
+        buildMessageEvent(WsEventType.MESSAGE_NEW, channelId, messageId).ifPresent(event -> {
             fanOutToChannelMembers(channelId, event);
             log.debug("Notified new message {} in channel {}", messageId, channelId);
         });
@@ -125,15 +122,7 @@ public class DeliveryService implements IDeliveryService {
         if (channelId == null || messageId == null) {
             log.warn("Cannot notify updated message with null channelId or messageId");
         }
-        Optional<MessageResponse> messageOpt = getMessageById(messageId);
-        messageOpt.ifPresent(message -> {
-            WsMessagePayload payload = WsMessagePayload.builder()
-                    .messageId(messageId)
-                    .channelId(channelId)
-                    .senderId(message.getSenderId())
-                    .message(message)
-                    .build();
-            WsEvent<WsMessagePayload> event = WsEvent.of(WsEventType.MESSAGE_UPDATED, payload, channelId);
+        buildMessageEvent(WsEventType.MESSAGE_UPDATED, channelId, messageId).ifPresent(event -> {
             fanOutToChannelMembers(channelId, event);
             log.debug("Notified updated message {} in channel {}", messageId, channelId);
         });
@@ -144,13 +133,7 @@ public class DeliveryService implements IDeliveryService {
         if (channelId == null || messageId == null) {
             log.warn("Cannot notify deleted message with null channelId or messageId");
         }
-        WsMessagePayload payload = WsMessagePayload.forDeletion(messageId, channelId);
-        WsEvent<WsMessagePayload> event = WsEvent.of(
-                WsEventType.MESSAGE_DELETED,
-                payload,
-                channelId
-        );
-        fanOutToChannelMembers(channelId, event);
+        fanOutToChannelMembers(channelId, buildMessageDeletedEvent(channelId, messageId));
         log.debug("Notified deleted message {} in channel {}", messageId, channelId);
     }
 
@@ -160,17 +143,7 @@ public class DeliveryService implements IDeliveryService {
             log.warn("Cannot notify reaction with null channelId, messageId, userId or emoji");
             return;
         }
-        WsReactionPayload payload = added
-                ? WsReactionPayload.added(messageId, channelId, userId, emoji)
-                : WsReactionPayload.removed(messageId, channelId, userId, emoji);
-
-        WsEvent<WsReactionPayload> event = WsEvent.of(
-                added ? WsEventType.REACTION_ADDED : WsEventType.REACTION_REMOVED,
-                payload,
-                channelId
-        );
-
-        fanOutToChannelMembers(channelId, event);
+        fanOutToChannelMembers(channelId, buildReactionEvent(channelId, messageId, userId, emoji, added));
         log.debug("Reaction {} fan-out for message {} in channel {}",
                 added ? "added" : "removed", messageId, channelId);
     }
@@ -201,6 +174,76 @@ public class DeliveryService implements IDeliveryService {
                 });
     }
 
+    // ==================== BATCH DELIVERY ====================
+
+    @Override
+    public Optional<WsEvent<WsMessagePayload>> buildMessageEvent(WsEventType type, Long channelId, Long messageId) {
+        return getMessageById(messageId).map(message -> {
+            WsMessagePayload payload = WsMessagePayload.builder()
+                    .messageId(messageId)
+                    .channelId(channelId)
+                    .senderId(message.getSenderId())
+                    .message(message)
+                    .build();
+            return WsEvent.of(type, payload, channelId);
+        });
+    }
+
+    @Override
+    public WsEvent<WsMessagePayload> buildMessageDeletedEvent(Long channelId, Long messageId) {
+        return WsEvent.of(WsEventType.MESSAGE_DELETED, WsMessagePayload.forDeletion(messageId, channelId), channelId);
+    }
+
+    @Override
+    public WsEvent<WsReactionPayload> buildReactionEvent(Long channelId, Long messageId, Long userId,
+                                                         String emoji, boolean added) {
+        WsReactionPayload payload = added
+                ? WsReactionPayload.added(messageId, channelId, userId, emoji)
+                : WsReactionPayload.removed(messageId, channelId, userId, emoji);
+        return WsEvent.of(added ? WsEventType.REACTION_ADDED : WsEventType.REACTION_REMOVED, payload, channelId);
+    }
+
+    @Override
+    public void deliverBatch(List<WsEvent<?>> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Set<Long>> membersByChannel = new LinkedHashMap<>();
+        for (WsEvent<?> event : events) {
+            if (event.getChannelId() != null) {
+                membersByChannel.computeIfAbsent(event.getChannelId(), memberService::getMemberIds);
+            }
+        }
+        Set<Long> allMembers = membersByChannel.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        Set<Long> onlineUserIds = presenceService.getOnlineUsers(allMembers);
+        if (onlineUserIds.isEmpty()) {
+            log.debug("No online members in {} channels, skipping batch fan-out", membersByChannel.size());
+            return;
+        }
+
+        // Recipients subscribed to the same set of channels receive the same frame
+        Map<Set<Long>, Set<Long>> recipientsByChannels = new HashMap<>();
+        for (Long userId : onlineUserIds) {
+            Set<Long> channels = membersByChannel.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(userId))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            recipientsByChannels.computeIfAbsent(channels, key -> new HashSet<>()).add(userId);
+        }
+
+        recipientsByChannels.forEach((channels, recipients) -> {
+            List<WsEvent<?>> frame = events.stream()
+                    .filter(event -> channels.contains(event.getChannelId()))
+                    .toList();
+            Object payload = frame.size() == 1 ? frame.get(0) : WsEvent.of(WsEventType.BATCH, frame);
+            sendToUsers(recipients, payload);
+        });
+        log.debug("Batch fan-out of {} events across {} channels to {} users in {} frames",
+                events.size(), membersByChannel.size(), onlineUserIds.size(), recipientsByChannels.size());
+    }
 
     public Optional<MessageResponse> getMessageById(Long messageId) {
         Optional< MessageEntity> messageOpt = messageService.getMessageById(messageId);
@@ -5,33 +5,123 @@
 
 package serp.project.discuss_service.core.service.impl;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Service;
+import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
 import serp.project.discuss_service.core.domain.entity.ChannelEntity;
 import serp.project.discuss_service.core.domain.entity.MessageEntity;
 import serp.project.discuss_service.core.domain.entity.UserPresenceEntity;
 import serp.project.discuss_service.core.domain.enums.UserStatus;
 import serp.project.discuss_service.core.port.client.ICachePort;
 import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.kernel.property.CacheProperties;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DiscussCacheService implements IDiscussCacheService {
 
+    private static final int USER_INBOX_TIE_BUFFER = 16;
+    private static final String THREAD_PENDING_FIELD = "delta";
+    private static final String THREAD_DIRTY_SEPARATOR = ":";
+
+    /**
+     * Inbox order: last activity desc, then channel id desc (same as the inbox SQL keyset)
+     */
+    private static final Comparator<Map.Entry<Long, Long>> INBOX_ORDER =
+            Map.Entry.<Long, Long>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Long>comparingByKey().reversed());
+
+    private static final String MESSAGE_REGION = "message";
+    private static final String CHANNEL_REGION = "channel";
+    private static final String MESSAGES_PAGE_REGION = "messages_page";
+    private static final String ATTACHMENT_URL_REGION = "attachment_url";
+
+    /**
+     * Rough per-object overhead used when estimating the in-memory size of cached entities
+     */
+    private static final int ENTITY_BASE_BYTES = 256;
+    private static final int COLLECTION_ELEMENT_BYTES = 32;
+
     private final ICachePort cachePort;
+    private final String invalidationChannel;
+    private final String instanceId;
+    private final Consumer<String> broadcaster;
+
+    private final TieredCache<MessageEntity> messageCache;
+    private final TieredCache<ChannelEntity> channelCache;
+    private final TieredCache<CachedMessagesPage> messagesPageCache;
+
+    /**
+     * Near-cache for presigned attachment URLs. An entry never outlives the URL it holds.
+     */
+    private final Cache<Long, CachedAttachmentUrl> attachmentUrlLocalCache = Caffeine.newBuilder()
+            .maximumSize(ATTACHMENT_URL_LOCAL_MAX_SIZE)
+            .expireAfter(new AttachmentUrlExpiry())
+            .build();
+
+    // Bumped on every attachment URL invalidation so a Redis read that raced with one is not kept locally
+    private final AtomicLong attachmentUrlInvalidations = new AtomicLong();
+
+    public DiscussCacheService(ICachePort cachePort, CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.cachePort = cachePort;
+        this.invalidationChannel = cacheProperties.getInvalidationChannel();
+
+        this.instanceId = UUID.randomUUID().toString();
+        this.broadcaster = invalidation -> cachePort.publish(invalidationChannel, invalidation);
+        boolean localEnabled = cacheProperties.isEnabled();
+
+        this.messageCache = new TieredCache<>(MESSAGE_REGION, MessageEntity.class,
+                (key, message) -> estimateBytes(message), MessageEntity::copy,
+                cacheProperties.getMessage(), localEnabled, cachePort, instanceId, broadcaster, meterRegistry);
+        this.channelCache = new TieredCache<>(CHANNEL_REGION, ChannelEntity.class,
+                (key, channel) -> estimateBytes(channel), ChannelEntity::copy,
+                cacheProperties.getChannel(), localEnabled, cachePort, instanceId, broadcaster, meterRegistry);
+        this.messagesPageCache = new TieredCache<>(MESSAGES_PAGE_REGION, CachedMessagesPage.class,
+                (key, page) -> estimateBytes(page), DiscussCacheService::copyPage,
+                cacheProperties.getMessagesPage(), localEnabled, cachePort, instanceId, broadcaster, meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribeToInvalidations() {
+        if (invalidationChannel == null || invalidationChannel.isBlank()) {
+            return;
+        }
+        cachePort.subscribe(invalidationChannel, this::onInvalidation);
+    }
+
+    private void onInvalidation(String invalidation) {
+        switch (TieredCache.regionOf(invalidation)) {
+            case MESSAGE_REGION -> messageCache.onInvalidation(invalidation);
+            case CHANNEL_REGION -> channelCache.onInvalidation(invalidation);
+            case MESSAGES_PAGE_REGION -> messagesPageCache.onInvalidation(invalidation);
+            case ATTACHMENT_URL_REGION -> TieredCache.invalidatedKeys(invalidation, instanceId)
+                    .forEach(attachmentId -> invalidateAttachmentUrlLocal(Long.valueOf(attachmentId)));
+            default -> log.debug("Ignoring invalidation for unknown cache region: {}", invalidation);
+        }
+    }
 
     // ==================== CHANNEL CACHE ====================
 
@@ -41,7 +131,7 @@ public class DiscussCacheService implements IDiscussCacheService {
             return;
         }
         String key = CHANNEL_PREFIX + channel.getId();
-        cachePort.setToCache(key, channel, CHANNEL_TTL);
+        channelCache.put(key, channel, CHANNEL_TTL);
         log.debug("Cached channel: {}", channel.getId());
     }
 
@@ -50,9 +140,7 @@ public class DiscussCacheService implements IDiscussCacheService {
         if (channelId == null) {
             return Optional.empty();
         }
-        String key = CHANNEL_PREFIX + channelId;
-        ChannelEntity channel = cachePort.getFromCache(key, ChannelEntity.class);
-        return Optional.ofNullable(channel);
+        return channelCache.get(CHANNEL_PREFIX + channelId);
     }
 
     @Override
@@ -60,8 +148,7 @@ public class DiscussCacheService implements IDiscussCacheService {
         if (channelId == null) {
             return;
         }
-        String key = CHANNEL_PREFIX + channelId;
-        cachePort.deleteFromCache(key);
+        channelCache.invalidate(CHANNEL_PREFIX + channelId);
         log.debug("Invalidated channel cache: {}", channelId);
     }
 
@@ -73,7 +160,7 @@ public class DiscussCacheService implements IDiscussCacheService {
             return;
         }
         String key = MESSAGE_PREFIX + message.getId();
-        cachePort.setToCache(key, message, MESSAGE_TTL);
+        messageCache.put(key, message, MESSAGE_TTL);
         log.debug("Cached message: {}", message.getId());
     }
 
@@ -82,9 +169,7 @@ public class DiscussCacheService implements IDiscussCacheService {
         if (messageId == null) {
             return Optional.empty();
         }
-        String key = MESSAGE_PREFIX + messageId;
-        MessageEntity message = cachePort.getFromCache(key, MessageEntity.class);
-        return Optional.ofNullable(message);
+        return messageCache.get(MESSAGE_PREFIX + messageId);
     }
 
     @Override
@@ -92,11 +177,36 @@ public class DiscussCacheService implements IDiscussCacheService {
         if (messageId == null) {
             return;
         }
-        String key = MESSAGE_PREFIX + messageId;
-        cachePort.deleteFromCache(key);
+        messageCache.invalidate(MESSAGE_PREFIX + messageId);
         log.debug("Invalidated message cache: {}", messageId);
     }
 
+    @Override
+    public Map<Long, MessageEntity> getCachedMessages(Collection<Long> messageIds) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, MessageEntity> cached = messageCache.getAll(
+                messageIds.stream().map(id -> MESSAGE_PREFIX + id).toList());
+        Map<Long, MessageEntity> result = new HashMap<>();
+        cached.forEach((key, message) ->
+                result.put(Long.parseLong(key.substring(MESSAGE_PREFIX.length())), message));
+        return result;
+    }
+
+    @Override
+    public void cacheMessages(Collection<MessageEntity> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        Map<String, MessageEntity> values = new HashMap<>();
+        messages.stream()
+                .filter(message -> message.getId() != null)
+                .forEach(message -> values.put(MESSAGE_PREFIX + message.getId(), message));
+        messageCache.putAll(values, MESSAGE_TTL);
+        log.debug("Cached {} messages", values.size());
+    }
+
     // ==================== PRESENCE ====================
 
     @Override
@@ -287,6 +397,298 @@ public class DiscussCacheService implements IDiscussCacheService {
                 .sum();
     }
 
+    @Override
+    public Map<Long, Integer> getCachedUnreadCounts(Long userId) {
+        if (userId == null) {
+            return Map.of();
+        }
+        Map<Long, Integer> counts = new HashMap<>();
+        cachePort.hashGetAll(UNREAD_PREFIX + userId).forEach((channelId, value) -> {
+            try {
+                counts.put(Long.parseLong(channelId), Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                log.debug("Skipping malformed unread entry {}={} for user {}", channelId, value, userId);
+            }
+        });
+        return counts;
+    }
+
+    // ==================== USER INBOX ====================
+
+    @Override
+    public boolean hasUserInbox(Long tenantId, Long userId) {
+        if (tenantId == null || userId == null) {
+            return false;
+        }
+        return cachePort.exists(userInboxKey(tenantId, userId));
+    }
+
+    @Override
+    public void cacheUserInbox(Long tenantId, Long userId, Map<Long, Long> channelActivity) {
+        if (tenantId == null || userId == null || channelActivity == null || channelActivity.isEmpty()) {
+            return;
+        }
+        Map<String, Double> scoredMembers = new HashMap<>();
+        channelActivity.forEach((channelId, activityAt) ->
+                scoredMembers.put(channelId.toString(), activityAt != null ? activityAt.doubleValue() : 0d));
+        cachePort.sortedSetAddAll(userInboxKey(tenantId, userId), scoredMembers, USER_INBOX_TTL);
+        log.debug("Cached inbox of {} channels for user {}", channelActivity.size(), userId);
+    }
+
+    @Override
+    public Map<Long, Long> getUserInboxPage(Long tenantId, Long userId, Long beforeActivityAt,
+                                            Long beforeChannelId, int limit) {
+        if (tenantId == null || userId == null || limit <= 0) {
+            return Map.of();
+        }
+        double maxScore = beforeActivityAt != null ? beforeActivityAt.doubleValue() : Double.POSITIVE_INFINITY;
+        // Over-fetch a little so members tied with the cursor score can be skipped
+        Map<String, Double> raw = cachePort.sortedSetReverseRangeByScore(
+                userInboxKey(tenantId, userId), maxScore, limit + USER_INBOX_TIE_BUFFER);
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>();
+        raw.forEach((member, score) -> {
+            try {
+                entries.add(Map.entry(Long.parseLong(member), score.longValue()));
+            } catch (NumberFormatException e) {
+                log.debug("Skipping malformed inbox member {} for user {}", member, userId);
+            }
+        });
+
+        Map<Long, Long> page = new LinkedHashMap<>();
+        entries.stream()
+                .filter(entry -> beforeActivityAt == null || beforeChannelId == null
+                        || entry.getValue() < beforeActivityAt
+                        || (entry.getValue().equals(beforeActivityAt) && entry.getKey() < beforeChannelId))
+                .sorted(INBOX_ORDER)
+                .limit(limit)
+                .forEach(entry -> page.put(entry.getKey(), entry.getValue()));
+        return page;
+    }
+
+    @Override
+    public void touchUserInboxes(Long tenantId, Set<Long> userIds, Long channelId, long activityAt) {
+        if (tenantId == null || userIds == null || userIds.isEmpty() || channelId == null) {
+            return;
+        }
+        List<String> keys = userIds.stream()
+                .map(userId -> userInboxKey(tenantId, userId))
+                .toList();
+        cachePort.batchSortedSetUpdateIfPresent(keys, channelId.toString(), activityAt);
+        log.debug("Touched inbox of {} users for channel {}", userIds.size(), channelId);
+    }
+
+    @Override
+    public void removeFromUserInbox(Long tenantId, Long userId, Collection<Long> channelIds) {
+        if (tenantId == null || userId == null || channelIds == null || channelIds.isEmpty()) {
+            return;
+        }
+        cachePort.sortedSetRemove(userInboxKey(tenantId, userId),
+                channelIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    @Override
+    public void invalidateUserInbox(Long tenantId, Long userId) {
+        if (tenantId == null || userId == null) {
+            return;
+        }
+        cachePort.deleteFromCache(userInboxKey(tenantId, userId));
+        log.debug("Invalidated inbox for user {} in tenant {}", userId, tenantId);
+    }
+
+    private String userInboxKey(Long tenantId, Long userId) {
+        return USER_INBOX_PREFIX + tenantId + ":" + userId;
+    }
+
+    // ==================== ACTIVITY FEED UNREAD ====================
+
+    @Override
+    public Optional<Long> getCachedActivityUnreadCount(Long tenantId, Long userId) {
+        if (tenantId == null || userId == null) {
+            return Optional.empty();
+        }
+        String value = cachePort.hashGet(ACTIVITY_UNREAD_PREFIX + userId, tenantId.toString());
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheActivityUnreadCount(Long tenantId, Long userId, long count) {
+        if (tenantId == null || userId == null) {
+            return;
+        }
+        String key = ACTIVITY_UNREAD_PREFIX + userId;
+        cachePort.hashSet(key, tenantId.toString(), String.valueOf(count));
+        cachePort.expire(key, ACTIVITY_UNREAD_TTL);
+    }
+
+    @Override
+    public void incrementActivityUnreadCounts(Long tenantId, Map<Long, Long> deltas) {
+        if (tenantId == null || deltas == null || deltas.isEmpty()) {
+            return;
+        }
+        String field = tenantId.toString();
+        List<String> keys = deltas.keySet().stream()
+                .map(userId -> ACTIVITY_UNREAD_PREFIX + userId)
+                .toList();
+        Map<String, Map<String, String>> seeded = cachePort.batchHashGetAll(keys);
+
+        Map<String, Map<String, Long>> operations = new HashMap<>();
+        deltas.forEach((userId, delta) -> {
+            String key = ACTIVITY_UNREAD_PREFIX + userId;
+            Map<String, String> counters = seeded.get(key);
+            if (counters != null && counters.containsKey(field)) {
+                operations.put(key, Map.of(field, delta));
+            }
+        });
+        if (!operations.isEmpty()) {
+            cachePort.batchHashIncrement(operations);
+        }
+        log.debug("Incremented activity unread counters for {}/{} users", operations.size(), deltas.size());
+    }
+
+    @Override
+    public void invalidateActivityUnreadCount(Long tenantId, Long userId) {
+        if (tenantId == null || userId == null) {
+            return;
+        }
+        cachePort.hashDelete(ACTIVITY_UNREAD_PREFIX + userId, tenantId.toString());
+    }
+
+    // ==================== THREADS ====================
+
+    @Override
+    public void incrementPendingThreadCount(Long channelId, Long parentId, long delta) {
+        if (channelId == null || parentId == null || delta == 0) {
+            return;
+        }
+        String key = THREAD_PENDING_PREFIX + parentId;
+        cachePort.hashIncrement(key, THREAD_PENDING_FIELD, delta);
+        cachePort.expire(key, THREAD_PENDING_TTL);
+        // Marked after the increment, so a drain that clears this mark always reads the delta
+        cachePort.addToSet(THREAD_DIRTY_KEY, parentId + THREAD_DIRTY_SEPARATOR + channelId);
+    }
+
+    @Override
+    public Map<Long, Long> getPendingThreadCounts(Collection<Long> parentIds) {
+        if (parentIds == null || parentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> ids = new ArrayList<>(parentIds);
+        Map<String, Map<String, String>> counters = cachePort.batchHashGetAll(
+                ids.stream().map(id -> THREAD_PENDING_PREFIX + id).toList());
+
+        Map<Long, Long> pending = new HashMap<>();
+        for (Long parentId : ids) {
+            Map<String, String> fields = counters.get(THREAD_PENDING_PREFIX + parentId);
+            if (fields == null || fields.get(THREAD_PENDING_FIELD) == null) {
+                continue;
+            }
+            try {
+                long delta = Long.parseLong(fields.get(THREAD_PENDING_FIELD));
+                if (delta != 0) {
+                    pending.put(parentId, delta);
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid pending thread count for message {}", parentId);
+            }
+        }
+        return pending;
+    }
+
+    @Override
+    public Map<Long, Long> drainDirtyThreads() {
+        Set<String> members = cachePort.getSetMembers(THREAD_DIRTY_KEY);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        cachePort.removeFromSet(THREAD_DIRTY_KEY, members.toArray(String[]::new));
+
+        Map<Long, Long> dirty = new HashMap<>();
+        for (String member : members) {
+            String[] parts = member.split(THREAD_DIRTY_SEPARATOR);
+            try {
+                dirty.put(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.warn("Skipping invalid dirty thread entry: {}", member);
+            }
+        }
+        return dirty;
+    }
+
+    @Override
+    public void markThreadsDirty(Map<Long, Long> parentToChannel) {
+        if (parentToChannel == null || parentToChannel.isEmpty()) {
+            return;
+        }
+        cachePort.addToSet(THREAD_DIRTY_KEY, parentToChannel.entrySet().stream()
+                .map(entry -> entry.getKey() + THREAD_DIRTY_SEPARATOR + entry.getValue())
+                .toArray(String[]::new));
+    }
+
+    @Override
+    public void acknowledgeFlushedThreadCounts(Map<Long, Long> flushed) {
+        if (flushed == null || flushed.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Long>> operations = new HashMap<>();
+        flushed.forEach((parentId, delta) ->
+                operations.put(THREAD_PENDING_PREFIX + parentId, Map.of(THREAD_PENDING_FIELD, -delta)));
+        cachePort.batchHashIncrement(operations);
+    }
+
+    @Override
+    public List<Long> getLatestThreadReplyIds(Long parentId, Long beforeId, int count) {
+        if (parentId == null || count <= 0) {
+            return List.of();
+        }
+        double maxScore = beforeId == null ? Double.POSITIVE_INFINITY : beforeId - 1;
+        return cachePort.sortedSetReverseRangeByScore(THREAD_REPLIES_PREFIX + parentId, maxScore, count)
+                .keySet().stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    @Override
+    public void cacheLatestThreadReplyIds(Long parentId, List<Long> replyIds, boolean wholeThread) {
+        if (parentId == null) {
+            return;
+        }
+        Map<String, Double> scoredMembers = new HashMap<>();
+        replyIds.forEach(id -> scoredMembers.put(id.toString(), id.doubleValue()));
+        if (wholeThread) {
+            scoredMembers.put(String.valueOf(THREAD_START_MARKER), (double) THREAD_START_MARKER);
+        }
+        String key = THREAD_REPLIES_PREFIX + parentId;
+        cachePort.deleteFromCache(key);
+        cachePort.sortedSetAddAll(key, scoredMembers, THREAD_REPLIES_TTL);
+    }
+
+    @Override
+    public void appendLatestThreadReply(Long parentId, Long replyId, int windowSize) {
+        if (parentId == null || replyId == null) {
+            return;
+        }
+        String key = THREAD_REPLIES_PREFIX + parentId;
+        cachePort.sortedSetAddAll(key, Map.of(replyId.toString(), replyId.doubleValue()), THREAD_REPLIES_TTL);
+        // Keep the window plus the start marker while the thread is still short
+        cachePort.sortedSetRemoveRangeByRank(key, 0, -(windowSize + 2L));
+    }
+
+    @Override
+    public void removeLatestThreadReply(Long parentId, Long replyId) {
+        if (parentId == null || replyId == null) {
+            return;
+        }
+        cachePort.sortedSetRemove(THREAD_REPLIES_PREFIX + parentId, replyId.toString());
+    }
+
     // ==================== SESSION MANAGEMENT ====================
 
     @Override
@@ -500,6 +902,7 @@ public class DiscussCacheService implements IDiscussCacheService {
         }
         String key = ATTACHMENT_URL_PREFIX + attachmentId;
         cachePort.setToCache(key, urlInfo, ATTACHMENT_URL_TTL);
+        attachmentUrlLocalCache.put(attachmentId, urlInfo);
         log.debug("Cached attachment URL for: {}", attachmentId);
     }
 
@@ -508,11 +911,63 @@ public class DiscussCacheService implements IDiscussCacheService {
         if (attachmentId == null) {
             return Optional.empty();
         }
+        CachedAttachmentUrl local = attachmentUrlLocalCache.getIfPresent(attachmentId);
+        if (local != null) {
+            return Optional.of(local);
+        }
+        long seen = attachmentUrlInvalidations.get();
         String key = ATTACHMENT_URL_PREFIX + attachmentId;
         CachedAttachmentUrl urlInfo = cachePort.getFromCache(key, CachedAttachmentUrl.class);
+        if (urlInfo != null) {
+            fillAttachmentUrlLocal(attachmentId, urlInfo, seen);
+        }
         return Optional.ofNullable(urlInfo);
     }
 
+    @Override
+    public Map<Long, CachedAttachmentUrl> getCachedAttachmentUrls(Collection<Long> attachmentIds) {
+        if (attachmentIds == null || attachmentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, CachedAttachmentUrl> result = new HashMap<>(attachmentUrlLocalCache.getAllPresent(attachmentIds));
+
+        Map<String, Long> remoteKeys = new LinkedHashMap<>();
+        for (Long attachmentId : attachmentIds) {
+            if (attachmentId != null && !result.containsKey(attachmentId)) {
+                remoteKeys.put(ATTACHMENT_URL_PREFIX + attachmentId, attachmentId);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return result;
+        }
+
+        long seen = attachmentUrlInvalidations.get();
+        Map<String, CachedAttachmentUrl> remote = cachePort.multiGetFromCache(
+                new ArrayList<>(remoteKeys.keySet()), CachedAttachmentUrl.class);
+        remote.forEach((key, urlInfo) -> {
+            Long attachmentId = remoteKeys.get(key);
+            result.put(attachmentId, urlInfo);
+            fillAttachmentUrlLocal(attachmentId, urlInfo, seen);
+        });
+
+        log.debug("Resolved {} attachment URLs: {} local, {} from Redis",
+                result.size(), result.size() - remote.size(), remote.size());
+        return result;
+    }
+
+    @Override
+    public void cacheAttachmentUrls(Map<Long, CachedAttachmentUrl> urls) {
+        if (urls == null || urls.isEmpty()) {
+            return;
+        }
+        Map<String, Object> values = new HashMap<>();
+        urls.forEach((attachmentId, urlInfo) -> values.put(ATTACHMENT_URL_PREFIX + attachmentId, urlInfo));
+        cachePort.batchSetToCache(values, ATTACHMENT_URL_TTL);
+        attachmentUrlLocalCache.putAll(urls);
+        log.debug("Cached {} attachment URLs", urls.size());
+    }
+
     @Override
     public void invalidateAttachmentUrl(Long attachmentId) {
         if (attachmentId == null) {
@@ -520,9 +975,27 @@ public class DiscussCacheService implements IDiscussCacheService {
         }
         String key = ATTACHMENT_URL_PREFIX + attachmentId;
         cachePort.deleteFromCache(key);
+        invalidateAttachmentUrlLocal(attachmentId);
+        try {
+            broadcaster.accept(TieredCache.keysInvalidation(ATTACHMENT_URL_REGION, instanceId,
+                    List.of(attachmentId.toString())));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast attachment URL invalidation for {}: {}", attachmentId, e.getMessage());
+        }
         log.debug("Invalidated attachment URL cache: {}", attachmentId);
     }
 
+    private void invalidateAttachmentUrlLocal(Long attachmentId) {
+        attachmentUrlInvalidations.incrementAndGet();
+        attachmentUrlLocalCache.invalidate(attachmentId);
+    }
+
+    private void fillAttachmentUrlLocal(Long attachmentId, CachedAttachmentUrl urlInfo, long seenInvalidations) {
+        // Atomic with respect to removals of this id, so an invalidation cannot slip in between
+        attachmentUrlLocalCache.asMap().compute(attachmentId, (id, existing) ->
+                attachmentUrlInvalidations.get() == seenInvalidations ? urlInfo : existing);
+    }
+
     private void cleanupSetIfEmpty(String key) {
         if (cachePort.getSetSize(key) == 0) {
             cachePort.deleteFromCache(key);
@@ -539,7 +1012,7 @@ public class DiscussCacheService implements IDiscussCacheService {
         }
         String key = CHANNEL_MESSAGES_PREFIX + channelId + ":p" + page + ":s" + size;
         CachedMessagesPage cached = new CachedMessagesPage(totalCount, messages);
-        cachePort.setToCache(key, cached, CHANNEL_MESSAGES_TTL);
+        messagesPageCache.put(key, cached, CHANNEL_MESSAGES_TTL);
         log.debug("Cached {} messages for channel {} page {} size {}", messages.size(), channelId, page, size);
     }
 
@@ -549,11 +1022,11 @@ public class DiscussCacheService implements IDiscussCacheService {
             return Optional.empty();
         }
         String key = CHANNEL_MESSAGES_PREFIX + channelId + ":p" + page + ":s" + size;
-        CachedMessagesPage cached = cachePort.getFromCache(key, CachedMessagesPage.class);
-        if (cached != null) {
+        Optional<CachedMessagesPage> cached = messagesPageCache.get(key);
+        if (cached.isPresent()) {
             log.debug("Cache hit for channel {} messages page {} size {}", channelId, page, size);
         }
-        return Optional.ofNullable(cached);
+        return cached;
     }
 
     @Override
@@ -563,6 +1036,7 @@ public class DiscussCacheService implements IDiscussCacheService {
         }
         String pattern = CHANNEL_MESSAGES_PREFIX + channelId + ":*";
         cachePort.deleteAllByPattern(pattern);
+        messagesPageCache.invalidateLocalByPrefix(CHANNEL_MESSAGES_PREFIX + channelId + ":");
         log.debug("Invalidated channel messages page cache: {}", channelId);
     }
 
@@ -573,6 +1047,7 @@ public class DiscussCacheService implements IDiscussCacheService {
         }
         String pattern = CHANNEL_MESSAGES_PREFIX + channelId + ":*";
         cachePort.scanAndDelete(pattern, 100);
+        messagesPageCache.invalidateLocalByPrefix(CHANNEL_MESSAGES_PREFIX + channelId + ":");
         log.debug("Async invalidated channel messages page cache: {}", channelId);
     }
 
@@ -584,7 +1059,7 @@ public class DiscussCacheService implements IDiscussCacheService {
 
         try {
             String key = CHANNEL_MESSAGES_PREFIX + channelId + ":p0:s" + pageSize;
-            CachedMessagesPage cached = cachePort.getFromCache(key, CachedMessagesPage.class);
+            CachedMessagesPage cached = messagesPageCache.getFromRemote(key).orElse(null);
 
             if (cached == null) {
                 log.debug("No cache to prepend for channel {}, skipping smart update", channelId);
@@ -607,7 +1082,7 @@ public class DiscussCacheService implements IDiscussCacheService {
                     updatedMessages
             );
 
-            cachePort.setToCache(key, updated, CHANNEL_MESSAGES_TTL);
+            messagesPageCache.put(key, updated, CHANNEL_MESSAGES_TTL);
             log.debug("Smart cache update: prepended message {} to channel {} first page", 
                     message.getId(), channelId);
             return true;
@@ -631,7 +1106,7 @@ public class DiscussCacheService implements IDiscussCacheService {
             
             for (int pageSize : commonPageSizes) {
                 String key = CHANNEL_MESSAGES_PREFIX + channelId + ":p0:s" + pageSize;
-                CachedMessagesPage cached = cachePort.getFromCache(key, CachedMessagesPage.class);
+                CachedMessagesPage cached = messagesPageCache.getFromRemote(key).orElse(null);
 
                 if (cached == null || cached.messages() == null || cached.messages().isEmpty()) {
                     continue;
@@ -647,7 +1122,7 @@ public class DiscussCacheService implements IDiscussCacheService {
                             Math.max(0, cached.totalCount() - 1),
                             updatedMessages
                     );
-                    cachePort.setToCache(key, updated, CHANNEL_MESSAGES_TTL);
+                    messagesPageCache.put(key, updated, CHANNEL_MESSAGES_TTL);
                     log.debug("Smart cache update: removed message {} from channel {} first page (size {})", 
                             messageId, channelId, pageSize);
                     return true;
@@ -665,4 +1140,80 @@ public class DiscussCacheService implements IDiscussCacheService {
             return false;
         }
     }
+
+    // ==================== LOCAL CACHE SIZING ====================
+
+    private static CachedMessagesPage copyPage(CachedMessagesPage page) {
+        List<MessageEntity> messages = page.messages() != null
+                ? page.messages().stream().map(MessageEntity::copy).collect(Collectors.toCollection(ArrayList::new))
+                : null;
+        return new CachedMessagesPage(page.totalCount(), messages);
+    }
+
+    private static int estimateBytes(MessageEntity message) {
+        long bytes = ENTITY_BASE_BYTES + 2L * length(message.getContent())
+                + COLLECTION_ELEMENT_BYTES * (size(message.getMentions()) + size(message.getReadBy()));
+        if (message.getReactions() != null) {
+            for (MessageEntity.ReactionVO reaction : message.getReactions()) {
+                bytes += COLLECTION_ELEMENT_BYTES * (1 + size(reaction.getUserIds()));
+            }
+        }
+        if (message.getAttachments() != null) {
+            for (AttachmentEntity attachment : message.getAttachments()) {
+                bytes += ENTITY_BASE_BYTES + 2L * (length(attachment.getFileName()) + length(attachment.getStorageKey())
+                        + length(attachment.getStorageUrl()) + length(attachment.getThumbnailUrl()));
+            }
+        }
+        if (message.getMetadata() != null) {
+            bytes += 2L * COLLECTION_ELEMENT_BYTES * message.getMetadata().size();
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int estimateBytes(ChannelEntity channel) {
+        long bytes = ENTITY_BASE_BYTES + 2L * (length(channel.getName()) + length(channel.getDescription()))
+                + (long) ENTITY_BASE_BYTES / 2 * size(channel.getMembers());
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int estimateBytes(CachedMessagesPage page) {
+        long bytes = ENTITY_BASE_BYTES;
+        if (page.messages() != null) {
+            for (MessageEntity message : page.messages()) {
+                bytes += estimateBytes(message);
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static int size(Collection<?> values) {
+        return values != null ? values.size() : 0;
+    }
+
+    /**
+     * Keeps a near-cache entry for ATTACHMENT_URL_LOCAL_TTL, or until the presigned URL expires if sooner.
+     */
+    private static class AttachmentUrlExpiry implements Expiry<Long, CachedAttachmentUrl> {
+
+        @Override
+        public long expireAfterCreate(Long key, CachedAttachmentUrl value, long currentTime) {
+            long untilUrlExpiry = value.expiresAt() - System.currentTimeMillis();
+            long millis = Math.max(0L, Math.min(TimeUnit.SECONDS.toMillis(ATTACHMENT_URL_LOCAL_TTL), untilUrlExpiry));
+            return TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, CachedAttachmentUrl value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, CachedAttachmentUrl value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
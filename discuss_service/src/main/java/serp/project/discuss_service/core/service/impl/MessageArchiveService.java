@@ -0,0 +1,77 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Message partition maintenance and archiving
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import serp.project.discuss_service.core.port.client.IDistributedLockPort;
+import serp.project.discuss_service.core.port.store.IMessagePartitionPort;
+import serp.project.discuss_service.core.service.IMessageArchiveService;
+import serp.project.discuss_service.kernel.property.MessageArchiveProperties;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+/**
+ * Keeps the live messages table to the recent months that take nearly all reads and writes.
+ * Upcoming monthly partitions are created ahead of time, and partitions that fall out of the
+ * retention window are moved whole into the compressed archive that deep scroll-back reads from.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MessageArchiveService implements IMessageArchiveService {
+
+    private static final Duration MAINTENANCE_LOCK_TTL = Duration.ofMinutes(30);
+
+    private final IMessagePartitionPort partitionPort;
+    private final IDistributedLockPort lockPort;
+    private final MessageArchiveProperties properties;
+
+    @Override
+    @Scheduled(cron = "${discuss.message-archive.maintenance-cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        lockPort.executeWithLock(MAINTENANCE_LOCK_NAME, MAINTENANCE_LOCK_TTL, this::maintain)
+                .ifPresent(archived -> log.info("Message partition maintenance done, archived {} messages", archived));
+    }
+
+    // ==================== PRIVATE HELPER METHODS ====================
+
+    private long maintain() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= properties.getPremadeMonths(); i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                partitionPort.createPartition(month);
+            } catch (RuntimeException e) {
+                // Fails when a table of that name is still detached from an unfinished archive run
+                log.error("Failed to create messages partition for {}", month, e);
+            }
+        }
+
+        YearMonth firstRetained = properties.firstRetainedMonth();
+        long archived = 0;
+        for (YearMonth month : partitionPort.findPartitionMonths()) {
+            if (!month.isBefore(firstRetained)) {
+                break;
+            }
+            try {
+                long moved = partitionPort.archivePartition(month);
+                log.info("Archived messages partition {} ({} messages)", month, moved);
+                archived += moved;
+            } catch (RuntimeException e) {
+                log.error("Failed to archive messages partition {}", month, e);
+                return archived;
+            }
+        }
+        return archived;
+    }
+}
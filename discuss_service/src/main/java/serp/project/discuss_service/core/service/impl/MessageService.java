@@ -37,10 +37,9 @@ public class MessageService implements IMessageService {
 
     @Override
     public MessageEntity sendReply(Long parentId, MessageEntity message) {
-        MessageEntity parent = getMessageByIdOrThrow(parentId);
-        parent.incrementThreadCount();
-        messagePort.save(parent);
-        
+        // The parent's thread count is maintained by IThreadService after commit
+        getMessageByIdOrThrow(parentId);
+
         message.setParentId(parentId);
         message.validateForCreation();
         MessageEntity saved = messagePort.save(message);
@@ -78,11 +77,6 @@ public class MessageService implements IMessageService {
         return messagePort.findBeforeId(channelId, beforeId, limit);
     }
 
-    @Override
-    public List<MessageEntity> getThreadReplies(Long parentId) {
-        return messagePort.findReplies(parentId);
-    }
-
     @Override
     public List<MessageEntity> searchMessages(Long channelId, String query, int page, int size) {
         return messagePort.searchMessages(channelId, query, page, size);
@@ -103,14 +97,7 @@ public class MessageService implements IMessageService {
         MessageEntity message = getMessageByIdOrThrow(messageId);
         message.delete(deleterId, isAdmin);
         MessageEntity saved = messagePort.save(message);
-        
-        if (message.isReply()) {
-            getMessageById(message.getParentId()).ifPresent(parent -> {
-                parent.decrementThreadCount();
-                messagePort.save(parent);
-            });
-        }
-        
+
         log.info("Deleted message: {}", messageId);
         return saved;
     }
@@ -0,0 +1,250 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Thread service implementation
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.port.client.IDistributedLockPort;
+import serp.project.discuss_service.core.port.store.IMessagePort;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.core.service.IThreadService;
+import serp.project.discuss_service.kernel.property.ThreadProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps thread counts and the newest replies of each thread in Redis.
+ * Replies only touch Redis; parent rows receive the accumulated count deltas in periodic
+ * batched increments, so a busy thread no longer rewrites its parent message per reply.
+ * Increments lost on the way (a failed Redis write, a flush replayed after a crash) are
+ * corrected by a periodic recount of recently active threads.
+ */
+@Service
+@Slf4j
+public class ThreadService implements IThreadService {
+
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    private final IMessagePort messagePort;
+    private final IDiscussCacheService cacheService;
+    private final IDistributedLockPort lockPort;
+    private final ThreadProperties properties;
+
+    private final Counter replyCountFailures;
+    private final Counter flushFailures;
+
+    public ThreadService(IMessagePort messagePort, IDiscussCacheService cacheService, IDistributedLockPort lockPort,
+                         ThreadProperties properties, MeterRegistry meterRegistry) {
+        this.messagePort = messagePort;
+        this.cacheService = cacheService;
+        this.lockPort = lockPort;
+        this.properties = properties;
+        this.replyCountFailures = Counter.builder("discuss.thread.count.failures")
+                .tag("stage", "record")
+                .description("Reply count changes that could not be added to Redis")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("discuss.thread.count.failures")
+                .tag("stage", "flush")
+                .description("Thread count flushes that failed to write the parent rows")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordReply(MessageEntity reply) {
+        if (!reply.isReply()) {
+            return;
+        }
+        recordPendingCount(reply, 1);
+        cacheService.appendLatestThreadReply(reply.getParentId(), reply.getId(), LATEST_REPLIES_WINDOW);
+    }
+
+    @Override
+    public void recordReplyDeleted(MessageEntity reply) {
+        if (!reply.isReply()) {
+            return;
+        }
+        recordPendingCount(reply, -1);
+        cacheService.removeLatestThreadReply(reply.getParentId(), reply.getId());
+    }
+
+    @Override
+    public List<MessageEntity> getReplies(Long parentId, Long beforeId, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        List<MessageEntity> cached = getRepliesFromWindow(parentId, beforeId, pageSize);
+        if (cached != null) {
+            log.debug("Served {} replies of thread {} from the latest replies window", cached.size(), parentId);
+            return cached;
+        }
+
+        // The first page loads the whole window so the next reads of this thread stay in Redis
+        int fetchSize = beforeId == null ? Math.max(pageSize, LATEST_REPLIES_WINDOW) : pageSize;
+        List<MessageEntity> newestFirst = messagePort.findRepliesBefore(parentId, beforeId, fetchSize);
+        if (beforeId == null) {
+            cacheService.cacheLatestThreadReplyIds(parentId,
+                    newestFirst.stream().map(MessageEntity::getId).toList(),
+                    newestFirst.size() < fetchSize);
+            cacheService.cacheMessages(newestFirst);
+        }
+        return oldestFirst(newestFirst.subList(0, Math.min(pageSize, newestFirst.size())));
+    }
+
+    @Override
+    public void applyPendingThreadCounts(List<MessageEntity> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        List<Long> rootIds = messages.stream()
+                .filter(message -> !message.isReply() && message.getId() != null)
+                .map(MessageEntity::getId)
+                .toList();
+        Map<Long, Long> pending = cacheService.getPendingThreadCounts(rootIds);
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (MessageEntity message : messages) {
+            Long delta = pending.get(message.getId());
+            if (delta != null) {
+                int stored = message.getThreadCount() != null ? message.getThreadCount() : 0;
+                message.setThreadCount((int) Math.max(0, stored + delta));
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${discuss.thread.flush-interval-ms:2000}")
+    public void flushPendingThreadCounts() {
+        lockPort.executeWithLock(FLUSH_LOCK_NAME, FLUSH_LOCK_TTL, this::flush)
+                .filter(flushed -> flushed > 0)
+                .ifPresent(flushed -> log.debug("Flushed thread counts of {} messages", flushed));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${discuss.thread.reconcile-interval-ms:600000}",
+            initialDelayString = "${discuss.thread.reconcile-interval-ms:600000}")
+    public void reconcileThreadCounts() {
+        lockPort.executeWithLock(FLUSH_LOCK_NAME, FLUSH_LOCK_TTL, this::reconcile)
+                .filter(corrected -> corrected > 0)
+                .ifPresent(corrected -> log.info("Corrected drifted thread counts of {} messages", corrected));
+    }
+
+    // ==================== PRIVATE HELPER METHODS ====================
+
+    /**
+     * Serve a page from the latest replies window.
+     *
+     * @return the page, or null when the window cannot prove it holds every reply of the page
+     */
+    private List<MessageEntity> getRepliesFromWindow(Long parentId, Long beforeId, int pageSize) {
+        List<Long> ids = cacheService.getLatestThreadReplyIds(parentId, beforeId, pageSize + 1);
+        boolean reachedThreadStart = ids.contains(IDiscussCacheService.THREAD_START_MARKER);
+        List<Long> replyIds = ids.stream()
+                .filter(id -> id != IDiscussCacheService.THREAD_START_MARKER)
+                .toList();
+        if (!reachedThreadStart && replyIds.size() <= pageSize) {
+            return null;
+        }
+
+        List<Long> pageIds = replyIds.subList(0, Math.min(pageSize, replyIds.size()));
+        Map<Long, MessageEntity> messages = new HashMap<>(cacheService.getCachedMessages(pageIds));
+        Set<Long> missing = new HashSet<>(pageIds);
+        missing.removeAll(messages.keySet());
+        if (!missing.isEmpty()) {
+            List<MessageEntity> loaded = messagePort.findByIds(missing);
+            loaded.forEach(message -> messages.put(message.getId(), message));
+            cacheService.cacheMessages(loaded);
+        }
+
+        return oldestFirst(pageIds.stream()
+                .map(messages::get)
+                .filter(Objects::nonNull)
+                .filter(message -> !Boolean.TRUE.equals(message.getIsDeleted()))
+                .toList());
+    }
+
+    /**
+     * The reply row has committed by now, so a failure here only leaves the count behind until the
+     * next reconcile; it must not fail the caller.
+     */
+    private void recordPendingCount(MessageEntity reply, long delta) {
+        try {
+            cacheService.incrementPendingThreadCount(reply.getChannelId(), reply.getParentId(), delta);
+        } catch (RuntimeException e) {
+            replyCountFailures.increment();
+            log.error("Failed to count reply {} against thread {}, left to the reconcile",
+                    reply.getId(), reply.getParentId(), e);
+        }
+    }
+
+    private int flush() {
+        Map<Long, Long> dirty = cacheService.drainDirtyThreads();
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Long> deltas = new HashMap<>(cacheService.getPendingThreadCounts(dirty.keySet()));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            messagePort.incrementThreadCounts(deltas);
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.error("Failed to flush thread counts of {} messages, retrying on the next flush", deltas.size(), e);
+            Map<Long, Long> retry = new HashMap<>();
+            deltas.keySet().forEach(parentId -> retry.put(parentId, dirty.get(parentId)));
+            cacheService.markThreadsDirty(retry);
+            return 0;
+        }
+        // Only subtracted once the increments have committed. A crash in between applies them
+        // again on the next flush, which the reconcile corrects, instead of losing them.
+        cacheService.acknowledgeFlushedThreadCounts(deltas);
+
+        deltas.keySet().forEach(cacheService::invalidateMessage);
+        deltas.keySet().stream()
+                .map(dirty::get)
+                .distinct()
+                .forEach(cacheService::invalidateChannelMessagesPageAsync);
+        return deltas.size();
+    }
+
+    private int reconcile() {
+        long settledBefore = System.currentTimeMillis() - properties.getReconcileSettleMs();
+        List<Long> parentIds = messagePort.findSettledThreadParents(
+                settledBefore - properties.getReconcileWindowMs(), settledBefore, properties.getReconcileBatchSize());
+        if (parentIds.isEmpty()) {
+            return 0;
+        }
+        // Stored counts lag the replies by what is still pending in Redis
+        Map<Long, Long> pending = new HashMap<>();
+        parentIds.forEach(parentId -> pending.put(parentId, 0L));
+        pending.putAll(cacheService.getPendingThreadCounts(parentIds));
+
+        int corrected = messagePort.reconcileThreadCounts(pending, settledBefore);
+        if (corrected > 0) {
+            parentIds.forEach(cacheService::invalidateMessage);
+        }
+        return corrected;
+    }
+
+    private List<MessageEntity> oldestFirst(List<MessageEntity> newestFirst) {
+        List<MessageEntity> replies = new ArrayList<>(newestFirst);
+        Collections.reverse(replies);
+        return replies;
+    }
+}
@@ -0,0 +1,286 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Two-level cache region with an in-process L1 over Redis
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.discuss_service.core.port.client.ICachePort;
+import serp.project.discuss_service.kernel.property.CacheProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * One cache region backed by Redis (L2) with a size-bounded in-process L1 in front of it.
+ * <p>
+ * L1 is a Caffeine cache, so eviction is W-TinyLFU: the few hot channels and messages that take
+ * most reads stay in memory while one-off reads do not displace them. L1 holds private copies and
+ * hands out copies, so callers may mutate what they read. Writes and invalidations made through this
+ * region are broadcast to the other instances, which drop their L1 copy and reload from Redis.
+ */
+@Slf4j
+public class TieredCache<V> {
+
+    private static final String SEPARATOR = "|";
+    private static final String KEY_SEPARATOR = ",";
+    private static final String OP_KEYS = "K";
+    private static final String OP_PREFIX = "P";
+
+    private final String region;
+    private final Class<V> type;
+    private final UnaryOperator<V> copier;
+    private final ICachePort cachePort;
+    private final String instanceId;
+    private final Consumer<String> broadcaster;
+    private final Cache<String, V> local;
+
+    // Bumped on every invalidation so a Redis read that raced with one is not kept in L1
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    TieredCache(String region, Class<V> type, Weigher<String, V> weigher, UnaryOperator<V> copier,
+                CacheProperties.Region settings, boolean localEnabled, ICachePort cachePort,
+                String instanceId, Consumer<String> broadcaster, MeterRegistry meterRegistry) {
+        this.region = region;
+        this.type = type;
+        this.copier = copier;
+        this.cachePort = cachePort;
+        this.instanceId = instanceId;
+        this.broadcaster = broadcaster;
+        this.local = localEnabled
+                ? Caffeine.newBuilder()
+                        .maximumWeight(settings.getMaxWeightBytes())
+                        .weigher(weigher)
+                        .expireAfterWrite(Duration.ofSeconds(settings.getTtlSeconds()))
+                        .recordStats()
+                        .build()
+                : null;
+
+        this.remoteHits = Counter.builder("cache.gets")
+                .tags("cache", region, "tier", "l2", "result", "hit")
+                .register(meterRegistry);
+        this.remoteMisses = Counter.builder("cache.gets")
+                .tags("cache", region, "tier", "l2", "result", "miss")
+                .register(meterRegistry);
+        if (local != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, local, region, "tier", "l1");
+            Gauge.builder("discuss.cache.hit.ratio", local, cache -> cache.stats().hitRate())
+                    .tags("cache", region, "tier", "l1")
+                    .register(meterRegistry);
+        }
+        Gauge.builder("discuss.cache.hit.ratio", this, TieredCache::overallHitRatio)
+                .tags("cache", region, "tier", "all")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Region name carried by a broadcast invalidation
+     */
+    static String regionOf(String invalidation) {
+        int end = invalidation.indexOf(SEPARATOR);
+        return end < 0 ? invalidation : invalidation.substring(0, end);
+    }
+
+    /**
+     * Invalidation of the given keys, in the format every region broadcasts and parses
+     */
+    static String keysInvalidation(String region, String instanceId, Collection<String> keys) {
+        return invalidation(region, instanceId, OP_KEYS, String.join(KEY_SEPARATOR, keys));
+    }
+
+    /**
+     * Keys named by a key invalidation from another instance; empty for this instance's own broadcasts
+     */
+    static List<String> invalidatedKeys(String invalidation, String instanceId) {
+        String[] parts = invalidation.split("\\" + SEPARATOR, 4);
+        if (parts.length != 4 || instanceId.equals(parts[1]) || !OP_KEYS.equals(parts[2])) {
+            return List.of();
+        }
+        return List.of(parts[3].split(KEY_SEPARATOR));
+    }
+
+    private static String invalidation(String region, String instanceId, String operation, String payload) {
+        return region + SEPARATOR + instanceId + SEPARATOR + operation + SEPARATOR + payload;
+    }
+
+    // ==================== READS ====================
+
+    public Optional<V> get(String key) {
+        if (local != null) {
+            V cached = local.getIfPresent(key);
+            if (cached != null) {
+                return Optional.of(copier.apply(cached));
+            }
+        }
+        long seen = invalidations.get();
+        V value = getFromRemote(key).orElse(null);
+        if (value != null) {
+            fillLocal(key, value, seen);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Read from Redis only, for read-modify-write updates of the shared value
+     */
+    public Optional<V> getFromRemote(String key) {
+        V value = cachePort.getFromCache(key, type);
+        (value != null ? remoteHits : remoteMisses).increment();
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * @return Map of key -> value, misses are omitted
+     */
+    public Map<String, V> getAll(Collection<String> keys) {
+        Map<String, V> result = new HashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : keys) {
+            V cached = local != null ? local.getIfPresent(key) : null;
+            if (cached != null) {
+                result.put(key, copier.apply(cached));
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return result;
+        }
+
+        long seen = invalidations.get();
+        Map<String, V> remote = cachePort.multiGetFromCache(remoteKeys, type);
+        remoteHits.increment(remote.size());
+        remoteMisses.increment(remoteKeys.size() - remote.size());
+        remote.forEach((key, value) -> {
+            fillLocal(key, value, seen);
+            result.put(key, value);
+        });
+        return result;
+    }
+
+    // ==================== WRITES ====================
+
+    public void put(String key, V value, long ttlSeconds) {
+        cachePort.setToCache(key, value, ttlSeconds);
+        invalidations.incrementAndGet();
+        if (local != null) {
+            local.put(key, copier.apply(value));
+        }
+        broadcast(OP_KEYS, key);
+    }
+
+    public void putAll(Map<String, V> values, long ttlSeconds) {
+        if (values.isEmpty()) {
+            return;
+        }
+        cachePort.batchSetToCache(new HashMap<>(values), ttlSeconds);
+        invalidations.incrementAndGet();
+        if (local != null) {
+            values.forEach((key, value) -> local.put(key, copier.apply(value)));
+        }
+        broadcast(OP_KEYS, String.join(KEY_SEPARATOR, values.keySet()));
+    }
+
+    public void invalidate(String key) {
+        cachePort.deleteFromCache(key);
+        invalidateLocal(key);
+        broadcast(OP_KEYS, key);
+    }
+
+    /**
+     * Drop L1 entries under a key prefix here and on other instances.
+     * The caller is responsible for removing the Redis keys.
+     */
+    public void invalidateLocalByPrefix(String prefix) {
+        evictLocalPrefix(prefix);
+        broadcast(OP_PREFIX, prefix);
+    }
+
+    // ==================== INVALIDATION ====================
+
+    /**
+     * Apply an invalidation broadcast by any instance of this region
+     */
+    public void onInvalidation(String invalidation) {
+        String[] parts = invalidation.split("\\" + SEPARATOR, 4);
+        if (parts.length != 4) {
+            log.warn("Ignoring malformed cache invalidation for region {}: {}", region, invalidation);
+            return;
+        }
+        if (instanceId.equals(parts[1])) {
+            return;
+        }
+        switch (parts[2]) {
+            case OP_KEYS -> {
+                for (String key : parts[3].split(KEY_SEPARATOR)) {
+                    invalidateLocal(key);
+                }
+            }
+            case OP_PREFIX -> evictLocalPrefix(parts[3]);
+            default -> log.warn("Unknown cache invalidation operation: {}", parts[2]);
+        }
+    }
+
+    private void invalidateLocal(String key) {
+        invalidations.incrementAndGet();
+        if (local != null) {
+            local.invalidate(key);
+        }
+    }
+
+    private void evictLocalPrefix(String prefix) {
+        invalidations.incrementAndGet();
+        if (local != null) {
+            local.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    private void fillLocal(String key, V value, long seenInvalidations) {
+        if (local == null) {
+            return;
+        }
+        V copy = copier.apply(value);
+        // Atomic with respect to removals of this key, so an invalidation cannot slip in between
+        local.asMap().compute(key, (k, existing) ->
+                invalidations.get() == seenInvalidations ? copy : existing);
+    }
+
+    private void broadcast(String operation, String payload) {
+        if (local == null) {
+            return;
+        }
+        try {
+            broadcaster.accept(invalidation(region, instanceId, operation, payload));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast invalidation for region {}: {}", region, e.getMessage());
+        }
+    }
+
+    private double overallHitRatio() {
+        long localHits = local != null ? local.stats().hitCount() : 0;
+        long localMisses = local != null ? local.stats().missCount() : 0;
+        double hits = localHits + remoteHits.count();
+        // Local misses fall through to Redis, so count each request once
+        double requests = local != null ? localHits + localMisses : remoteHits.count() + remoteMisses.count();
+        return requests == 0 ? 0 : hits / requests;
+    }
+}
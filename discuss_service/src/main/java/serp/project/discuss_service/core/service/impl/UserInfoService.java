@@ -5,6 +5,8 @@
 
 package serp.project.discuss_service.core.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
@@ -19,17 +21,23 @@ import serp.project.discuss_service.core.exception.ErrorCode;
 import serp.project.discuss_service.core.port.client.IAccountServiceClient;
 import serp.project.discuss_service.core.port.client.ICachePort;
 import serp.project.discuss_service.core.service.IUserInfoService;
+import serp.project.discuss_service.core.service.IUserProfileLoader;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service to enrich channel member responses with user information.
+ * Lookups go local cache -> Redis -> coalesced account bulk call, so enriching a
+ * channel or a message page costs at most one round trip to account service.
  */
 @Service
 @RequiredArgsConstructor
@@ -38,6 +46,12 @@ public class UserInfoService implements IUserInfoService {
 
     private final IAccountServiceClient accountServiceClient;
     private final ICachePort cachePort;
+    private final IUserProfileLoader userProfileLoader;
+
+    private final Cache<Long, UserInfo> localUserCache = Caffeine.newBuilder()
+            .maximumSize(USER_INFO_LOCAL_MAX_SIZE)
+            .expireAfterWrite(Duration.ofSeconds(USER_INFO_LOCAL_TTL))
+            .build();
 
     @Override
     public List<ChannelMemberResponse> enrichMembersWithUserInfo(List<ChannelMemberEntity> members) {
@@ -45,23 +59,20 @@ public class UserInfoService implements IUserInfoService {
             return List.of();
         }
 
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            Map<Long, Future<Optional<ChannelMemberResponse.UserInfo>>> userInfoFutures = new ConcurrentHashMap<>();
-
-            members.stream()
-                    .map(ChannelMemberEntity::getUserId)
-                    .distinct()
-                    .forEach(userId -> {
-                        Future<Optional<ChannelMemberResponse.UserInfo>> future = executor.submit(
-                                () -> getUserById(userId)
-                        );
-                        userInfoFutures.put(userId, future);
-                    });
-
-            return members.stream()
-                    .map(member -> buildMemberResponse(member, userInfoFutures))
-                    .toList();
-        }
+        Map<Long, UserInfo> users = getUsersByIds(members.stream()
+                .map(ChannelMemberEntity::getUserId)
+                .toList());
+
+        return members.stream()
+                .map(member -> {
+                    ChannelMemberResponse response = ChannelMemberResponse.fromEntity(member);
+                    UserInfo userInfo = users.get(member.getUserId());
+                    if (userInfo != null) {
+                        response.setUser(userInfo);
+                    }
+                    return response;
+                })
+                .toList();
     }
 
     @Override
@@ -95,7 +106,16 @@ public class UserInfoService implements IUserInfoService {
             return List.of();
         }
 
-        messages.forEach(this::enrichMessageWithUserInfo);
+        Map<Long, UserInfo> senders = getUsersByIds(messages.stream()
+                .map(MessageResponse::getSenderId)
+                .toList());
+
+        messages.forEach(message -> {
+            UserInfo sender = senders.get(message.getSenderId());
+            if (sender != null) {
+                message.setSender(sender);
+            }
+        });
         return messages;
     }
 
@@ -124,38 +144,60 @@ public class UserInfoService implements IUserInfoService {
         }
     }
 
+    @Override
     public Optional<ChannelMemberResponse.UserInfo> getUserById(Long userId) {
-        try {
-            String cacheKey = USER_INFO_CACHE_PREFIX + userId;
-            ChannelMemberResponse.UserInfo cachedInfo = cachePort.getFromCache(cacheKey, ChannelMemberResponse.UserInfo.class);
-            if (cachedInfo != null) {
-                return Optional.of(cachedInfo);
-            }
-            Optional<ChannelMemberResponse.UserInfo> userInfo = accountServiceClient.getUserById(userId);
-            userInfo.ifPresent(info -> cachePort.setToCache(cacheKey, info, USER_INFO_CACHE_TTL));
-            return userInfo;
-        } catch (Exception e) {
-            log.error("Failed to fetch user info for userId {}: {}", userId, e.getMessage());
+        if (userId == null) {
             return Optional.empty();
         }
+        return Optional.ofNullable(getUsersByIds(List.of(userId)).get(userId));
     }
 
-    private ChannelMemberResponse buildMemberResponse(
-            ChannelMemberEntity member,
-            Map<Long, Future<Optional<ChannelMemberResponse.UserInfo>>> userInfoFutures) {
+    @Override
+    public Map<Long, UserInfo> getUsersByIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
 
-        ChannelMemberResponse response = ChannelMemberResponse.fromEntity(member);
+        Set<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, UserInfo> result = new HashMap<>(localUserCache.getAllPresent(ids));
+        if (result.size() == ids.size()) {
+            return result;
+        }
 
         try {
-            Future<Optional<ChannelMemberResponse.UserInfo>> future = userInfoFutures.get(member.getUserId());
-            if (future != null) {
-                Optional<ChannelMemberResponse.UserInfo> userInfo = future.get();
-                userInfo.ifPresent(response::setUser);
+            List<Long> localMisses = ids.stream()
+                    .filter(id -> !result.containsKey(id))
+                    .toList();
+            Map<String, UserInfo> cached = cachePort.multiGetFromCache(
+                    localMisses.stream().map(id -> USER_INFO_CACHE_PREFIX + id).toList(),
+                    UserInfo.class);
+            localMisses.forEach(id -> {
+                UserInfo userInfo = cached.get(USER_INFO_CACHE_PREFIX + id);
+                if (userInfo != null) {
+                    result.put(id, userInfo);
+                    localUserCache.put(id, userInfo);
+                }
+            });
+
+            List<Long> remoteMisses = localMisses.stream()
+                    .filter(id -> !result.containsKey(id))
+                    .toList();
+            if (!remoteMisses.isEmpty()) {
+                Map<Long, UserInfo> loaded = userProfileLoader.loadAll(remoteMisses).join();
+                if (!loaded.isEmpty()) {
+                    Map<String, Object> toCache = new HashMap<>();
+                    loaded.forEach((id, userInfo) -> toCache.put(USER_INFO_CACHE_PREFIX + id, userInfo));
+                    cachePort.batchSetToCache(toCache, USER_INFO_CACHE_TTL);
+                    localUserCache.putAll(loaded);
+                    result.putAll(loaded);
+                }
             }
         } catch (Exception e) {
-            log.warn("Failed to get user info for member {}: {}", member.getUserId(), e.getMessage());
+            log.error("Failed to fetch user info for {} users: {}", ids.size(), e.getMessage());
         }
 
-        return response;
+        return result;
     }
 }
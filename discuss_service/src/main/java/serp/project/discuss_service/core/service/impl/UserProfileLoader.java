@@ -0,0 +1,126 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Coalescing user profile loader backed by account bulk API
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse.UserInfo;
+import serp.project.discuss_service.core.port.client.IAccountServiceClient;
+import serp.project.discuss_service.core.service.IUserProfileLoader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests arriving within {@link #BATCH_WINDOW_MS} share one pending batch; the first request
+ * of a window schedules the flush, and a batch reaching {@link #MAX_BATCH_SIZE} is sent at once.
+ */
+@Service
+@Slf4j
+public class UserProfileLoader implements IUserProfileLoader {
+
+    private final IAccountServiceClient accountServiceClient;
+    private final ExecutorService executor;
+    private final Executor delayedExecutor;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<Optional<UserInfo>>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    @Autowired
+    public UserProfileLoader(IAccountServiceClient accountServiceClient,
+                             @Qualifier("userProfileLoaderExecutor") ExecutorService executor) {
+        this(accountServiceClient, executor, BATCH_WINDOW_MS, MAX_BATCH_SIZE);
+    }
+
+    UserProfileLoader(IAccountServiceClient accountServiceClient, ExecutorService executor,
+                      long batchWindowMs, int maxBatchSize) {
+        this.accountServiceClient = accountServiceClient;
+        this.executor = executor;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(batchWindowMs, TimeUnit.MILLISECONDS, executor);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, UserInfo>> loadAll(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        Map<Long, CompletableFuture<Optional<UserInfo>>> requested = new HashMap<>();
+        List<Map<Long, CompletableFuture<Optional<UserInfo>>>> fullBatches = new ArrayList<>();
+        boolean scheduleFlush = false;
+
+        synchronized (lock) {
+            for (Long userId : userIds) {
+                if (userId == null || requested.containsKey(userId)) {
+                    continue;
+                }
+                requested.put(userId, pending.computeIfAbsent(userId, id -> new CompletableFuture<>()));
+                if (pending.size() >= maxBatchSize) {
+                    fullBatches.add(pending);
+                    pending = new LinkedHashMap<>();
+                }
+            }
+            if (!pending.isEmpty() && !flushScheduled) {
+                flushScheduled = true;
+                scheduleFlush = true;
+            }
+        }
+
+        fullBatches.forEach(batch -> executor.execute(() -> fetch(batch)));
+        if (scheduleFlush) {
+            delayedExecutor.execute(this::flushPending);
+        }
+
+        return CompletableFuture.allOf(requested.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<Long, UserInfo> result = new HashMap<>();
+                    requested.forEach((userId, future) ->
+                            future.join().ifPresent(userInfo -> result.put(userId, userInfo)));
+                    return result;
+                });
+    }
+
+    private void flushPending() {
+        Map<Long, CompletableFuture<Optional<UserInfo>>> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            flushScheduled = false;
+        }
+        if (!batch.isEmpty()) {
+            fetch(batch);
+        }
+    }
+
+    private void fetch(Map<Long, CompletableFuture<Optional<UserInfo>>> batch) {
+        Map<Long, UserInfo> found = new HashMap<>();
+        try {
+            List<UserInfo> users = accountServiceClient.getUsersByIds(batch.keySet());
+            if (users != null) {
+                users.forEach(userInfo -> found.putIfAbsent(userInfo.getId(), userInfo));
+            }
+            log.debug("Loaded {} of {} user profiles in one batch", found.size(), batch.size());
+        } catch (Exception e) {
+            log.error("Failed to load batch of {} user profiles: {}", batch.size(), e.getMessage());
+        }
+        batch.forEach((userId, future) -> future.complete(Optional.ofNullable(found.get(userId))));
+    }
+}
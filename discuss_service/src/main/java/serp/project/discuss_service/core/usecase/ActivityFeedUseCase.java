@@ -0,0 +1,42 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Activity feed use case
+ */
+
+package serp.project.discuss_service.core.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import serp.project.discuss_service.core.domain.dto.response.ActivityFeedPageResponse;
+import serp.project.discuss_service.core.service.IActivityFeedService;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityFeedUseCase {
+
+    private final IActivityFeedService activityFeedService;
+
+    public ActivityFeedPageResponse getFeed(Long userId, Long tenantId, String cursor, int limit) {
+        return activityFeedService.getFeed(userId, tenantId, cursor, limit);
+    }
+
+    public long getUnreadCount(Long userId, Long tenantId) {
+        return activityFeedService.getUnreadCount(userId, tenantId);
+    }
+
+    public int markAsRead(Long userId, Long tenantId, List<Long> activityIds) {
+        int updated = activityFeedService.markAsRead(userId, tenantId, activityIds);
+        log.debug("User {} marked {} activities as read", userId, updated);
+        return updated;
+    }
+
+    public int markAllAsRead(Long userId, Long tenantId) {
+        int updated = activityFeedService.markAllAsRead(userId, tenantId);
+        log.debug("User {} marked all {} activities as read", userId, updated);
+        return updated;
+    }
+}
@@ -8,10 +8,12 @@ package serp.project.discuss_service.core.usecase;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import serp.project.discuss_service.core.domain.dto.response.AttachmentResponse;
 import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
+import serp.project.discuss_service.core.domain.event.AttachmentsUploadedInternalEvent;
 import serp.project.discuss_service.core.service.IAttachmentService;
 import serp.project.discuss_service.core.service.IAttachmentUrlService;
 import serp.project.discuss_service.core.service.IDiscussCacheService;
@@ -26,11 +28,13 @@ public class AttachmentUseCase {
     private final IAttachmentService attachmentService;
     private final IAttachmentUrlService attachmentUrlService;
     private final IDiscussCacheService cacheService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public AttachmentResponse uploadAttachment(Long channelId, Long messageId,
                                                MultipartFile file, Long tenantId) {
         AttachmentEntity attachment = attachmentService.uploadAttachment(file, messageId, channelId, tenantId);
+        applicationEventPublisher.publishEvent(new AttachmentsUploadedInternalEvent(this, List.of(attachment)));
         log.info("Uploaded attachment {} for message {} in channel {}", attachment.getId(), messageId, channelId);
         return attachmentUrlService.enrichWithUrls(attachment);
     }
@@ -39,6 +43,7 @@ public class AttachmentUseCase {
     public List<AttachmentResponse> uploadAttachments(Long channelId, Long messageId,
                                                       List<MultipartFile> files, Long tenantId) {
         List<AttachmentEntity> attachments = attachmentService.uploadAttachments(files, messageId, channelId, tenantId);
+        applicationEventPublisher.publishEvent(new AttachmentsUploadedInternalEvent(this, attachments));
         log.info("Uploaded {} attachments for message {} in channel {}", attachments.size(), messageId, channelId);
         return attachmentUrlService.enrichWithUrls(attachments);
     }
@@ -10,11 +10,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import serp.project.discuss_service.core.domain.dto.response.ChannelInboxResponse;
 import serp.project.discuss_service.core.domain.entity.ChannelEntity;
 import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
 import serp.project.discuss_service.core.domain.enums.MemberRole;
 import serp.project.discuss_service.core.exception.AppException;
 import serp.project.discuss_service.core.exception.ErrorCode;
+import serp.project.discuss_service.core.service.IChannelInboxService;
 import serp.project.discuss_service.core.service.IChannelMemberService;
 import serp.project.discuss_service.core.service.IChannelService;
 import serp.project.discuss_service.core.service.IDiscussEventPublisher;
@@ -32,6 +34,7 @@ public class ChannelUseCase {
     private final IChannelMemberService memberService;
     private final IDiscussEventPublisher eventPublisher;
     private final IPresenceService presenceService;
+    private final IChannelInboxService channelInboxService;
 
     @Transactional
     public ChannelEntity createGroupChannel(Long tenantId, Long createdBy, String name,
@@ -110,16 +113,20 @@ public class ChannelUseCase {
 
     @Transactional(readOnly = true)
     public List<ChannelEntity> getUserChannels(Long userId, Long tenantId) {
-        List<ChannelMemberEntity> memberships = memberService.getUserChannels(userId);
-        List<Long> channelIds = memberships.stream()
+        List<Long> channelIds = memberService.getUserChannels(userId).stream()
                 .map(ChannelMemberEntity::getChannelId)
+                .distinct()
                 .toList();
-        
-        return channelService.getChannelsByTenantId(tenantId).stream()
-                .filter(c -> channelIds.contains(c.getId()))
+
+        return channelService.getChannelsByIds(channelIds).stream()
+                .filter(c -> tenantId.equals(c.getTenantId()))
                 .toList();
     }
 
+    public ChannelInboxResponse getInbox(Long userId, Long tenantId, String cursor, int limit) {
+        return channelInboxService.getInbox(userId, tenantId, cursor, limit);
+    }
+
     @Transactional
     public ChannelEntity updateChannel(Long channelId, Long userId, String name, String description) {
         if (!memberService.canManageChannel(channelId, userId)) {
@@ -17,6 +17,7 @@ import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
 import serp.project.discuss_service.core.domain.entity.ChannelEntity;
 import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
 import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.domain.event.AttachmentsUploadedInternalEvent;
 import serp.project.discuss_service.core.domain.event.MessageDeletedInternalEvent;
 import serp.project.discuss_service.core.domain.event.MessageSentInternalEvent;
 import serp.project.discuss_service.core.domain.event.MessageUpdatedInternalEvent;
@@ -31,6 +32,7 @@ import serp.project.discuss_service.core.service.IChannelService;
 import serp.project.discuss_service.core.service.IDiscussCacheService;
 import serp.project.discuss_service.core.service.IDiscussEventPublisher;
 import serp.project.discuss_service.core.service.IMessageService;
+import serp.project.discuss_service.core.service.IThreadService;
 import serp.project.discuss_service.core.service.IUserInfoService;
 
 import java.util.List;
@@ -53,6 +55,7 @@ public class MessageUseCase {
     private final IAttachmentService attachmentService;
     private final IAttachmentUrlService attachmentUrlService;
     private final IUserInfoService userInfoService;
+    private final IThreadService threadService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
@@ -103,6 +106,7 @@ public class MessageUseCase {
             List<AttachmentEntity> attachments = attachmentService.uploadAttachments(
                     files, saved.getId(), channelId, tenantId);
             saved.setAttachments(attachments);
+            applicationEventPublisher.publishEvent(new AttachmentsUploadedInternalEvent(this, attachments));
         }
 
         channelService.recordMessage(channel);
@@ -156,6 +160,7 @@ public class MessageUseCase {
         if (cached.isPresent()) {
             List<MessageEntity> messages = cached.get().messages();
             enrichMessagesWithAttachments(messages);
+            threadService.applyPendingThreadCounts(messages);
             return Pair.of(cached.get().totalCount(), messages);
         }
 
@@ -165,6 +170,8 @@ public class MessageUseCase {
         
         cacheService.cacheChannelMessagesPage(channelId, page, size, 
                 result.getSecond(), result.getFirst());
+
+        threadService.applyPendingThreadCounts(result.getSecond());
         
         return result;
     }
@@ -179,17 +186,19 @@ public class MessageUseCase {
         List<MessageEntity> messages = messageService.getMessagesBefore(channelId, beforeId, limit);
         
         enrichMessagesWithAttachments(messages);
+        threadService.applyPendingThreadCounts(messages);
         
         return messages;
     }
 
     @Transactional(readOnly = true)
-    public List<MessageEntity> getThreadReplies(Long channelId, Long parentId, Long userId) {
+    public List<MessageEntity> getThreadReplies(Long channelId, Long parentId, Long userId,
+                                                Long beforeId, int limit) {
         if (!memberService.isMember(channelId, userId)) {
             throw new AppException(ErrorCode.NOT_CHANNEL_MEMBER);
         }
 
-        List<MessageEntity> messages = messageService.getThreadReplies(parentId);
+        List<MessageEntity> messages = threadService.getReplies(parentId, beforeId, limit);
         
         enrichMessagesWithAttachments(messages);
         
@@ -206,6 +215,7 @@ public class MessageUseCase {
         List<MessageEntity> messages = messageService.searchMessages(channelId, query, page, size);
         
         enrichMessagesWithAttachments(messages);
+        threadService.applyPendingThreadCounts(messages);
         
         return messages;
     }
@@ -214,6 +224,7 @@ public class MessageUseCase {
     public Optional<MessageResponse> getMessageDetail(Long messageId) {
         Optional<MessageEntity> messageOpt = messageService.getMessageById(messageId);
         return messageOpt.map(m -> {
+            threadService.applyPendingThreadCounts(List.of(m));
             MessageResponse response = attachmentUrlService.enrichMessageWithUrls(m);
             response = userInfoService.enrichMessageWithUserInfo(response);
             return response;
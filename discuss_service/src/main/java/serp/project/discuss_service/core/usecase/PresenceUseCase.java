@@ -22,6 +22,7 @@ import serp.project.discuss_service.core.service.IUserInfoService;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -46,9 +47,11 @@ public class PresenceUseCase {
         Map<Long, UserPresenceEntity> presenceMap = presenceService.getPresenceBatch(memberIds);
         List<UserPresenceEntity> presenceList = presenceMap.values().stream().toList();
 
+        Map<Long, ChannelMemberResponse.UserInfo> users = userInfoService.getUsersByIds(presenceMap.keySet());
+
         Map<String, List<UserPresenceResponse>> statusGroups = presenceList.stream()
                 .map(presence -> {
-                    var userInfo = userInfoService.getUserById(presence.getUserId());
+                    var userInfo = Optional.ofNullable(users.get(presence.getUserId()));
                     String name = userInfo.map(ChannelMemberResponse.UserInfo::getName).orElse("Unknown User");
                     String avatar = userInfo.map(ChannelMemberResponse.UserInfo::getAvatarUrl).orElse("");
                     return UserPresenceResponse.fromEntity(presence, name, avatar);
@@ -17,6 +17,7 @@ import serp.project.discuss_service.core.port.client.IAccountServiceClient;
 import serp.project.discuss_service.kernel.utils.HttpClientHelper;
 import serp.project.discuss_service.kernel.utils.TokenUtils;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +62,48 @@ public class AccountServiceClientAdapter implements IAccountServiceClient {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UserInfo> getUsersByIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            String token = tokenUtils.getServiceToken()
+                    .orElseThrow(() -> new RuntimeException("Failed to obtain service token"));
+
+            String url = accountServiceUrl + "/internal/api/v1/users/batch";
+            log.debug("Url: {}, users: {}", url, userIds.size());
+
+            Map<String, String> headers = Map.of("Authorization", "Bearer " + token);
+            Map<String, Object> body = Map.of("userIds", List.copyOf(userIds));
+
+            Map<String, Object> response = httpClientHelper.post(url, body, headers, Map.class)
+                    .block();
+
+            if (response == null) {
+                log.warn("No response received for {} user IDs", userIds.size());
+                return Collections.emptyList();
+            }
+
+            Object dataObj = response.get("data");
+            if (dataObj instanceof List) {
+                List<Map<String, Object>> items = (List<Map<String, Object>>) dataObj;
+                return items.stream()
+                        .map(this::mapToUserInfo)
+                        .filter(userInfo -> userInfo.getId() != null)
+                        .toList();
+            }
+
+            log.warn("Invalid response structure for batch user lookup of {} IDs", userIds.size());
+            return Collections.emptyList();
+
+        } catch (Exception e) {
+            log.error("Error fetching {} users from account service: {}", userIds.size(), e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<UserInfo> getUsersForTenant(Long tenantId, String query) {
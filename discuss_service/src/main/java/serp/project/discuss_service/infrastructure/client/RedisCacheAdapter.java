@@ -9,16 +9,21 @@ import io.github.serp.platform.redis.cache.SerpCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 import serp.project.discuss_service.core.port.client.ICachePort;
 import serp.project.discuss_service.kernel.utils.JsonUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Redis implementation of the ICachePort.
@@ -33,6 +38,7 @@ public class RedisCacheAdapter implements ICachePort {
 
     private final JsonUtils jsonUtils;
     private final SerpCacheService cacheService;
+    private final RedisMessageListenerContainer listenerContainer;
 
     // ==================== BASIC KEY-VALUE OPERATIONS ====================
 
@@ -236,6 +242,54 @@ public class RedisCacheAdapter implements ICachePort {
         }
     }
 
+    // ==================== SORTED SET OPERATIONS ====================
+
+    @Override
+    public void sortedSetAddAll(String key, Map<String, Double> scoredMembers, long ttlSeconds) {
+        try {
+            cacheService.sortedSetAddAll(NAMESPACE, key, scoredMembers, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.error("Failed to add members to sorted set, key: {}", key, e);
+        }
+    }
+
+    @Override
+    public void batchSortedSetUpdateIfPresent(Collection<String> keys, String member, double score) {
+        try {
+            cacheService.batchSortedSetUpdateIfPresent(NAMESPACE, keys, member, score);
+        } catch (Exception e) {
+            log.error("Failed to batch update sorted sets for member: {}", member, e);
+        }
+    }
+
+    @Override
+    public Map<String, Double> sortedSetReverseRangeByScore(String key, double maxScore, long count) {
+        try {
+            return cacheService.sortedSetReverseRangeByScore(NAMESPACE, key, maxScore, count);
+        } catch (Exception e) {
+            log.error("Failed to read sorted set range, key: {}", key, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    @Override
+    public void sortedSetRemove(String key, String... members) {
+        try {
+            cacheService.sortedSetRemove(NAMESPACE, key, members);
+        } catch (Exception e) {
+            log.error("Failed to remove members from sorted set, key: {}", key, e);
+        }
+    }
+
+    @Override
+    public void sortedSetRemoveRangeByRank(String key, long start, long end) {
+        try {
+            cacheService.sortedSetRemoveRangeByRank(NAMESPACE, key, start, end);
+        } catch (Exception e) {
+            log.error("Failed to remove sorted set range, key: {}", key, e);
+        }
+    }
+
     // ==================== HASH OPERATIONS ====================
 
     @Override
@@ -349,6 +403,14 @@ public class RedisCacheAdapter implements ICachePort {
         }
     }
 
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+        log.info("Subscribed to Redis channel: {}", channel);
+    }
+
     // ==================== BATCH/PIPELINE OPERATIONS ====================
 
     @Override
@@ -403,4 +465,43 @@ public class RedisCacheAdapter implements ICachePort {
             return new HashMap<>();
         }
     }
+
+    @Override
+    public <T> Map<String, T> multiGetFromCache(List<String> keys, Class<T> clazz) {
+        if (keys == null || keys.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        try {
+            Map<String, Object> rawValues = cacheService.multiGet(NAMESPACE, keys);
+            Map<String, T> result = new HashMap<>();
+            rawValues.forEach((key, value) -> {
+                try {
+                    result.put(key, jsonUtils.fromJson(String.valueOf(value), clazz));
+                } catch (Exception e) {
+                    log.warn("Failed to deserialize cached value, key: {}", key);
+                }
+            });
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to multi get values from cache", e);
+            return new HashMap<>();
+        }
+    }
+
+    @Override
+    public void batchSetToCache(Map<String, Object> values, long ttlSeconds) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, String> jsonValues = new HashMap<>();
+            values.forEach((key, value) -> jsonValues.put(key, jsonUtils.toJson(value)));
+            cacheService.putAll(NAMESPACE, jsonValues, Duration.ofSeconds(ttlSeconds));
+            log.debug("Batch set completed for {} keys", values.size());
+        } catch (Exception e) {
+            log.error("Failed to batch set values to cache", e);
+        }
+    }
 }
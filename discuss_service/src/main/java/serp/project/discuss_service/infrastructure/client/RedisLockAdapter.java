@@ -0,0 +1,33 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Redis distributed lock adapter
+ */
+
+package serp.project.discuss_service.infrastructure.client;
+
+import io.github.serp.platform.redis.lock.SerpLockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import serp.project.discuss_service.core.port.client.IDistributedLockPort;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Redis implementation of the IDistributedLockPort backed by the platform lock service.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLockAdapter implements IDistributedLockPort {
+
+    private static final String OWNER_ID = "discuss-" + UUID.randomUUID();
+
+    private final SerpLockService lockService;
+
+    @Override
+    public <T> Optional<T> executeWithLock(String lockName, Duration ttl, Supplier<T> task) {
+        return lockService.executeWithLock(lockName, OWNER_ID, ttl, task);
+    }
+}
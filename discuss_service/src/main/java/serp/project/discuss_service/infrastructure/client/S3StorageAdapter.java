@@ -5,8 +5,8 @@
 
 package serp.project.discuss_service.infrastructure.client;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import serp.project.discuss_service.core.domain.enums.StorageProvider;
 import serp.project.discuss_service.core.domain.vo.FileUploadResult;
@@ -20,26 +20,46 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
 /**
  * S3-compatible storage adapter.
  * Works with both MinIO and AWS S3.
+ * Large files are streamed with multipart upload, sending several parts in parallel.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class S3StorageAdapter implements IStoragePort {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final StorageProperties storageProperties;
+    private final ExecutorService partUploadExecutor;
 
     private static final DateTimeFormatter PATH_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM");
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    public S3StorageAdapter(
+            S3Client s3Client,
+            S3Presigner s3Presigner,
+            StorageProperties storageProperties,
+            @Qualifier("attachmentUploadExecutor") ExecutorService partUploadExecutor) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.storageProperties = storageProperties;
+        this.partUploadExecutor = partUploadExecutor;
+    }
 
     @PostConstruct
     public void init() {
@@ -53,18 +73,20 @@ public class S3StorageAdapter implements IStoragePort {
             String key = generateStorageKey(tenantId, channelId, fileName);
             String bucket = getBucket();
 
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .contentType(contentType)
-                    .contentLength(fileSize)
-                    .build();
+            if (fileSize != null && fileSize >= storageProperties.getUpload().getMultipartThreshold()) {
+                uploadMultipart(inputStream, bucket, key, contentType);
+            } else {
+                PutObjectRequest putRequest = PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(fileSize)
+                        .build();
 
-            s3Client.putObject(putRequest, RequestBody.fromInputStream(inputStream, fileSize));
+                s3Client.putObject(putRequest, RequestBody.fromInputStream(inputStream, fileSize));
+            }
 
-            String url = String.format("%s/%s/%s",
-                    storageProperties.getS3().getEndpoint(), bucket, key);
-            StorageLocation location = StorageLocation.ofS3(bucket, key, url);
+            StorageLocation location = StorageLocation.ofS3(bucket, key, buildObjectUrl(bucket, key));
             log.info("Uploaded file to S3: bucket={}, key={}", bucket, key);
 
             return FileUploadResult.success(location, contentType, fileSize);
@@ -75,6 +97,134 @@ public class S3StorageAdapter implements IStoragePort {
         }
     }
 
+    @Override
+    public FileUploadResult upload(StorageLocation location, byte[] content, String contentType) {
+        try {
+            PutObjectRequest putRequest = PutObjectRequest.builder()
+                    .bucket(location.getBucket())
+                    .key(location.getKey())
+                    .contentType(contentType)
+                    .contentLength((long) content.length)
+                    .build();
+
+            s3Client.putObject(putRequest, RequestBody.fromBytes(content));
+
+            StorageLocation uploaded = StorageLocation.ofS3(location.getBucket(), location.getKey(),
+                    buildObjectUrl(location.getBucket(), location.getKey()));
+            log.debug("Uploaded derived file to S3: bucket={}, key={}", location.getBucket(), location.getKey());
+
+            return FileUploadResult.success(uploaded, contentType, (long) content.length);
+
+        } catch (Exception e) {
+            log.error("Failed to upload file to S3: bucket={}, key={}, error={}",
+                    location.getBucket(), location.getKey(), e.getMessage());
+            return FileUploadResult.failure("Failed to upload file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stream a large file with S3 multipart upload.
+     * Parts are read sequentially from the stream and uploaded in parallel; at most
+     * multipartConcurrency parts are buffered at any time. The upload is aborted on failure
+     * so no orphan parts are left in the bucket.
+     */
+    private void uploadMultipart(InputStream inputStream, String bucket, String key, String contentType)
+            throws IOException, InterruptedException {
+        StorageProperties.UploadLimits limits = storageProperties.getUpload();
+        int partSize = (int) Math.max(MIN_PART_SIZE, limits.getMultipartPartSize());
+        Semaphore inFlightParts = new Semaphore(Math.max(1, limits.getMultipartConcurrency()));
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        List<CompletableFuture<CompletedPart>> partFutures = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (true) {
+                inFlightParts.acquire();
+                if (partFutures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    inFlightParts.release();
+                    break;
+                }
+
+                byte[] buffer = inputStream.readNBytes(partSize);
+                if (buffer.length == 0) {
+                    inFlightParts.release();
+                    break;
+                }
+
+                int currentPart = partNumber++;
+                partFutures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return uploadPart(bucket, key, uploadId, currentPart, buffer);
+                    } finally {
+                        inFlightParts.release();
+                    }
+                }, partUploadExecutor));
+
+                if (buffer.length < partSize) {
+                    break;
+                }
+            }
+
+            List<CompletedPart> completedParts = partFutures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+
+            log.debug("Completed multipart upload: bucket={}, key={}, parts={}", bucket, key, completedParts.size());
+
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            partFutures.forEach(future -> future.cancel(true));
+            abortMultipartUpload(bucket, key, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] content) {
+        UploadPartRequest partRequest = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) content.length)
+                .build();
+
+        UploadPartResponse response = s3Client.uploadPart(partRequest, RequestBody.fromBytes(content));
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build();
+    }
+
+    private void abortMultipartUpload(String bucket, String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("Aborted multipart upload: bucket={}, key={}", bucket, key);
+        } catch (Exception e) {
+            log.error("Failed to abort multipart upload: bucket={}, key={}, error={}", bucket, key, e.getMessage());
+        }
+    }
+
     @Override
     public InputStream download(StorageLocation location) {
         try {
@@ -206,6 +356,10 @@ public class S3StorageAdapter implements IStoragePort {
                 tenantId, channelId, datePath, uuid, sanitizedFileName);
     }
 
+    private String buildObjectUrl(String bucket, String key) {
+        return String.format("%s/%s/%s", storageProperties.getS3().getEndpoint(), bucket, key);
+    }
+
     /**
      * Sanitize file name to be safe for storage
      */
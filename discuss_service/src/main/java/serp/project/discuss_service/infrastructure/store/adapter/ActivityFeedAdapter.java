@@ -7,6 +7,7 @@ package serp.project.discuss_service.infrastructure.store.adapter;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Component;
 import serp.project.discuss_service.core.domain.entity.ActivityFeedEntity;
@@ -15,8 +16,11 @@ import serp.project.discuss_service.core.port.store.IActivityFeedPort;
 import serp.project.discuss_service.infrastructure.store.mapper.ActivityFeedMapper;
 import serp.project.discuss_service.infrastructure.store.model.ActivityFeedModel;
 import serp.project.discuss_service.infrastructure.store.repository.IActivityFeedRepository;
+import serp.project.discuss_service.kernel.utils.JsonUtils;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +30,18 @@ public class ActivityFeedAdapter implements IActivityFeedPort {
 
     private final IActivityFeedRepository activityFeedRepository;
     private final ActivityFeedMapper activityFeedMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonUtils jsonUtils;
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO activity_feed (tenant_id, user_id, action_type, actor_id, entity_type, entity_id,
+                                       channel_id, message_id, title, description, is_read, metadata,
+                                       occurred_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?)
+            ON CONFLICT (user_id, message_id, action_type) WHERE message_id IS NOT NULL DO NOTHING
+            """;
 
     @Override
     public ActivityFeedEntity save(ActivityFeedEntity activity) {
@@ -41,6 +57,55 @@ public class ActivityFeedAdapter implements IActivityFeedPort {
         return activityFeedMapper.toEntityList(saved);
     }
 
+    @Override
+    public List<ActivityFeedEntity> insertAll(List<ActivityFeedEntity> activities) {
+        if (activities == null || activities.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<ActivityFeedModel> models = activityFeedMapper.toModelList(activities);
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, models, INSERT_BATCH_SIZE, (ps, model) -> {
+            ps.setLong(1, model.getTenantId());
+            ps.setLong(2, model.getUserId());
+            ps.setString(3, model.getActionType().name());
+            ps.setObject(4, model.getActorId());
+            ps.setString(5, model.getEntityType());
+            ps.setObject(6, model.getEntityId());
+            ps.setObject(7, model.getChannelId());
+            ps.setObject(8, model.getMessageId());
+            ps.setString(9, model.getTitle());
+            ps.setString(10, model.getDescription());
+            ps.setBoolean(11, Boolean.TRUE.equals(model.getIsRead()));
+            ps.setString(12, model.getMetadata() != null ? jsonUtils.toJson(model.getMetadata()) : null);
+            ps.setObject(13, model.getOccurredAt() != null ? model.getOccurredAt() : now);
+            ps.setObject(14, now);
+            ps.setObject(15, now);
+        });
+
+        List<ActivityFeedEntity> inserted = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO (-2) means the driver did not report counts; treat as inserted
+                if (count != 0) {
+                    inserted.add(activities.get(index));
+                }
+                index++;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<ActivityFeedEntity> findPage(Long userId, Long tenantId, Long beforeOccurredAt, Long beforeId, int limit) {
+        var pageable = PageRequest.of(0, limit);
+        List<ActivityFeedModel> models = beforeOccurredAt == null || beforeId == null
+                ? activityFeedRepository.findFirstPage(userId, tenantId, pageable)
+                : activityFeedRepository.findPageBefore(userId, tenantId,
+                        activityFeedMapper.toLocalDateTime(beforeOccurredAt), beforeId, pageable);
+        return activityFeedMapper.toEntityList(models);
+    }
+
     @Override
     public Optional<ActivityFeedEntity> findById(Long id) {
         return activityFeedRepository.findById(id)
@@ -81,6 +146,24 @@ public class ActivityFeedAdapter implements IActivityFeedPort {
         return activityFeedRepository.countByUserIdAndIsReadFalse(userId);
     }
 
+    @Override
+    public long countUnread(Long userId, Long tenantId) {
+        return activityFeedRepository.countByUserIdAndTenantIdAndIsReadFalse(userId, tenantId);
+    }
+
+    @Override
+    public int markAllAsRead(Long userId, Long tenantId) {
+        return activityFeedRepository.markAllAsReadForTenant(userId, tenantId, LocalDateTime.now());
+    }
+
+    @Override
+    public int markAsRead(Long userId, List<Long> activityIds) {
+        if (activityIds == null || activityIds.isEmpty()) {
+            return 0;
+        }
+        return activityFeedRepository.markAsReadForUser(userId, activityIds, LocalDateTime.now());
+    }
+
     @Override
     public int markAllAsRead(Long userId) {
         return activityFeedRepository.markAllAsRead(userId, Instant.now().toEpochMilli());
@@ -7,6 +7,7 @@ package serp.project.discuss_service.infrastructure.store.adapter;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
 import serp.project.discuss_service.core.port.store.IAttachmentPort;
 import serp.project.discuss_service.infrastructure.store.mapper.AttachmentMapper;
@@ -37,6 +38,20 @@ public class AttachmentAdapter implements IAttachmentPort {
         return attachmentMapper.toEntityList(saved);
     }
 
+    @Override
+    @Transactional
+    public boolean updateDerivatives(AttachmentEntity attachment) {
+        return attachmentRepository.updateDerivatives(
+                attachment.getId(),
+                attachment.getThumbnailUrl(),
+                attachment.getWidth(),
+                attachment.getHeight(),
+                AttachmentEntity.derivativeMetadataKey(AttachmentEntity.DERIVATIVE_THUMBNAIL),
+                attachment.getDerivativeKey(AttachmentEntity.DERIVATIVE_THUMBNAIL),
+                AttachmentEntity.derivativeMetadataKey(AttachmentEntity.DERIVATIVE_PREVIEW),
+                attachment.getDerivativeKey(AttachmentEntity.DERIVATIVE_PREVIEW)) > 0;
+    }
+
     @Override
     public Optional<AttachmentEntity> findById(Long id) {
         return attachmentRepository.findById(id)
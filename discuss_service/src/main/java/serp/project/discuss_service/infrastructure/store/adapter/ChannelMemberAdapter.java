@@ -9,12 +9,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
 import serp.project.discuss_service.core.domain.enums.MemberStatus;
+import serp.project.discuss_service.core.domain.vo.ChannelInboxEntry;
 import serp.project.discuss_service.core.port.store.IChannelMemberPort;
 import serp.project.discuss_service.infrastructure.store.mapper.ChannelMemberMapper;
+import serp.project.discuss_service.infrastructure.store.model.ChannelInboxProjection;
 import serp.project.discuss_service.infrastructure.store.model.ChannelMemberModel;
 import serp.project.discuss_service.infrastructure.store.repository.IChannelMemberRepository;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
@@ -96,4 +101,34 @@ public class ChannelMemberAdapter implements IChannelMemberPort {
     public void deleteByChannelId(Long channelId) {
         channelMemberRepository.deleteByChannelId(channelId);
     }
+
+    @Override
+    public List<ChannelInboxEntry> findInboxPage(Long userId, Long tenantId,
+                                                 Long beforeActivityAt, Long beforeChannelId, int limit) {
+        List<ChannelInboxProjection> rows = beforeActivityAt == null || beforeChannelId == null
+                ? channelMemberRepository.findInboxFirstPage(userId, tenantId, limit)
+                : channelMemberRepository.findInboxPageBefore(userId, tenantId,
+                        channelMemberMapper.toLocalDateTime(beforeActivityAt), beforeChannelId, limit);
+        return rows.stream()
+                .map(channelMemberMapper::toInboxEntry)
+                .toList();
+    }
+
+    @Override
+    public List<ChannelInboxEntry> findInboxByChannelIds(Long userId, Long tenantId, Collection<Long> channelIds) {
+        if (channelIds == null || channelIds.isEmpty()) {
+            return List.of();
+        }
+        return channelMemberRepository.findInboxByChannelIds(userId, tenantId, channelIds).stream()
+                .map(channelMemberMapper::toInboxEntry)
+                .toList();
+    }
+
+    @Override
+    public Map<Long, Long> findInboxActivity(Long userId, Long tenantId) {
+        Map<Long, Long> activity = new LinkedHashMap<>();
+        channelMemberRepository.findInboxActivity(userId, tenantId)
+                .forEach(row -> activity.put(row.getChannelId(), channelMemberMapper.activityToLong(row)));
+        return activity;
+    }
 }
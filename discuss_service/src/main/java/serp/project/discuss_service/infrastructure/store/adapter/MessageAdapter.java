@@ -9,25 +9,105 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.port.store.IMessagePartitionPort;
 import serp.project.discuss_service.core.port.store.IMessagePort;
 import serp.project.discuss_service.infrastructure.store.mapper.MessageMapper;
 import serp.project.discuss_service.infrastructure.store.model.MessageModel;
 import serp.project.discuss_service.infrastructure.store.repository.IMessageRepository;
+import serp.project.discuss_service.kernel.property.MessageArchiveProperties;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+/**
+ * Recent messages live in the monthly partitioned messages table, older ones in messages_archive.
+ * Reads fall through to the archive when the live table cannot fill the request.
+ */
 @Component
 @RequiredArgsConstructor
 public class MessageAdapter implements IMessagePort {
 
     private final IMessageRepository messageRepository;
     private final MessageMapper messageMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final MessageArchiveProperties archiveProperties;
+    private final IMessagePartitionPort partitionPort;
+
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    // thread_count is not updatable through JPA, so this is the only writer after insert
+    private static final String INCREMENT_THREAD_COUNT_SQL =
+            "UPDATE messages SET thread_count = GREATEST(thread_count + ?, 0) WHERE id = ?";
+
+    private static final String INCREMENT_ARCHIVED_THREAD_COUNT_SQL =
+            "UPDATE messages_archive SET thread_count = GREATEST(thread_count + ?, 0) WHERE id = ?";
+
+    private static final String FIND_SETTLED_THREAD_PARENTS_SQL = """
+            SELECT parent_id FROM messages
+            WHERE parent_id IS NOT NULL AND (created_at >= ? OR deleted_at >= ?)
+            GROUP BY parent_id
+            HAVING MAX(GREATEST(created_at, COALESCE(deleted_at, created_at))) < ?
+            LIMIT ?
+            """;
+
+    // Recounted and compared in one statement, so a reply landing after the pending deltas were read
+    // makes the parent unsettled instead of being counted twice
+    private static final String RECONCILE_THREAD_COUNT_SQL = """
+            UPDATE %s target SET thread_count = GREATEST(replies.live - ?, 0)
+            FROM (
+                SELECT COUNT(*) FILTER (WHERE NOT is_deleted) AS live,
+                       MAX(GREATEST(created_at, COALESCE(deleted_at, created_at))) AS last_activity
+                FROM (
+                    SELECT is_deleted, created_at, deleted_at FROM messages WHERE parent_id = ?
+                    UNION ALL
+                    SELECT is_deleted, created_at, deleted_at FROM messages_archive WHERE parent_id = ?
+                ) all_replies
+            ) replies
+            WHERE target.id = ?
+              AND (replies.last_activity IS NULL OR replies.last_activity < ?)
+              AND target.thread_count <> GREATEST(replies.live - ?, 0)
+            """;
+
+    private static final String MESSAGE_COLUMNS =
+            "id, channel_id, sender_id, tenant_id, content, message_type, mentions, parent_id, thread_count, " +
+            "is_edited, edited_at, is_deleted, deleted_at, deleted_by, reactions, read_by, metadata, " +
+            "created_at, updated_at";
+
+    // Archived rows are read-only; an update first moves the row back into the live table
+    private static final String RESTORE_ARCHIVED_SQL =
+            "WITH restored AS (DELETE FROM messages_archive WHERE id = ? RETURNING " + MESSAGE_COLUMNS + ") " +
+            "INSERT INTO messages (" + MESSAGE_COLUMNS + ") SELECT * FROM restored";
+
+    private static final Comparator<MessageEntity> NEWEST_FIRST = Comparator
+            .comparing(MessageEntity::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(MessageEntity::getId, Comparator.reverseOrder());
+
+    private static final Comparator<MessageEntity> HIGHEST_ID_FIRST =
+            Comparator.comparing(MessageEntity::getId, Comparator.reverseOrder());
 
     @Override
     public MessageEntity save(MessageEntity message) {
+        if (mayBeArchived(message)) {
+            // The month's partition was dropped when it was archived; it is created in its own transaction,
+            // so the lock it takes on messages is not held until this update commits
+            partitionPort.createPartition(YearMonth.from(
+                    Instant.ofEpochMilli(message.getCreatedAt()).atZone(ZoneId.systemDefault())));
+            jdbcTemplate.update(RESTORE_ARCHIVED_SQL, message.getId());
+        }
         MessageModel model = messageMapper.toModel(message);
         MessageModel saved = messageRepository.save(model);
         return messageMapper.toEntity(saved);
@@ -36,6 +116,7 @@ public class MessageAdapter implements IMessagePort {
     @Override
     public Optional<MessageEntity> findById(Long id) {
         return messageRepository.findById(id)
+                .or(() -> messageRepository.findArchivedById(id))
                 .map(messageMapper::toEntity);
     }
 
@@ -52,14 +133,112 @@ public class MessageAdapter implements IMessagePort {
     @Override
     public List<MessageEntity> findBeforeId(Long channelId, Long beforeId, int limit) {
         var pageable = PageRequest.of(0, limit);
-        return messageMapper.toEntityList(
+        List<MessageEntity> live = messageMapper.toEntityList(
                 messageRepository.findMessagesBeforeId(channelId, beforeId, pageable));
+        if (live.size() >= limit) {
+            return live;
+        }
+        // Deep scroll-back: the live table ran out, fill the page from the archive
+        List<MessageEntity> archived = messageMapper.toEntityList(
+                messageRepository.findArchivedBeforeId(channelId, beforeId, PageRequest.of(0, limit - live.size())));
+        return merge(live, archived, NEWEST_FIRST, limit);
     }
 
     @Override
-    public List<MessageEntity> findReplies(Long parentId) {
-        return messageMapper.toEntityList(
-                messageRepository.findByParentIdAndIsDeletedFalseOrderByCreatedAtAsc(parentId));
+    public List<MessageEntity> findByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<MessageEntity> messages = new ArrayList<>(
+                messageMapper.toEntityList(messageRepository.findByIdInAndIsDeletedFalse(ids)));
+        Set<Long> missing = new HashSet<>(ids);
+        messages.forEach(message -> missing.remove(message.getId()));
+        if (!missing.isEmpty()) {
+            messages.addAll(messageMapper.toEntityList(messageRepository.findArchivedByIds(missing)));
+        }
+        return messages;
+    }
+
+    @Override
+    public List<MessageEntity> findRepliesBefore(Long parentId, Long beforeId, int limit) {
+        var pageable = PageRequest.of(0, limit);
+        List<MessageModel> models = beforeId == null
+                ? messageRepository.findLatestReplies(parentId, pageable)
+                : messageRepository.findRepliesBeforeId(parentId, beforeId, pageable);
+        List<MessageEntity> live = messageMapper.toEntityList(models);
+        if (live.size() >= limit) {
+            return live;
+        }
+        List<MessageEntity> archived = messageMapper.toEntityList(messageRepository.findArchivedRepliesBeforeId(
+                parentId, beforeId != null ? beforeId : Long.MAX_VALUE, PageRequest.of(0, limit - live.size())));
+        return merge(live, archived, HIGHEST_ID_FIRST, limit);
+    }
+
+    @Override
+    @Transactional
+    public void incrementThreadCounts(Map<Long, Long> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> updates = new ArrayList<>(deltas.entrySet());
+        int[][] counts = jdbcTemplate.batchUpdate(INCREMENT_THREAD_COUNT_SQL, updates, UPDATE_BATCH_SIZE,
+                (ps, update) -> {
+                    ps.setLong(1, update.getValue());
+                    ps.setLong(2, update.getKey());
+                });
+
+        // Parents that were not in the live table have been archived
+        List<Map.Entry<Long, Long>> archivedParents = new ArrayList<>();
+        for (int batch = 0; batch < counts.length; batch++) {
+            for (int i = 0; i < counts[batch].length; i++) {
+                if (counts[batch][i] == 0) {
+                    archivedParents.add(updates.get(batch * UPDATE_BATCH_SIZE + i));
+                }
+            }
+        }
+        if (!archivedParents.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT_ARCHIVED_THREAD_COUNT_SQL, archivedParents, UPDATE_BATCH_SIZE,
+                    (ps, update) -> {
+                        ps.setLong(1, update.getValue());
+                        ps.setLong(2, update.getKey());
+                    });
+        }
+    }
+
+    @Override
+    public List<Long> findSettledThreadParents(long activeSince, long settledBefore, int limit) {
+        Timestamp since = new Timestamp(activeSince);
+        return jdbcTemplate.queryForList(FIND_SETTLED_THREAD_PARENTS_SQL, Long.class,
+                since, since, new Timestamp(settledBefore), limit);
+    }
+
+    @Override
+    @Transactional
+    public int reconcileThreadCounts(Map<Long, Long> pendingDeltas, long settledBefore) {
+        if (pendingDeltas == null || pendingDeltas.isEmpty()) {
+            return 0;
+        }
+        Timestamp settled = new Timestamp(settledBefore);
+        List<Map.Entry<Long, Long>> parents = new ArrayList<>(pendingDeltas.entrySet());
+        int corrected = 0;
+        // An archived parent matches no live row and the other way round, so both tables are tried
+        for (String table : List.of("messages", "messages_archive")) {
+            int[][] counts = jdbcTemplate.batchUpdate(RECONCILE_THREAD_COUNT_SQL.formatted(table), parents,
+                    UPDATE_BATCH_SIZE, (ps, parent) -> {
+                        ps.setLong(1, parent.getValue());
+                        ps.setLong(2, parent.getKey());
+                        ps.setLong(3, parent.getKey());
+                        ps.setLong(4, parent.getKey());
+                        ps.setTimestamp(5, settled);
+                        ps.setLong(6, parent.getValue());
+                    });
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    corrected += Math.max(count, 0);
+                }
+            }
+        }
+        return corrected;
     }
 
     @Override
@@ -97,4 +276,29 @@ public class MessageAdapter implements IMessagePort {
     public long countByChannelId(Long channelId) {
         return messageRepository.countByChannelIdAndIsDeletedFalse(channelId);
     }
+
+    // ==================== PRIVATE HELPER METHODS ====================
+
+    /**
+     * Whether an existing message is old enough that the maintenance job may have archived it
+     */
+    private boolean mayBeArchived(MessageEntity message) {
+        if (message.getId() == null || message.getCreatedAt() == null) {
+            return false;
+        }
+        long firstRetained = archiveProperties.firstRetainedMonth().atDay(1).atStartOfDay()
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return message.getCreatedAt() < firstRetained;
+    }
+
+    private List<MessageEntity> merge(List<MessageEntity> live, List<MessageEntity> archived,
+                                      Comparator<MessageEntity> order, int limit) {
+        if (archived.isEmpty()) {
+            return live;
+        }
+        List<MessageEntity> merged = new ArrayList<>(live);
+        merged.addAll(archived);
+        merged.sort(order);
+        return merged.subList(0, Math.min(limit, merged.size()));
+    }
 }
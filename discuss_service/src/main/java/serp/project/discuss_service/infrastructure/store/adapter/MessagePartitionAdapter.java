@@ -0,0 +1,128 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Message partition maintenance adapter
+ */
+
+package serp.project.discuss_service.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.discuss_service.core.port.store.IMessagePartitionPort;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Manages the monthly partitions of messages. Partitions are named messages_pYYYYMM.
+ * Archiving runs outside a transaction: each step commits on its own, so no step holds a lock on
+ * messages while rows are copied, and DETACH PARTITION ... CONCURRENTLY cannot run in a transaction
+ * block at all.
+ */
+@Component
+@RequiredArgsConstructor
+public class MessagePartitionAdapter implements IMessagePartitionPort {
+
+    private static final String PARTITION_PREFIX = "messages_p";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String CREATE_PARTITION_SQL = "SELECT discuss_create_message_partition(?)";
+
+    // Also lists partitions a failed archive run left detached, so the next run finishes them
+    private static final String FIND_PARTITIONS_SQL =
+            "SELECT tablename FROM pg_tables " +
+            "WHERE schemaname = current_schema() AND tablename LIKE 'messages\\_p%' ORDER BY tablename";
+
+    private static final String DETACH_STATE_SQL =
+            "SELECT i.inhdetachpending FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'messages' AND c.relname = ?";
+
+    // Rows copied by an earlier run may have been updated since; rewrite only those
+    private static final String COPY_TO_ARCHIVE_SQL =
+            "INSERT INTO messages_archive (id, channel_id, sender_id, tenant_id, content, message_type, mentions, " +
+            "parent_id, thread_count, is_edited, edited_at, is_deleted, deleted_at, deleted_by, reactions, read_by, " +
+            "metadata, created_at, updated_at) " +
+            "SELECT id, channel_id, sender_id, tenant_id, content, message_type, mentions, parent_id, " +
+            "thread_count, is_edited, edited_at, is_deleted, deleted_at, deleted_by, reactions, read_by, " +
+            "metadata, created_at, updated_at FROM \"%s\" " +
+            "ON CONFLICT (id) DO UPDATE SET content = EXCLUDED.content, mentions = EXCLUDED.mentions, " +
+            "thread_count = EXCLUDED.thread_count, is_edited = EXCLUDED.is_edited, edited_at = EXCLUDED.edited_at, " +
+            "is_deleted = EXCLUDED.is_deleted, deleted_at = EXCLUDED.deleted_at, deleted_by = EXCLUDED.deleted_by, " +
+            "reactions = EXCLUDED.reactions, read_by = EXCLUDED.read_by, metadata = EXCLUDED.metadata, " +
+            "updated_at = EXCLUDED.updated_at, archived_at = CURRENT_TIMESTAMP " +
+            "WHERE (messages_archive.content, messages_archive.mentions, messages_archive.thread_count, " +
+            "messages_archive.is_edited, messages_archive.edited_at, messages_archive.is_deleted, " +
+            "messages_archive.deleted_at, messages_archive.deleted_by, messages_archive.reactions, " +
+            "messages_archive.read_by, messages_archive.metadata, messages_archive.updated_at) " +
+            "IS DISTINCT FROM (EXCLUDED.content, EXCLUDED.mentions, EXCLUDED.thread_count, EXCLUDED.is_edited, " +
+            "EXCLUDED.edited_at, EXCLUDED.is_deleted, EXCLUDED.deleted_at, EXCLUDED.deleted_by, " +
+            "EXCLUDED.reactions, EXCLUDED.read_by, EXCLUDED.metadata, EXCLUDED.updated_at)";
+
+    private static final String DETACH_CONCURRENTLY_SQL = "ALTER TABLE messages DETACH PARTITION \"%s\" CONCURRENTLY";
+
+    // Completes a concurrent detach that was interrupted
+    private static final String DETACH_FINALIZE_SQL = "ALTER TABLE messages DETACH PARTITION \"%s\" FINALIZE";
+
+    private static final String DROP_PARTITION_SQL = "DROP TABLE \"%s\"";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.queryForObject(CREATE_PARTITION_SQL, String.class, month.atDay(1));
+    }
+
+    @Override
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+                .map(this::toMonth)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long archivePartition(YearMonth month) {
+        String partition = partitionName(month);
+
+        // 1. Copy while the partition is still attached; readers and writers of messages are not blocked
+        long moved = jdbcTemplate.update(withPartition(COPY_TO_ARCHIVE_SQL, partition));
+
+        // 2. Detach, waiting out queries that still see the partition instead of locking them out
+        List<Boolean> detachPending = jdbcTemplate.queryForList(DETACH_STATE_SQL, Boolean.class, partition);
+        if (!detachPending.isEmpty()) {
+            String detachSql = Boolean.TRUE.equals(detachPending.get(0)) ? DETACH_FINALIZE_SQL : DETACH_CONCURRENTLY_SQL;
+            jdbcTemplate.execute(withPartition(detachSql, partition));
+        }
+
+        // 3. Pick up rows written between the copy and the detach, then drop
+        moved += jdbcTemplate.update(withPartition(COPY_TO_ARCHIVE_SQL, partition));
+        jdbcTemplate.execute(withPartition(DROP_PARTITION_SQL, partition));
+        return moved;
+    }
+
+    private String withPartition(String sql, String partition) {
+        // Partition names are built from a YearMonth, never from input
+        return String.format(sql, partition);
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_MONTH);
+    }
+
+    private YearMonth toMonth(String partitionName) {
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_MONTH);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -24,4 +24,8 @@ public abstract class BaseMapper {
         }
         return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
     }
+
+    public LocalDateTime toLocalDateTime(Long timestamp) {
+        return longToLocalDateTime(timestamp);
+    }
 }
@@ -6,9 +6,19 @@
 package serp.project.discuss_service.infrastructure.store.mapper;
 
 import org.springframework.stereotype.Component;
+import serp.project.discuss_service.core.domain.entity.ChannelEntity;
 import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.domain.enums.ChannelType;
+import serp.project.discuss_service.core.domain.enums.MemberRole;
+import serp.project.discuss_service.core.domain.enums.MemberStatus;
+import serp.project.discuss_service.core.domain.enums.MessageType;
+import serp.project.discuss_service.core.domain.enums.NotificationLevel;
+import serp.project.discuss_service.core.domain.vo.ChannelInboxEntry;
+import serp.project.discuss_service.infrastructure.store.model.ChannelInboxProjection;
 import serp.project.discuss_service.infrastructure.store.model.ChannelMemberModel;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -84,4 +94,68 @@ public class ChannelMemberMapper extends BaseMapper {
                 .map(this::toModel)
                 .collect(Collectors.toList());
     }
+
+    public ChannelInboxEntry toInboxEntry(ChannelInboxProjection row) {
+        if (row == null) {
+            return null;
+        }
+
+        ChannelEntity channel = ChannelEntity.builder()
+                .id(row.getChannelId())
+                .tenantId(row.getTenantId())
+                .createdBy(row.getCreatedBy())
+                .name(row.getName())
+                .description(row.getDescription())
+                .type(row.getType() != null ? ChannelType.valueOf(row.getType()) : null)
+                .entityType(row.getEntityType())
+                .entityId(row.getEntityId())
+                .isPrivate(row.getIsPrivate())
+                .isArchived(row.getIsArchived())
+                .memberCount(row.getMemberCount())
+                .messageCount(row.getMessageCount())
+                .lastMessageAt(localDateTimeToLong(row.getLastMessageAt()))
+                .createdAt(localDateTimeToLong(row.getChannelCreatedAt()))
+                .updatedAt(localDateTimeToLong(row.getChannelUpdatedAt()))
+                .build();
+
+        ChannelMemberEntity membership = ChannelMemberEntity.builder()
+                .id(row.getMemberId())
+                .channelId(row.getChannelId())
+                .userId(row.getUserId())
+                .tenantId(row.getTenantId())
+                .role(row.getMemberRole() != null ? MemberRole.valueOf(row.getMemberRole()) : MemberRole.MEMBER)
+                .status(MemberStatus.ACTIVE)
+                .unreadCount(row.getUnreadCount() != null ? row.getUnreadCount() : 0)
+                .lastReadMsgId(row.getLastReadMsgId())
+                .isMuted(Boolean.TRUE.equals(row.getIsMuted()))
+                .isPinned(Boolean.TRUE.equals(row.getIsPinned()))
+                .notificationLevel(row.getNotificationLevel() != null
+                        ? NotificationLevel.valueOf(row.getNotificationLevel()) : NotificationLevel.ALL)
+                .build();
+
+        MessageEntity lastMessage = null;
+        if (row.getLastMessageId() != null) {
+            lastMessage = MessageEntity.builder()
+                    .id(row.getLastMessageId())
+                    .channelId(row.getChannelId())
+                    .senderId(row.getLastMessageSenderId())
+                    .tenantId(row.getTenantId())
+                    .content(row.getLastMessageContent())
+                    .messageType(row.getLastMessageType() != null
+                            ? MessageType.valueOf(row.getLastMessageType()) : MessageType.STANDARD)
+                    .createdAt(localDateTimeToLong(row.getLastMessageCreatedAt()))
+                    .build();
+        }
+
+        return ChannelInboxEntry.builder()
+                .channel(channel)
+                .membership(membership)
+                .lastMessage(lastMessage)
+                .lastActivityAt(localDateTimeToLong(row.getLastActivityAt()))
+                .build();
+    }
+
+    public Long activityToLong(ChannelInboxProjection.Activity activity) {
+        return localDateTimeToLong(activity.getLastActivityAt());
+    }
 }
@@ -20,7 +20,8 @@ import java.util.Map;
 
 @Entity
 @Table(name = "activity_feed", indexes = {
-    @Index(name = "idx_activity_feed_user", columnList = "user_id, is_read, occurred_at DESC"),
+    @Index(name = "idx_activity_feed_user_cursor", columnList = "user_id, tenant_id, occurred_at DESC, id DESC"),
+    @Index(name = "idx_activity_feed_unread", columnList = "user_id, is_read, occurred_at DESC"),
     @Index(name = "idx_activity_feed_entity", columnList = "entity_type, entity_id")
 })
 @NoArgsConstructor
@@ -0,0 +1,82 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Projection for a channel inbox row
+ */
+
+package serp.project.discuss_service.infrastructure.store.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the inbox query: channel, the user's membership flags and the latest message preview.
+ */
+public interface ChannelInboxProjection {
+
+    Long getChannelId();
+
+    Long getTenantId();
+
+    Long getCreatedBy();
+
+    String getName();
+
+    String getDescription();
+
+    String getType();
+
+    String getEntityType();
+
+    Long getEntityId();
+
+    Boolean getIsPrivate();
+
+    Boolean getIsArchived();
+
+    Integer getMemberCount();
+
+    Integer getMessageCount();
+
+    LocalDateTime getLastMessageAt();
+
+    LocalDateTime getChannelCreatedAt();
+
+    LocalDateTime getChannelUpdatedAt();
+
+    Long getMemberId();
+
+    Long getUserId();
+
+    String getMemberRole();
+
+    Integer getUnreadCount();
+
+    Long getLastReadMsgId();
+
+    Boolean getIsMuted();
+
+    Boolean getIsPinned();
+
+    String getNotificationLevel();
+
+    LocalDateTime getLastActivityAt();
+
+    Long getLastMessageId();
+
+    Long getLastMessageSenderId();
+
+    String getLastMessageContent();
+
+    String getLastMessageType();
+
+    LocalDateTime getLastMessageCreatedAt();
+
+    /**
+     * Channel id with its last activity, used to rebuild the per-user inbox sorted set.
+     */
+    interface Activity {
+
+        Long getChannelId();
+
+        LocalDateTime getLastActivityAt();
+    }
+}
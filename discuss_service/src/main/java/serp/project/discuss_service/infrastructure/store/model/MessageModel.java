@@ -55,7 +55,8 @@ public class MessageModel extends BaseModel {
     @Column(name = "parent_id")
     private Long parentId;
 
-    @Column(name = "thread_count", nullable = false)
+    // Only changed by atomic increments in MessageAdapter so entity saves cannot overwrite flushed counts
+    @Column(name = "thread_count", nullable = false, updatable = false)
     private Integer threadCount = 0;
 
     @Column(name = "is_edited", nullable = false)
@@ -14,6 +14,7 @@ import org.springframework.stereotype.Repository;
 import serp.project.discuss_service.core.domain.enums.ActionType;
 import serp.project.discuss_service.infrastructure.store.model.ActivityFeedModel;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -29,6 +30,21 @@ public interface IActivityFeedRepository extends IBaseRepository<ActivityFeedMod
 
     long countByUserIdAndIsReadFalse(Long userId);
 
+    long countByUserIdAndTenantIdAndIsReadFalse(Long userId, Long tenantId);
+
+    @Query("SELECT a FROM ActivityFeedModel a WHERE a.userId = :userId AND a.tenantId = :tenantId " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityFeedModel> findFirstPage(@Param("userId") Long userId, @Param("tenantId") Long tenantId,
+                                          Pageable pageable);
+
+    @Query("SELECT a FROM ActivityFeedModel a WHERE a.userId = :userId AND a.tenantId = :tenantId " +
+           "AND (a.occurredAt < :beforeOccurredAt OR (a.occurredAt = :beforeOccurredAt AND a.id < :beforeId)) " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityFeedModel> findPageBefore(@Param("userId") Long userId, @Param("tenantId") Long tenantId,
+                                           @Param("beforeOccurredAt") LocalDateTime beforeOccurredAt,
+                                           @Param("beforeId") Long beforeId,
+                                           Pageable pageable);
+
     @Modifying
     @Query("UPDATE ActivityFeedModel a SET a.isRead = true, a.readAt = :readAt WHERE a.userId = :userId AND a.isRead = false")
     int markAllAsRead(@Param("userId") Long userId, @Param("readAt") Long readAt);
@@ -37,6 +53,18 @@ public interface IActivityFeedRepository extends IBaseRepository<ActivityFeedMod
     @Query("UPDATE ActivityFeedModel a SET a.isRead = true, a.readAt = :readAt WHERE a.id IN :ids")
     int markAsRead(@Param("ids") List<Long> ids, @Param("readAt") Long readAt);
 
+    @Modifying
+    @Query("UPDATE ActivityFeedModel a SET a.isRead = true, a.readAt = :readAt " +
+           "WHERE a.userId = :userId AND a.tenantId = :tenantId AND a.isRead = false")
+    int markAllAsReadForTenant(@Param("userId") Long userId, @Param("tenantId") Long tenantId,
+                               @Param("readAt") LocalDateTime readAt);
+
+    @Modifying
+    @Query("UPDATE ActivityFeedModel a SET a.isRead = true, a.readAt = :readAt " +
+           "WHERE a.userId = :userId AND a.id IN :ids AND a.isRead = false")
+    int markAsReadForUser(@Param("userId") Long userId, @Param("ids") List<Long> ids,
+                          @Param("readAt") LocalDateTime readAt);
+
     @Modifying
     @Query("DELETE FROM ActivityFeedModel a WHERE a.occurredAt < :before")
     int deleteOldActivities(@Param("before") Long before);
@@ -5,6 +5,9 @@
 
 package serp.project.discuss_service.infrastructure.store.repository;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import serp.project.discuss_service.infrastructure.store.model.AttachmentModel;
 
@@ -22,4 +25,20 @@ public interface IAttachmentRepository extends IBaseRepository<AttachmentModel>
     long countByChannelId(Long channelId);
 
     void deleteByMessageId(Long messageId);
+
+    // Merges the derivative keys into metadata instead of replacing it
+    @Modifying
+    @Query(value = "UPDATE attachments SET thumbnail_url = :thumbnailUrl, width = :width, height = :height, " +
+            "metadata = COALESCE(metadata, CAST('{}' AS jsonb)) || jsonb_build_object(" +
+            "CAST(:thumbnailField AS TEXT), CAST(:thumbnailKey AS TEXT), " +
+            "CAST(:previewField AS TEXT), CAST(:previewKey AS TEXT)), " +
+            "updated_at = CURRENT_TIMESTAMP WHERE id = :id", nativeQuery = true)
+    int updateDerivatives(@Param("id") Long id,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("width") Integer width,
+                          @Param("height") Integer height,
+                          @Param("thumbnailField") String thumbnailField,
+                          @Param("thumbnailKey") String thumbnailKey,
+                          @Param("previewField") String previewField,
+                          @Param("previewKey") String previewKey);
 }
@@ -10,14 +10,36 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import serp.project.discuss_service.core.domain.enums.MemberStatus;
+import serp.project.discuss_service.infrastructure.store.model.ChannelInboxProjection;
 import serp.project.discuss_service.infrastructure.store.model.ChannelMemberModel;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface IChannelMemberRepository extends IBaseRepository<ChannelMemberModel> {
 
+    String INBOX_SELECT = "SELECT c.id AS \"channelId\", c.tenant_id AS \"tenantId\", c.created_by AS \"createdBy\", " +
+            "c.name AS \"name\", c.description AS \"description\", c.type AS \"type\", " +
+            "c.entity_type AS \"entityType\", c.entity_id AS \"entityId\", c.is_private AS \"isPrivate\", " +
+            "c.is_archived AS \"isArchived\", c.member_count AS \"memberCount\", c.message_count AS \"messageCount\", " +
+            "c.last_message_at AS \"lastMessageAt\", c.created_at AS \"channelCreatedAt\", c.updated_at AS \"channelUpdatedAt\", " +
+            "cm.id AS \"memberId\", cm.user_id AS \"userId\", cm.role AS \"memberRole\", cm.unread_count AS \"unreadCount\", " +
+            "cm.last_read_msg_id AS \"lastReadMsgId\", cm.is_muted AS \"isMuted\", cm.is_pinned AS \"isPinned\", " +
+            "cm.notification_level AS \"notificationLevel\", " +
+            "COALESCE(c.last_message_at, c.created_at) AS \"lastActivityAt\", " +
+            "lm.id AS \"lastMessageId\", lm.sender_id AS \"lastMessageSenderId\", lm.content AS \"lastMessageContent\", " +
+            "lm.message_type AS \"lastMessageType\", lm.created_at AS \"lastMessageCreatedAt\" " +
+            "FROM channel_members cm " +
+            "JOIN channels c ON c.id = cm.channel_id " +
+            "LEFT JOIN LATERAL (SELECT m.id, m.sender_id, m.content, m.message_type, m.created_at FROM messages m " +
+            "    WHERE m.channel_id = c.id AND m.is_deleted = false ORDER BY m.created_at DESC LIMIT 1) lm ON true " +
+            "WHERE cm.user_id = :userId AND cm.tenant_id = :tenantId AND cm.status = 'ACTIVE' AND c.is_archived = false ";
+
+    String INBOX_ORDER = "ORDER BY COALESCE(c.last_message_at, c.created_at) DESC, c.id DESC LIMIT :limit";
+
     Optional<ChannelMemberModel> findByChannelIdAndUserId(Long channelId, Long userId);
 
     List<ChannelMemberModel> findByChannelIdAndStatus(Long channelId, MemberStatus status);
@@ -47,4 +69,33 @@ public interface IChannelMemberRepository extends IBaseRepository<ChannelMemberM
     int markAsRead(@Param("channelId") Long channelId, @Param("userId") Long userId, @Param("messageId") Long messageId);
 
     void deleteByChannelId(Long channelId);
+
+    // Inbox (keyset paged by last activity, newest first)
+
+    @Query(value = INBOX_SELECT + INBOX_ORDER, nativeQuery = true)
+    List<ChannelInboxProjection> findInboxFirstPage(@Param("userId") Long userId,
+                                                    @Param("tenantId") Long tenantId,
+                                                    @Param("limit") int limit);
+
+    @Query(value = INBOX_SELECT +
+                   "AND (COALESCE(c.last_message_at, c.created_at), c.id) < (:beforeActivityAt, :beforeChannelId) " +
+                   INBOX_ORDER, nativeQuery = true)
+    List<ChannelInboxProjection> findInboxPageBefore(@Param("userId") Long userId,
+                                                     @Param("tenantId") Long tenantId,
+                                                     @Param("beforeActivityAt") LocalDateTime beforeActivityAt,
+                                                     @Param("beforeChannelId") Long beforeChannelId,
+                                                     @Param("limit") int limit);
+
+    @Query(value = INBOX_SELECT + "AND cm.channel_id IN (:channelIds)", nativeQuery = true)
+    List<ChannelInboxProjection> findInboxByChannelIds(@Param("userId") Long userId,
+                                                       @Param("tenantId") Long tenantId,
+                                                       @Param("channelIds") Collection<Long> channelIds);
+
+    @Query(value = "SELECT cm.channel_id AS \"channelId\", " +
+                   "COALESCE(c.last_message_at, c.created_at) AS \"lastActivityAt\" " +
+                   "FROM channel_members cm JOIN channels c ON c.id = cm.channel_id " +
+                   "WHERE cm.user_id = :userId AND cm.tenant_id = :tenantId " +
+                   "AND cm.status = 'ACTIVE' AND c.is_archived = false", nativeQuery = true)
+    List<ChannelInboxProjection.Activity> findInboxActivity(@Param("userId") Long userId,
+                                                           @Param("tenantId") Long tenantId);
 }
@@ -13,11 +13,16 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import serp.project.discuss_service.infrastructure.store.model.MessageModel;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface IMessageRepository extends IBaseRepository<MessageModel> {
 
+    // messages_archive has the columns of messages except the generated search vector
+    String ARCHIVE_SELECT = "SELECT a.*, CAST(NULL AS TEXT) AS search_vector FROM messages_archive a ";
+
     Page<MessageModel> findByChannelIdAndIsDeletedFalseOrderByCreatedAtDesc(Long channelId, Pageable pageable);
 
     @Query("SELECT m FROM MessageModel m WHERE m.channelId = :channelId AND m.isDeleted = false " +
@@ -26,12 +31,24 @@ public interface IMessageRepository extends IBaseRepository<MessageModel> {
                                             @Param("beforeId") Long beforeId,
                                             Pageable pageable);
 
-    List<MessageModel> findByParentIdAndIsDeletedFalseOrderByCreatedAtAsc(Long parentId);
+    List<MessageModel> findByIdInAndIsDeletedFalse(Collection<Long> ids);
+
+    @Query("SELECT m FROM MessageModel m WHERE m.parentId = :parentId AND m.isDeleted = false " +
+           "ORDER BY m.id DESC")
+    List<MessageModel> findLatestReplies(@Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("SELECT m FROM MessageModel m WHERE m.parentId = :parentId AND m.isDeleted = false " +
+           "AND m.id < :beforeId ORDER BY m.id DESC")
+    List<MessageModel> findRepliesBeforeId(@Param("parentId") Long parentId,
+                                           @Param("beforeId") Long beforeId,
+                                           Pageable pageable);
 
     List<MessageModel> findBySenderIdAndIsDeletedFalse(Long senderId, Pageable pageable);
 
-    @Query(value = "SELECT * FROM messages m WHERE :userId = ANY(m.mentions) " +
-                   "AND m.is_deleted = false ORDER BY m.created_at DESC", nativeQuery = true)
+    // Served from the recipient's activity feed rows instead of scanning messages.mentions
+    @Query(value = "SELECT m.* FROM activity_feed a JOIN messages m ON m.id = a.message_id " +
+                   "WHERE a.user_id = :userId AND a.action_type = 'MENTION_RECEIVED' " +
+                   "AND m.is_deleted = false ORDER BY a.occurred_at DESC, a.id DESC", nativeQuery = true)
     List<MessageModel> findByMentioningUser(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT COUNT(m) FROM MessageModel m WHERE m.channelId = :channelId " +
@@ -52,4 +69,24 @@ public interface IMessageRepository extends IBaseRepository<MessageModel> {
     int softDeleteByChannelId(@Param("channelId") Long channelId, @Param("deletedAt") Long deletedAt);
 
     long countByChannelIdAndIsDeletedFalse(Long channelId);
+
+    // ==================== ARCHIVE ====================
+
+    @Query(value = ARCHIVE_SELECT + "WHERE a.id = :id", nativeQuery = true)
+    Optional<MessageModel> findArchivedById(@Param("id") Long id);
+
+    @Query(value = ARCHIVE_SELECT + "WHERE a.id IN (:ids) AND a.is_deleted = false", nativeQuery = true)
+    List<MessageModel> findArchivedByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = ARCHIVE_SELECT + "WHERE a.channel_id = :channelId AND a.is_deleted = false " +
+                   "AND a.id < :beforeId ORDER BY a.id DESC", nativeQuery = true)
+    List<MessageModel> findArchivedBeforeId(@Param("channelId") Long channelId,
+                                            @Param("beforeId") Long beforeId,
+                                            Pageable pageable);
+
+    @Query(value = ARCHIVE_SELECT + "WHERE a.parent_id = :parentId AND a.is_deleted = false " +
+                   "AND a.id < :beforeId ORDER BY a.id DESC", nativeQuery = true)
+    List<MessageModel> findArchivedRepliesBeforeId(@Param("parentId") Long parentId,
+                                                   @Param("beforeId") Long beforeId,
+                                                   Pageable pageable);
 }
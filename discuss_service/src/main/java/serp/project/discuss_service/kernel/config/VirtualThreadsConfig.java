@@ -11,9 +11,13 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import serp.project.discuss_service.kernel.property.StorageProperties;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableAsync(proxyTargetClass = true)
@@ -30,6 +34,35 @@ public class VirtualThreadsConfig {
         return Executors.newVirtualThreadPerTaskExecutor();
     }
 
+    /**
+     * Image decoding is CPU and heap heavy, so derivatives run on a small platform thread pool
+     * with a bounded queue instead of unbounded virtual threads.
+     */
+    @Bean("attachmentDerivativeExecutor")
+    public ExecutorService attachmentDerivativeExecutor(StorageProperties storageProperties) {
+        StorageProperties.DerivativeProperties props = storageProperties.getDerivative();
+        int threads = Math.max(1, props.getWorkerThreads());
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+                Thread.ofPlatform().name("attachment-derivative-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean("userProfileLoaderExecutor")
+    public ExecutorService userProfileLoaderExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Hosts the single long-running drain loop of the activity feed writer.
+     */
+    @Bean("activityFeedWriterExecutor")
+    public ExecutorService activityFeedWriterExecutor() {
+        return Executors.newSingleThreadExecutor(Thread.ofVirtual().name("activity-feed-writer").factory());
+    }
+
     @Bean("messageAsyncExecutor")
     public ExecutorService messageAsyncExecutor() {
         return Executors.newVirtualThreadPerTaskExecutor();
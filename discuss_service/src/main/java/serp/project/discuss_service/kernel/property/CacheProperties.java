@@ -0,0 +1,55 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - In-process cache configuration properties
+ */
+
+package serp.project.discuss_service.kernel.property;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration of the in-process (L1) caches kept in front of Redis
+ */
+@Component
+@ConfigurationProperties(prefix = "discuss.cache.local")
+@Getter
+@Setter
+public class CacheProperties {
+
+    /**
+     * Serve hot entries from process memory; when disabled every read goes to Redis
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis pub/sub channel used to tell other instances to drop their L1 copies
+     */
+    private String invalidationChannel = "discuss:cache:invalidation";
+
+    private Region message = new Region(32L * 1024 * 1024, 60);
+
+    private Region channel = new Region(4L * 1024 * 1024, 120);
+
+    private Region messagesPage = new Region(32L * 1024 * 1024, 15);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        /**
+         * Upper bound of the estimated size of all entries in bytes
+         */
+        private long maxWeightBytes;
+
+        /**
+         * Lifetime of an L1 entry; bounds staleness if an invalidation is lost
+         */
+        private long ttlSeconds;
+    }
+}
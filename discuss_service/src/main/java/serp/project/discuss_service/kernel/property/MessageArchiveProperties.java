@@ -0,0 +1,47 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Message partitioning and archive configuration properties
+ */
+
+package serp.project.discuss_service.kernel.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Component
+@ConfigurationProperties(prefix = "discuss.message-archive")
+@Getter
+@Setter
+public class MessageArchiveProperties {
+
+    /**
+     * Run partition maintenance (premaking and archiving) on this instance
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whole months of history kept in the live partitioned table besides the current month
+     */
+    private int retentionMonths = 12;
+
+    /**
+     * Monthly partitions created ahead of the current month
+     */
+    private int premadeMonths = 2;
+
+    /**
+     * Cron expression of the maintenance job
+     */
+    private String maintenanceCron = "0 30 3 * * *";
+
+    /**
+     * Oldest month still held in the live table; older messages live in the archive
+     */
+    public YearMonth firstRetainedMonth() {
+        return YearMonth.now().minusMonths(retentionMonths);
+    }
+}
@@ -34,6 +34,11 @@ public class StorageProperties {
      */
     private UploadLimits upload = new UploadLimits();
 
+    /**
+     * Background thumbnail/preview generation for image attachments
+     */
+    private DerivativeProperties derivative = new DerivativeProperties();
+
     @Getter
     @Setter
     public static class S3Properties {
@@ -93,6 +98,28 @@ public class StorageProperties {
          */
         private int maxFilesPerMessage = 10;
 
+        /**
+         * Maximum number of files streamed to storage at the same time on this node.
+         * Together with the multipart settings this bounds the memory held by uploads.
+         */
+        private int maxConcurrentUploads = 8;
+
+        /**
+         * Files at or above this size are sent with S3 multipart upload (default: 16MB)
+         */
+        private long multipartThreshold = 16 * 1024 * 1024;
+
+        /**
+         * Size of each multipart part in bytes (default: 8MB, S3 minimum is 5MB)
+         */
+        private long multipartPartSize = 8 * 1024 * 1024;
+
+        /**
+         * Maximum number of parts of one file in flight at once.
+         * Bounds buffered memory per file to multipartPartSize * multipartConcurrency.
+         */
+        private int multipartConcurrency = 4;
+
         /**
          * Allowed content types (empty = allow all)
          */
@@ -111,4 +138,44 @@ public class StorageProperties {
                 "audio/mpeg", "audio/wav", "audio/ogg"
         };
     }
+
+    @Getter
+    @Setter
+    public static class DerivativeProperties {
+        /**
+         * Enable thumbnail and preview generation for uploaded images
+         */
+        private boolean enabled = true;
+
+        /**
+         * Longest edge of the generated thumbnail in pixels
+         */
+        private int thumbnailMaxDimension = 320;
+
+        /**
+         * Longest edge of the generated preview in pixels
+         */
+        private int previewMaxDimension = 1280;
+
+        /**
+         * Images larger than this are not decoded (default: 20MB)
+         */
+        private long maxSourceSize = 20 * 1024 * 1024;
+
+        /**
+         * Images with more pixels than this are not decoded; a small compressed file can still
+         * expand to gigabytes of pixels (default: 40 megapixels)
+         */
+        private long maxSourcePixels = 40_000_000L;
+
+        /**
+         * Number of worker threads decoding and resizing images
+         */
+        private int workerThreads = 2;
+
+        /**
+         * Maximum number of attachments waiting for derivative generation
+         */
+        private int queueCapacity = 200;
+    }
 }
@@ -0,0 +1,44 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Thread count flush and reconcile configuration properties
+ */
+
+package serp.project.discuss_service.kernel.property;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "discuss.thread")
+@Getter
+@Setter
+public class ThreadProperties {
+
+    /**
+     * Delay between flushes of pending thread count deltas to the parent rows
+     */
+    private long flushIntervalMs = 2000;
+
+    /**
+     * Delay between reconciles of stored thread counts against the replies table
+     */
+    private long reconcileIntervalMs = 600_000;
+
+    /**
+     * How far back reply activity makes a parent a reconcile candidate; covers at least one interval
+     */
+    private long reconcileWindowMs = 900_000;
+
+    /**
+     * Quiet period after the last reply of a thread before it is recounted, so replies whose
+     * after-commit bookkeeping is still running are not counted twice
+     */
+    private long reconcileSettleMs = 60_000;
+
+    /**
+     * Maximum parents recounted per reconcile
+     */
+    private int reconcileBatchSize = 1000;
+}
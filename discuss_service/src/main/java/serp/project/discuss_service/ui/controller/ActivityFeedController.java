@@ -0,0 +1,80 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Activity feed REST Controller
+ */
+
+package serp.project.discuss_service.ui.controller;
+
+import io.github.serp.platform.security.context.SerpAuthContext;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import serp.project.discuss_service.core.domain.dto.GeneralResponse;
+import serp.project.discuss_service.core.domain.dto.request.MarkActivitiesReadRequest;
+import serp.project.discuss_service.core.domain.dto.response.ActivityFeedPageResponse;
+import serp.project.discuss_service.core.exception.AppException;
+import serp.project.discuss_service.core.exception.ErrorCode;
+import serp.project.discuss_service.core.usecase.ActivityFeedUseCase;
+import serp.project.discuss_service.kernel.utils.ResponseUtils;
+
+@RestController
+@RequestMapping("/api/v1/activities")
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityFeedController {
+
+    private final ActivityFeedUseCase activityFeedUseCase;
+    private final SerpAuthContext authContext;
+    private final ResponseUtils responseUtils;
+
+    @GetMapping
+    public ResponseEntity<GeneralResponse<ActivityFeedPageResponse>> getMyFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int limit) {
+        Long userId = authContext.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authContext.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.TENANT_ID_REQUIRED));
+
+        log.debug("User {} getting activity feed, cursor={}", userId, cursor);
+
+        ActivityFeedPageResponse response = activityFeedUseCase.getFeed(userId, tenantId, cursor, limit);
+        return ResponseEntity.ok(responseUtils.success(response));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<GeneralResponse<Long>> getUnreadCount() {
+        Long userId = authContext.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authContext.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.TENANT_ID_REQUIRED));
+
+        long count = activityFeedUseCase.getUnreadCount(userId, tenantId);
+        return ResponseEntity.ok(responseUtils.success(count));
+    }
+
+    @PostMapping("/read")
+    public ResponseEntity<GeneralResponse<Integer>> markAsRead(
+            @Valid @RequestBody MarkActivitiesReadRequest request) {
+        Long userId = authContext.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authContext.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.TENANT_ID_REQUIRED));
+
+        int updated = activityFeedUseCase.markAsRead(userId, tenantId, request.getActivityIds());
+        return ResponseEntity.ok(responseUtils.success(updated));
+    }
+
+    @PostMapping("/read-all")
+    public ResponseEntity<GeneralResponse<Integer>> markAllAsRead() {
+        Long userId = authContext.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authContext.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.TENANT_ID_REQUIRED));
+
+        int updated = activityFeedUseCase.markAllAsRead(userId, tenantId);
+        return ResponseEntity.ok(responseUtils.success(updated));
+    }
+}
@@ -13,8 +13,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import serp.project.discuss_service.core.domain.dto.GeneralResponse;
 import serp.project.discuss_service.core.domain.dto.request.*;
+import serp.project.discuss_service.core.domain.dto.response.ChannelInboxResponse;
 import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse;
 import serp.project.discuss_service.core.domain.dto.response.ChannelResponse;
+import serp.project.discuss_service.core.domain.dto.response.MessageResponse;
 import serp.project.discuss_service.core.domain.dto.response.PaginatedResponse;
 import serp.project.discuss_service.core.domain.entity.ChannelEntity;
 import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
@@ -25,6 +27,7 @@ import serp.project.discuss_service.core.usecase.ChannelUseCase;
 import serp.project.discuss_service.kernel.utils.ResponseUtils;
 
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/v1/channels")
@@ -161,6 +164,27 @@ public class ChannelController {
         return ResponseEntity.ok(responseUtils.success(paginatedResponse));
     }
 
+    @GetMapping("/inbox")
+    public ResponseEntity<GeneralResponse<ChannelInboxResponse>> getMyInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int limit) {
+        Long userId = authContext.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authContext.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.TENANT_ID_REQUIRED));
+
+        log.debug("User {} getting channel inbox, cursor={}", userId, cursor);
+
+        ChannelInboxResponse inbox = channelUseCase.getInbox(userId, tenantId, cursor, limit);
+        List<MessageResponse> lastMessages = inbox.getItems().stream()
+                .map(ChannelResponse::getLastMessage)
+                .filter(Objects::nonNull)
+                .toList();
+        userInfoService.enrichMessagesWithUserInfo(lastMessages);
+
+        return ResponseEntity.ok(responseUtils.success(inbox));
+    }
+
     @PutMapping("/{channelId}")
     public ResponseEntity<GeneralResponse<ChannelResponse>> updateChannel(
             @PathVariable Long channelId,
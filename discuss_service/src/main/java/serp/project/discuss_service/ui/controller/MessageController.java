@@ -150,14 +150,7 @@ public class MessageController {
         Pair<Long, List<MessageEntity>> result = messageUseCase.getChannelMessages(
                 channelId, userId, page, size);
 
-        List<MessageResponse> messageResponses = result.getSecond().stream()
-                .map(msg -> {
-                    MessageResponse r = attachmentUrlService.enrichMessageWithUrls(msg);
-                    r.setIsSentByMe(msg.getSenderId().equals(userId));
-                    r = userInfoService.enrichMessageWithUserInfo(r);
-                    return r;
-                })
-                .toList();
+        List<MessageResponse> messageResponses = toMessageResponses(result.getSecond(), userId);
 
         PaginatedResponse<MessageResponse> paginatedResponse = PaginatedResponse.of(
                 messageResponses, page, size, result.getFirst());
@@ -178,14 +171,7 @@ public class MessageController {
         List<MessageEntity> messages = messageUseCase.getMessagesBefore(
                 channelId, userId, beforeId, limit);
 
-        List<MessageResponse> responses = messages.stream()
-                .map(msg -> {
-                    MessageResponse r = attachmentUrlService.enrichMessageWithUrls(msg);
-                    r.setIsSentByMe(msg.getSenderId().equals(userId));
-                    r = userInfoService.enrichMessageWithUserInfo(r);
-                    return r;
-                })
-                .toList();
+        List<MessageResponse> responses = toMessageResponses(messages, userId);
 
         return ResponseEntity.ok(responseUtils.success(responses));
     }
@@ -193,23 +179,19 @@ public class MessageController {
     @GetMapping("/{messageId}/replies")
     public ResponseEntity<GeneralResponse<List<MessageResponse>>> getThreadReplies(
             @PathVariable Long channelId,
-            @PathVariable Long messageId) {
+            @PathVariable Long messageId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
         Long userId = authContext.getCurrentUserId()
                 .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
 
-        log.debug("User {} getting thread replies for message {} in channel {}", 
-                userId, messageId, channelId);
+        log.debug("User {} getting thread replies for message {} in channel {}, before {}", 
+                userId, messageId, channelId, beforeId);
 
-        List<MessageEntity> messages = messageUseCase.getThreadReplies(channelId, messageId, userId);
+        List<MessageEntity> messages = messageUseCase.getThreadReplies(
+                channelId, messageId, userId, beforeId, limit);
 
-        List<MessageResponse> responses = messages.stream()
-                .map(msg -> {
-                    MessageResponse r = attachmentUrlService.enrichMessageWithUrls(msg);
-                    r.setIsSentByMe(msg.getSenderId().equals(userId));
-                    r = userInfoService.enrichMessageWithUserInfo(r);
-                    return r;
-                })
-                .toList();
+        List<MessageResponse> responses = toMessageResponses(messages, userId);
 
         return ResponseEntity.ok(responseUtils.success(responses));
     }
@@ -229,14 +211,7 @@ public class MessageController {
         List<MessageEntity> messages = messageUseCase.searchMessages(
                 channelId, userId, query, page, size);
 
-        List<MessageResponse> responses = messages.stream()
-                .map(msg -> {
-                    MessageResponse r = attachmentUrlService.enrichMessageWithUrls(msg);
-                    r.setIsSentByMe(msg.getSenderId().equals(userId));
-                    r = userInfoService.enrichMessageWithUserInfo(r);
-                    return r;
-                })
-                .toList();
+        List<MessageResponse> responses = toMessageResponses(messages, userId);
 
         return ResponseEntity.ok(responseUtils.success(responses));
     }
@@ -355,6 +330,17 @@ public class MessageController {
         return ResponseEntity.ok(responseUtils.success(response));
     }
 
+    /**
+     * Enrich a page of messages with one batch URL resolution and one batch sender lookup.
+     */
+    private List<MessageResponse> toMessageResponses(List<MessageEntity> messages, Long userId) {
+        List<MessageResponse> responses = attachmentUrlService.enrichMessagesWithUrls(messages);
+        for (int i = 0; i < responses.size(); i++) {
+            responses.get(i).setIsSentByMe(messages.get(i).getSenderId().equals(userId));
+        }
+        return userInfoService.enrichMessagesWithUserInfo(responses);
+    }
+
     private List<Long> parseMentions(String mentionsJson) {
         if (mentionsJson == null || mentionsJson.isBlank()) {
             return null;
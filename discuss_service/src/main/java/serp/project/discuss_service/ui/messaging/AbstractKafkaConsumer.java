@@ -5,15 +5,39 @@
 
 package serp.project.discuss_service.ui.messaging;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.util.ClassUtils;
+import serp.project.discuss_service.ui.messaging.handler.IBatchEventHandler;
 import serp.project.discuss_service.ui.messaging.handler.IEventHandler;
 
 @Slf4j
 public abstract class AbstractKafkaConsumer<T, E extends Enum<E>> {
 
+    private static final String BATCH_SIZE_METRIC = "discuss.kafka.batch.size";
+    private static final String BATCH_OUTBOUND_METRIC = "discuss.kafka.batch.outbound";
+    private static final String BATCH_LATENCY_METRIC = "discuss.kafka.batch.latency";
+    private static final String BATCH_DELIVERY_METRIC = "discuss.kafka.batch.delivery";
+    private static final String HANDLER_TAG = "handler";
+    private static final String LISTENER_TAG = "listener";
+
+    private final MeterRegistry meterRegistry;
+
+    protected AbstractKafkaConsumer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     protected final void processRecord(
             ConsumerRecord<String, String> record,
             Map<E, ? extends IEventHandler<T, E>> handlers,
@@ -22,34 +46,179 @@ public abstract class AbstractKafkaConsumer<T, E extends Enum<E>> {
             return;
         }
 
+        T event = parseEvent(record, handlerName);
+        IEventHandler<T, E> handler = resolveHandler(event, handlers, handlerName);
+        if (handler == null) {
+            return;
+        }
+
+        handler.handle(event);
+    }
+
+    /**
+     * Process all records of one poll. Batch-capable handlers only convert their events; the
+     * collected outbound items are passed to {@code deliver} once, in record order, after the
+     * whole poll has been converted. Other handlers run per record as in record mode.
+     * <p>
+     * A failing record raises {@link BatchListenerFailedException} with its index so the
+     * container commits the records before it and retries or dead-letters only that record.
+     * Items collected before the failure are delivered first. A failing delivery raises it with
+     * the index of the first record whose items were not delivered.
+     * <p>
+     * Batch size, outbound count and processing time are recorded per handler; delivery time is
+     * recorded per listener, as one delivery carries the items of every handler in the poll.
+     */
+    protected final <R> void processBatch(
+            List<ConsumerRecord<String, String>> records,
+            Map<E, ? extends IEventHandler<T, E>> handlers,
+            String handlerName,
+            Consumer<List<R>> deliver) {
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        List<R> outbound = new ArrayList<>();
+        Map<String, HandlerBatch> batches = new LinkedHashMap<>();
+        int firstUndelivered = -1;
+        try {
+            for (int index = 0; index < records.size(); index++) {
+                ConsumerRecord<String, String> record = records.get(index);
+                int collected = outbound.size();
+                try {
+                    collect(record, handlers, handlerName, outbound, batches);
+                } catch (RuntimeException e) {
+                    try {
+                        deliverCollected(records, firstUndelivered, outbound, handlerName, deliver);
+                    } catch (BatchListenerFailedException deliveryFailure) {
+                        deliveryFailure.addSuppressed(e);
+                        throw deliveryFailure;
+                    }
+                    throw new BatchListenerFailedException(String.format(
+                            "Failed to process %s event. topic=%s, partition=%d, offset=%d",
+                            handlerName, record.topic(), record.partition(), record.offset()), e, index);
+                }
+                if (firstUndelivered < 0 && outbound.size() > collected) {
+                    firstUndelivered = index;
+                }
+            }
+            deliverCollected(records, firstUndelivered, outbound, handlerName, deliver);
+        } finally {
+            batches.forEach((handler, batch) -> {
+                Timer.builder(BATCH_LATENCY_METRIC)
+                        .tag(HANDLER_TAG, handler)
+                        .register(meterRegistry)
+                        .record(batch.nanos, TimeUnit.NANOSECONDS);
+                DistributionSummary.builder(BATCH_SIZE_METRIC)
+                        .tag(HANDLER_TAG, handler)
+                        .register(meterRegistry)
+                        .record(batch.records);
+                DistributionSummary.builder(BATCH_OUTBOUND_METRIC)
+                        .tag(HANDLER_TAG, handler)
+                        .register(meterRegistry)
+                        .record(batch.outbound);
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> void collect(
+            ConsumerRecord<String, String> record,
+            Map<E, ? extends IEventHandler<T, E>> handlers,
+            String handlerName,
+            List<R> outbound,
+            Map<String, HandlerBatch> batches) {
+        long start = System.nanoTime();
+        T event = parseEvent(record, handlerName);
+        IEventHandler<T, E> handler = resolveHandler(event, handlers, handlerName);
+        if (handler == null) {
+            return;
+        }
+
+        HandlerBatch batch = batches.computeIfAbsent(
+                ClassUtils.getUserClass(handler).getSimpleName(), name -> new HandlerBatch());
+        batch.records++;
+        try {
+            if (handler instanceof IBatchEventHandler<?, ?, ?> batchHandler) {
+                ((IBatchEventHandler<T, E, R>) batchHandler).toOutbound(event).ifPresent(item -> {
+                    outbound.add(item);
+                    batch.outbound++;
+                });
+            } else {
+                handler.handle(event);
+            }
+        } finally {
+            batch.nanos += System.nanoTime() - start;
+        }
+    }
+
+    private <R> void deliverCollected(
+            List<ConsumerRecord<String, String>> records,
+            int firstUndelivered,
+            List<R> outbound,
+            String handlerName,
+            Consumer<List<R>> deliver) {
+        if (outbound.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            deliver.accept(List.copyOf(outbound));
+        } catch (RuntimeException e) {
+            ConsumerRecord<String, String> record = records.get(firstUndelivered);
+            throw new BatchListenerFailedException(String.format(
+                    "Failed to deliver %d %s events from topic=%s, partition=%d, offset=%d",
+                    outbound.size(), handlerName, record.topic(), record.partition(), record.offset()),
+                    e, firstUndelivered);
+        } finally {
+            sample.stop(Timer.builder(BATCH_DELIVERY_METRIC)
+                    .tag(LISTENER_TAG, handlerName)
+                    .register(meterRegistry));
+        }
+        outbound.clear();
+    }
+
+    private T parseEvent(ConsumerRecord<String, String> record, String handlerName) {
         T event = parsePayload(record);
         if (event == null) {
             throw new IllegalArgumentException(String.format(
                     "Received %s event with invalid payload. topic=%s, partition=%d, offset=%d",
                     handlerName, record.topic(), record.partition(), record.offset()));
         }
-
-        E eventType = resolveEventType(event);
-        if (eventType == null) {
+        if (resolveEventType(event) == null) {
             throw new IllegalArgumentException(String.format(
                     "Received %s event without resolvable type. topic=%s, partition=%d, offset=%d",
                     handlerName, record.topic(), record.partition(), record.offset()));
         }
+        return event;
+    }
 
+    private IEventHandler<T, E> resolveHandler(
+            T event,
+            Map<E, ? extends IEventHandler<T, E>> handlers,
+            String handlerName) {
         if (handlers == null) {
             throw new IllegalStateException("No handlers configured for " + handlerName + " events");
         }
 
+        E eventType = resolveEventType(event);
         IEventHandler<T, E> handler = handlers.get(eventType);
         if (handler == null) {
             log.debug("Ignored {} event type: {}", handlerName, eventType);
-            return;
         }
-
-        handler.handle(event);
+        return handler;
     }
 
     protected abstract T parsePayload(ConsumerRecord<String, String> record);
 
     protected abstract E resolveEventType(T event);
+
+    /**
+     * What one handler took of a poll
+     */
+    private static final class HandlerBatch {
+        private int records;
+        private int outbound;
+        private long nanos;
+    }
 }
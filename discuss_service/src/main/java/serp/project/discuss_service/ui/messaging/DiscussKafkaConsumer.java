@@ -6,10 +6,12 @@
 package serp.project.discuss_service.ui.messaging;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.github.serp.platform.kafka.consumer.SerpKafkaConsumerMetadata;
 import io.github.serp.platform.kafka.consumer.SerpKafkaRecordParser;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.core.ParameterizedTypeReference;
@@ -17,6 +19,7 @@ import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 import serp.project.discuss_service.core.domain.dto.websocket.WsEvent;
 import serp.project.discuss_service.core.domain.dto.websocket.WsEventType;
+import serp.project.discuss_service.core.service.IDeliveryService;
 import serp.project.discuss_service.core.service.IDiscussEventPublisher;
 import serp.project.discuss_service.kernel.utils.KafkaPayloadUtils;
 import serp.project.discuss_service.ui.messaging.handler.HandlerRegistry;
@@ -26,27 +29,35 @@ import serp.project.discuss_service.ui.messaging.handler.HandlerRegistry;
 public class DiscussKafkaConsumer
         extends AbstractKafkaConsumer<WsEvent<Map<String, Object>>, WsEventType> {
     private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    private static final String BATCH_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
 
     private final HandlerRegistry handlerRegistry;
     private final SerpKafkaRecordParser recordParser;
+    private final IDeliveryService deliveryService;
 
     public DiscussKafkaConsumer(
             HandlerRegistry handlerRegistry,
-            SerpKafkaRecordParser recordParser) {
+            SerpKafkaRecordParser recordParser,
+            IDeliveryService deliveryService,
+            MeterRegistry meterRegistry) {
+        super(meterRegistry);
         this.handlerRegistry = handlerRegistry;
         this.recordParser = recordParser;
+        this.deliveryService = deliveryService;
     }
 
-    @KafkaListener(topics = IDiscussEventPublisher.TOPIC_MESSAGE_EVENTS, groupId = "${spring.kafka.consumer.group-id}")
-    public void handleMessageEvent(ConsumerRecord<String, String> record) {
-        logRecordMetadata(record, "message");
-        processRecord(record, handlerRegistry.getMessageHandlers(), "message");
+    @KafkaListener(topics = IDiscussEventPublisher.TOPIC_MESSAGE_EVENTS, groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = BATCH_CONTAINER_FACTORY)
+    public void handleMessageEvents(List<ConsumerRecord<String, String>> records) {
+        records.forEach(record -> logRecordMetadata(record, "message"));
+        processBatch(records, handlerRegistry.getMessageHandlers(), "message", deliveryService::deliverBatch);
     }
 
-    @KafkaListener(topics = IDiscussEventPublisher.TOPIC_REACTION_EVENTS, groupId = "${spring.kafka.consumer.group-id}")
-    public void handleReactionEvent(ConsumerRecord<String, String> record) {
-        logRecordMetadata(record, "reaction");
-        processRecord(record, handlerRegistry.getReactionHandlers(), "reaction");
+    @KafkaListener(topics = IDiscussEventPublisher.TOPIC_REACTION_EVENTS, groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = BATCH_CONTAINER_FACTORY)
+    public void handleReactionEvents(List<ConsumerRecord<String, String>> records) {
+        records.forEach(record -> logRecordMetadata(record, "reaction"));
+        processBatch(records, handlerRegistry.getReactionHandlers(), "reaction", deliveryService::deliverBatch);
     }
 
     @KafkaListener(topics = IDiscussEventPublisher.TOPIC_PRESENCE_EVENTS, groupId = "${spring.kafka.consumer.group-id}")
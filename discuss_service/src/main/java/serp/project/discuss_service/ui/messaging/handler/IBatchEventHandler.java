@@ -0,0 +1,23 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Batch-capable event handler contract
+ */
+
+package serp.project.discuss_service.ui.messaging.handler;
+
+import java.util.Optional;
+
+/**
+ * Handler whose side effect can be deferred to the end of a consumer batch. In batch mode the
+ * consumer collects {@link #toOutbound} results for the whole poll and delivers them together;
+ * in record mode {@link #handle} is used as before.
+ *
+ * @param <R> outbound item produced per event
+ */
+public interface IBatchEventHandler<T, E extends Enum<E>, R> extends IEventHandler<T, E> {
+
+    /**
+     * Convert the event to its outbound form, empty when the event should be skipped
+     */
+    Optional<? extends R> toOutbound(T event);
+}
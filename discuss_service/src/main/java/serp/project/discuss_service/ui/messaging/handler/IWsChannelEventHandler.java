@@ -0,0 +1,19 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Channel-wide WebSocket event handler
+ */
+
+package serp.project.discuss_service.ui.messaging.handler;
+
+import java.util.Map;
+
+import serp.project.discuss_service.core.domain.dto.websocket.WsEvent;
+import serp.project.discuss_service.core.domain.dto.websocket.WsEventType;
+
+/**
+ * Handler for events fanned out to every online member of a channel, so they can be
+ * grouped by channel and merged per recipient in batch mode.
+ */
+public interface IWsChannelEventHandler extends IWsEventHandler,
+        IBatchEventHandler<WsEvent<Map<String, Object>>, WsEventType, WsEvent<?>> {
+}
@@ -6,6 +6,7 @@
 package serp.project.discuss_service.ui.messaging.handler;
 
 import java.util.Map;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +19,7 @@ import serp.project.discuss_service.kernel.utils.KafkaPayloadUtils;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class MessageDeletedHandler implements IMessageEventHandler {
+public class MessageDeletedHandler implements IMessageEventHandler, IWsChannelEventHandler {
 
     private final IDeliveryService deliveryService;
 
@@ -38,4 +39,15 @@ public class MessageDeletedHandler implements IMessageEventHandler {
 
         deliveryService.notifyMessageDeleted(channelId, messageId);
     }
+
+    @Override
+    public Optional<? extends WsEvent<?>> toOutbound(WsEvent<Map<String, Object>> event) {
+        Long channelId = event.getChannelId();
+        Long messageId = KafkaPayloadUtils.getLong(event.getPayload(), "messageId");
+        if (channelId == null || messageId == null) {
+            log.warn("Missing required fields for MESSAGE_DELETED event");
+            return Optional.empty();
+        }
+        return Optional.of(deliveryService.buildMessageDeletedEvent(channelId, messageId));
+    }
 }
@@ -6,6 +6,7 @@
 package serp.project.discuss_service.ui.messaging.handler;
 
 import java.util.Map;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +19,7 @@ import serp.project.discuss_service.kernel.utils.KafkaPayloadUtils;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class ReactionAddedHandler implements IReactionEventHandler {
+public class ReactionAddedHandler implements IReactionEventHandler, IWsChannelEventHandler {
 
     private final IDeliveryService deliveryService;
 
@@ -42,4 +43,19 @@ public class ReactionAddedHandler implements IReactionEventHandler {
 
         deliveryService.notifyReaction(channelId, messageId, userId, emoji, true);
     }
+
+    @Override
+    public Optional<? extends WsEvent<?>> toOutbound(WsEvent<Map<String, Object>> event) {
+        Long channelId = event.getChannelId();
+        Map<String, Object> payload = event.getPayload();
+        Long messageId = KafkaPayloadUtils.getLong(payload, "messageId");
+        Long userId = KafkaPayloadUtils.getLong(payload, "userId");
+        String emoji = KafkaPayloadUtils.getString(payload, "emoji");
+
+        if (channelId == null || messageId == null || userId == null || emoji == null) {
+            log.warn("Missing required fields for REACTION_ADDED event");
+            return Optional.empty();
+        }
+        return Optional.of(deliveryService.buildReactionEvent(channelId, messageId, userId, emoji, true));
+    }
 }
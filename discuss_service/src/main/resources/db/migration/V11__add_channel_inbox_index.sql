@@ -0,0 +1,11 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project - Covering index for the user channel inbox query
+*/
+
+-- The inbox query is driven from a user's active memberships and joins channels by PK,
+-- so cover the membership columns it reads to keep that side index-only.
+CREATE INDEX IF NOT EXISTS idx_channel_members_inbox
+    ON channel_members(user_id, tenant_id)
+    INCLUDE (channel_id, unread_count, is_pinned, is_muted, last_read_msg_id)
+    WHERE status = 'ACTIVE';
@@ -0,0 +1,21 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project - Activity feed inbox indexes and idempotent fan-out
+*/
+
+-- BaseModel maps updated_at for every table; activity_feed was created without it
+ALTER TABLE activity_feed
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Keyset paging of a user's feed orders by (occurred_at, id); include id so the
+-- cursor predicate and ORDER BY are both served by the index.
+CREATE INDEX IF NOT EXISTS idx_activity_feed_user_cursor
+    ON activity_feed(user_id, tenant_id, occurred_at DESC, id DESC);
+
+-- Superseded by idx_activity_feed_user_cursor (same leading columns)
+DROP INDEX IF EXISTS idx_activity_feed_user_time;
+
+-- Fan-out runs after commit and may be retried; one row per recipient, message and action
+CREATE UNIQUE INDEX IF NOT EXISTS uq_activity_feed_message_recipient
+    ON activity_feed(user_id, message_id, action_type)
+    WHERE message_id IS NOT NULL;
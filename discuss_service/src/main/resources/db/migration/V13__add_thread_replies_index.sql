@@ -0,0 +1,10 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project - Keyset index for thread reply paging
+*/
+
+-- Thread replies are paged newest first by id within a parent message,
+-- so a (parent_id, id) index over live replies serves each page as a bounded range scan.
+CREATE INDEX IF NOT EXISTS idx_messages_thread_replies
+    ON messages(parent_id, id DESC)
+    WHERE parent_id IS NOT NULL AND is_deleted = FALSE;
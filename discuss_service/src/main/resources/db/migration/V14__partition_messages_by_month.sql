@@ -0,0 +1,181 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project - Monthly partitioned messages table with a compressed archive
+
+This migration:
+1. Drops foreign keys that reference messages(id); a partitioned table can only be
+   referenced through a unique key that includes the partition column
+2. Recreates messages as a table partitioned by month on created_at and copies existing rows
+3. Creates messages_archive, the compressed home of partitions past the retention window
+4. Adds the helper function used by the partition maintenance job
+5. Replaces the channel delete cascade to attachments with a trigger
+
+There is no default partition: DETACH PARTITION ... CONCURRENTLY is not allowed while one exists.
+Rows restored from the archive go back into their month's partition, recreated on demand.
+*/
+
+-- Step 1: Drop foreign keys referencing messages(id).
+-- Deleting a channel cascades to its messages, and used to cascade on through these to attachments
+-- and message activity. Activity rows also reference channels(id) and still cascade through it;
+-- attachments and archived messages are removed by the trigger of Step 7.
+ALTER TABLE attachments DROP CONSTRAINT IF EXISTS attachments_message_id_fkey;
+ALTER TABLE activity_feed DROP CONSTRAINT IF EXISTS activity_feed_message_id_fkey;
+ALTER TABLE messages DROP CONSTRAINT IF EXISTS messages_parent_id_fkey;
+
+-- Step 2: Partitioned messages table
+ALTER TABLE messages RENAME TO messages_unpartitioned;
+ALTER SEQUENCE messages_id_seq OWNED BY NONE;
+
+CREATE TABLE messages (
+    id BIGINT NOT NULL DEFAULT nextval('messages_id_seq'),
+    channel_id BIGINT NOT NULL,
+    sender_id BIGINT NOT NULL,
+    tenant_id BIGINT NOT NULL,
+    content TEXT,
+    message_type VARCHAR(50) DEFAULT 'STANDARD',
+    mentions BIGINT[] DEFAULT '{}',
+    parent_id BIGINT,
+    thread_count INT DEFAULT 0,
+    is_edited BOOLEAN DEFAULT FALSE,
+    edited_at TIMESTAMP,
+    is_deleted BOOLEAN DEFAULT FALSE,
+    deleted_at TIMESTAMP,
+    deleted_by BIGINT,
+    reactions JSONB DEFAULT '[]',
+    read_by BIGINT[] DEFAULT '{}',
+    metadata JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    search_vector tsvector GENERATED ALWAYS AS (to_tsvector('english', content)) STORED,
+
+    CONSTRAINT valid_message_type CHECK (
+        message_type IN ('STANDARD', 'SYSTEM')
+    ),
+    CONSTRAINT system_message_requires_content CHECK (
+        message_type != 'SYSTEM' OR (content IS NOT NULL AND char_length(trim(content)) > 0)
+    )
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE messages_id_seq OWNED BY messages.id;
+
+-- Step 3: Helper function for the maintenance job and the archive restore path
+
+-- Creates the partition holding the month of month_start, returns its name
+CREATE OR REPLACE FUNCTION discuss_create_message_partition(month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    from_ts TIMESTAMP := date_trunc('month', month_start);
+    partition_name TEXT := 'messages_p' || to_char(from_ts, 'YYYYMM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF messages FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_ts, from_ts + INTERVAL '1 month');
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Step 4: Partitions for existing history plus the next two months, then copy rows
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(created_at), CURRENT_TIMESTAMP))::DATE,
+           date_trunc('month', GREATEST(MAX(created_at), CURRENT_TIMESTAMP + INTERVAL '2 months'))::DATE
+    INTO month_start, last_month
+    FROM messages_unpartitioned;
+
+    WHILE month_start <= last_month LOOP
+        PERFORM discuss_create_message_partition(month_start);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO messages (id, channel_id, sender_id, tenant_id, content, message_type, mentions,
+                      parent_id, thread_count, is_edited, edited_at, is_deleted, deleted_at, deleted_by,
+                      reactions, read_by, metadata, created_at, updated_at)
+SELECT id, channel_id, sender_id, tenant_id, content, message_type, mentions,
+       parent_id, thread_count, is_edited, edited_at, is_deleted, deleted_at, deleted_by,
+       reactions, read_by, metadata, created_at, updated_at
+FROM messages_unpartitioned;
+
+DROP TABLE messages_unpartitioned;
+
+-- Step 5: Keys and indexes, built after the copy.
+-- The primary key must contain the partition column; lookups by id alone still use it.
+ALTER TABLE messages ADD PRIMARY KEY (id, created_at);
+ALTER TABLE messages ADD CONSTRAINT messages_channel_id_fkey
+    FOREIGN KEY (channel_id) REFERENCES channels(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_messages_channel_time
+    ON messages(channel_id, created_at DESC)
+    WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_messages_sender
+    ON messages(tenant_id, sender_id, created_at DESC);
+
+CREATE INDEX idx_messages_parent
+    ON messages(parent_id)
+    WHERE parent_id IS NOT NULL;
+
+CREATE INDEX idx_messages_thread_replies
+    ON messages(parent_id, id DESC)
+    WHERE parent_id IS NOT NULL AND is_deleted = FALSE;
+
+CREATE INDEX idx_messages_mentions
+    ON messages USING GIN(mentions)
+    WHERE mentions != '{}';
+
+CREATE INDEX idx_messages_search
+    ON messages USING GIN(search_vector);
+
+-- Step 6: Archive of partitions past the retention window.
+-- Rows are written once and rarely read, so pack pages fully and push wide values into
+-- lz4-compressed TOAST early. Only scroll-back and thread paging indexes are kept.
+CREATE TABLE messages_archive (
+    id BIGINT PRIMARY KEY,
+    channel_id BIGINT NOT NULL,
+    sender_id BIGINT NOT NULL,
+    tenant_id BIGINT NOT NULL,
+    content TEXT COMPRESSION lz4,
+    message_type VARCHAR(50),
+    mentions BIGINT[],
+    parent_id BIGINT,
+    thread_count INT DEFAULT 0,
+    is_edited BOOLEAN DEFAULT FALSE,
+    edited_at TIMESTAMP,
+    is_deleted BOOLEAN DEFAULT FALSE,
+    deleted_at TIMESTAMP,
+    deleted_by BIGINT,
+    reactions JSONB COMPRESSION lz4,
+    read_by BIGINT[],
+    metadata JSONB COMPRESSION lz4,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) WITH (fillfactor = 100, toast_tuple_target = 256);
+
+-- Not partial: channel deletes remove deleted rows too
+CREATE INDEX idx_messages_archive_channel
+    ON messages_archive(channel_id, id DESC);
+
+CREATE INDEX idx_messages_archive_thread_replies
+    ON messages_archive(parent_id, id DESC)
+    WHERE parent_id IS NOT NULL AND is_deleted = FALSE;
+
+-- Step 7: Channel deletes. messages cascades through messages_channel_id_fkey; attachments and
+-- messages_archive have no key to cascade through.
+CREATE OR REPLACE FUNCTION discuss_delete_channel_messages()
+RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM attachments WHERE channel_id = OLD.id;
+    DELETE FROM messages_archive WHERE channel_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_channels_delete_messages
+    AFTER DELETE ON channels
+    FOR EACH ROW EXECUTE FUNCTION discuss_delete_channel_messages();
+
+COMMENT ON TABLE messages IS 'Messages partitioned by month on created_at; partitions are premade and archived by the discuss maintenance job';
+COMMENT ON TABLE messages_archive IS 'Messages from partitions past the retention window; read-only, rows move back to messages when modified';
@@ -0,0 +1,251 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for ActivityFeedService
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.dto.response.ActivityFeedPageResponse;
+import serp.project.discuss_service.core.domain.dto.response.ActivityFeedResponse;
+import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse.UserInfo;
+import serp.project.discuss_service.core.domain.entity.ActivityFeedEntity;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.domain.enums.ActionType;
+import serp.project.discuss_service.core.exception.AppException;
+import serp.project.discuss_service.core.port.store.IActivityFeedPort;
+import serp.project.discuss_service.core.service.IActivityFeedWriter;
+import serp.project.discuss_service.core.service.IChannelMemberService;
+import serp.project.discuss_service.core.service.IChannelService;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.core.service.IUserInfoService;
+import serp.project.discuss_service.testutil.TestDataFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ActivityFeedService.
+ * Tests mention fan-out, keyset paging and the cached unread counter.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityFeedServiceTest {
+
+    private static final Long TENANT_ID = TestDataFactory.TENANT_ID;
+    private static final Long USER_ID = TestDataFactory.USER_ID_2;
+
+    @Mock
+    private IActivityFeedPort activityFeedPort;
+
+    @Mock
+    private IActivityFeedWriter activityFeedWriter;
+
+    @Mock
+    private IChannelMemberService memberService;
+
+    @Mock
+    private IChannelService channelService;
+
+    @Mock
+    private IUserInfoService userInfoService;
+
+    @Mock
+    private IDiscussCacheService cacheService;
+
+    @InjectMocks
+    private ActivityFeedService activityFeedService;
+
+    // ==================== RECORD MENTIONS TESTS ====================
+
+    @Nested
+    @DisplayName("recordMentions")
+    class RecordMentionsTests {
+
+        @Test
+        @DisplayName("should queue one activity per mentioned channel member, skipping sender and non-members")
+        @SuppressWarnings("unchecked")
+        void testRecordMentions_MixedRecipients_QueuesMembersOnly() {
+            // Given
+            MessageEntity message = TestDataFactory.createMessageWithMentions(List.of(
+                    TestDataFactory.USER_ID_1, TestDataFactory.USER_ID_2, TestDataFactory.USER_ID_2, 999L));
+            when(memberService.getMemberIds(TestDataFactory.CHANNEL_ID))
+                    .thenReturn(Set.of(TestDataFactory.USER_ID_1, TestDataFactory.USER_ID_2));
+            when(userInfoService.getUserById(TestDataFactory.USER_ID_1))
+                    .thenReturn(Optional.of(UserInfo.builder().id(TestDataFactory.USER_ID_1).name("Alice").build()));
+            when(channelService.getChannelById(TestDataFactory.CHANNEL_ID))
+                    .thenReturn(Optional.of(TestDataFactory.createGroupChannel()));
+
+            // When
+            activityFeedService.recordMentions(message);
+
+            // Then
+            ArgumentCaptor<List<ActivityFeedEntity>> captor = ArgumentCaptor.forClass(List.class);
+            verify(activityFeedWriter).submit(captor.capture());
+            List<ActivityFeedEntity> activities = captor.getValue();
+            assertEquals(1, activities.size());
+            ActivityFeedEntity activity = activities.get(0);
+            assertEquals(TestDataFactory.USER_ID_2, activity.getUserId());
+            assertEquals(ActionType.MENTION_RECEIVED, activity.getActionType());
+            assertEquals(message.getId(), activity.getMessageId());
+            assertEquals(message.getCreatedAt(), activity.getOccurredAt());
+            assertEquals("Alice mentioned you in Test Group", activity.getDescription());
+        }
+
+        @Test
+        @DisplayName("should do nothing for messages without mentions")
+        void testRecordMentions_NoMentions_DoesNothing() {
+            // When
+            activityFeedService.recordMentions(TestDataFactory.createTextMessage());
+
+            // Then
+            verifyNoInteractions(memberService, activityFeedWriter);
+        }
+
+        @Test
+        @DisplayName("should not queue anything when only the sender is mentioned")
+        void testRecordMentions_SelfMention_DoesNotQueue() {
+            // Given
+            MessageEntity message = TestDataFactory.createMessageWithMentions(List.of(TestDataFactory.USER_ID_1));
+            when(memberService.getMemberIds(TestDataFactory.CHANNEL_ID)).thenReturn(Set.of(TestDataFactory.USER_ID_1));
+
+            // When
+            activityFeedService.recordMentions(message);
+
+            // Then
+            verify(activityFeedWriter, never()).submit(anyList());
+        }
+    }
+
+    // ==================== GET FEED TESTS ====================
+
+    @Nested
+    @DisplayName("getFeed")
+    class GetFeedTests {
+
+        @Test
+        @DisplayName("should return next cursor from last row when more rows exist")
+        void testGetFeed_MoreRows_ReturnsCursor() {
+            // Given
+            when(activityFeedPort.findPage(USER_ID, TENANT_ID, null, null, 3))
+                    .thenReturn(List.of(activity(30L, 3000L), activity(20L, 2000L), activity(10L, 1000L)));
+            when(cacheService.getCachedActivityUnreadCount(TENANT_ID, USER_ID)).thenReturn(Optional.of(4L));
+
+            // When
+            ActivityFeedPageResponse result = activityFeedService.getFeed(USER_ID, TENANT_ID, null, 2);
+
+            // Then
+            assertEquals(List.of(30L, 20L), result.getItems().stream().map(ActivityFeedResponse::getId).toList());
+            assertTrue(result.getHasNext());
+            assertEquals("2000_20", result.getNextCursor());
+            assertEquals(4L, result.getUnreadCount());
+        }
+
+        @Test
+        @DisplayName("should page strictly before the decoded cursor")
+        void testGetFeed_WithCursor_PassesPosition() {
+            // Given
+            when(activityFeedPort.findPage(USER_ID, TENANT_ID, 2000L, 20L, 31)).thenReturn(List.of(activity(10L, 1000L)));
+            when(cacheService.getCachedActivityUnreadCount(TENANT_ID, USER_ID)).thenReturn(Optional.of(0L));
+
+            // When
+            ActivityFeedPageResponse result = activityFeedService.getFeed(USER_ID, TENANT_ID, "2000_20", 0);
+
+            // Then
+            assertEquals(1, result.getItems().size());
+            assertFalse(result.getHasNext());
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("should reject malformed cursor")
+        void testGetFeed_InvalidCursor_ThrowsException() {
+            // When & Then
+            assertThrows(AppException.class, () -> activityFeedService.getFeed(USER_ID, TENANT_ID, "abc_def", 30));
+            verifyNoInteractions(activityFeedPort);
+        }
+    }
+
+    // ==================== UNREAD COUNT TESTS ====================
+
+    @Nested
+    @DisplayName("unread count")
+    class UnreadCountTests {
+
+        @Test
+        @DisplayName("should seed the counter from the database on cache miss")
+        void testGetUnreadCount_CacheMiss_SeedsFromDatabase() {
+            // Given
+            when(cacheService.getCachedActivityUnreadCount(TENANT_ID, USER_ID)).thenReturn(Optional.empty());
+            when(activityFeedPort.countUnread(USER_ID, TENANT_ID)).thenReturn(7L);
+
+            // When
+            long count = activityFeedService.getUnreadCount(USER_ID, TENANT_ID);
+
+            // Then
+            assertEquals(7L, count);
+            verify(cacheService).cacheActivityUnreadCount(TENANT_ID, USER_ID, 7L);
+        }
+
+        @Test
+        @DisplayName("should serve the counter from cache without counting rows")
+        void testGetUnreadCount_CacheHit_SkipsDatabase() {
+            // Given
+            when(cacheService.getCachedActivityUnreadCount(TENANT_ID, USER_ID)).thenReturn(Optional.of(3L));
+
+            // When
+            long count = activityFeedService.getUnreadCount(USER_ID, TENANT_ID);
+
+            // Then
+            assertEquals(3L, count);
+            verify(activityFeedPort, never()).countUnread(any(), any());
+        }
+
+        @Test
+        @DisplayName("should invalidate the counter when activities are marked read")
+        void testMarkAsRead_Updated_InvalidatesCounter() {
+            // Given
+            when(activityFeedPort.markAsRead(USER_ID, List.of(1L, 2L))).thenReturn(2);
+
+            // When
+            int updated = activityFeedService.markAsRead(USER_ID, TENANT_ID, List.of(1L, 2L));
+
+            // Then
+            assertEquals(2, updated);
+            verify(cacheService).invalidateActivityUnreadCount(TENANT_ID, USER_ID);
+        }
+
+        @Test
+        @DisplayName("should reset the counter to zero on mark all as read")
+        void testMarkAllAsRead_ResetsCounter() {
+            // Given
+            when(activityFeedPort.markAllAsRead(USER_ID, TENANT_ID)).thenReturn(5);
+
+            // When
+            activityFeedService.markAllAsRead(USER_ID, TENANT_ID);
+
+            // Then
+            verify(cacheService).cacheActivityUnreadCount(TENANT_ID, USER_ID, 0L);
+        }
+    }
+
+    private ActivityFeedEntity activity(Long id, Long occurredAt) {
+        ActivityFeedEntity activity = ActivityFeedEntity.createMention(TENANT_ID, USER_ID, TestDataFactory.USER_ID_1,
+                TestDataFactory.CHANNEL_ID, TestDataFactory.MESSAGE_ID, "Alice", "Test Group");
+        activity.setId(id);
+        activity.setOccurredAt(occurredAt);
+        return activity;
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for ActivityFeedWriter
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.entity.ActivityFeedEntity;
+import serp.project.discuss_service.core.port.store.IActivityFeedPort;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.testutil.TestDataFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ActivityFeedWriter.
+ * The drain loop is not started; batches are flushed explicitly.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityFeedWriterTest {
+
+    @Mock
+    private IActivityFeedPort activityFeedPort;
+
+    @Mock
+    private IDiscussCacheService cacheService;
+
+    @Mock
+    private ExecutorService executor;
+
+    @Test
+    @DisplayName("should insert queued activities from several submits in one batch")
+    void testFlushPending_MultipleSubmits_SingleInsert() {
+        // Given
+        ActivityFeedWriter writer = new ActivityFeedWriter(activityFeedPort, cacheService, executor, 100, 100);
+        when(activityFeedPort.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        writer.submit(List.of(mention(TestDataFactory.USER_ID_2), mention(TestDataFactory.USER_ID_3)));
+        writer.submit(List.of(mention(TestDataFactory.USER_ID_2)));
+
+        // When
+        int flushed = writer.flushPending();
+
+        // Then
+        assertEquals(3, flushed);
+        verify(activityFeedPort, times(1)).insertAll(anyList());
+        verify(cacheService).incrementActivityUnreadCounts(TestDataFactory.TENANT_ID,
+                Map.of(TestDataFactory.USER_ID_2, 2L, TestDataFactory.USER_ID_3, 1L));
+    }
+
+    @Test
+    @DisplayName("should only count activities that were actually inserted")
+    void testFlushPending_DuplicateSkipped_CountsInsertedOnly() {
+        // Given
+        ActivityFeedWriter writer = new ActivityFeedWriter(activityFeedPort, cacheService, executor, 100, 100);
+        ActivityFeedEntity fresh = mention(TestDataFactory.USER_ID_2);
+        when(activityFeedPort.insertAll(anyList())).thenReturn(List.of(fresh));
+        writer.submit(List.of(fresh, mention(TestDataFactory.USER_ID_3)));
+
+        // When
+        writer.flushPending();
+
+        // Then
+        verify(cacheService).incrementActivityUnreadCounts(TestDataFactory.TENANT_ID,
+                Map.of(TestDataFactory.USER_ID_2, 1L));
+    }
+
+    @Test
+    @DisplayName("should write overflow inline when the queue is full")
+    void testSubmit_QueueFull_WritesOverflowInline() {
+        // Given
+        ActivityFeedWriter writer = new ActivityFeedWriter(activityFeedPort, cacheService, executor, 1, 100);
+        when(activityFeedPort.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        writer.submit(List.of(mention(TestDataFactory.USER_ID_2), mention(TestDataFactory.USER_ID_3)));
+
+        // Then
+        verify(activityFeedPort).insertAll(argThat(list ->
+                list.size() == 1 && list.get(0).getUserId().equals(TestDataFactory.USER_ID_3)));
+        assertEquals(1, writer.flushPending());
+    }
+
+    @Test
+    @DisplayName("should keep draining after a failed insert")
+    void testFlushPending_InsertFails_DoesNotPropagate() {
+        // Given
+        ActivityFeedWriter writer = new ActivityFeedWriter(activityFeedPort, cacheService, executor, 100, 100);
+        when(activityFeedPort.insertAll(anyList())).thenThrow(new RuntimeException("db down"));
+        writer.submit(List.of(mention(TestDataFactory.USER_ID_2)));
+
+        // When & Then
+        assertDoesNotThrow(writer::flushPending);
+        verifyNoInteractions(cacheService);
+    }
+
+    private ActivityFeedEntity mention(Long userId) {
+        return ActivityFeedEntity.createMention(TestDataFactory.TENANT_ID, userId, TestDataFactory.USER_ID_1,
+                TestDataFactory.CHANNEL_ID, TestDataFactory.MESSAGE_ID, "Alice", "Test Group");
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for AttachmentDerivativeService
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
+import serp.project.discuss_service.core.domain.vo.FileUploadResult;
+import serp.project.discuss_service.core.domain.vo.StorageLocation;
+import serp.project.discuss_service.core.port.client.IStoragePort;
+import serp.project.discuss_service.core.port.store.IAttachmentPort;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.kernel.property.StorageProperties;
+import serp.project.discuss_service.testutil.TestDataFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttachmentDerivativeService.
+ * Tests thumbnail/preview generation with a mocked storage port.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttachmentDerivativeServiceTest {
+
+    @Mock
+    private IStoragePort storagePort;
+
+    @Mock
+    private IAttachmentPort attachmentPort;
+
+    @Mock
+    private IDiscussCacheService cacheService;
+
+    @Mock
+    private StorageProperties storageProperties;
+
+    @InjectMocks
+    private AttachmentDerivativeService derivativeService;
+
+    private final StorageProperties.DerivativeProperties derivativeProperties = new StorageProperties.DerivativeProperties();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(storageProperties.getDerivative()).thenReturn(derivativeProperties);
+    }
+
+    @Nested
+    @DisplayName("supportsDerivatives")
+    class SupportsDerivativesTests {
+
+        @Test
+        @DisplayName("should support stored raster images")
+        void testSupportsDerivatives_Image_ReturnsTrue() {
+            assertTrue(derivativeService.supportsDerivatives(TestDataFactory.createImageAttachment()));
+        }
+
+        @Test
+        @DisplayName("should not support documents, svg or disabled generation")
+        void testSupportsDerivatives_NotEligible_ReturnsFalse() {
+            assertFalse(derivativeService.supportsDerivatives(TestDataFactory.createDocumentAttachment()));
+            assertFalse(derivativeService.supportsDerivatives(
+                    TestDataFactory.createAttachment("logo.svg", "image/svg+xml", 512L)));
+
+            derivativeProperties.setEnabled(false);
+            assertFalse(derivativeService.supportsDerivatives(TestDataFactory.createImageAttachment()));
+        }
+
+        @Test
+        @DisplayName("should not support images above the source size limit")
+        void testSupportsDerivatives_TooLarge_ReturnsFalse() {
+            derivativeProperties.setMaxSourceSize(100L);
+            assertFalse(derivativeService.supportsDerivatives(TestDataFactory.createImageAttachment()));
+        }
+    }
+
+    @Nested
+    @DisplayName("generateDerivatives")
+    class GenerateDerivativesTests {
+
+        @Test
+        @DisplayName("should upload scaled thumbnail and preview under derived keys")
+        void testGenerateDerivatives_Image_StoresRenditions() throws IOException {
+            // Given
+            AttachmentEntity attachment = TestDataFactory.createImageAttachment();
+            when(storagePort.download(any(StorageLocation.class)))
+                    .thenReturn(new ByteArrayInputStream(pngBytes(2000, 1000)));
+            when(storagePort.upload(any(StorageLocation.class), any(byte[].class), anyString()))
+                    .thenAnswer(inv -> {
+                        StorageLocation location = inv.getArgument(0);
+                        byte[] content = inv.getArgument(1);
+                        return FileUploadResult.success(location, inv.getArgument(2), (long) content.length);
+                    });
+            when(attachmentPort.updateDerivatives(any(AttachmentEntity.class))).thenReturn(true);
+
+            // When
+            AttachmentEntity result = derivativeService.generateDerivatives(attachment);
+
+            // Then
+            ArgumentCaptor<StorageLocation> locationCaptor = ArgumentCaptor.forClass(StorageLocation.class);
+            ArgumentCaptor<byte[]> contentCaptor = ArgumentCaptor.forClass(byte[].class);
+            verify(storagePort, times(2)).upload(locationCaptor.capture(), contentCaptor.capture(), eq("image/jpeg"));
+
+            List<StorageLocation> locations = locationCaptor.getAllValues();
+            assertEquals("derived/thumbnail/" + attachment.getStorageKey() + ".jpg", locations.get(0).getKey());
+            assertEquals("derived/preview/" + attachment.getStorageKey() + ".jpg", locations.get(1).getKey());
+
+            BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(contentCaptor.getAllValues().get(0)));
+            assertEquals(320, thumbnail.getWidth());
+            assertEquals(160, thumbnail.getHeight());
+
+            assertEquals(locations.get(0).getKey(), result.getDerivativeKey(AttachmentEntity.DERIVATIVE_THUMBNAIL));
+            assertEquals(locations.get(1).getKey(), result.getDerivativeKey(AttachmentEntity.DERIVATIVE_PREVIEW));
+            assertEquals(2000, result.getWidth());
+            assertEquals(1000, result.getHeight());
+            verify(attachmentPort).updateDerivatives(attachment);
+            verify(attachmentPort, never()).save(any());
+            verify(cacheService).invalidateAttachmentUrl(attachment.getId());
+        }
+
+        @Test
+        @DisplayName("should not decode images above the pixel limit")
+        void testGenerateDerivatives_TooManyPixels_Skips() throws IOException {
+            // Given
+            derivativeProperties.setMaxSourcePixels(1_000_000L);
+            AttachmentEntity attachment = TestDataFactory.createImageAttachment();
+            when(storagePort.download(any(StorageLocation.class)))
+                    .thenReturn(new ByteArrayInputStream(pngBytes(2000, 1000)));
+
+            // When
+            AttachmentEntity result = derivativeService.generateDerivatives(attachment);
+
+            // Then
+            assertSame(attachment, result);
+            verify(storagePort, never()).upload(any(StorageLocation.class), any(byte[].class), anyString());
+            verifyNoInteractions(attachmentPort, cacheService);
+        }
+
+        @Test
+        @DisplayName("should discard renditions of an attachment deleted meanwhile")
+        void testGenerateDerivatives_AttachmentDeleted_DiscardsRenditions() throws IOException {
+            // Given
+            AttachmentEntity attachment = TestDataFactory.createImageAttachment();
+            when(storagePort.download(any(StorageLocation.class)))
+                    .thenReturn(new ByteArrayInputStream(pngBytes(400, 200)));
+            when(storagePort.upload(any(StorageLocation.class), any(byte[].class), anyString()))
+                    .thenAnswer(inv -> FileUploadResult.success(inv.getArgument(0), inv.getArgument(2), 1L));
+            when(attachmentPort.updateDerivatives(any(AttachmentEntity.class))).thenReturn(false);
+
+            // When
+            derivativeService.generateDerivatives(attachment);
+
+            // Then
+            ArgumentCaptor<StorageLocation> deleted = ArgumentCaptor.forClass(StorageLocation.class);
+            verify(storagePort, times(2)).delete(deleted.capture());
+            assertEquals("derived/thumbnail/" + attachment.getStorageKey() + ".jpg", deleted.getAllValues().get(0).getKey());
+            assertEquals("derived/preview/" + attachment.getStorageKey() + ".jpg", deleted.getAllValues().get(1).getKey());
+            verify(attachmentPort, never()).save(any());
+            verifyNoInteractions(cacheService);
+        }
+
+        @Test
+        @DisplayName("should leave attachment unchanged when storage download fails")
+        void testGenerateDerivatives_DownloadFails_ReturnsUnchanged() {
+            // Given
+            AttachmentEntity attachment = TestDataFactory.createImageAttachment();
+            when(storagePort.download(any(StorageLocation.class))).thenThrow(new RuntimeException("S3 down"));
+
+            // When
+            AttachmentEntity result = derivativeService.generateDerivatives(attachment);
+
+            // Then
+            assertSame(attachment, result);
+            assertFalse(result.hasDerivative(AttachmentEntity.DERIVATIVE_THUMBNAIL));
+            verifyNoInteractions(attachmentPort);
+        }
+
+        @Test
+        @DisplayName("should skip non-image attachments without touching storage")
+        void testGenerateDerivatives_Document_Skips() {
+            // When
+            derivativeService.generateDerivatives(TestDataFactory.createDocumentAttachment());
+
+            // Then
+            verifyNoInteractions(storagePort, attachmentPort, cacheService);
+        }
+    }
+
+    private static byte[] pngBytes(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
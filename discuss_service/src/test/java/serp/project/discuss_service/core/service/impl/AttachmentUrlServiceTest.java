@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -109,6 +110,26 @@ class AttachmentUrlServiceTest {
             assertEquals(PRESIGNED_URL, result.getThumbnailUrl());
         }
 
+        @Test
+        @DisplayName("should presign generated thumbnail and preview when available")
+        void testEnrichWithUrls_ImageWithDerivatives_UsesDerivedKeys() {
+            // Given
+            AttachmentEntity attachment = TestDataFactory.createCleanAttachment();
+            attachment.setDerivativeKey(AttachmentEntity.DERIVATIVE_THUMBNAIL, "derived/thumbnail/key.jpg");
+            attachment.setDerivativeKey(AttachmentEntity.DERIVATIVE_PREVIEW, "derived/preview/key.jpg");
+            when(storagePort.generatePresignedUrl(any(StorageLocation.class), any(Duration.class)))
+                    .thenAnswer(inv -> "signed:" + ((StorageLocation) inv.getArgument(0)).getKey());
+
+            // When
+            AttachmentResponse result = attachmentUrlService.enrichWithUrls(attachment);
+
+            // Then
+            assertEquals("signed:" + attachment.getStorageKey(), result.getDownloadUrl());
+            assertEquals("signed:derived/thumbnail/key.jpg", result.getThumbnailUrl());
+            assertEquals("signed:derived/preview/key.jpg", result.getPreviewUrl());
+            verify(storagePort, times(3)).generatePresignedUrl(any(StorageLocation.class), any(Duration.class));
+        }
+
         @Test
         @DisplayName("should return null when attachment is null")
         void testEnrichWithUrls_NullAttachment_ReturnsNull() {
@@ -164,10 +185,10 @@ class AttachmentUrlServiceTest {
         @DisplayName("should enrich all attachments in list")
         void testEnrichWithUrls_MultipleAttachments_EnrichesAll() {
             // Given
-            List<AttachmentEntity> attachments = List.of(
-                    TestDataFactory.createCleanAttachment(),
-                    TestDataFactory.createCleanAttachment()
-            );
+            AttachmentEntity first = TestDataFactory.createCleanAttachment();
+            AttachmentEntity second = TestDataFactory.createCleanAttachment();
+            second.setId(2L);
+            List<AttachmentEntity> attachments = List.of(first, second);
             when(storagePort.generatePresignedUrl(any(StorageLocation.class), any(Duration.class)))
                     .thenReturn(PRESIGNED_URL);
 
@@ -181,6 +202,72 @@ class AttachmentUrlServiceTest {
                 assertNotNull(r.getUrlExpiresAt());
             });
             verify(storagePort, times(2)).generatePresignedUrl(any(StorageLocation.class), any(Duration.class));
+            verify(cacheService, times(1)).cacheAttachmentUrls(argThat(urls -> urls.size() == 2));
+            verify(cacheService, never()).getCachedAttachmentUrl(any());
+        }
+
+        @Test
+        @DisplayName("should sign an attachment shared by the list only once")
+        void testEnrichWithUrls_DuplicateAttachmentIds_SignsOnce() {
+            // Given
+            List<AttachmentEntity> attachments = List.of(
+                    TestDataFactory.createCleanAttachment(),
+                    TestDataFactory.createCleanAttachment()
+            );
+            when(storagePort.generatePresignedUrl(any(StorageLocation.class), any(Duration.class)))
+                    .thenReturn(PRESIGNED_URL);
+
+            // When
+            List<AttachmentResponse> results = attachmentUrlService.enrichWithUrls(attachments);
+
+            // Then
+            assertEquals(2, results.size());
+            results.forEach(r -> assertEquals(PRESIGNED_URL, r.getDownloadUrl()));
+            verify(storagePort, times(1)).generatePresignedUrl(any(StorageLocation.class), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("should use batch-cached URLs and sign only the misses")
+        void testEnrichWithUrls_PartialCacheHit_SignsOnlyMisses() {
+            // Given
+            AttachmentEntity cachedAttachment = TestDataFactory.createCleanAttachment();
+            AttachmentEntity missedAttachment = TestDataFactory.createCleanAttachment();
+            missedAttachment.setId(2L);
+            String cachedUrl = "http://localhost:9000/bucket/cached";
+            IDiscussCacheService.CachedAttachmentUrl cached = new IDiscussCacheService.CachedAttachmentUrl(
+                    cachedUrl, null, null, System.currentTimeMillis() + 60_000);
+            when(cacheService.getCachedAttachmentUrls(any())).thenReturn(Map.of(cachedAttachment.getId(), cached));
+            when(storagePort.generatePresignedUrl(any(StorageLocation.class), any(Duration.class)))
+                    .thenReturn(PRESIGNED_URL);
+
+            // When
+            List<AttachmentResponse> results = attachmentUrlService.enrichWithUrls(
+                    List.of(cachedAttachment, missedAttachment));
+
+            // Then
+            assertEquals(cachedUrl, results.get(0).getDownloadUrl());
+            assertEquals(PRESIGNED_URL, results.get(1).getDownloadUrl());
+            verify(storagePort, times(1)).generatePresignedUrl(any(StorageLocation.class), any(Duration.class));
+            verify(cacheService).cacheAttachmentUrls(argThat(urls ->
+                    urls.size() == 1 && urls.containsKey(missedAttachment.getId())));
+        }
+
+        @Test
+        @DisplayName("should re-sign batch-cached URLs that already expired")
+        void testEnrichWithUrls_ExpiredBatchCacheEntry_ResignsUrl() {
+            // Given
+            AttachmentEntity attachment = TestDataFactory.createCleanAttachment();
+            IDiscussCacheService.CachedAttachmentUrl expired = new IDiscussCacheService.CachedAttachmentUrl(
+                    "http://localhost:9000/bucket/expired", null, null, System.currentTimeMillis() - 1);
+            when(cacheService.getCachedAttachmentUrls(any())).thenReturn(Map.of(attachment.getId(), expired));
+            when(storagePort.generatePresignedUrl(any(StorageLocation.class), any(Duration.class)))
+                    .thenReturn(PRESIGNED_URL);
+
+            // When
+            List<AttachmentResponse> results = attachmentUrlService.enrichWithUrls(List.of(attachment));
+
+            // Then
+            assertEquals(PRESIGNED_URL, results.get(0).getDownloadUrl());
         }
 
         @Test
@@ -273,7 +360,9 @@ class AttachmentUrlServiceTest {
             message1.setAttachments(List.of(TestDataFactory.createCleanAttachment()));
             
             MessageEntity message2 = TestDataFactory.createTextMessage();
-            message2.setAttachments(List.of(TestDataFactory.createCleanAttachment()));
+            AttachmentEntity secondAttachment = TestDataFactory.createCleanAttachment();
+            secondAttachment.setId(2L);
+            message2.setAttachments(List.of(secondAttachment));
             
             List<MessageEntity> messages = List.of(message1, message2);
 
@@ -290,6 +379,28 @@ class AttachmentUrlServiceTest {
                 assertEquals(1, r.getAttachments().size());
                 assertEquals(PRESIGNED_URL, r.getAttachments().get(0).getDownloadUrl());
             });
+            verify(cacheService, times(1)).getCachedAttachmentUrls(argThat(ids -> ids.size() == 2));
+            verify(cacheService, times(1)).cacheAttachmentUrls(argThat(urls -> urls.size() == 2));
+        }
+
+        @Test
+        @DisplayName("should not sign anything when the whole page is cached")
+        void testEnrichMessagesWithUrls_AllCached_SkipsSigning() {
+            // Given
+            MessageEntity message = TestDataFactory.createTextMessage();
+            AttachmentEntity attachment = TestDataFactory.createCleanAttachment();
+            message.setAttachments(List.of(attachment));
+            IDiscussCacheService.CachedAttachmentUrl cached = new IDiscussCacheService.CachedAttachmentUrl(
+                    PRESIGNED_URL, null, null, System.currentTimeMillis() + 60_000);
+            when(cacheService.getCachedAttachmentUrls(any())).thenReturn(Map.of(attachment.getId(), cached));
+
+            // When
+            List<MessageResponse> results = attachmentUrlService.enrichMessagesWithUrls(List.of(message));
+
+            // Then
+            assertEquals(PRESIGNED_URL, results.get(0).getAttachments().get(0).getDownloadUrl());
+            verify(storagePort, never()).generatePresignedUrl(any(), any());
+            verify(cacheService, never()).cacheAttachmentUrls(any());
         }
 
         @Test
@@ -0,0 +1,245 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for ChannelInboxService
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.dto.response.ChannelInboxResponse;
+import serp.project.discuss_service.core.domain.dto.response.ChannelResponse;
+import serp.project.discuss_service.core.domain.entity.ChannelEntity;
+import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.domain.enums.MemberRole;
+import serp.project.discuss_service.core.domain.vo.ChannelInboxEntry;
+import serp.project.discuss_service.core.exception.AppException;
+import serp.project.discuss_service.core.exception.ErrorCode;
+import serp.project.discuss_service.core.port.store.IChannelMemberPort;
+import serp.project.discuss_service.core.service.IChannelMemberService;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.testutil.TestDataFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ChannelInboxService.
+ * Tests sorted-set paging, cold rebuild and unread count resolution.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChannelInboxServiceTest {
+
+    private static final Long USER_ID = TestDataFactory.USER_ID_1;
+    private static final Long TENANT_ID = TestDataFactory.TENANT_ID;
+
+    @Mock
+    private IChannelMemberPort memberPort;
+
+    @Mock
+    private IChannelMemberService memberService;
+
+    @Mock
+    private IDiscussCacheService cacheService;
+
+    @InjectMocks
+    private ChannelInboxService inboxService;
+
+    // ==================== GET INBOX TESTS ====================
+
+    @Nested
+    @DisplayName("getInbox")
+    class GetInboxTests {
+
+        @Test
+        @DisplayName("should keep sorted set order and return next cursor when more channels exist")
+        void testGetInbox_WarmInbox_ReturnsOrderedPageWithCursor() {
+            // Given
+            Map<Long, Long> page = new LinkedHashMap<>();
+            page.put(3L, 3000L);
+            page.put(1L, 2000L);
+            page.put(2L, 1000L);
+            when(cacheService.hasUserInbox(TENANT_ID, USER_ID)).thenReturn(true);
+            when(cacheService.getUserInboxPage(TENANT_ID, USER_ID, null, null, 3)).thenReturn(page);
+            when(memberPort.findInboxByChannelIds(eq(USER_ID), eq(TENANT_ID), any()))
+                    .thenReturn(List.of(createEntry(1L, 0), createEntry(3L, 0)));
+            when(cacheService.getCachedUnreadCounts(USER_ID)).thenReturn(Map.of());
+
+            // When
+            ChannelInboxResponse result = inboxService.getInbox(USER_ID, TENANT_ID, null, 2);
+
+            // Then
+            assertEquals(List.of(3L, 1L), result.getItems().stream().map(ChannelResponse::getId).toList());
+            assertTrue(result.getHasNext());
+            assertEquals("2000_1", result.getNextCursor());
+            verify(memberPort, never()).findInboxActivity(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("should pass decoded cursor to the sorted set lookup")
+        void testGetInbox_WithCursor_PagesBeforePosition() {
+            // Given
+            when(cacheService.hasUserInbox(TENANT_ID, USER_ID)).thenReturn(true);
+            when(cacheService.getUserInboxPage(TENANT_ID, USER_ID, 2000L, 1L, 31)).thenReturn(Map.of(2L, 1000L));
+            when(memberPort.findInboxByChannelIds(eq(USER_ID), eq(TENANT_ID), any()))
+                    .thenReturn(List.of(createEntry(2L, 0)));
+            when(cacheService.getCachedUnreadCounts(USER_ID)).thenReturn(Map.of());
+
+            // When
+            ChannelInboxResponse result = inboxService.getInbox(USER_ID, TENANT_ID, "2000_1", 0);
+
+            // Then
+            assertEquals(1, result.getItems().size());
+            assertFalse(result.getHasNext());
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("should serve a cold inbox with the keyset query and rebuild the sorted set")
+        void testGetInbox_ColdInbox_KeysetPageAndRebuild() {
+            // Given
+            Map<Long, Long> activity = Map.of(1L, 1000L, 2L, 3000L, 3L, 3000L);
+            when(cacheService.hasUserInbox(TENANT_ID, USER_ID)).thenReturn(false);
+            when(memberPort.findInboxPage(USER_ID, TENANT_ID, null, null, 3)).thenReturn(List.of(
+                    createEntry(3L, 0, 3000L), createEntry(2L, 0, 3000L), createEntry(1L, 0, 1000L)));
+            when(memberPort.findInboxActivity(USER_ID, TENANT_ID)).thenReturn(activity);
+            when(cacheService.getCachedUnreadCounts(USER_ID)).thenReturn(Map.of());
+
+            // When
+            ChannelInboxResponse result = inboxService.getInbox(USER_ID, TENANT_ID, null, 2);
+
+            // Then
+            verify(cacheService).cacheUserInbox(TENANT_ID, USER_ID, activity);
+            verify(memberPort, never()).findInboxByChannelIds(anyLong(), anyLong(), any());
+            assertEquals(List.of(3L, 2L), result.getItems().stream().map(ChannelResponse::getId).toList());
+            assertTrue(result.getHasNext());
+            assertEquals("3000_2", result.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("should pass decoded cursor to the keyset query of a cold inbox")
+        void testGetInbox_ColdInboxWithCursor_PagesBeforePosition() {
+            // Given
+            when(cacheService.hasUserInbox(TENANT_ID, USER_ID)).thenReturn(false);
+            when(memberPort.findInboxPage(USER_ID, TENANT_ID, 3000L, 2L, 3))
+                    .thenReturn(List.of(createEntry(1L, 0, 1000L)));
+            when(memberPort.findInboxActivity(USER_ID, TENANT_ID)).thenReturn(Map.of());
+            when(cacheService.getCachedUnreadCounts(USER_ID)).thenReturn(Map.of());
+
+            // When
+            ChannelInboxResponse result = inboxService.getInbox(USER_ID, TENANT_ID, "3000_2", 2);
+
+            // Then
+            assertEquals(List.of(1L), result.getItems().stream().map(ChannelResponse::getId).toList());
+            assertFalse(result.getHasNext());
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("should drop channels the user no longer belongs to from the cached inbox")
+        void testGetInbox_StaleChannel_RemovedFromInbox() {
+            // Given
+            when(cacheService.hasUserInbox(TENANT_ID, USER_ID)).thenReturn(true);
+            when(cacheService.getUserInboxPage(TENANT_ID, USER_ID, null, null, 31))
+                    .thenReturn(Map.of(1L, 1000L, 9L, 900L));
+            when(memberPort.findInboxByChannelIds(eq(USER_ID), eq(TENANT_ID), any()))
+                    .thenReturn(List.of(createEntry(1L, 0)));
+            when(cacheService.getCachedUnreadCounts(USER_ID)).thenReturn(Map.of());
+
+            // When
+            ChannelInboxResponse result = inboxService.getInbox(USER_ID, TENANT_ID, null, 30);
+
+            // Then
+            assertEquals(1, result.getItems().size());
+            verify(cacheService).removeFromUserInbox(TENANT_ID, USER_ID, List.of(9L));
+        }
+
+        @Test
+        @DisplayName("should prefer Redis unread counts over stored membership counts")
+        void testGetInbox_CachedUnread_OverridesMembershipCount() {
+            // Given
+            when(cacheService.hasUserInbox(TENANT_ID, USER_ID)).thenReturn(true);
+            when(cacheService.getUserInboxPage(TENANT_ID, USER_ID, null, null, 31))
+                    .thenReturn(Map.of(1L, 1000L));
+            when(memberPort.findInboxByChannelIds(eq(USER_ID), eq(TENANT_ID), any()))
+                    .thenReturn(List.of(createEntry(1L, 2)));
+            when(cacheService.getCachedUnreadCounts(USER_ID)).thenReturn(Map.of(1L, 7));
+
+            // When
+            ChannelInboxResponse result = inboxService.getInbox(USER_ID, TENANT_ID, null, 30);
+
+            // Then
+            ChannelResponse item = result.getItems().get(0);
+            assertEquals(7, item.getUnreadCount());
+            assertNotNull(item.getLastMessage());
+            assertFalse(item.getIsPinned());
+        }
+
+        @Test
+        @DisplayName("should reject malformed cursor")
+        void testGetInbox_InvalidCursor_ThrowsException() {
+            // When & Then
+            AppException exception = assertThrows(AppException.class,
+                    () -> inboxService.getInbox(USER_ID, TENANT_ID, "not-a-cursor", 30));
+            assertEquals(ErrorCode.INVALID_CURSOR.getMessage(), exception.getMessage());
+            verifyNoInteractions(memberPort);
+        }
+    }
+
+    // ==================== RECORD ACTIVITY TESTS ====================
+
+    @Nested
+    @DisplayName("recordChannelActivity")
+    class RecordChannelActivityTests {
+
+        @Test
+        @DisplayName("should touch inboxes of all channel members")
+        void testRecordChannelActivity_Message_TouchesMemberInboxes() {
+            // Given
+            MessageEntity message = TestDataFactory.createTextMessage();
+            Set<Long> memberIds = Set.of(TestDataFactory.USER_ID_1, TestDataFactory.USER_ID_2);
+            when(memberService.getMemberIds(message.getChannelId())).thenReturn(memberIds);
+
+            // When
+            inboxService.recordChannelActivity(message);
+
+            // Then
+            verify(cacheService).touchUserInboxes(message.getTenantId(), memberIds,
+                    message.getChannelId(), message.getCreatedAt());
+        }
+    }
+
+    private ChannelInboxEntry createEntry(Long channelId, int unreadCount) {
+        return createEntry(channelId, unreadCount, null);
+    }
+
+    private ChannelInboxEntry createEntry(Long channelId, int unreadCount, Long lastActivityAt) {
+        ChannelEntity channel = TestDataFactory.createGroupChannel();
+        channel.setId(channelId);
+        ChannelMemberEntity membership = TestDataFactory.createMember(USER_ID, MemberRole.MEMBER);
+        membership.setChannelId(channelId);
+        membership.setUnreadCount(unreadCount);
+        MessageEntity lastMessage = TestDataFactory.createTextMessage();
+        lastMessage.setChannelId(channelId);
+        return ChannelInboxEntry.builder()
+                .channel(channel)
+                .membership(membership)
+                .lastMessage(lastMessage)
+                .lastActivityAt(lastActivityAt != null ? lastActivityAt : lastMessage.getCreatedAt())
+                .build();
+    }
+}
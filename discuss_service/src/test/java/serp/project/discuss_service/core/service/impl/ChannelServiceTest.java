@@ -353,6 +353,17 @@ class ChannelServiceTest {
             verify(channelPort).findByTenantId(TestDataFactory.TENANT_ID);
         }
 
+        @Test
+        @DisplayName("getChannelsByIds should skip the query for no ids")
+        void testGetChannelsByIds_EmptyIds_SkipsPort() {
+            // When
+            List<ChannelEntity> result = channelService.getChannelsByIds(List.of());
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(channelPort, never()).findByIds(any());
+        }
+
         @Test
         @DisplayName("getChannelsByType should filter by type")
         void testGetChannelsByType_DelegatesToPort() {
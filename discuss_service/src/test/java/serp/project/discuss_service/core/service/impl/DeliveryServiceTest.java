@@ -0,0 +1,155 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for DeliveryService
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.dto.websocket.WsEvent;
+import serp.project.discuss_service.core.domain.dto.websocket.WsEventType;
+import serp.project.discuss_service.core.port.client.IWebSocketHubPort;
+import serp.project.discuss_service.core.service.IAttachmentUrlService;
+import serp.project.discuss_service.core.service.IChannelMemberService;
+import serp.project.discuss_service.core.service.IMessageService;
+import serp.project.discuss_service.core.service.IPresenceService;
+import serp.project.discuss_service.core.service.IUserInfoService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+import static serp.project.discuss_service.testutil.TestDataFactory.*;
+
+/**
+ * Unit tests for DeliveryService.
+ * Tests batched fan-out: recipient resolution per channel and frame merging.
+ */
+@ExtendWith(MockitoExtension.class)
+class DeliveryServiceTest {
+
+    private static final Long OTHER_CHANNEL_ID = CHANNEL_ID + 1;
+
+    @Mock
+    private IWebSocketHubPort webSocketHub;
+
+    @Mock
+    private IMessageService messageService;
+
+    @Mock
+    private IChannelMemberService memberService;
+
+    @Mock
+    private IPresenceService presenceService;
+
+    @Mock
+    private IAttachmentUrlService attachmentUrlService;
+
+    @Mock
+    private IUserInfoService userInfoService;
+
+    @InjectMocks
+    private DeliveryService deliveryService;
+
+    // ==================== DELIVER BATCH TESTS ====================
+
+    @Nested
+    @DisplayName("deliverBatch")
+    class DeliverBatchTests {
+
+        @Test
+        @DisplayName("should send a single event as-is and resolve members once")
+        void testDeliverBatch_SingleEvent_SendsEventDirectly() {
+            // Given
+            WsEvent<?> event = WsEvent.of(WsEventType.REACTION_ADDED, Map.of("emoji", "+1"), CHANNEL_ID);
+            when(memberService.getMemberIds(CHANNEL_ID)).thenReturn(Set.of(USER_ID_1, USER_ID_2));
+            when(presenceService.getOnlineUsers(Set.of(USER_ID_1, USER_ID_2))).thenReturn(Set.of(USER_ID_1));
+
+            // When
+            deliveryService.deliverBatch(List.of(event));
+
+            // Then
+            verify(webSocketHub).sendToUsers(Set.of(USER_ID_1), event);
+        }
+
+        @Test
+        @DisplayName("should merge events of the same channel into one BATCH frame")
+        void testDeliverBatch_SameChannel_SendsMergedFrame() {
+            // Given
+            WsEvent<?> first = WsEvent.of(WsEventType.REACTION_ADDED, Map.of("emoji", "+1"), CHANNEL_ID);
+            WsEvent<?> second = WsEvent.of(WsEventType.REACTION_REMOVED, Map.of("emoji", "+1"), CHANNEL_ID);
+            when(memberService.getMemberIds(CHANNEL_ID)).thenReturn(Set.of(USER_ID_1, USER_ID_2));
+            when(presenceService.getOnlineUsers(anySet())).thenReturn(Set.of(USER_ID_1, USER_ID_2));
+
+            // When
+            deliveryService.deliverBatch(List.of(first, second));
+
+            // Then
+            ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+            verify(webSocketHub).sendToUsers(eq(Set.of(USER_ID_1, USER_ID_2)), payload.capture());
+            WsEvent<?> frame = (WsEvent<?>) payload.getValue();
+            assertEquals(WsEventType.BATCH, frame.getType());
+            assertEquals(List.of(first, second), frame.getPayload());
+            verify(memberService, times(1)).getMemberIds(CHANNEL_ID);
+        }
+
+        @Test
+        @DisplayName("should send each recipient only the events of channels they belong to")
+        void testDeliverBatch_MultipleChannels_SendsPerMembershipFrames() {
+            // Given
+            WsEvent<?> inFirst = WsEvent.of(WsEventType.REACTION_ADDED, Map.of("emoji", "+1"), CHANNEL_ID);
+            WsEvent<?> inSecond = WsEvent.of(WsEventType.REACTION_ADDED, Map.of("emoji", "ok"), OTHER_CHANNEL_ID);
+            when(memberService.getMemberIds(CHANNEL_ID)).thenReturn(Set.of(USER_ID_1, USER_ID_2));
+            when(memberService.getMemberIds(OTHER_CHANNEL_ID)).thenReturn(Set.of(USER_ID_2, USER_ID_3));
+            when(presenceService.getOnlineUsers(Set.of(USER_ID_1, USER_ID_2, USER_ID_3)))
+                    .thenReturn(Set.of(USER_ID_1, USER_ID_2, USER_ID_3));
+
+            // When
+            deliveryService.deliverBatch(List.of(inFirst, inSecond));
+
+            // Then
+            verify(presenceService, times(1)).getOnlineUsers(anySet());
+            verify(webSocketHub).sendToUsers(Set.of(USER_ID_1), inFirst);
+            verify(webSocketHub).sendToUsers(Set.of(USER_ID_3), inSecond);
+            ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+            verify(webSocketHub).sendToUsers(eq(Set.of(USER_ID_2)), payload.capture());
+            assertEquals(List.of(inFirst, inSecond), ((WsEvent<?>) payload.getValue()).getPayload());
+        }
+
+        @Test
+        @DisplayName("should skip sending when no member is online")
+        void testDeliverBatch_NoOnlineMembers_SkipsSend() {
+            // Given
+            WsEvent<?> event = WsEvent.of(WsEventType.REACTION_ADDED, Map.of("emoji", "+1"), CHANNEL_ID);
+            when(memberService.getMemberIds(CHANNEL_ID)).thenReturn(Set.of(USER_ID_1));
+            when(presenceService.getOnlineUsers(anySet())).thenReturn(Set.of());
+
+            // When
+            deliveryService.deliverBatch(List.of(event));
+
+            // Then
+            verify(webSocketHub, never()).sendToUsers(anySet(), any());
+        }
+
+        @Test
+        @DisplayName("should ignore empty batch")
+        void testDeliverBatch_EmptyBatch_NoOp() {
+            // When
+            deliveryService.deliverBatch(List.of());
+
+            // Then
+            verifyNoInteractions(memberService, presenceService, webSocketHub);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for DiscussCacheService
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.port.client.ICachePort;
+import serp.project.discuss_service.core.service.IDiscussCacheService.CachedAttachmentUrl;
+import serp.project.discuss_service.kernel.property.CacheProperties;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DiscussCacheService.
+ * Tests that the attachment URL near-cache follows invalidations made on other instances.
+ */
+@ExtendWith(MockitoExtension.class)
+class DiscussCacheServiceTest {
+
+    private static final String CHANNEL = "discuss:cache:invalidation";
+    private static final Long ATTACHMENT_ID = 42L;
+    private static final String KEY = "discuss:attachment_url:" + ATTACHMENT_ID;
+
+    @Mock
+    private ICachePort cachePort;
+
+    private DiscussCacheService cacheService;
+    private Consumer<String> invalidationListener;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new DiscussCacheService(cachePort, new CacheProperties(), new SimpleMeterRegistry());
+        cacheService.subscribeToInvalidations();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(cachePort).subscribe(eq(CHANNEL), listener.capture());
+        invalidationListener = listener.getValue();
+    }
+
+    @Nested
+    @DisplayName("attachment URL invalidation")
+    class AttachmentUrlInvalidationTests {
+
+        @Test
+        @DisplayName("should delete from Redis and tell other instances")
+        void testInvalidateAttachmentUrl_DeletesAndBroadcasts() {
+            // When
+            cacheService.invalidateAttachmentUrl(ATTACHMENT_ID);
+
+            // Then
+            ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+            verify(cachePort).deleteFromCache(KEY);
+            verify(cachePort).publish(eq(CHANNEL), published.capture());
+            assertTrue(published.getValue().startsWith("attachment_url|"));
+            assertTrue(published.getValue().endsWith("|K|" + ATTACHMENT_ID));
+        }
+
+        @Test
+        @DisplayName("should drop the near-cache entry when another instance invalidates it")
+        void testOnInvalidation_FromOtherInstance_EvictsNearCache() {
+            // Given
+            cacheService.cacheAttachmentUrl(ATTACHMENT_ID, url());
+
+            // When
+            invalidationListener.accept("attachment_url|instance-b|K|" + ATTACHMENT_ID);
+            Optional<CachedAttachmentUrl> result = cacheService.getCachedAttachmentUrl(ATTACHMENT_ID);
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(cachePort).getFromCache(KEY, CachedAttachmentUrl.class);
+        }
+
+        @Test
+        @DisplayName("should keep the near-cache entry on its own broadcast")
+        void testOnInvalidation_OwnBroadcast_KeepsNearCache() {
+            // Given
+            cacheService.invalidateAttachmentUrl(ATTACHMENT_ID);
+            ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+            verify(cachePort).publish(eq(CHANNEL), published.capture());
+            cacheService.cacheAttachmentUrl(ATTACHMENT_ID, url());
+
+            // When
+            invalidationListener.accept(published.getValue());
+            Optional<CachedAttachmentUrl> result = cacheService.getCachedAttachmentUrl(ATTACHMENT_ID);
+
+            // Then
+            assertTrue(result.isPresent());
+            verify(cachePort, never()).getFromCache(anyString(), eq(CachedAttachmentUrl.class));
+        }
+    }
+
+    private CachedAttachmentUrl url() {
+        return new CachedAttachmentUrl("https://files/42", null, null, System.currentTimeMillis() + 3_600_000L);
+    }
+}
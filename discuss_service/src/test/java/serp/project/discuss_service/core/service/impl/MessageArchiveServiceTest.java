@@ -0,0 +1,148 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for MessageArchiveService
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.port.client.IDistributedLockPort;
+import serp.project.discuss_service.core.port.store.IMessagePartitionPort;
+import serp.project.discuss_service.core.service.IMessageArchiveService;
+import serp.project.discuss_service.kernel.property.MessageArchiveProperties;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MessageArchiveService.
+ * Tests partition premaking and archiving of partitions past the retention window.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageArchiveServiceTest {
+
+    @Mock
+    private IMessagePartitionPort partitionPort;
+
+    @Mock
+    private IDistributedLockPort lockPort;
+
+    private MessageArchiveProperties properties;
+    private MessageArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MessageArchiveProperties();
+        properties.setRetentionMonths(12);
+        properties.setPremadeMonths(2);
+        archiveService = new MessageArchiveService(partitionPort, lockPort, properties);
+    }
+
+    @Nested
+    @DisplayName("maintainPartitions")
+    class MaintainPartitionsTests {
+
+        @Test
+        @DisplayName("should premake the current and upcoming monthly partitions")
+        void testMaintain_PremakesUpcomingPartitions() {
+            // Given
+            runLockedTasks();
+            YearMonth current = YearMonth.now();
+            when(partitionPort.findPartitionMonths()).thenReturn(List.of(current));
+
+            // When
+            archiveService.maintainPartitions();
+
+            // Then
+            verify(partitionPort).createPartition(current);
+            verify(partitionPort).createPartition(current.plusMonths(1));
+            verify(partitionPort).createPartition(current.plusMonths(2));
+            verify(partitionPort, never()).archivePartition(any());
+        }
+
+        @Test
+        @DisplayName("should archive only partitions older than the retention window")
+        void testMaintain_OldPartitions_Archived() {
+            // Given
+            runLockedTasks();
+            YearMonth firstRetained = properties.firstRetainedMonth();
+            when(partitionPort.findPartitionMonths()).thenReturn(List.of(
+                    firstRetained.minusMonths(2), firstRetained.minusMonths(1), firstRetained, YearMonth.now()));
+            when(partitionPort.archivePartition(any())).thenReturn(10L);
+
+            // When
+            archiveService.maintainPartitions();
+
+            // Then
+            verify(partitionPort).archivePartition(firstRetained.minusMonths(2));
+            verify(partitionPort).archivePartition(firstRetained.minusMonths(1));
+            verify(partitionPort, never()).archivePartition(firstRetained);
+        }
+
+        @Test
+        @DisplayName("should stop archiving at the first failed partition")
+        void testMaintain_ArchiveFails_StopsAtFailedPartition() {
+            // Given
+            runLockedTasks();
+            YearMonth firstRetained = properties.firstRetainedMonth();
+            when(partitionPort.findPartitionMonths()).thenReturn(List.of(
+                    firstRetained.minusMonths(2), firstRetained.minusMonths(1)));
+            when(partitionPort.archivePartition(firstRetained.minusMonths(2)))
+                    .thenThrow(new RuntimeException("lock timeout"));
+
+            // When
+            archiveService.maintainPartitions();
+
+            // Then
+            verify(partitionPort, never()).archivePartition(firstRetained.minusMonths(1));
+        }
+
+        @Test
+        @DisplayName("should keep premaking when one partition cannot be created")
+        void testMaintain_CreateFails_ContinuesWithNextMonth() {
+            // Given
+            runLockedTasks();
+            YearMonth current = YearMonth.now();
+            doThrow(new RuntimeException("relation already exists")).when(partitionPort).createPartition(current);
+            when(partitionPort.findPartitionMonths()).thenReturn(List.of());
+
+            // When
+            archiveService.maintainPartitions();
+
+            // Then
+            verify(partitionPort).createPartition(current.plusMonths(2));
+        }
+
+        @Test
+        @DisplayName("should do nothing when disabled")
+        void testMaintain_Disabled_DoesNothing() {
+            // Given
+            properties.setEnabled(false);
+
+            // When
+            archiveService.maintainPartitions();
+
+            // Then
+            verifyNoInteractions(lockPort, partitionPort);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void runLockedTasks() {
+            when(lockPort.executeWithLock(eq(IMessageArchiveService.MAINTENANCE_LOCK_NAME), any(Duration.class), any()))
+                    .thenAnswer(invocation -> Optional.ofNullable(((Supplier<Object>) invocation.getArgument(2)).get()));
+        }
+    }
+}
@@ -94,8 +94,8 @@ class MessageServiceTest {
     class SendReplyTests {
 
         @Test
-        @DisplayName("should send reply and increment parent thread count")
-        void testSendReply_ValidReply_IncrementsParentThread() {
+        @DisplayName("should save reply without rewriting the parent row")
+        void testSendReply_ValidReply_DoesNotSaveParent() {
             // Given
             MessageEntity parent = TestDataFactory.createTextMessage();
             parent.setId(100L);
@@ -109,9 +109,7 @@ class MessageServiceTest {
             savedReply.setParentId(100L);
 
             when(cacheService.getCachedMessage(100L)).thenReturn(Optional.of(parent));
-            when(messagePort.save(any(MessageEntity.class)))
-                    .thenReturn(parent) // First save for parent
-                    .thenReturn(savedReply); // Second save for reply
+            when(messagePort.save(any(MessageEntity.class))).thenReturn(savedReply);
 
             // When
             MessageEntity result = messageService.sendReply(100L, reply);
@@ -121,8 +119,9 @@ class MessageServiceTest {
             assertEquals(101L, result.getId());
             assertEquals(100L, result.getParentId());
             
-            // Verify parent was saved with incremented thread count
-            verify(messagePort, times(2)).save(any(MessageEntity.class));
+            // Thread count is maintained by the thread service after commit
+            verify(messagePort, times(1)).save(reply);
+            assertEquals(0, parent.getThreadCount());
         }
 
         @Test
@@ -246,24 +245,6 @@ class MessageServiceTest {
             verify(messagePort).findBeforeId(1L, 100L, 20);
         }
 
-        @Test
-        @DisplayName("getThreadReplies should delegate to port")
-        void testGetThreadReplies_DelegatesToPort() {
-            // Given
-            List<MessageEntity> replies = List.of(
-                    TestDataFactory.createReplyMessage(100L),
-                    TestDataFactory.createReplyMessage(100L)
-            );
-            when(messagePort.findReplies(100L)).thenReturn(replies);
-
-            // When
-            List<MessageEntity> result = messageService.getThreadReplies(100L);
-
-            // Then
-            assertEquals(2, result.size());
-            verify(messagePort).findReplies(100L);
-        }
-
         @Test
         @DisplayName("searchMessages should delegate to port")
         void testSearchMessages_DelegatesToPort() {
@@ -346,18 +327,13 @@ class MessageServiceTest {
         }
 
         @Test
-        @DisplayName("should decrement parent thread count when deleting reply")
-        void testDeleteMessage_ReplyMessage_DecrementsParentThread() {
+        @DisplayName("should not rewrite the parent row when deleting reply")
+        void testDeleteMessage_ReplyMessage_DoesNotSaveParent() {
             // Given
             MessageEntity reply = TestDataFactory.createReplyMessage(100L);
             reply.setId(101L);
             when(cacheService.getCachedMessage(101L)).thenReturn(Optional.of(reply));
 
-            MessageEntity parent = TestDataFactory.createTextMessage();
-            parent.setId(100L);
-            parent.setThreadCount(5);
-            when(cacheService.getCachedMessage(100L)).thenReturn(Optional.of(parent));
-
             MessageEntity deleted = TestDataFactory.createDeletedMessage();
             deleted.setParentId(100L);
             when(messagePort.save(any(MessageEntity.class))).thenReturn(deleted);
@@ -366,8 +342,9 @@ class MessageServiceTest {
             messageService.deleteMessage(101L, TestDataFactory.USER_ID_1, false);
 
             // Then
-            // Verify parent was saved with decremented thread count
-            verify(messagePort, times(2)).save(any(MessageEntity.class));
+            // Thread count is maintained by the thread service after commit
+            verify(messagePort, times(1)).save(any(MessageEntity.class));
+            verify(cacheService, never()).getCachedMessage(100L);
         }
     }
 
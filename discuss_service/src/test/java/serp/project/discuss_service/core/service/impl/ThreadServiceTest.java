@@ -0,0 +1,345 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for ThreadService
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.port.client.IDistributedLockPort;
+import serp.project.discuss_service.core.port.store.IMessagePort;
+import serp.project.discuss_service.core.service.IDiscussCacheService;
+import serp.project.discuss_service.core.service.IThreadService;
+import serp.project.discuss_service.kernel.property.ThreadProperties;
+import serp.project.discuss_service.testutil.TestDataFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ThreadService.
+ * Tests Redis thread counters, the latest replies window, write-behind flushing and reconciling.
+ */
+@ExtendWith(MockitoExtension.class)
+class ThreadServiceTest {
+
+    private static final Long PARENT_ID = TestDataFactory.MESSAGE_ID;
+    private static final Long CHANNEL_ID = TestDataFactory.CHANNEL_ID;
+
+    @Mock
+    private IMessagePort messagePort;
+
+    @Mock
+    private IDiscussCacheService cacheService;
+
+    @Mock
+    private IDistributedLockPort lockPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadService threadService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        threadService = new ThreadService(messagePort, cacheService, lockPort, new ThreadProperties(), meterRegistry);
+    }
+
+    // ==================== RECORD REPLY TESTS ====================
+
+    @Nested
+    @DisplayName("recordReply / recordReplyDeleted")
+    class RecordReplyTests {
+
+        @Test
+        @DisplayName("should count reply in Redis and append it to the latest replies window")
+        void testRecordReply_Reply_IncrementsPendingAndAppends() {
+            // Given
+            MessageEntity reply = createReply(2101L);
+
+            // When
+            threadService.recordReply(reply);
+
+            // Then
+            verify(cacheService).incrementPendingThreadCount(CHANNEL_ID, PARENT_ID, 1);
+            verify(cacheService).appendLatestThreadReply(PARENT_ID, 2101L, IThreadService.LATEST_REPLIES_WINDOW);
+            verifyNoInteractions(messagePort);
+        }
+
+        @Test
+        @DisplayName("should count a failed Redis increment instead of failing the caller")
+        void testRecordReply_RedisFails_MetersFailure() {
+            // Given
+            MessageEntity reply = createReply(2101L);
+            doThrow(new RuntimeException("redis down"))
+                    .when(cacheService).incrementPendingThreadCount(CHANNEL_ID, PARENT_ID, 1);
+
+            // When
+            threadService.recordReply(reply);
+
+            // Then
+            assertEquals(1.0, meterRegistry.get("discuss.thread.count.failures").tag("stage", "record")
+                    .counter().count());
+            verify(cacheService).appendLatestThreadReply(PARENT_ID, 2101L, IThreadService.LATEST_REPLIES_WINDOW);
+        }
+
+        @Test
+        @DisplayName("should ignore root messages")
+        void testRecordReply_RootMessage_Ignored() {
+            // When
+            threadService.recordReply(TestDataFactory.createTextMessage());
+
+            // Then
+            verifyNoInteractions(cacheService);
+        }
+
+        @Test
+        @DisplayName("should decrement count and drop deleted reply from the window")
+        void testRecordReplyDeleted_Reply_DecrementsPendingAndRemoves() {
+            // Given
+            MessageEntity reply = createReply(2101L);
+
+            // When
+            threadService.recordReplyDeleted(reply);
+
+            // Then
+            verify(cacheService).incrementPendingThreadCount(CHANNEL_ID, PARENT_ID, -1);
+            verify(cacheService).removeLatestThreadReply(PARENT_ID, 2101L);
+        }
+    }
+
+    // ==================== GET REPLIES TESTS ====================
+
+    @Nested
+    @DisplayName("getReplies")
+    class GetRepliesTests {
+
+        @Test
+        @DisplayName("should serve page from window and report replies oldest first")
+        void testGetReplies_WindowCoversPage_ServedFromRedis() {
+            // Given
+            when(cacheService.getLatestThreadReplyIds(PARENT_ID, null, 3)).thenReturn(List.of(2103L, 2102L, 2101L));
+            when(cacheService.getCachedMessages(List.of(2103L, 2102L)))
+                    .thenReturn(Map.of(2103L, createReply(2103L), 2102L, createReply(2102L)));
+
+            // When
+            List<MessageEntity> result = threadService.getReplies(PARENT_ID, null, 2);
+
+            // Then
+            assertEquals(List.of(2102L, 2103L), result.stream().map(MessageEntity::getId).toList());
+            verify(messagePort, never()).findRepliesBefore(anyLong(), any(), anyInt());
+            verify(messagePort, never()).findByIds(any());
+        }
+
+        @Test
+        @DisplayName("should load window misses from the database and cache them")
+        void testGetReplies_MessageCacheMiss_LoadsByIds() {
+            // Given
+            MessageEntity loaded = createReply(2101L);
+            when(cacheService.getLatestThreadReplyIds(PARENT_ID, 2103L, 51))
+                    .thenReturn(List.of(2102L, 2101L, IDiscussCacheService.THREAD_START_MARKER));
+            when(cacheService.getCachedMessages(List.of(2102L, 2101L))).thenReturn(Map.of(2102L, createReply(2102L)));
+            when(messagePort.findByIds(Set.of(2101L))).thenReturn(List.of(loaded));
+
+            // When
+            List<MessageEntity> result = threadService.getReplies(PARENT_ID, 2103L, 0);
+
+            // Then
+            assertEquals(List.of(2101L, 2102L), result.stream().map(MessageEntity::getId).toList());
+            verify(cacheService).cacheMessages(List.of(loaded));
+        }
+
+        @Test
+        @DisplayName("should fall back to database and seed window when window is not cached")
+        void testGetReplies_ColdWindow_SeedsFromDatabase() {
+            // Given
+            List<MessageEntity> newestFirst = List.of(createReply(2103L), createReply(2102L), createReply(2101L));
+            when(cacheService.getLatestThreadReplyIds(PARENT_ID, null, 3)).thenReturn(List.of());
+            when(messagePort.findRepliesBefore(PARENT_ID, null, IThreadService.LATEST_REPLIES_WINDOW))
+                    .thenReturn(newestFirst);
+
+            // When
+            List<MessageEntity> result = threadService.getReplies(PARENT_ID, null, 2);
+
+            // Then
+            assertEquals(List.of(2102L, 2103L), result.stream().map(MessageEntity::getId).toList());
+            verify(cacheService).cacheLatestThreadReplyIds(PARENT_ID, List.of(2103L, 2102L, 2101L), true);
+            verify(cacheService).cacheMessages(newestFirst);
+        }
+
+        @Test
+        @DisplayName("should not trust a window that ends before the page without the thread start marker")
+        void testGetReplies_PartialWindow_PagesFromDatabase() {
+            // Given
+            when(cacheService.getLatestThreadReplyIds(PARENT_ID, 2110L, 31)).thenReturn(List.of(2109L));
+            when(messagePort.findRepliesBefore(PARENT_ID, 2110L, 30)).thenReturn(List.of(createReply(2109L)));
+
+            // When
+            List<MessageEntity> result = threadService.getReplies(PARENT_ID, 2110L, 30);
+
+            // Then
+            assertEquals(1, result.size());
+            verify(cacheService, never()).cacheLatestThreadReplyIds(anyLong(), any(), anyBoolean());
+        }
+    }
+
+    // ==================== PENDING COUNT TESTS ====================
+
+    @Nested
+    @DisplayName("applyPendingThreadCounts")
+    class ApplyPendingThreadCountsTests {
+
+        @Test
+        @DisplayName("should add unflushed deltas to root messages only")
+        void testApplyPendingThreadCounts_PendingDelta_AddedToStoredCount() {
+            // Given
+            MessageEntity root = TestDataFactory.createTextMessage();
+            root.setThreadCount(4);
+            MessageEntity reply = createReply(2101L);
+            when(cacheService.getPendingThreadCounts(List.of(root.getId()))).thenReturn(Map.of(root.getId(), 3L));
+
+            // When
+            threadService.applyPendingThreadCounts(List.of(root, reply));
+
+            // Then
+            assertEquals(7, root.getThreadCount());
+            assertEquals(0, reply.getThreadCount());
+        }
+    }
+
+    // ==================== FLUSH TESTS ====================
+
+    @Nested
+    @DisplayName("flushPendingThreadCounts")
+    class FlushTests {
+
+        @Test
+        @DisplayName("should apply pending deltas to parent rows and invalidate cached copies")
+        void testFlush_PendingDeltas_IncrementsRowsAndInvalidates() {
+            // Given
+            runLockedTasks();
+            when(cacheService.drainDirtyThreads()).thenReturn(Map.of(PARENT_ID, CHANNEL_ID));
+            when(cacheService.getPendingThreadCounts(Set.of(PARENT_ID))).thenReturn(Map.of(PARENT_ID, 5L));
+
+            // When
+            threadService.flushPendingThreadCounts();
+
+            // Then
+            var order = inOrder(cacheService, messagePort);
+            order.verify(messagePort).incrementThreadCounts(Map.of(PARENT_ID, 5L));
+            order.verify(cacheService).acknowledgeFlushedThreadCounts(Map.of(PARENT_ID, 5L));
+            order.verify(cacheService).invalidateMessage(PARENT_ID);
+            verify(cacheService).invalidateChannelMessagesPageAsync(CHANNEL_ID);
+            verify(messagePort, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should keep deltas in Redis and mark parents dirty again when the database write fails")
+        void testFlush_WriteFails_KeepsDeltasPending() {
+            // Given
+            runLockedTasks();
+            when(cacheService.drainDirtyThreads()).thenReturn(Map.of(PARENT_ID, CHANNEL_ID));
+            when(cacheService.getPendingThreadCounts(Set.of(PARENT_ID))).thenReturn(Map.of(PARENT_ID, 2L));
+            doThrow(new RuntimeException("db down")).when(messagePort).incrementThreadCounts(any());
+
+            // When
+            threadService.flushPendingThreadCounts();
+
+            // Then
+            verify(cacheService).markThreadsDirty(Map.of(PARENT_ID, CHANNEL_ID));
+            verify(cacheService, never()).acknowledgeFlushedThreadCounts(any());
+            verify(cacheService, never()).invalidateMessage(anyLong());
+            assertEquals(1.0, meterRegistry.get("discuss.thread.count.failures").tag("stage", "flush")
+                    .counter().count());
+        }
+
+        @Test
+        @DisplayName("should skip flush when another instance holds the lock")
+        void testFlush_LockHeldElsewhere_DoesNothing() {
+            // Given
+            when(lockPort.executeWithLock(eq(IThreadService.FLUSH_LOCK_NAME), any(Duration.class), any()))
+                    .thenReturn(Optional.empty());
+
+            // When
+            threadService.flushPendingThreadCounts();
+
+            // Then
+            verifyNoInteractions(cacheService, messagePort);
+        }
+
+    }
+
+    // ==================== RECONCILE TESTS ====================
+
+    @Nested
+    @DisplayName("reconcileThreadCounts")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("should recount settled threads net of pending deltas and invalidate cached parents")
+        void testReconcile_SettledThreads_RecountedNetOfPending() {
+            // Given
+            runLockedTasks();
+            Long otherParentId = PARENT_ID + 1;
+            when(messagePort.findSettledThreadParents(anyLong(), anyLong(), eq(1000)))
+                    .thenReturn(List.of(PARENT_ID, otherParentId));
+            when(cacheService.getPendingThreadCounts(List.of(PARENT_ID, otherParentId)))
+                    .thenReturn(Map.of(PARENT_ID, 2L));
+            when(messagePort.reconcileThreadCounts(eq(Map.of(PARENT_ID, 2L, otherParentId, 0L)), anyLong()))
+                    .thenReturn(1);
+
+            // When
+            threadService.reconcileThreadCounts();
+
+            // Then
+            verify(cacheService).invalidateMessage(PARENT_ID);
+            verify(cacheService).invalidateMessage(otherParentId);
+        }
+
+        @Test
+        @DisplayName("should skip recount when no thread settled in the window")
+        void testReconcile_NoCandidates_DoesNothing() {
+            // Given
+            runLockedTasks();
+            when(messagePort.findSettledThreadParents(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+
+            // When
+            threadService.reconcileThreadCounts();
+
+            // Then
+            verify(messagePort, never()).reconcileThreadCounts(any(), anyLong());
+            verifyNoInteractions(cacheService);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runLockedTasks() {
+        when(lockPort.executeWithLock(eq(IThreadService.FLUSH_LOCK_NAME), any(Duration.class), any()))
+                .thenAnswer(invocation -> Optional.ofNullable(((Supplier<Object>) invocation.getArgument(2)).get()));
+    }
+
+    private MessageEntity createReply(Long id) {
+        MessageEntity reply = TestDataFactory.createReplyMessage(PARENT_ID);
+        reply.setId(id);
+        return reply;
+    }
+}
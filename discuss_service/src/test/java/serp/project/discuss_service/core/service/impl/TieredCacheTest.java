@@ -0,0 +1,271 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for TieredCache
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.port.client.ICachePort;
+import serp.project.discuss_service.kernel.property.CacheProperties;
+import serp.project.discuss_service.testutil.TestDataFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TieredCache.
+ * Tests L1 hits, L2 fall-through, copy isolation and cross-instance invalidation.
+ */
+@ExtendWith(MockitoExtension.class)
+class TieredCacheTest {
+
+    private static final String REGION = "message";
+    private static final String INSTANCE_ID = "instance-a";
+    private static final String KEY = "discuss:msg:" + TestDataFactory.MESSAGE_ID;
+
+    @Mock
+    private ICachePort cachePort;
+
+    private MeterRegistry meterRegistry;
+    private List<String> broadcasts;
+    private TieredCache<MessageEntity> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcasts = new ArrayList<>();
+        cache = createCache(true);
+    }
+
+    // ==================== READ TESTS ====================
+
+    @Nested
+    @DisplayName("get")
+    class GetTests {
+
+        @Test
+        @DisplayName("should read Redis once and serve repeated reads from memory")
+        void testGet_RepeatedReads_SecondServedFromLocal() {
+            // Given
+            when(cachePort.getFromCache(KEY, MessageEntity.class)).thenReturn(TestDataFactory.createTextMessage());
+
+            // When
+            Optional<MessageEntity> first = cache.get(KEY);
+            Optional<MessageEntity> second = cache.get(KEY);
+
+            // Then
+            assertTrue(first.isPresent());
+            assertTrue(second.isPresent());
+            verify(cachePort, times(1)).getFromCache(KEY, MessageEntity.class);
+            assertEquals(1.0, meterRegistry.get("cache.gets")
+                    .tags("cache", REGION, "tier", "l2", "result", "hit").counter().count());
+        }
+
+        @Test
+        @DisplayName("should hand out copies so caller mutations do not reach the cached entry")
+        void testGet_CallerMutates_LocalEntryUnchanged() {
+            // Given
+            when(cachePort.getFromCache(KEY, MessageEntity.class)).thenReturn(TestDataFactory.createTextMessage());
+            cache.get(KEY).orElseThrow().getReactions().add(new MessageEntity.ReactionVO());
+
+            // When
+            MessageEntity result = cache.get(KEY).orElseThrow();
+
+            // Then
+            assertTrue(result.getReactions().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should report misses and not populate memory")
+        void testGet_Miss_ReturnsEmpty() {
+            // Given
+            when(cachePort.getFromCache(KEY, MessageEntity.class)).thenReturn(null);
+
+            // When
+            Optional<MessageEntity> first = cache.get(KEY);
+            cache.get(KEY);
+
+            // Then
+            assertTrue(first.isEmpty());
+            verify(cachePort, times(2)).getFromCache(KEY, MessageEntity.class);
+        }
+
+        @Test
+        @DisplayName("should not keep a Redis read that raced with an invalidation")
+        void testGet_InvalidatedDuringRead_NotKeptLocally() {
+            // Given
+            when(cachePort.getFromCache(KEY, MessageEntity.class)).thenAnswer(invocation -> {
+                cache.onInvalidation(REGION + "|instance-b|K|" + KEY);
+                return TestDataFactory.createTextMessage();
+            });
+
+            // When
+            cache.get(KEY);
+            cache.get(KEY);
+
+            // Then
+            verify(cachePort, times(2)).getFromCache(KEY, MessageEntity.class);
+        }
+
+        @Test
+        @DisplayName("should fetch only keys missing from memory in bulk reads")
+        void testGetAll_PartiallyLocal_FetchesRemainderFromRedis() {
+            // Given
+            String otherKey = "discuss:msg:2001";
+            cache.put(KEY, TestDataFactory.createTextMessage(), 60);
+            when(cachePort.multiGetFromCache(List.of(otherKey), MessageEntity.class))
+                    .thenReturn(Map.of(otherKey, TestDataFactory.createTextMessage()));
+
+            // When
+            Map<String, MessageEntity> result = cache.getAll(List.of(KEY, otherKey));
+
+            // Then
+            assertEquals(2, result.size());
+            verify(cachePort).multiGetFromCache(List.of(otherKey), MessageEntity.class);
+        }
+
+        @Test
+        @DisplayName("should always go to Redis when local caching is disabled")
+        void testGet_LocalDisabled_AlwaysReadsRedis() {
+            // Given
+            TieredCache<MessageEntity> remoteOnly = createCache(false);
+            when(cachePort.getFromCache(KEY, MessageEntity.class)).thenReturn(TestDataFactory.createTextMessage());
+
+            // When
+            remoteOnly.get(KEY);
+            remoteOnly.get(KEY);
+
+            // Then
+            verify(cachePort, times(2)).getFromCache(KEY, MessageEntity.class);
+            assertTrue(broadcasts.isEmpty());
+        }
+    }
+
+    // ==================== WRITE AND INVALIDATION TESTS ====================
+
+    @Nested
+    @DisplayName("put / invalidate")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("should write through to Redis and tell other instances")
+        void testPut_WritesRedisAndBroadcasts() {
+            // Given
+            MessageEntity message = TestDataFactory.createTextMessage();
+
+            // When
+            cache.put(KEY, message, 60);
+            Optional<MessageEntity> result = cache.get(KEY);
+
+            // Then
+            verify(cachePort).setToCache(KEY, message, 60);
+            verify(cachePort, never()).getFromCache(anyString(), eq(MessageEntity.class));
+            assertNotSame(message, result.orElseThrow());
+            assertEquals(List.of(REGION + "|" + INSTANCE_ID + "|K|" + KEY), broadcasts);
+        }
+
+        @Test
+        @DisplayName("should delete from Redis and memory on invalidate")
+        void testInvalidate_RemovesBothTiers() {
+            // Given
+            cache.put(KEY, TestDataFactory.createTextMessage(), 60);
+
+            // When
+            cache.invalidate(KEY);
+            cache.get(KEY);
+
+            // Then
+            verify(cachePort).deleteFromCache(KEY);
+            verify(cachePort).getFromCache(KEY, MessageEntity.class);
+            assertEquals(REGION + "|" + INSTANCE_ID + "|K|" + KEY, broadcasts.get(broadcasts.size() - 1));
+        }
+
+        @Test
+        @DisplayName("should drop local entry when another instance invalidates it")
+        void testOnInvalidation_FromOtherInstance_EvictsLocal() {
+            // Given
+            cache.put(KEY, TestDataFactory.createTextMessage(), 60);
+
+            // When
+            cache.onInvalidation(REGION + "|instance-b|K|" + KEY);
+            cache.get(KEY);
+
+            // Then
+            verify(cachePort).getFromCache(KEY, MessageEntity.class);
+        }
+
+        @Test
+        @DisplayName("should ignore its own broadcasts")
+        void testOnInvalidation_OwnBroadcast_KeepsLocal() {
+            // Given
+            cache.put(KEY, TestDataFactory.createTextMessage(), 60);
+
+            // When
+            cache.onInvalidation(broadcasts.get(0));
+            cache.get(KEY);
+
+            // Then
+            verify(cachePort, never()).getFromCache(anyString(), eq(MessageEntity.class));
+        }
+
+        @Test
+        @DisplayName("should evict every local key under a prefix")
+        void testInvalidateLocalByPrefix_EvictsMatchingKeys() {
+            // Given
+            String pageKey = "discuss:channel_messages:1000:p0:s50";
+            String otherChannelKey = "discuss:channel_messages:1001:p0:s50";
+            cache.put(pageKey, TestDataFactory.createTextMessage(), 60);
+            cache.put(otherChannelKey, TestDataFactory.createTextMessage(), 60);
+
+            // When
+            cache.invalidateLocalByPrefix("discuss:channel_messages:1000:");
+            cache.get(pageKey);
+            cache.get(otherChannelKey);
+
+            // Then
+            verify(cachePort).getFromCache(eq(pageKey), eq(MessageEntity.class));
+            verify(cachePort, never()).getFromCache(otherChannelKey, MessageEntity.class);
+            assertEquals(REGION + "|" + INSTANCE_ID + "|P|discuss:channel_messages:1000:",
+                    broadcasts.get(broadcasts.size() - 1));
+        }
+
+        @Test
+        @DisplayName("should resolve region name from broadcast")
+        void testRegionOf_ReturnsLeadingSegment() {
+            assertEquals("messages_page", TieredCache.regionOf("messages_page|x|P|discuss:"));
+        }
+
+        @Test
+        @DisplayName("should parse keys from another instance's key invalidation only")
+        void testInvalidatedKeys_OnlyOtherInstanceKeyInvalidations() {
+            String invalidation = TieredCache.keysInvalidation("attachment_url", "instance-b", List.of("1", "2"));
+
+            assertEquals(List.of("1", "2"), TieredCache.invalidatedKeys(invalidation, INSTANCE_ID));
+            assertEquals(List.of(), TieredCache.invalidatedKeys(invalidation, "instance-b"));
+            assertEquals(List.of(), TieredCache.invalidatedKeys("attachment_url|instance-b|P|1", INSTANCE_ID));
+        }
+    }
+
+    private TieredCache<MessageEntity> createCache(boolean localEnabled) {
+        return new TieredCache<>(REGION, MessageEntity.class, (key, value) -> 1, MessageEntity::copy,
+                new CacheProperties.Region(1024, 60), localEnabled, cachePort, INSTANCE_ID,
+                broadcasts::add, meterRegistry);
+    }
+}
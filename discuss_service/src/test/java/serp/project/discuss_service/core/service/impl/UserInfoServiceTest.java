@@ -0,0 +1,172 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for UserInfoService
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse;
+import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse.UserInfo;
+import serp.project.discuss_service.core.domain.dto.response.MessageResponse;
+import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
+import serp.project.discuss_service.core.domain.enums.MemberRole;
+import serp.project.discuss_service.core.port.client.IAccountServiceClient;
+import serp.project.discuss_service.core.port.client.ICachePort;
+import serp.project.discuss_service.core.service.IUserProfileLoader;
+import serp.project.discuss_service.testutil.TestDataFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static serp.project.discuss_service.core.service.IUserInfoService.USER_INFO_CACHE_PREFIX;
+import static serp.project.discuss_service.core.service.IUserInfoService.USER_INFO_CACHE_TTL;
+
+/**
+ * Unit tests for UserInfoService.
+ * Tests batch user resolution through local cache, Redis and the coalescing loader.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserInfoServiceTest {
+
+    @Mock
+    private IAccountServiceClient accountServiceClient;
+
+    @Mock
+    private ICachePort cachePort;
+
+    @Mock
+    private IUserProfileLoader userProfileLoader;
+
+    @InjectMocks
+    private UserInfoService userInfoService;
+
+    private static final Long USER_1 = TestDataFactory.USER_ID_1;
+    private static final Long USER_2 = TestDataFactory.USER_ID_2;
+
+    // ==================== BATCH LOOKUP TESTS ====================
+
+    @Nested
+    @DisplayName("getUsersByIds")
+    class GetUsersByIdsTests {
+
+        @Test
+        @DisplayName("should use Redis hits and load only the misses in one batch")
+        void testGetUsersByIds_PartialRedisHit_LoadsMissesOnce() {
+            // Given
+            when(cachePort.multiGetFromCache(any(), eq(UserInfo.class)))
+                    .thenReturn(Map.of(USER_INFO_CACHE_PREFIX + USER_1, user(USER_1)));
+            when(userProfileLoader.loadAll(List.of(USER_2)))
+                    .thenReturn(CompletableFuture.completedFuture(Map.of(USER_2, user(USER_2))));
+
+            // When
+            Map<Long, UserInfo> result = userInfoService.getUsersByIds(List.of(USER_1, USER_2, USER_1));
+
+            // Then
+            assertEquals(2, result.size());
+            verify(userProfileLoader, times(1)).loadAll(any());
+            verify(cachePort).batchSetToCache(
+                    argThat(values -> values.size() == 1 && values.containsKey(USER_INFO_CACHE_PREFIX + USER_2)),
+                    eq(USER_INFO_CACHE_TTL));
+            verify(accountServiceClient, never()).getUserById(anyLong());
+        }
+
+        @Test
+        @DisplayName("should serve repeated lookups from the local cache")
+        void testGetUsersByIds_SecondCall_ServedLocally() {
+            // Given
+            when(cachePort.multiGetFromCache(any(), eq(UserInfo.class))).thenReturn(Map.of());
+            when(userProfileLoader.loadAll(any()))
+                    .thenReturn(CompletableFuture.completedFuture(Map.of(USER_1, user(USER_1))));
+            userInfoService.getUsersByIds(List.of(USER_1));
+
+            // When
+            Optional<UserInfo> result = userInfoService.getUserById(USER_1);
+
+            // Then
+            assertTrue(result.isPresent());
+            verify(cachePort, times(1)).multiGetFromCache(any(), eq(UserInfo.class));
+            verify(userProfileLoader, times(1)).loadAll(any());
+        }
+
+        @Test
+        @DisplayName("should return empty map for empty input")
+        void testGetUsersByIds_EmptyInput_ReturnsEmpty() {
+            // When
+            Map<Long, UserInfo> result = userInfoService.getUsersByIds(List.of());
+
+            // Then
+            assertTrue(result.isEmpty());
+            verifyNoInteractions(cachePort, userProfileLoader);
+        }
+    }
+
+    // ==================== ENRICHMENT TESTS ====================
+
+    @Nested
+    @DisplayName("batch enrichment")
+    class EnrichmentTests {
+
+        @Test
+        @DisplayName("should enrich all members with a single batch lookup")
+        void testEnrichMembersWithUserInfo_ManyMembers_OneLookup() {
+            // Given
+            List<ChannelMemberEntity> members = List.of(
+                    TestDataFactory.createMember(USER_1, MemberRole.MEMBER),
+                    TestDataFactory.createMember(USER_2, MemberRole.MEMBER));
+            when(cachePort.multiGetFromCache(any(), eq(UserInfo.class))).thenReturn(Map.of());
+            when(userProfileLoader.loadAll(any())).thenReturn(CompletableFuture.completedFuture(
+                    Map.of(USER_1, user(USER_1), USER_2, user(USER_2))));
+
+            // When
+            List<ChannelMemberResponse> result = userInfoService.enrichMembersWithUserInfo(members);
+
+            // Then
+            assertEquals(2, result.size());
+            assertEquals(USER_1, result.get(0).getUser().getId());
+            assertEquals(USER_2, result.get(1).getUser().getId());
+            verify(userProfileLoader, times(1)).loadAll(any());
+        }
+
+        @Test
+        @DisplayName("should enrich message senders with a single batch lookup")
+        void testEnrichMessagesWithUserInfo_ManyMessages_OneLookup() {
+            // Given
+            List<MessageResponse> messages = new ArrayList<>(List.of(
+                    MessageResponse.builder().senderId(USER_1).build(),
+                    MessageResponse.builder().senderId(USER_2).build(),
+                    MessageResponse.builder().senderId(USER_1).build()));
+            when(cachePort.multiGetFromCache(any(), eq(UserInfo.class))).thenReturn(Map.of());
+            when(userProfileLoader.loadAll(any())).thenReturn(CompletableFuture.completedFuture(
+                    Map.of(USER_1, user(USER_1))));
+
+            // When
+            List<MessageResponse> result = userInfoService.enrichMessagesWithUserInfo(messages);
+
+            // Then
+            assertEquals(USER_1, result.get(0).getSender().getId());
+            assertNull(result.get(1).getSender());
+            assertEquals(USER_1, result.get(2).getSender().getId());
+            verify(userProfileLoader, times(1)).loadAll(any());
+        }
+    }
+
+    private static UserInfo user(Long id) {
+        return UserInfo.builder().id(id).name("User " + id).build();
+    }
+}
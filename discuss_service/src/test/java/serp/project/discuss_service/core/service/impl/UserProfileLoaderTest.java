@@ -0,0 +1,121 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for UserProfileLoader
+ */
+
+package serp.project.discuss_service.core.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse.UserInfo;
+import serp.project.discuss_service.core.port.client.IAccountServiceClient;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserProfileLoader.
+ * Tests request coalescing and batch splitting.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProfileLoaderTest {
+
+    @Mock
+    private IAccountServiceClient accountServiceClient;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        lenient().when(accountServiceClient.getUsersByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(UserProfileLoaderTest::user).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should coalesce concurrent requests in one window into a single bulk call")
+    @SuppressWarnings("unchecked")
+    void testLoadAll_ConcurrentRequests_OneBulkCall() {
+        // Given
+        UserProfileLoader loader = new UserProfileLoader(accountServiceClient, executor, 200, 500);
+
+        // When
+        CompletableFuture<Map<Long, UserInfo>> first = loader.loadAll(List.of(1L, 2L));
+        CompletableFuture<Map<Long, UserInfo>> second = loader.loadAll(List.of(2L, 3L));
+
+        // Then
+        assertEquals(Set.of(1L, 2L), first.join().keySet());
+        assertEquals(Set.of(2L, 3L), second.join().keySet());
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(accountServiceClient, times(1)).getUsersByIds(captor.capture());
+        assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(captor.getValue()));
+    }
+
+    @Test
+    @DisplayName("should split requests larger than the max batch size")
+    void testLoadAll_MoreThanMaxBatch_SplitsCalls() {
+        // Given
+        UserProfileLoader loader = new UserProfileLoader(accountServiceClient, executor, 5, 2);
+
+        // When
+        Map<Long, UserInfo> result = loader.loadAll(List.of(1L, 2L, 3L, 4L, 5L)).join();
+
+        // Then
+        assertEquals(5, result.size());
+        verify(accountServiceClient, times(3)).getUsersByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should omit unknown users and complete normally when account call fails")
+    void testLoadAll_AccountFailure_CompletesEmpty() {
+        // Given
+        UserProfileLoader loader = new UserProfileLoader(accountServiceClient, executor, 5, 500);
+        when(accountServiceClient.getUsersByIds(anyCollection())).thenThrow(new RuntimeException("account down"));
+
+        // When
+        Map<Long, UserInfo> result = loader.loadAll(List.of(1L, 2L)).join();
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should not call account service for empty input")
+    void testLoadAll_EmptyInput_NoCall() {
+        // Given
+        UserProfileLoader loader = new UserProfileLoader(accountServiceClient, executor, 5, 500);
+
+        // When
+        Map<Long, UserInfo> result = loader.loadAll(List.of()).join();
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(accountServiceClient);
+    }
+
+    private static UserInfo user(Long id) {
+        return UserInfo.builder().id(id).name("User " + id).build();
+    }
+}
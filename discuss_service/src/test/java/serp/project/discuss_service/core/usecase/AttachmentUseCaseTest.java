@@ -12,10 +12,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 import serp.project.discuss_service.core.domain.dto.response.AttachmentResponse;
 import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
+import serp.project.discuss_service.core.domain.event.AttachmentsUploadedInternalEvent;
 import serp.project.discuss_service.core.service.IAttachmentService;
 import serp.project.discuss_service.core.service.IAttachmentUrlService;
 import serp.project.discuss_service.core.service.IDiscussCacheService;
@@ -43,6 +45,9 @@ class AttachmentUseCaseTest {
     @Mock
     private IDiscussCacheService cacheService;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private AttachmentUseCase attachmentUseCase;
 
@@ -118,6 +123,7 @@ class AttachmentUseCaseTest {
             verify(attachmentService).uploadAttachments(files, TestDataFactory.MESSAGE_ID,
                     TestDataFactory.CHANNEL_ID, TestDataFactory.TENANT_ID);
             verify(attachmentUrlService).enrichWithUrls(attachments);
+            verify(applicationEventPublisher).publishEvent(any(AttachmentsUploadedInternalEvent.class));
         }
     }
 
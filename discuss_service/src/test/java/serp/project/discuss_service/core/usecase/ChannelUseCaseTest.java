@@ -28,6 +28,7 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -255,26 +256,25 @@ class ChannelUseCaseTest {
     class GetUserChannelsTests {
 
         @Test
-        @DisplayName("should return channels where user is a member")
+        @DisplayName("should load only the user's channels in the tenant")
         void testGetUserChannels_UserWithMemberships_ReturnsChannels() {
             // Given
             ChannelMemberEntity membership = TestDataFactory.createRegularMember();
-            List<ChannelEntity> allChannels = List.of(
-                    TestDataFactory.createGroupChannel(),
-                    TestDataFactory.createDirectChannel()
-            );
+            ChannelEntity channel = TestDataFactory.createGroupChannel();
+            ChannelEntity otherTenant = TestDataFactory.createDirectChannel();
+            otherTenant.setTenantId(TestDataFactory.TENANT_ID + 1);
 
             when(memberService.getUserChannels(TestDataFactory.USER_ID_3)).thenReturn(List.of(membership));
-            when(channelService.getChannelsByTenantId(TestDataFactory.TENANT_ID)).thenReturn(allChannels);
+            when(channelService.getChannelsByIds(List.of(membership.getChannelId())))
+                    .thenReturn(List.of(channel, otherTenant));
 
             // When
             List<ChannelEntity> result = channelUseCase.getUserChannels(
                     TestDataFactory.USER_ID_3, TestDataFactory.TENANT_ID);
 
             // Then
-            // Filter by membership channelId
-            verify(memberService).getUserChannels(TestDataFactory.USER_ID_3);
-            verify(channelService).getChannelsByTenantId(TestDataFactory.TENANT_ID);
+            assertEquals(List.of(channel), result);
+            verify(channelService, never()).getChannelsByTenantId(anyLong());
         }
     }
 
@@ -23,6 +23,7 @@ import serp.project.discuss_service.core.service.IChannelMemberService;
 import serp.project.discuss_service.core.service.IChannelService;
 import serp.project.discuss_service.core.service.IDiscussCacheService;
 import serp.project.discuss_service.core.service.IDiscussEventPublisher;
+import serp.project.discuss_service.core.service.IThreadService;
 import serp.project.discuss_service.core.service.IMessageService;
 import serp.project.discuss_service.core.service.IAttachmentService;
 import serp.project.discuss_service.testutil.TestDataFactory;
@@ -60,6 +61,9 @@ class MessageUseCaseTest {
     @Mock
     private IAttachmentService attachmentService;
 
+    @Mock
+    private IThreadService threadService;
+
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
@@ -319,14 +323,27 @@ class MessageUseCaseTest {
             List<MessageEntity> replies = List.of(TestDataFactory.createReplyMessage(100L));
 
             when(memberService.isMember(TestDataFactory.CHANNEL_ID, TestDataFactory.USER_ID_1)).thenReturn(true);
-            when(messageService.getThreadReplies(100L)).thenReturn(replies);
+            when(threadService.getReplies(100L, 150L, 20)).thenReturn(replies);
 
             // When
             List<MessageEntity> result = messageUseCase.getThreadReplies(
-                    TestDataFactory.CHANNEL_ID, 100L, TestDataFactory.USER_ID_1);
+                    TestDataFactory.CHANNEL_ID, 100L, TestDataFactory.USER_ID_1, 150L, 20);
 
             // Then
             assertEquals(1, result.size());
+            verify(threadService).getReplies(100L, 150L, 20);
+        }
+
+        @Test
+        @DisplayName("should reject thread replies for non-member")
+        void testGetThreadReplies_NotMember_ThrowsException() {
+            // Given
+            when(memberService.isMember(TestDataFactory.CHANNEL_ID, TestDataFactory.USER_ID_1)).thenReturn(false);
+
+            // When & Then
+            assertThrows(AppException.class, () -> messageUseCase.getThreadReplies(
+                    TestDataFactory.CHANNEL_ID, 100L, TestDataFactory.USER_ID_1, null, 50));
+            verifyNoInteractions(threadService);
         }
     }
 
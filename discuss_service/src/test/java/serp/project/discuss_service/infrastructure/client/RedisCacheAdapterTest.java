@@ -8,10 +8,17 @@ package serp.project.discuss_service.infrastructure.client;
 import io.github.serp.platform.redis.cache.SerpCacheService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import serp.project.discuss_service.kernel.utils.JsonUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +46,9 @@ class RedisCacheAdapterTest {
     @Mock
     private SerpCacheService cacheService;
 
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
     @InjectMocks
     private RedisCacheAdapter redisCacheAdapter;
 
@@ -118,6 +128,35 @@ class RedisCacheAdapterTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    void multiGetFromCache_ShouldDeserializeEachHitAndSkipBrokenValues() {
+        List<String> keys = List.of("discuss:url:1", "discuss:url:2", "discuss:url:3");
+        TestPayload parsed = new TestPayload("bar");
+        when(cacheService.multiGet(NAMESPACE, keys)).thenReturn(Map.of(
+                "discuss:url:1", "{\"foo\":\"bar\"}",
+                "discuss:url:2", "broken"));
+        when(jsonUtils.fromJson("{\"foo\":\"bar\"}", TestPayload.class)).thenReturn(parsed);
+        when(jsonUtils.fromJson("broken", TestPayload.class)).thenThrow(new RuntimeException("parse-failed"));
+
+        Map<String, TestPayload> result = redisCacheAdapter.multiGetFromCache(keys, TestPayload.class);
+
+        assertEquals(Map.of("discuss:url:1", parsed), result);
+    }
+
+    @Test
+    void batchSetToCache_ShouldSerializeAndPipelineThroughStarterCacheService() {
+        TestPayload first = new TestPayload("a");
+        TestPayload second = new TestPayload("b");
+        when(jsonUtils.toJson(first)).thenReturn("{\"foo\":\"a\"}");
+        when(jsonUtils.toJson(second)).thenReturn("{\"foo\":\"b\"}");
+
+        redisCacheAdapter.batchSetToCache(Map.of("discuss:url:1", first, "discuss:url:2", second), 60);
+
+        verify(cacheService).putAll(NAMESPACE, Map.of(
+                "discuss:url:1", "{\"foo\":\"a\"}",
+                "discuss:url:2", "{\"foo\":\"b\"}"), Duration.ofSeconds(60));
+    }
+
     @Test
     void setToCache_ShouldThrowWhenSerializationFails() {
         when(jsonUtils.toJson(any())).thenThrow(new RuntimeException("serialize-failed"));
@@ -132,6 +171,21 @@ class RedisCacheAdapterTest {
         assertNull(redisCacheAdapter.getFromCache("discuss:key"));
     }
 
+    @Test
+    void subscribe_ShouldRegisterListenerAndDecodeMessageBody() {
+        List<String> received = new ArrayList<>();
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+
+        redisCacheAdapter.subscribe("discuss:cache:invalidation", received::add);
+
+        verify(listenerContainer).addMessageListener(listenerCaptor.capture(),
+                eq(new ChannelTopic("discuss:cache:invalidation")));
+        listenerCaptor.getValue().onMessage(new DefaultMessage(
+                "discuss:cache:invalidation".getBytes(StandardCharsets.UTF_8),
+                "message|a|K|discuss:msg:1".getBytes(StandardCharsets.UTF_8)), null);
+        assertEquals(List.of("message|a|K|discuss:msg:1"), received);
+    }
+
     private record TestPayload(String foo) {
     }
 }
@@ -0,0 +1,222 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for MessageAdapter archive fall-through
+ */
+
+package serp.project.discuss_service.infrastructure.store.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.domain.enums.MessageType;
+import serp.project.discuss_service.core.port.store.IMessagePartitionPort;
+import serp.project.discuss_service.infrastructure.store.mapper.MessageMapper;
+import serp.project.discuss_service.infrastructure.store.model.MessageModel;
+import serp.project.discuss_service.infrastructure.store.repository.IMessageRepository;
+import serp.project.discuss_service.kernel.property.MessageArchiveProperties;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MessageAdapter.
+ * Tests that reads fall through to messages_archive and archived rows are restored before updates.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageAdapterTest {
+
+    private static final Long CHANNEL_ID = 1000L;
+    private static final Long PARENT_ID = 2000L;
+
+    @Mock
+    private IMessageRepository messageRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private IMessagePartitionPort partitionPort;
+
+    private MessageArchiveProperties archiveProperties;
+    private MessageAdapter messageAdapter;
+
+    @BeforeEach
+    void setUp() {
+        archiveProperties = new MessageArchiveProperties();
+        messageAdapter = new MessageAdapter(messageRepository, new MessageMapper(), jdbcTemplate, archiveProperties,
+                partitionPort);
+    }
+
+    // ==================== READ TESTS ====================
+
+    @Nested
+    @DisplayName("archive fall-through")
+    class FallThroughTests {
+
+        @Test
+        @DisplayName("should look up the archive when the message is not live")
+        void testFindById_NotLive_ReadsArchive() {
+            // Given
+            when(messageRepository.findById(1L)).thenReturn(Optional.empty());
+            when(messageRepository.findArchivedById(1L)).thenReturn(Optional.of(createModel(1L, 400)));
+
+            // When
+            Optional<MessageEntity> result = messageAdapter.findById(1L);
+
+            // Then
+            assertEquals(1L, result.orElseThrow().getId());
+        }
+
+        @Test
+        @DisplayName("should not touch the archive when the live table fills the page")
+        void testFindBeforeId_LivePageFull_SkipsArchive() {
+            // Given
+            when(messageRepository.findMessagesBeforeId(CHANNEL_ID, 100L, PageRequest.of(0, 2)))
+                    .thenReturn(List.of(createModel(99L, 1), createModel(98L, 2)));
+
+            // When
+            List<MessageEntity> result = messageAdapter.findBeforeId(CHANNEL_ID, 100L, 2);
+
+            // Then
+            assertEquals(2, result.size());
+            verify(messageRepository, never()).findArchivedBeforeId(anyLong(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("should fill the rest of a scroll-back page from the archive, newest first")
+        void testFindBeforeId_LiveExhausted_FillsFromArchive() {
+            // Given
+            when(messageRepository.findMessagesBeforeId(CHANNEL_ID, 100L, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(createModel(99L, 300)));
+            when(messageRepository.findArchivedBeforeId(CHANNEL_ID, 100L, PageRequest.of(0, 2)))
+                    .thenReturn(List.of(createModel(50L, 400), createModel(49L, 401)));
+
+            // When
+            List<MessageEntity> result = messageAdapter.findBeforeId(CHANNEL_ID, 100L, 3);
+
+            // Then
+            assertEquals(List.of(99L, 50L, 49L), result.stream().map(MessageEntity::getId).toList());
+        }
+
+        @Test
+        @DisplayName("should page thread replies into the archive from the newest reply")
+        void testFindRepliesBefore_LatestPage_FallsThroughWithoutBound() {
+            // Given
+            when(messageRepository.findLatestReplies(PARENT_ID, PageRequest.of(0, 2))).thenReturn(List.of());
+            when(messageRepository.findArchivedRepliesBeforeId(PARENT_ID, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                    .thenReturn(List.of(createModel(60L, 400)));
+
+            // When
+            List<MessageEntity> result = messageAdapter.findRepliesBefore(PARENT_ID, null, 2);
+
+            // Then
+            assertEquals(1, result.size());
+        }
+
+        @Test
+        @DisplayName("should load only ids missing from the live table from the archive")
+        void testFindByIds_SomeArchived_LoadsMissingFromArchive() {
+            // Given
+            when(messageRepository.findByIdInAndIsDeletedFalse(any())).thenReturn(List.of(createModel(1L, 1)));
+            when(messageRepository.findArchivedByIds(any())).thenReturn(List.of(createModel(2L, 400)));
+
+            // When
+            List<MessageEntity> result = messageAdapter.findByIds(List.of(1L, 2L));
+
+            // Then
+            assertEquals(2, result.size());
+            verify(messageRepository).findArchivedByIds(Set.of(2L));
+        }
+    }
+
+    // ==================== WRITE TESTS ====================
+
+    @Nested
+    @DisplayName("writes")
+    class WriteTests {
+
+        @Test
+        @DisplayName("should recreate the month's partition and restore a possibly archived message before updating it")
+        void testSave_OldMessage_RestoredFirst() {
+            // Given
+            MessageModel model = createModel(1L, 400);
+            when(messageRepository.save(any())).thenReturn(model);
+
+            // When
+            messageAdapter.save(new MessageMapper().toEntity(model));
+
+            // Then
+            var order = inOrder(partitionPort, jdbcTemplate, messageRepository);
+            order.verify(partitionPort).createPartition(YearMonth.from(model.getCreatedAt()));
+            order.verify(jdbcTemplate).update(contains("DELETE FROM messages_archive"), eq(1L));
+            order.verify(messageRepository).save(any());
+        }
+
+        @Test
+        @DisplayName("should not restore recent or new messages")
+        void testSave_RecentMessage_NoRestore() {
+            // Given
+            MessageModel model = createModel(1L, 1);
+            when(messageRepository.save(any())).thenReturn(model);
+
+            // When
+            messageAdapter.save(new MessageMapper().toEntity(model));
+
+            // Then
+            verifyNoInteractions(jdbcTemplate, partitionPort);
+        }
+
+        @Test
+        @DisplayName("should apply thread count deltas of archived parents to the archive")
+        @SuppressWarnings("unchecked")
+        void testIncrementThreadCounts_ParentArchived_UpdatesArchive() {
+            // Given
+            when(jdbcTemplate.batchUpdate(startsWith("UPDATE messages SET"), any(List.class), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class)))
+                    .thenReturn(new int[][]{{0}});
+
+            // When
+            messageAdapter.incrementThreadCounts(Map.of(PARENT_ID, 3L));
+
+            // Then
+            verify(jdbcTemplate).batchUpdate(startsWith("UPDATE messages_archive"),
+                    eq(List.of(Map.entry(PARENT_ID, 3L))), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        }
+    }
+
+    private MessageModel createModel(Long id, int daysAgo) {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(daysAgo);
+        return MessageModel.builder()
+                .id(id)
+                .channelId(CHANNEL_ID)
+                .senderId(100L)
+                .tenantId(1L)
+                .content("message " + id)
+                .messageType(MessageType.STANDARD)
+                .threadCount(0)
+                .isEdited(false)
+                .isDeleted(false)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for MessagePartitionAdapter archive steps
+ */
+
+package serp.project.discuss_service.infrastructure.store.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MessagePartitionAdapter.
+ * Tests that a partition is copied before it is detached concurrently and dropped.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessagePartitionAdapterTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+    private static final String PARTITION = "messages_p202403";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MessagePartitionAdapter partitionAdapter;
+
+    @BeforeEach
+    void setUp() {
+        partitionAdapter = new MessagePartitionAdapter(jdbcTemplate);
+    }
+
+    @Nested
+    @DisplayName("archivePartition")
+    class ArchivePartitionTests {
+
+        @Test
+        @DisplayName("should copy, detach concurrently, copy late rows, then drop")
+        void testArchivePartition_Attached_CopiesBeforeConcurrentDetach() {
+            // Given
+            when(jdbcTemplate.update(contains("INSERT INTO messages_archive"))).thenReturn(100, 2);
+            when(jdbcTemplate.queryForList(contains("inhdetachpending"), eq(Boolean.class), eq(PARTITION)))
+                    .thenReturn(List.of(false));
+
+            // When
+            long moved = partitionAdapter.archivePartition(MONTH);
+
+            // Then
+            assertEquals(102, moved);
+            var order = inOrder(jdbcTemplate);
+            order.verify(jdbcTemplate).update(contains("FROM \"" + PARTITION + "\""));
+            order.verify(jdbcTemplate).execute(
+                    "ALTER TABLE messages DETACH PARTITION \"" + PARTITION + "\" CONCURRENTLY");
+            order.verify(jdbcTemplate).update(contains("FROM \"" + PARTITION + "\""));
+            order.verify(jdbcTemplate).execute("DROP TABLE \"" + PARTITION + "\"");
+        }
+
+        @Test
+        @DisplayName("should finalize a concurrent detach that was interrupted")
+        void testArchivePartition_DetachPending_Finalizes() {
+            // Given
+            when(jdbcTemplate.queryForList(contains("inhdetachpending"), eq(Boolean.class), eq(PARTITION)))
+                    .thenReturn(List.of(true));
+
+            // When
+            partitionAdapter.archivePartition(MONTH);
+
+            // Then
+            verify(jdbcTemplate).execute("ALTER TABLE messages DETACH PARTITION \"" + PARTITION + "\" FINALIZE");
+            verify(jdbcTemplate, never()).execute(contains("CONCURRENTLY"));
+            verify(jdbcTemplate).execute("DROP TABLE \"" + PARTITION + "\"");
+        }
+
+        @Test
+        @DisplayName("should only copy and drop a partition left detached by a failed run")
+        void testArchivePartition_AlreadyDetached_SkipsDetach() {
+            // Given
+            when(jdbcTemplate.queryForList(contains("inhdetachpending"), eq(Boolean.class), eq(PARTITION)))
+                    .thenReturn(List.of());
+
+            // When
+            partitionAdapter.archivePartition(MONTH);
+
+            // Then
+            verify(jdbcTemplate, never()).execute(contains("DETACH"));
+            verify(jdbcTemplate, times(2)).update(contains("INSERT INTO messages_archive"));
+            verify(jdbcTemplate).execute("DROP TABLE \"" + PARTITION + "\"");
+        }
+    }
+
+    @Test
+    @DisplayName("should list partition months oldest first and ignore unrelated tables")
+    void testFindPartitionMonths_ParsesNames() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("messages_p202404", "messages_p202403", "messages_pending"));
+
+        // When
+        List<YearMonth> months = partitionAdapter.findPartitionMonths();
+
+        // Then
+        assertEquals(List.of(MONTH, MONTH.plusMonths(1)), months);
+    }
+}
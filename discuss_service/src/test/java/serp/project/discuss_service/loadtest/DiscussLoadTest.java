@@ -0,0 +1,140 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Load test for discuss real-time delivery
+ */
+
+package serp.project.discuss_service.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import serp.project.discuss_service.core.domain.entity.ChannelEntity;
+import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
+import serp.project.discuss_service.core.port.store.IChannelMemberPort;
+import serp.project.discuss_service.core.port.store.IChannelPort;
+import serp.project.discuss_service.core.service.IDiscussEventPublisher;
+import serp.project.discuss_service.kernel.property.WebsocketProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures how many concurrent sessions and messages per second one discuss node sustains.
+ * Disabled by default; run with: ./mvnw test -Pload-test
+ * <p>
+ * Size the run with {@code -Ddiscuss.loadtest.*} properties, see {@link LoadTestProperties}.
+ */
+@Slf4j
+@Tag("load")
+@EnabledIfSystemProperty(named = "discuss.loadtest.enabled", matches = "true")
+@SpringBootTest(
+        classes = LoadTestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "KEYCLOAK_URL=http://localhost:0",
+                "CLIENT_SECRET=load-test",
+                "spring.kafka.consumer.auto-offset-reset=earliest",
+                "spring.jpa.show-sql=false",
+                "logging.level.serp.project.discuss_service=WARN"
+        })
+@EmbeddedKafka(
+        partitions = 3,
+        topics = {
+                IDiscussEventPublisher.TOPIC_MESSAGE_EVENTS,
+                IDiscussEventPublisher.TOPIC_CHANNEL_EVENTS,
+                IDiscussEventPublisher.TOPIC_MEMBER_EVENTS,
+                IDiscussEventPublisher.TOPIC_REACTION_EVENTS,
+                IDiscussEventPublisher.TOPIC_PRESENCE_EVENTS
+        },
+        bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class DiscussLoadTest {
+
+    private static final long FIRST_USER_ID = 10_001L;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Autowired
+    private WebsocketProperties websocketProperties;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private IChannelPort channelPort;
+
+    @Autowired
+    private IChannelMemberPort memberPort;
+
+    @Test
+    void testDeliveryUnderLoad() throws Exception {
+        // Given
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+        Map<Long, List<Long>> membersByChannel = seedChannels(properties);
+        // Consumer group join would otherwise show up as latency of the first messages
+        listenerRegistry.getListenerContainers().forEach(container ->
+                ContainerTestUtils.waitForAssignment(container, embeddedKafka.getPartitionsPerTopic()));
+
+        try (StompLoadDriver driver = new StompLoadDriver("http://localhost:" + port + contextPath,
+                websocketProperties.getEndpoint(), properties, membersByChannel)) {
+            int connected = driver.connectAll();
+            assertEquals(properties.getSessions(), connected, "All load sessions should connect");
+
+            // When
+            LoadTestReport report = driver.run();
+
+            // Then
+            log.warn(report.format());
+            assertTrue(report.getLatencySamples() > 0, "No message was delivered end to end");
+            assertTrue(report.getDropRatio() <= properties.getMaxDropRatio(),
+                    String.format("Dropped %.3f%% of expected deliveries", report.getDropRatio() * 100));
+        }
+    }
+
+    /**
+     * One group channel per {@code channels}, with sessions assigned round-robin as members
+     */
+    private Map<Long, List<Long>> seedChannels(LoadTestProperties properties) {
+        List<ChannelEntity> channels = new ArrayList<>();
+        for (int i = 0; i < properties.getChannels(); i++) {
+            Long owner = FIRST_USER_ID + i;
+            channels.add(channelPort.save(ChannelEntity.createGroup(
+                    properties.getTenantId(), owner, "Load Channel " + i, "Load test channel", false)));
+        }
+
+        Map<Long, List<Long>> membersByChannel = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getSessions(); i++) {
+            ChannelEntity channel = channels.get(i % channels.size());
+            Long userId = FIRST_USER_ID + i;
+            memberPort.save(userId.equals(channel.getCreatedBy())
+                    ? ChannelMemberEntity.createOwner(channel.getId(), userId, properties.getTenantId())
+                    : ChannelMemberEntity.createMember(channel.getId(), userId, properties.getTenantId()));
+            membersByChannel.computeIfAbsent(channel.getId(), id -> new ArrayList<>()).add(userId);
+        }
+
+        channels.forEach(channel -> {
+            channel.setMemberCount(membersByChannel.getOrDefault(channel.getId(), List.of()).size());
+            channelPort.save(channel);
+        });
+        return membersByChannel;
+    }
+}
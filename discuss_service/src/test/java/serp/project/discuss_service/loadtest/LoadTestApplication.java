@@ -0,0 +1,144 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Application context for discuss load tests
+ */
+
+package serp.project.discuss_service.loadtest;
+
+import io.github.serp.platform.redis.autoconfigure.SerpRedisAutoConfiguration;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import serp.project.discuss_service.DiscussServiceApplication;
+import serp.project.discuss_service.core.port.client.IAccountServiceClient;
+import serp.project.discuss_service.core.port.client.ICachePort;
+import serp.project.discuss_service.core.port.client.IDistributedLockPort;
+import serp.project.discuss_service.core.port.client.IStoragePort;
+import serp.project.discuss_service.infrastructure.client.AccountServiceClientAdapter;
+import serp.project.discuss_service.infrastructure.client.RedisCacheAdapter;
+import serp.project.discuss_service.infrastructure.client.RedisLockAdapter;
+import serp.project.discuss_service.infrastructure.client.S3StorageAdapter;
+import serp.project.discuss_service.kernel.config.PlatformRedisCompatibilityConfig;
+import serp.project.discuss_service.kernel.config.S3Config;
+import serp.project.discuss_service.kernel.utils.JsonUtils;
+import serp.project.discuss_service.loadtest.standin.InMemoryActivityFeedPort;
+import serp.project.discuss_service.loadtest.standin.InMemoryAttachmentPort;
+import serp.project.discuss_service.loadtest.standin.InMemoryCachePort;
+import serp.project.discuss_service.loadtest.standin.InMemoryChannelMemberPort;
+import serp.project.discuss_service.loadtest.standin.InMemoryChannelPort;
+import serp.project.discuss_service.loadtest.standin.InMemoryMessagePartitionPort;
+import serp.project.discuss_service.loadtest.standin.InMemoryMessagePort;
+import serp.project.discuss_service.loadtest.standin.LoadTestJwtDecoder;
+import serp.project.discuss_service.loadtest.standin.LocalLockPort;
+import serp.project.discuss_service.loadtest.standin.NoOpTransactionManager;
+import serp.project.discuss_service.loadtest.standin.StubAccountServiceClient;
+import serp.project.discuss_service.loadtest.standin.StubStoragePort;
+
+/**
+ * The real discuss application (controllers, STOMP broker, use cases, services, Kafka producer and
+ * consumers) with Postgres, Redis, S3, Keycloak and the account service replaced by in-process
+ * stand-ins behind the existing ports. Kafka itself is an embedded broker provided by the test.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        FlywayAutoConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisRepositoriesAutoConfiguration.class,
+        SerpRedisAutoConfiguration.class
+})
+@ComponentScan(basePackageClasses = DiscussServiceApplication.class, excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = "serp\\.project\\.discuss_service\\.infrastructure\\.store\\..*"),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = "serp\\.project\\.discuss_service\\.loadtest\\..*"),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                DiscussServiceApplication.class,
+                RedisCacheAdapter.class,
+                RedisLockAdapter.class,
+                S3StorageAdapter.class,
+                AccountServiceClientAdapter.class,
+                PlatformRedisCompatibilityConfig.class,
+                S3Config.class
+        })
+})
+public class LoadTestApplication {
+
+    // ==================== STORE STAND-INS ====================
+
+    @Bean
+    public InMemoryChannelPort channelPort() {
+        return new InMemoryChannelPort();
+    }
+
+    @Bean
+    public InMemoryMessagePort messagePort() {
+        return new InMemoryMessagePort();
+    }
+
+    @Bean
+    public InMemoryChannelMemberPort channelMemberPort(InMemoryChannelPort channelPort, InMemoryMessagePort messagePort) {
+        return new InMemoryChannelMemberPort(channelPort, messagePort);
+    }
+
+    @Bean
+    public InMemoryAttachmentPort attachmentPort() {
+        return new InMemoryAttachmentPort();
+    }
+
+    @Bean
+    public InMemoryActivityFeedPort activityFeedPort() {
+        return new InMemoryActivityFeedPort();
+    }
+
+    @Bean
+    public InMemoryMessagePartitionPort messagePartitionPort() {
+        return new InMemoryMessagePartitionPort();
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new NoOpTransactionManager();
+    }
+
+    // ==================== CLIENT STAND-INS ====================
+
+    @Bean
+    public ICachePort cachePort(JsonUtils jsonUtils) {
+        return new InMemoryCachePort(jsonUtils);
+    }
+
+    @Bean
+    public IDistributedLockPort distributedLockPort() {
+        return new LocalLockPort();
+    }
+
+    @Bean
+    public IStoragePort storagePort() {
+        return new StubStoragePort();
+    }
+
+    @Bean
+    public IAccountServiceClient accountServiceClient() {
+        return new StubAccountServiceClient();
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder() {
+        return new LoadTestJwtDecoder();
+    }
+}
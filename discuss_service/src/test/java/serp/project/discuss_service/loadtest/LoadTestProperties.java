@@ -0,0 +1,84 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Load test run parameters
+ */
+
+package serp.project.discuss_service.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Parameters of one load run, read from {@code discuss.loadtest.*} system properties so a run can be
+ * resized from the command line, e.g. {@code mvn test -Pload-test -Ddiscuss.loadtest.sessions=1000}.
+ */
+@Getter
+@Builder
+public class LoadTestProperties {
+
+    private static final String PREFIX = "discuss.loadtest.";
+
+    /**
+     * Number of concurrent STOMP sessions, one user per session
+     */
+    private final int sessions;
+
+    /**
+     * Number of group channels; sessions are spread round-robin across them
+     */
+    private final int channels;
+
+    private final Long tenantId;
+
+    /**
+     * How long traffic is driven, and how long to wait afterwards for in-flight deliveries
+     */
+    private final Duration duration;
+    private final Duration drain;
+
+    /**
+     * Actions per second issued by each session
+     */
+    private final double actionsPerSecond;
+
+    /**
+     * Relative weights of the traffic mix
+     */
+    private final int sendWeight;
+    private final int typingWeight;
+    private final int reactionWeight;
+
+    /**
+     * Largest share of expected deliveries that may be missing before the run fails
+     */
+    private final double maxDropRatio;
+
+    public static LoadTestProperties fromSystemProperties() {
+        return LoadTestProperties.builder()
+                .sessions(intProperty("sessions", 200))
+                .channels(intProperty("channels", 20))
+                .tenantId((long) intProperty("tenant-id", 1))
+                .duration(Duration.ofSeconds(intProperty("duration-seconds", 30)))
+                .drain(Duration.ofSeconds(intProperty("drain-seconds", 5)))
+                .actionsPerSecond(doubleProperty("actions-per-second", 1.0))
+                .sendWeight(intProperty("mix.send", 60))
+                .typingWeight(intProperty("mix.typing", 30))
+                .reactionWeight(intProperty("mix.reaction", 10))
+                .maxDropRatio(doubleProperty("max-drop-ratio", 0.01))
+                .build();
+    }
+
+    public int getTotalWeight() {
+        return sendWeight + typingWeight + reactionWeight;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+}
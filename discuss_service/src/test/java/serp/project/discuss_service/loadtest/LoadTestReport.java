@@ -0,0 +1,90 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Load test run results
+ */
+
+package serp.project.discuss_service.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Getter
+@Builder
+public class LoadTestReport {
+
+    private final int sessions;
+    private final int connectedSessions;
+    private final Duration duration;
+
+    /**
+     * Per traffic kind (send, typing, reaction): actions issued, deliveries expected from fan-out
+     * to every online channel member, and deliveries observed by the clients
+     */
+    private final Map<StompLoadDriver.Action, Long> issued;
+    private final Map<StompLoadDriver.Action, Long> expected;
+    private final Map<StompLoadDriver.Action, Long> delivered;
+
+    private final long framesReceived;
+    private final long eventsReceived;
+    private final long errorEvents;
+    private final long failedActions;
+
+    /**
+     * End-to-end message latency, from STOMP send to MESSAGE_NEW arriving at a member, in millis
+     */
+    private final long latencySamples;
+    private final double latencyP50Ms;
+    private final double latencyP95Ms;
+    private final double latencyP99Ms;
+    private final double latencyMaxMs;
+
+    public long getTotalExpected() {
+        return expected.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getDropped() {
+        return expected.keySet().stream()
+                .mapToLong(action -> Math.max(0, expected.get(action) - delivered.getOrDefault(action, 0L)))
+                .sum();
+    }
+
+    public double getDropRatio() {
+        long total = getTotalExpected();
+        return total == 0 ? 0.0 : (double) getDropped() / total;
+    }
+
+    public double getEventsPerSecond() {
+        return eventsReceived / Math.max(1.0, duration.toMillis() / 1000.0);
+    }
+
+    public double getFramesPerSecond() {
+        return framesReceived / Math.max(1.0, duration.toMillis() / 1000.0);
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("%n==================== DISCUSS LOAD TEST ====================%n"))
+                .append(String.format("sessions            %d/%d connected, %ds of traffic%n",
+                        connectedSessions, sessions, duration.toSeconds()))
+                .append(String.format("%-20s%12s%12s%12s%12s%n", "action", "issued", "expected", "delivered", "dropped"));
+        for (StompLoadDriver.Action action : StompLoadDriver.Action.values()) {
+            long expectedCount = expected.getOrDefault(action, 0L);
+            long deliveredCount = delivered.getOrDefault(action, 0L);
+            report.append(String.format("%-20s%12d%12d%12d%12d%n", action.name().toLowerCase(),
+                    issued.getOrDefault(action, 0L), expectedCount, deliveredCount,
+                    Math.max(0, expectedCount - deliveredCount)));
+        }
+        return report
+                .append(String.format("fan-out throughput  %.1f events/s in %.1f frames/s%n",
+                        getEventsPerSecond(), getFramesPerSecond()))
+                .append(String.format("delivery latency    p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms (%d samples)%n",
+                        latencyP50Ms, latencyP95Ms, latencyP99Ms, latencyMaxMs, latencySamples))
+                .append(String.format("dropped             %d (%.3f%%), error events %d, failed actions %d%n",
+                        getDropped(), getDropRatio() * 100, errorEvents, failedActions))
+                .append("===========================================================")
+                .toString();
+    }
+}
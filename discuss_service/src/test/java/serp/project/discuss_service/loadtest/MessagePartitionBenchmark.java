@@ -0,0 +1,193 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Insert and recent-history read benchmark for partitioned messages
+ */
+
+package serp.project.discuss_service.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the single messages table (before V14) with the monthly partitioned table plus archive
+ * (after V14) on a real Postgres: single-row insert latency and latency of the first scroll-back
+ * page of a channel, with the same history loaded into both layouts.
+ * <p>
+ * Runs in a scratch schema that is dropped afterwards. Disabled unless a database is given:
+ * {@code ./mvnw test -Pload-test -Dtest=MessagePartitionBenchmark
+ * -Ddiscuss.benchmark.jdbc-url=jdbc:postgresql://localhost:5432/serp_discuss
+ * -Ddiscuss.benchmark.username=... -Ddiscuss.benchmark.password=...}
+ */
+@Slf4j
+@Tag("load")
+@EnabledIfSystemProperty(named = "discuss.benchmark.jdbc-url", matches = ".+")
+class MessagePartitionBenchmark {
+
+    private static final String PREFIX = "discuss.benchmark.";
+    private static final String SCHEMA = "discuss_partition_bench";
+
+    private static final String COLUMNS =
+            "channel_id BIGINT NOT NULL, sender_id BIGINT NOT NULL, tenant_id BIGINT NOT NULL, content TEXT, " +
+            "is_deleted BOOLEAN NOT NULL DEFAULT FALSE, created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP";
+
+    private static final String HISTORY_ROWS =
+            "SELECT (random() * (? - 1))::BIGINT + 1, (random() * 1000)::BIGINT, 1, repeat('message body ', 8), " +
+            "FALSE, date_trunc('month', CURRENT_TIMESTAMP) - make_interval(months => ?) " +
+            "+ random() * INTERVAL '28 days' FROM generate_series(1, ?)";
+
+    private static final String RECENT_PAGE =
+            "SELECT id, content FROM %s WHERE channel_id = ? AND is_deleted = FALSE " +
+            "ORDER BY created_at DESC LIMIT 50";
+
+    private final int historyMonths = intProperty("history-months", 24);
+    private final int retentionMonths = intProperty("retention-months", 12);
+    private final int rowsPerMonth = intProperty("rows-per-month", 200_000);
+    private final int channels = intProperty("channels", 2_000);
+    private final int samples = intProperty("samples", 5_000);
+
+    @Test
+    void compareFlatAndPartitionedLayouts() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                System.getProperty(PREFIX + "jdbc-url"),
+                System.getProperty(PREFIX + "username"),
+                System.getProperty(PREFIX + "password"))) {
+            connection.setAutoCommit(true);
+            execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            execute(connection, "CREATE SCHEMA " + SCHEMA);
+            try {
+                createFlatLayout(connection);
+                createPartitionedLayout(connection);
+
+                Result flat = measure(connection, SCHEMA + ".flat_messages");
+                Result partitioned = measure(connection, SCHEMA + ".messages");
+
+                log.info("Messages layout benchmark: {} months x {} rows, {} kept live",
+                        historyMonths, rowsPerMonth, retentionMonths);
+                log.info("  flat        insert p50={}us p99={}us | recent page p50={}us p99={}us",
+                        flat.insertP50, flat.insertP99, flat.readP50, flat.readP99);
+                log.info("  partitioned insert p50={}us p99={}us | recent page p50={}us p99={}us",
+                        partitioned.insertP50, partitioned.insertP99, partitioned.readP50, partitioned.readP99);
+                assertTrue(partitioned.readP50 > 0 && flat.readP50 > 0);
+            } finally {
+                execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+    }
+
+    private void createFlatLayout(Connection connection) throws SQLException {
+        execute(connection, "CREATE TABLE " + SCHEMA + ".flat_messages (id BIGSERIAL PRIMARY KEY, " + COLUMNS + ")");
+        for (int month = historyMonths - 1; month >= 0; month--) {
+            loadMonth(connection, SCHEMA + ".flat_messages", month);
+        }
+        createIndexes(connection, "flat_messages");
+    }
+
+    private void createPartitionedLayout(Connection connection) throws SQLException {
+        execute(connection, "CREATE TABLE " + SCHEMA + ".messages (id BIGSERIAL, " + COLUMNS + ") " +
+                "PARTITION BY RANGE (created_at)");
+        execute(connection, "CREATE TABLE " + SCHEMA + ".messages_archive (id BIGINT PRIMARY KEY, " +
+                COLUMNS.replace("content TEXT", "content TEXT COMPRESSION lz4") + ") " +
+                "WITH (fillfactor = 100, toast_tuple_target = 256)");
+        for (int month = historyMonths - 1; month >= -1; month--) {
+            String partition = SCHEMA + ".messages_m" + (month + 1);
+            execute(connection, String.format("CREATE TABLE %s PARTITION OF %s.messages FOR VALUES FROM " +
+                            "(date_trunc('month', CURRENT_TIMESTAMP) - make_interval(months => %d)) TO " +
+                            "(date_trunc('month', CURRENT_TIMESTAMP) - make_interval(months => %d))",
+                    partition, SCHEMA, month, month - 1));
+            if (month >= 0) {
+                loadMonth(connection, SCHEMA + ".messages", month);
+            }
+        }
+        createIndexes(connection, "messages");
+        execute(connection, "CREATE INDEX ON " + SCHEMA + ".messages_archive(channel_id, id DESC) WHERE is_deleted = FALSE");
+
+        // What the maintenance job leaves behind: months past retention moved into the archive
+        for (int month = historyMonths - 1; month > retentionMonths; month--) {
+            String partition = SCHEMA + ".messages_m" + (month + 1);
+            execute(connection, "ALTER TABLE " + SCHEMA + ".messages DETACH PARTITION " + partition);
+            execute(connection, "INSERT INTO " + SCHEMA + ".messages_archive SELECT * FROM " + partition);
+            execute(connection, "DROP TABLE " + partition);
+        }
+        execute(connection, "VACUUM ANALYZE " + SCHEMA + ".messages_archive");
+    }
+
+    private void loadMonth(Connection connection, String table, int monthsAgo) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table +
+                " (channel_id, sender_id, tenant_id, content, is_deleted, created_at) " + HISTORY_ROWS)) {
+            insert.setInt(1, channels);
+            insert.setInt(2, monthsAgo);
+            insert.setInt(3, rowsPerMonth);
+            insert.executeUpdate();
+        }
+    }
+
+    private void createIndexes(Connection connection, String table) throws SQLException {
+        String qualified = SCHEMA + "." + table;
+        execute(connection, "CREATE INDEX ON " + qualified + "(channel_id, created_at DESC) WHERE is_deleted = FALSE");
+        execute(connection, "CREATE INDEX ON " + qualified + "(tenant_id, sender_id, created_at DESC)");
+        execute(connection, "VACUUM ANALYZE " + qualified);
+    }
+
+    private Result measure(Connection connection, String table) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] inserts = new long[samples];
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table +
+                " (channel_id, sender_id, tenant_id, content) VALUES (?, ?, 1, 'benchmark message')")) {
+            for (int i = 0; i < samples; i++) {
+                insert.setLong(1, random.nextLong(1, channels + 1));
+                insert.setLong(2, random.nextLong(1, 1000));
+                long start = System.nanoTime();
+                insert.executeUpdate();
+                inserts[i] = System.nanoTime() - start;
+            }
+        }
+
+        long[] reads = new long[samples];
+        try (PreparedStatement page = connection.prepareStatement(String.format(RECENT_PAGE, table))) {
+            for (int i = 0; i < samples; i++) {
+                page.setLong(1, random.nextLong(1, channels + 1));
+                long start = System.nanoTime();
+                try (ResultSet rows = page.executeQuery()) {
+                    while (rows.next()) {
+                        rows.getLong(1);
+                    }
+                }
+                reads[i] = System.nanoTime() - start;
+            }
+        }
+        return new Result(percentileMicros(inserts, 0.50), percentileMicros(inserts, 0.99),
+                percentileMicros(reads, 0.50), percentileMicros(reads, 0.99));
+    }
+
+    private static long percentileMicros(long[] nanos, double percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))] / 1_000;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    private record Result(long insertP50, long insertP99, long readP50, long readP99) {
+    }
+}
@@ -0,0 +1,354 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - STOMP load driver for discuss service
+ */
+
+package serp.project.discuss_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import serp.project.discuss_service.core.domain.dto.websocket.WsEventType;
+import serp.project.discuss_service.loadtest.standin.LoadTestJwtDecoder;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives one discuss node over its public interfaces: every simulated user holds a STOMP session
+ * subscribed to its personal event queue, sends messages and typing indicators over STOMP and
+ * reacts over REST, each on its own virtual thread.
+ * <p>
+ * Each message carries its send time, so every MESSAGE_NEW arriving at a member yields one
+ * end-to-end latency sample across the send, persist, Kafka and fan-out path. Expected deliveries
+ * are counted at send time from channel membership; whatever has not arrived after the drain
+ * period is reported as dropped.
+ */
+@Slf4j
+public class StompLoadDriver implements AutoCloseable {
+
+    public enum Action {
+        SEND, TYPING, REACTION
+    }
+
+    private static final String EVENTS_DESTINATION = "/user/queue/events";
+    private static final String LATENCY_MARKER = "lt:";
+    private static final String[] EMOJIS = {"+1", "heart", "tada", "eyes", "rocket"};
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestProperties properties;
+    private final String webSocketUrl;
+    private final String httpBaseUrl;
+
+    /**
+     * channelId -> member userIds, and the reverse for the sessions' own channel
+     */
+    private final Map<Long, List<Long>> membersByChannel;
+    private final Map<Long, Long> channelByUser;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebSocketStompClient stompClient;
+    private final HttpClient httpClient;
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<Long, StompSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> latestMessageByChannel = new ConcurrentHashMap<>();
+
+    private final Map<Action, LongAdder> issued = counters();
+    private final Map<Action, LongAdder> expected = counters();
+    private final Map<Action, LongAdder> delivered = counters();
+    private final LongAdder framesReceived = new LongAdder();
+    private final LongAdder eventsReceived = new LongAdder();
+    private final LongAdder errorEvents = new LongAdder();
+    private final LongAdder failedActions = new LongAdder();
+
+    private final Timer latency = Timer.builder("discuss.loadtest.delivery.latency")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .percentilePrecision(2)
+            .distributionStatisticExpiry(Duration.ofHours(1))
+            .distributionStatisticBufferLength(1)
+            .register(new SimpleMeterRegistry());
+
+    /**
+     * @param httpBaseUrl      service root including the servlet context path, e.g. http://localhost:8092/discuss
+     * @param membersByChannel seeded channels and their member userIds; every member gets one session
+     */
+    public StompLoadDriver(String httpBaseUrl, String webSocketEndpoint, LoadTestProperties properties,
+                           Map<Long, List<Long>> membersByChannel) {
+        this.properties = properties;
+        this.httpBaseUrl = httpBaseUrl;
+        this.webSocketUrl = httpBaseUrl.replaceFirst("^http", "ws") + webSocketEndpoint;
+        this.membersByChannel = membersByChannel;
+        this.channelByUser = new ConcurrentHashMap<>();
+        membersByChannel.forEach((channelId, userIds) -> userIds.forEach(userId -> channelByUser.put(userId, channelId)));
+
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        this.stompClient.setInboundMessageSizeLimit(1024 * 1024);
+        this.httpClient = HttpClient.newBuilder()
+                .executor(virtualThreads)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+    }
+
+    // ==================== CONNECT ====================
+
+    /**
+     * Open and subscribe one session per user concurrently, returning the number that succeeded
+     */
+    public int connectAll() {
+        List<CompletableFuture<Void>> connects = new ArrayList<>();
+        for (Long userId : channelByUser.keySet()) {
+            connects.add(CompletableFuture.runAsync(() -> connect(userId), virtualThreads));
+        }
+        connects.forEach(future -> {
+            try {
+                future.join();
+            } catch (Exception e) {
+                log.warn("Load session failed to connect: {}", e.getMessage());
+            }
+        });
+        return sessions.size();
+    }
+
+    private void connect(Long userId) {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + LoadTestJwtDecoder.tokenFor(userId, properties.getTenantId()));
+        try {
+            StompSession session = stompClient.connectAsync(webSocketUrl, new WebSocketHttpHeaders(), connectHeaders,
+                            new StompSessionHandlerAdapter() {
+                                @Override
+                                public void handleTransportError(@NonNull StompSession session, @NonNull Throwable exception) {
+                                    log.debug("Transport error for user {}: {}", userId, exception.getMessage());
+                                }
+                            })
+                    .get(CONNECT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            session.subscribe(EVENTS_DESTINATION, new EventFrameHandler());
+            sessions.put(userId, session);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to connect user " + userId, e);
+        }
+    }
+
+    // ==================== DRIVE TRAFFIC ====================
+
+    /**
+     * Run the traffic mix for the configured duration, wait for in-flight deliveries and report
+     */
+    public LoadTestReport run() throws InterruptedException {
+        long deadline = System.nanoTime() + properties.getDuration().toNanos();
+        List<CompletableFuture<Void>> loops = new ArrayList<>();
+        sessions.forEach((userId, session) ->
+                loops.add(CompletableFuture.runAsync(() -> driveSession(userId, session, deadline), virtualThreads)));
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+
+        Thread.sleep(properties.getDrain().toMillis());
+        return report();
+    }
+
+    private void driveSession(Long userId, StompSession session, long deadline) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / properties.getActionsPerSecond());
+        // Spread the first action so sessions do not fire in lockstep
+        long next = System.nanoTime() + ThreadLocalRandom.current().nextLong(Math.max(1, intervalNanos));
+        while (next < deadline && !Thread.currentThread().isInterrupted()) {
+            sleepUntil(next);
+            try {
+                perform(nextAction(), userId, session);
+            } catch (Exception e) {
+                failedActions.increment();
+                log.debug("Load action failed for user {}: {}", userId, e.getMessage());
+            }
+            next += intervalNanos;
+        }
+    }
+
+    private void perform(Action action, Long userId, StompSession session) throws Exception {
+        Long channelId = channelByUser.get(userId);
+        int members = membersByChannel.get(channelId).size();
+        switch (action) {
+            case SEND -> {
+                session.send("/app/channels/" + channelId + "/message",
+                        Map.of("content", LATENCY_MARKER + System.nanoTime()));
+                record(Action.SEND, members);
+            }
+            case TYPING -> {
+                session.send("/app/channels/" + channelId + "/typing", Map.of("isTyping", true));
+                record(Action.TYPING, members - 1);
+            }
+            case REACTION -> {
+                Long messageId = latestMessageByChannel.get(channelId);
+                if (messageId == null) {
+                    perform(Action.SEND, userId, session);
+                    return;
+                }
+                react(userId, channelId, messageId);
+                record(Action.REACTION, members);
+            }
+        }
+    }
+
+    private void react(Long userId, Long channelId, Long messageId) throws Exception {
+        String emoji = EMOJIS[ThreadLocalRandom.current().nextInt(EMOJIS.length)];
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(httpBaseUrl + "/api/v1/channels/" + channelId + "/messages/" + messageId + "/reactions"))
+                .header("Authorization", "Bearer " + LoadTestJwtDecoder.tokenFor(userId, properties.getTenantId()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("emoji", emoji))))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Reaction rejected with status " + response.statusCode());
+        }
+    }
+
+    private Action nextAction() {
+        int roll = ThreadLocalRandom.current().nextInt(properties.getTotalWeight());
+        if (roll < properties.getSendWeight()) {
+            return Action.SEND;
+        }
+        return roll < properties.getSendWeight() + properties.getTypingWeight() ? Action.TYPING : Action.REACTION;
+    }
+
+    private void record(Action action, int expectedDeliveries) {
+        issued.get(action).increment();
+        expected.get(action).add(expectedDeliveries);
+    }
+
+    // ==================== RECEIVE ====================
+
+    private class EventFrameHandler implements StompFrameHandler {
+
+        @Override
+        @NonNull
+        public Type getPayloadType(@NonNull StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(@NonNull StompHeaders headers, Object payload) {
+            framesReceived.increment();
+            JsonNode frame = (JsonNode) payload;
+            if (WsEventType.BATCH.name().equals(frame.path("type").asText())) {
+                frame.path("payload").forEach(StompLoadDriver.this::onEvent);
+            } else {
+                onEvent(frame);
+            }
+        }
+    }
+
+    private void onEvent(JsonNode event) {
+        long receivedAt = System.nanoTime();
+        eventsReceived.increment();
+        String type = event.path("type").asText();
+        if (WsEventType.MESSAGE_NEW.name().equals(type)) {
+            delivered.get(Action.SEND).increment();
+            JsonNode payload = event.path("payload");
+            latestMessageByChannel.put(payload.path("channelId").asLong(), payload.path("messageId").asLong());
+            String content = payload.path("message").path("content").asText("");
+            if (content.startsWith(LATENCY_MARKER)) {
+                long sentAt = Long.parseLong(content.substring(LATENCY_MARKER.length()));
+                latency.record(receivedAt - sentAt, TimeUnit.NANOSECONDS);
+            }
+        } else if (WsEventType.TYPING_START.name().equals(type)) {
+            delivered.get(Action.TYPING).increment();
+        } else if (WsEventType.REACTION_ADDED.name().equals(type)) {
+            delivered.get(Action.REACTION).increment();
+        } else if (WsEventType.ERROR.name().equals(type)) {
+            errorEvents.increment();
+            log.debug("Error event received: {}", event);
+        }
+    }
+
+    // ==================== REPORT ====================
+
+    private LoadTestReport report() {
+        HistogramSnapshot snapshot = latency.takeSnapshot();
+        Map<Double, Double> percentiles = new ConcurrentHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.put(value.percentile(), value.value(TimeUnit.MILLISECONDS));
+        }
+        return LoadTestReport.builder()
+                .sessions(properties.getSessions())
+                .connectedSessions(sessions.size())
+                .duration(properties.getDuration())
+                .issued(totals(issued))
+                .expected(totals(expected))
+                .delivered(totals(delivered))
+                .framesReceived(framesReceived.sum())
+                .eventsReceived(eventsReceived.sum())
+                .errorEvents(errorEvents.sum())
+                .failedActions(failedActions.sum())
+                .latencySamples(snapshot.count())
+                .latencyP50Ms(percentiles.getOrDefault(0.5, 0.0))
+                .latencyP95Ms(percentiles.getOrDefault(0.95, 0.0))
+                .latencyP99Ms(percentiles.getOrDefault(0.99, 0.0))
+                .latencyMaxMs(snapshot.max(TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    @Override
+    public void close() {
+        sessions.values().forEach(session -> {
+            try {
+                session.disconnect();
+            } catch (Exception e) {
+                log.debug("Failed to disconnect load session: {}", e.getMessage());
+            }
+        });
+        stompClient.stop();
+        virtualThreads.shutdownNow();
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Map<Action, LongAdder> counters() {
+        Map<Action, LongAdder> counters = new EnumMap<>(Action.class);
+        for (Action action : Action.values()) {
+            counters.put(action, new LongAdder());
+        }
+        return counters;
+    }
+
+    private static Map<Action, Long> totals(Map<Action, LongAdder> counters) {
+        Map<Action, Long> totals = new EnumMap<>(Action.class);
+        counters.forEach((action, counter) -> totals.put(action, counter.sum()));
+        return totals;
+    }
+}
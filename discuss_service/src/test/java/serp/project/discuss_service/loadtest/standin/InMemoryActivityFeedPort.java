@@ -0,0 +1,141 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - In-memory activity feed store stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import org.springframework.data.util.Pair;
+import serp.project.discuss_service.core.domain.entity.ActivityFeedEntity;
+import serp.project.discuss_service.core.domain.enums.ActionType;
+import serp.project.discuss_service.core.port.store.IActivityFeedPort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class InMemoryActivityFeedPort implements IActivityFeedPort {
+
+    private static final Comparator<ActivityFeedEntity> NEWEST_FIRST =
+            Comparator.comparing(ActivityFeedEntity::getOccurredAt).thenComparing(ActivityFeedEntity::getId).reversed();
+
+    private final InMemoryEntityStore<ActivityFeedEntity> activities =
+            new InMemoryEntityStore<>(ActivityFeedEntity.class);
+
+    @Override
+    public ActivityFeedEntity save(ActivityFeedEntity activity) {
+        return activities.save(activity);
+    }
+
+    @Override
+    public List<ActivityFeedEntity> saveAll(List<ActivityFeedEntity> activities) {
+        return activities.stream().map(this::save).toList();
+    }
+
+    /**
+     * Same contract as the unique (user_id, message_id, action_type) index with ON CONFLICT DO NOTHING
+     */
+    @Override
+    public synchronized List<ActivityFeedEntity> insertAll(List<ActivityFeedEntity> batch) {
+        List<ActivityFeedEntity> inserted = new ArrayList<>();
+        for (ActivityFeedEntity activity : batch) {
+            boolean duplicate = activity.getMessageId() != null && activities.count(existing ->
+                    Objects.equals(existing.getUserId(), activity.getUserId())
+                            && Objects.equals(existing.getMessageId(), activity.getMessageId())
+                            && existing.getActionType() == activity.getActionType()) > 0;
+            if (!duplicate) {
+                inserted.add(save(activity));
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<ActivityFeedEntity> findPage(Long userId, Long tenantId, Long beforeOccurredAt, Long beforeId, int limit) {
+        return activities.findAll(activity -> userId.equals(activity.getUserId())
+                        && tenantId.equals(activity.getTenantId())
+                        && (beforeOccurredAt == null
+                            || activity.getOccurredAt() < beforeOccurredAt
+                            || (activity.getOccurredAt().equals(beforeOccurredAt) && activity.getId() < beforeId)),
+                NEWEST_FIRST, 0, limit);
+    }
+
+    @Override
+    public Optional<ActivityFeedEntity> findById(Long id) {
+        return activities.findById(id);
+    }
+
+    @Override
+    public Pair<Long, List<ActivityFeedEntity>> findByUserId(Long userId, int page, int size) {
+        long total = activities.count(activity -> userId.equals(activity.getUserId()));
+        return Pair.of(total, activities.findAll(activity -> userId.equals(activity.getUserId()),
+                NEWEST_FIRST, (long) page * size, size));
+    }
+
+    @Override
+    public List<ActivityFeedEntity> findUnreadByUserId(Long userId) {
+        return activities.findAll(activity -> userId.equals(activity.getUserId()) && isUnread(activity),
+                NEWEST_FIRST, 0, Long.MAX_VALUE);
+    }
+
+    @Override
+    public List<ActivityFeedEntity> findByUserIdAndActionType(Long userId, ActionType actionType, int page, int size) {
+        return activities.findAll(activity -> userId.equals(activity.getUserId()) && activity.getActionType() == actionType,
+                NEWEST_FIRST, (long) page * size, size);
+    }
+
+    @Override
+    public List<ActivityFeedEntity> findByEntity(String entityType, Long entityId) {
+        return activities.findAll(activity -> Objects.equals(activity.getEntityType(), entityType)
+                && Objects.equals(activity.getEntityId(), entityId));
+    }
+
+    @Override
+    public long countUnreadByUserId(Long userId) {
+        return activities.count(activity -> userId.equals(activity.getUserId()) && isUnread(activity));
+    }
+
+    @Override
+    public long countUnread(Long userId, Long tenantId) {
+        return activities.count(activity -> userId.equals(activity.getUserId())
+                && tenantId.equals(activity.getTenantId()) && isUnread(activity));
+    }
+
+    @Override
+    public int markAllAsRead(Long userId, Long tenantId) {
+        return activities.update(activity -> userId.equals(activity.getUserId())
+                && tenantId.equals(activity.getTenantId()) && isUnread(activity), this::markRead);
+    }
+
+    @Override
+    public int markAsRead(Long userId, List<Long> activityIds) {
+        return activities.update(activity -> userId.equals(activity.getUserId())
+                && activityIds.contains(activity.getId()) && isUnread(activity), this::markRead);
+    }
+
+    @Override
+    public int markAllAsRead(Long userId) {
+        return activities.update(activity -> userId.equals(activity.getUserId()) && isUnread(activity), this::markRead);
+    }
+
+    @Override
+    public int markAsRead(List<Long> activityIds) {
+        return activities.update(activity -> activityIds.contains(activity.getId()) && isUnread(activity), this::markRead);
+    }
+
+    @Override
+    public int deleteOldActivities(Long before) {
+        return activities.delete(activity -> activity.getOccurredAt() < before);
+    }
+
+    private void markRead(ActivityFeedEntity activity) {
+        activity.setIsRead(true);
+        activity.setReadAt(System.currentTimeMillis());
+    }
+
+    private static boolean isUnread(ActivityFeedEntity activity) {
+        return !Boolean.TRUE.equals(activity.getIsRead());
+    }
+}
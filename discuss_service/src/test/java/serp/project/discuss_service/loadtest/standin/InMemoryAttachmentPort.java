@@ -0,0 +1,72 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - In-memory attachment store stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import serp.project.discuss_service.core.domain.entity.AttachmentEntity;
+import serp.project.discuss_service.core.port.store.IAttachmentPort;
+
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryAttachmentPort implements IAttachmentPort {
+
+    private final InMemoryEntityStore<AttachmentEntity> attachments = new InMemoryEntityStore<>(AttachmentEntity.class);
+
+    @Override
+    public AttachmentEntity save(AttachmentEntity attachment) {
+        return attachments.save(attachment);
+    }
+
+    @Override
+    public List<AttachmentEntity> saveAll(List<AttachmentEntity> attachments) {
+        return attachments.stream().map(this::save).toList();
+    }
+
+    @Override
+    public boolean updateDerivatives(AttachmentEntity attachment) {
+        return attachments.update(stored -> attachment.getId().equals(stored.getId()), stored -> {
+            stored.setThumbnail(attachment.getThumbnailUrl(), attachment.getWidth(), attachment.getHeight());
+            for (String variant : List.of(AttachmentEntity.DERIVATIVE_THUMBNAIL, AttachmentEntity.DERIVATIVE_PREVIEW)) {
+                stored.setDerivativeKey(variant, attachment.getDerivativeKey(variant));
+            }
+        }) > 0;
+    }
+
+    @Override
+    public Optional<AttachmentEntity> findById(Long id) {
+        return attachments.findById(id);
+    }
+
+    @Override
+    public List<AttachmentEntity> findByMessageId(Long messageId) {
+        return attachments.findAll(attachment -> messageId.equals(attachment.getMessageId()));
+    }
+
+    @Override
+    public List<AttachmentEntity> findByMessageIds(List<Long> messageIds) {
+        return attachments.findAll(attachment -> messageIds.contains(attachment.getMessageId()));
+    }
+
+    @Override
+    public List<AttachmentEntity> findByChannelId(Long channelId) {
+        return attachments.findAll(attachment -> channelId.equals(attachment.getChannelId()));
+    }
+
+    @Override
+    public long countByChannelId(Long channelId) {
+        return attachments.count(attachment -> channelId.equals(attachment.getChannelId()));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        attachments.delete(attachment -> id.equals(attachment.getId()));
+    }
+
+    @Override
+    public void deleteByMessageId(Long messageId) {
+        attachments.delete(attachment -> messageId.equals(attachment.getMessageId()));
+    }
+}
@@ -0,0 +1,379 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - In-memory cache port stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import serp.project.discuss_service.core.port.client.ICachePort;
+import serp.project.discuss_service.kernel.utils.JsonUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Redis stand-in backed by concurrent maps, so a load run measures the service and not the network.
+ * Values are stored as JSON like RedisCacheAdapter does. TTLs are accepted but not enforced,
+ * which is fine for runs of a few minutes.
+ */
+@RequiredArgsConstructor
+public class InMemoryCachePort implements ICachePort {
+
+    private final JsonUtils jsonUtils;
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sets = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> lists = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Double>> sortedSets = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+
+    // ==================== BASIC KEY-VALUE OPERATIONS ====================
+
+    @Override
+    public void setToCache(String key, Object value, long ttlSeconds) {
+        setToCache(key, value);
+    }
+
+    @Override
+    public void setToCache(String key, Object value) {
+        values.put(key, jsonUtils.toJson(value));
+    }
+
+    @Override
+    public String getFromCache(String key) {
+        return values.get(key);
+    }
+
+    @Override
+    public <T> T getFromCache(String key, Class<T> clazz) {
+        String json = values.get(key);
+        return json != null ? jsonUtils.fromJson(json, clazz) : null;
+    }
+
+    @Override
+    public <T> T getFromCache(String key, ParameterizedTypeReference<T> typeReference) {
+        String json = values.get(key);
+        return json != null ? jsonUtils.fromJson(json, typeReference) : null;
+    }
+
+    @Override
+    public void deleteFromCache(String key) {
+        values.remove(key);
+        sets.remove(key);
+        lists.remove(key);
+        sortedSets.remove(key);
+        hashes.remove(key);
+    }
+
+    @Override
+    public void deleteAllByPattern(String pattern) {
+        scanKeys(pattern).forEach(this::deleteFromCache);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return values.containsKey(key) || sets.containsKey(key) || lists.containsKey(key)
+                || sortedSets.containsKey(key) || hashes.containsKey(key);
+    }
+
+    @Override
+    public void expire(String key, long ttlSeconds) {
+        // TTLs are not enforced by the stand-in
+    }
+
+    // ==================== SET OPERATIONS ====================
+
+    @Override
+    public void addToSet(String key, String... members) {
+        sets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).addAll(List.of(members));
+    }
+
+    @Override
+    public void removeFromSet(String key, String... members) {
+        sets.computeIfPresent(key, (k, set) -> {
+            set.removeAll(List.of(members));
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @Override
+    public Set<String> getSetMembers(String key) {
+        Set<String> set = sets.get(key);
+        return set != null ? Set.copyOf(set) : Collections.emptySet();
+    }
+
+    @Override
+    public boolean isSetMember(String key, String member) {
+        Set<String> set = sets.get(key);
+        return set != null && set.contains(member);
+    }
+
+    @Override
+    public long getSetSize(String key) {
+        Set<String> set = sets.get(key);
+        return set != null ? set.size() : 0L;
+    }
+
+    // ==================== LIST OPERATIONS ====================
+
+    @Override
+    public void leftPush(String key, String value) {
+        List<String> list = list(key);
+        synchronized (list) {
+            list.add(0, value);
+        }
+    }
+
+    @Override
+    public void rightPush(String key, String value) {
+        List<String> list = list(key);
+        synchronized (list) {
+            list.add(value);
+        }
+    }
+
+    @Override
+    public List<String> getListRange(String key, long start, long end) {
+        List<String> list = lists.get(key);
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        synchronized (list) {
+            int[] range = range(list.size(), start, end);
+            return range[0] > range[1] ? Collections.emptyList() : new ArrayList<>(list.subList(range[0], range[1] + 1));
+        }
+    }
+
+    @Override
+    public void trimList(String key, long start, long end) {
+        List<String> list = lists.get(key);
+        if (list == null) {
+            return;
+        }
+        synchronized (list) {
+            int[] range = range(list.size(), start, end);
+            List<String> kept = range[0] > range[1] ? List.of() : new ArrayList<>(list.subList(range[0], range[1] + 1));
+            list.clear();
+            list.addAll(kept);
+        }
+    }
+
+    @Override
+    public long getListSize(String key) {
+        List<String> list = lists.get(key);
+        if (list == null) {
+            return 0L;
+        }
+        synchronized (list) {
+            return list.size();
+        }
+    }
+
+    // ==================== SORTED SET OPERATIONS ====================
+
+    @Override
+    public void sortedSetAddAll(String key, Map<String, Double> scoredMembers, long ttlSeconds) {
+        sortedSets.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).putAll(scoredMembers);
+    }
+
+    @Override
+    public void batchSortedSetUpdateIfPresent(Collection<String> keys, String member, double score) {
+        for (String key : keys) {
+            sortedSets.computeIfPresent(key, (k, set) -> {
+                set.put(member, score);
+                return set;
+            });
+        }
+    }
+
+    @Override
+    public Map<String, Double> sortedSetReverseRangeByScore(String key, double maxScore, long count) {
+        Map<String, Double> set = sortedSets.get(key);
+        if (set == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Double> result = new LinkedHashMap<>();
+        set.entrySet().stream()
+                .filter(entry -> entry.getValue() <= maxScore)
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<String, Double>comparingByKey().reversed()))
+                .limit(count)
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    @Override
+    public void sortedSetRemove(String key, String... members) {
+        Map<String, Double> set = sortedSets.get(key);
+        if (set != null) {
+            List.of(members).forEach(set::remove);
+        }
+    }
+
+    @Override
+    public void sortedSetRemoveRangeByRank(String key, long start, long end) {
+        sortedSets.computeIfPresent(key, (k, set) -> {
+            List<String> ranked = set.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            int size = ranked.size();
+            int from = (int) Math.max(start < 0 ? size + start : start, 0);
+            int to = (int) Math.min(end < 0 ? size + end : end, size - 1);
+            for (int rank = from; rank <= to; rank++) {
+                set.remove(ranked.get(rank));
+            }
+            return set;
+        });
+    }
+
+    // ==================== HASH OPERATIONS ====================
+
+    @Override
+    public void hashSet(String key, String field, String value) {
+        hash(key).put(field, value);
+    }
+
+    @Override
+    public void hashSetAll(String key, Map<String, String> map) {
+        hash(key).putAll(map);
+    }
+
+    @Override
+    public String hashGet(String key, String field) {
+        Map<String, String> hash = hashes.get(key);
+        return hash != null ? hash.get(field) : null;
+    }
+
+    @Override
+    public Map<String, String> hashGetAll(String key) {
+        Map<String, String> hash = hashes.get(key);
+        return hash != null ? new HashMap<>(hash) : Collections.emptyMap();
+    }
+
+    @Override
+    public void hashDelete(String key, String... fields) {
+        Map<String, String> hash = hashes.get(key);
+        if (hash != null) {
+            List.of(fields).forEach(hash::remove);
+        }
+    }
+
+    @Override
+    public boolean hashExists(String key, String field) {
+        Map<String, String> hash = hashes.get(key);
+        return hash != null && hash.containsKey(field);
+    }
+
+    @Override
+    public long hashIncrement(String key, String field, long delta) {
+        String updated = hash(key).merge(field, String.valueOf(delta),
+                (current, increment) -> String.valueOf(Long.parseLong(current) + Long.parseLong(increment)));
+        return Long.parseLong(updated);
+    }
+
+    // ==================== COUNTER OPERATIONS ====================
+
+    @Override
+    public long increment(String key) {
+        return incrementBy(key, 1);
+    }
+
+    @Override
+    public long incrementBy(String key, long delta) {
+        String updated = values.merge(key, String.valueOf(delta),
+                (current, increment) -> String.valueOf(Long.parseLong(current) + Long.parseLong(increment)));
+        return Long.parseLong(updated);
+    }
+
+    @Override
+    public long decrement(String key) {
+        return incrementBy(key, -1);
+    }
+
+    // ==================== PUB/SUB OPERATIONS ====================
+
+    @Override
+    public void publish(String channel, String message) {
+        subscribers.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        subscribers.computeIfAbsent(channel, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    // ==================== BATCH/PIPELINE OPERATIONS ====================
+
+    @Override
+    public void batchHashIncrement(Map<String, Map<String, Long>> operations) {
+        operations.forEach((key, fields) -> fields.forEach((field, delta) -> hashIncrement(key, field, delta)));
+    }
+
+    @Override
+    public void scanAndDelete(String pattern, int batchSize) {
+        deleteAllByPattern(pattern);
+    }
+
+    @Override
+    public Set<String> scanKeys(String pattern) {
+        Pattern regex = Pattern.compile(Pattern.quote(pattern).replace("*", "\\E.*\\Q"));
+        return List.of(values.keySet(), sets.keySet(), lists.keySet(), sortedSets.keySet(), hashes.keySet())
+                .stream()
+                .flatMap(Set::stream)
+                .filter(key -> regex.matcher(key).matches())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<String, Map<String, String>> batchHashGetAll(List<String> keys) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        keys.forEach(key -> result.put(key, hashGetAll(key)));
+        return result;
+    }
+
+    @Override
+    public <T> Map<String, T> multiGetFromCache(List<String> keys, Class<T> clazz) {
+        Map<String, T> result = new HashMap<>();
+        for (String key : keys) {
+            T value = getFromCache(key, clazz);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void batchSetToCache(Map<String, Object> values, long ttlSeconds) {
+        values.forEach(this::setToCache);
+    }
+
+    private List<String> list(String key) {
+        return lists.computeIfAbsent(key, k -> new ArrayList<>());
+    }
+
+    private Map<String, String> hash(String key) {
+        return hashes.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+    }
+
+    private static int[] range(int size, long start, long end) {
+        int from = (int) (start < 0 ? Math.max(0, size + start) : Math.min(start, size));
+        int to = (int) (end < 0 ? size + end : Math.min(end, size - 1));
+        return new int[]{from, to};
+    }
+}
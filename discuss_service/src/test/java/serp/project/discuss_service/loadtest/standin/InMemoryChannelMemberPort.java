@@ -0,0 +1,171 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - In-memory channel member store stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import lombok.RequiredArgsConstructor;
+import serp.project.discuss_service.core.domain.entity.ChannelEntity;
+import serp.project.discuss_service.core.domain.entity.ChannelMemberEntity;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.domain.enums.MemberStatus;
+import serp.project.discuss_service.core.domain.vo.ChannelInboxEntry;
+import serp.project.discuss_service.core.port.store.IChannelMemberPort;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Membership table plus the inbox joins, which read channels and messages from the sibling stand-ins.
+ */
+@RequiredArgsConstructor
+public class InMemoryChannelMemberPort implements IChannelMemberPort {
+
+    private static final Comparator<ChannelInboxEntry> INBOX_ORDER =
+            Comparator.comparing(ChannelInboxEntry::getLastActivityAt)
+                    .thenComparing(entry -> entry.getChannel().getId())
+                    .reversed();
+
+    private final InMemoryChannelPort channelPort;
+    private final InMemoryMessagePort messagePort;
+
+    private final InMemoryEntityStore<ChannelMemberEntity> members =
+            new InMemoryEntityStore<>(ChannelMemberEntity.class);
+
+    @Override
+    public ChannelMemberEntity save(ChannelMemberEntity member) {
+        return members.save(member);
+    }
+
+    @Override
+    public Optional<ChannelMemberEntity> findByChannelIdAndUserId(Long channelId, Long userId) {
+        return members.findAll(member -> channelId.equals(member.getChannelId()) && userId.equals(member.getUserId()))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<ChannelMemberEntity> findByChannelIdAndStatus(Long channelId, MemberStatus status) {
+        return members.findAll(member -> channelId.equals(member.getChannelId()) && member.getStatus() == status);
+    }
+
+    @Override
+    public List<ChannelMemberEntity> findByChannelId(Long channelId) {
+        return members.findAll(member -> channelId.equals(member.getChannelId()));
+    }
+
+    @Override
+    public List<ChannelMemberEntity> findByUserIdAndStatus(Long userId, MemberStatus status) {
+        return members.findAll(member -> userId.equals(member.getUserId()) && member.getStatus() == status);
+    }
+
+    @Override
+    public List<ChannelMemberEntity> findChannelsWithUnread(Long userId) {
+        return members.findAll(activeFor(userId).and(member -> member.getUnreadCount() > 0),
+                Comparator.comparing(ChannelMemberEntity::getUpdatedAt).reversed(), 0, Long.MAX_VALUE);
+    }
+
+    @Override
+    public List<ChannelMemberEntity> findPinnedChannels(Long userId) {
+        return members.findAll(activeFor(userId).and(member -> Boolean.TRUE.equals(member.getIsPinned())));
+    }
+
+    @Override
+    public long countActiveMembers(Long channelId) {
+        return members.count(member -> channelId.equals(member.getChannelId())
+                && member.getStatus() == MemberStatus.ACTIVE);
+    }
+
+    @Override
+    public boolean isMember(Long channelId, Long userId) {
+        return members.count(member -> channelId.equals(member.getChannelId())
+                && userId.equals(member.getUserId())
+                && member.getStatus() == MemberStatus.ACTIVE) > 0;
+    }
+
+    @Override
+    public int incrementUnreadForChannel(Long channelId, Long senderId) {
+        return members.update(member -> channelId.equals(member.getChannelId())
+                        && !senderId.equals(member.getUserId())
+                        && member.getStatus() == MemberStatus.ACTIVE,
+                member -> member.setUnreadCount(member.getUnreadCount() + 1));
+    }
+
+    @Override
+    public int markAsRead(Long channelId, Long userId, Long messageId) {
+        return members.update(member -> channelId.equals(member.getChannelId()) && userId.equals(member.getUserId()),
+                member -> {
+                    member.setUnreadCount(0);
+                    member.setLastReadMsgId(messageId);
+                });
+    }
+
+    @Override
+    public void delete(ChannelMemberEntity member) {
+        members.delete(row -> Objects.equals(row.getId(), member.getId()));
+    }
+
+    @Override
+    public void deleteByChannelId(Long channelId) {
+        members.delete(member -> channelId.equals(member.getChannelId()));
+    }
+
+    @Override
+    public List<ChannelInboxEntry> findInboxPage(Long userId, Long tenantId,
+                                                 Long beforeActivityAt, Long beforeChannelId, int limit) {
+        return inbox(userId, tenantId).stream()
+                .filter(entry -> beforeActivityAt == null
+                        || entry.getLastActivityAt() < beforeActivityAt
+                        || (entry.getLastActivityAt().equals(beforeActivityAt)
+                            && entry.getChannel().getId() < beforeChannelId))
+                .sorted(INBOX_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<ChannelInboxEntry> findInboxByChannelIds(Long userId, Long tenantId, Collection<Long> channelIds) {
+        return inbox(userId, tenantId).stream()
+                .filter(entry -> channelIds.contains(entry.getChannel().getId()))
+                .toList();
+    }
+
+    @Override
+    public Map<Long, Long> findInboxActivity(Long userId, Long tenantId) {
+        return inbox(userId, tenantId).stream()
+                .collect(Collectors.toMap(entry -> entry.getChannel().getId(), ChannelInboxEntry::getLastActivityAt));
+    }
+
+    private List<ChannelInboxEntry> inbox(Long userId, Long tenantId) {
+        return members.findAll(activeFor(userId).and(member -> tenantId.equals(member.getTenantId()))).stream()
+                .map(member -> channelPort.findById(member.getChannelId())
+                        .filter(channel -> !Boolean.TRUE.equals(channel.getIsArchived()))
+                        .map(channel -> toInboxEntry(channel, member)))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private ChannelInboxEntry toInboxEntry(ChannelEntity channel, ChannelMemberEntity membership) {
+        MessageEntity lastMessage = messagePort.findByChannelId(channel.getId(), 0, 1).getSecond().stream()
+                .findFirst()
+                .orElse(null);
+        Long lastActivityAt = channel.getLastMessageAt() != null ? channel.getLastMessageAt() : channel.getCreatedAt();
+        return ChannelInboxEntry.builder()
+                .channel(channel)
+                .membership(membership)
+                .lastMessage(lastMessage)
+                .lastActivityAt(lastActivityAt)
+                .build();
+    }
+
+    private static Predicate<ChannelMemberEntity> activeFor(Long userId) {
+        return member -> userId.equals(member.getUserId()) && member.getStatus() == MemberStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - In-memory channel store stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import org.springframework.data.util.Pair;
+import serp.project.discuss_service.core.domain.entity.ChannelEntity;
+import serp.project.discuss_service.core.domain.enums.ChannelType;
+import serp.project.discuss_service.core.port.store.IChannelPort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class InMemoryChannelPort implements IChannelPort {
+
+    private static final Comparator<ChannelEntity> NEWEST_FIRST =
+            Comparator.comparing(ChannelEntity::getCreatedAt).reversed();
+
+    private final InMemoryEntityStore<ChannelEntity> channels = new InMemoryEntityStore<>(ChannelEntity.class);
+
+    @Override
+    public ChannelEntity save(ChannelEntity channel) {
+        return channels.save(channel);
+    }
+
+    @Override
+    public Optional<ChannelEntity> findById(Long id) {
+        return channels.findById(id);
+    }
+
+    @Override
+    public List<ChannelEntity> findByIds(List<Long> ids) {
+        return channels.findAll(channel -> ids.contains(channel.getId()));
+    }
+
+    @Override
+    public List<ChannelEntity> findByTenantId(Long tenantId) {
+        return channels.findAll(channel -> tenantId.equals(channel.getTenantId()));
+    }
+
+    @Override
+    public Pair<Long, List<ChannelEntity>> findByTenantIdPaginated(Long tenantId, int page, int size) {
+        long total = countByTenantId(tenantId);
+        List<ChannelEntity> items = channels.findAll(channel -> tenantId.equals(channel.getTenantId()),
+                NEWEST_FIRST, (long) page * size, size);
+        return Pair.of(total, items);
+    }
+
+    @Override
+    public List<ChannelEntity> findByTenantIdAndType(Long tenantId, ChannelType type) {
+        return channels.findAll(channel -> tenantId.equals(channel.getTenantId()) && channel.getType() == type);
+    }
+
+    @Override
+    public Optional<ChannelEntity> findDirectChannel(Long tenantId, Long userId1, Long userId2) {
+        return channels.findAll(channel -> tenantId.equals(channel.getTenantId())
+                        && channel.getType() == ChannelType.DIRECT
+                        && Objects.equals(channel.getCreatedBy(), userId1)
+                        && Objects.equals(channel.getEntityId(), userId2))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<ChannelEntity> findByEntity(Long tenantId, String entityType, Long entityId) {
+        return channels.findAll(channel -> tenantId.equals(channel.getTenantId())
+                        && Objects.equals(channel.getEntityType(), entityType)
+                        && Objects.equals(channel.getEntityId(), entityId))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public long countByTenantId(Long tenantId) {
+        return channels.count(channel -> tenantId.equals(channel.getTenantId()));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        channels.delete(channel -> id.equals(channel.getId()));
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Id-keyed in-memory entity table for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import serp.project.discuss_service.core.domain.entity.BaseEntity;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A table of one entity type. Rows are copied on the way in and out, so callers get detached
+ * objects like they do from the JPA adapters and concurrent sessions never share mutable state.
+ */
+class InMemoryEntityStore<E extends BaseEntity> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Class<E> type;
+    private final Map<Long, E> rows = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    InMemoryEntityStore(Class<E> type) {
+        this.type = type;
+    }
+
+    E save(E entity) {
+        long now = System.currentTimeMillis();
+        if (entity.getId() == null) {
+            entity.setId(sequence.incrementAndGet());
+        }
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(now);
+        }
+        entity.setUpdatedAt(now);
+        rows.put(entity.getId(), copy(entity));
+        return entity;
+    }
+
+    Optional<E> findById(Long id) {
+        return Optional.ofNullable(rows.get(id)).map(this::copy);
+    }
+
+    List<E> findAll(Predicate<E> filter) {
+        return rows.values().stream().filter(filter).map(this::copy).toList();
+    }
+
+    List<E> findAll(Predicate<E> filter, Comparator<E> order, long offset, long limit) {
+        return rows.values().stream()
+                .filter(filter)
+                .sorted(order)
+                .skip(offset)
+                .limit(limit)
+                .map(this::copy)
+                .toList();
+    }
+
+    long count(Predicate<E> filter) {
+        return rows.values().stream().filter(filter).count();
+    }
+
+    /**
+     * Apply an in-place update to matching rows, returning the number of updated rows
+     */
+    int update(Predicate<E> filter, Consumer<E> change) {
+        int updated = 0;
+        for (Long id : List.copyOf(rows.keySet())) {
+            boolean[] matched = {false};
+            rows.computeIfPresent(id, (key, row) -> {
+                if (filter.test(row)) {
+                    change.accept(row);
+                    row.setUpdatedAt(System.currentTimeMillis());
+                    matched[0] = true;
+                }
+                return row;
+            });
+            if (matched[0]) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    int delete(Predicate<E> filter) {
+        List<Long> ids = rows.values().stream().filter(filter).map(BaseEntity::getId).toList();
+        ids.forEach(rows::remove);
+        return ids.size();
+    }
+
+    private E copy(E entity) {
+        return MAPPER.convertValue(entity, type);
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Message partition stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import serp.project.discuss_service.core.port.store.IMessagePartitionPort;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Tracks partition months only; the in-memory message store is not partitioned and never archived.
+ */
+public class InMemoryMessagePartitionPort implements IMessagePartitionPort {
+
+    private final Set<YearMonth> partitions = new ConcurrentSkipListSet<>();
+
+    @Override
+    public void createPartition(YearMonth month) {
+        partitions.add(month);
+    }
+
+    @Override
+    public List<YearMonth> findPartitionMonths() {
+        return List.copyOf(partitions);
+    }
+
+    @Override
+    public long archivePartition(YearMonth month) {
+        partitions.remove(month);
+        return 0;
+    }
+}
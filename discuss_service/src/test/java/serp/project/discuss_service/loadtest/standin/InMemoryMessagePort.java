@@ -0,0 +1,154 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - In-memory message store stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import org.springframework.data.util.Pair;
+import serp.project.discuss_service.core.domain.entity.MessageEntity;
+import serp.project.discuss_service.core.port.store.IMessagePort;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public class InMemoryMessagePort implements IMessagePort {
+
+    private static final Comparator<MessageEntity> NEWEST_FIRST =
+            Comparator.comparing(MessageEntity::getCreatedAt).thenComparing(MessageEntity::getId).reversed();
+
+    private final InMemoryEntityStore<MessageEntity> messages = new InMemoryEntityStore<>(MessageEntity.class);
+
+    @Override
+    public MessageEntity save(MessageEntity message) {
+        return messages.save(message);
+    }
+
+    @Override
+    public Optional<MessageEntity> findById(Long id) {
+        return messages.findById(id);
+    }
+
+    @Override
+    public Pair<Long, List<MessageEntity>> findByChannelId(Long channelId, int page, int size) {
+        long total = countByChannelId(channelId);
+        List<MessageEntity> items = messages.findAll(message -> visibleIn(message, channelId),
+                NEWEST_FIRST, (long) page * size, size);
+        return Pair.of(total, items);
+    }
+
+    @Override
+    public List<MessageEntity> findBeforeId(Long channelId, Long beforeId, int limit) {
+        return messages.findAll(message -> visibleIn(message, channelId) && message.getId() < beforeId,
+                NEWEST_FIRST, 0, limit);
+    }
+
+    @Override
+    public List<MessageEntity> findByIds(Collection<Long> ids) {
+        return messages.findAll(message -> ids.contains(message.getId()) && !isDeleted(message),
+                NEWEST_FIRST, 0, ids.size());
+    }
+
+    @Override
+    public List<MessageEntity> findRepliesBefore(Long parentId, Long beforeId, int limit) {
+        return messages.findAll(message -> parentId.equals(message.getParentId()) && !isDeleted(message)
+                        && (beforeId == null || message.getId() < beforeId),
+                Comparator.comparing(MessageEntity::getId).reversed(), 0, limit);
+    }
+
+    @Override
+    public synchronized void incrementThreadCounts(Map<Long, Long> deltas) {
+        deltas.forEach((parentId, delta) -> messages.findById(parentId).ifPresent(parent -> {
+            int stored = parent.getThreadCount() != null ? parent.getThreadCount() : 0;
+            parent.setThreadCount((int) Math.max(0, stored + delta));
+            messages.save(parent);
+        }));
+    }
+
+    @Override
+    public List<Long> findSettledThreadParents(long activeSince, long settledBefore, int limit) {
+        Map<Long, Long> lastActivity = new HashMap<>();
+        messages.findAll(message -> message.getParentId() != null).forEach(reply ->
+                lastActivity.merge(reply.getParentId(), lastActivity(reply), Math::max));
+        return lastActivity.entrySet().stream()
+                .filter(entry -> entry.getValue() >= activeSince && entry.getValue() < settledBefore)
+                .map(Map.Entry::getKey)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public synchronized int reconcileThreadCounts(Map<Long, Long> pendingDeltas, long settledBefore) {
+        int corrected = 0;
+        for (Map.Entry<Long, Long> pending : pendingDeltas.entrySet()) {
+            List<MessageEntity> replies = messages.findAll(message -> pending.getKey().equals(message.getParentId()));
+            if (replies.stream().anyMatch(reply -> lastActivity(reply) >= settledBefore)) {
+                continue;
+            }
+            long live = replies.stream().filter(reply -> !isDeleted(reply)).count();
+            int expected = (int) Math.max(0, live - pending.getValue());
+            Optional<MessageEntity> parent = messages.findById(pending.getKey());
+            if (parent.isPresent() && !Integer.valueOf(expected).equals(parent.get().getThreadCount())) {
+                parent.get().setThreadCount(expected);
+                messages.save(parent.get());
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    @Override
+    public List<MessageEntity> findBySenderId(Long senderId, int page, int size) {
+        return messages.findAll(message -> senderId.equals(message.getSenderId()) && !isDeleted(message),
+                NEWEST_FIRST, (long) page * size, size);
+    }
+
+    @Override
+    public List<MessageEntity> findByMentioningUser(Long userId, int page, int size) {
+        return messages.findAll(message -> message.mentions(userId) && !isDeleted(message),
+                NEWEST_FIRST, (long) page * size, size);
+    }
+
+    @Override
+    public List<MessageEntity> searchMessages(Long channelId, String query, int page, int size) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        return messages.findAll(message -> visibleIn(message, channelId) && message.getContent() != null
+                        && message.getContent().toLowerCase(Locale.ROOT).contains(needle),
+                NEWEST_FIRST, (long) page * size, size);
+    }
+
+    @Override
+    public long countUnreadMessages(Long channelId, Long afterMessageId) {
+        return messages.count(message -> visibleIn(message, channelId) && message.getId() > afterMessageId);
+    }
+
+    @Override
+    public int softDeleteByChannelId(Long channelId, Long deletedAt) {
+        return messages.update(message -> channelId.equals(message.getChannelId()), message -> {
+            message.setIsDeleted(true);
+            message.setDeletedAt(deletedAt);
+        });
+    }
+
+    @Override
+    public long countByChannelId(Long channelId) {
+        return messages.count(message -> visibleIn(message, channelId));
+    }
+
+    private static boolean visibleIn(MessageEntity message, Long channelId) {
+        return channelId.equals(message.getChannelId()) && !isDeleted(message);
+    }
+
+    private static long lastActivity(MessageEntity reply) {
+        return Math.max(reply.getCreatedAt(), reply.getDeletedAt() != null ? reply.getDeletedAt() : 0L);
+    }
+
+    private static boolean isDeleted(MessageEntity message) {
+        return Boolean.TRUE.equals(message.getIsDeleted());
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Token decoder stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+/**
+ * Accepts tokens of the form {@code load-<userId>-<tenantId>} and turns them into a JWT with the
+ * same uid/tid claims Keycloak issues, so REST and STOMP authentication run unchanged.
+ */
+public class LoadTestJwtDecoder implements JwtDecoder {
+
+    private static final String TOKEN_PREFIX = "load-";
+
+    public static String tokenFor(Long userId, Long tenantId) {
+        return TOKEN_PREFIX + userId + "-" + tenantId;
+    }
+
+    @Override
+    public Jwt decode(String token) {
+        if (token == null || !token.startsWith(TOKEN_PREFIX)) {
+            throw new BadJwtException("Not a load test token");
+        }
+        String[] parts = token.substring(TOKEN_PREFIX.length()).split("-");
+        if (parts.length != 2) {
+            throw new BadJwtException("Malformed load test token");
+        }
+
+        Instant now = Instant.now();
+        return Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject(parts[0])
+                .claim("uid", parts[0])
+                .claim("tid", parts[1])
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Single-process lock stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import serp.project.discuss_service.core.port.client.IDistributedLockPort;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class LocalLockPort implements IDistributedLockPort {
+
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> Optional<T> executeWithLock(String lockName, Duration ttl, Supplier<T> task) {
+        ReentrantLock lock = locks.computeIfAbsent(lockName, name -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(task.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Transaction manager stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Lets {@code @Transactional} use cases run against the in-memory stores. Synchronizations still
+ * fire, so after-commit listeners behave as they do with JPA.
+ */
+public class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Account service stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import serp.project.discuss_service.core.domain.dto.response.ChannelMemberResponse;
+import serp.project.discuss_service.core.port.client.IAccountServiceClient;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Answers every lookup with a synthetic profile so sender enrichment stays on the hot path
+ * without a running account service.
+ */
+public class StubAccountServiceClient implements IAccountServiceClient {
+
+    @Override
+    public Optional<ChannelMemberResponse.UserInfo> getUserById(Long userId) {
+        return Optional.of(profile(userId));
+    }
+
+    @Override
+    public List<ChannelMemberResponse.UserInfo> getUsersByIds(Collection<Long> userIds) {
+        return userIds.stream().map(StubAccountServiceClient::profile).toList();
+    }
+
+    @Override
+    public List<ChannelMemberResponse.UserInfo> getUsersForTenant(Long tenantId, String query) {
+        return List.of();
+    }
+
+    private static ChannelMemberResponse.UserInfo profile(Long userId) {
+        return ChannelMemberResponse.UserInfo.builder()
+                .id(userId)
+                .name("Load User " + userId)
+                .email("load-" + userId + "@serp.local")
+                .build();
+    }
+}
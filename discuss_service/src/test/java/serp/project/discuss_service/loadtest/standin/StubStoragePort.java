@@ -0,0 +1,67 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Object storage stand-in for load tests
+ */
+
+package serp.project.discuss_service.loadtest.standin;
+
+import serp.project.discuss_service.core.domain.enums.StorageProvider;
+import serp.project.discuss_service.core.domain.vo.FileUploadResult;
+import serp.project.discuss_service.core.domain.vo.StorageLocation;
+import serp.project.discuss_service.core.port.client.IStoragePort;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * Load runs only send text messages; this satisfies attachment URL resolution without S3.
+ */
+public class StubStoragePort implements IStoragePort {
+
+    private static final String BUCKET = "discuss-load-test";
+
+    @Override
+    public FileUploadResult upload(InputStream inputStream, String fileName, String contentType,
+                                   Long fileSize, Long tenantId, Long channelId) {
+        return FileUploadResult.failure("Uploads are not supported in load tests");
+    }
+
+    @Override
+    public FileUploadResult upload(StorageLocation location, byte[] content, String contentType) {
+        return FileUploadResult.failure("Uploads are not supported in load tests");
+    }
+
+    @Override
+    public InputStream download(StorageLocation location) {
+        return InputStream.nullInputStream();
+    }
+
+    @Override
+    public boolean delete(StorageLocation location) {
+        return true;
+    }
+
+    @Override
+    public String generatePresignedUrl(StorageLocation location, Duration expiry) {
+        return "http://localhost/" + location.getFullPath();
+    }
+
+    @Override
+    public boolean exists(StorageLocation location) {
+        return false;
+    }
+
+    @Override
+    public StorageProvider getProvider() {
+        return StorageProvider.S3;
+    }
+
+    @Override
+    public String getBucket() {
+        return BUCKET;
+    }
+
+    @Override
+    public void ensureBucketExists() {
+    }
+}
@@ -0,0 +1,250 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project - Unit tests for AbstractKafkaConsumer batch mode
+ */
+
+package serp.project.discuss_service.ui.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import serp.project.discuss_service.core.domain.dto.websocket.WsEventType;
+import serp.project.discuss_service.ui.messaging.handler.IBatchEventHandler;
+import serp.project.discuss_service.ui.messaging.handler.IEventHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AbstractKafkaConsumer.
+ * Tests batch collection order, per-record handlers, failed record and delivery index and metrics.
+ */
+class AbstractKafkaConsumerTest {
+
+    private static final String TOPIC = "discuss.test";
+
+    private SimpleMeterRegistry meterRegistry;
+    private TestConsumer consumer;
+    private List<List<String>> deliveries;
+    private List<String> handled;
+    private Map<WsEventType, IEventHandler<String, WsEventType>> handlers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new TestConsumer(meterRegistry);
+        deliveries = new ArrayList<>();
+        handled = new ArrayList<>();
+        handlers = Map.of(
+                WsEventType.MESSAGE_NEW, new OutboundHandler(WsEventType.MESSAGE_NEW),
+                WsEventType.REACTION_ADDED, new OutboundHandler(WsEventType.REACTION_ADDED),
+                WsEventType.TYPING_START, new DirectHandler());
+    }
+
+    // ==================== PROCESS BATCH TESTS ====================
+
+    @Nested
+    @DisplayName("processBatch")
+    class ProcessBatchTests {
+
+        @Test
+        @DisplayName("should deliver outbound events of the whole poll once in record order")
+        void testProcessBatch_BatchHandlers_DeliversOnceInOrder() {
+            // Given
+            List<ConsumerRecord<String, String>> records = List.of(
+                    record(0, "MESSAGE_NEW:a"),
+                    record(1, "REACTION_ADDED:b"),
+                    record(2, "MESSAGE_NEW:c"));
+
+            // When
+            consumer.processBatch(records, handlers, "message", AbstractKafkaConsumerTest.this::deliver);
+
+            // Then
+            assertEquals(List.of(List.of("MESSAGE_NEW:a", "REACTION_ADDED:b", "MESSAGE_NEW:c")), deliveries);
+        }
+
+        @Test
+        @DisplayName("should run non-batch handlers per record and skip unknown types")
+        void testProcessBatch_MixedHandlers_HandlesDirectlyAndSkipsUnknown() {
+            // Given
+            List<ConsumerRecord<String, String>> records = List.of(
+                    record(0, "TYPING_START:a"),
+                    record(1, "MESSAGE_DELETED:b"),
+                    record(2, "MESSAGE_NEW:c"));
+
+            // When
+            consumer.processBatch(records, handlers, "message", AbstractKafkaConsumerTest.this::deliver);
+
+            // Then
+            assertEquals(List.of("TYPING_START:a"), handled);
+            assertEquals(List.of(List.of("MESSAGE_NEW:c")), deliveries);
+        }
+
+        @Test
+        @DisplayName("should not deliver when nothing was collected")
+        void testProcessBatch_NoOutbound_SkipsDelivery() {
+            // When
+            consumer.processBatch(List.of(record(0, "TYPING_START:a")), handlers, "message", AbstractKafkaConsumerTest.this::deliver);
+
+            // Then
+            assertTrue(deliveries.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should deliver records before an invalid one and report its index")
+        void testProcessBatch_InvalidRecord_ThrowsWithIndex() {
+            // Given
+            List<ConsumerRecord<String, String>> records = List.of(
+                    record(0, "MESSAGE_NEW:a"),
+                    record(1, "bad"),
+                    record(2, "MESSAGE_NEW:c"));
+
+            // When
+            BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                    () -> consumer.processBatch(records, handlers, "message", AbstractKafkaConsumerTest.this::deliver));
+
+            // Then
+            assertEquals(1, exception.getIndex());
+            assertEquals(List.of(List.of("MESSAGE_NEW:a")), deliveries);
+        }
+
+        @Test
+        @DisplayName("should report the first undelivered record when delivery fails")
+        void testProcessBatch_DeliveryFails_ThrowsWithFirstUndeliveredIndex() {
+            // Given
+            List<ConsumerRecord<String, String>> records = List.of(
+                    record(0, "TYPING_START:a"),
+                    record(1, "MESSAGE_NEW:b"),
+                    record(2, "MESSAGE_NEW:c"));
+
+            // When
+            BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                    () -> consumer.processBatch(records, handlers, "message", batch -> {
+                        throw new IllegalStateException("session store down");
+                    }));
+
+            // Then
+            assertEquals(1, exception.getIndex());
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+            assertEquals(List.of("TYPING_START:a"), handled);
+        }
+
+        @Test
+        @DisplayName("should report the first undelivered record when delivering before an invalid one fails")
+        void testProcessBatch_DeliveryFailsAfterInvalidRecord_ThrowsWithFirstUndeliveredIndex() {
+            // Given
+            List<ConsumerRecord<String, String>> records = List.of(
+                    record(0, "TYPING_START:a"),
+                    record(1, "MESSAGE_NEW:b"),
+                    record(2, "bad"));
+
+            // When
+            BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                    () -> consumer.processBatch(records, handlers, "message", batch -> {
+                        throw new IllegalStateException("session store down");
+                    }));
+
+            // Then
+            assertEquals(1, exception.getIndex());
+            assertEquals(1, exception.getSuppressed().length);
+        }
+
+        @Test
+        @DisplayName("should record batch size, outbound and latency tagged by handler")
+        void testProcessBatch_Metrics_RecordedPerHandler() {
+            // When
+            consumer.processBatch(List.of(record(0, "MESSAGE_NEW:a"), record(1, "TYPING_START:b"),
+                            record(2, "MESSAGE_NEW:c")),
+                    handlers, "message", AbstractKafkaConsumerTest.this::deliver);
+
+            // Then
+            assertEquals(2.0, meterRegistry.get("discuss.kafka.batch.size").tag("handler", "OutboundHandler")
+                    .summary().totalAmount());
+            assertEquals(2.0, meterRegistry.get("discuss.kafka.batch.outbound").tag("handler", "OutboundHandler")
+                    .summary().totalAmount());
+            assertEquals(1.0, meterRegistry.get("discuss.kafka.batch.size").tag("handler", "DirectHandler")
+                    .summary().totalAmount());
+            assertEquals(0.0, meterRegistry.get("discuss.kafka.batch.outbound").tag("handler", "DirectHandler")
+                    .summary().totalAmount());
+            assertEquals(1L, meterRegistry.get("discuss.kafka.batch.latency").tag("handler", "OutboundHandler")
+                    .timer().count());
+            assertEquals(1L, meterRegistry.get("discuss.kafka.batch.delivery").tag("listener", "message")
+                    .timer().count());
+        }
+
+        @Test
+        @DisplayName("should ignore empty poll")
+        void testProcessBatch_EmptyRecords_NoOp() {
+            // When
+            consumer.processBatch(List.of(), handlers, "message", AbstractKafkaConsumerTest.this::deliver);
+
+            // Then
+            assertTrue(deliveries.isEmpty());
+            assertTrue(meterRegistry.getMeters().isEmpty());
+        }
+    }
+
+    private void deliver(List<String> batch) {
+        deliveries.add(batch);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+    }
+
+    private static class TestConsumer extends AbstractKafkaConsumer<String, WsEventType> {
+
+        TestConsumer(SimpleMeterRegistry meterRegistry) {
+            super(meterRegistry);
+        }
+
+        @Override
+        protected String parsePayload(ConsumerRecord<String, String> record) {
+            return record.value().contains(":") ? record.value() : null;
+        }
+
+        @Override
+        protected WsEventType resolveEventType(String event) {
+            return WsEventType.valueOf(event.substring(0, event.indexOf(':')));
+        }
+    }
+
+    private record OutboundHandler(WsEventType type) implements IBatchEventHandler<String, WsEventType, String> {
+
+        @Override
+        public WsEventType getType() {
+            return type;
+        }
+
+        @Override
+        public void handle(String event) {
+            throw new UnsupportedOperationException("batch handler must not be called per record");
+        }
+
+        @Override
+        public Optional<String> toOutbound(String event) {
+            return Optional.of(event);
+        }
+    }
+
+    private class DirectHandler implements IEventHandler<String, WsEventType> {
+
+        @Override
+        public WsEventType getType() {
+            return WsEventType.TYPING_START;
+        }
+
+        @Override
+        public void handle(String event) {
+            handled.add(event);
+        }
+    }
+}
@@ -25,12 +25,28 @@ public class EventConstants {
     public static class WorkItem {
         public static final String TOPIC = "serp.pm.workitem.events";
         public static final String AGGREGATE = "WORK_ITEM";
+        /**
+         * Bulk events carry many work items of one project; their aggregate id is the project id
+         */
+        public static final String BULK_AGGREGATE = "WORK_ITEM_BATCH";
 
         public static class EventType {
             public static final String WORK_ITEM_CREATED = "WORK_ITEM_CREATED";
             public static final String WORK_ITEM_UPDATED = "WORK_ITEM_UPDATED";
             public static final String WORK_ITEM_DELETED = "WORK_ITEM_DELETED";
             public static final String WORK_ITEM_MOVED = "WORK_ITEM_MOVED";
+            public static final String WORK_ITEM_TRANSITIONED = "WORK_ITEM_TRANSITIONED";
+            public static final String WORK_ITEMS_BULK_UPDATED = "WORK_ITEMS_BULK_UPDATED";
+        }
+    }
+
+    @UtilityClass
+    public static class SchemeMetadata {
+        public static final String TOPIC = "serp.pm.metadata.events";
+        public static final String AGGREGATE = "SCHEME_METADATA";
+
+        public static class EventType {
+            public static final String SCHEME_METADATA_CHANGED = "SCHEME_METADATA_CHANGED";
         }
     }
 }
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import serp.project.pmcore.core.domain.dto.request.BaseGetParams;
+import serp.project.pmcore.core.domain.enums.CountMode;
 
 import java.util.List;
 
@@ -32,6 +33,12 @@ public class WorkItemFilterRequest extends BaseGetParams {
 
     private Long parentId;
 
+    /**
+     * Only descendants of this work item, at any depth up to {@code maxDepth}
+     */
+    private Long ancestorId;
+    private Integer maxDepth;
+
     private List<Long> excludeStatusIds;
     private List<Long> excludeIssueTypeIds;
 
@@ -48,6 +55,11 @@ public class WorkItemFilterRequest extends BaseGetParams {
     private Long updatedFrom;
     private Long updatedTo;
 
+    /**
+     * A whole issue key (e.g. {@code PM-42}) is looked up exactly. Any other keyword matches
+     * words of the summary and description, key and summary substrings and similar words in the
+     * summary; results are sorted by {@code relevance} unless a sort is given.
+     */
     private String keyword;
 
     private List<Long> sprintIds;
@@ -68,6 +80,19 @@ public class WorkItemFilterRequest extends BaseGetParams {
 
     private SortField sort;
 
+    // ---- Pagination / count control ----
+
+    /**
+     * nextCursor of the previous page; when set, the page is read with a seek
+     * predicate instead of OFFSET and {@code page} is ignored
+     */
+    private String cursor;
+
+    /**
+     * Defaults to EXACT for the first page and NONE when paging by cursor
+     */
+    private CountMode countMode;
+
     // ---- Enrichment control ----
 
     private Boolean enriched;
@@ -77,7 +102,41 @@ public class WorkItemFilterRequest extends BaseGetParams {
         return keyword != null && !keyword.trim().isEmpty();
     }
 
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    public CountMode resolveCountMode() {
+        if (countMode != null) {
+            return countMode;
+        }
+        return hasCursor() ? CountMode.NONE : CountMode.EXACT;
+    }
+
     public boolean isEnriched() {
         return Boolean.TRUE.equals(enriched);
     }
+
+    /**
+     * Whether the filter selects a whole project and nothing narrower, so aggregates can be
+     * served from the project's maintained totals instead of a live GROUP BY
+     */
+    public boolean isProjectScopeOnly() {
+        return projectId != null
+                && isEmpty(statusIds) && isEmpty(priorityIds) && isEmpty(issueTypeIds)
+                && isEmpty(assigneeIds) && isEmpty(reporterIds) && isEmpty(resolutionIds)
+                && parentId == null && ancestorId == null
+                && isEmpty(excludeStatusIds) && isEmpty(excludeIssueTypeIds)
+                && !Boolean.TRUE.equals(unassigned) && !Boolean.TRUE.equals(unresolved)
+                && dueDateFrom == null && dueDateTo == null
+                && createdFrom == null && createdTo == null
+                && updatedFrom == null && updatedTo == null
+                && !hasKeyword()
+                && isEmpty(sprintIds) && isEmpty(componentIds) && isEmpty(fixVersionIds)
+                && !Boolean.TRUE.equals(isOverdue) && !Boolean.TRUE.equals(hasTimeLogged);
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
 }
@@ -0,0 +1,109 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.dto.message;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One chunk of a bulk work item change: the change as requested and, per changed item, its
+ * grouped fields before and after. The after values include what transition post functions set,
+ * so consumers can apply each item like a single item event without reading the rows back.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemBulkEventPayload {
+
+    @JsonProperty("projectId")
+    private Long projectId;
+
+    @JsonProperty("workItemIds")
+    private List<Long> workItemIds;
+
+    @JsonProperty("statusId")
+    private Long statusId;
+
+    @JsonProperty("assigneeId")
+    private Long assigneeId;
+
+    @JsonProperty("unassigned")
+    private boolean unassigned;
+
+    @JsonProperty("priorityId")
+    private Long priorityId;
+
+    @JsonProperty("dueDate")
+    private Long dueDate;
+
+    @JsonProperty("dueDateCleared")
+    private boolean dueDateCleared;
+
+    /**
+     * Before and after values of each item in {@link #workItemIds}, in the same order
+     */
+    @JsonProperty("items")
+    private List<Item> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @JsonProperty("workItemId")
+        private Long workItemId;
+
+        @JsonProperty("issueTypeId")
+        private Long issueTypeId;
+
+        @JsonProperty("timeOriginalEstimate")
+        private Long timeOriginalEstimate;
+
+        /**
+         * Transition the item took, null when its status did not change
+         */
+        @JsonProperty("transitionId")
+        private Long transitionId;
+
+        @JsonProperty("previousStatusId")
+        private Long previousStatusId;
+
+        @JsonProperty("statusId")
+        private Long statusId;
+
+        @JsonProperty("previousResolutionId")
+        private Long previousResolutionId;
+
+        @JsonProperty("resolutionId")
+        private Long resolutionId;
+
+        @JsonProperty("previousAssigneeId")
+        private Long previousAssigneeId;
+
+        @JsonProperty("assigneeId")
+        private Long assigneeId;
+
+        @JsonProperty("previousPriorityId")
+        private Long previousPriorityId;
+
+        @JsonProperty("priorityId")
+        private Long priorityId;
+
+        @JsonProperty("previousDueDate")
+        private Long previousDueDate;
+
+        @JsonProperty("dueDate")
+        private Long dueDate;
+    }
+}
@@ -12,6 +12,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * One work item event. Events that change an existing item set every previous field, equal to
+ * the current one where the event left the field alone; creations and deletions leave them null.
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -30,9 +34,45 @@ public class WorkItemEventPayload {
     @JsonProperty("issueTypeId")
     private Long issueTypeId;
 
+    @JsonProperty("previousIssueTypeId")
+    private Long previousIssueTypeId;
+
     @JsonProperty("statusId")
     private Long statusId;
 
+    @JsonProperty("previousStatusId")
+    private Long previousStatusId;
+
+    @JsonProperty("transitionId")
+    private Long transitionId;
+
+    @JsonProperty("resolutionId")
+    private Long resolutionId;
+
+    @JsonProperty("previousResolutionId")
+    private Long previousResolutionId;
+
     @JsonProperty("assigneeId")
     private Long assigneeId;
+
+    @JsonProperty("previousAssigneeId")
+    private Long previousAssigneeId;
+
+    @JsonProperty("priorityId")
+    private Long priorityId;
+
+    @JsonProperty("previousPriorityId")
+    private Long previousPriorityId;
+
+    @JsonProperty("timeOriginalEstimate")
+    private Long timeOriginalEstimate;
+
+    @JsonProperty("previousTimeOriginalEstimate")
+    private Long previousTimeOriginalEstimate;
+
+    @JsonProperty("parentId")
+    private Long parentId;
+
+    @JsonProperty("previousParentId")
+    private Long previousParentId;
 }
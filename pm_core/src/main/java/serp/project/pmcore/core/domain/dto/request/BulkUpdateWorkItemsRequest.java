@@ -0,0 +1,66 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.dto.request;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One change applied to many work items of a project. Fields left null are not touched;
+ * {@code unassign} and {@code clearDueDate} clear their field.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateWorkItemsRequest {
+
+    @NotNull(message = "Project ID is required")
+    private Long projectId;
+
+    @NotEmpty(message = "Work item IDs are required")
+    private List<@NotNull Long> workItemIds;
+
+    /**
+     * Status to move every work item to; each item takes the first transition available to it
+     */
+    private Long statusId;
+
+    private Long assigneeId;
+    private boolean unassign;
+
+    private Long priorityId;
+
+    private Long dueDate;
+    private boolean clearDueDate;
+
+    /**
+     * Whether the request changes a field other than the status
+     */
+    @JsonIgnore
+    public boolean hasFieldChanges() {
+        return assigneeId != null || unassign || priorityId != null || dueDate != null || clearDueDate;
+    }
+
+    @AssertTrue(message = "At least one change is required")
+    public boolean isChangePresent() {
+        return statusId != null || hasFieldChanges();
+    }
+
+    @AssertTrue(message = "A field cannot be set and cleared in the same request")
+    public boolean isChangeConsistent() {
+        return !(unassign && assigneeId != null) && !(clearDueDate && dueDate != null);
+    }
+}
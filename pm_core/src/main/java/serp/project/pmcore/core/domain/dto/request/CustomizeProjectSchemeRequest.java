@@ -0,0 +1,55 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.dto.request;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Changes to one of a project's issue type, priority or workflow schemes. Fields left null are
+ * not touched.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomizeProjectSchemeRequest {
+
+    /**
+     * Issue types or priorities to add to the scheme; not used by workflow schemes
+     */
+    private List<@NotNull Long> addIds;
+
+    /**
+     * Issue types or priorities to remove; for a workflow scheme, issue types whose mapping is removed
+     */
+    private List<@NotNull Long> removeIds;
+
+    /**
+     * Workflow schemes only: workflow to map each issue type to
+     */
+    private Map<@NotNull Long, @NotNull Long> workflowMappings;
+
+    /**
+     * New default issue type, priority or workflow of the scheme
+     */
+    private Long defaultId;
+
+    @AssertTrue(message = "At least one change is required")
+    public boolean isChangePresent() {
+        return (addIds != null && !addIds.isEmpty())
+                || (removeIds != null && !removeIds.isEmpty())
+                || (workflowMappings != null && !workflowMappings.isEmpty())
+                || defaultId != null;
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankWorkItemsRequest {
+
+    @NotNull(message = "Project ID is required")
+    private Long projectId;
+
+    /**
+     * Work items to move, in the order they should end up in
+     */
+    @NotEmpty(message = "Work item IDs are required")
+    private List<@NotNull Long> workItemIds;
+
+    private Long rankAfterId;
+    private Long rankBeforeId;
+
+    @AssertTrue(message = "Exactly one of rankAfterId and rankBeforeId is required")
+    public boolean isTargetValid() {
+        return (rankAfterId == null) != (rankBeforeId == null);
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResult<T> {
+    private List<T> items;
+
+    /**
+     * Total matching items, null when the count was skipped
+     */
+    private Long totalItems;
+
+    /**
+     * False when totalItems is a planner estimate
+     */
+    private boolean totalExact;
+
+    /**
+     * Opaque token for the next page, null on the last page
+     */
+    private String nextCursor;
+}
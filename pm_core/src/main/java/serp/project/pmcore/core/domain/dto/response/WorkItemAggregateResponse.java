@@ -0,0 +1,40 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemAggregateResponse {
+    private Long projectId;
+    private Long count;
+    private Long timeOriginalEstimate;
+    private List<Bucket> byStatus;
+    private List<Bucket> byAssignee;
+    private List<Bucket> byPriority;
+    private List<Bucket> byIssueType;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        /**
+         * Status, assignee, priority or issue type id; null for items without one
+         */
+        private Long id;
+        private Long count;
+        private Long timeOriginalEstimate;
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemHistoryResponse {
+    private Long id;
+    private Long projectId;
+    private Long workItemId;
+    private String eventType;
+    private Long actorId;
+    private List<Change> changes;
+    private Long occurredAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private String field;
+        private Object from;
+        private Object to;
+    }
+}
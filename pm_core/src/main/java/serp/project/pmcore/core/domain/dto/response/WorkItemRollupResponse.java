@@ -0,0 +1,23 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemRollupResponse {
+    private Long workItemId;
+    private Integer descendantCount;
+    private Long timeSpent;
+    private Long timeOriginalEstimate;
+    private Long timeRemainingEstimate;
+}
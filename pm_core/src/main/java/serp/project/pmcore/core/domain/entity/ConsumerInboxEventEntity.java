@@ -0,0 +1,31 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One consumed Kafka event as recorded in the consumer inbox
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumerInboxEventEntity {
+    private String eventId;
+    private String eventType;
+    private String topic;
+    private Integer partitionNo;
+    private Long offsetNo;
+    private Long tenantId;
+    private String payloadHash;
+    private String rawPayload;
+}
@@ -0,0 +1,177 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.entity;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only snapshot of a tenant's scheme metadata, including the system tenant's shared rows:
+ * issue types, priorities, statuses, workflows with their steps and transitions, and the
+ * issue type, priority and workflow schemes with their items.
+ * <p>
+ * Built once per load; every lookup is a hash map read.
+ */
+@Getter
+public class SchemeMetadataEntity {
+    private final Long tenantId;
+    private final Map<Long, IssueTypeEntity> issueTypes;
+    private final Map<Long, PriorityEntity> priorities;
+    private final Map<Long, StatusEntity> statuses;
+    private final Map<Long, WorkflowEntity> workflows;
+    private final Map<Long, IssueTypeSchemeEntity> issueTypeSchemes;
+    private final Map<Long, PrioritySchemeEntity> prioritySchemes;
+    private final Map<Long, WorkflowSchemeEntity> workflowSchemes;
+
+    private final Map<Long, Set<Long>> issueTypeIdsByScheme;
+    private final Map<Long, Set<Long>> priorityIdsByScheme;
+    private final Map<Long, Map<Long, Long>> workflowIdsByScheme;
+    private final Map<Long, WorkflowStepEntity> initialSteps;
+
+    public SchemeMetadataEntity(Long tenantId,
+                                List<IssueTypeEntity> issueTypes,
+                                List<PriorityEntity> priorities,
+                                List<StatusEntity> statuses,
+                                List<WorkflowEntity> workflows,
+                                List<IssueTypeSchemeEntity> issueTypeSchemes,
+                                List<PrioritySchemeEntity> prioritySchemes,
+                                List<WorkflowSchemeEntity> workflowSchemes) {
+        this.tenantId = tenantId;
+        this.issueTypes = byId(issueTypes, IssueTypeEntity::getId);
+        this.priorities = byId(priorities, PriorityEntity::getId);
+        this.statuses = byId(statuses, StatusEntity::getId);
+        this.workflows = byId(workflows, WorkflowEntity::getId);
+        this.issueTypeSchemes = byId(issueTypeSchemes, IssueTypeSchemeEntity::getId);
+        this.prioritySchemes = byId(prioritySchemes, PrioritySchemeEntity::getId);
+        this.workflowSchemes = byId(workflowSchemes, WorkflowSchemeEntity::getId);
+
+        Map<Long, Set<Long>> issueTypeIds = new HashMap<>();
+        for (IssueTypeSchemeEntity scheme : issueTypeSchemes) {
+            issueTypeIds.put(scheme.getId(), idSet(scheme.getItems(), IssueTypeSchemeItemEntity::getIssueTypeId));
+        }
+        this.issueTypeIdsByScheme = Collections.unmodifiableMap(issueTypeIds);
+
+        Map<Long, Set<Long>> priorityIds = new HashMap<>();
+        for (PrioritySchemeEntity scheme : prioritySchemes) {
+            priorityIds.put(scheme.getId(), idSet(scheme.getItems(), PrioritySchemeItemEntity::getPriorityId));
+        }
+        this.priorityIdsByScheme = Collections.unmodifiableMap(priorityIds);
+
+        Map<Long, Map<Long, Long>> workflowIds = new HashMap<>();
+        for (WorkflowSchemeEntity scheme : workflowSchemes) {
+            Map<Long, Long> byIssueType = new HashMap<>();
+            if (scheme.getItems() != null) {
+                scheme.getItems().forEach(item -> byIssueType.putIfAbsent(item.getIssueTypeId(), item.getWorkflowId()));
+            }
+            workflowIds.put(scheme.getId(), Collections.unmodifiableMap(byIssueType));
+        }
+        this.workflowIdsByScheme = Collections.unmodifiableMap(workflowIds);
+
+        Map<Long, WorkflowStepEntity> initial = new HashMap<>();
+        for (WorkflowEntity workflow : workflows) {
+            if (workflow.getSteps() == null) {
+                continue;
+            }
+            workflow.getSteps().stream()
+                    .filter(step -> Boolean.TRUE.equals(step.getIsInitial()))
+                    .findFirst()
+                    .ifPresent(step -> initial.put(workflow.getId(), step));
+        }
+        this.initialSteps = Collections.unmodifiableMap(initial);
+    }
+
+    public Optional<IssueTypeEntity> getIssueType(Long issueTypeId) {
+        return Optional.ofNullable(issueTypes.get(issueTypeId));
+    }
+
+    public Optional<PriorityEntity> getPriority(Long priorityId) {
+        return Optional.ofNullable(priorities.get(priorityId));
+    }
+
+    public Optional<StatusEntity> getStatus(Long statusId) {
+        return Optional.ofNullable(statuses.get(statusId));
+    }
+
+    public Optional<WorkflowEntity> getWorkflow(Long workflowId) {
+        return Optional.ofNullable(workflows.get(workflowId));
+    }
+
+    public Optional<WorkflowStepEntity> getInitialStep(Long workflowId) {
+        return Optional.ofNullable(initialSteps.get(workflowId));
+    }
+
+    public Optional<IssueTypeSchemeEntity> getIssueTypeScheme(Long schemeId) {
+        return Optional.ofNullable(issueTypeSchemes.get(schemeId));
+    }
+
+    public Optional<PrioritySchemeEntity> getPriorityScheme(Long schemeId) {
+        return Optional.ofNullable(prioritySchemes.get(schemeId));
+    }
+
+    public Optional<WorkflowSchemeEntity> getWorkflowScheme(Long schemeId) {
+        return Optional.ofNullable(workflowSchemes.get(schemeId));
+    }
+
+    public boolean isIssueTypeInScheme(Long schemeId, Long issueTypeId) {
+        return issueTypeIdsByScheme.getOrDefault(schemeId, Set.of()).contains(issueTypeId);
+    }
+
+    public boolean isPriorityInScheme(Long schemeId, Long priorityId) {
+        return priorityIdsByScheme.getOrDefault(schemeId, Set.of()).contains(priorityId);
+    }
+
+    /**
+     * Workflow mapped to the issue type by the scheme, if the scheme has an item for it
+     */
+    public Optional<Long> getMappedWorkflowId(Long workflowSchemeId, Long issueTypeId) {
+        return Optional.ofNullable(workflowIdsByScheme.getOrDefault(workflowSchemeId, Map.of()).get(issueTypeId));
+    }
+
+    /**
+     * Fills the display fields of the work items from this snapshot, replacing the enrichment
+     * JOINs of the search query.
+     */
+    public void decorate(Collection<WorkItemEntity> workItems) {
+        for (WorkItemEntity workItem : workItems) {
+            IssueTypeEntity issueType = issueTypes.get(workItem.getIssueTypeId());
+            if (issueType != null) {
+                workItem.setIssueTypeName(issueType.getName());
+                workItem.setIssueTypeIconUrl(issueType.getIconUrl());
+                workItem.setIssueTypeHierarchyLevel(issueType.getHierarchyLevel());
+            }
+            PriorityEntity priority = priorities.get(workItem.getPriorityId());
+            if (priority != null) {
+                workItem.setPriorityName(priority.getName());
+                workItem.setPriorityIconUrl(priority.getIconUrl());
+                workItem.setPriorityColor(priority.getColor());
+                workItem.setPrioritySequence(priority.getSequence());
+            }
+        }
+    }
+
+    private static <T> Map<Long, T> byId(List<T> values, Function<T, Long> id) {
+        return Collections.unmodifiableMap(values.stream()
+                .collect(Collectors.toMap(id, Function.identity(), (a, b) -> a, HashMap::new)));
+    }
+
+    private static <T> Set<Long> idSet(List<T> items, Function<T, Long> id) {
+        if (items == null) {
+            return Set.of();
+        }
+        Set<Long> ids = items.stream().map(id).collect(Collectors.toCollection(HashSet::new));
+        return Collections.unmodifiableSet(ids);
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.entity;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import serp.project.pmcore.core.domain.enums.WorkItemAggregateDimension;
+
+/**
+ * Work item count and original estimate sum of a project or filter, in total and per status,
+ * assignee, priority and issue type. A bucket with a null value id holds the items without one,
+ * e.g. unassigned items.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemAggregateEntity {
+    private Long projectId;
+    private long count;
+    private long estimate;
+    @Builder.Default
+    private Map<WorkItemAggregateDimension, List<Bucket>> groups = new EnumMap<>(WorkItemAggregateDimension.class);
+
+    public List<Bucket> getBuckets(WorkItemAggregateDimension dimension) {
+        return groups.getOrDefault(dimension, List.of());
+    }
+
+    public record Bucket(Long valueId, long count, long estimate) {
+    }
+
+    /**
+     * The grouped fields of one work item, as it enters or leaves the aggregate
+     */
+    public record Facets(Long statusId, Long assigneeId, Long priorityId, Long issueTypeId, long estimate) {
+
+        public Long valueOf(WorkItemAggregateDimension dimension) {
+            return switch (dimension) {
+                case STATUS -> statusId;
+                case ASSIGNEE -> assigneeId;
+                case PRIORITY -> priorityId;
+                case ISSUE_TYPE -> issueTypeId;
+            };
+        }
+    }
+
+    /**
+     * One work item's grouped fields before and after a change; null before a creation or after a deletion
+     */
+    public record Change(Facets before, Facets after) {
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.entity;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One recorded change of a work item: the fields it changed with their values before and after.
+ * A null value on either side means the field was unset, or the item did not exist yet or any
+ * more.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemHistoryEntity {
+    private Long id;
+    private Long tenantId;
+    private Long projectId;
+    private Long workItemId;
+    private Long outboxEventId;
+    private String eventType;
+    private Long actorId;
+    private List<FieldChange> changes;
+    private Long occurredAt;
+
+    public record FieldChange(String field, Object from, Object to) {
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Totals over a work item's subtree, the item itself included
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemRollupEntity {
+    private Long workItemId;
+    private Integer descendantCount;
+    private Long timeSpent;
+    private Long timeOriginalEstimate;
+    private Long timeRemainingEstimate;
+}
@@ -0,0 +1,20 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.enums;
+
+/**
+ * How a paged search reports its total.
+ */
+public enum CountMode {
+    /** Exact COUNT(*) on every request */
+    EXACT,
+    /** Planner row estimate; falls back to an exact count for small results */
+    ESTIMATED,
+    /** Exact count cached per tenant and filter for a short TTL */
+    CACHED,
+    /** No total, only whether a next page exists */
+    NONE
+}
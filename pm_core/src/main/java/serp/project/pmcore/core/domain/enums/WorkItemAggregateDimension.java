@@ -0,0 +1,13 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.domain.enums;
+
+public enum WorkItemAggregateDimension {
+    STATUS,
+    ASSIGNEE,
+    PRIORITY,
+    ISSUE_TYPE,
+}
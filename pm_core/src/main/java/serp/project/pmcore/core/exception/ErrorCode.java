@@ -49,6 +49,7 @@ public enum ErrorCode {
     SCHEME_NOT_FOUND("Scheme not found", HttpStatus.NOT_FOUND),
     SCHEME_INCOMPATIBLE("Scheme is not compatible", HttpStatus.UNPROCESSABLE_ENTITY),
     SCHEME_PROVISIONING_FAILED("Failed to provision project schemes", HttpStatus.INTERNAL_SERVER_ERROR),
+    SCHEME_CHANGE_INVALID("Scheme change refers to unknown items or leaves the scheme without its default", HttpStatus.BAD_REQUEST),
 
     // User errors
     USER_NOT_FOUND("User not found", HttpStatus.NOT_FOUND),
@@ -62,6 +63,15 @@ public enum ErrorCode {
     STATUS_NOT_FOUND("Status not found", HttpStatus.NOT_FOUND),
     PRIORITY_NOT_IN_SCHEME("Priority is not valid for this project's scheme", HttpStatus.BAD_REQUEST),
     ISSUE_COUNTER_NOT_FOUND("Issue counter not found for this project", HttpStatus.NOT_FOUND),
+    INVALID_PAGE_CURSOR("Page cursor is invalid or does not match the requested sort", HttpStatus.BAD_REQUEST),
+    ISSUE_NO_RESERVE_COUNT_INVALID("Number of issue numbers to reserve is out of range", HttpStatus.BAD_REQUEST),
+    RANK_MOVE_INVALID("Work items cannot be ranked relative to one of themselves or exceed the move size", HttpStatus.BAD_REQUEST),
+    TRANSITION_NOT_ALLOWED("Transition is not available for the work item in its current status", HttpStatus.UNPROCESSABLE_ENTITY),
+    TRANSITION_VALIDATION_FAILED("Work item does not satisfy the transition's validators", HttpStatus.UNPROCESSABLE_ENTITY),
+    WORK_ITEM_CONCURRENTLY_MODIFIED("Work item was changed by another request, reload it and retry", HttpStatus.CONFLICT),
+    BULK_SIZE_EXCEEDED("Too many work items in one bulk request", HttpStatus.BAD_REQUEST),
+    WORK_ITEM_HAS_CHILDREN("Work item has child work items; move or delete them first", HttpStatus.BAD_REQUEST),
+    AGGREGATE_PROJECT_REQUIRED("Work item aggregates are read per project; projectId is required", HttpStatus.BAD_REQUEST),
 
     ;
 
@@ -59,6 +59,24 @@ public interface ICachePort {
 
     long hashIncrement(String namespace, String key, String field, long delta);
 
+    /**
+     * Atomically increments the hash's version field, creating the hash with the ttl when missing,
+     * and increments the other fields only when the presence field exists.
+     *
+     * @return whether the fields were incremented
+     */
+    boolean hashIncrementVersioned(String namespace, String key, String versionField, String presenceField,
+                                   Map<String, Long> deltas, Duration ttl);
+
+    /**
+     * Writes the fields and the ttl only while the hash's version field still holds the expected
+     * value, null meaning unset; a version bumped since it was read leaves the hash as it is.
+     *
+     * @return whether the fields were written
+     */
+    boolean hashPutAllIfVersion(String namespace, String key, String versionField, String expectedVersion,
+                                Map<String, String> map, Duration ttl);
+
     long increment(String namespace, String key);
 
     long incrementBy(String namespace, String key, long delta);
@@ -5,6 +5,10 @@
 
 package serp.project.pmcore.core.port.store;
 
+import java.util.List;
+import java.util.Map;
+
+import serp.project.pmcore.core.domain.entity.ConsumerInboxEventEntity;
 import serp.project.pmcore.core.domain.enums.ConsumerInboxAcquireResult;
 
 public interface IConsumerInboxPort {
@@ -19,8 +23,17 @@ public interface IConsumerInboxPort {
             String payloadHash,
             String rawPayload);
 
+    /**
+     * Acquires a whole poll's events at once and returns the result for each event id
+     */
+    Map<String, ConsumerInboxAcquireResult> acquireBatchForProcessing(
+            String consumerGroup,
+            List<ConsumerInboxEventEntity> events);
+
     void markProcessed(String consumerGroup, String eventId, Long offsetNo);
 
+    void markBatchProcessed(String consumerGroup, List<ConsumerInboxEventEntity> events);
+
     void markFailed(String consumerGroup, String eventId, String errorMessage);
 
     void markDead(String consumerGroup, String eventId, String errorMessage);
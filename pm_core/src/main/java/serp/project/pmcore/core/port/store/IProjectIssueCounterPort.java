@@ -7,4 +7,12 @@ package serp.project.pmcore.core.port.store;
 
 public interface IProjectIssueCounterPort {
     Long getNextIssueNo(Long projectId, Long tenantId);
+
+    /**
+     * Reserves {@code count} consecutive issue numbers for the project. The reservation joins the
+     * caller's transaction and is undone with it.
+     *
+     * @return the first reserved number; the range ends at {@code first + count - 1}
+     */
+    Long reserveIssueNos(Long projectId, Long tenantId, int count);
 }
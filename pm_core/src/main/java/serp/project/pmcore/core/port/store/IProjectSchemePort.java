@@ -0,0 +1,56 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.port.store;
+
+import serp.project.pmcore.core.domain.enums.SchemeType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Copy-on-write storage of project issue type, priority and workflow schemes
+ */
+public interface IProjectSchemePort {
+    /**
+     * Takes the project's scheme lock until the current transaction ends
+     */
+    void lockProjectSchemes(Long projectId);
+
+    /**
+     * The project's private copy of a scheme of this type, if it has forked one
+     */
+    Optional<Long> findOwnedSchemeId(SchemeType type, Long projectId);
+
+    /**
+     * Copies the scheme and all its items into a new scheme owned by the project, in one
+     * statement, recording the source scheme and version it was forked from.
+     *
+     * @return the id of the private copy
+     */
+    Long forkScheme(SchemeType type, Long sourceSchemeId, Long projectId, String projectKey,
+                    Long tenantId, Long userId);
+
+    /**
+     * Appends issue types or priorities to the scheme, skipping those it already has
+     */
+    void addSchemeItems(SchemeType type, Long schemeId, List<Long> itemIds, Long tenantId, Long userId);
+
+    /**
+     * Maps issue types to workflows in a workflow scheme, replacing existing mappings
+     */
+    void putWorkflowMappings(Long schemeId, Map<Long, Long> workflowIdsByIssueType, Long tenantId, Long userId);
+
+    /**
+     * Removes issue types or priorities, or for a workflow scheme the mappings of issue types
+     */
+    void removeSchemeItems(SchemeType type, Long schemeId, List<Long> itemIds, Long userId);
+
+    /**
+     * Sets the default when given and moves the scheme to its next version
+     */
+    void touchScheme(SchemeType type, Long schemeId, Long defaultId, Long userId);
+}
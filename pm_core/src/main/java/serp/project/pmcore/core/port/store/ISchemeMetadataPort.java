@@ -0,0 +1,17 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.port.store;
+
+import serp.project.pmcore.core.domain.entity.SchemeMetadataEntity;
+
+public interface ISchemeMetadataPort {
+
+    /**
+     * Loads all scheme metadata visible to the tenant, including the system tenant's rows,
+     * with one query per table.
+     */
+    SchemeMetadataEntity loadSchemeMetadata(Long tenantId);
+}
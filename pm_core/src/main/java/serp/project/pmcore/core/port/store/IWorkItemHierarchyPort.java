@@ -0,0 +1,40 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.port.store;
+
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemRollupEntity;
+
+import java.util.Optional;
+
+public interface IWorkItemHierarchyPort {
+    /**
+     * Takes the project's hierarchy lock until the current transaction ends. Creations under a
+     * parent take it shared, re-parenting and deletion take it exclusive.
+     */
+    void lockProjectHierarchy(Long projectId, Long tenantId, boolean exclusive);
+
+    /**
+     * Adds a new leaf under its parent and adds its own totals to its ancestors' rollups
+     */
+    void insertLeaf(WorkItemEntity workItem, Long tenantId);
+
+    /**
+     * Moves the work item's subtree under the new parent, or to the top level when null
+     */
+    void moveSubtree(Long workItemId, Long newParentId, Long tenantId);
+
+    /**
+     * Removes a leaf and takes its totals off its ancestors' rollups
+     */
+    void removeLeaf(Long workItemId, Long tenantId);
+
+    boolean isAncestor(Long ancestorId, Long descendantId, Long tenantId);
+
+    boolean hasDescendants(Long workItemId, Long tenantId);
+
+    Optional<WorkItemRollupEntity> getRollup(Long workItemId, Long tenantId);
+}
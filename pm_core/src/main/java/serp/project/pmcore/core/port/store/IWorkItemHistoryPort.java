@@ -0,0 +1,42 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.port.store;
+
+import java.util.List;
+
+import serp.project.pmcore.core.domain.dto.response.PageResult;
+import serp.project.pmcore.core.domain.entity.WorkItemHistoryEntity;
+
+public interface IWorkItemHistoryPort {
+
+    /**
+     * Appends the rows with one multi-row INSERT, skipping rows already recorded for their outbox
+     * event and work item
+     */
+    void insertBatch(List<WorkItemHistoryEntity> history);
+
+    /**
+     * History of one work item, newest first, paged by an opaque cursor
+     */
+    PageResult<WorkItemHistoryEntity> getWorkItemHistory(Long tenantId, Long workItemId, String cursor, int limit);
+
+    /**
+     * One page of a project's history in [from, to), oldest first, starting after the given row
+     * or at the beginning when null
+     */
+    List<WorkItemHistoryEntity> getProjectHistoryPage(Long tenantId, Long projectId, Long from, Long to,
+                                                      WorkItemHistoryEntity after, int limit);
+
+    /**
+     * @return number of monthly partitions created
+     */
+    int ensurePartitions(int monthsAhead);
+
+    /**
+     * @return number of monthly partitions dropped
+     */
+    int dropPartitionsBefore(long cutoff);
+}
@@ -5,18 +5,48 @@
 
 package serp.project.pmcore.core.port.store;
 
-import org.springframework.data.util.Pair;
 import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+import serp.project.pmcore.core.domain.dto.request.BulkUpdateWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.response.PageResult;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity;
 import serp.project.pmcore.core.domain.entity.WorkItemEntity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface IWorkItemPort {
     WorkItemEntity saveWorkItem(WorkItemEntity workItem);
     Optional<WorkItemEntity> getWorkItemById(Long id, Long tenantId);
+    List<WorkItemEntity> getWorkItemsByIds(Collection<Long> ids, Long tenantId);
     List<WorkItemEntity> getWorkItemsByProjectId(Long projectId, Long tenantId);
     List<WorkItemEntity> getWorkItemsByIssueTypeId(Long issueTypeId, Long tenantId);
     void deleteWorkItemById(Long id, Long tenantId);
-    Pair<List<WorkItemEntity>, Long> searchWorkItems(Long tenantId, WorkItemFilterRequest filter);
+    void updateParentId(Long id, Long parentId, Long tenantId, Long userId);
+    PageResult<WorkItemEntity> searchWorkItems(Long tenantId, WorkItemFilterRequest filter);
+
+    /**
+     * Counts and original estimate sums of the filtered work items, in total and per status,
+     * assignee, priority and issue type, read with one GROUP BY GROUPING SETS scan
+     */
+    WorkItemAggregateEntity aggregateWorkItems(Long tenantId, WorkItemFilterRequest filter);
+
+    /**
+     * Writes the status, resolution and assignee of the work items in one JDBC batch. A row is
+     * only written while its status still equals the one in {@code previousStatusIds}.
+     *
+     * @return ids of the work items that were written
+     */
+    Set<Long> updateWorkflowFields(List<WorkItemEntity> workItems, Map<Long, Long> previousStatusIds,
+                                   Long tenantId, Long userId);
+
+    /**
+     * Applies the non-status changes of a bulk request to the work items with one
+     * {@code UPDATE ... WHERE id = ANY(:ids)}.
+     *
+     * @return ids of the work items that were written
+     */
+    Set<Long> updateFields(List<Long> ids, BulkUpdateWorkItemsRequest changes, Long tenantId, Long userId);
 }
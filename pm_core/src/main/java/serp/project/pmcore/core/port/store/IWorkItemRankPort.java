@@ -0,0 +1,58 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.port.store;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.util.Pair;
+
+public interface IWorkItemRankPort {
+
+    /**
+     * Takes the project's rank lock exclusively until the current transaction ends
+     */
+    void lockProjectRanks(Long projectId, Long tenantId);
+
+    /**
+     * Takes the project's rank lock shared until the current transaction ends; shared holders only
+     * wait for exclusive ones
+     */
+    void lockProjectRanksShared(Long projectId, Long tenantId);
+
+    String getLastRank(Long projectId, Long tenantId);
+
+    String getRank(Long workItemId, Long projectId, Long tenantId);
+
+    /**
+     * Rank of the first item after {@code rank}, skipping the given items
+     */
+    String getNextRank(Long projectId, Long tenantId, String rank, Long afterId, List<Long> excludedIds);
+
+    /**
+     * Rank of the last item before {@code rank}, skipping the given items
+     */
+    String getPreviousRank(Long projectId, Long tenantId, String rank, Long beforeId, List<Long> excludedIds);
+
+    /**
+     * Writes the given ranks in a single statement. A move by {@code userId} also stamps the audit
+     * columns; a null user (a rebalance) rewrites the ranks only.
+     *
+     * @return the number of work items updated
+     */
+    int updateRanks(Long projectId, Long tenantId, Map<Long, String> ranks, Long userId);
+
+    List<Long> getWorkItemIdsInRankOrder(Long projectId, Long tenantId);
+
+    int getMaxRankLength(Long projectId, Long tenantId);
+
+    /**
+     * Projects holding a rank longer than {@code maxLength} or still in the legacy format.
+     *
+     * @return pairs of (tenantId, projectId)
+     */
+    List<Pair<Long, Long>> getProjectsToRebalance(int maxLength, int limit);
+}
@@ -12,4 +12,6 @@ public interface IPrioritySchemeService {
     PrioritySchemeEntity getPrioritySchemeById(Long prioritySchemeId, Long tenantId);
 
     Long resolvePriorityId(Long prioritySchemeId, Long tenantId);
+
+    void validatePriorityInScheme(Long prioritySchemeId, Long priorityId, Long tenantId);
 }
@@ -0,0 +1,36 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import serp.project.pmcore.core.domain.entity.SchemeMetadataEntity;
+
+public interface ISchemeMetadataService {
+
+    /**
+     * Cached scheme metadata of the tenant, reloaded when another node has changed it.
+     */
+    SchemeMetadataEntity getSchemeMetadata(Long tenantId);
+
+    /**
+     * Runs the lookup on the cached metadata; when it finds nothing, the tenant is reloaded once
+     * and the lookup retried, so rows written moments ago on another node are still found.
+     */
+    <T> Optional<T> lookup(Long tenantId, Function<SchemeMetadataEntity, Optional<T>> lookup);
+
+    /**
+     * Marks the tenant's metadata as changed. Every node drops its copy once the current
+     * transaction commits, and a change event is written to the outbox.
+     */
+    void invalidate(Long tenantId, Long userId, String reason);
+
+    /**
+     * Drops this node's copy of the tenant's metadata.
+     */
+    void evictLocal(Long tenantId);
+}
@@ -5,20 +5,22 @@
 
 package serp.project.pmcore.core.service;
 
+import serp.project.pmcore.core.domain.dto.request.CustomizeProjectSchemeRequest;
 import serp.project.pmcore.core.domain.entity.ProjectEntity;
+import serp.project.pmcore.core.domain.enums.SchemeType;
 
 import java.util.Map;
 
 /**
- * Service responsible for provisioning project-owned scheme clones
- * by deep-cloning template schemes resolved from blueprint or system defaults.
+ * Service responsible for binding projects to the template schemes resolved from blueprint or
+ * system defaults, and for forking a project-owned copy when the project customizes one.
  */
 public interface ISchemeProvisioningService {
 
     /**
      * Provision all scheme bindings for a newly created project.
-     * Deep-clones the resolved template schemes and sets the cloned IDs
-     * on the project entity.
+     * Sets the IDs of the resolved shared template schemes on the project
+     * entity; nothing is copied.
      *
      * @param project          the project entity (scheme ID fields will be mutated)
      * @param tenantId         tenant context
@@ -28,4 +30,14 @@ public interface ISchemeProvisioningService {
      */
     void provisionSchemes(ProjectEntity project, Long tenantId, Long userId,
                           Long blueprintId, Map<String, Long> schemeOverrides);
+
+    /**
+     * Apply a change to the project's ISSUE_TYPE, PRIORITY or WORKFLOW scheme. The first change
+     * forks the shared scheme into a copy owned by the project; later ones change that copy.
+     *
+     * @param project   the project entity (the scheme ID field is mutated when it is rebound)
+     * @return whether the project was rebound to a new private scheme and must be saved
+     */
+    boolean customizeScheme(ProjectEntity project, SchemeType type, CustomizeProjectSchemeRequest request,
+                            Long tenantId, Long userId);
 }
@@ -0,0 +1,34 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service;
+
+import java.util.List;
+
+import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity;
+
+public interface IWorkItemAggregateService {
+
+    /**
+     * Aggregate of the filtered work items. A filter on the project alone is answered from the
+     * project's Redis hash, rebuilt from the table when missing; any narrower filter runs a live
+     * GROUP BY.
+     */
+    WorkItemAggregateEntity getAggregate(Long tenantId, WorkItemFilterRequest filter);
+
+    /**
+     * Moves one work item's contribution in the project's aggregate from {@code before} to
+     * {@code after}; null on either side for a created or deleted item. Only touches a built
+     * aggregate, the next read builds a missing one from the table.
+     */
+    void applyChange(Long tenantId, Long projectId, WorkItemAggregateEntity.Facets before,
+                     WorkItemAggregateEntity.Facets after);
+
+    /**
+     * Applies the changes of several work items of the project in one atomic update
+     */
+    void applyChanges(Long tenantId, Long projectId, List<WorkItemAggregateEntity.Change> changes);
+}
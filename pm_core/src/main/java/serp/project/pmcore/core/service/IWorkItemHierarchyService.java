@@ -0,0 +1,30 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service;
+
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemRollupEntity;
+
+public interface IWorkItemHierarchyService {
+
+    /**
+     * Records a new work item in the hierarchy. Must run inside the creating transaction.
+     */
+    void addWorkItem(WorkItemEntity workItem, Long tenantId);
+
+    /**
+     * Moves the work item and its subtree under a new parent, or to the top level when null.
+     * Rejects a parent that lies inside the moved subtree.
+     */
+    void moveWorkItem(WorkItemEntity workItem, Long newParentId, Long tenantId);
+
+    /**
+     * Removes a work item without children from the hierarchy
+     */
+    void removeWorkItem(WorkItemEntity workItem, Long tenantId);
+
+    WorkItemRollupEntity getRollup(Long workItemId, Long tenantId);
+}
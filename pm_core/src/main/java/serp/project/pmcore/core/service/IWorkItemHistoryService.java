@@ -0,0 +1,42 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import serp.project.pmcore.core.domain.dto.response.PageResult;
+import serp.project.pmcore.core.domain.entity.OutboxEventEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemHistoryEntity;
+
+public interface IWorkItemHistoryService {
+
+    /**
+     * Appends the field changes carried by the work item events among the outbox events, in one
+     * batch in a new transaction apart from the caller's. An event whose history cannot be
+     * recorded is skipped without failing the others or the caller. Other events are ignored.
+     */
+    void recordOutboxEvents(List<OutboxEventEntity> events);
+
+    /**
+     * History of one work item, newest first
+     */
+    PageResult<WorkItemHistoryEntity> getWorkItemHistory(Long tenantId, Long workItemId, String cursor,
+                                                         Integer limit);
+
+    /**
+     * Hands a project's history in [from, to), oldest first, to the sink page by page. Each page
+     * is read in a short read-only transaction of its own, so a slow sink holds no transaction
+     * open and the export can run off the request thread.
+     */
+    void exportProjectHistory(Long tenantId, Long projectId, Long from, Long to,
+                              Consumer<WorkItemHistoryEntity> sink);
+
+    /**
+     * Creates the coming monthly partitions and drops the ones past retention
+     */
+    void maintainPartitions();
+}
@@ -0,0 +1,50 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service;
+
+import java.util.List;
+
+public interface IWorkItemRankService {
+
+    /**
+     * Rank that places a new work item at the end of its project. Must run inside the creating
+     * transaction so the project's shared rank lock keeps moves and rebalances out until the item is
+     * written. Concurrent creations may get the same rank; ties are ordered by id.
+     */
+    String rankForNewItem(Long projectId, Long tenantId);
+
+    /**
+     * Moves the given work items, in the given order, right after {@code rankAfterId} or right
+     * before {@code rankBeforeId}, with one update statement.
+     *
+     * @return the new rank of each moved work item, in the given order
+     */
+    List<String> moveWorkItems(Long projectId, List<Long> workItemIds, Long rankAfterId, Long rankBeforeId,
+            Long tenantId, Long userId);
+
+    /**
+     * Queues the project for a background rebalance.
+     */
+    void requestRebalance(Long projectId, Long tenantId);
+
+    /**
+     * Rebalances the projects queued since the last call.
+     */
+    int rebalanceRequestedProjects();
+
+    /**
+     * Rebalances projects that hold long or legacy ranks, up to {@code limit} of them.
+     */
+    int rebalanceLongRanks(int limit);
+
+    /**
+     * Rewrites the project's ranks evenly spaced at the base width if any of them is too long or
+     * still in the legacy format.
+     *
+     * @return whether the project was rebalanced
+     */
+    boolean rebalanceProject(Long projectId, Long tenantId);
+}
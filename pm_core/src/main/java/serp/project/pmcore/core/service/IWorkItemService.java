@@ -5,16 +5,59 @@
 
 package serp.project.pmcore.core.service;
 
+import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+import serp.project.pmcore.core.domain.dto.request.BulkUpdateWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.response.PageResult;
 import serp.project.pmcore.core.domain.entity.WorkItemEntity;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public interface IWorkItemService {
 
     WorkItemEntity createWorkItem(WorkItemEntity workItem, Long tenantId, Long userId);
 
     WorkItemEntity getWorkItemById(Long id, Long tenantId);
 
+    List<WorkItemEntity> getWorkItemsByIds(Collection<Long> ids, Long tenantId);
+
+    void updateParent(WorkItemEntity workItem, Long parentId, Long tenantId, Long userId);
+
+    void deleteWorkItem(Long id, Long tenantId);
+
+    /**
+     * Persists transitioned work items in one batch, skipping rows whose status changed since
+     * they were read.
+     *
+     * @return ids of the work items that were written
+     */
+    Set<Long> saveTransitionedWorkItems(List<WorkItemEntity> workItems, Map<Long, Long> previousStatusIds,
+            Long tenantId, Long userId);
+
+    /**
+     * Applies the assignee, priority and due date changes of a bulk request in one statement
+     *
+     * @return ids of the work items that were written
+     */
+    Set<Long> updateWorkItemFields(List<Long> ids, BulkUpdateWorkItemsRequest changes, Long tenantId, Long userId);
+
+    /**
+     * Searches work items; enriched searches get their display fields from the tenant's cached
+     * scheme metadata.
+     */
+    PageResult<WorkItemEntity> searchWorkItems(Long tenantId, WorkItemFilterRequest filter);
+
     long getNextIssueNumber(Long projectId, Long tenantId);
 
+    long reserveIssueNumbers(Long projectId, Long tenantId, int count);
+
+    /**
+     * Rejects an assignee id that cannot name a user; null means no assignee and passes
+     */
+    void validateAssignee(Long assigneeId, Long tenantId);
+
     void validateParentHierarchy(Long parentId, Long childIssueTypeId,
             Long projectId, Long tenantId);
 }
@@ -5,8 +5,37 @@
 
 package serp.project.pmcore.core.service;
 
+import java.util.List;
+
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
 import serp.project.pmcore.core.domain.entity.WorkflowStepEntity;
+import serp.project.pmcore.core.service.workflow.CompiledTransition;
+import serp.project.pmcore.core.service.workflow.CompiledWorkflow;
 
 public interface IWorkflowService {
     WorkflowStepEntity getInitialWorkflowStep(Long workflowId, Long tenantId);
+
+    /**
+     * Compiled graph of the workflow, reused while the workflow's version and the tenant's
+     * metadata snapshot are unchanged
+     */
+    CompiledWorkflow getCompiledWorkflow(Long workflowId, Long tenantId);
+
+    List<CompiledTransition> getAvailableTransitions(Long workflowId, WorkItemEntity workItem,
+            Long actorId, Long tenantId);
+
+    /**
+     * Checks the transition against the work item and applies it in memory; the caller persists
+     * the result.
+     *
+     * @return the applied transition
+     */
+    CompiledTransition applyTransition(Long workflowId, WorkItemEntity workItem, Long transitionId,
+            Long actorId, Long tenantId);
+
+    /**
+     * Like {@link #applyTransition} but picks the first available transition to the target status
+     */
+    CompiledTransition applyTransitionTo(Long workflowId, WorkItemEntity workItem, Long toStatusId,
+            Long actorId, Long tenantId);
 }
@@ -7,13 +7,27 @@ package serp.project.pmcore.core.service;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import serp.project.pmcore.core.domain.entity.OutboxEventEntity;
 import serp.project.pmcore.core.domain.enums.OutboxEventStatus;
@@ -21,46 +35,265 @@ import serp.project.pmcore.core.port.client.IKafkaPublisher;
 import serp.project.pmcore.core.port.store.IOutboxEventPort;
 import serp.project.pmcore.kernel.property.OutboxProperties;
 
+/**
+ * Relays outbox rows to Kafka.
+ * <p>
+ * Each claimed batch is handed to the producer in claim order without waiting between sends, so the
+ * producer can group records per partition (linger/batch.size). Events with the same partition key land
+ * on the same partition and the idempotent producer keeps their order. All sends are awaited once and
+ * the outcome is written back with a single {@code batchUpdateStatus}.
+ * <p>
+ * Once an event fails (or is not acknowledged in time), the later events of its partition key in the
+ * batch are left untouched, whatever their own send returned. The claim skips events queued behind a
+ * failed event of the same key, so they are retried after it, in order; one that did reach Kafka is
+ * delivered again and dropped by the consumer inbox.
+ * <p>
+ * Polling adapts to load: a full batch is followed immediately by the next one (up to
+ * {@code max-drain-batches}), empty polls double the wait up to {@code poll-interval-ms}. New rows
+ * wake the relay through Postgres LISTEN/NOTIFY (see {@code OutboxNotificationListener}); while that
+ * works the scheduled poll is only a safety net.
+ * <p>
+ * Events claimed for the first time (still {@code PENDING}) are also appended to the work item
+ * history, in a transaction of its own so a failing history write never holds back the relay.
+ * The append skips events already recorded, so a claim that rolls back and is retried records
+ * each event once however often its send is retried.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxPollingPublisher {
+    private static final String EVENTS_METRIC = "pmcore.outbox.events";
+    private static final String BATCH_METRIC = "pmcore.outbox.batch.latency";
+    private static final String PUBLISH_LATENCY_METRIC = "pmcore.outbox.publish.latency";
+    private static final String LAG_METRIC = "pmcore.outbox.lag";
+
     private final IOutboxEventPort outboxEventPort;
     private final IKafkaPublisher kafkaPublisher;
     private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final IWorkItemHistoryService workItemHistoryService;
 
-    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
-    @Transactional
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final Timer publishLatencyTimer;
+    private final AtomicLong lagMs = new AtomicLong();
+
+    private final ExecutorService executorService;
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    private volatile long nextPollAt;
+    private volatile long idleIntervalMs;
+    private volatile boolean notificationsActive;
+
+    public OutboxPollingPublisher(IOutboxEventPort outboxEventPort,
+                                  IKafkaPublisher kafkaPublisher,
+                                  OutboxProperties outboxProperties,
+                                  TransactionTemplate transactionTemplate,
+                                  ExecutorService executorService,
+                                  IWorkItemHistoryService workItemHistoryService,
+                                  MeterRegistry meterRegistry) {
+        this.outboxEventPort = outboxEventPort;
+        this.kafkaPublisher = kafkaPublisher;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.executorService = executorService;
+        this.workItemHistoryService = workItemHistoryService;
+        this.publishedCounter = Counter.builder(EVENTS_METRIC)
+            .tag("result", "published")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder(EVENTS_METRIC)
+            .tag("result", "failed")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder(BATCH_METRIC).register(meterRegistry);
+        this.publishLatencyTimer = Timer.builder(PUBLISH_LATENCY_METRIC).register(meterRegistry);
+        Gauge.builder(LAG_METRIC, lagMs, AtomicLong::get)
+            .description("Age in ms of the oldest event in the last claimed batch")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.min-poll-interval-ms:50}")
     public void pollAndPublish() {
+        if (System.currentTimeMillis() < nextPollAt) {
+            return;
+        }
+        relay();
+    }
+
+    /**
+     * Relays right away on the executor, e.g. when Postgres reports newly committed outbox rows.
+     * A wake-up that arrives while a relay is running makes that relay poll once more.
+     */
+    public void wakeUp() {
+        wakeRequested.set(true);
+        executorService.execute(this::relay);
+    }
+
+    /**
+     * While notifications arrive, polling only needs to catch retries and missed wake-ups,
+     * so an idle relay waits the longer safety-net interval.
+     */
+    public void setNotificationsActive(boolean active) {
+        notificationsActive = active;
+    }
+
+    private void relay() {
+        do {
+            if (!relayLock.tryLock()) {
+                return;
+            }
+            try {
+                wakeRequested.set(false);
+                drain();
+            } finally {
+                relayLock.unlock();
+            }
+        } while (wakeRequested.get());
+    }
+
+    private void drain() {
+        int batchSize = outboxProperties.getBatchSize();
+        int total = 0;
+        int claimed;
+        int batches = 0;
+        do {
+            Integer result = transactionTemplate.execute(status -> relayBatch(batchSize));
+            claimed = result == null ? 0 : result;
+            total += claimed;
+            batches++;
+        } while (claimed >= batchSize && batches < outboxProperties.getMaxDrainBatches());
+
+        scheduleNextPoll(total);
+    }
+
+    /**
+     * Claims one batch, sends it and records the outcome in the current transaction.
+     *
+     * @return number of claimed events
+     */
+    private int relayBatch(int batchSize) {
         List<OutboxEventEntity> events = outboxEventPort.getEventsByStatuses(
             List.of(OutboxEventStatus.PENDING, OutboxEventStatus.FAILED),
-            outboxProperties.getBatchSize());
+            batchSize);
 
         if (events.isEmpty()) {
-            return;
+            lagMs.set(0);
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start();
+        long claimedAt = System.currentTimeMillis();
+        lagMs.set(events.stream()
+            .mapToLong(event -> claimedAt - event.getCreatedAt())
+            .max()
+            .orElse(0));
+
+        List<OutboxEventEntity> firstClaims = events.stream()
+            .filter(event -> event.getStatus() == OutboxEventStatus.PENDING)
+            .toList();
+        if (!firstClaims.isEmpty()) {
+            workItemHistoryService.recordOutboxEvents(firstClaims);
         }
 
-        log.info("Polled {} outbox events for publishing", events.size());
+        List<CompletableFuture<Void>> sends = new ArrayList<>(events.size());
         for (OutboxEventEntity event : events) {
-            try {
-                kafkaPublisher.sendMessageSync(
-                    event.getPartitionKey(),
-                    event.getPayload(),
-                    event.getTopic()
-                );
+            sends.add(send(event));
+        }
+        awaitAll(sends);
+
+        List<OutboxEventEntity> settled = new ArrayList<>(events.size());
+        Set<String> failedKeys = new HashSet<>();
+        int published = 0;
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEventEntity event = events.get(i);
+            CompletableFuture<Void> send = sends.get(i);
+            String key = event.getPartitionKey();
+            if (key != null && failedKeys.contains(key)) {
+                continue;
+            }
+            if (send.isDone() && !send.isCompletedExceptionally()) {
                 event.markPublished();
-                log.info("Outbox event published: id={}, type={}, aggregate={}:{}",
+                publishLatencyTimer.record(event.getPublishedAt() - event.getCreatedAt(), TimeUnit.MILLISECONDS);
+                published++;
+            } else {
+                String error = send.isDone() ? failureMessage(send) : "Timed out waiting for Kafka acknowledgement";
+                event.markFailed(error);
+                if (key != null && event.getStatus() == OutboxEventStatus.FAILED) {
+                    failedKeys.add(key);
+                }
+                log.warn("Outbox event publish failed: id={}, type={}, retry={}/{}, error={}",
                     event.getId(), event.getEventType(),
-                    event.getAggregateType(), event.getAggregateId());
-            } catch (Exception e) {
-                event.markFailed(e.getMessage());
-                log.warn("Outbox event publish failed: id={}, type={}, retry={}/{}",
-                    event.getId(), event.getEventType(),
-                    event.getRetryCount(), event.getMaxRetries(), e);
+                    event.getRetryCount(), event.getMaxRetries(), error);
             }
+            settled.add(event);
+        }
+
+        outboxEventPort.batchUpdateStatus(settled);
+
+        int failed = settled.size() - published;
+        publishedCounter.increment(published);
+        failedCounter.increment(failed);
+        sample.stop(batchTimer);
+        log.info("Relayed outbox batch: claimed={}, published={}, failed={}, held back={}",
+            events.size(), published, failed, events.size() - settled.size());
+        return events.size();
+    }
+
+    private CompletableFuture<Void> send(OutboxEventEntity event) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        kafkaPublisher.sendMessageAsync(
+            event.getPartitionKey(),
+            event.getPayload(),
+            event.getTopic(),
+            (success, topic, payload, ex) -> {
+                if (success) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(ex != null ? ex
+                        : new IllegalStateException("Kafka send failed for topic " + topic));
+                }
+            });
+        return future;
+    }
+
+    private void awaitAll(List<CompletableFuture<Void>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .get(outboxProperties.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("Outbox batch not fully acknowledged within {} ms", outboxProperties.getSendTimeoutMs());
+        } catch (Exception e) {
+            // Individual failures are read from each future below
+        }
+    }
+
+    private String failureMessage(CompletableFuture<Void> send) {
+        try {
+            send.join();
+            return null;
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getMessage();
         }
+    }
 
-        outboxEventPort.batchUpdateStatus(events);
+    private void scheduleNextPoll(int relayed) {
+        if (relayed > 0) {
+            idleIntervalMs = 0;
+            nextPollAt = 0;
+            return;
+        }
+        if (notificationsActive) {
+            idleIntervalMs = outboxProperties.getNotifySafetyNetIntervalMs();
+        } else {
+            idleIntervalMs = Math.min(
+                idleIntervalMs == 0 ? outboxProperties.getMinPollIntervalMs() : idleIntervalMs * 2,
+                outboxProperties.getPollIntervalMs());
+        }
+        nextPollAt = System.currentTimeMillis() + idleIntervalMs;
     }
 
     @Scheduled(cron = "${app.outbox.cleanup-cron:0 0 3 * * *}")
@@ -0,0 +1,29 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the monthly partitions of the work item history created ahead of time and, when a
+ * retention is configured, drops the expired ones. Runs daily on
+ * {@code app.work-item-history.partition-cron}; both steps are idempotent, so a missed or
+ * repeated run does no harm.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkItemHistoryPartitionScheduler {
+
+    private final IWorkItemHistoryService workItemHistoryService;
+
+    @Scheduled(cron = "${app.work-item-history.partition-cron:0 15 3 * * *}")
+    public void maintainPartitions() {
+        workItemHistoryService.maintainPartitions();
+    }
+}
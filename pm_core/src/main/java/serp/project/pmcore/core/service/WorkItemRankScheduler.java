@@ -0,0 +1,39 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.kernel.property.RankProperties;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkItemRankScheduler {
+
+    private final IWorkItemRankService workItemRankService;
+    private final RankProperties rankProperties;
+
+    @Scheduled(fixedDelayString = "${app.rank.rebalance-interval-ms:10000}")
+    public void rebalanceRequestedProjects() {
+        int rebalanced = workItemRankService.rebalanceRequestedProjects();
+        if (rebalanced > 0) {
+            log.info("Rank rebalance: rebalanced {} queued projects", rebalanced);
+        }
+    }
+
+    @Scheduled(cron = "${app.rank.sweep-cron:0 0 4 * * *}")
+    public void rebalanceLongRanks() {
+        int rebalanced = workItemRankService.rebalanceLongRanks(rankProperties.getSweepLimit());
+        if (rebalanced > 0) {
+            log.info("Rank sweep: rebalanced {} projects with ranks longer than {} characters",
+                    rebalanced, rankProperties.getMaxRankLength());
+        }
+    }
+}
@@ -5,11 +5,15 @@
 
 package serp.project.pmcore.core.service.impl;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import serp.project.pmcore.core.domain.entity.ConsumerInboxEventEntity;
 import serp.project.pmcore.core.domain.enums.ConsumerInboxAcquireResult;
 import serp.project.pmcore.core.port.store.IConsumerInboxPort;
 import serp.project.pmcore.core.service.IConsumerInboxService;
@@ -44,12 +48,26 @@ public class ConsumerInboxService implements IConsumerInboxService {
                 rawPayload);
     }
 
+    @Override
+    @Transactional
+    public Map<String, ConsumerInboxAcquireResult> acquireBatchForProcessing(
+            String consumerGroup,
+            List<ConsumerInboxEventEntity> events) {
+        return consumerInboxPort.acquireBatchForProcessing(consumerGroup, events);
+    }
+
     @Override
     @Transactional
     public void markProcessed(String consumerGroup, String eventId, Long offsetNo) {
         consumerInboxPort.markProcessed(consumerGroup, eventId, offsetNo);
     }
 
+    @Override
+    @Transactional
+    public void markBatchProcessed(String consumerGroup, List<ConsumerInboxEventEntity> events) {
+        consumerInboxPort.markBatchProcessed(consumerGroup, events);
+    }
+
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markFailed(String consumerGroup, String eventId, String errorMessage) {
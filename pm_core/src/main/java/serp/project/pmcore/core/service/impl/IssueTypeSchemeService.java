@@ -11,19 +11,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
-import serp.project.pmcore.core.port.store.IIssueTypeSchemeItemPort;
 import serp.project.pmcore.core.service.IIssueTypeSchemeService;
+import serp.project.pmcore.core.service.ISchemeMetadataService;
+
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class IssueTypeSchemeService implements IIssueTypeSchemeService {
 
-    private final IIssueTypeSchemeItemPort issueTypeSchemeItemPort;
+    private final ISchemeMetadataService schemeMetadataService;
 
     @Override
     public void validateIssueTypeInScheme(Long schemeId, Long issueTypeId, Long tenantId) {
-        boolean exists = issueTypeSchemeItemPort.existsIssueTypeInScheme(schemeId, issueTypeId, tenantId);
+        boolean exists = schemeMetadataService.lookup(tenantId,
+                        metadata -> metadata.isIssueTypeInScheme(schemeId, issueTypeId) ? Optional.of(true) : Optional.empty())
+                .isPresent();
         if (!exists) {
             throw new AppException(ErrorCode.ISSUE_TYPE_NOT_IN_SCHEME);
         }
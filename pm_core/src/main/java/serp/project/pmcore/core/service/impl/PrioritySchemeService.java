@@ -5,6 +5,8 @@
 
 package serp.project.pmcore.core.service.impl;
 
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -12,26 +14,36 @@ import lombok.extern.slf4j.Slf4j;
 import serp.project.pmcore.core.domain.entity.PrioritySchemeEntity;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
-import serp.project.pmcore.core.port.store.IPrioritySchemePort;
 import serp.project.pmcore.core.service.IPrioritySchemeService;
+import serp.project.pmcore.core.service.ISchemeMetadataService;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PrioritySchemeService implements IPrioritySchemeService {
 
-    private final IPrioritySchemePort prioritySchemePort;
+    private final ISchemeMetadataService schemeMetadataService;
 
     @Override
     public Long resolvePriorityId(Long prioritySchemeId, Long tenantId) {
-        return prioritySchemePort.getPrioritySchemeById(prioritySchemeId, tenantId)
+        return schemeMetadataService.lookup(tenantId, metadata -> metadata.getPriorityScheme(prioritySchemeId))
                 .map(PrioritySchemeEntity::getDefaultPriorityId)
                 .orElseThrow(() -> new AppException(ErrorCode.SCHEME_NOT_FOUND));
     }
 
+    @Override
+    public void validatePriorityInScheme(Long prioritySchemeId, Long priorityId, Long tenantId) {
+        boolean exists = schemeMetadataService.lookup(tenantId,
+                        metadata -> metadata.isPriorityInScheme(prioritySchemeId, priorityId) ? Optional.of(true) : Optional.empty())
+                .isPresent();
+        if (!exists) {
+            throw new AppException(ErrorCode.PRIORITY_NOT_IN_SCHEME);
+        }
+    }
+
     @Override
     public PrioritySchemeEntity getPrioritySchemeById(Long prioritySchemeId, Long tenantId) {
-        return prioritySchemePort.getPrioritySchemeById(prioritySchemeId, tenantId)
+        return schemeMetadataService.lookup(tenantId, metadata -> metadata.getPriorityScheme(prioritySchemeId))
                 .orElseThrow(() -> new AppException(ErrorCode.SCHEME_NOT_FOUND));
     }
 
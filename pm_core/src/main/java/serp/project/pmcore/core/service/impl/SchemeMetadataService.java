@@ -0,0 +1,213 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.impl;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.domain.constant.EventConstants;
+import serp.project.pmcore.core.domain.dto.message.BaseKafkaMessage;
+import serp.project.pmcore.core.domain.dto.message.SchemeMetadataEventPayload;
+import serp.project.pmcore.core.domain.entity.OutboxEventEntity;
+import serp.project.pmcore.core.domain.entity.SchemeMetadataEntity;
+import serp.project.pmcore.core.port.client.ICachePort;
+import serp.project.pmcore.core.port.store.ISchemeMetadataPort;
+import serp.project.pmcore.core.service.IOutboxEventService;
+import serp.project.pmcore.core.service.ISchemeMetadataService;
+import serp.project.pmcore.kernel.property.SchemeMetadataProperties;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+/**
+ * Per-tenant near-cache of scheme metadata.
+ * <p>
+ * Each tenant has a version counter in Redis. A node keeps the snapshot it loaded together with
+ * the version it read before loading, and compares the two at most every
+ * {@code version-check-interval-ms}; a writer bumps the counter after commit, so every node
+ * reloads within that interval. The change event written to the outbox lets consumers drop
+ * their copy right away and informs other services. When Redis is unreachable a copy is served
+ * for at most {@code max-staleness-ms}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchemeMetadataService implements ISchemeMetadataService {
+
+    private static final String VERSION_NAMESPACE = "scheme_metadata_version";
+    private static final String UNKNOWN_VERSION = "";
+
+    private final ISchemeMetadataPort schemeMetadataPort;
+    private final ICachePort cachePort;
+    private final IOutboxEventService outboxEventService;
+    private final SchemeMetadataProperties properties;
+    private final JsonUtils jsonUtils;
+
+    private final Map<Long, CachedMetadata> cache = new ConcurrentHashMap<>();
+    private final Map<Long, ReentrantLock> loadLocks = new ConcurrentHashMap<>();
+
+    @Override
+    public SchemeMetadataEntity getSchemeMetadata(Long tenantId) {
+        CachedMetadata cached = cache.get(tenantId);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.checkedAt < properties.getVersionCheckIntervalMs()) {
+            return cached.metadata;
+        }
+        String version = readVersion(tenantId);
+        if (cached != null && isCurrent(cached, version, now)) {
+            cached.checkedAt = now;
+            return cached.metadata;
+        }
+        return load(tenantId, cached);
+    }
+
+    @Override
+    public <T> Optional<T> lookup(Long tenantId, Function<SchemeMetadataEntity, Optional<T>> lookup) {
+        SchemeMetadataEntity metadata = getSchemeMetadata(tenantId);
+        Optional<T> result = lookup.apply(metadata);
+        if (result.isPresent()) {
+            return result;
+        }
+        CachedMetadata cached = cache.get(tenantId);
+        if (cached == null || System.currentTimeMillis() - cached.loadedAt < properties.getMissReloadIntervalMs()) {
+            return result;
+        }
+        return lookup.apply(load(tenantId, cached));
+    }
+
+    @Override
+    public void invalidate(Long tenantId, Long userId, String reason) {
+        publishChangeEvent(tenantId, userId, reason);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion(tenantId);
+                }
+            });
+            return;
+        }
+        bumpVersion(tenantId);
+    }
+
+    @Override
+    public void evictLocal(Long tenantId) {
+        if (cache.remove(tenantId) != null) {
+            log.info("Evicted scheme metadata of tenant {}", tenantId);
+        }
+    }
+
+    private SchemeMetadataEntity load(Long tenantId, CachedMetadata seen) {
+        ReentrantLock lock = loadLocks.computeIfAbsent(tenantId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            CachedMetadata current = cache.get(tenantId);
+            if (current != null && current != seen) {
+                // Another thread reloaded while this one waited
+                return current.metadata;
+            }
+            // Read the version first: a change committed during the load leaves a newer version
+            String version = readVersion(tenantId);
+            long start = System.currentTimeMillis();
+            SchemeMetadataEntity metadata = schemeMetadataPort.loadSchemeMetadata(tenantId);
+            long now = System.currentTimeMillis();
+            cache.put(tenantId, new CachedMetadata(metadata, version, now));
+            trimToMaxTenants();
+            log.debug("Loaded scheme metadata of tenant {} at version {} in {} ms",
+                    tenantId, version, now - start);
+            return metadata;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isCurrent(CachedMetadata cached, String version, long now) {
+        if (UNKNOWN_VERSION.equals(version)) {
+            return now - cached.loadedAt < properties.getMaxStalenessMs();
+        }
+        return version.equals(cached.version);
+    }
+
+    private String readVersion(Long tenantId) {
+        try {
+            return cachePort.get(VERSION_NAMESPACE, tenantId.toString())
+                    .map(Object::toString)
+                    .orElse("0");
+        } catch (Exception e) {
+            log.warn("Failed to read scheme metadata version of tenant {}: {}", tenantId, e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private void bumpVersion(Long tenantId) {
+        evictLocal(tenantId);
+        try {
+            long version = cachePort.increment(VERSION_NAMESPACE, tenantId.toString());
+            log.info("Scheme metadata of tenant {} changed, version {}", tenantId, version);
+        } catch (Exception e) {
+            log.warn("Failed to bump scheme metadata version of tenant {}, other nodes catch up within {} ms: {}",
+                    tenantId, properties.getMaxStalenessMs(), e.getMessage());
+        }
+    }
+
+    private void publishChangeEvent(Long tenantId, Long userId, String reason) {
+        String eventType = EventConstants.SchemeMetadata.EventType.SCHEME_METADATA_CHANGED;
+        BaseKafkaMessage<SchemeMetadataEventPayload> message = BaseKafkaMessage.of(
+                EventConstants.SOURCE,
+                eventType,
+                tenantId,
+                userId,
+                EventConstants.SchemeMetadata.AGGREGATE,
+                tenantId.toString(),
+                SchemeMetadataEventPayload.builder().reason(reason).build());
+
+        outboxEventService.saveEvent(
+                OutboxEventEntity.builder()
+                        .tenantId(tenantId)
+                        .aggregateType(EventConstants.SchemeMetadata.AGGREGATE)
+                        .aggregateId(tenantId)
+                        .eventType(eventType)
+                        .topic(EventConstants.SchemeMetadata.TOPIC)
+                        .partitionKey(tenantId.toString())
+                        .payload(jsonUtils.toJson(message))
+                        .build());
+    }
+
+    private void trimToMaxTenants() {
+        int excess = cache.size() - Math.max(1, properties.getMaxTenants());
+        if (excess <= 0) {
+            return;
+        }
+        cache.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().checkedAt))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(cache::remove);
+    }
+
+    private static final class CachedMetadata {
+        private final SchemeMetadataEntity metadata;
+        private final String version;
+        private final long loadedAt;
+        private volatile long checkedAt;
+
+        private CachedMetadata(SchemeMetadataEntity metadata, String version, long loadedAt) {
+            this.metadata = metadata;
+            this.version = version;
+            this.loadedAt = loadedAt;
+            this.checkedAt = loadedAt;
+        }
+    }
+}
@@ -8,23 +8,29 @@ package serp.project.pmcore.core.service.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import serp.project.pmcore.core.domain.dto.request.CustomizeProjectSchemeRequest;
 import serp.project.pmcore.core.domain.entity.*;
 import serp.project.pmcore.core.domain.enums.SchemeType;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
 import serp.project.pmcore.core.port.store.*;
+import serp.project.pmcore.core.service.ISchemeMetadataService;
 import serp.project.pmcore.core.service.ISchemeProvisioningService;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
- * Handles deep-clone provisioning of project-owned scheme bindings.
+ * Handles copy-on-write provisioning of project scheme bindings.
  *
- * Currently implements real deep clone for:
- * - ISSUE_TYPE scheme (issue_type_schemes + issue_type_scheme_items)
- * - PRIORITY scheme (priority_schemes + priority_scheme_items)
- * - WORKFLOW scheme (workflow_schemes + workflow_scheme_items)
+ * A new project references the ISSUE_TYPE, PRIORITY and WORKFLOW schemes resolved from its
+ * blueprint or the request's overrides by id, so creating a project writes no scheme rows and
+ * every project of a blueprint shares one copy. The first customization of a scheme forks it
+ * into a private copy owned by the project (scheme row and items in one statement, recording
+ * the source scheme and its version) and rebinds the project; later customizations change
+ * that copy in place.
  *
  * All other scheme types (FIELD_CONFIG, SCREEN, PERMISSION,
  * ISSUE_SECURITY, NOTIFICATION) are stubbed with log warnings until
@@ -35,13 +41,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SchemeProvisioningService implements ISchemeProvisioningService {
 
+    private static final Set<SchemeType> CUSTOMIZABLE_TYPES =
+            EnumSet.of(SchemeType.ISSUE_TYPE, SchemeType.PRIORITY, SchemeType.WORKFLOW);
+
     private final IBlueprintSchemeDefaultPort blueprintSchemeDefaultPort;
-    private final IIssueTypeSchemePort issueTypeSchemePort;
-    private final IIssueTypeSchemeItemPort issueTypeSchemeItemPort;
-    private final IPrioritySchemePort prioritySchemePort;
-    private final IPrioritySchemeItemPort prioritySchemeItemPort;
-    private final IWorkflowSchemePort workflowSchemePort;
-    private final IWorkflowSchemeItemPort workflowSchemeItemPort;
+    private final IProjectSchemePort projectSchemePort;
+    private final ISchemeMetadataService schemeMetadataService;
 
     @Override
     public void provisionSchemes(ProjectEntity project, Long tenantId, Long userId,
@@ -50,9 +55,9 @@ public class SchemeProvisioningService implements ISchemeProvisioningService {
 
         Map<SchemeType, Long> resolvedSources = resolveTemplateSources(schemeOverrides, blueprintDefaults);
 
-        cloneIssueTypeScheme(project, tenantId, userId, resolvedSources.get(SchemeType.ISSUE_TYPE));
-        clonePriorityScheme(project, tenantId, userId, resolvedSources.get(SchemeType.PRIORITY));
-        cloneWorkflowScheme(project, tenantId, userId, resolvedSources.get(SchemeType.WORKFLOW));
+        for (SchemeType type : CUSTOMIZABLE_TYPES) {
+            bindSharedScheme(project, tenantId, type, resolvedSources.get(type));
+        }
 
         // Stub provisioning for scheme types without infrastructure
         stubProvision("FIELD_CONFIG", SchemeType.FIELD_CONFIG, resolvedSources, project);
@@ -62,6 +67,52 @@ public class SchemeProvisioningService implements ISchemeProvisioningService {
         stubProvision("NOTIFICATION", SchemeType.NOTIFICATION, resolvedSources, project);
     }
 
+    @Override
+    public boolean customizeScheme(ProjectEntity project, SchemeType type, CustomizeProjectSchemeRequest request,
+                                   Long tenantId, Long userId) {
+        if (!CUSTOMIZABLE_TYPES.contains(type)) {
+            throw new AppException(ErrorCode.SCHEME_INCOMPATIBLE);
+        }
+        if (getSchemeId(project, type) == null) {
+            throw new AppException(ErrorCode.SCHEME_NOT_FOUND);
+        }
+
+        projectSchemePort.lockProjectSchemes(project.getId());
+
+        Optional<Long> ownedSchemeId = projectSchemePort.findOwnedSchemeId(type, project.getId());
+        Long currentSchemeId = ownedSchemeId.orElse(getSchemeId(project, type));
+        validateChange(type, currentSchemeId, request, tenantId);
+
+        Long schemeId = ownedSchemeId.orElseGet(() -> {
+            Long forkedId = projectSchemePort.forkScheme(type, currentSchemeId, project.getId(), project.getKey(),
+                    tenantId, userId);
+            log.info("Forked {} scheme: source={} -> private={} for project={}",
+                    type, currentSchemeId, forkedId, project.getKey());
+            return forkedId;
+        });
+
+        if (request.getRemoveIds() != null && !request.getRemoveIds().isEmpty()) {
+            projectSchemePort.removeSchemeItems(type, schemeId, request.getRemoveIds(), userId);
+        }
+        if (type == SchemeType.WORKFLOW) {
+            if (request.getWorkflowMappings() != null && !request.getWorkflowMappings().isEmpty()) {
+                projectSchemePort.putWorkflowMappings(schemeId, request.getWorkflowMappings(), tenantId, userId);
+            }
+        } else if (request.getAddIds() != null && !request.getAddIds().isEmpty()) {
+            projectSchemePort.addSchemeItems(type, schemeId, request.getAddIds(), tenantId, userId);
+        }
+        projectSchemePort.touchScheme(type, schemeId, request.getDefaultId(), userId);
+
+        schemeMetadataService.invalidate(tenantId, userId,
+                "Scheme " + type + " customized for project " + project.getKey());
+
+        if (schemeId.equals(getSchemeId(project, type))) {
+            return false;
+        }
+        setSchemeId(project, type, schemeId);
+        return true;
+    }
+
     private Map<SchemeType, Long> loadBlueprintDefaults(Long blueprintId, Long tenantId) {
         if (blueprintId == null) {
             return Collections.emptyMap();
@@ -98,172 +149,114 @@ public class SchemeProvisioningService implements ISchemeProvisioningService {
     }
 
     /**
-     * Deep-clone an IssueType scheme:
-     * 1. Load source scheme + items
-     * 2. Create new scheme with cloned name
-     * 3. Clone all items with new schemeId
-     * 4. Patch default_issue_type_id (same as source — issue types are shared, not cloned)
-     * 5. Set cloned scheme ID on project
+     * Bind the project to a shared scheme:
+     * 1. Check the source scheme is visible to the tenant (own or system scheme)
+     * 2. Set the source scheme ID on project — no rows are copied until the project customizes it
      */
-    private void cloneIssueTypeScheme(ProjectEntity project, Long tenantId, Long userId, Long sourceSchemeId) {
+    private void bindSharedScheme(ProjectEntity project, Long tenantId, SchemeType type, Long sourceSchemeId) {
         if (sourceSchemeId == null) {
-            log.info("No IssueType scheme source to clone for project key={}", project.getKey());
+            log.info("No {} scheme source to bind for project key={}", type, project.getKey());
             return;
         }
 
-        try {
-            IssueTypeSchemeEntity source = issueTypeSchemePort.getIssueTypeSchemeByIdIncludingSystem(sourceSchemeId, tenantId)
-                    .orElseThrow(() -> new AppException(ErrorCode.SCHEME_NOT_FOUND));
-
-            List<IssueTypeSchemeItemEntity> sourceItems =
-                    issueTypeSchemeItemPort.getIssueTypeSchemeItemsBySchemeIdIncludingSystem(sourceSchemeId, tenantId);
-
-            IssueTypeSchemeEntity clonedScheme = IssueTypeSchemeEntity.builder()
-                    .tenantId(tenantId)
-                    .name(project.getKey() + " - " + source.getName())
-                    .description("Cloned for project " + project.getKey())
-                    .defaultIssueTypeId(source.getDefaultIssueTypeId())
-                    .build();
-            clonedScheme.setCreatedBy(userId);
-            clonedScheme.setUpdatedBy(userId);
-
-            IssueTypeSchemeEntity saved = issueTypeSchemePort.createIssueTypeScheme(clonedScheme);
-
-            if (!sourceItems.isEmpty()) {
-                List<IssueTypeSchemeItemEntity> clonedItems = sourceItems.stream()
-                        .map(item -> IssueTypeSchemeItemEntity.builder()
-                                .tenantId(tenantId)
-                                .schemeId(saved.getId())
-                                .issueTypeId(item.getIssueTypeId())
-                                .sequence(item.getSequence())
-                                .build())
-                        .collect(Collectors.toList());
-                issueTypeSchemeItemPort.createIssueTypeSchemeItems(clonedItems);
-            }
-
-            project.setIssueTypeSchemeId(saved.getId());
-            log.info("Cloned IssueType scheme: source={} -> cloned={} for project={}",
-                    sourceSchemeId, saved.getId(), project.getKey());
-
-        } catch (AppException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to clone IssueType scheme {} for project {}: {}",
-                    sourceSchemeId, project.getKey(), e.getMessage(), e);
-            throw new AppException(ErrorCode.SCHEME_PROVISIONING_FAILED);
+        boolean exists = switch (type) {
+            case ISSUE_TYPE -> exists(tenantId, metadata -> metadata.getIssueTypeScheme(sourceSchemeId));
+            case PRIORITY -> exists(tenantId, metadata -> metadata.getPriorityScheme(sourceSchemeId));
+            default -> exists(tenantId, metadata -> metadata.getWorkflowScheme(sourceSchemeId));
+        };
+        if (!exists) {
+            throw new AppException(ErrorCode.SCHEME_NOT_FOUND);
         }
+
+        setSchemeId(project, type, sourceSchemeId);
+        log.info("Bound shared {} scheme {} to project={}", type, sourceSchemeId, project.getKey());
     }
 
     /**
-     * Deep-clone a Priority scheme:
-     * 1. Load source scheme + items
-     * 2. Create new scheme with cloned name
-     * 3. Clone all items with new schemeId
-     * 4. Patch default_priority_id (same as source — priorities are shared, not cloned)
-     * 5. Set cloned scheme ID on project
+     * Checks that every referenced issue type, priority and workflow exists and that the
+     * scheme's default stays among its items after the change
      */
-    private void clonePriorityScheme(ProjectEntity project, Long tenantId, Long userId, Long sourceSchemeId) {
-        if (sourceSchemeId == null) {
-            log.info("No Priority scheme source to clone for project key={}", project.getKey());
-            return;
-        }
-
-        try {
-            PrioritySchemeEntity source = prioritySchemePort.getPrioritySchemeByIdIncludingSystem(sourceSchemeId, tenantId)
-                    .orElseThrow(() -> new AppException(ErrorCode.SCHEME_NOT_FOUND));
-
-            List<PrioritySchemeItemEntity> sourceItems =
-                    prioritySchemeItemPort.getPrioritySchemeItemsBySchemeIdIncludingSystem(sourceSchemeId, tenantId);
-
-            PrioritySchemeEntity clonedScheme = PrioritySchemeEntity.builder()
-                    .tenantId(tenantId)
-                    .name(project.getKey() + " - " + source.getName())
-                    .description("Cloned for project " + project.getKey())
-                    .defaultPriorityId(source.getDefaultPriorityId())
-                    .build();
-            clonedScheme.setCreatedBy(userId);
-            clonedScheme.setUpdatedBy(userId);
-
-            PrioritySchemeEntity saved = prioritySchemePort.createPriorityScheme(clonedScheme);
-
-            if (!sourceItems.isEmpty()) {
-                List<PrioritySchemeItemEntity> clonedItems = sourceItems.stream()
-                        .map(item -> PrioritySchemeItemEntity.builder()
-                                .tenantId(tenantId)
-                                .schemeId(saved.getId())
-                                .priorityId(item.getPriorityId())
-                                .sequence(item.getSequence())
-                                .build())
-                        .collect(Collectors.toList());
-                prioritySchemeItemPort.createPrioritySchemeItems(clonedItems);
+    private void validateChange(SchemeType type, Long schemeId, CustomizeProjectSchemeRequest request,
+                                Long tenantId) {
+        List<Long> addIds = request.getAddIds() != null ? request.getAddIds() : List.of();
+        List<Long> removeIds = request.getRemoveIds() != null ? request.getRemoveIds() : List.of();
+        Map<Long, Long> mappings = request.getWorkflowMappings() != null ? request.getWorkflowMappings() : Map.of();
+        Long defaultId = request.getDefaultId();
+
+        switch (type) {
+            case ISSUE_TYPE -> {
+                IssueTypeSchemeEntity scheme = schemeMetadataService
+                        .lookup(tenantId, metadata -> metadata.getIssueTypeScheme(schemeId))
+                        .orElseThrow(() -> new AppException(ErrorCode.SCHEME_NOT_FOUND));
+                requireAll(addIds, id -> exists(tenantId, metadata -> metadata.getIssueType(id)));
+                requireDefaultKept(defaultId != null ? defaultId : scheme.getDefaultIssueTypeId(),
+                        itemIds(scheme.getItems(), IssueTypeSchemeItemEntity::getIssueTypeId), addIds, removeIds);
             }
+            case PRIORITY -> {
+                PrioritySchemeEntity scheme = schemeMetadataService
+                        .lookup(tenantId, metadata -> metadata.getPriorityScheme(schemeId))
+                        .orElseThrow(() -> new AppException(ErrorCode.SCHEME_NOT_FOUND));
+                requireAll(addIds, id -> exists(tenantId, metadata -> metadata.getPriority(id)));
+                requireDefaultKept(defaultId != null ? defaultId : scheme.getDefaultPriorityId(),
+                        itemIds(scheme.getItems(), PrioritySchemeItemEntity::getPriorityId), addIds, removeIds);
+            }
+            default -> {
+                schemeMetadataService.lookup(tenantId, metadata -> metadata.getWorkflowScheme(schemeId))
+                        .orElseThrow(() -> new AppException(ErrorCode.SCHEME_NOT_FOUND));
+                if (!addIds.isEmpty()) {
+                    throw new AppException(ErrorCode.SCHEME_CHANGE_INVALID);
+                }
+                requireAll(mappings.keySet(), id -> exists(tenantId, metadata -> metadata.getIssueType(id)));
+                requireAll(mappings.values(), id -> exists(tenantId, metadata -> metadata.getWorkflow(id)));
+                if (defaultId != null) {
+                    requireAll(List.of(defaultId), id -> exists(tenantId, metadata -> metadata.getWorkflow(id)));
+                }
+            }
+        }
+    }
 
-            project.setPrioritySchemeId(saved.getId());
-            log.info("Cloned Priority scheme: source={} -> cloned={} for project={}",
-                    sourceSchemeId, saved.getId(), project.getKey());
+    private boolean exists(Long tenantId, Function<SchemeMetadataEntity, Optional<?>> lookup) {
+        return schemeMetadataService.lookup(tenantId, lookup::apply).isPresent();
+    }
 
-        } catch (AppException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to clone Priority scheme {} for project {}: {}",
-                    sourceSchemeId, project.getKey(), e.getMessage(), e);
-            throw new AppException(ErrorCode.SCHEME_PROVISIONING_FAILED);
+    private static void requireAll(Collection<Long> ids, Predicate<Long> check) {
+        if (!ids.stream().allMatch(check)) {
+            throw new AppException(ErrorCode.SCHEME_CHANGE_INVALID);
         }
     }
 
-    /**
-     * Deep-clone a Workflow scheme:
-     * 1. Load source scheme + items
-     * 2. Create new scheme with cloned name
-     * 3. Clone all items with new schemeId (workflowId and issueTypeId stay the same — shared)
-     * 4. Set cloned scheme ID on project
-     */
-    private void cloneWorkflowScheme(ProjectEntity project, Long tenantId, Long userId, Long sourceSchemeId) {
-        if (sourceSchemeId == null) {
-            log.info("No Workflow scheme source to clone for project key={}", project.getKey());
+    private static void requireDefaultKept(Long defaultId, Set<Long> itemIds, List<Long> addIds, List<Long> removeIds) {
+        if (defaultId == null) {
             return;
         }
+        boolean kept = addIds.contains(defaultId) || (itemIds.contains(defaultId) && !removeIds.contains(defaultId));
+        if (!kept) {
+            throw new AppException(ErrorCode.SCHEME_CHANGE_INVALID);
+        }
+    }
 
-        try {
-            WorkflowSchemeEntity source = workflowSchemePort.getWorkflowSchemeByIdIncludingSystem(sourceSchemeId, tenantId)
-                    .orElseThrow(() -> new AppException(ErrorCode.SCHEME_NOT_FOUND));
-
-            List<WorkflowSchemeItemEntity> sourceItems =
-                    workflowSchemeItemPort.getWorkflowSchemeItemsBySchemeIdIncludingSystem(sourceSchemeId, tenantId);
-
-            WorkflowSchemeEntity clonedScheme = WorkflowSchemeEntity.builder()
-                    .tenantId(tenantId)
-                    .name(project.getKey() + " - " + source.getName())
-                    .description("Cloned for project " + project.getKey())
-                    .defaultWorkflowId(source.getDefaultWorkflowId())
-                    .build();
-            clonedScheme.setCreatedBy(userId);
-            clonedScheme.setUpdatedBy(userId);
-
-            WorkflowSchemeEntity saved = workflowSchemePort.createWorkflowScheme(clonedScheme);
-
-            if (!sourceItems.isEmpty()) {
-                List<WorkflowSchemeItemEntity> clonedItems = sourceItems.stream()
-                        .map(item -> WorkflowSchemeItemEntity.builder()
-                                .tenantId(tenantId)
-                                .schemeId(saved.getId())
-                                .issueTypeId(item.getIssueTypeId())
-                                .workflowId(item.getWorkflowId())
-                                .build())
-                        .collect(Collectors.toList());
-                workflowSchemeItemPort.createWorkflowSchemeItems(clonedItems);
-            }
+    private static <T> Set<Long> itemIds(List<T> items, Function<T, Long> id) {
+        if (items == null) {
+            return Set.of();
+        }
+        return items.stream().map(id).collect(Collectors.toSet());
+    }
 
-            project.setWorkflowSchemeId(saved.getId());
-            log.info("Cloned Workflow scheme: source={} -> cloned={} for project={}",
-                    sourceSchemeId, saved.getId(), project.getKey());
+    private static Long getSchemeId(ProjectEntity project, SchemeType type) {
+        return switch (type) {
+            case ISSUE_TYPE -> project.getIssueTypeSchemeId();
+            case PRIORITY -> project.getPrioritySchemeId();
+            case WORKFLOW -> project.getWorkflowSchemeId();
+            default -> null;
+        };
+    }
 
-        } catch (AppException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to clone Workflow scheme {} for project {}: {}",
-                    sourceSchemeId, project.getKey(), e.getMessage(), e);
-            throw new AppException(ErrorCode.SCHEME_PROVISIONING_FAILED);
+    private static void setSchemeId(ProjectEntity project, SchemeType type, Long schemeId) {
+        switch (type) {
+            case ISSUE_TYPE -> project.setIssueTypeSchemeId(schemeId);
+            case PRIORITY -> project.setPrioritySchemeId(schemeId);
+            case WORKFLOW -> project.setWorkflowSchemeId(schemeId);
+            default -> throw new AppException(ErrorCode.SCHEME_INCOMPATIBLE);
         }
     }
 
@@ -275,7 +268,7 @@ public class SchemeProvisioningService implements ISchemeProvisioningService {
                                 Map<SchemeType, Long> resolvedSources, ProjectEntity project) {
         Long sourceId = resolvedSources.get(type);
         if (sourceId != null) {
-            log.warn("Scheme type {} has source ID {} but deep-clone is not yet implemented. " +
+            log.warn("Scheme type {} has source ID {} but provisioning is not yet implemented. " +
                     "Skipping provisioning for project key={}. " +
                     "The project's {} binding will remain null.",
                     typeName, sourceId, project.getKey(), typeName);
@@ -0,0 +1,223 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity;
+import serp.project.pmcore.core.domain.enums.WorkItemAggregateDimension;
+import serp.project.pmcore.core.exception.AppException;
+import serp.project.pmcore.core.exception.ErrorCode;
+import serp.project.pmcore.core.port.client.ICachePort;
+import serp.project.pmcore.core.port.store.IWorkItemPort;
+import serp.project.pmcore.core.service.IWorkItemAggregateService;
+import serp.project.pmcore.kernel.property.WorkItemAggregateProperties;
+
+/**
+ * Board and backlog aggregates of a project, kept in one Redis hash per project.
+ * <p>
+ * The hash holds the total and, per status, assignee, priority and issue type, a count and an
+ * original estimate sum field (e.g. {@code status:12:count}, {@code assignee:none:estimate}), so
+ * a board header is one HGETALL. Work item events move their items' contributions with one
+ * atomic script that only touches a built hash; a missing hash is rebuilt on read with one
+ * GROUP BY GROUPING SETS scan.
+ * <p>
+ * Every event bumps a {@code generation} field, even while the hash is not built. A rebuild
+ * reads the generation before its scan and stores its result only if the generation is still
+ * the same, so an event applied during the scan is never lost to a stale rebuild. An event still
+ * in flight from before the scan can be counted twice, so the hash expires after
+ * {@code ttl-seconds} and that drift is bounded by it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkItemAggregateService implements IWorkItemAggregateService {
+
+    private static final String NAMESPACE = "work_item_aggregate";
+    private static final String TOTAL = "total";
+    private static final String NONE = "none";
+    private static final String COUNT = "count";
+    private static final String ESTIMATE = "estimate";
+    private static final String GENERATION = "generation";
+    private static final char SEPARATOR = ':';
+
+    private static final Comparator<WorkItemAggregateEntity.Bucket> BUCKET_ORDER =
+            Comparator.comparingLong(WorkItemAggregateEntity.Bucket::count).reversed()
+                    .thenComparing(WorkItemAggregateEntity.Bucket::valueId,
+                            Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final IWorkItemPort workItemPort;
+    private final ICachePort cachePort;
+    private final WorkItemAggregateProperties properties;
+
+    @Override
+    public WorkItemAggregateEntity getAggregate(Long tenantId, WorkItemFilterRequest filter) {
+        if (filter.getProjectId() == null) {
+            throw new AppException(ErrorCode.AGGREGATE_PROJECT_REQUIRED);
+        }
+        if (!filter.isProjectScopeOnly()) {
+            return sorted(workItemPort.aggregateWorkItems(tenantId, filter));
+        }
+
+        Long projectId = filter.getProjectId();
+        String key = key(tenantId, projectId);
+        String generation;
+        try {
+            Map<String, String> fields = cachePort.hashGetAll(NAMESPACE, key);
+            if (fields.containsKey(TOTAL + SEPARATOR + COUNT)) {
+                return decode(projectId, fields);
+            }
+            generation = fields.get(GENERATION);
+        } catch (Exception e) {
+            log.warn("Failed to read work item aggregate of project {}, reading it from the table: {}",
+                    projectId, e.getMessage());
+            return sorted(workItemPort.aggregateWorkItems(tenantId, projectFilter(projectId)));
+        }
+
+        WorkItemAggregateEntity aggregate = sorted(workItemPort.aggregateWorkItems(tenantId, projectFilter(projectId)));
+        try {
+            boolean stored = cachePort.hashPutAllIfVersion(NAMESPACE, key, GENERATION, generation, encode(aggregate),
+                    ttl());
+            if (!stored) {
+                log.debug("Work item aggregate of project {} changed during its rebuild, not storing it", projectId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to store work item aggregate of project {}: {}", projectId, e.getMessage());
+        }
+        return aggregate;
+    }
+
+    @Override
+    public void applyChange(Long tenantId, Long projectId, WorkItemAggregateEntity.Facets before,
+                            WorkItemAggregateEntity.Facets after) {
+        applyChanges(tenantId, projectId, List.of(new WorkItemAggregateEntity.Change(before, after)));
+    }
+
+    @Override
+    public void applyChanges(Long tenantId, Long projectId, List<WorkItemAggregateEntity.Change> changes) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (WorkItemAggregateEntity.Change change : changes) {
+            if (change.before() != null) {
+                addContribution(deltas, change.before(), -1);
+            }
+            if (change.after() != null) {
+                addContribution(deltas, change.after(), 1);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0L);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        cachePort.hashIncrementVersioned(NAMESPACE, key(tenantId, projectId), GENERATION, TOTAL + SEPARATOR + COUNT,
+                deltas, ttl());
+    }
+
+    private void addContribution(Map<String, Long> deltas, WorkItemAggregateEntity.Facets facets, int sign) {
+        deltas.merge(TOTAL + SEPARATOR + COUNT, (long) sign, Long::sum);
+        deltas.merge(TOTAL + SEPARATOR + ESTIMATE, sign * facets.estimate(), Long::sum);
+        for (WorkItemAggregateDimension dimension : WorkItemAggregateDimension.values()) {
+            String prefix = bucketPrefix(dimension, facets.valueOf(dimension));
+            deltas.merge(prefix + COUNT, (long) sign, Long::sum);
+            deltas.merge(prefix + ESTIMATE, sign * facets.estimate(), Long::sum);
+        }
+    }
+
+    private Map<String, String> encode(WorkItemAggregateEntity aggregate) {
+        // The total is always written, so an empty project still has a hash and is not rebuilt per read
+        Map<String, String> fields = new HashMap<>();
+        fields.put(TOTAL + SEPARATOR + COUNT, String.valueOf(aggregate.getCount()));
+        fields.put(TOTAL + SEPARATOR + ESTIMATE, String.valueOf(aggregate.getEstimate()));
+        aggregate.getGroups().forEach((dimension, buckets) -> {
+            for (WorkItemAggregateEntity.Bucket bucket : buckets) {
+                String prefix = bucketPrefix(dimension, bucket.valueId());
+                fields.put(prefix + COUNT, String.valueOf(bucket.count()));
+                fields.put(prefix + ESTIMATE, String.valueOf(bucket.estimate()));
+            }
+        });
+        return fields;
+    }
+
+    private WorkItemAggregateEntity decode(Long projectId, Map<String, String> fields) {
+        var aggregate = WorkItemAggregateEntity.builder()
+                .projectId(projectId)
+                .groups(new EnumMap<>(WorkItemAggregateDimension.class))
+                .build();
+        Map<WorkItemAggregateDimension, Map<Long, long[]>> values = new EnumMap<>(WorkItemAggregateDimension.class);
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            String name = field.getKey();
+            if (GENERATION.equals(name)) {
+                continue;
+            }
+            long value = Long.parseLong(field.getValue());
+            int first = name.indexOf(SEPARATOR);
+            int last = name.lastIndexOf(SEPARATOR);
+            boolean isCount = COUNT.equals(name.substring(last + 1));
+            String group = name.substring(0, first);
+            if (TOTAL.equals(group)) {
+                if (isCount) {
+                    aggregate.setCount(value);
+                } else {
+                    aggregate.setEstimate(value);
+                }
+                continue;
+            }
+            String valueId = name.substring(first + 1, last);
+            long[] bucket = values
+                    .computeIfAbsent(WorkItemAggregateDimension.valueOf(group.toUpperCase(Locale.ROOT)),
+                            d -> new HashMap<>())
+                    .computeIfAbsent(NONE.equals(valueId) ? null : Long.valueOf(valueId), id -> new long[2]);
+            bucket[isCount ? 0 : 1] = value;
+        }
+        values.forEach((dimension, buckets) -> {
+            List<WorkItemAggregateEntity.Bucket> list = new ArrayList<>();
+            buckets.forEach((valueId, bucket) -> {
+                // Buckets emptied by events keep their fields until the next rebuild
+                if (bucket[0] > 0) {
+                    list.add(new WorkItemAggregateEntity.Bucket(valueId, bucket[0], bucket[1]));
+                }
+            });
+            list.sort(BUCKET_ORDER);
+            aggregate.getGroups().put(dimension, list);
+        });
+        return aggregate;
+    }
+
+    private WorkItemAggregateEntity sorted(WorkItemAggregateEntity aggregate) {
+        aggregate.getGroups().values().forEach(buckets -> buckets.sort(BUCKET_ORDER));
+        return aggregate;
+    }
+
+    private Duration ttl() {
+        return Duration.ofSeconds(Math.max(1, properties.getTtlSeconds()));
+    }
+
+    private static WorkItemFilterRequest projectFilter(Long projectId) {
+        return WorkItemFilterRequest.builder()
+                .projectId(projectId)
+                .build();
+    }
+
+    private static String bucketPrefix(WorkItemAggregateDimension dimension, Long valueId) {
+        return dimension.name().toLowerCase(Locale.ROOT) + SEPARATOR
+                + (valueId != null ? valueId.toString() : NONE) + SEPARATOR;
+    }
+
+    private static String key(Long tenantId, Long projectId) {
+        return tenantId + ":" + projectId;
+    }
+}
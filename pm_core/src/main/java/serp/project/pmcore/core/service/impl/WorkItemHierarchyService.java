@@ -0,0 +1,65 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.impl;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemRollupEntity;
+import serp.project.pmcore.core.exception.AppException;
+import serp.project.pmcore.core.exception.ErrorCode;
+import serp.project.pmcore.core.port.store.IWorkItemHierarchyPort;
+import serp.project.pmcore.core.service.IWorkItemHierarchyService;
+
+/**
+ * Keeps the work item closure table and subtree rollups in step with parent changes.
+ * <p>
+ * Creating under a parent takes the project's hierarchy lock shared, so creations run in
+ * parallel; re-parenting and deletion rewrite ancestor rows and take it exclusive.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkItemHierarchyService implements IWorkItemHierarchyService {
+
+    private final IWorkItemHierarchyPort workItemHierarchyPort;
+
+    @Override
+    public void addWorkItem(WorkItemEntity workItem, Long tenantId) {
+        if (workItem.getParentId() != null) {
+            workItemHierarchyPort.lockProjectHierarchy(workItem.getProjectId(), tenantId, false);
+        }
+        workItemHierarchyPort.insertLeaf(workItem, tenantId);
+    }
+
+    @Override
+    public void moveWorkItem(WorkItemEntity workItem, Long newParentId, Long tenantId) {
+        workItemHierarchyPort.lockProjectHierarchy(workItem.getProjectId(), tenantId, true);
+        if (newParentId != null && (newParentId.equals(workItem.getId())
+                || workItemHierarchyPort.isAncestor(workItem.getId(), newParentId, tenantId))) {
+            throw new AppException(ErrorCode.INVALID_PARENT_HIERARCHY);
+        }
+        workItemHierarchyPort.moveSubtree(workItem.getId(), newParentId, tenantId);
+        log.info("Moved work item {} from parent {} to parent {}", workItem.getId(), workItem.getParentId(), newParentId);
+    }
+
+    @Override
+    public void removeWorkItem(WorkItemEntity workItem, Long tenantId) {
+        workItemHierarchyPort.lockProjectHierarchy(workItem.getProjectId(), tenantId, true);
+        if (workItemHierarchyPort.hasDescendants(workItem.getId(), tenantId)) {
+            throw new AppException(ErrorCode.WORK_ITEM_HAS_CHILDREN);
+        }
+        workItemHierarchyPort.removeLeaf(workItem.getId(), tenantId);
+    }
+
+    @Override
+    public WorkItemRollupEntity getRollup(Long workItemId, Long tenantId) {
+        return workItemHierarchyPort.getRollup(workItemId, tenantId)
+                .orElseThrow(() -> new AppException(ErrorCode.WORK_ITEM_NOT_FOUND));
+    }
+}
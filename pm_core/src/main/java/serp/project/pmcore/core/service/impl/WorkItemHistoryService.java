@@ -0,0 +1,245 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.impl;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.domain.constant.EventConstants;
+import serp.project.pmcore.core.domain.dto.message.BaseKafkaMessage;
+import serp.project.pmcore.core.domain.dto.message.WorkItemBulkEventPayload;
+import serp.project.pmcore.core.domain.dto.message.WorkItemEventPayload;
+import serp.project.pmcore.core.domain.dto.response.PageResult;
+import serp.project.pmcore.core.domain.entity.OutboxEventEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemHistoryEntity;
+import serp.project.pmcore.core.port.store.IWorkItemHistoryPort;
+import serp.project.pmcore.core.service.IWorkItemHistoryService;
+import serp.project.pmcore.kernel.property.WorkItemHistoryProperties;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+/**
+ * Field-level change history of work items, derived from their outbox events.
+ * <p>
+ * The events already carry each changed field with its previous value, so the outbox relay turns
+ * every newly claimed batch into history rows and appends them with one INSERT in a transaction of
+ * its own, apart from the claim. Should that INSERT fail, each event's rows are retried alone, so
+ * one bad event loses only its own history. The append skips rows already recorded for an event,
+ * so a claim that rolls back and is retried records nothing twice. A bulk event becomes one row
+ * per work item. Rows go to a table partitioned by month, which keeps the per-item index small and
+ * lets retention drop whole partitions.
+ */
+@Service
+@Slf4j
+public class WorkItemHistoryService implements IWorkItemHistoryService {
+
+    private static final TypeReference<BaseKafkaMessage<WorkItemEventPayload>> WORK_ITEM_MESSAGE =
+            new TypeReference<>() {
+            };
+    private static final TypeReference<BaseKafkaMessage<WorkItemBulkEventPayload>> BULK_MESSAGE =
+            new TypeReference<>() {
+            };
+
+    private final IWorkItemHistoryPort workItemHistoryPort;
+    private final WorkItemHistoryProperties properties;
+    private final JsonUtils jsonUtils;
+    private final TransactionTemplate recordTransaction;
+    private final TransactionTemplate exportTransaction;
+
+    public WorkItemHistoryService(IWorkItemHistoryPort workItemHistoryPort,
+                                  WorkItemHistoryProperties properties,
+                                  JsonUtils jsonUtils,
+                                  PlatformTransactionManager transactionManager) {
+        this.workItemHistoryPort = workItemHistoryPort;
+        this.properties = properties;
+        this.jsonUtils = jsonUtils;
+        this.recordTransaction = new TransactionTemplate(transactionManager);
+        this.recordTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.exportTransaction = new TransactionTemplate(transactionManager);
+        this.exportTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void recordOutboxEvents(List<OutboxEventEntity> events) {
+        Map<OutboxEventEntity, List<WorkItemHistoryEntity>> historyByEvent = new LinkedHashMap<>();
+        for (OutboxEventEntity event : events) {
+            List<WorkItemHistoryEntity> history = new ArrayList<>();
+            try {
+                if (EventConstants.WorkItem.AGGREGATE.equals(event.getAggregateType())) {
+                    BaseKafkaMessage<WorkItemEventPayload> message = jsonUtils.fromJson(event.getPayload(),
+                            WORK_ITEM_MESSAGE);
+                    addWorkItemChanges(history, event, message);
+                } else if (EventConstants.WorkItem.BULK_AGGREGATE.equals(event.getAggregateType())) {
+                    BaseKafkaMessage<WorkItemBulkEventPayload> message = jsonUtils.fromJson(event.getPayload(),
+                            BULK_MESSAGE);
+                    addBulkChanges(history, event, message);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Skipping history of outbox event {} ({}): {}", event.getId(), event.getEventType(),
+                        e.getMessage());
+                continue;
+            }
+            if (!history.isEmpty()) {
+                historyByEvent.put(event, history);
+            }
+        }
+        if (historyByEvent.isEmpty()) {
+            return;
+        }
+
+        List<WorkItemHistoryEntity> all = historyByEvent.values().stream().flatMap(List::stream).toList();
+        try {
+            recordTransaction.executeWithoutResult(status -> workItemHistoryPort.insertBatch(all));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Failed to record history of {} outbox events, recording them one by one: {}",
+                    historyByEvent.size(), e.getMessage());
+        }
+        historyByEvent.forEach((event, history) -> {
+            try {
+                recordTransaction.executeWithoutResult(status -> workItemHistoryPort.insertBatch(history));
+            } catch (RuntimeException e) {
+                log.warn("Skipping history of outbox event {} ({}): {}", event.getId(), event.getEventType(),
+                        e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public PageResult<WorkItemHistoryEntity> getWorkItemHistory(Long tenantId, Long workItemId, String cursor,
+                                                                Integer limit) {
+        int pageSize = limit == null ? properties.getMaxPageSize()
+                : Math.max(1, Math.min(limit, properties.getMaxPageSize()));
+        return workItemHistoryPort.getWorkItemHistory(tenantId, workItemId, cursor, pageSize);
+    }
+
+    @Override
+    public void exportProjectHistory(Long tenantId, Long projectId, Long from, Long to,
+                                     Consumer<WorkItemHistoryEntity> sink) {
+        int pageSize = Math.max(1, properties.getExportPageSize());
+        WorkItemHistoryEntity last = null;
+        List<WorkItemHistoryEntity> page;
+        do {
+            WorkItemHistoryEntity after = last;
+            page = exportTransaction.execute(status ->
+                    workItemHistoryPort.getProjectHistoryPage(tenantId, projectId, from, to, after, pageSize));
+            if (page == null || page.isEmpty()) {
+                return;
+            }
+            page.forEach(sink);
+            last = page.get(page.size() - 1);
+        } while (page.size() == pageSize);
+    }
+
+    @Override
+    public void maintainPartitions() {
+        int created = workItemHistoryPort.ensurePartitions(properties.getPartitionMonthsAhead());
+        if (created > 0) {
+            log.info("Work item history: created {} monthly partitions", created);
+        }
+        if (properties.getRetentionMonths() > 0) {
+            long cutoff = LocalDate.now().withDayOfMonth(1)
+                    .minusMonths(properties.getRetentionMonths())
+                    .atStartOfDay(ZoneId.systemDefault())
+                    .toInstant()
+                    .toEpochMilli();
+            int dropped = workItemHistoryPort.dropPartitionsBefore(cutoff);
+            if (dropped > 0) {
+                log.info("Work item history: dropped {} monthly partitions older than {} months",
+                        dropped, properties.getRetentionMonths());
+            }
+        }
+    }
+
+    private void addWorkItemChanges(List<WorkItemHistoryEntity> history, OutboxEventEntity event,
+                                    BaseKafkaMessage<WorkItemEventPayload> message) {
+        WorkItemEventPayload payload = message.getData();
+        List<WorkItemHistoryEntity.FieldChange> changes = new ArrayList<>();
+        switch (event.getEventType()) {
+            case EventConstants.WorkItem.EventType.WORK_ITEM_CREATED -> {
+                addChange(changes, "issueTypeId", null, payload.getIssueTypeId());
+                addChange(changes, "statusId", null, payload.getStatusId());
+                addChange(changes, "assigneeId", null, payload.getAssigneeId());
+                addChange(changes, "priorityId", null, payload.getPriorityId());
+                addChange(changes, "parentId", null, payload.getParentId());
+                addChange(changes, "timeOriginalEstimate", null, payload.getTimeOriginalEstimate());
+            }
+            case EventConstants.WorkItem.EventType.WORK_ITEM_DELETED -> {
+                addChange(changes, "issueTypeId", payload.getIssueTypeId(), null);
+                addChange(changes, "statusId", payload.getStatusId(), null);
+                addChange(changes, "assigneeId", payload.getAssigneeId(), null);
+                addChange(changes, "priorityId", payload.getPriorityId(), null);
+                addChange(changes, "parentId", payload.getParentId(), null);
+                addChange(changes, "timeOriginalEstimate", payload.getTimeOriginalEstimate(), null);
+            }
+            case EventConstants.WorkItem.EventType.WORK_ITEM_TRANSITIONED -> {
+                addChange(changes, "statusId", payload.getPreviousStatusId(), payload.getStatusId());
+                addChange(changes, "assigneeId", payload.getPreviousAssigneeId(), payload.getAssigneeId());
+                addChange(changes, "resolutionId", payload.getPreviousResolutionId(), payload.getResolutionId());
+            }
+            case EventConstants.WorkItem.EventType.WORK_ITEM_MOVED ->
+                    addChange(changes, "parentId", payload.getPreviousParentId(), payload.getParentId());
+            default -> {
+                // Other events carry no previous values
+            }
+        }
+        addRow(history, event, message.getMeta(), payload.getProjectId(), payload.getWorkItemId(), changes);
+    }
+
+    private void addBulkChanges(List<WorkItemHistoryEntity> history, OutboxEventEntity event,
+                                BaseKafkaMessage<WorkItemBulkEventPayload> message) {
+        WorkItemBulkEventPayload payload = message.getData();
+        if (payload.getItems() == null) {
+            return;
+        }
+        for (WorkItemBulkEventPayload.Item item : payload.getItems()) {
+            List<WorkItemHistoryEntity.FieldChange> changes = new ArrayList<>();
+            addChange(changes, "statusId", item.getPreviousStatusId(), item.getStatusId());
+            addChange(changes, "resolutionId", item.getPreviousResolutionId(), item.getResolutionId());
+            addChange(changes, "assigneeId", item.getPreviousAssigneeId(), item.getAssigneeId());
+            addChange(changes, "priorityId", item.getPreviousPriorityId(), item.getPriorityId());
+            addChange(changes, "dueDate", item.getPreviousDueDate(), item.getDueDate());
+            addRow(history, event, message.getMeta(), payload.getProjectId(), item.getWorkItemId(), changes);
+        }
+    }
+
+    private void addRow(List<WorkItemHistoryEntity> history, OutboxEventEntity event, BaseKafkaMessage.Meta meta,
+                        Long projectId, Long workItemId, List<WorkItemHistoryEntity.FieldChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        history.add(WorkItemHistoryEntity.builder()
+                .tenantId(event.getTenantId())
+                .projectId(projectId)
+                .workItemId(workItemId)
+                .outboxEventId(event.getId())
+                .eventType(event.getEventType())
+                .actorId(meta != null ? meta.getActorId() : null)
+                .changes(changes)
+                .occurredAt(event.getCreatedAt())
+                .build());
+    }
+
+    private static void addChange(List<WorkItemHistoryEntity.FieldChange> changes, String field,
+                                  Object from, Object to) {
+        if (!Objects.equals(from, to)) {
+            changes.add(new WorkItemHistoryEntity.FieldChange(field, from, to));
+        }
+    }
+}
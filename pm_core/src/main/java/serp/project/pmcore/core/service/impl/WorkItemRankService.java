@@ -0,0 +1,199 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.impl;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.exception.AppException;
+import serp.project.pmcore.core.exception.ErrorCode;
+import serp.project.pmcore.core.port.store.IWorkItemRankPort;
+import serp.project.pmcore.core.service.IWorkItemRankService;
+import serp.project.pmcore.kernel.property.RankProperties;
+import serp.project.pmcore.kernel.utils.LexorankUtils;
+
+/**
+ * Ranks work items within a project.
+ * <p>
+ * Moves and rebalances hold the project's rank lock exclusively, so two of them never compute ranks
+ * from the same neighbours. Creations only hold it shared: they never wait for each other, just for a
+ * running move or rebalance, so an append is never ranked from a bucket a rebalance is replacing.
+ * Concurrent appends may read the same last rank and get equal ranks; every ordering breaks rank ties
+ * by id, and a move next to a tie rewrites the project's ranks first. Ranks that grow past {@code app.rank.max-rank-length} queue the project for a background
+ * rebalance, which rewrites all of its ranks evenly spaced at the base width.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkItemRankService implements IWorkItemRankService {
+
+    private final IWorkItemRankPort workItemRankPort;
+    private final RankProperties rankProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Pair<Long, Long>> requestedRebalances = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String rankForNewItem(Long projectId, Long tenantId) {
+        workItemRankPort.lockProjectRanksShared(projectId, tenantId);
+        String rank = LexorankUtils.generateRankAfter(workItemRankPort.getLastRank(projectId, tenantId));
+        if (LexorankUtils.needsRebalance(rank, rankProperties.getMaxRankLength())) {
+            requestRebalance(projectId, tenantId);
+        }
+        return rank;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public List<String> moveWorkItems(Long projectId, List<Long> workItemIds, Long rankAfterId, Long rankBeforeId,
+            Long tenantId, Long userId) {
+        Long targetId = rankAfterId != null ? rankAfterId : rankBeforeId;
+        if (workItemIds.size() > rankProperties.getMaxMoveSize()
+                || new HashSet<>(workItemIds).size() != workItemIds.size()
+                || workItemIds.contains(targetId)) {
+            throw new AppException(ErrorCode.RANK_MOVE_INVALID);
+        }
+
+        workItemRankPort.lockProjectRanks(projectId, tenantId);
+        Pair<String, String> bounds = moveBounds(projectId, workItemIds, rankAfterId, rankBeforeId, tenantId);
+        if (!hasRoomBetween(bounds)) {
+            // Legacy or tied neighbours cannot be split; give the project fresh ranks first
+            rewriteRanks(projectId, tenantId);
+            bounds = moveBounds(projectId, workItemIds, rankAfterId, rankBeforeId, tenantId);
+        }
+
+        List<String> ranks = LexorankUtils.generateRanksBetween(bounds.getFirst(), bounds.getSecond(),
+                workItemIds.size());
+        Map<Long, String> updates = new LinkedHashMap<>();
+        for (int i = 0; i < workItemIds.size(); i++) {
+            updates.put(workItemIds.get(i), ranks.get(i));
+        }
+        int updated = workItemRankPort.updateRanks(projectId, tenantId, updates, userId);
+        if (updated != workItemIds.size()) {
+            throw new AppException(ErrorCode.WORK_ITEM_NOT_FOUND);
+        }
+
+        if (ranks.stream().anyMatch(rank -> LexorankUtils.needsRebalance(rank, rankProperties.getMaxRankLength()))) {
+            requestRebalance(projectId, tenantId);
+        }
+        log.info("Moved {} work items in project {} {} work item {}", workItemIds.size(), projectId,
+                rankAfterId != null ? "after" : "before", targetId);
+        return ranks;
+    }
+
+    @Override
+    public void requestRebalance(Long projectId, Long tenantId) {
+        if (requestedRebalances.add(Pair.of(tenantId, projectId))) {
+            log.info("Queued rank rebalance of project {} in tenant {}", projectId, tenantId);
+        }
+    }
+
+    @Override
+    public int rebalanceRequestedProjects() {
+        int rebalanced = 0;
+        for (Pair<Long, Long> project : List.copyOf(requestedRebalances)) {
+            requestedRebalances.remove(project);
+            if (rebalanceQuietly(project)) {
+                rebalanced++;
+            }
+        }
+        return rebalanced;
+    }
+
+    @Override
+    public int rebalanceLongRanks(int limit) {
+        int rebalanced = 0;
+        for (Pair<Long, Long> project : workItemRankPort.getProjectsToRebalance(rankProperties.getMaxRankLength(), limit)) {
+            if (rebalanceQuietly(project)) {
+                rebalanced++;
+            }
+        }
+        return rebalanced;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean rebalanceProject(Long projectId, Long tenantId) {
+        workItemRankPort.lockProjectRanks(projectId, tenantId);
+        // Another node may have rebalanced while this one waited for the lock
+        String lastRank = workItemRankPort.getLastRank(projectId, tenantId);
+        boolean legacy = lastRank != null && !LexorankUtils.isBucketed(lastRank);
+        if (!legacy && workItemRankPort.getMaxRankLength(projectId, tenantId) <= rankProperties.getMaxRankLength()) {
+            return false;
+        }
+        rewriteRanks(projectId, tenantId);
+        return true;
+    }
+
+    /**
+     * Rewrites every rank of the project into the next bucket; the caller holds the exclusive lock.
+     */
+    private void rewriteRanks(Long projectId, Long tenantId) {
+        String lastRank = workItemRankPort.getLastRank(projectId, tenantId);
+        List<Long> ids = workItemRankPort.getWorkItemIdsInRankOrder(projectId, tenantId);
+        List<String> ranks = LexorankUtils.generateRebalancedRanks(LexorankUtils.nextBucket(lastRank), ids.size());
+        int batchSize = Math.max(1, rankProperties.getRebalanceBatchSize());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, ids.size());
+            Map<Long, String> batch = new LinkedHashMap<>();
+            for (int i = from; i < to; i++) {
+                batch.put(ids.get(i), ranks.get(i));
+            }
+            workItemRankPort.updateRanks(projectId, tenantId, batch, null);
+        }
+        log.info("Rebalanced {} ranks of project {} in tenant {}", ids.size(), projectId, tenantId);
+    }
+
+    private boolean rebalanceQuietly(Pair<Long, Long> project) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> rebalanceProject(project.getSecond(), project.getFirst())));
+        } catch (Exception e) {
+            log.warn("Failed to rebalance ranks of project {} in tenant {}: {}",
+                    project.getSecond(), project.getFirst(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Ranks the moved items must fit between; null stands for the start or end of the project.
+     */
+    private Pair<String, String> moveBounds(Long projectId, List<Long> workItemIds, Long rankAfterId,
+            Long rankBeforeId, Long tenantId) {
+        Long targetId = rankAfterId != null ? rankAfterId : rankBeforeId;
+        String targetRank = workItemRankPort.getRank(targetId, projectId, tenantId);
+        if (targetRank == null) {
+            throw new AppException(ErrorCode.WORK_ITEM_NOT_FOUND);
+        }
+        if (rankAfterId != null) {
+            return Pair.of(targetRank,
+                    workItemRankPort.getNextRank(projectId, tenantId, targetRank, targetId, workItemIds));
+        }
+        return Pair.of(
+                workItemRankPort.getPreviousRank(projectId, tenantId, targetRank, targetId, workItemIds),
+                targetRank);
+    }
+
+    private boolean hasRoomBetween(Pair<String, String> bounds) {
+        String low = bounds.getFirst();
+        String high = bounds.getSecond();
+        if ((low != null && !LexorankUtils.isBucketed(low)) || (high != null && !LexorankUtils.isBucketed(high))) {
+            return false;
+        }
+        return low == null || high == null || low.compareTo(high) < 0;
+    }
+}
@@ -9,15 +9,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+import serp.project.pmcore.core.domain.dto.request.BulkUpdateWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.response.PageResult;
 import serp.project.pmcore.core.domain.entity.IssueTypeEntity;
 import serp.project.pmcore.core.domain.entity.WorkItemEntity;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
-import serp.project.pmcore.core.port.store.IIssueTypePort;
 import serp.project.pmcore.core.port.store.IProjectIssueCounterPort;
 import serp.project.pmcore.core.port.store.IWorkItemPort;
+import serp.project.pmcore.core.service.ISchemeMetadataService;
 import serp.project.pmcore.core.service.IWorkItemService;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -25,7 +33,7 @@ public class WorkItemService implements IWorkItemService {
 
     private final IWorkItemPort workItemPort;
     private final IProjectIssueCounterPort projectIssueCounterPort;
-    private final IIssueTypePort issueTypePort;
+    private final ISchemeMetadataService schemeMetadataService;
 
     @Override
     public WorkItemEntity createWorkItem(WorkItemEntity workItem, Long tenantId, Long userId) {
@@ -47,11 +55,70 @@ public class WorkItemService implements IWorkItemService {
                 .orElseThrow(() -> new AppException(ErrorCode.WORK_ITEM_NOT_FOUND));
     }
 
+    @Override
+    public List<WorkItemEntity> getWorkItemsByIds(Collection<Long> ids, Long tenantId) {
+        return workItemPort.getWorkItemsByIds(ids, tenantId);
+    }
+
+    @Override
+    public void updateParent(WorkItemEntity workItem, Long parentId, Long tenantId, Long userId) {
+        workItemPort.updateParentId(workItem.getId(), parentId, tenantId, userId);
+        workItem.setParentId(parentId);
+        workItem.setUpdatedAt(System.currentTimeMillis());
+        workItem.setUpdatedBy(userId);
+    }
+
+    @Override
+    public void deleteWorkItem(Long id, Long tenantId) {
+        workItemPort.deleteWorkItemById(id, tenantId);
+        log.info("Deleted work item id={}", id);
+    }
+
+    @Override
+    public Set<Long> saveTransitionedWorkItems(List<WorkItemEntity> workItems, Map<Long, Long> previousStatusIds,
+            Long tenantId, Long userId) {
+        Set<Long> updated = workItemPort.updateWorkflowFields(workItems, previousStatusIds, tenantId, userId);
+        long now = System.currentTimeMillis();
+        for (WorkItemEntity workItem : workItems) {
+            if (updated.contains(workItem.getId())) {
+                workItem.setUpdatedAt(now);
+                workItem.setUpdatedBy(userId);
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public Set<Long> updateWorkItemFields(List<Long> ids, BulkUpdateWorkItemsRequest changes, Long tenantId, Long userId) {
+        return workItemPort.updateFields(ids, changes, tenantId, userId);
+    }
+
+    @Override
+    public PageResult<WorkItemEntity> searchWorkItems(Long tenantId, WorkItemFilterRequest filter) {
+        PageResult<WorkItemEntity> result = workItemPort.searchWorkItems(tenantId, filter);
+        if (filter.isEnriched() && !result.getItems().isEmpty()) {
+            schemeMetadataService.getSchemeMetadata(tenantId).decorate(result.getItems());
+        }
+        return result;
+    }
+
     @Override
     public long getNextIssueNumber(Long projectId, Long tenantId) {
         return projectIssueCounterPort.getNextIssueNo(projectId, tenantId);
     }
 
+    @Override
+    public long reserveIssueNumbers(Long projectId, Long tenantId, int count) {
+        return projectIssueCounterPort.reserveIssueNos(projectId, tenantId, count);
+    }
+
+    @Override
+    public void validateAssignee(Long assigneeId, Long tenantId) {
+        if (assigneeId != null && assigneeId <= 0) {
+            throw new AppException(ErrorCode.USER_NOT_FOUND);
+        }
+    }
+
     @Override
     public void validateParentHierarchy(Long parentId, Long childIssueTypeId,
             Long projectId, Long tenantId) {
@@ -64,9 +131,11 @@ public class WorkItemService implements IWorkItemService {
             throw new AppException(ErrorCode.INVALID_PARENT_HIERARCHY);
         }
 
-        IssueTypeEntity parentIssueType = issueTypePort.getIssueTypeById(parent.getIssueTypeId(), tenantId)
+        IssueTypeEntity parentIssueType = schemeMetadataService
+                .lookup(tenantId, metadata -> metadata.getIssueType(parent.getIssueTypeId()))
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND));
-        IssueTypeEntity childIssueType = issueTypePort.getIssueTypeById(childIssueTypeId, tenantId)
+        IssueTypeEntity childIssueType = schemeMetadataService
+                .lookup(tenantId, metadata -> metadata.getIssueType(childIssueTypeId))
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND));
 
         if (childIssueType.getHierarchyLevel() >= parentIssueType.getHierarchyLevel()) {
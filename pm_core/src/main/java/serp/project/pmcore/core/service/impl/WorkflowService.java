@@ -5,27 +5,132 @@
 
 package serp.project.pmcore.core.service.impl;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.domain.entity.SchemeMetadataEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowEntity;
 import serp.project.pmcore.core.domain.entity.WorkflowStepEntity;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
-import serp.project.pmcore.core.port.store.IWorkflowStepPort;
+import serp.project.pmcore.core.service.ISchemeMetadataService;
 import serp.project.pmcore.core.service.IWorkflowService;
+import serp.project.pmcore.core.service.workflow.CompiledTransition;
+import serp.project.pmcore.core.service.workflow.CompiledWorkflow;
+import serp.project.pmcore.core.service.workflow.WorkflowCompiler;
+import serp.project.pmcore.kernel.property.SchemeMetadataProperties;
 
+/**
+ * Runs transitions on compiled workflow graphs.
+ * <p>
+ * A graph is compiled against one tenant's metadata snapshot, so graphs are cached per tenant,
+ * workflow and workflow version; tenants sharing a workflow each keep their own entry instead of
+ * evicting each other's. An entry is reused while the tenant's snapshot is the one it was compiled
+ * from, and the cache holds at most {@code app.scheme-metadata.max-compiled-workflows} graphs.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WorkflowService implements IWorkflowService {
 
-    private final IWorkflowStepPort workflowStepPort;
+    private final ISchemeMetadataService schemeMetadataService;
+    private final WorkflowCompiler workflowCompiler;
+    private final SchemeMetadataProperties properties;
+
+    private final Map<CompiledWorkflowKey, CachedWorkflow> compiledWorkflows = new ConcurrentHashMap<>();
 
     @Override
     public WorkflowStepEntity getInitialWorkflowStep(Long workflowId, Long tenantId) {
-        return workflowStepPort.getInitialStep(workflowId, tenantId)
+        return schemeMetadataService.lookup(tenantId, metadata -> metadata.getInitialStep(workflowId))
                 .orElseThrow(() -> new AppException(ErrorCode.WORKFLOW_STEP_NOT_FOUND));
     }
 
+    @Override
+    public CompiledWorkflow getCompiledWorkflow(Long workflowId, Long tenantId) {
+        SchemeMetadataEntity metadata = schemeMetadataService.getSchemeMetadata(tenantId);
+        if (metadata.getWorkflow(workflowId).isEmpty()
+                && schemeMetadataService.lookup(tenantId, m -> m.getWorkflow(workflowId)).isPresent()) {
+            // The miss reloaded the snapshot
+            metadata = schemeMetadataService.getSchemeMetadata(tenantId);
+        }
+        WorkflowEntity workflow = metadata.getWorkflow(workflowId)
+                .orElseThrow(() -> new AppException(ErrorCode.WORKFLOW_NOT_FOUND));
+
+        var key = new CompiledWorkflowKey(tenantId, workflowId, workflow.getVersionNo());
+        CachedWorkflow cached = compiledWorkflows.get(key);
+        if (cached != null && cached.compiled.isCompiledFrom(workflow)) {
+            cached.usedAt = System.currentTimeMillis();
+            return cached.compiled;
+        }
+        CompiledWorkflow recompiled = workflowCompiler.compile(workflow, metadata);
+        compiledWorkflows.put(key, new CachedWorkflow(recompiled));
+        trimToMaxCompiledWorkflows();
+        return recompiled;
+    }
+
+    @Override
+    public List<CompiledTransition> getAvailableTransitions(Long workflowId, WorkItemEntity workItem,
+            Long actorId, Long tenantId) {
+        return getCompiledWorkflow(workflowId, tenantId).getAvailableTransitions(workItem, actorId);
+    }
+
+    @Override
+    public CompiledTransition applyTransition(Long workflowId, WorkItemEntity workItem, Long transitionId,
+            Long actorId, Long tenantId) {
+        CompiledTransition transition = getCompiledWorkflow(workflowId, tenantId)
+                .getTransition(workItem.getStatusId(), transitionId)
+                .filter(candidate -> candidate.isAvailable(workItem, actorId))
+                .orElseThrow(() -> new AppException(ErrorCode.TRANSITION_NOT_ALLOWED));
+        return apply(transition, workItem, actorId);
+    }
+
+    @Override
+    public CompiledTransition applyTransitionTo(Long workflowId, WorkItemEntity workItem, Long toStatusId,
+            Long actorId, Long tenantId) {
+        CompiledTransition transition = getCompiledWorkflow(workflowId, tenantId)
+                .findTransitionTo(workItem, toStatusId, actorId)
+                .orElseThrow(() -> new AppException(ErrorCode.TRANSITION_NOT_ALLOWED));
+        return apply(transition, workItem, actorId);
+    }
+
+    private CompiledTransition apply(CompiledTransition transition, WorkItemEntity workItem, Long actorId) {
+        if (!transition.isValid(workItem, actorId)) {
+            throw new AppException(ErrorCode.TRANSITION_VALIDATION_FAILED);
+        }
+        transition.apply(workItem, actorId);
+        return transition;
+    }
+
+    private void trimToMaxCompiledWorkflows() {
+        int excess = compiledWorkflows.size() - Math.max(1, properties.getMaxCompiledWorkflows());
+        if (excess <= 0) {
+            return;
+        }
+        compiledWorkflows.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().usedAt))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(compiledWorkflows::remove);
+    }
+
+    private record CompiledWorkflowKey(Long tenantId, Long workflowId, Integer versionNo) {
+    }
+
+    private static final class CachedWorkflow {
+        private final CompiledWorkflow compiled;
+        private volatile long usedAt;
+
+        private CachedWorkflow(CompiledWorkflow compiled) {
+            this.compiled = compiled;
+            this.usedAt = System.currentTimeMillis();
+        }
+    }
 }
@@ -0,0 +1,46 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.messaging.handler;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.domain.constant.EventConstants;
+import serp.project.pmcore.core.domain.dto.message.KafkaEventContext;
+import serp.project.pmcore.core.service.ISchemeMetadataService;
+import serp.project.pmcore.core.service.messaging.strategy.IKafkaEventHandlerStrategy;
+
+/**
+ * Drops the local scheme metadata copy of a tenant as soon as a change event arrives, ahead of
+ * the periodic version check. Only consumed when the metadata topic is in
+ * {@code app.kafka.consumer.topics}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemeMetadataChangedHandler implements IKafkaEventHandlerStrategy {
+
+    private final ISchemeMetadataService schemeMetadataService;
+
+    @Override
+    public Set<String> getEventTypes() {
+        return Set.of(EventConstants.SchemeMetadata.EventType.SCHEME_METADATA_CHANGED);
+    }
+
+    @Override
+    public void handle(JsonNode message, KafkaEventContext context) {
+        if (context.tenantId() == null) {
+            log.warn("Scheme metadata change event {} has no tenant, ignoring", context.eventId());
+            return;
+        }
+        schemeMetadataService.evictLocal(context.tenantId());
+    }
+}
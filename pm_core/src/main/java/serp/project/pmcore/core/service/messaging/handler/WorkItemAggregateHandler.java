@@ -0,0 +1,124 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.messaging.handler;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.domain.constant.EventConstants;
+import serp.project.pmcore.core.domain.dto.message.KafkaEventContext;
+import serp.project.pmcore.core.domain.dto.message.WorkItemBulkEventPayload;
+import serp.project.pmcore.core.domain.dto.message.WorkItemEventPayload;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity;
+import serp.project.pmcore.core.service.IWorkItemAggregateService;
+import serp.project.pmcore.core.service.messaging.strategy.IKafkaEventHandlerStrategy;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+/**
+ * Keeps the per-project work item aggregates current from the work item outbox events. Every
+ * event carries each changed item's grouped fields before and after the change, so creations,
+ * deletions, updates, moves, transitions and bulk updates are all applied as deltas. A previous
+ * field missing from an older event is taken to be unchanged. Events are keyed by project, so a
+ * project's events arrive in order. Only consumed when the work item topic is in
+ * {@code app.kafka.consumer.topics}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkItemAggregateHandler implements IKafkaEventHandlerStrategy {
+
+    private final IWorkItemAggregateService workItemAggregateService;
+    private final JsonUtils jsonUtils;
+
+    @Override
+    public Set<String> getEventTypes() {
+        return Set.of(
+                EventConstants.WorkItem.EventType.WORK_ITEM_CREATED,
+                EventConstants.WorkItem.EventType.WORK_ITEM_UPDATED,
+                EventConstants.WorkItem.EventType.WORK_ITEM_DELETED,
+                EventConstants.WorkItem.EventType.WORK_ITEM_MOVED,
+                EventConstants.WorkItem.EventType.WORK_ITEM_TRANSITIONED,
+                EventConstants.WorkItem.EventType.WORK_ITEMS_BULK_UPDATED);
+    }
+
+    @Override
+    public void handle(JsonNode message, KafkaEventContext context) {
+        if (context.tenantId() == null) {
+            log.warn("Work item event {} has no tenant, ignoring", context.eventId());
+            return;
+        }
+        JsonNode data = message.path("data");
+        switch (context.eventType()) {
+            case EventConstants.WorkItem.EventType.WORK_ITEM_CREATED -> {
+                WorkItemEventPayload payload = jsonUtils.fromJson(data.toString(), WorkItemEventPayload.class);
+                workItemAggregateService.applyChange(context.tenantId(), payload.getProjectId(),
+                        null, current(payload));
+            }
+            case EventConstants.WorkItem.EventType.WORK_ITEM_DELETED -> {
+                WorkItemEventPayload payload = jsonUtils.fromJson(data.toString(), WorkItemEventPayload.class);
+                workItemAggregateService.applyChange(context.tenantId(), payload.getProjectId(),
+                        current(payload), null);
+            }
+            case EventConstants.WorkItem.EventType.WORK_ITEMS_BULK_UPDATED -> {
+                WorkItemBulkEventPayload payload = jsonUtils.fromJson(data.toString(), WorkItemBulkEventPayload.class);
+                if (payload.getItems() == null) {
+                    log.warn("Bulk work item event {} has no items, ignoring", context.eventId());
+                    return;
+                }
+                workItemAggregateService.applyChanges(context.tenantId(), payload.getProjectId(),
+                        payload.getItems().stream().map(WorkItemAggregateHandler::change).toList());
+            }
+            default -> {
+                WorkItemEventPayload payload = jsonUtils.fromJson(data.toString(), WorkItemEventPayload.class);
+                workItemAggregateService.applyChange(context.tenantId(), payload.getProjectId(),
+                        previous(data, payload), current(payload));
+            }
+        }
+    }
+
+    private WorkItemAggregateEntity.Facets current(WorkItemEventPayload payload) {
+        return new WorkItemAggregateEntity.Facets(payload.getStatusId(), payload.getAssigneeId(),
+                payload.getPriorityId(), payload.getIssueTypeId(), orZero(payload.getTimeOriginalEstimate()));
+    }
+
+    private WorkItemAggregateEntity.Facets previous(JsonNode data, WorkItemEventPayload payload) {
+        return new WorkItemAggregateEntity.Facets(
+                previousOr(data, "previousStatusId", payload.getStatusId()),
+                previousOr(data, "previousAssigneeId", payload.getAssigneeId()),
+                previousOr(data, "previousPriorityId", payload.getPriorityId()),
+                previousOr(data, "previousIssueTypeId", payload.getIssueTypeId()),
+                orZero(previousOr(data, "previousTimeOriginalEstimate", payload.getTimeOriginalEstimate())));
+    }
+
+    private static WorkItemAggregateEntity.Change change(WorkItemBulkEventPayload.Item item) {
+        long estimate = orZero(item.getTimeOriginalEstimate());
+        return new WorkItemAggregateEntity.Change(
+                new WorkItemAggregateEntity.Facets(item.getPreviousStatusId(), item.getPreviousAssigneeId(),
+                        item.getPreviousPriorityId(), item.getIssueTypeId(), estimate),
+                new WorkItemAggregateEntity.Facets(item.getStatusId(), item.getAssigneeId(),
+                        item.getPriorityId(), item.getIssueTypeId(), estimate));
+    }
+
+    /**
+     * The previous value of a field, or its current value when the event predates the field
+     */
+    private static Long previousOr(JsonNode data, String field, Long current) {
+        JsonNode value = data.get(field);
+        if (value == null) {
+            return current;
+        }
+        return value.isNull() ? null : value.asLong();
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
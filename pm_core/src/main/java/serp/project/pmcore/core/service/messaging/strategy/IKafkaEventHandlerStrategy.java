@@ -5,12 +5,17 @@
 
 package serp.project.pmcore.core.service.messaging.strategy;
 
+import java.util.Set;
+
 import com.fasterxml.jackson.databind.JsonNode;
 
 import serp.project.pmcore.core.domain.dto.message.KafkaEventContext;
 
 public interface IKafkaEventHandlerStrategy {
-    String getEventType();
+    /**
+     * Event types this strategy handles; each type may be claimed by one strategy only
+     */
+    Set<String> getEventTypes();
 
     void handle(JsonNode message, KafkaEventContext context);
 }
@@ -34,18 +34,21 @@ public class KafkaEventHandlerStrategyRegistry {
     public void init() {
         Map<String, IKafkaEventHandlerStrategy> map = new LinkedHashMap<>();
         for (IKafkaEventHandlerStrategy strategy : strategies) {
-            String normalizedEventType = normalize(strategy.getEventType());
-            if (normalizedEventType == null) {
-                throw new IllegalStateException("Kafka strategy event type must not be blank");
-            }
-            IKafkaEventHandlerStrategy previous = map.putIfAbsent(normalizedEventType, strategy);
-            if (previous != null) {
-                throw new IllegalStateException(
-                        "Duplicated Kafka strategy for event type: " + normalizedEventType);
+            for (String eventType : strategy.getEventTypes()) {
+                String normalizedEventType = normalize(eventType);
+                if (normalizedEventType == null) {
+                    throw new IllegalStateException("Kafka strategy event type must not be blank");
+                }
+                IKafkaEventHandlerStrategy previous = map.putIfAbsent(normalizedEventType, strategy);
+                if (previous != null) {
+                    throw new IllegalStateException(
+                            "Duplicated Kafka strategy for event type: " + normalizedEventType);
+                }
             }
         }
         this.strategyMap = Collections.unmodifiableMap(map);
-        log.info("Kafka strategy registry initialized with {} strategies", this.strategyMap.size());
+        log.info("Kafka strategy registry initialized with {} strategies for {} event types",
+                strategies.size(), this.strategyMap.size());
     }
 
     public Optional<IKafkaEventHandlerStrategy> findByEventType(String eventType) {
@@ -0,0 +1,71 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.workflow;
+
+import java.util.List;
+
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+
+/**
+ * A workflow transition with its steps resolved to indexes and its rules parsed into callables.
+ *
+ * @param fromStep index of the source step, or {@link CompiledWorkflow#ANY_STEP} for a global
+ *                 transition that is available from every other step
+ */
+public record CompiledTransition(
+        Long id,
+        String name,
+        int fromStep,
+        int toStep,
+        Long toStatusId,
+        String toStatusName,
+        List<Check> conditions,
+        List<Check> validators,
+        List<Action> postFunctions) {
+
+    /**
+     * Whether the transition is offered for the work item to the user
+     */
+    public boolean isAvailable(WorkItemEntity workItem, Long actorId) {
+        return passes(conditions, workItem, actorId);
+    }
+
+    /**
+     * Whether the work item satisfies the transition's validators
+     */
+    public boolean isValid(WorkItemEntity workItem, Long actorId) {
+        return passes(validators, workItem, actorId);
+    }
+
+    /**
+     * Moves the work item to the target status and runs the post functions on it
+     */
+    public void apply(WorkItemEntity workItem, Long actorId) {
+        workItem.setStatusId(toStatusId);
+        for (Action action : postFunctions) {
+            action.apply(workItem, actorId);
+        }
+    }
+
+    private static boolean passes(List<Check> checks, WorkItemEntity workItem, Long actorId) {
+        for (Check check : checks) {
+            if (!check.test(workItem, actorId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    public interface Check {
+        boolean test(WorkItemEntity workItem, Long actorId);
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void apply(WorkItemEntity workItem, Long actorId);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.workflow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.Getter;
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowEntity;
+
+/**
+ * Immutable graph of a workflow built by {@link WorkflowCompiler}.
+ * <p>
+ * Steps are numbered by sequence and a work item's status maps to its step with one hash lookup.
+ * Each step holds the indexes of the transitions leaving it, global transitions included, in
+ * transition sequence order, so the transitions of an item are read straight from its step.
+ */
+public final class CompiledWorkflow {
+    public static final int ANY_STEP = -1;
+
+    @Getter
+    private final Long workflowId;
+    @Getter
+    private final Integer versionNo;
+    private final WorkflowEntity source;
+
+    private final Map<Long, Integer> stepByStatus;
+    private final CompiledTransition[] transitions;
+    private final int[][] outgoing;
+    private final Map<Long, Integer> transitionById;
+
+    CompiledWorkflow(WorkflowEntity source,
+                     Map<Long, Integer> stepByStatus,
+                     CompiledTransition[] transitions,
+                     int[][] outgoing,
+                     Map<Long, Integer> transitionById) {
+        this.workflowId = source.getId();
+        this.versionNo = source.getVersionNo();
+        this.source = source;
+        this.stepByStatus = stepByStatus;
+        this.transitions = transitions;
+        this.outgoing = outgoing;
+        this.transitionById = transitionById;
+    }
+
+    /**
+     * Whether this graph was compiled from the given workflow, in the same version and from the
+     * same metadata snapshot.
+     */
+    public boolean isCompiledFrom(WorkflowEntity workflow) {
+        return source == workflow && versionNo.equals(workflow.getVersionNo());
+    }
+
+    public boolean hasStatus(Long statusId) {
+        return stepByStatus.containsKey(statusId);
+    }
+
+    /**
+     * Transitions leaving the work item's status whose conditions pass for the user, in sequence
+     * order.
+     */
+    public List<CompiledTransition> getAvailableTransitions(WorkItemEntity workItem, Long actorId) {
+        Integer step = stepByStatus.get(workItem.getStatusId());
+        if (step == null) {
+            return Collections.emptyList();
+        }
+        List<CompiledTransition> available = new ArrayList<>(outgoing[step].length);
+        for (int index : outgoing[step]) {
+            CompiledTransition transition = transitions[index];
+            if (transition.isAvailable(workItem, actorId)) {
+                available.add(transition);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * The transition with the given id if it leaves the given status
+     */
+    public Optional<CompiledTransition> getTransition(Long fromStatusId, Long transitionId) {
+        Integer step = stepByStatus.get(fromStatusId);
+        Integer index = transitionById.get(transitionId);
+        if (step == null || index == null) {
+            return Optional.empty();
+        }
+        CompiledTransition transition = transitions[index];
+        boolean leavesStep = transition.fromStep() == step
+                || (transition.fromStep() == ANY_STEP && transition.toStep() != step);
+        return leavesStep ? Optional.of(transition) : Optional.empty();
+    }
+
+    /**
+     * First transition in sequence order that leads from the work item's status to the target
+     * status and whose conditions pass for the user.
+     */
+    public Optional<CompiledTransition> findTransitionTo(WorkItemEntity workItem, Long toStatusId, Long actorId) {
+        Integer step = stepByStatus.get(workItem.getStatusId());
+        Integer target = stepByStatus.get(toStatusId);
+        if (step == null || target == null) {
+            return Optional.empty();
+        }
+        for (int index : outgoing[step]) {
+            CompiledTransition transition = transitions[index];
+            if (transition.toStep() == target && transition.isAvailable(workItem, actorId)) {
+                return Optional.of(transition);
+            }
+        }
+        return Optional.empty();
+    }
+}
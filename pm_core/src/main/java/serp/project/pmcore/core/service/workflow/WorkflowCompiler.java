@@ -0,0 +1,224 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.workflow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.domain.entity.SchemeMetadataEntity;
+import serp.project.pmcore.core.domain.entity.StatusEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowStepEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowTransitionEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowTransitionRuleEntity;
+import serp.project.pmcore.core.domain.enums.TransitionRuleStage;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+/**
+ * Compiles a workflow of a scheme metadata snapshot into a {@link CompiledWorkflow}.
+ * <p>
+ * Rule configs are parsed once here. Supported rules:
+ * <ul>
+ *     <li>conditions and validators: {@code ONLY_ASSIGNEE}, {@code ONLY_REPORTER},
+ *     {@code USER_IN_LIST} ({@code {"userIds": [..]}}), {@code FIELD_REQUIRED}
+ *     ({@code {"fields": ["assigneeId", ..]}})</li>
+ *     <li>post functions: {@code ASSIGN_TO_CURRENT_USER}, {@code ASSIGN_TO_REPORTER},
+ *     {@code UNASSIGN}, {@code SET_RESOLUTION} ({@code {"resolutionId": ..}}),
+ *     {@code CLEAR_RESOLUTION}</li>
+ * </ul>
+ * A condition or validator that is unknown or badly configured never passes, so a broken rule
+ * closes its transition instead of silently opening it; such post functions are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowCompiler {
+    public static final String ONLY_ASSIGNEE = "ONLY_ASSIGNEE";
+    public static final String ONLY_REPORTER = "ONLY_REPORTER";
+    public static final String USER_IN_LIST = "USER_IN_LIST";
+    public static final String FIELD_REQUIRED = "FIELD_REQUIRED";
+    public static final String ASSIGN_TO_CURRENT_USER = "ASSIGN_TO_CURRENT_USER";
+    public static final String ASSIGN_TO_REPORTER = "ASSIGN_TO_REPORTER";
+    public static final String UNASSIGN = "UNASSIGN";
+    public static final String SET_RESOLUTION = "SET_RESOLUTION";
+    public static final String CLEAR_RESOLUTION = "CLEAR_RESOLUTION";
+
+    private static final Map<String, Function<WorkItemEntity, Object>> REQUIRABLE_FIELDS = Map.of(
+            "assigneeId", WorkItemEntity::getAssigneeId,
+            "resolutionId", WorkItemEntity::getResolutionId,
+            "parentId", WorkItemEntity::getParentId,
+            "dueDate", WorkItemEntity::getDueDate,
+            "timeOriginalEstimate", WorkItemEntity::getTimeOriginalEstimate,
+            "description", workItem -> workItem.getDescription() == null || workItem.getDescription().isBlank()
+                    ? null : workItem.getDescription());
+
+    private static final CompiledTransition.Check NEVER = (workItem, actorId) -> false;
+
+    private final JsonUtils jsonUtils;
+
+    public CompiledWorkflow compile(WorkflowEntity workflow, SchemeMetadataEntity metadata) {
+        List<WorkflowStepEntity> steps = new ArrayList<>(workflow.getSteps() == null ? List.of() : workflow.getSteps());
+        steps.sort(Comparator.comparing(WorkflowStepEntity::getSequence, Comparator.nullsLast(Comparator.naturalOrder())));
+        Map<Long, Integer> stepByStatus = new HashMap<>();
+        for (WorkflowStepEntity step : steps) {
+            stepByStatus.putIfAbsent(step.getStatusId(), stepByStatus.size());
+        }
+
+        List<CompiledTransition> transitions = new ArrayList<>();
+        for (WorkflowTransitionEntity transition : workflow.getTransitions() == null
+                ? List.<WorkflowTransitionEntity>of() : workflow.getTransitions()) {
+            Integer toStep = stepByStatus.get(transition.getToStatusId());
+            Integer fromStep = transition.getFromStatusId() == null
+                    ? Integer.valueOf(CompiledWorkflow.ANY_STEP)
+                    : stepByStatus.get(transition.getFromStatusId());
+            if (toStep == null || fromStep == null) {
+                log.warn("Skipping transition {} of workflow {}: status is not a step of the workflow",
+                        transition.getId(), workflow.getId());
+                continue;
+            }
+            transitions.add(compileTransition(transition, fromStep, toStep, metadata));
+        }
+
+        int stepCount = stepByStatus.size();
+        List<List<Integer>> outgoing = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            outgoing.add(new ArrayList<>());
+        }
+        Map<Long, Integer> transitionById = new HashMap<>();
+        for (int index = 0; index < transitions.size(); index++) {
+            CompiledTransition transition = transitions.get(index);
+            transitionById.put(transition.id(), index);
+            for (int step = 0; step < stepCount; step++) {
+                boolean leaves = transition.fromStep() == CompiledWorkflow.ANY_STEP
+                        ? transition.toStep() != step
+                        : transition.fromStep() == step;
+                if (leaves) {
+                    outgoing.get(step).add(index);
+                }
+            }
+        }
+
+        int[][] adjacency = new int[stepCount][];
+        for (int step = 0; step < stepCount; step++) {
+            adjacency[step] = outgoing.get(step).stream().mapToInt(Integer::intValue).toArray();
+        }
+        log.debug("Compiled workflow {} v{}: {} steps, {} transitions",
+                workflow.getId(), workflow.getVersionNo(), stepCount, transitions.size());
+        return new CompiledWorkflow(workflow, Map.copyOf(stepByStatus),
+                transitions.toArray(new CompiledTransition[0]), adjacency, Map.copyOf(transitionById));
+    }
+
+    private CompiledTransition compileTransition(WorkflowTransitionEntity transition, int fromStep, int toStep,
+                                                 SchemeMetadataEntity metadata) {
+        List<CompiledTransition.Check> conditions = new ArrayList<>();
+        List<CompiledTransition.Check> validators = new ArrayList<>();
+        List<CompiledTransition.Action> postFunctions = new ArrayList<>();
+        List<WorkflowTransitionRuleEntity> rules = new ArrayList<>(
+                transition.getRules() == null ? List.of() : transition.getRules());
+        rules.sort(Comparator.comparing(WorkflowTransitionRuleEntity::getSequence,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
+        for (WorkflowTransitionRuleEntity rule : rules) {
+            if (Boolean.FALSE.equals(rule.getIsEnabled()) || rule.getRuleStage() == null) {
+                continue;
+            }
+            if (rule.getRuleStage() == TransitionRuleStage.POST_FUNCTION) {
+                CompiledTransition.Action action = compileAction(rule);
+                if (action != null) {
+                    postFunctions.add(action);
+                }
+            } else {
+                CompiledTransition.Check check = compileCheck(rule);
+                (rule.getRuleStage() == TransitionRuleStage.CONDITION ? conditions : validators).add(check);
+            }
+        }
+
+        String toStatusName = metadata.getStatus(transition.getToStatusId())
+                .map(StatusEntity::getName)
+                .orElse(null);
+        return new CompiledTransition(transition.getId(), transition.getName(), fromStep, toStep,
+                transition.getToStatusId(), toStatusName,
+                List.copyOf(conditions), List.copyOf(validators), List.copyOf(postFunctions));
+    }
+
+    private CompiledTransition.Check compileCheck(WorkflowTransitionRuleEntity rule) {
+        try {
+            JsonNode config = parseConfig(rule);
+            return switch (rule.getRuleKey()) {
+                case ONLY_ASSIGNEE -> (workItem, actorId) -> actorId != null && actorId.equals(workItem.getAssigneeId());
+                case ONLY_REPORTER -> (workItem, actorId) -> actorId != null && actorId.equals(workItem.getReporterId());
+                case USER_IN_LIST -> {
+                    Set<Long> userIds = new HashSet<>();
+                    config.path("userIds").forEach(userId -> userIds.add(userId.asLong()));
+                    Set<Long> allowed = Set.copyOf(userIds);
+                    yield (workItem, actorId) -> actorId != null && allowed.contains(actorId);
+                }
+                case FIELD_REQUIRED -> {
+                    List<Function<WorkItemEntity, Object>> fields = new ArrayList<>();
+                    for (JsonNode field : config.path("fields")) {
+                        Function<WorkItemEntity, Object> getter = REQUIRABLE_FIELDS.get(field.asText());
+                        if (getter == null) {
+                            throw new IllegalArgumentException("Unknown field " + field.asText());
+                        }
+                        fields.add(getter);
+                    }
+                    List<Function<WorkItemEntity, Object>> required = List.copyOf(fields);
+                    yield (workItem, actorId) -> required.stream().allMatch(getter -> getter.apply(workItem) != null);
+                }
+                default -> throw new IllegalArgumentException("Unknown rule key");
+            };
+        } catch (Exception e) {
+            log.warn("Transition rule {} ({}) of transition {} cannot be compiled and will not pass: {}",
+                    rule.getId(), rule.getRuleKey(), rule.getTransitionId(), e.getMessage());
+            return NEVER;
+        }
+    }
+
+    private CompiledTransition.Action compileAction(WorkflowTransitionRuleEntity rule) {
+        try {
+            JsonNode config = parseConfig(rule);
+            return switch (rule.getRuleKey()) {
+                case ASSIGN_TO_CURRENT_USER -> (workItem, actorId) -> workItem.setAssigneeId(actorId);
+                case ASSIGN_TO_REPORTER -> (workItem, actorId) -> workItem.setAssigneeId(workItem.getReporterId());
+                case UNASSIGN -> (workItem, actorId) -> workItem.setAssigneeId(null);
+                case SET_RESOLUTION -> {
+                    JsonNode resolutionId = config.path("resolutionId");
+                    if (!resolutionId.canConvertToLong()) {
+                        throw new IllegalArgumentException("resolutionId is required");
+                    }
+                    long resolution = resolutionId.asLong();
+                    yield (workItem, actorId) -> workItem.setResolutionId(resolution);
+                }
+                case CLEAR_RESOLUTION -> (workItem, actorId) -> workItem.setResolutionId(null);
+                default -> throw new IllegalArgumentException("Unknown rule key");
+            };
+        } catch (Exception e) {
+            log.warn("Post function {} ({}) of transition {} cannot be compiled and is skipped: {}",
+                    rule.getId(), rule.getRuleKey(), rule.getTransitionId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private JsonNode parseConfig(WorkflowTransitionRuleEntity rule) {
+        if (rule.getConfigJson() == null || rule.getConfigJson().isBlank()) {
+            return jsonUtils.fromJson("{}", JsonNode.class);
+        }
+        return jsonUtils.fromJson(rule.getConfigJson(), JsonNode.class);
+    }
+}
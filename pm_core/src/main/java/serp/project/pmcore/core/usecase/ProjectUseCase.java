@@ -16,11 +16,13 @@ import serp.project.pmcore.core.domain.constant.EventConstants;
 import serp.project.pmcore.core.domain.dto.message.BaseKafkaMessage;
 import serp.project.pmcore.core.domain.dto.message.ProjectEventPayload;
 import serp.project.pmcore.core.domain.dto.request.CreateProjectRequest;
+import serp.project.pmcore.core.domain.dto.request.CustomizeProjectSchemeRequest;
 import serp.project.pmcore.core.domain.dto.request.GetProjectParams;
 import serp.project.pmcore.core.domain.dto.request.UpdateProjectRequest;
 import serp.project.pmcore.core.domain.dto.response.ProjectResponse;
 import serp.project.pmcore.core.domain.entity.OutboxEventEntity;
 import serp.project.pmcore.core.domain.entity.ProjectEntity;
+import serp.project.pmcore.core.domain.enums.SchemeType;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
 import serp.project.pmcore.core.service.IOutboxEventService;
@@ -148,6 +150,23 @@ public class ProjectUseCase {
         return toResponse(unarchived);
     }
 
+    @Transactional(rollbackFor = Exception.class)
+    public ProjectResponse customizeProjectScheme(Long id, SchemeType schemeType,
+            CustomizeProjectSchemeRequest request, Long tenantId, Long userId) {
+        ProjectEntity project = projectService.getProjectById(id, tenantId);
+        if (Boolean.TRUE.equals(project.getIsArchived())) {
+            throw new AppException(ErrorCode.PROJECT_ARCHIVED);
+        }
+
+        if (schemeProvisioningService.customizeScheme(project, schemeType, request, tenantId, userId)) {
+            project = projectService.saveProject(project, userId);
+        }
+
+        publishProjectEvent(EventConstants.Project.EventType.PROJECT_UPDATED, project, tenantId, userId);
+
+        return toResponse(project);
+    }
+
     private Map<String, Long> buildSchemeOverrides(CreateProjectRequest request) {
         Map<String, Long> overrides = new HashMap<>();
         if (request.getIssueTypeSchemeId() != null) {
@@ -5,31 +5,68 @@
 
 package serp.project.pmcore.core.usecase;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import serp.project.pmcore.core.domain.constant.EventConstants;
+import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
 import serp.project.pmcore.core.domain.dto.message.BaseKafkaMessage;
+import serp.project.pmcore.core.domain.dto.message.WorkItemBulkEventPayload;
 import serp.project.pmcore.core.domain.dto.message.WorkItemEventPayload;
+import serp.project.pmcore.core.domain.dto.request.BulkUpdateWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.request.ChangeParentRequest;
 import serp.project.pmcore.core.domain.dto.request.CreateWorkItemRequest;
+import serp.project.pmcore.core.domain.dto.request.RankWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.request.TransitionWorkItemRequest;
+import serp.project.pmcore.core.domain.dto.response.BulkOperationResponse;
+import serp.project.pmcore.core.domain.dto.response.PageResult;
+import serp.project.pmcore.core.domain.dto.response.WorkItemAggregateResponse;
+import serp.project.pmcore.core.domain.dto.response.WorkItemHistoryResponse;
 import serp.project.pmcore.core.domain.dto.response.WorkItemResponse;
+import serp.project.pmcore.core.domain.dto.response.WorkItemRollupResponse;
+import serp.project.pmcore.core.domain.dto.response.WorkflowTransitionResponse;
 import serp.project.pmcore.core.domain.entity.OutboxEventEntity;
 import serp.project.pmcore.core.domain.entity.ProjectEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity;
 import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemHistoryEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemRollupEntity;
 import serp.project.pmcore.core.domain.entity.WorkflowStepEntity;
+import serp.project.pmcore.core.domain.enums.WorkItemAggregateDimension;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
 import serp.project.pmcore.core.service.IIssueTypeSchemeService;
 import serp.project.pmcore.core.service.IOutboxEventService;
 import serp.project.pmcore.core.service.IPrioritySchemeService;
 import serp.project.pmcore.core.service.IProjectService;
+import serp.project.pmcore.core.service.IWorkItemAggregateService;
+import serp.project.pmcore.core.service.IWorkItemHierarchyService;
+import serp.project.pmcore.core.service.IWorkItemHistoryService;
+import serp.project.pmcore.core.service.IWorkItemRankService;
 import serp.project.pmcore.core.service.IWorkItemService;
 import serp.project.pmcore.core.service.IWorkflowSchemeService;
 import serp.project.pmcore.core.service.IWorkflowService;
+import serp.project.pmcore.core.service.workflow.CompiledTransition;
+import serp.project.pmcore.kernel.property.BulkOperationProperties;
 import serp.project.pmcore.kernel.utils.JsonUtils;
-import serp.project.pmcore.kernel.utils.LexorankUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -43,8 +80,14 @@ public class WorkItemUseCase {
     private final IPrioritySchemeService prioritySchemeService;
     private final IWorkflowService workflowService;
     private final IOutboxEventService outboxEventService;
+    private final IWorkItemRankService workItemRankService;
+    private final IWorkItemHierarchyService workItemHierarchyService;
+    private final IWorkItemAggregateService workItemAggregateService;
+    private final IWorkItemHistoryService workItemHistoryService;
 
+    private final BulkOperationProperties bulkOperationProperties;
     private final JsonUtils jsonUtils;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(rollbackFor = Exception.class)
     public WorkItemResponse createWorkItem(CreateWorkItemRequest request, Long tenantId, Long userId) {
@@ -71,6 +114,7 @@ public class WorkItemUseCase {
             priorityId = prioritySchemeService.resolvePriorityId(project.getPrioritySchemeId(), tenantId);
         }
 
+        workItemService.validateAssignee(request.getAssigneeId(), tenantId);
         workItemService.validateParentHierarchy(
                 request.getParentId(),
                 request.getIssueTypeId(),
@@ -79,7 +123,7 @@ public class WorkItemUseCase {
 
         Long issueNo = workItemService.getNextIssueNumber(request.getProjectId(), tenantId);
         String key = project.getKey() + "-" + issueNo;
-        String rank = LexorankUtils.generateInitialRank();
+        String rank = workItemRankService.rankForNewItem(request.getProjectId(), tenantId);
 
         WorkItemEntity workItem = WorkItemEntity.builder()
                 .projectId(request.getProjectId())
@@ -101,6 +145,7 @@ public class WorkItemUseCase {
                 .build();
 
         WorkItemEntity saved = workItemService.createWorkItem(workItem, tenantId, userId);
+        workItemHierarchyService.addWorkItem(saved, tenantId);
 
         publishWorkItemEvent(EventConstants.WorkItem.EventType.WORK_ITEM_CREATED, saved, tenantId, userId);
 
@@ -110,17 +155,435 @@ public class WorkItemUseCase {
         return toResponse(saved);
     }
 
+    @Transactional(rollbackFor = Exception.class)
+    public List<String> rankWorkItems(RankWorkItemsRequest request, Long tenantId, Long userId) {
+        ProjectEntity project = projectService.getProjectById(request.getProjectId(), tenantId);
+        if (Boolean.TRUE.equals(project.getIsArchived())) {
+            throw new AppException(ErrorCode.PROJECT_ARCHIVED);
+        }
+
+        return workItemRankService.moveWorkItems(
+                request.getProjectId(),
+                request.getWorkItemIds(),
+                request.getRankAfterId(),
+                request.getRankBeforeId(),
+                tenantId,
+                userId);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public WorkItemResponse changeParent(Long workItemId, ChangeParentRequest request, Long tenantId, Long userId) {
+        WorkItemEntity workItem = workItemService.getWorkItemById(workItemId, tenantId);
+        ProjectEntity project = projectService.getProjectById(workItem.getProjectId(), tenantId);
+        if (Boolean.TRUE.equals(project.getIsArchived())) {
+            throw new AppException(ErrorCode.PROJECT_ARCHIVED);
+        }
+        Long newParentId = request.getParentId();
+        if (Objects.equals(newParentId, workItem.getParentId())) {
+            return toResponse(workItem);
+        }
+
+        workItemService.validateParentHierarchy(newParentId, workItem.getIssueTypeId(),
+                workItem.getProjectId(), tenantId);
+        Long previousParentId = workItem.getParentId();
+        workItemHierarchyService.moveWorkItem(workItem, newParentId, tenantId);
+        workItemService.updateParent(workItem, newParentId, tenantId, userId);
+
+        WorkItemEventPayload payload = toChangeEventPayload(workItem);
+        payload.setPreviousParentId(previousParentId);
+        saveWorkItemEvent(EventConstants.WorkItem.EventType.WORK_ITEM_MOVED, workItem, payload, tenantId, userId);
+        return toResponse(workItem);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public void deleteWorkItem(Long workItemId, Long tenantId, Long userId) {
+        WorkItemEntity workItem = workItemService.getWorkItemById(workItemId, tenantId);
+        ProjectEntity project = projectService.getProjectById(workItem.getProjectId(), tenantId);
+        if (Boolean.TRUE.equals(project.getIsArchived())) {
+            throw new AppException(ErrorCode.PROJECT_ARCHIVED);
+        }
+
+        workItemHierarchyService.removeWorkItem(workItem, tenantId);
+        workItemService.deleteWorkItem(workItemId, tenantId);
+
+        publishWorkItemEvent(EventConstants.WorkItem.EventType.WORK_ITEM_DELETED, workItem, tenantId, userId);
+    }
+
+    public WorkItemRollupResponse getWorkItemRollup(Long workItemId, Long tenantId) {
+        WorkItemEntity workItem = workItemService.getWorkItemById(workItemId, tenantId);
+        WorkItemRollupEntity rollup = workItemHierarchyService.getRollup(workItem.getId(), tenantId);
+        return WorkItemRollupResponse.builder()
+                .workItemId(rollup.getWorkItemId())
+                .descendantCount(rollup.getDescendantCount())
+                .timeSpent(rollup.getTimeSpent())
+                .timeOriginalEstimate(rollup.getTimeOriginalEstimate())
+                .timeRemainingEstimate(rollup.getTimeRemainingEstimate())
+                .build();
+    }
+
+    /**
+     * Counts and estimate sums for board and backlog headers. A filter on the project alone is
+     * served from the incrementally maintained aggregate; narrower filters are grouped live.
+     */
+    public WorkItemAggregateResponse getWorkItemAggregate(WorkItemFilterRequest filter, Long tenantId) {
+        WorkItemAggregateEntity aggregate = workItemAggregateService.getAggregate(tenantId, filter);
+        return WorkItemAggregateResponse.builder()
+                .projectId(aggregate.getProjectId())
+                .count(aggregate.getCount())
+                .timeOriginalEstimate(aggregate.getEstimate())
+                .byStatus(toBuckets(aggregate, WorkItemAggregateDimension.STATUS))
+                .byAssignee(toBuckets(aggregate, WorkItemAggregateDimension.ASSIGNEE))
+                .byPriority(toBuckets(aggregate, WorkItemAggregateDimension.PRIORITY))
+                .byIssueType(toBuckets(aggregate, WorkItemAggregateDimension.ISSUE_TYPE))
+                .build();
+    }
+
+    public PageResult<WorkItemHistoryResponse> getWorkItemHistory(Long workItemId, String cursor, Integer limit,
+            Long tenantId) {
+        WorkItemEntity workItem = workItemService.getWorkItemById(workItemId, tenantId);
+        PageResult<WorkItemHistoryEntity> page = workItemHistoryService.getWorkItemHistory(tenantId,
+                workItem.getId(), cursor, limit);
+        return PageResult.<WorkItemHistoryResponse>builder()
+                .items(page.getItems().stream().map(this::toHistoryResponse).toList())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    /**
+     * Writes a project's history in [from, to) as newline-delimited JSON, oldest first. The
+     * project is checked here; the returned writer streams the rows as they are read and is meant
+     * to run after the request thread has returned.
+     */
+    public Consumer<OutputStream> exportProjectHistory(Long projectId, Long from, Long to, Long tenantId) {
+        ProjectEntity project = projectService.getProjectById(projectId, tenantId);
+        return output -> workItemHistoryService.exportProjectHistory(tenantId, project.getId(), from, to, row -> {
+            try {
+                output.write(jsonUtils.toJson(toHistoryResponse(row)).getBytes(StandardCharsets.UTF_8));
+                output.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public List<WorkflowTransitionResponse> getAvailableTransitions(Long workItemId, Long tenantId, Long userId) {
+        WorkItemEntity workItem = workItemService.getWorkItemById(workItemId, tenantId);
+        ProjectEntity project = projectService.getProjectById(workItem.getProjectId(), tenantId);
+        Long workflowId = workflowSchemeService.resolveWorkflowId(project.getWorkflowSchemeId(),
+                workItem.getIssueTypeId(), tenantId);
+
+        return workflowService.getAvailableTransitions(workflowId, workItem, userId, tenantId).stream()
+                .map(transition -> WorkflowTransitionResponse.builder()
+                        .id(transition.id())
+                        .name(transition.name())
+                        .toStatusId(transition.toStatusId())
+                        .toStatusName(transition.toStatusName())
+                        .build())
+                .toList();
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public WorkItemResponse transitionWorkItem(Long workItemId, TransitionWorkItemRequest request,
+            Long tenantId, Long userId) {
+        WorkItemEntity workItem = workItemService.getWorkItemById(workItemId, tenantId);
+        ProjectEntity project = projectService.getProjectById(workItem.getProjectId(), tenantId);
+        if (Boolean.TRUE.equals(project.getIsArchived())) {
+            throw new AppException(ErrorCode.PROJECT_ARCHIVED);
+        }
+        Long workflowId = workflowSchemeService.resolveWorkflowId(project.getWorkflowSchemeId(),
+                workItem.getIssueTypeId(), tenantId);
+
+        Long previousStatusId = workItem.getStatusId();
+        Long previousAssigneeId = workItem.getAssigneeId();
+        Long previousResolutionId = workItem.getResolutionId();
+        CompiledTransition transition = workflowService.applyTransition(workflowId, workItem,
+                request.getTransitionId(), userId, tenantId);
+        Set<Long> updated = workItemService.saveTransitionedWorkItems(List.of(workItem),
+                Map.of(workItem.getId(), previousStatusId), tenantId, userId);
+        if (updated.isEmpty()) {
+            throw new AppException(ErrorCode.WORK_ITEM_CONCURRENTLY_MODIFIED);
+        }
+
+        publishTransitionEvent(workItem, previousStatusId, previousAssigneeId, previousResolutionId, transition,
+                tenantId, userId);
+        log.info("Work item transitioned: id={}, key={}, transition={}, status {} -> {}",
+                workItem.getId(), workItem.getKey(), transition.id(), previousStatusId, workItem.getStatusId());
+
+        return toResponse(workItem);
+    }
+
+    /**
+     * Applies one change to many work items of a project. The change is validated once against
+     * the cached scheme metadata, status moves are checked per item against the compiled
+     * workflows, and each chunk is written in its own transaction with one batch per kind of
+     * change and announced with one outbox event carrying every item's before and after values.
+     * Items that already match the change are reported as unchanged and not written; items that
+     * cannot take it, or whose chunk fails, are reported in the response instead of failing the
+     * whole request.
+     */
+    public BulkOperationResponse bulkUpdateWorkItems(BulkUpdateWorkItemsRequest request, Long tenantId, Long userId) {
+        List<Long> workItemIds = request.getWorkItemIds().stream().distinct().toList();
+        if (workItemIds.size() > bulkOperationProperties.getMaxItems()) {
+            throw new AppException(ErrorCode.BULK_SIZE_EXCEEDED);
+        }
+        ProjectEntity project = projectService.getProjectById(request.getProjectId(), tenantId);
+        if (Boolean.TRUE.equals(project.getIsArchived())) {
+            throw new AppException(ErrorCode.PROJECT_ARCHIVED);
+        }
+        if (request.getPriorityId() != null) {
+            prioritySchemeService.validatePriorityInScheme(project.getPrioritySchemeId(), request.getPriorityId(), tenantId);
+        }
+        workItemService.validateAssignee(request.getAssigneeId(), tenantId);
+
+        long start = System.currentTimeMillis();
+        Map<Long, Long> workflowByIssueType = new HashMap<>();
+        List<Long> succeeded = new ArrayList<>();
+        List<Long> unchanged = new ArrayList<>();
+        List<BulkOperationResponse.Failure> failures = new ArrayList<>();
+
+        int chunkSize = Math.max(1, bulkOperationProperties.getChunkSize());
+        for (int from = 0; from < workItemIds.size(); from += chunkSize) {
+            List<Long> chunk = workItemIds.subList(from, Math.min(from + chunkSize, workItemIds.size()));
+            try {
+                BulkChunkOutcome outcome = transactionTemplate.execute(
+                        status -> updateChunk(request, project, chunk, workflowByIssueType, tenantId, userId));
+                succeeded.addAll(outcome.succeededIds());
+                unchanged.addAll(outcome.unchangedIds());
+                failures.addAll(outcome.failures());
+            } catch (RuntimeException e) {
+                log.error("Bulk update chunk of {} work items in project {} failed", chunk.size(),
+                        request.getProjectId(), e);
+                chunk.forEach(workItemId -> failures.add(failure(workItemId, ErrorCode.INTERNAL_SERVER_ERROR)));
+            }
+        }
+
+        log.info("Bulk update of {} work items in project {} took {} ms: {} succeeded, {} unchanged, {} failed",
+                workItemIds.size(), request.getProjectId(), System.currentTimeMillis() - start,
+                succeeded.size(), unchanged.size(), failures.size());
+        return BulkOperationResponse.builder()
+                .succeededIds(succeeded)
+                .unchangedIds(unchanged)
+                .failures(failures)
+                .build();
+    }
+
+    /**
+     * Moves and updates one chunk of a bulk request; runs inside the chunk's transaction
+     */
+    private BulkChunkOutcome updateChunk(BulkUpdateWorkItemsRequest request, ProjectEntity project,
+            List<Long> workItemIds, Map<Long, Long> workflowByIssueType, Long tenantId, Long userId) {
+        Map<Long, WorkItemEntity> workItems = workItemService.getWorkItemsByIds(workItemIds, tenantId).stream()
+                .collect(Collectors.toMap(WorkItemEntity::getId, Function.identity()));
+        BulkChunkOutcome outcome = new BulkChunkOutcome(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        Map<Long, WorkItemBulkEventPayload.Item> changed = new LinkedHashMap<>();
+        List<WorkItemEntity> transitioned = new ArrayList<>();
+        Map<Long, Long> previousStatusIds = new HashMap<>();
+        List<Long> fieldChanges = new ArrayList<>();
+
+        for (Long workItemId : workItemIds) {
+            WorkItemEntity workItem = workItems.get(workItemId);
+            if (workItem == null || !request.getProjectId().equals(workItem.getProjectId())) {
+                outcome.failures().add(failure(workItemId, ErrorCode.WORK_ITEM_NOT_FOUND));
+                continue;
+            }
+            WorkItemBulkEventPayload.Item item = WorkItemBulkEventPayload.Item.builder()
+                    .workItemId(workItemId)
+                    .issueTypeId(workItem.getIssueTypeId())
+                    .timeOriginalEstimate(workItem.getTimeOriginalEstimate())
+                    .previousStatusId(workItem.getStatusId())
+                    .previousResolutionId(workItem.getResolutionId())
+                    .previousAssigneeId(workItem.getAssigneeId())
+                    .previousPriorityId(workItem.getPriorityId())
+                    .previousDueDate(workItem.getDueDate())
+                    .build();
+            if (request.getStatusId() != null && !request.getStatusId().equals(workItem.getStatusId())) {
+                try {
+                    Long workflowId = workflowByIssueType.computeIfAbsent(workItem.getIssueTypeId(),
+                            issueTypeId -> workflowSchemeService.resolveWorkflowId(
+                                    project.getWorkflowSchemeId(), issueTypeId, tenantId));
+                    CompiledTransition transition = workflowService.applyTransitionTo(workflowId, workItem,
+                            request.getStatusId(), userId, tenantId);
+                    item.setTransitionId(transition.id());
+                    transitioned.add(workItem);
+                    previousStatusIds.put(workItemId, item.getPreviousStatusId());
+                } catch (AppException e) {
+                    outcome.failures().add(failure(workItemId, e.getErrorCode(), e.getMessage()));
+                    continue;
+                }
+            }
+
+            // Requested fields apply on top of what the transition's post functions set
+            item.setStatusId(workItem.getStatusId());
+            item.setResolutionId(workItem.getResolutionId());
+            item.setAssigneeId(request.isUnassign() ? null
+                    : request.getAssigneeId() != null ? request.getAssigneeId() : workItem.getAssigneeId());
+            item.setPriorityId(request.getPriorityId() != null ? request.getPriorityId() : workItem.getPriorityId());
+            item.setDueDate(request.isClearDueDate() ? null
+                    : request.getDueDate() != null ? request.getDueDate() : workItem.getDueDate());
+            boolean fieldsChange = !Objects.equals(item.getAssigneeId(), workItem.getAssigneeId())
+                    || !Objects.equals(item.getPriorityId(), workItem.getPriorityId())
+                    || !Objects.equals(item.getDueDate(), workItem.getDueDate());
+            if (item.getTransitionId() == null && !fieldsChange) {
+                outcome.unchangedIds().add(workItemId);
+                continue;
+            }
+            if (fieldsChange) {
+                fieldChanges.add(workItemId);
+            }
+            changed.put(workItemId, item);
+        }
+
+        Set<Long> transitionedIds = workItemService.saveTransitionedWorkItems(transitioned, previousStatusIds,
+                tenantId, userId);
+        for (WorkItemEntity workItem : transitioned) {
+            if (!transitionedIds.contains(workItem.getId())) {
+                changed.remove(workItem.getId());
+                fieldChanges.remove(workItem.getId());
+                outcome.failures().add(failure(workItem.getId(), ErrorCode.WORK_ITEM_CONCURRENTLY_MODIFIED));
+            }
+        }
+        if (!fieldChanges.isEmpty()) {
+            Set<Long> updated = workItemService.updateWorkItemFields(fieldChanges, request, tenantId, userId);
+            for (Long workItemId : fieldChanges) {
+                if (!updated.contains(workItemId)) {
+                    changed.remove(workItemId);
+                    outcome.failures().add(failure(workItemId, ErrorCode.WORK_ITEM_NOT_FOUND));
+                }
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            publishBulkEvent(request, List.copyOf(changed.values()), tenantId, userId);
+            outcome.succeededIds().addAll(changed.keySet());
+        }
+        return outcome;
+    }
+
+    private List<WorkItemAggregateResponse.Bucket> toBuckets(WorkItemAggregateEntity aggregate,
+            WorkItemAggregateDimension dimension) {
+        return aggregate.getBuckets(dimension).stream()
+                .map(bucket -> WorkItemAggregateResponse.Bucket.builder()
+                        .id(bucket.valueId())
+                        .count(bucket.count())
+                        .timeOriginalEstimate(bucket.estimate())
+                        .build())
+                .toList();
+    }
+
+    private WorkItemHistoryResponse toHistoryResponse(WorkItemHistoryEntity entity) {
+        return WorkItemHistoryResponse.builder()
+                .id(entity.getId())
+                .projectId(entity.getProjectId())
+                .workItemId(entity.getWorkItemId())
+                .eventType(entity.getEventType())
+                .actorId(entity.getActorId())
+                .changes(entity.getChanges().stream()
+                        .map(change -> WorkItemHistoryResponse.Change.builder()
+                                .field(change.field())
+                                .from(change.from())
+                                .to(change.to())
+                                .build())
+                        .toList())
+                .occurredAt(entity.getOccurredAt())
+                .build();
+    }
+
+    private BulkOperationResponse.Failure failure(Long workItemId, ErrorCode errorCode) {
+        return failure(workItemId, errorCode.name(), errorCode.getMessage());
+    }
+
+    private BulkOperationResponse.Failure failure(Long workItemId, String code, String message) {
+        return BulkOperationResponse.Failure.builder()
+                .workItemId(workItemId)
+                .code(code)
+                .message(message)
+                .build();
+    }
+
+    private void publishTransitionEvent(WorkItemEntity workItem, Long previousStatusId, Long previousAssigneeId,
+            Long previousResolutionId, CompiledTransition transition, Long tenantId, Long userId) {
+        WorkItemEventPayload payload = toChangeEventPayload(workItem);
+        payload.setPreviousStatusId(previousStatusId);
+        payload.setPreviousAssigneeId(previousAssigneeId);
+        payload.setTransitionId(transition.id());
+        payload.setResolutionId(workItem.getResolutionId());
+        payload.setPreviousResolutionId(previousResolutionId);
+        saveWorkItemEvent(EventConstants.WorkItem.EventType.WORK_ITEM_TRANSITIONED, workItem, payload,
+                tenantId, userId);
+    }
+
+    private void publishBulkEvent(BulkUpdateWorkItemsRequest request, List<WorkItemBulkEventPayload.Item> items,
+            Long tenantId, Long userId) {
+        String eventType = EventConstants.WorkItem.EventType.WORK_ITEMS_BULK_UPDATED;
+        WorkItemBulkEventPayload payload = WorkItemBulkEventPayload.builder()
+                .projectId(request.getProjectId())
+                .workItemIds(items.stream().map(WorkItemBulkEventPayload.Item::getWorkItemId).toList())
+                .statusId(request.getStatusId())
+                .assigneeId(request.getAssigneeId())
+                .unassigned(request.isUnassign())
+                .priorityId(request.getPriorityId())
+                .dueDate(request.getDueDate())
+                .dueDateCleared(request.isClearDueDate())
+                .items(items)
+                .build();
+
+        BaseKafkaMessage<WorkItemBulkEventPayload> message = BaseKafkaMessage.of(
+                EventConstants.SOURCE,
+                eventType,
+                tenantId,
+                userId,
+                EventConstants.WorkItem.BULK_AGGREGATE,
+                request.getProjectId().toString(),
+                payload);
+
+        outboxEventService.saveEvent(
+                OutboxEventEntity.builder()
+                        .tenantId(tenantId)
+                        .aggregateType(EventConstants.WorkItem.BULK_AGGREGATE)
+                        .aggregateId(request.getProjectId())
+                        .eventType(eventType)
+                        .topic(EventConstants.WorkItem.TOPIC)
+                        .partitionKey(request.getProjectId().toString())
+                        .payload(jsonUtils.toJson(message))
+                        .build());
+    }
+
     private void publishWorkItemEvent(String eventType, WorkItemEntity workItem,
             Long tenantId, Long userId) {
-        WorkItemEventPayload payload = WorkItemEventPayload.builder()
+        saveWorkItemEvent(eventType, workItem, toEventPayload(workItem), tenantId, userId);
+    }
+
+    /**
+     * Payload of an event changing an existing item, with the previous fields still equal to the current ones
+     */
+    private WorkItemEventPayload toChangeEventPayload(WorkItemEntity workItem) {
+        WorkItemEventPayload payload = toEventPayload(workItem);
+        payload.setPreviousIssueTypeId(workItem.getIssueTypeId());
+        payload.setPreviousStatusId(workItem.getStatusId());
+        payload.setPreviousResolutionId(workItem.getResolutionId());
+        payload.setPreviousAssigneeId(workItem.getAssigneeId());
+        payload.setPreviousPriorityId(workItem.getPriorityId());
+        payload.setPreviousTimeOriginalEstimate(workItem.getTimeOriginalEstimate());
+        payload.setPreviousParentId(workItem.getParentId());
+        return payload;
+    }
+
+    private WorkItemEventPayload toEventPayload(WorkItemEntity workItem) {
+        return WorkItemEventPayload.builder()
                 .workItemId(workItem.getId())
                 .workItemKey(workItem.getKey())
                 .projectId(workItem.getProjectId())
                 .issueTypeId(workItem.getIssueTypeId())
                 .statusId(workItem.getStatusId())
                 .assigneeId(workItem.getAssigneeId())
+                .priorityId(workItem.getPriorityId())
+                .timeOriginalEstimate(workItem.getTimeOriginalEstimate())
+                .parentId(workItem.getParentId())
                 .build();
+    }
 
+    private void saveWorkItemEvent(String eventType, WorkItemEntity workItem, WorkItemEventPayload payload,
+            Long tenantId, Long userId) {
         BaseKafkaMessage<WorkItemEventPayload> message = BaseKafkaMessage.of(
                 EventConstants.SOURCE,
                 eventType,
@@ -171,4 +634,8 @@ public class WorkItemUseCase {
                 .updatedBy(entity.getUpdatedBy())
                 .build();
     }
+
+    private record BulkChunkOutcome(List<Long> succeededIds, List<Long> unchangedIds,
+            List<BulkOperationResponse.Failure> failures) {
+    }
 }
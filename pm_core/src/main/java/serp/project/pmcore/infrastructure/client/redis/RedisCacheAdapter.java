@@ -5,6 +5,8 @@ import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import serp.project.pmcore.core.port.client.ICachePort;
 import serp.project.pmcore.kernel.utils.JsonUtils;
@@ -18,6 +20,31 @@ import java.util.stream.IntStream;
 @Component
 @RequiredArgsConstructor
 public class RedisCacheAdapter implements ICachePort {
+    private static final RedisScript<Long> HASH_INCREMENT_VERSIONED = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            if redis.call('TTL', KEYS[1]) == -1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            if redis.call('HEXISTS', KEYS[1], ARGV[2]) == 0 then
+                return 0
+            end
+            for i = 4, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> HASH_PUT_ALL_IF_VERSION = new DefaultRedisScript<>("""
+            if (redis.call('HGET', KEYS[1], ARGV[1]) or '') ~= ARGV[2] then
+                return 0
+            end
+            for i = 4, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisKeyStrategy keyStrategy;
     private final RedisProperties properties;
@@ -260,6 +287,40 @@ public class RedisCacheAdapter implements ICachePort {
         return redisTemplate.opsForHash().increment(cacheKey, field, delta);
     }
 
+    @Override
+    public boolean hashIncrementVersioned(String namespace, String key, String versionField, String presenceField,
+                                          Map<String, Long> deltas, Duration ttl) {
+        String cacheKey = keyStrategy.cacheKey(namespace, key);
+        Object[] args = new Object[3 + deltas.size() * 2];
+        args[0] = versionField;
+        args[1] = presenceField;
+        args[2] = String.valueOf(Math.max(1, ttl.toSeconds()));
+        int i = 3;
+        for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+            args[i++] = delta.getKey();
+            args[i++] = String.valueOf(delta.getValue());
+        }
+        Long result = redisTemplate.execute(HASH_INCREMENT_VERSIONED, List.of(cacheKey), args);
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public boolean hashPutAllIfVersion(String namespace, String key, String versionField, String expectedVersion,
+                                       Map<String, String> map, Duration ttl) {
+        String cacheKey = keyStrategy.cacheKey(namespace, key);
+        Object[] args = new Object[3 + map.size() * 2];
+        args[0] = versionField;
+        args[1] = expectedVersion != null ? expectedVersion : "";
+        args[2] = String.valueOf(Math.max(1, ttl.toSeconds()));
+        int i = 3;
+        for (Map.Entry<String, String> field : map.entrySet()) {
+            args[i++] = field.getKey();
+            args[i++] = field.getValue();
+        }
+        Long result = redisTemplate.execute(HASH_PUT_ALL_IF_VERSION, List.of(cacheKey), args);
+        return result != null && result == 1L;
+    }
+
     @Override
     public long increment(String namespace, String key) {
         String cacheKey = keyStrategy.cacheKey(namespace, key);
@@ -8,12 +8,18 @@ package serp.project.pmcore.infrastructure.store.adapter;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import serp.project.pmcore.core.domain.entity.ConsumerInboxEventEntity;
 import serp.project.pmcore.core.domain.enums.ConsumerInboxAcquireResult;
 import serp.project.pmcore.core.domain.enums.ConsumerInboxStatus;
 import serp.project.pmcore.core.port.store.IConsumerInboxPort;
@@ -23,6 +29,22 @@ public class ConsumerInboxAdapter implements IConsumerInboxPort {
 
     private static final int MAX_ERROR_LENGTH = 2_000;
 
+    private static final String BATCH_INPUT_SQL = """
+            input AS (
+                SELECT *
+                FROM unnest(
+                    CAST(:eventIds AS text[]),
+                    CAST(:eventTypes AS text[]),
+                    CAST(:topics AS text[]),
+                    CAST(:partitionNos AS int[]),
+                    CAST(:offsetNos AS bigint[]),
+                    CAST(:tenantIds AS bigint[]),
+                    CAST(:payloadHashes AS text[]),
+                    CAST(:rawPayloads AS text[])
+                ) AS t(event_id, event_type, topic, partition_no, offset_no, tenant_id, payload_hash, raw_payload)
+            )
+            """;
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public ConsumerInboxAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
@@ -126,6 +148,112 @@ public class ConsumerInboxAdapter implements IConsumerInboxPort {
         return ConsumerInboxAcquireResult.ACQUIRED;
     }
 
+    /**
+     * The whole poll is inserted by one multi-row statement; only events that already have a row
+     * need a second statement, which reads their status and re-acquires the PROCESSING and FAILED
+     * ones in place. A row committed by a concurrent consumer after the insert waited on it is
+     * visible to that second statement.
+     */
+    @Override
+    public Map<String, ConsumerInboxAcquireResult> acquireBatchForProcessing(
+            String consumerGroup,
+            List<ConsumerInboxEventEntity> events) {
+        Map<String, ConsumerInboxAcquireResult> results = new HashMap<>();
+        if (events.isEmpty()) {
+            return results;
+        }
+
+        String insertSql = "WITH " + BATCH_INPUT_SQL + """
+                INSERT INTO consumer_inbox_events (
+                    consumer_group,
+                    event_id,
+                    event_type,
+                    topic,
+                    partition_no,
+                    offset_no,
+                    tenant_id,
+                    payload_hash,
+                    raw_payload,
+                    status,
+                    attempts,
+                    created_at,
+                    updated_at
+                )
+                SELECT :consumerGroup,
+                    event_id,
+                    event_type,
+                    topic,
+                    partition_no,
+                    offset_no,
+                    tenant_id,
+                    payload_hash,
+                    CAST(raw_payload AS jsonb),
+                    'PROCESSING',
+                    1,
+                    NOW(),
+                    NOW()
+                FROM input
+                ON CONFLICT (consumer_group, event_id) DO NOTHING
+                RETURNING event_id
+                """;
+
+        MapSqlParameterSource params = batchParams(consumerGroup, events);
+        Set<String> inserted = new HashSet<>(jdbcTemplate.queryForList(insertSql, params, String.class));
+        inserted.forEach(eventId -> results.put(eventId, ConsumerInboxAcquireResult.ACQUIRED));
+        if (inserted.size() == events.size()) {
+            return results;
+        }
+
+        List<ConsumerInboxEventEntity> existing = events.stream()
+                .filter(event -> !inserted.contains(event.getEventId()))
+                .toList();
+
+        String reacquireSql = "WITH " + BATCH_INPUT_SQL + ", " + """
+                current_rows AS (
+                    SELECT event_id, status
+                    FROM consumer_inbox_events
+                    WHERE consumer_group = :consumerGroup
+                    AND event_id IN (SELECT event_id FROM input)
+                ),
+                reacquired AS (
+                    UPDATE consumer_inbox_events c
+                    SET status = 'PROCESSING',
+                        attempts = c.attempts + 1,
+                        event_type = i.event_type,
+                        topic = i.topic,
+                        partition_no = i.partition_no,
+                        offset_no = i.offset_no,
+                        tenant_id = i.tenant_id,
+                        payload_hash = i.payload_hash,
+                        raw_payload = CAST(i.raw_payload AS jsonb),
+                        last_error = NULL,
+                        updated_at = NOW()
+                    FROM input i
+                    WHERE c.consumer_group = :consumerGroup
+                    AND c.event_id = i.event_id
+                    AND c.status IN ('PROCESSING', 'FAILED')
+                )
+                SELECT event_id, status FROM current_rows
+                """;
+
+        jdbcTemplate.query(reacquireSql, batchParams(consumerGroup, existing), rs -> {
+            ConsumerInboxStatus status = ConsumerInboxStatus.valueOf(rs.getString("status"));
+            results.put(rs.getString("event_id"), switch (status) {
+                case PROCESSED -> ConsumerInboxAcquireResult.ALREADY_PROCESSED;
+                case DEAD -> ConsumerInboxAcquireResult.ALREADY_DEAD;
+                default -> ConsumerInboxAcquireResult.ACQUIRED;
+            });
+        });
+
+        for (ConsumerInboxEventEntity event : existing) {
+            if (!results.containsKey(event.getEventId())) {
+                throw new IllegalStateException(
+                        "Unable to acquire consumer inbox row for eventId=" + event.getEventId());
+            }
+        }
+        return results;
+    }
+
     @Override
     public void markProcessed(String consumerGroup, String eventId, Long offsetNo) {
         String sql = """
@@ -146,6 +274,31 @@ public class ConsumerInboxAdapter implements IConsumerInboxPort {
         jdbcTemplate.update(sql, params);
     }
 
+    @Override
+    public void markBatchProcessed(String consumerGroup, List<ConsumerInboxEventEntity> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+                UPDATE consumer_inbox_events c
+                SET status = 'PROCESSED',
+                    offset_no = t.offset_no,
+                    processed_at = NOW(),
+                    last_error = NULL,
+                    updated_at = NOW()
+                FROM unnest(CAST(:eventIds AS text[]), CAST(:offsetNos AS bigint[])) AS t(event_id, offset_no)
+                WHERE c.consumer_group = :consumerGroup
+                AND c.event_id = t.event_id
+                """;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("consumerGroup", consumerGroup)
+                .addValue("eventIds", events.stream().map(ConsumerInboxEventEntity::getEventId).toArray(String[]::new))
+                .addValue("offsetNos", events.stream().map(ConsumerInboxEventEntity::getOffsetNo).toArray(Long[]::new));
+        jdbcTemplate.update(sql, params);
+    }
+
     @Override
     public void markFailed(String consumerGroup, String eventId, String errorMessage) {
         String sql = """
@@ -216,6 +369,19 @@ public class ConsumerInboxAdapter implements IConsumerInboxPort {
         }
     }
 
+    private MapSqlParameterSource batchParams(String consumerGroup, List<ConsumerInboxEventEntity> events) {
+        return new MapSqlParameterSource()
+                .addValue("consumerGroup", consumerGroup)
+                .addValue("eventIds", events.stream().map(ConsumerInboxEventEntity::getEventId).toArray(String[]::new))
+                .addValue("eventTypes", events.stream().map(ConsumerInboxEventEntity::getEventType).toArray(String[]::new))
+                .addValue("topics", events.stream().map(ConsumerInboxEventEntity::getTopic).toArray(String[]::new))
+                .addValue("partitionNos", events.stream().map(ConsumerInboxEventEntity::getPartitionNo).toArray(Integer[]::new))
+                .addValue("offsetNos", events.stream().map(ConsumerInboxEventEntity::getOffsetNo).toArray(Long[]::new))
+                .addValue("tenantIds", events.stream().map(ConsumerInboxEventEntity::getTenantId).toArray(Long[]::new))
+                .addValue("payloadHashes", events.stream().map(ConsumerInboxEventEntity::getPayloadHash).toArray(String[]::new))
+                .addValue("rawPayloads", events.stream().map(ConsumerInboxEventEntity::getRawPayload).toArray(String[]::new));
+    }
+
     private String normalizeError(String errorMessage) {
         if (errorMessage == null) {
             return null;
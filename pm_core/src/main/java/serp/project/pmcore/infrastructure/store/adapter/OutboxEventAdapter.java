@@ -73,9 +73,16 @@ public class OutboxEventAdapter implements IOutboxEventPort {
     @Override
     public List<OutboxEventEntity> getEventsByStatuses(List<OutboxEventStatus> statuses, int limit) {
         String sql = """
-                SELECT * FROM outbox_events
+                SELECT * FROM outbox_events e
                 WHERE status IN (:statuses)
                 AND (next_retry_at IS NULL OR next_retry_at <= NOW())
+                -- Events of a key wait until an earlier failed one of that key is published or dead
+                AND NOT EXISTS (
+                    SELECT 1 FROM outbox_events f
+                    WHERE f.status = 'FAILED'
+                    AND f.partition_key = e.partition_key
+                    AND f.created_at < e.created_at
+                )
                 ORDER BY created_at ASC
                 LIMIT :limit
                 FOR UPDATE SKIP LOCKED
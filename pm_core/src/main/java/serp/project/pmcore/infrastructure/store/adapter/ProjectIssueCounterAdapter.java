@@ -5,59 +5,213 @@
 
 package serp.project.pmcore.infrastructure.store.adapter;
 
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
 import serp.project.pmcore.core.port.store.IProjectIssueCounterPort;
+import serp.project.pmcore.kernel.property.IssueCounterProperties;
 
+/**
+ * Hands out issue numbers from blocks reserved per project on this node.
+ * <p>
+ * A block is reserved with one upsert inside the caller's transaction, so creating a work item
+ * never needs a second pooled connection. The counter row stays locked until that transaction
+ * ends, but only the creation that refills the block pays for it. The caller takes the first
+ * number of the block; the rest is handed to other creations only after the reservation commits,
+ * so a rollback takes its block with it instead of leaving numbers the counter hands out again.
+ * Idle projects reserve {@code min-block-size} numbers at a time; a project that uses up its
+ * block within {@code busy-window-ms} gets a block twice as large, up to {@code max-block-size}.
+ * <p>
+ * Gaps are accepted: numbers are unique per project, but a rolled back creation or a node that
+ * stops with numbers left skips them. On shutdown the unused tail of each block is handed back
+ * when no other node has reserved after it.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ProjectIssueCounterAdapter implements IProjectIssueCounterPort {
 
-    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private static final String RESERVE_SQL = """
+            INSERT INTO project_issue_counters (tenant_id, project_id, counter)
+            VALUES (:tenantId, :projectId, :count)
+            ON CONFLICT (tenant_id, project_id)
+            DO UPDATE SET counter = project_issue_counters.counter + EXCLUDED.counter
+            RETURNING counter
+            """;
+
+    private static final String RELEASE_SQL =
+            "UPDATE project_issue_counters SET counter = :lastUsed " +
+            "WHERE tenant_id = :tenantId AND project_id = :projectId AND counter = :blockEnd";
 
-    private static final String SELECT_FOR_UPDATE_SQL =
-            "SELECT counter FROM project_issue_counters " +
-            "WHERE project_id = :projectId AND tenant_id = :tenantId " +
-            "FOR UPDATE";
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final IssueCounterProperties properties;
 
-    private static final String UPDATE_COUNTER_SQL =
-            "UPDATE project_issue_counters SET counter = :newCounter " +
-            "WHERE project_id = :projectId AND tenant_id = :tenantId";
+    private final Map<CounterKey, IssueNoBlock> blocks = new ConcurrentHashMap<>();
 
-    private static final String INSERT_COUNTER_SQL =
-            "INSERT INTO project_issue_counters (tenant_id, project_id, counter) " +
-            "VALUES (:tenantId, :projectId, 1)";
+    public ProjectIssueCounterAdapter(NamedParameterJdbcTemplate jdbcTemplate,
+                                      IssueCounterProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
 
     @Override
     public Long getNextIssueNo(Long projectId, Long tenantId) {
-        var params = new MapSqlParameterSource()
-                .addValue("projectId", projectId)
-                .addValue("tenantId", tenantId);
-
-        Long currentCounter;
+        IssueNoBlock block = blocks.computeIfAbsent(new CounterKey(tenantId, projectId), key -> new IssueNoBlock());
+        int size;
+        long now = System.currentTimeMillis();
+        block.lock.lock();
         try {
-            currentCounter = jdbcTemplate.queryForObject(SELECT_FOR_UPDATE_SQL, params, Long.class);
-        } catch (Exception e) {
-            // Counter row doesn't exist yet
-            log.info("Creating issue counter for project {} in tenant {}", projectId, tenantId);
-            jdbcTemplate.update(INSERT_COUNTER_SQL, params);
-            return 1L;
+            if (block.take()) {
+                return block.next++;
+            }
+            size = nextBlockSize(block, now);
+        } finally {
+            block.lock.unlock();
         }
 
-        if (currentCounter == null) {
+        // Not under the block lock: the upsert may wait for another creation's transaction to end
+        long end = reserve(projectId, tenantId, size);
+        long first = end - size + 1;
+        block.recordReservation(size, now);
+        if (size > 1) {
+            afterCommit(() -> block.offer(first + 1, end));
+        }
+        return first;
+    }
+
+    @Override
+    public Long reserveIssueNos(Long projectId, Long tenantId, int count) {
+        if (count < 1 || count > properties.getMaxReserveCount()) {
+            throw new AppException(ErrorCode.ISSUE_NO_RESERVE_COUNT_INVALID);
+        }
+        long end = reserve(projectId, tenantId, count);
+        log.info("Reserved issue numbers {}..{} for project {} in tenant {}",
+                end - count + 1, end, projectId, tenantId);
+        return end - count + 1;
+    }
+
+    @PreDestroy
+    public void releaseUnusedBlocks() {
+        blocks.forEach((key, block) -> {
+            block.lock.lock();
+            try {
+                if (block.next > block.end || !block.spare.isEmpty()) {
+                    return;
+                }
+                var params = new MapSqlParameterSource()
+                        .addValue("tenantId", key.tenantId())
+                        .addValue("projectId", key.projectId())
+                        .addValue("lastUsed", block.next - 1)
+                        .addValue("blockEnd", block.end);
+                if (jdbcTemplate.update(RELEASE_SQL, params) > 0) {
+                    log.info("Released issue numbers {}..{} of project {}", block.next, block.end, key.projectId());
+                }
+                block.next = block.end + 1;
+            } catch (Exception e) {
+                log.warn("Failed to release issue numbers of project {}: {}", key.projectId(), e.getMessage());
+            } finally {
+                block.lock.unlock();
+            }
+        });
+    }
+
+    private int nextBlockSize(IssueNoBlock block, long now) {
+        int min = Math.max(1, properties.getMinBlockSize());
+        if (block.size == 0 || now - block.reservedAt > properties.getBusyWindowMs()) {
+            return min;
+        }
+        return Math.max(min, Math.min(block.size * 2, properties.getMaxBlockSize()));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Runs in the caller's transaction, or on its own when there is none.
+     *
+     * @return the last number of the reserved range
+     */
+    private long reserve(Long projectId, Long tenantId, int count) {
+        var params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("tenantId", tenantId)
+                .addValue("count", count);
+        Long end = jdbcTemplate.queryForObject(RESERVE_SQL, params, Long.class);
+        if (end == null) {
             throw new AppException(ErrorCode.ISSUE_COUNTER_NOT_FOUND);
         }
+        return end;
+    }
+
+    private record CounterKey(Long tenantId, Long projectId) {
+    }
+
+    private record NumberRange(long first, long last) {
+    }
+
+    private static final class IssueNoBlock {
+        private final ReentrantLock lock = new ReentrantLock();
+        // Committed ranges waiting behind the current one, when several creations refilled at once
+        private final Deque<NumberRange> spare = new ArrayDeque<>();
+        private long next = 1;
+        private long end = 0;
+        private int size;
+        private long reservedAt;
+
+        /**
+         * @return whether {@code next} is a usable number, moving to a spare range when needed
+         */
+        private boolean take() {
+            if (next > end && !spare.isEmpty()) {
+                NumberRange range = spare.poll();
+                next = range.first();
+                end = range.last();
+            }
+            return next <= end;
+        }
 
-        long nextCounter = currentCounter + 1;
-        params.addValue("newCounter", nextCounter);
-        jdbcTemplate.update(UPDATE_COUNTER_SQL, params);
+        /**
+         * Remembers every reservation, even one whose whole block the caller took, so a busy
+         * project's next block grows
+         */
+        private void recordReservation(int size, long reservedAt) {
+            lock.lock();
+            try {
+                this.size = size;
+                this.reservedAt = reservedAt;
+            } finally {
+                lock.unlock();
+            }
+        }
 
-        return nextCounter;
+        private void offer(long first, long last) {
+            lock.lock();
+            try {
+                spare.add(new NumberRange(first, last));
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 }
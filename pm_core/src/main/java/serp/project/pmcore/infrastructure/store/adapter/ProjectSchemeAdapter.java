@@ -0,0 +1,231 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.adapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import serp.project.pmcore.core.domain.enums.SchemeType;
+import serp.project.pmcore.core.exception.AppException;
+import serp.project.pmcore.core.exception.ErrorCode;
+import serp.project.pmcore.core.port.store.IProjectSchemePort;
+
+/**
+ * Forks and changes project schemes (V8) with plain SQL. A fork copies the scheme row and its
+ * items with one statement, so its cost does not grow with round trips per item.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectSchemeAdapter implements IProjectSchemePort {
+
+    private static final String LOCK_KEY_PREFIX = "project_schemes:";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockProjectSchemes(Long projectId) {
+        var params = new MapSqlParameterSource()
+                .addValue("lockKey", LOCK_KEY_PREFIX + projectId);
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtextextended(:lockKey, 0))", params);
+    }
+
+    @Override
+    public Optional<Long> findOwnedSchemeId(SchemeType type, Long projectId) {
+        SchemeTables tables = SchemeTables.of(type);
+        String sql = "SELECT id FROM " + tables.schemeTable +
+                " WHERE owner_project_id = :projectId AND deleted_at IS NULL ORDER BY id LIMIT 1";
+        var params = new MapSqlParameterSource()
+                .addValue("projectId", projectId);
+        return jdbcTemplate.queryForList(sql, params, Long.class).stream().findFirst();
+    }
+
+    @Override
+    public Long forkScheme(SchemeType type, Long sourceSchemeId, Long projectId, String projectKey,
+                           Long tenantId, Long userId) {
+        SchemeTables tables = SchemeTables.of(type);
+        String sql = """
+                WITH source AS (
+                    SELECT id, name, version_no, %3$s
+                    FROM %1$s
+                    WHERE id = :sourceSchemeId
+                    AND (tenant_id = :tenantId OR tenant_id = 0)
+                    AND deleted_at IS NULL
+                ),
+                forked AS (
+                    INSERT INTO %1$s (tenant_id, name, description, %3$s, owner_project_id, version_no,
+                                      source_scheme_id, source_version_no, created_at, updated_at, created_by, updated_by)
+                    SELECT :tenantId, :projectKey || ' - ' || name, :description, %3$s, :projectId, 1,
+                           id, version_no, NOW(), NOW(), :userId, :userId
+                    FROM source
+                    RETURNING id
+                ),
+                items AS (
+                    INSERT INTO %2$s (tenant_id, scheme_id, %4$s, created_at, updated_at, created_by, updated_by)
+                    SELECT :tenantId, forked.id, %5$s, NOW(), NOW(), :userId, :userId
+                    FROM %2$s i, forked
+                    WHERE i.scheme_id = :sourceSchemeId
+                    AND i.deleted_at IS NULL
+                )
+                SELECT id FROM forked
+                """.formatted(tables.schemeTable, tables.itemTable, tables.defaultColumn,
+                tables.itemCopyColumns, tables.itemCopySource);
+
+        var params = new MapSqlParameterSource()
+                .addValue("sourceSchemeId", sourceSchemeId)
+                .addValue("projectId", projectId)
+                .addValue("projectKey", projectKey)
+                .addValue("description", "Customized for project " + projectKey)
+                .addValue("tenantId", tenantId)
+                .addValue("userId", userId);
+        try {
+            return jdbcTemplate.queryForObject(sql, params, Long.class);
+        } catch (EmptyResultDataAccessException e) {
+            throw new AppException(ErrorCode.SCHEME_NOT_FOUND);
+        }
+    }
+
+    @Override
+    public void addSchemeItems(SchemeType type, Long schemeId, List<Long> itemIds, Long tenantId, Long userId) {
+        SchemeTables tables = SchemeTables.of(type);
+        if (type == SchemeType.WORKFLOW) {
+            throw new AppException(ErrorCode.SCHEME_INCOMPATIBLE);
+        }
+        String sql = """
+                INSERT INTO %1$s (tenant_id, scheme_id, %2$s, sequence, created_at, updated_at, created_by, updated_by)
+                SELECT :tenantId, :schemeId, t.item_id,
+                       (SELECT COALESCE(MAX(sequence), 0) FROM %1$s
+                        WHERE scheme_id = :schemeId AND deleted_at IS NULL) + t.ord,
+                       NOW(), NOW(), :userId, :userId
+                FROM unnest(CAST(:itemIds AS BIGINT[])) WITH ORDINALITY AS t(item_id, ord)
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM %1$s e
+                    WHERE e.scheme_id = :schemeId AND e.%2$s = t.item_id AND e.deleted_at IS NULL
+                )
+                """.formatted(tables.itemTable, tables.itemKeyColumn);
+
+        var params = new MapSqlParameterSource()
+                .addValue("schemeId", schemeId)
+                .addValue("itemIds", itemIds.stream().distinct().toArray(Long[]::new))
+                .addValue("tenantId", tenantId)
+                .addValue("userId", userId);
+        jdbcTemplate.update(sql, params);
+    }
+
+    @Override
+    public void putWorkflowMappings(Long schemeId, Map<Long, Long> workflowIdsByIssueType, Long tenantId, Long userId) {
+        String updateSql = """
+                UPDATE workflow_scheme_items w
+                SET workflow_id = t.workflow_id, updated_at = NOW(), updated_by = :userId
+                FROM unnest(CAST(:issueTypeIds AS BIGINT[]), CAST(:workflowIds AS BIGINT[])) AS t(issue_type_id, workflow_id)
+                WHERE w.scheme_id = :schemeId
+                AND w.issue_type_id = t.issue_type_id
+                AND w.deleted_at IS NULL
+                """;
+        String insertSql = """
+                INSERT INTO workflow_scheme_items (tenant_id, scheme_id, issue_type_id, workflow_id,
+                                                   created_at, updated_at, created_by, updated_by)
+                SELECT :tenantId, :schemeId, t.issue_type_id, t.workflow_id, NOW(), NOW(), :userId, :userId
+                FROM unnest(CAST(:issueTypeIds AS BIGINT[]), CAST(:workflowIds AS BIGINT[])) AS t(issue_type_id, workflow_id)
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM workflow_scheme_items e
+                    WHERE e.scheme_id = :schemeId AND e.issue_type_id = t.issue_type_id AND e.deleted_at IS NULL
+                )
+                """;
+
+        Long[] issueTypeIds = workflowIdsByIssueType.keySet().toArray(new Long[0]);
+        Long[] workflowIds = new Long[issueTypeIds.length];
+        for (int i = 0; i < issueTypeIds.length; i++) {
+            workflowIds[i] = workflowIdsByIssueType.get(issueTypeIds[i]);
+        }
+        var params = new MapSqlParameterSource()
+                .addValue("schemeId", schemeId)
+                .addValue("issueTypeIds", issueTypeIds)
+                .addValue("workflowIds", workflowIds)
+                .addValue("tenantId", tenantId)
+                .addValue("userId", userId);
+        jdbcTemplate.update(updateSql, params);
+        jdbcTemplate.update(insertSql, params);
+    }
+
+    @Override
+    public void removeSchemeItems(SchemeType type, Long schemeId, List<Long> itemIds, Long userId) {
+        SchemeTables tables = SchemeTables.of(type);
+        String sql = """
+                UPDATE %1$s
+                SET deleted_at = NOW(), updated_at = NOW(), updated_by = :userId
+                WHERE scheme_id = :schemeId
+                AND %2$s = ANY(:itemIds)
+                AND deleted_at IS NULL
+                """.formatted(tables.itemTable, tables.itemKeyColumn);
+
+        var params = new MapSqlParameterSource()
+                .addValue("schemeId", schemeId)
+                .addValue("itemIds", itemIds.toArray(new Long[0]))
+                .addValue("userId", userId);
+        jdbcTemplate.update(sql, params);
+    }
+
+    @Override
+    public void touchScheme(SchemeType type, Long schemeId, Long defaultId, Long userId) {
+        SchemeTables tables = SchemeTables.of(type);
+        String sql = """
+                UPDATE %1$s
+                SET %2$s = COALESCE(CAST(:defaultId AS BIGINT), %2$s),
+                    version_no = version_no + 1,
+                    updated_at = NOW(),
+                    updated_by = :userId
+                WHERE id = :schemeId
+                """.formatted(tables.schemeTable, tables.defaultColumn);
+
+        var params = new MapSqlParameterSource()
+                .addValue("schemeId", schemeId)
+                .addValue("defaultId", defaultId)
+                .addValue("userId", userId);
+        jdbcTemplate.update(sql, params);
+    }
+
+    private enum SchemeTables {
+        ISSUE_TYPE("issue_type_schemes", "issue_type_scheme_items", "default_issue_type_id",
+                "issue_type_id", "issue_type_id, sequence", "i.issue_type_id, i.sequence"),
+        PRIORITY("priority_schemes", "priority_scheme_items", "default_priority_id",
+                "priority_id", "priority_id, sequence", "i.priority_id, i.sequence"),
+        WORKFLOW("workflow_schemes", "workflow_scheme_items", "default_workflow_id",
+                "issue_type_id", "issue_type_id, workflow_id", "i.issue_type_id, i.workflow_id");
+
+        private final String schemeTable;
+        private final String itemTable;
+        private final String defaultColumn;
+        private final String itemKeyColumn;
+        private final String itemCopyColumns;
+        private final String itemCopySource;
+
+        SchemeTables(String schemeTable, String itemTable, String defaultColumn,
+                     String itemKeyColumn, String itemCopyColumns, String itemCopySource) {
+            this.schemeTable = schemeTable;
+            this.itemTable = itemTable;
+            this.defaultColumn = defaultColumn;
+            this.itemKeyColumn = itemKeyColumn;
+            this.itemCopyColumns = itemCopyColumns;
+            this.itemCopySource = itemCopySource;
+        }
+
+        private static SchemeTables of(SchemeType type) {
+            return switch (type) {
+                case ISSUE_TYPE -> ISSUE_TYPE;
+                case PRIORITY -> PRIORITY;
+                case WORKFLOW -> WORKFLOW;
+                default -> throw new AppException(ErrorCode.SCHEME_INCOMPATIBLE);
+            };
+        }
+    }
+}
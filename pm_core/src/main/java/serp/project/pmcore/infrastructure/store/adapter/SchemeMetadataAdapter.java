@@ -0,0 +1,141 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import serp.project.pmcore.core.domain.entity.IssueTypeSchemeEntity;
+import serp.project.pmcore.core.domain.entity.IssueTypeSchemeItemEntity;
+import serp.project.pmcore.core.domain.entity.PrioritySchemeEntity;
+import serp.project.pmcore.core.domain.entity.PrioritySchemeItemEntity;
+import serp.project.pmcore.core.domain.entity.SchemeMetadataEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowSchemeEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowSchemeItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowStepEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowTransitionEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowTransitionRuleEntity;
+import serp.project.pmcore.core.port.store.ISchemeMetadataPort;
+import serp.project.pmcore.infrastructure.store.mapper.IssueTypeMapper;
+import serp.project.pmcore.infrastructure.store.mapper.IssueTypeSchemeItemMapper;
+import serp.project.pmcore.infrastructure.store.mapper.IssueTypeSchemeMapper;
+import serp.project.pmcore.infrastructure.store.mapper.PriorityMapper;
+import serp.project.pmcore.infrastructure.store.mapper.PrioritySchemeItemMapper;
+import serp.project.pmcore.infrastructure.store.mapper.PrioritySchemeMapper;
+import serp.project.pmcore.infrastructure.store.mapper.StatusMapper;
+import serp.project.pmcore.infrastructure.store.mapper.WorkflowMapper;
+import serp.project.pmcore.infrastructure.store.mapper.WorkflowSchemeItemMapper;
+import serp.project.pmcore.infrastructure.store.mapper.WorkflowSchemeMapper;
+import serp.project.pmcore.infrastructure.store.mapper.WorkflowStepMapper;
+import serp.project.pmcore.infrastructure.store.mapper.WorkflowTransitionMapper;
+import serp.project.pmcore.infrastructure.store.mapper.WorkflowTransitionRuleMapper;
+import serp.project.pmcore.infrastructure.store.repository.IIssueTypeRepository;
+import serp.project.pmcore.infrastructure.store.repository.IIssueTypeSchemeItemRepository;
+import serp.project.pmcore.infrastructure.store.repository.IIssueTypeSchemeRepository;
+import serp.project.pmcore.infrastructure.store.repository.IPriorityRepository;
+import serp.project.pmcore.infrastructure.store.repository.IPrioritySchemeItemRepository;
+import serp.project.pmcore.infrastructure.store.repository.IPrioritySchemeRepository;
+import serp.project.pmcore.infrastructure.store.repository.IStatusRepository;
+import serp.project.pmcore.infrastructure.store.repository.IWorkflowRepository;
+import serp.project.pmcore.infrastructure.store.repository.IWorkflowSchemeItemRepository;
+import serp.project.pmcore.infrastructure.store.repository.IWorkflowSchemeRepository;
+import serp.project.pmcore.infrastructure.store.repository.IWorkflowStepRepository;
+import serp.project.pmcore.infrastructure.store.repository.IWorkflowTransitionRepository;
+import serp.project.pmcore.infrastructure.store.repository.IWorkflowTransitionRuleRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class SchemeMetadataAdapter implements ISchemeMetadataPort {
+
+    private final IIssueTypeRepository issueTypeRepository;
+    private final IPriorityRepository priorityRepository;
+    private final IStatusRepository statusRepository;
+    private final IWorkflowRepository workflowRepository;
+    private final IWorkflowStepRepository workflowStepRepository;
+    private final IWorkflowTransitionRepository workflowTransitionRepository;
+    private final IWorkflowTransitionRuleRepository workflowTransitionRuleRepository;
+    private final IIssueTypeSchemeRepository issueTypeSchemeRepository;
+    private final IIssueTypeSchemeItemRepository issueTypeSchemeItemRepository;
+    private final IPrioritySchemeRepository prioritySchemeRepository;
+    private final IPrioritySchemeItemRepository prioritySchemeItemRepository;
+    private final IWorkflowSchemeRepository workflowSchemeRepository;
+    private final IWorkflowSchemeItemRepository workflowSchemeItemRepository;
+
+    private final IssueTypeMapper issueTypeMapper;
+    private final PriorityMapper priorityMapper;
+    private final StatusMapper statusMapper;
+    private final WorkflowMapper workflowMapper;
+    private final WorkflowStepMapper workflowStepMapper;
+    private final WorkflowTransitionMapper workflowTransitionMapper;
+    private final WorkflowTransitionRuleMapper workflowTransitionRuleMapper;
+    private final IssueTypeSchemeMapper issueTypeSchemeMapper;
+    private final IssueTypeSchemeItemMapper issueTypeSchemeItemMapper;
+    private final PrioritySchemeMapper prioritySchemeMapper;
+    private final PrioritySchemeItemMapper prioritySchemeItemMapper;
+    private final WorkflowSchemeMapper workflowSchemeMapper;
+    private final WorkflowSchemeItemMapper workflowSchemeItemMapper;
+
+    @Override
+    public SchemeMetadataEntity loadSchemeMetadata(Long tenantId) {
+        Map<Long, List<WorkflowStepEntity>> steps = workflowStepMapper
+                .toEntities(workflowStepRepository.findAllByTenantIdOrSystemTenant(tenantId))
+                .stream()
+                .collect(Collectors.groupingBy(WorkflowStepEntity::getWorkflowId));
+        Map<Long, List<WorkflowTransitionRuleEntity>> rules = workflowTransitionRuleMapper
+                .toEntities(workflowTransitionRuleRepository.findAllByTenantIdOrSystemTenant(tenantId))
+                .stream()
+                .collect(Collectors.groupingBy(WorkflowTransitionRuleEntity::getTransitionId));
+        List<WorkflowTransitionEntity> transitionList = workflowTransitionMapper
+                .toEntities(workflowTransitionRepository.findAllByTenantIdOrSystemTenant(tenantId));
+        transitionList.forEach(transition -> transition.setRules(rules.getOrDefault(transition.getId(), List.of())));
+        Map<Long, List<WorkflowTransitionEntity>> transitions = transitionList.stream()
+                .collect(Collectors.groupingBy(WorkflowTransitionEntity::getWorkflowId));
+        List<WorkflowEntity> workflows = workflowMapper
+                .toEntities(workflowRepository.findAllByTenantIdOrSystemTenant(tenantId));
+        workflows.forEach(workflow -> {
+            workflow.setSteps(steps.getOrDefault(workflow.getId(), List.of()));
+            workflow.setTransitions(transitions.getOrDefault(workflow.getId(), List.of()));
+        });
+
+        Map<Long, List<IssueTypeSchemeItemEntity>> issueTypeSchemeItems = issueTypeSchemeItemMapper
+                .toEntities(issueTypeSchemeItemRepository.findAllByTenantIdOrSystemTenant(tenantId))
+                .stream()
+                .collect(Collectors.groupingBy(IssueTypeSchemeItemEntity::getSchemeId));
+        List<IssueTypeSchemeEntity> issueTypeSchemes = issueTypeSchemeMapper
+                .toEntities(issueTypeSchemeRepository.findAllByTenantIdOrSystemTenant(tenantId));
+        issueTypeSchemes.forEach(scheme -> scheme.setItems(issueTypeSchemeItems.getOrDefault(scheme.getId(), List.of())));
+
+        Map<Long, List<PrioritySchemeItemEntity>> prioritySchemeItems = prioritySchemeItemMapper
+                .toEntities(prioritySchemeItemRepository.findAllByTenantIdOrSystemTenant(tenantId))
+                .stream()
+                .collect(Collectors.groupingBy(PrioritySchemeItemEntity::getSchemeId));
+        List<PrioritySchemeEntity> prioritySchemes = prioritySchemeMapper
+                .toEntities(prioritySchemeRepository.findAllByTenantIdOrSystemTenant(tenantId));
+        prioritySchemes.forEach(scheme -> scheme.setItems(prioritySchemeItems.getOrDefault(scheme.getId(), List.of())));
+
+        Map<Long, List<WorkflowSchemeItemEntity>> workflowSchemeItems = workflowSchemeItemMapper
+                .toEntities(workflowSchemeItemRepository.findAllByTenantIdOrSystemTenant(tenantId))
+                .stream()
+                .collect(Collectors.groupingBy(WorkflowSchemeItemEntity::getSchemeId));
+        List<WorkflowSchemeEntity> workflowSchemes = workflowSchemeMapper
+                .toEntities(workflowSchemeRepository.findAllByTenantIdOrSystemTenant(tenantId));
+        workflowSchemes.forEach(scheme -> scheme.setItems(workflowSchemeItems.getOrDefault(scheme.getId(), List.of())));
+
+        return new SchemeMetadataEntity(
+                tenantId,
+                issueTypeMapper.toEntities(issueTypeRepository.findAllByTenantIdOrSystemTenant(tenantId)),
+                priorityMapper.toEntities(priorityRepository.findAllByTenantIdOrSystemTenant(tenantId)),
+                statusMapper.toEntities(statusRepository.findAllByTenantIdOrSystemTenant(tenantId)),
+                workflows,
+                issueTypeSchemes,
+                prioritySchemes,
+                workflowSchemes);
+    }
+}
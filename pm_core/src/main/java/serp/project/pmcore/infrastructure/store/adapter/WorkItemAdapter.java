@@ -7,19 +7,40 @@ package serp.project.pmcore.infrastructure.store.adapter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
 import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+import serp.project.pmcore.core.domain.dto.request.BulkUpdateWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.response.PageResult;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity;
 import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.enums.WorkItemAggregateDimension;
+import serp.project.pmcore.core.port.client.ICachePort;
 import serp.project.pmcore.core.port.store.IWorkItemPort;
 import serp.project.pmcore.infrastructure.store.mapper.WorkItemMapper;
 import serp.project.pmcore.infrastructure.store.mapper.WorkItemRowMapper;
+import serp.project.pmcore.infrastructure.store.query.KeysetCursor;
+import serp.project.pmcore.infrastructure.store.query.QueryResult;
 import serp.project.pmcore.infrastructure.store.query.WorkItemQueryBuilder;
 import serp.project.pmcore.infrastructure.store.repository.IWorkItemRepository;
+import serp.project.pmcore.kernel.property.WorkItemSearchProperties;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
@@ -32,6 +53,18 @@ public class WorkItemAdapter implements IWorkItemPort {
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final WorkItemQueryBuilder queryBuilder;
     private final WorkItemRowMapper rowMapper;
+    private final ICachePort cachePort;
+    private final WorkItemSearchProperties searchProperties;
+
+    private static final String COUNT_CACHE_NAMESPACE = "work_item_count";
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
+
+    private static final String UPDATE_WORKFLOW_FIELDS_SQL = """
+            UPDATE work_items
+            SET status_id = :statusId, resolution_id = :resolutionId, assignee_id = :assigneeId,
+                updated_at = NOW(), updated_by = :userId
+            WHERE id = :id AND tenant_id = :tenantId AND status_id = :previousStatusId AND deleted_at IS NULL
+            """;
 
     @Override
     public WorkItemEntity saveWorkItem(WorkItemEntity workItem) {
@@ -46,6 +79,16 @@ public class WorkItemAdapter implements IWorkItemPort {
                 .map(workItemMapper::toEntity);
     }
 
+    @Override
+    public List<WorkItemEntity> getWorkItemsByIds(Collection<Long> ids, Long tenantId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return workItemMapper.toEntities(
+                workItemRepository.findAllByTenantIdAndIdIn(tenantId, ids)
+        );
+    }
+
     @Override
     public List<WorkItemEntity> getWorkItemsByProjectId(Long projectId, Long tenantId) {
         return workItemMapper.toEntities(
@@ -66,13 +109,176 @@ public class WorkItemAdapter implements IWorkItemPort {
     }
 
     @Override
-    public Pair<List<WorkItemEntity>, Long> searchWorkItems(Long tenantId, WorkItemFilterRequest filter) {
+    public void updateParentId(Long id, Long parentId, Long tenantId, Long userId) {
+        String sql = """
+                UPDATE work_items SET parent_id = :parentId, updated_at = NOW(), updated_by = :userId
+                WHERE id = :id AND tenant_id = :tenantId AND deleted_at IS NULL
+                """;
+        var params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("parentId", parentId)
+                .addValue("tenantId", tenantId)
+                .addValue("userId", userId);
+        jdbcTemplate.update(sql, params);
+    }
+
+    @Override
+    public PageResult<WorkItemEntity> searchWorkItems(Long tenantId, WorkItemFilterRequest filter) {
         var qr = queryBuilder.build(tenantId, filter);
         log.debug("WorkItem search SQL: {}", qr.dataSql());
-        log.debug("WorkItem count SQL: {}", qr.countSql());
 
-        List<WorkItemEntity> data = jdbcTemplate.query(qr.dataSql(), qr.params(), rowMapper);
+        List<Object> cursorValues = new ArrayList<>();
+        List<WorkItemEntity> data = jdbcTemplate.query(qr.dataSql(), qr.params(), (rs, rowNum) -> {
+            cursorValues.add(rs.getObject(QueryResult.CURSOR_VALUE_COLUMN));
+            return rowMapper.mapRow(rs, rowNum);
+        });
+
+        int pageSize = qr.page().pageSize();
+        String nextCursor = null;
+        if (data.size() > pageSize) {
+            data = new ArrayList<>(data.subList(0, pageSize));
+            WorkItemEntity last = data.get(pageSize - 1);
+            nextCursor = KeysetCursor.of(qr.page().sortSpec(), cursorValues.get(pageSize - 1), last.getId())
+                    .encode();
+        }
+
+        var result = PageResult.<WorkItemEntity>builder()
+                .items(data)
+                .nextCursor(nextCursor)
+                .totalExact(true);
+        switch (filter.resolveCountMode()) {
+            case EXACT -> result.totalItems(exactCount(qr));
+            case CACHED -> result.totalItems(cachedCount(tenantId, qr));
+            case ESTIMATED -> {
+                long estimate = estimatedCount(qr);
+                if (estimate < searchProperties.getExactCountThreshold()) {
+                    result.totalItems(exactCount(qr));
+                } else {
+                    result.totalItems(estimate).totalExact(false);
+                }
+            }
+            case NONE -> result.totalItems(null).totalExact(false);
+        }
+        return result.build();
+    }
+
+    @Override
+    public WorkItemAggregateEntity aggregateWorkItems(Long tenantId, WorkItemFilterRequest filter) {
+        var qr = queryBuilder.buildAggregate(tenantId, filter);
+        log.debug("WorkItem aggregate SQL: {}", qr.dataSql());
+
+        var aggregate = WorkItemAggregateEntity.builder()
+                .projectId(filter.getProjectId())
+                .groups(new EnumMap<>(WorkItemAggregateDimension.class))
+                .build();
+        jdbcTemplate.query(qr.dataSql(), qr.params(), rs -> {
+            String dimension = rs.getString(WorkItemQueryBuilder.AGGREGATE_DIMENSION_COLUMN);
+            long count = rs.getLong("item_count");
+            long estimate = rs.getLong("estimate");
+            if (dimension == null) {
+                aggregate.setCount(count);
+                aggregate.setEstimate(estimate);
+                return;
+            }
+            Long valueId = rs.getObject(WorkItemQueryBuilder.AGGREGATE_VALUE_COLUMN, Long.class);
+            aggregate.getGroups()
+                    .computeIfAbsent(WorkItemAggregateDimension.valueOf(dimension), d -> new ArrayList<>())
+                    .add(new WorkItemAggregateEntity.Bucket(valueId, count, estimate));
+        });
+        return aggregate;
+    }
+
+    @Override
+    public Set<Long> updateWorkflowFields(List<WorkItemEntity> workItems, Map<Long, Long> previousStatusIds,
+                                          Long tenantId, Long userId) {
+        if (workItems.isEmpty()) {
+            return Set.of();
+        }
+        SqlParameterSource[] batch = workItems.stream()
+                .map(workItem -> new MapSqlParameterSource()
+                        .addValue("id", workItem.getId())
+                        .addValue("tenantId", tenantId)
+                        .addValue("statusId", workItem.getStatusId())
+                        .addValue("resolutionId", workItem.getResolutionId())
+                        .addValue("assigneeId", workItem.getAssigneeId())
+                        .addValue("previousStatusId", previousStatusIds.get(workItem.getId()))
+                        .addValue("userId", userId))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_WORKFLOW_FIELDS_SQL, batch);
+
+        Set<Long> updated = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                updated.add(workItems.get(i).getId());
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public Set<Long> updateFields(List<Long> ids, BulkUpdateWorkItemsRequest changes, Long tenantId, Long userId) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        var params = new MapSqlParameterSource()
+                .addValue("ids", ids.toArray(new Long[0]))
+                .addValue("tenantId", tenantId)
+                .addValue("userId", userId);
+        StringBuilder sql = new StringBuilder("UPDATE work_items SET ");
+        if (changes.getAssigneeId() != null || changes.isUnassign()) {
+            sql.append("assignee_id = :assigneeId, ");
+            params.addValue("assigneeId", changes.getAssigneeId());
+        }
+        if (changes.getPriorityId() != null) {
+            sql.append("priority_id = :priorityId, ");
+            params.addValue("priorityId", changes.getPriorityId());
+        }
+        if (changes.getDueDate() != null || changes.isClearDueDate()) {
+            sql.append("due_date = :dueDate, ");
+            params.addValue("dueDate", workItemMapper.toDueDate(changes.getDueDate()));
+        }
+        sql.append("updated_at = NOW(), updated_by = :userId ")
+                .append("WHERE tenant_id = :tenantId AND id = ANY(:ids) AND deleted_at IS NULL RETURNING id");
+
+        return new HashSet<>(jdbcTemplate.queryForList(sql.toString(), params, Long.class));
+    }
+
+    private long exactCount(QueryResult qr) {
+        log.debug("WorkItem count SQL: {}", qr.countSql());
         Long total = jdbcTemplate.queryForObject(qr.countSql(), qr.params(), Long.class);
-        return Pair.of(data, total);
+        return total != null ? total : 0L;
+    }
+
+    private long cachedCount(Long tenantId, QueryResult qr) {
+        String key = tenantId + ":" + filterHash(qr);
+        Optional<Long> cached = cachePort.get(COUNT_CACHE_NAMESPACE, key, Long.class);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long total = exactCount(qr);
+        cachePort.put(COUNT_CACHE_NAMESPACE, key, total,
+                Duration.ofSeconds(searchProperties.getCountCacheTtlSeconds()));
+        return total;
+    }
+
+    /**
+     * Row estimate of the top plan node, from table statistics; no rows are read.
+     */
+    private long estimatedCount(QueryResult qr) {
+        String plan = jdbcTemplate.queryForObject(qr.estimateSql(), qr.params(), String.class);
+        Matcher matcher = PLAN_ROWS.matcher(plan != null ? plan : "");
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0L;
+    }
+
+    /**
+     * Hash of the count query and its filter values; paging parameters (prefixed with _) are left out
+     */
+    private String filterHash(QueryResult qr) {
+        var filter = new StringBuilder(qr.countSql());
+        Arrays.stream(qr.params().getParameterNames())
+                .filter(name -> !name.startsWith("_"))
+                .sorted()
+                .forEach(name -> filter.append('|').append(name).append('=').append(qr.params().getValue(name)));
+        return DigestUtils.md5DigestAsHex(filter.toString().getBytes(StandardCharsets.UTF_8));
     }
 }
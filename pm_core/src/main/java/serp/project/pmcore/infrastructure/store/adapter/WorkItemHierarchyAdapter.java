@@ -0,0 +1,217 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemRollupEntity;
+import serp.project.pmcore.core.port.store.IWorkItemHierarchyPort;
+
+/**
+ * Maintains work_item_closure and work_item_rollups (V7). A change to a subtree adds its totals,
+ * positive or negative, to the rollups of the subtree's ancestors. Ancestor rollup rows are locked
+ * in id order so concurrent changes under a shared ancestor queue instead of deadlocking. Time
+ * tracking changes of existing items reach the rollups through a trigger on work_items (V7), so
+ * every writer of those columns keeps the totals right.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkItemHierarchyAdapter implements IWorkItemHierarchyPort {
+
+    private static final String LOCK_KEY_PREFIX = "work_item_hierarchy:";
+
+    private static final String INSERT_LEAF_SQL = """
+            INSERT INTO work_item_closure (tenant_id, ancestor_id, descendant_id, depth)
+            SELECT CAST(:tenantId AS BIGINT), CAST(:id AS BIGINT), CAST(:id AS BIGINT), 0
+            UNION ALL
+            SELECT tenant_id, ancestor_id, CAST(:id AS BIGINT), depth + 1
+            FROM work_item_closure
+            WHERE descendant_id = :parentId AND tenant_id = :tenantId
+            """;
+
+    private static final String INSERT_ROLLUP_SQL = """
+            INSERT INTO work_item_rollups (work_item_id, tenant_id, descendant_count, time_spent,
+                                           time_original_estimate, time_remaining_estimate, updated_at)
+            VALUES (:id, :tenantId, 0, :timeSpent, :timeOriginalEstimate, :timeRemainingEstimate, NOW())
+            ON CONFLICT (work_item_id) DO NOTHING
+            """;
+
+    private static final String ADD_TO_ANCESTORS_SQL = """
+            WITH ancestors AS (
+                SELECT r.work_item_id
+                FROM work_item_rollups r
+                JOIN work_item_closure c ON c.ancestor_id = r.work_item_id
+                WHERE c.descendant_id = :id AND c.depth > 0 AND c.tenant_id = :tenantId
+                ORDER BY r.work_item_id
+                FOR UPDATE OF r
+            )
+            UPDATE work_item_rollups r
+            SET descendant_count = r.descendant_count + :count,
+                time_spent = r.time_spent + :timeSpent,
+                time_original_estimate = r.time_original_estimate + :timeOriginalEstimate,
+                time_remaining_estimate = r.time_remaining_estimate + :timeRemainingEstimate,
+                updated_at = NOW()
+            FROM ancestors a
+            WHERE r.work_item_id = a.work_item_id
+            """;
+
+    private static final String DETACH_SUBTREE_SQL = """
+            DELETE FROM work_item_closure c
+            WHERE c.tenant_id = :tenantId
+            AND c.descendant_id IN (SELECT descendant_id FROM work_item_closure
+                                    WHERE ancestor_id = :id AND tenant_id = :tenantId)
+            AND c.ancestor_id IN (SELECT ancestor_id FROM work_item_closure
+                                  WHERE descendant_id = :id AND depth > 0 AND tenant_id = :tenantId)
+            """;
+
+    private static final String ATTACH_SUBTREE_SQL = """
+            INSERT INTO work_item_closure (tenant_id, ancestor_id, descendant_id, depth)
+            SELECT p.tenant_id, p.ancestor_id, s.descendant_id, p.depth + s.depth + 1
+            FROM work_item_closure p
+            JOIN work_item_closure s ON s.ancestor_id = :id AND s.tenant_id = p.tenant_id
+            WHERE p.descendant_id = :parentId AND p.tenant_id = :tenantId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockProjectHierarchy(Long projectId, Long tenantId, boolean exclusive) {
+        String function = exclusive ? "pg_advisory_xact_lock" : "pg_advisory_xact_lock_shared";
+        String sql = "SELECT " + function + "(hashtextextended(:lockKey, 0))";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("lockKey", LOCK_KEY_PREFIX + tenantId + ":" + projectId);
+        jdbcTemplate.queryForList(sql, params);
+    }
+
+    @Override
+    public void insertLeaf(WorkItemEntity workItem, Long tenantId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", workItem.getId())
+                .addValue("parentId", workItem.getParentId())
+                .addValue("tenantId", tenantId)
+                .addValue("timeSpent", orZero(workItem.getTimeSpent()))
+                .addValue("timeOriginalEstimate", orZero(workItem.getTimeOriginalEstimate()))
+                .addValue("timeRemainingEstimate", orZero(workItem.getTimeRemainingEstimate()));
+        jdbcTemplate.update(INSERT_LEAF_SQL, params);
+        jdbcTemplate.update(INSERT_ROLLUP_SQL, params);
+        if (workItem.getParentId() != null) {
+            addToAncestors(workItem.getId(), tenantId, 1, orZero(workItem.getTimeSpent()),
+                    orZero(workItem.getTimeOriginalEstimate()), orZero(workItem.getTimeRemainingEstimate()));
+        }
+    }
+
+    @Override
+    public void moveSubtree(Long workItemId, Long newParentId, Long tenantId) {
+        WorkItemRollupEntity subtree = getRollup(workItemId, tenantId).orElseGet(() -> emptyRollup(workItemId));
+        int count = subtree.getDescendantCount() + 1;
+        addToAncestors(workItemId, tenantId, -count, -subtree.getTimeSpent(),
+                -subtree.getTimeOriginalEstimate(), -subtree.getTimeRemainingEstimate());
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", workItemId)
+                .addValue("parentId", newParentId)
+                .addValue("tenantId", tenantId);
+        jdbcTemplate.update(DETACH_SUBTREE_SQL, params);
+        if (newParentId == null) {
+            return;
+        }
+        jdbcTemplate.update(ATTACH_SUBTREE_SQL, params);
+        addToAncestors(workItemId, tenantId, count, subtree.getTimeSpent(),
+                subtree.getTimeOriginalEstimate(), subtree.getTimeRemainingEstimate());
+    }
+
+    @Override
+    public void removeLeaf(Long workItemId, Long tenantId) {
+        WorkItemRollupEntity leaf = getRollup(workItemId, tenantId).orElseGet(() -> emptyRollup(workItemId));
+        addToAncestors(workItemId, tenantId, -1, -leaf.getTimeSpent(),
+                -leaf.getTimeOriginalEstimate(), -leaf.getTimeRemainingEstimate());
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", workItemId)
+                .addValue("tenantId", tenantId);
+        jdbcTemplate.update("DELETE FROM work_item_closure WHERE descendant_id = :id AND tenant_id = :tenantId", params);
+        jdbcTemplate.update("DELETE FROM work_item_rollups WHERE work_item_id = :id AND tenant_id = :tenantId", params);
+    }
+
+    @Override
+    public boolean isAncestor(Long ancestorId, Long descendantId, Long tenantId) {
+        String sql = """
+                SELECT EXISTS (SELECT 1 FROM work_item_closure
+                WHERE ancestor_id = :ancestorId AND descendant_id = :descendantId AND tenant_id = :tenantId)
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ancestorId", ancestorId)
+                .addValue("descendantId", descendantId)
+                .addValue("tenantId", tenantId);
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, params, Boolean.class));
+    }
+
+    @Override
+    public boolean hasDescendants(Long workItemId, Long tenantId) {
+        String sql = """
+                SELECT EXISTS (SELECT 1 FROM work_item_closure
+                WHERE ancestor_id = :id AND depth > 0 AND tenant_id = :tenantId)
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", workItemId)
+                .addValue("tenantId", tenantId);
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, params, Boolean.class));
+    }
+
+    @Override
+    public Optional<WorkItemRollupEntity> getRollup(Long workItemId, Long tenantId) {
+        String sql = """
+                SELECT work_item_id, descendant_count, time_spent, time_original_estimate, time_remaining_estimate
+                FROM work_item_rollups
+                WHERE work_item_id = :id AND tenant_id = :tenantId
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", workItemId)
+                .addValue("tenantId", tenantId);
+        List<WorkItemRollupEntity> rollups = jdbcTemplate.query(sql, params, (rs, rowNum) ->
+                WorkItemRollupEntity.builder()
+                        .workItemId(rs.getLong("work_item_id"))
+                        .descendantCount(rs.getInt("descendant_count"))
+                        .timeSpent(rs.getLong("time_spent"))
+                        .timeOriginalEstimate(rs.getLong("time_original_estimate"))
+                        .timeRemainingEstimate(rs.getLong("time_remaining_estimate"))
+                        .build());
+        return rollups.stream().findFirst();
+    }
+
+    private void addToAncestors(Long workItemId, Long tenantId, int count, long timeSpent,
+                                long timeOriginalEstimate, long timeRemainingEstimate) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", workItemId)
+                .addValue("tenantId", tenantId)
+                .addValue("count", count)
+                .addValue("timeSpent", timeSpent)
+                .addValue("timeOriginalEstimate", timeOriginalEstimate)
+                .addValue("timeRemainingEstimate", timeRemainingEstimate);
+        jdbcTemplate.update(ADD_TO_ANCESTORS_SQL, params);
+    }
+
+    private static WorkItemRollupEntity emptyRollup(Long workItemId) {
+        return WorkItemRollupEntity.builder()
+                .workItemId(workItemId)
+                .descendantCount(0)
+                .timeSpent(0L)
+                .timeOriginalEstimate(0L)
+                .timeRemainingEstimate(0L)
+                .build();
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.adapter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import lombok.RequiredArgsConstructor;
+
+import serp.project.pmcore.core.domain.dto.response.PageResult;
+import serp.project.pmcore.core.domain.entity.WorkItemHistoryEntity;
+import serp.project.pmcore.core.exception.AppException;
+import serp.project.pmcore.core.exception.ErrorCode;
+import serp.project.pmcore.core.port.store.IWorkItemHistoryPort;
+import serp.project.pmcore.infrastructure.store.query.KeysetCursor;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+/**
+ * Appends to and reads the partitioned work_item_history table (V10). Appends skip rows already
+ * recorded for the same outbox event, so a batch can be recorded again after a retry. Exports read
+ * keyset pages, so no statement stays open while the rows are written out.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkItemHistoryAdapter implements IWorkItemHistoryPort {
+
+    private static final String SORT_SPEC = "occurred_at:DESC";
+
+    private static final TypeReference<List<WorkItemHistoryEntity.FieldChange>> CHANGES_TYPE = new TypeReference<>() {
+    };
+
+    private static final String INSERT_SQL = """
+            INSERT INTO work_item_history (tenant_id, project_id, work_item_id, outbox_event_id, event_type,
+                                           actor_id, changes, occurred_at)
+            SELECT t.tenant_id, t.project_id, t.work_item_id, t.outbox_event_id, t.event_type,
+                   t.actor_id, CAST(t.changes AS JSONB), t.occurred_at
+            FROM unnest(CAST(:tenantIds AS BIGINT[]), CAST(:projectIds AS BIGINT[]), CAST(:workItemIds AS BIGINT[]),
+                        CAST(:outboxEventIds AS BIGINT[]), CAST(:eventTypes AS TEXT[]), CAST(:actorIds AS BIGINT[]),
+                        CAST(:changes AS TEXT[]), CAST(:occurredAts AS TIMESTAMP[]))
+                 AS t(tenant_id, project_id, work_item_id, outbox_event_id, event_type, actor_id, changes, occurred_at)
+            ON CONFLICT (outbox_event_id, work_item_id, occurred_at) DO NOTHING
+            """;
+
+    private static final String COLUMNS = """
+            id, tenant_id, project_id, work_item_id, outbox_event_id, event_type, actor_id, changes, occurred_at
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JsonUtils jsonUtils;
+
+    @Override
+    public void insertBatch(List<WorkItemHistoryEntity> history) {
+        if (history.isEmpty()) {
+            return;
+        }
+        int size = history.size();
+        Long[] tenantIds = new Long[size];
+        Long[] projectIds = new Long[size];
+        Long[] workItemIds = new Long[size];
+        Long[] outboxEventIds = new Long[size];
+        String[] eventTypes = new String[size];
+        Long[] actorIds = new Long[size];
+        String[] changes = new String[size];
+        String[] occurredAts = new String[size];
+        for (int i = 0; i < size; i++) {
+            WorkItemHistoryEntity row = history.get(i);
+            tenantIds[i] = row.getTenantId();
+            projectIds[i] = row.getProjectId();
+            workItemIds[i] = row.getWorkItemId();
+            outboxEventIds[i] = row.getOutboxEventId();
+            eventTypes[i] = row.getEventType();
+            actorIds[i] = row.getActorId();
+            changes[i] = jsonUtils.toJson(row.getChanges());
+            occurredAts[i] = toLocalDateTime(row.getOccurredAt()).toString();
+        }
+        var params = new MapSqlParameterSource()
+                .addValue("tenantIds", tenantIds)
+                .addValue("projectIds", projectIds)
+                .addValue("workItemIds", workItemIds)
+                .addValue("outboxEventIds", outboxEventIds)
+                .addValue("eventTypes", eventTypes)
+                .addValue("actorIds", actorIds)
+                .addValue("changes", changes)
+                .addValue("occurredAts", occurredAts);
+        jdbcTemplate.update(INSERT_SQL, params);
+    }
+
+    @Override
+    public PageResult<WorkItemHistoryEntity> getWorkItemHistory(Long tenantId, Long workItemId, String cursor,
+                                                                int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("workItemId", workItemId)
+                .addValue("limit", limit + 1);
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS)
+                .append("FROM work_item_history WHERE tenant_id = :tenantId AND work_item_id = :workItemId");
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            if (!SORT_SPEC.equals(position.sortSpec()) || !(position.value() instanceof LocalDateTime occurredAt)) {
+                throw new AppException(ErrorCode.INVALID_PAGE_CURSOR);
+            }
+            sql.append(" AND (occurred_at, id) < (:cursorAt, :cursorId)");
+            params.addValue("cursorAt", occurredAt).addValue("cursorId", position.id());
+        }
+        sql.append(" ORDER BY occurred_at DESC, id DESC LIMIT :limit");
+
+        List<Timestamp> occurredAts = new ArrayList<>();
+        List<WorkItemHistoryEntity> rows = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> {
+            occurredAts.add(rs.getTimestamp("occurred_at"));
+            return mapRow(rs);
+        });
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = new ArrayList<>(rows.subList(0, limit));
+            nextCursor = KeysetCursor.of(SORT_SPEC, occurredAts.get(limit - 1), rows.get(limit - 1).getId())
+                    .encode();
+        }
+        return PageResult.<WorkItemHistoryEntity>builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public List<WorkItemHistoryEntity> getProjectHistoryPage(Long tenantId, Long projectId, Long from, Long to,
+                                                             WorkItemHistoryEntity after, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("projectId", projectId)
+                .addValue("from", from != null ? toLocalDateTime(from) : null)
+                .addValue("to", to != null ? toLocalDateTime(to) : null)
+                .addValue("limit", limit);
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append("""
+                FROM work_item_history
+                WHERE tenant_id = :tenantId AND project_id = :projectId
+                AND (CAST(:from AS TIMESTAMP) IS NULL OR occurred_at >= :from)
+                AND (CAST(:to AS TIMESTAMP) IS NULL OR occurred_at < :to)
+                """);
+        if (after != null) {
+            sql.append("AND (occurred_at, id) > (:afterAt, :afterId)\n");
+            params.addValue("afterAt", toLocalDateTime(after.getOccurredAt())).addValue("afterId", after.getId());
+        }
+        sql.append("ORDER BY occurred_at, id LIMIT :limit");
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> mapRow(rs));
+    }
+
+    @Override
+    public int ensurePartitions(int monthsAhead) {
+        Integer created = jdbcTemplate.queryForObject("SELECT ensure_work_item_history_partitions(:monthsAhead)",
+                new MapSqlParameterSource("monthsAhead", monthsAhead), Integer.class);
+        return created != null ? created : 0;
+    }
+
+    @Override
+    public int dropPartitionsBefore(long cutoff) {
+        Integer dropped = jdbcTemplate.queryForObject("SELECT drop_work_item_history_partitions_before(:cutoff)",
+                new MapSqlParameterSource("cutoff", toLocalDateTime(cutoff)), Integer.class);
+        return dropped != null ? dropped : 0;
+    }
+
+    private WorkItemHistoryEntity mapRow(ResultSet rs) throws SQLException {
+        return WorkItemHistoryEntity.builder()
+                .id(rs.getLong("id"))
+                .tenantId(rs.getLong("tenant_id"))
+                .projectId(rs.getLong("project_id"))
+                .workItemId(rs.getLong("work_item_id"))
+                .outboxEventId(rs.getLong("outbox_event_id"))
+                .eventType(rs.getString("event_type"))
+                .actorId(rs.getObject("actor_id", Long.class))
+                .changes(jsonUtils.fromJson(rs.getString("changes"), CHANGES_TYPE))
+                .occurredAt(rs.getTimestamp("occurred_at").toLocalDateTime()
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(long timestamp) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.adapter;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import serp.project.pmcore.core.port.store.IWorkItemRankPort;
+
+/**
+ * Rank reads and writes on work_items. Ranks are compared with the "C" collation so the database
+ * orders them byte-wise, the same way LexorankUtils generates them.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkItemRankAdapter implements IWorkItemRankPort {
+
+    private static final String LOCK_KEY_PREFIX = "work_item_rank:";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockProjectRanks(Long projectId, Long tenantId) {
+        lock("SELECT pg_advisory_xact_lock(hashtextextended(:lockKey, 0))", projectId, tenantId);
+    }
+
+    @Override
+    public void lockProjectRanksShared(Long projectId, Long tenantId) {
+        lock("SELECT pg_advisory_xact_lock_shared(hashtextextended(:lockKey, 0))", projectId, tenantId);
+    }
+
+    @Override
+    public String getLastRank(Long projectId, Long tenantId) {
+        String sql = """
+                SELECT rank FROM work_items
+                WHERE tenant_id = :tenantId AND project_id = :projectId
+                AND rank IS NOT NULL AND deleted_at IS NULL
+                ORDER BY rank COLLATE "C" DESC, id DESC
+                LIMIT 1
+                """;
+        return firstRank(sql, projectParams(projectId, tenantId));
+    }
+
+    @Override
+    public String getRank(Long workItemId, Long projectId, Long tenantId) {
+        String sql = """
+                SELECT rank FROM work_items
+                WHERE id = :id AND tenant_id = :tenantId AND project_id = :projectId
+                AND deleted_at IS NULL
+                """;
+        return firstRank(sql, projectParams(projectId, tenantId).addValue("id", workItemId));
+    }
+
+    @Override
+    public String getNextRank(Long projectId, Long tenantId, String rank, Long afterId, List<Long> excludedIds) {
+        String sql = """
+                SELECT rank FROM work_items
+                WHERE tenant_id = :tenantId AND project_id = :projectId
+                AND deleted_at IS NULL AND id NOT IN (:excludedIds)
+                AND (rank COLLATE "C" > :rank OR (rank = :rank AND id > :id))
+                ORDER BY rank COLLATE "C", id
+                LIMIT 1
+                """;
+        MapSqlParameterSource params = projectParams(projectId, tenantId)
+                .addValue("rank", rank)
+                .addValue("id", afterId)
+                .addValue("excludedIds", excludedIds);
+        return firstRank(sql, params);
+    }
+
+    @Override
+    public String getPreviousRank(Long projectId, Long tenantId, String rank, Long beforeId, List<Long> excludedIds) {
+        String sql = """
+                SELECT rank FROM work_items
+                WHERE tenant_id = :tenantId AND project_id = :projectId
+                AND deleted_at IS NULL AND id NOT IN (:excludedIds)
+                AND (rank COLLATE "C" < :rank OR (rank = :rank AND id < :id))
+                ORDER BY rank COLLATE "C" DESC, id DESC
+                LIMIT 1
+                """;
+        MapSqlParameterSource params = projectParams(projectId, tenantId)
+                .addValue("rank", rank)
+                .addValue("id", beforeId)
+                .addValue("excludedIds", excludedIds);
+        return firstRank(sql, params);
+    }
+
+    @Override
+    public int updateRanks(Long projectId, Long tenantId, Map<Long, String> ranks, Long userId) {
+        if (ranks.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = projectParams(projectId, tenantId).addValue("userId", userId);
+        StringBuilder values = new StringBuilder();
+        int i = 0;
+        for (Map.Entry<Long, String> entry : ranks.entrySet()) {
+            if (i > 0) {
+                values.append(", ");
+            }
+            values.append("(CAST(:id").append(i).append(" AS BIGINT), CAST(:rank").append(i).append(" AS VARCHAR))");
+            params.addValue("id" + i, entry.getKey());
+            params.addValue("rank" + i, entry.getValue());
+            i++;
+        }
+        // A rebalance only respaces ranks; it is not an edit of the items
+        String audit = userId != null ? ", updated_at = NOW(), updated_by = :userId" : "";
+        String sql = """
+                UPDATE work_items w
+                SET rank = v.rank%s
+                FROM (VALUES %s) AS v(id, rank)
+                WHERE w.id = v.id
+                AND w.tenant_id = :tenantId AND w.project_id = :projectId
+                AND w.deleted_at IS NULL
+                """.formatted(audit, values);
+        return jdbcTemplate.update(sql, params);
+    }
+
+    @Override
+    public List<Long> getWorkItemIdsInRankOrder(Long projectId, Long tenantId) {
+        String sql = """
+                SELECT id FROM work_items
+                WHERE tenant_id = :tenantId AND project_id = :projectId
+                AND deleted_at IS NULL
+                ORDER BY rank COLLATE "C" NULLS LAST, id
+                """;
+        return jdbcTemplate.queryForList(sql, projectParams(projectId, tenantId), Long.class);
+    }
+
+    @Override
+    public int getMaxRankLength(Long projectId, Long tenantId) {
+        String sql = """
+                SELECT COALESCE(MAX(LENGTH(rank)), 0) FROM work_items
+                WHERE tenant_id = :tenantId AND project_id = :projectId
+                AND deleted_at IS NULL
+                """;
+        Integer length = jdbcTemplate.queryForObject(sql, projectParams(projectId, tenantId), Integer.class);
+        return length != null ? length : 0;
+    }
+
+    @Override
+    public List<Pair<Long, Long>> getProjectsToRebalance(int maxLength, int limit) {
+        String sql = """
+                SELECT tenant_id, project_id FROM work_items
+                WHERE deleted_at IS NULL
+                GROUP BY tenant_id, project_id
+                HAVING MAX(LENGTH(rank)) > :maxLength
+                OR BOOL_OR(rank IS NULL OR rank NOT LIKE '_|%')
+                LIMIT :limit
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("maxLength", maxLength)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(sql, params,
+                (rs, rowNum) -> Pair.of(rs.getLong("tenant_id"), rs.getLong("project_id")));
+    }
+
+    private void lock(String sql, Long projectId, Long tenantId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("lockKey", LOCK_KEY_PREFIX + tenantId + ":" + projectId);
+        jdbcTemplate.queryForList(sql, params);
+    }
+
+    private String firstRank(String sql, MapSqlParameterSource params) {
+        List<String> ranks = jdbcTemplate.queryForList(sql, params, String.class);
+        return ranks.isEmpty() ? null : ranks.getFirst();
+    }
+
+    private MapSqlParameterSource projectParams(Long projectId, Long tenantId) {
+        return new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("tenantId", tenantId);
+    }
+}
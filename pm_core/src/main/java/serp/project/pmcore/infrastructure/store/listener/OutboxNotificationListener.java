@@ -0,0 +1,143 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.listener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import serp.project.pmcore.core.service.OutboxPollingPublisher;
+import serp.project.pmcore.kernel.property.OutboxProperties;
+
+/**
+ * Holds a dedicated Postgres connection that LISTENs on the channel notified by the
+ * outbox_events insert trigger (V5) and wakes the outbox relay on every notification.
+ * The connection lives outside the Hikari pool so it never takes a slot from request handling.
+ */
+@Component
+@Slf4j
+public class OutboxNotificationListener {
+    private static final String CHANNEL = "pm_outbox_events";
+
+    private static final int RECEIVE_TIMEOUT_MS = 10_000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final OutboxPollingPublisher outboxPollingPublisher;
+    private final OutboxProperties outboxProperties;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    public OutboxNotificationListener(OutboxPollingPublisher outboxPollingPublisher,
+                                      OutboxProperties outboxProperties,
+                                      @Value("${spring.datasource.url}") String url,
+                                      @Value("${spring.datasource.username}") String username,
+                                      @Value("${spring.datasource.password}") String password) {
+        this.outboxPollingPublisher = outboxPollingPublisher;
+        this.outboxProperties = outboxProperties;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!outboxProperties.isNotifyEnabled()) {
+            log.info("Outbox notifications disabled, relay runs on polling only");
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofPlatform()
+            .name("outbox-notification-listener")
+            .daemon(true)
+            .start(this::listenLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try {
+                listen();
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Outbox notification listener lost its connection, retrying in {} ms: {}",
+                        outboxProperties.getNotifyReconnectDelayMs(), e.getMessage());
+                }
+            } finally {
+                outboxPollingPublisher.setNotificationsActive(false);
+                closeQuietly(connection);
+                connection = null;
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(outboxProperties.getNotifyReconnectDelayMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen() throws SQLException {
+        connection = openConnection();
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("Listening for outbox notifications on channel {}", CHANNEL);
+
+        outboxPollingPublisher.setNotificationsActive(true);
+        // Rows committed while the listener was down produced no wake-up
+        outboxPollingPublisher.wakeUp();
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(RECEIVE_TIMEOUT_MS);
+            if (notifications != null && notifications.length > 0) {
+                outboxPollingPublisher.wakeUp();
+            } else if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Listener connection is no longer valid");
+            }
+        }
+    }
+
+    Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    private void closeQuietly(Connection toClose) {
+        if (toClose == null) {
+            return;
+        }
+        try {
+            toClose.close();
+        } catch (SQLException e) {
+            log.debug("Error closing outbox listener connection: {}", e.getMessage());
+        }
+    }
+}
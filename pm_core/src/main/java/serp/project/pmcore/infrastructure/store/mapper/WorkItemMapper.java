@@ -9,11 +9,19 @@ import org.springframework.stereotype.Component;
 import serp.project.pmcore.core.domain.entity.WorkItemEntity;
 import serp.project.pmcore.infrastructure.store.model.WorkItemModel;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 @Component
 public class WorkItemMapper extends BaseMapper {
+    /**
+     * Value bound to the due_date column for a due date in epoch milliseconds
+     */
+    public LocalDateTime toDueDate(Long dueDate) {
+        return longToLocalDateTime(dueDate);
+    }
+
     public WorkItemModel toModel(WorkItemEntity entity) {
         if (entity == null) {
             return null;
@@ -18,7 +18,7 @@ public class WorkItemRowMapper extends BaseRowMapper implements RowMapper<WorkIt
 
     @Override
     public WorkItemEntity mapRow(ResultSet rs, int rowNum) throws SQLException {
-        var builder = WorkItemEntity.builder()
+        return WorkItemEntity.builder()
                 .id(rs.getLong("id"))
                 .tenantId(rs.getLong("tenant_id"))
                 .projectId(rs.getLong("project_id"))
@@ -37,22 +37,8 @@ public class WorkItemRowMapper extends BaseRowMapper implements RowMapper<WorkIt
                 .createdAt(toEpochMilli(rs.getTimestamp("created_at")))
                 .updatedAt(toEpochMilli(rs.getTimestamp("updated_at")))
                 .createdBy(getNullableLong(rs, "created_by"))
-                .updatedBy(getNullableLong(rs, "updated_by"));
-
-        // Enriched columns (only present when LEFT JOINs are active)
-        if (hasColumn(rs, "issue_type_name")) {
-            builder.issueTypeName(rs.getString("issue_type_name"))
-                    .issueTypeIconUrl(rs.getString("issue_type_icon_url"))
-                    .issueTypeHierarchyLevel(getNullableInt(rs, "issue_type_hierarchy_level"));
-        }
-        if (hasColumn(rs, "priority_name")) {
-            builder.priorityName(rs.getString("priority_name"))
-                    .priorityIconUrl(rs.getString("priority_icon_url"))
-                    .priorityColor(rs.getString("priority_color"))
-                    .prioritySequence(getNullableInt(rs, "priority_sequence"));
-        }
-
-        return builder.build();
+                .updatedBy(getNullableLong(rs, "updated_by"))
+                .build();
     }
 
 }
@@ -0,0 +1,45 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLRestriction;
+
+@Entity
+@Table(name = "workflow_transitions")
+@SQLRestriction("deleted_at IS NULL")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class WorkflowTransitionModel extends BaseModel {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "workflow_id", nullable = false)
+    private Long workflowId;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "from_status_id")
+    private Long fromStatusId;
+
+    @Column(name = "to_status_id", nullable = false)
+    private Long toStatusId;
+
+    @Column(name = "sequence")
+    private Integer sequence;
+}
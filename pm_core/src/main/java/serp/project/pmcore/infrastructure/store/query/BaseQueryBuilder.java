@@ -10,11 +10,14 @@ import org.springframework.stereotype.Component;
 import serp.project.pmcore.core.domain.dto.filter.FieldFilter;
 import serp.project.pmcore.core.domain.dto.filter.FilterOperator;
 import serp.project.pmcore.core.domain.dto.filter.SortField;
+import serp.project.pmcore.core.exception.AppException;
+import serp.project.pmcore.core.exception.ErrorCode;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -30,19 +33,30 @@ import java.util.Set;
  * <ul>
  *   <li>Scalar comparisons: =, !=, >, >=, <, <=</li>
  *   <li>List operations: IN, NOT IN</li>
- *   <li>Text search: ILIKE with auto-wrapped %</li>
+ *   <li>Text search: ILIKE with auto-wrapped %, or trigram and full-text index matches
+ *   ranked by relevance</li>
  *   <li>Date/timestamp ranges with epoch ms conversion</li>
  *   <li>NULL checks: IS NULL, IS NOT NULL</li>
  *   <li>EXISTS subqueries for junction/join tables</li>
  *   <li>Optional LEFT JOINs for enrichment</li>
  *   <li>Sort with column whitelist + NULLS FIRST/LAST</li>
- *   <li>Pagination with LIMIT/OFFSET</li>
+ *   <li>Pagination with LIMIT/OFFSET or keyset cursors on (sort column, id)</li>
  *   <li>Generic {@link FieldFilter} dispatch</li>
  * </ul>
  */
 @Component
 public class BaseQueryBuilder {
 
+    /**
+     * Text search configuration of the stored tsvector columns; queries must use the same one
+     */
+    public static final String TEXT_SEARCH_CONFIG = "simple";
+
+    /**
+     * pg_trgm cannot index patterns shorter than one trigram
+     */
+    public static final int MIN_TRIGRAM_LENGTH = 3;
+
     /**
      * Append a single scalar condition: {@code column OP :paramName}.
      * Supports EQ, NEQ, GT, GTE, LT, LTE. Silently skips if value is null.
@@ -112,6 +126,48 @@ public class BaseQueryBuilder {
         params.addValue(paramName, pattern);
     }
 
+    /**
+     * Append an index-backed keyword match: a full-text match on {@code vectorColumn}, substring
+     * matches on {@code trigramColumns} and a fuzzy word-similarity match on {@code fuzzyColumn},
+     * OR-combined so Postgres can combine the GIN indexes in one bitmap scan. Keywords shorter
+     * than {@link #MIN_TRIGRAM_LENGTH} fall back to {@link #appendLike}. Silently skips if
+     * keyword is blank.
+     * <p>
+     * Binds {@code :paramName} to the keyword and {@code :paramNameLike} to its ILIKE pattern;
+     * {@link #textRankExpression} reuses them.
+     */
+    public void appendTextSearch(StringBuilder where, MapSqlParameterSource params,
+                                 String vectorColumn, String[] trigramColumns, String fuzzyColumn,
+                                 String paramName, String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return;
+        }
+        String text = keyword.trim();
+        if (text.length() < MIN_TRIGRAM_LENGTH) {
+            appendLike(where, params, trigramColumns, paramName + "Like", text);
+            return;
+        }
+        where.append(" AND (").append(vectorColumn)
+                .append(" @@ websearch_to_tsquery('").append(TEXT_SEARCH_CONFIG).append("', :").append(paramName).append(")");
+        for (String column : trigramColumns) {
+            where.append(" OR ").append(column).append(" ILIKE :").append(paramName).append("Like");
+        }
+        where.append(" OR :").append(paramName).append(" <% ").append(fuzzyColumn).append(")");
+        params.addValue(paramName, text);
+        params.addValue(paramName + "Like", "%" + text.toLowerCase() + "%");
+    }
+
+    /**
+     * Relevance of a row to a keyword bound by {@link #appendTextSearch}: the full-text rank
+     * normalized to [0, 1) plus the word similarity of the fuzzy column, scaled to a bigint so
+     * it can serve as a keyset sort value.
+     */
+    public String textRankExpression(String vectorColumn, String fuzzyColumn, String paramName) {
+        return "CAST(ROUND((ts_rank_cd(" + vectorColumn + ", websearch_to_tsquery('" + TEXT_SEARCH_CONFIG
+                + "', :" + paramName + "), 32) + word_similarity(:" + paramName + ", COALESCE(" + fuzzyColumn
+                + ", ''))) * 1000000) AS BIGINT)";
+    }
+
     /**
      * Append a date/timestamp range: {@code column >= :prefixFrom AND column <= :prefixTo}.
      * Either bound can be null (open-ended range).
@@ -249,18 +305,12 @@ public class BaseQueryBuilder {
                                           SortField sort, int page, int pageSize,
                                           Set<String> allowedSortColumns,
                                           String defaultSort) {
-        String sortCol = (sort != null && sort.getField() != null
-                && allowedSortColumns.contains(sort.getField()))
-                ? sort.getField() : defaultSort;
-
-        String sortDir = (sort != null && "DESC".equalsIgnoreCase(sort.getDirection()))
-                ? "DESC" : "ASC";
-
-        String nulls = (sort != null && "FIRST".equalsIgnoreCase(sort.getNullsPosition()))
-                ? "NULLS FIRST" : "NULLS LAST";
+        String sortCol = resolveSortColumn(sort, allowedSortColumns, defaultSort);
+        String sortDir = resolveDirection(sort);
+        String nulls = resolveNulls(sort);
 
         int safePage = Math.max(page, 0);
-        int safeSize = (pageSize > 0 && pageSize <= 200) ? pageSize : 20;
+        int safeSize = safePageSize(pageSize);
 
         params.addValue("_limit", safeSize);
         params.addValue("_offset", safePage * safeSize);
@@ -269,6 +319,136 @@ public class BaseQueryBuilder {
                 + " LIMIT :_limit OFFSET :_offset";
     }
 
+    /**
+     * Build ORDER BY + LIMIT for keyset (cursor) pagination.
+     * <p>
+     * Rows are ordered by the whitelisted sort column with the id as tie-breaker, so every
+     * row has a unique position. A cursor from the previous page turns into a seek predicate
+     * on (sort column, id) that honors the direction and NULLS position, which keeps deep pages
+     * as cheap as the first one. Without a cursor the page is read with OFFSET as before.
+     * <p>
+     * With a cursor the fragment starts with {@code AND (...)}, so it must be appended directly
+     * after the WHERE conditions. LIMIT is page size + 1; an extra row means there is a next page.
+     *
+     * @param cursorToken         nextCursor of the previous page, or null
+     * @throws serp.project.pmcore.core.exception.AppException when the cursor is malformed or
+     *                            was issued for a different sort
+     */
+    public KeysetPage buildKeysetOrderAndPagination(MapSqlParameterSource params,
+                                                    String tableAlias,
+                                                    SortField sort, int page, int pageSize,
+                                                    String cursorToken,
+                                                    Set<String> allowedSortColumns,
+                                                    String defaultSort) {
+        return buildKeysetOrderAndPagination(params, tableAlias, sort, page, pageSize, cursorToken,
+                allowedSortColumns, Map.of(), defaultSort);
+    }
+
+    /**
+     * Keyset page that may also be ordered by computed values, e.g. a relevance score.
+     *
+     * @param sortExpressions sort fields backed by an SQL expression instead of the bare column, e.g.
+     *                        a bigint score or a column with an explicit collation; allowed in
+     *                        addition to {@code allowedSortColumns}
+     */
+    public KeysetPage buildKeysetOrderAndPagination(MapSqlParameterSource params,
+                                                    String tableAlias,
+                                                    SortField sort, int page, int pageSize,
+                                                    String cursorToken,
+                                                    Set<String> allowedSortColumns,
+                                                    Map<String, String> sortExpressions,
+                                                    String defaultSort) {
+        String sortCol = resolveSortColumn(sort, allowedSortColumns, sortExpressions, defaultSort);
+        String sortDir = resolveDirection(sort);
+        String nulls = resolveNulls(sort);
+        String sortSpec = sortCol + ":" + sortDir + ":" + nulls;
+        int safeSize = safePageSize(pageSize);
+
+        String column = sortExpressions.getOrDefault(sortCol, tableAlias + "." + sortCol);
+        String idColumn = tableAlias + ".id";
+        boolean byId = "id".equals(sortCol);
+
+        boolean seek = cursorToken != null && !cursorToken.isBlank();
+        var sql = new StringBuilder();
+        if (seek) {
+            KeysetCursor cursor = KeysetCursor.decode(cursorToken);
+            if (!sortSpec.equals(cursor.sortSpec())) {
+                throw new AppException(ErrorCode.INVALID_PAGE_CURSOR);
+            }
+            String op = "ASC".equals(sortDir) ? ">" : "<";
+            params.addValue("_cursorId", cursor.id());
+            if (byId) {
+                sql.append(" AND ").append(idColumn).append(" ").append(op).append(" :_cursorId");
+            } else if (cursor.value() == null) {
+                sql.append(" AND ((").append(column).append(" IS NULL AND ")
+                        .append(idColumn).append(" ").append(op).append(" :_cursorId)");
+                if ("NULLS FIRST".equals(nulls)) {
+                    sql.append(" OR ").append(column).append(" IS NOT NULL");
+                }
+                sql.append(")");
+            } else {
+                params.addValue("_cursorValue", cursor.value());
+                sql.append(" AND (").append(column).append(" ").append(op).append(" :_cursorValue")
+                        .append(" OR (").append(column).append(" = :_cursorValue AND ")
+                        .append(idColumn).append(" ").append(op).append(" :_cursorId)");
+                if ("NULLS LAST".equals(nulls)) {
+                    sql.append(" OR ").append(column).append(" IS NULL");
+                }
+                sql.append(")");
+            }
+        } else {
+            params.addValue("_offset", Math.max(page, 0) * safeSize);
+        }
+
+        sql.append(" ORDER BY ");
+        if (!byId) {
+            sql.append(column).append(" ").append(sortDir).append(" ").append(nulls).append(", ");
+        }
+        sql.append(idColumn).append(" ").append(sortDir).append(" LIMIT :_limit");
+        if (!seek) {
+            sql.append(" OFFSET :_offset");
+        }
+        params.addValue("_limit", safeSize + 1);
+
+        return new KeysetPage(sql.toString(), column, sortSpec, safeSize);
+    }
+
+    private String resolveSortColumn(SortField sort, Set<String> allowedSortColumns, String defaultSort) {
+        return resolveSortColumn(sort, allowedSortColumns, Map.of(), defaultSort);
+    }
+
+    private String resolveSortColumn(SortField sort, Set<String> allowedSortColumns,
+                                     Map<String, String> sortExpressions, String defaultSort) {
+        return (sort != null && sort.getField() != null
+                && (allowedSortColumns.contains(sort.getField()) || sortExpressions.containsKey(sort.getField())))
+                ? sort.getField() : defaultSort;
+    }
+
+    private String resolveDirection(SortField sort) {
+        return (sort != null && "DESC".equalsIgnoreCase(sort.getDirection()))
+                ? "DESC" : "ASC";
+    }
+
+    private String resolveNulls(SortField sort) {
+        return (sort != null && "FIRST".equalsIgnoreCase(sort.getNullsPosition()))
+                ? "NULLS FIRST" : "NULLS LAST";
+    }
+
+    private int safePageSize(int pageSize) {
+        return (pageSize > 0 && pageSize <= 200) ? pageSize : 20;
+    }
+
+    /**
+     * ORDER BY + LIMIT fragment of a keyset page.
+     *
+     * @param sql        fragment to append after the WHERE conditions
+     * @param sortColumn qualified sort column, to select as the cursor value
+     * @param sortSpec   sort the cursor is bound to
+     * @param pageSize   page size; the query fetches one more row
+     */
+    public record KeysetPage(String sql, String sortColumn, String sortSpec, int pageSize) {
+    }
+
 
     /**
      * Build a complete query from parts, exposing the WHERE clause separately
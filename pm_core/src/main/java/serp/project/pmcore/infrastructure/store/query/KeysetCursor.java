@@ -0,0 +1,78 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.query;
+
+import serp.project.pmcore.core.exception.AppException;
+import serp.project.pmcore.core.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page: its sort value and id, plus the sort it was read with.
+ * <p>
+ * Encoded as an opaque URL-safe token. The value keeps its type (number, timestamp, text, null)
+ * so the seek predicate binds it like the column it came from.
+ *
+ * @param sortSpec {@code column:DIRECTION:NULLS} the page was ordered by
+ * @param value    sort column value of the last row: Long, LocalDateTime, String or null
+ * @param id       id of the last row
+ */
+public record KeysetCursor(String sortSpec, Object value, long id) {
+
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Build a cursor from a value read over JDBC, normalizing it to the types the token supports.
+     */
+    public static KeysetCursor of(String sortSpec, Object jdbcValue, long id) {
+        Object value = switch (jdbcValue) {
+            case null -> null;
+            case Number number -> number.longValue();
+            case java.sql.Timestamp timestamp -> timestamp.toLocalDateTime();
+            case java.sql.Date date -> date.toLocalDate().atStartOfDay();
+            case LocalDateTime dateTime -> dateTime;
+            default -> jdbcValue.toString();
+        };
+        return new KeysetCursor(sortSpec, value, id);
+    }
+
+    public String encode() {
+        String type;
+        String text;
+        switch (value) {
+            case null -> { type = "n"; text = ""; }
+            case Long number -> { type = "l"; text = number.toString(); }
+            case LocalDateTime dateTime -> { type = "t"; text = dateTime.toString(); }
+            default -> { type = "s"; text = value.toString(); }
+        }
+        String raw = sortSpec + SEPARATOR + type + SEPARATOR + id + SEPARATOR + text;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new AppException(ErrorCode.INVALID_PAGE_CURSOR);
+            }
+            Object value = switch (parts[1]) {
+                case "n" -> null;
+                case "l" -> Long.parseLong(parts[3]);
+                case "t" -> LocalDateTime.parse(parts[3]);
+                case "s" -> parts[3];
+                default -> throw new AppException(ErrorCode.INVALID_PAGE_CURSOR);
+            };
+            return new KeysetCursor(parts[0], value, Long.parseLong(parts[2]));
+        } catch (AppException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new AppException(ErrorCode.INVALID_PAGE_CURSOR);
+        }
+    }
+}
@@ -7,9 +7,23 @@ package serp.project.pmcore.infrastructure.store.query;
 
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 
+/**
+ * @param estimateSql EXPLAIN of the filtered rows, for planner row estimates; may be null
+ * @param page        keyset page the data query reads, or null for plain OFFSET queries
+ */
 public record QueryResult(
         String dataSql,
         String countSql,
-        MapSqlParameterSource params
+        String estimateSql,
+        MapSqlParameterSource params,
+        BaseQueryBuilder.KeysetPage page
 ) {
+    /**
+     * Column alias carrying the sort value of each row, used to build the next cursor
+     */
+    public static final String CURSOR_VALUE_COLUMN = "_cursor_value";
+
+    public QueryResult(String dataSql, String countSql, MapSqlParameterSource params) {
+        this(dataSql, countSql, null, params, null);
+    }
 }
@@ -12,21 +12,27 @@ import serp.project.pmcore.core.domain.dto.filter.FilterOperator;
 import serp.project.pmcore.core.domain.dto.filter.SortField;
 import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
 
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * Builds dynamic SQL for work item search queries.
  * <p>
  * Delegates all primitive operations to {@link BaseQueryBuilder} and only contains
- * work-item-specific logic: column mappings, allowed sort columns, optional JOINs
- * for enrichment, and the base SELECT/FROM structure.
+ * work-item-specific logic: column mappings, allowed sort columns, and the base
+ * SELECT/FROM structure.
  * <p>
- * Supports two modes:
- * <ul>
- *   <li><b>Lightweight</b> (default): SELECT only from work_items, returns FK IDs</li>
- *   <li><b>Enriched</b> ({@code enriched=true}): LEFT JOINs issue_types, priorities, statuses
- *       to include display names, colors, and icons in the result</li>
- * </ul>
+ * The query only reads work_items and returns FK IDs. Enriched searches
+ * ({@code enriched=true}) are decorated with display names, colors and icons from the
+ * tenant's cached scheme metadata by the service, so they run the same query.
+ * Pages are ordered by the sort column plus id. The first page may use {@code page}/OFFSET;
+ * following pages pass the returned cursor and are read with a seek predicate instead.
+ * <p>
+ * A keyword that is a whole issue key is an equality lookup on {@code key}. Any other keyword
+ * is matched through the trigram and full-text GIN indexes (V9) and, unless another sort is
+ * requested, ordered by {@value #RELEVANCE_SORT}.
  */
 @Component
 @RequiredArgsConstructor
@@ -42,6 +48,19 @@ public class WorkItemQueryBuilder {
 
     private static final String DEFAULT_SORT = "rank";
 
+    /**
+     * Ranks compare byte-wise, as LexorankUtils generates them and WorkItemRankAdapter reads them;
+     * the database collation would order "0|..." buckets and legacy letters differently
+     */
+    private static final String RANK_SORT_EXPRESSION = "w.rank COLLATE \"C\"";
+
+    /**
+     * Sort field for keyword searches, most relevant first by default
+     */
+    public static final String RELEVANCE_SORT = "relevance";
+
+    private static final Pattern ISSUE_KEY = Pattern.compile("^[A-Za-z][A-Za-z0-9]{1,9}-\\d+$");
+
     private static final String BASE_COLUMNS = """
             w.id, w.tenant_id, w.project_id, w.issue_type_id,
             w.issue_no, w.key, w.summary, w.description,
@@ -51,37 +70,107 @@ public class WorkItemQueryBuilder {
             w.time_original_estimate, w.time_remaining_estimate, w.time_spent,
             w.created_at, w.updated_at, w.created_by, w.updated_by""";
 
-    private static final String ENRICHED_COLUMNS = """
-            ,
-            it.name AS issue_type_name, it.icon_url AS issue_type_icon_url,
-            it.hierarchy_level AS issue_type_hierarchy_level,
-            pr.name AS priority_name, pr.icon_url AS priority_icon_url,
-            pr.color AS priority_color, pr.sequence AS priority_sequence""";
-
     private static final String BASE_FROM = "\nFROM work_items w";
 
     private static final String BASE_WHERE = "\nWHERE w.tenant_id = :tenantId AND w.deleted_at IS NULL";
 
+    public static final String AGGREGATE_DIMENSION_COLUMN = "dimension";
+    public static final String AGGREGATE_VALUE_COLUMN = "value_id";
+
+    // Only the grouped column of a grouping set is non-null in its rows, so COALESCE picks it
+    private static final String AGGREGATE_SELECT = """
+            SELECT CASE WHEN GROUPING(w.status_id) = 0 THEN 'STATUS'
+                        WHEN GROUPING(w.assignee_id) = 0 THEN 'ASSIGNEE'
+                        WHEN GROUPING(w.priority_id) = 0 THEN 'PRIORITY'
+                        WHEN GROUPING(w.issue_type_id) = 0 THEN 'ISSUE_TYPE'
+                   END AS dimension,
+                   COALESCE(w.status_id, w.assignee_id, w.priority_id, w.issue_type_id) AS value_id,
+                   COUNT(*) AS item_count,
+                   COALESCE(SUM(w.time_original_estimate), 0) AS estimate""";
+
+    private static final String AGGREGATE_GROUPING =
+            "\nGROUP BY GROUPING SETS ((w.status_id), (w.assignee_id), (w.priority_id), (w.issue_type_id), ())";
+
     /**
-     * Build a paginated search query with optional enrichment JOINs.
+     * Build a paginated search query.
      *
      * @param tenantId tenant scope
      * @param f        filter request (null fields are skipped)
-     * @return query result with data SQL, count SQL, and named parameters
+     * @return query result with data SQL, count and estimate SQL, keyset page and named parameters
      */
     public QueryResult build(Long tenantId, WorkItemFilterRequest f) {
         var params = new MapSqlParameterSource("tenantId", tenantId);
         var where = new StringBuilder();
-        var joins = new StringBuilder();
-
-        boolean enriched = f.isEnriched();
-        if (enriched) {
-            base.appendLeftJoin(joins, "issue_types", "it",
-                    "w.issue_type_id", "it.id", "it.tenant_id = w.tenant_id");
-            base.appendLeftJoin(joins, "priorities", "pr",
-                    "w.priority_id", "pr.id", "pr.tenant_id = w.tenant_id");
+        appendFilters(where, params, f);
+
+        boolean ranked = isRankedKeyword(f);
+        Map<String, String> sortExpressions = ranked
+                ? Map.of(DEFAULT_SORT, RANK_SORT_EXPRESSION,
+                        RELEVANCE_SORT, base.textRankExpression("w.search_vector", "w.summary", "keyword"))
+                : Map.of(DEFAULT_SORT, RANK_SORT_EXPRESSION);
+        SortField sort;
+        if (f.getSort() != null) {
+            sort = f.getSort();
+        } else if (ranked) {
+            sort = SortField.builder().field(RELEVANCE_SORT).direction("DESC").build();
+        } else {
+            sort = SortField.builder().field(DEFAULT_SORT).direction("ASC").build();
+        }
+        var page = base.buildKeysetOrderAndPagination(params, "w", sort,
+                f.getPage(), f.getPageSize(), f.getCursor(), ALLOWED_SORT_COLUMNS, sortExpressions, DEFAULT_SORT);
+
+        String selectCols = BASE_COLUMNS + ",\n" + page.sortColumn() + " AS " + QueryResult.CURSOR_VALUE_COLUMN;
+
+        String dataSql = "SELECT " + selectCols + BASE_FROM + BASE_WHERE + where + page.sql();
+        String countSql = "SELECT COUNT(*)" + BASE_FROM + BASE_WHERE + where;
+        String estimateSql = "EXPLAIN (FORMAT JSON) SELECT 1" + BASE_FROM + BASE_WHERE + where;
+
+        return new QueryResult(dataSql, countSql, estimateSql, params, page);
+    }
+
+    /**
+     * Build one grouping-sets query over the filtered rows that returns the total and the count
+     * and original estimate sum per status, assignee, priority and issue type.
+     * <p>
+     * Each row carries its {@link #AGGREGATE_DIMENSION_COLUMN} (null for the total row) and the
+     * grouped {@link #AGGREGATE_VALUE_COLUMN}. Sort and paging fields of the filter are ignored.
+     */
+    public QueryResult buildAggregate(Long tenantId, WorkItemFilterRequest f) {
+        var params = new MapSqlParameterSource("tenantId", tenantId);
+        var where = new StringBuilder();
+        appendFilters(where, params, f);
+
+        String dataSql = AGGREGATE_SELECT + BASE_FROM + BASE_WHERE + where + AGGREGATE_GROUPING;
+        String countSql = "SELECT COUNT(*)" + BASE_FROM + BASE_WHERE + where;
+        return new QueryResult(dataSql, countSql, params);
+    }
+
+    private void appendKeyword(StringBuilder where, MapSqlParameterSource params, WorkItemFilterRequest f) {
+        if (!f.hasKeyword()) {
+            return;
+        }
+        String keyword = f.getKeyword().trim();
+        if (ISSUE_KEY.matcher(keyword).matches()) {
+            base.appendScalar(where, params, "w.key", "keywordKey", FilterOperator.EQ,
+                    keyword.toUpperCase(Locale.ROOT));
+            return;
         }
+        base.appendTextSearch(where, params, "w.search_vector",
+                new String[]{"w.summary", "w.key"}, "w.summary", "keyword", keyword);
+    }
 
+    /**
+     * Whether the keyword goes through the full-text path, so its relevance can be sorted on
+     */
+    private boolean isRankedKeyword(WorkItemFilterRequest f) {
+        if (!f.hasKeyword()) {
+            return false;
+        }
+        String keyword = f.getKeyword().trim();
+        return keyword.length() >= BaseQueryBuilder.MIN_TRIGRAM_LENGTH && !ISSUE_KEY.matcher(keyword).matches();
+    }
+
+    private void appendFilters(StringBuilder where, MapSqlParameterSource params, WorkItemFilterRequest f) {
         base.appendScalar(where, params, "w.project_id", "projectId", FilterOperator.EQ, f.getProjectId());
         base.appendList(where, params, "w.status_id", "statusIds", FilterOperator.IN, f.getStatusIds());
         base.appendList(where, params, "w.priority_id", "priorityIds", FilterOperator.IN, f.getPriorityIds());
@@ -90,6 +179,15 @@ public class WorkItemQueryBuilder {
         base.appendList(where, params, "w.reporter_id", "reporterIds", FilterOperator.IN, f.getReporterIds());
         base.appendList(where, params, "w.resolution_id", "resolutionIds", FilterOperator.IN, f.getResolutionIds());
         base.appendScalar(where, params, "w.parent_id", "parentId", FilterOperator.EQ, f.getParentId());
+        if (f.getAncestorId() != null) {
+            // Subtree lookup through the closure table instead of a recursive walk over parent_id
+            String depthLimit = f.getMaxDepth() != null ? " AND _c.depth <= :maxDepth" : "";
+            base.appendRaw(where, "EXISTS (SELECT 1 FROM work_item_closure _c WHERE _c.descendant_id = w.id"
+                    + " AND _c.tenant_id = w.tenant_id AND _c.ancestor_id = :ancestorId AND _c.depth > 0"
+                    + depthLimit + ")");
+            params.addValue("ancestorId", f.getAncestorId());
+            params.addValue("maxDepth", f.getMaxDepth());
+        }
 
         base.appendList(where, params, "w.status_id", "exStatusIds",
                 FilterOperator.NOT_IN, f.getExcludeStatusIds());
@@ -110,8 +208,7 @@ public class WorkItemQueryBuilder {
         base.appendEpochRange(where, params, "w.updated_at", "updated",
                 f.getUpdatedFrom(), f.getUpdatedTo());
 
-        base.appendLike(where, params,
-                new String[]{"w.summary", "w.key"}, "keyword", f.getKeyword());
+        appendKeyword(where, params, f);
 
         base.appendExistsSubquery(where, params,
                 "work_item_sprints", "w", "id", "work_item_id",
@@ -133,18 +230,6 @@ public class WorkItemQueryBuilder {
         if (Boolean.TRUE.equals(f.getHasTimeLogged())) {
             base.appendRaw(where, "w.time_spent > 0");
         }
-
-        SortField sort = (f.getSort() != null) ? f.getSort()
-                : SortField.builder().field(DEFAULT_SORT).direction("ASC").build();
-        String orderAndPage = base.buildOrderAndPagination(params, "w", sort,
-                f.getPage(), f.getPageSize(), ALLOWED_SORT_COLUMNS, DEFAULT_SORT);
-
-        String selectCols = enriched ? BASE_COLUMNS + ENRICHED_COLUMNS : BASE_COLUMNS;
-
-        String dataSql = "SELECT " + selectCols + BASE_FROM + joins + BASE_WHERE + where + orderAndPage;
-        String countSql = "SELECT COUNT(*)" + BASE_FROM + BASE_WHERE + where;
-
-        return new QueryResult(dataSql, countSql, params);
     }
 
 }
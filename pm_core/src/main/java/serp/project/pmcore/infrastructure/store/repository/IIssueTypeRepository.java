@@ -27,4 +27,8 @@ public interface IIssueTypeRepository extends JpaRepository<IssueTypeModel, Long
     @Modifying
     @Query("UPDATE IssueTypeModel i SET i.deletedAt = CURRENT_TIMESTAMP WHERE i.id = :id AND i.tenantId = :tenantId AND i.deletedAt IS NULL")
     void deleteByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT i FROM IssueTypeModel i WHERE i.tenantId = :tenantId OR i.tenantId = 0 " +
+           "ORDER BY i.hierarchyLevel ASC")
+    List<IssueTypeModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -27,4 +27,8 @@ public interface IIssueTypeSchemeItemRepository extends JpaRepository<IssueTypeS
     @Modifying
     @Query("UPDATE IssueTypeSchemeItemModel i SET i.deletedAt = CURRENT_TIMESTAMP WHERE i.schemeId = :schemeId AND i.tenantId = :tenantId AND i.deletedAt IS NULL")
     void deleteBySchemeIdAndTenantId(@Param("schemeId") Long schemeId, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT i FROM IssueTypeSchemeItemModel i WHERE i.tenantId = :tenantId OR i.tenantId = 0 " +
+           "ORDER BY i.schemeId, i.sequence ASC")
+    List<IssueTypeSchemeItemModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -30,4 +30,7 @@ public interface IIssueTypeSchemeRepository extends JpaRepository<IssueTypeSchem
     @Modifying
     @Query("UPDATE IssueTypeSchemeModel i SET i.deletedAt = CURRENT_TIMESTAMP WHERE i.id = :id AND i.tenantId = :tenantId AND i.deletedAt IS NULL")
     void deleteByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT s FROM IssueTypeSchemeModel s WHERE s.tenantId = :tenantId OR s.tenantId = 0")
+    List<IssueTypeSchemeModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -27,4 +27,8 @@ public interface IPriorityRepository extends JpaRepository<PriorityModel, Long>
     @Modifying
     @Query("UPDATE PriorityModel p SET p.deletedAt = CURRENT_TIMESTAMP WHERE p.id = :id AND p.tenantId = :tenantId AND p.deletedAt IS NULL")
     void deleteByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT p FROM PriorityModel p WHERE p.tenantId = :tenantId OR p.tenantId = 0 " +
+           "ORDER BY p.sequence ASC")
+    List<PriorityModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
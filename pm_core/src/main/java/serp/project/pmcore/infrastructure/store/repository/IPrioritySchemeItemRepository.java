@@ -27,4 +27,8 @@ public interface IPrioritySchemeItemRepository extends JpaRepository<PrioritySch
     @Modifying
     @Query("UPDATE PrioritySchemeItemModel p SET p.deletedAt = CURRENT_TIMESTAMP WHERE p.schemeId = :schemeId AND p.tenantId = :tenantId AND p.deletedAt IS NULL")
     void deleteBySchemeIdAndTenantId(@Param("schemeId") Long schemeId, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT i FROM PrioritySchemeItemModel i WHERE i.tenantId = :tenantId OR i.tenantId = 0 " +
+           "ORDER BY i.schemeId, i.sequence ASC")
+    List<PrioritySchemeItemModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -30,4 +30,7 @@ public interface IPrioritySchemeRepository extends JpaRepository<PrioritySchemeM
     @Modifying
     @Query("UPDATE PrioritySchemeModel p SET p.deletedAt = CURRENT_TIMESTAMP WHERE p.id = :id AND p.tenantId = :tenantId AND p.deletedAt IS NULL")
     void deleteByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT s FROM PrioritySchemeModel s WHERE s.tenantId = :tenantId OR s.tenantId = 0")
+    List<PrioritySchemeModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import serp.project.pmcore.infrastructure.store.model.StatusModel;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,4 +21,7 @@ public interface IStatusRepository extends JpaRepository<StatusModel, Long> {
 
     @Query("SELECT s FROM StatusModel s WHERE s.id = :id AND (s.tenantId = :tenantId OR s.tenantId = 0)")
     Optional<StatusModel> findByIdAndTenantIdOrSystemTenant(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT s FROM StatusModel s WHERE s.tenantId = :tenantId OR s.tenantId = 0")
+    List<StatusModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import serp.project.pmcore.infrastructure.store.model.WorkItemModel;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,8 @@ import java.util.Optional;
 public interface IWorkItemRepository extends JpaRepository<WorkItemModel, Long> {
     Optional<WorkItemModel> findByIdAndTenantId(Long id, Long tenantId);
 
+    List<WorkItemModel> findAllByTenantIdAndIdIn(Long tenantId, Collection<Long> ids);
+
     List<WorkItemModel> findAllByTenantIdAndProjectId(Long tenantId, Long projectId);
 
     List<WorkItemModel> findAllByTenantIdAndIssueTypeId(Long tenantId, Long issueId);
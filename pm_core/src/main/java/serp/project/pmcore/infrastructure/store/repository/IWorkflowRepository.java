@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import serp.project.pmcore.infrastructure.store.model.WorkflowModel;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,4 +21,7 @@ public interface IWorkflowRepository extends JpaRepository<WorkflowModel, Long>
 
     @Query("SELECT w FROM WorkflowModel w WHERE w.id = :id AND (w.tenantId = :tenantId OR w.tenantId = 0)")
     Optional<WorkflowModel> findByIdAndTenantIdOrSystemTenant(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT w FROM WorkflowModel w WHERE w.tenantId = :tenantId OR w.tenantId = 0")
+    List<WorkflowModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
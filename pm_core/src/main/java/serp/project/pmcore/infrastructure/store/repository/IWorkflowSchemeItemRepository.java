@@ -25,4 +25,7 @@ public interface IWorkflowSchemeItemRepository extends JpaRepository<WorkflowSch
     @Modifying
     @Query("UPDATE WorkflowSchemeItemModel i SET i.deletedAt = CURRENT_TIMESTAMP WHERE i.schemeId = :schemeId AND i.tenantId = :tenantId AND i.deletedAt IS NULL")
     void deleteBySchemeIdAndTenantId(@Param("schemeId") Long schemeId, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT i FROM WorkflowSchemeItemModel i WHERE i.tenantId = :tenantId OR i.tenantId = 0")
+    List<WorkflowSchemeItemModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -12,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import serp.project.pmcore.infrastructure.store.model.WorkflowSchemeModel;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -25,4 +26,7 @@ public interface IWorkflowSchemeRepository extends JpaRepository<WorkflowSchemeM
     @Modifying
     @Query("UPDATE WorkflowSchemeModel s SET s.deletedAt = CURRENT_TIMESTAMP WHERE s.id = :id AND s.tenantId = :tenantId AND s.deletedAt IS NULL")
     void deleteByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT s FROM WorkflowSchemeModel s WHERE s.tenantId = :tenantId OR s.tenantId = 0")
+    List<WorkflowSchemeModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -26,4 +26,8 @@ public interface IWorkflowStepRepository extends JpaRepository<WorkflowStepModel
            "AND s.isInitial = true AND (s.tenantId = :tenantId OR s.tenantId = 0)")
     Optional<WorkflowStepModel> findInitialStepByWorkflowId(
             @Param("workflowId") Long workflowId, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT s FROM WorkflowStepModel s WHERE s.tenantId = :tenantId OR s.tenantId = 0 " +
+           "ORDER BY s.workflowId, s.sequence ASC")
+    List<WorkflowStepModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
 }
@@ -0,0 +1,22 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import serp.project.pmcore.infrastructure.store.model.WorkflowTransitionModel;
+
+import java.util.List;
+
+@Repository
+public interface IWorkflowTransitionRepository extends JpaRepository<WorkflowTransitionModel, Long> {
+
+    @Query("SELECT t FROM WorkflowTransitionModel t WHERE t.tenantId = :tenantId OR t.tenantId = 0 " +
+           "ORDER BY t.workflowId, t.sequence ASC")
+    List<WorkflowTransitionModel> findAllByTenantIdOrSystemTenant(@Param("tenantId") Long tenantId);
+}
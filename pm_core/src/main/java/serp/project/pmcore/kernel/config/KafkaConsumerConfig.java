@@ -69,11 +69,29 @@ public class KafkaConsumerConfig {
             ConsumerFactory<String, String> consumerFactory,
             DefaultErrorHandler pmCoreKafkaErrorHandler,
             KafkaConsumerProperties consumerProperties) {
+        return listenerContainerFactory(consumerFactory, pmCoreKafkaErrorHandler, consumerProperties);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> pmCoreKafkaBatchListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            DefaultErrorHandler pmCoreKafkaErrorHandler,
+            KafkaConsumerProperties consumerProperties) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                listenerContainerFactory(consumerFactory, pmCoreKafkaErrorHandler, consumerProperties);
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, String> listenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            DefaultErrorHandler errorHandler,
+            KafkaConsumerProperties consumerProperties) {
         ConcurrentKafkaListenerContainerFactory<String, String> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
         factory.setConcurrency(Math.max(1, consumerProperties.getConcurrency()));
-        factory.setCommonErrorHandler(pmCoreKafkaErrorHandler);
+        factory.setCommonErrorHandler(errorHandler);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         factory.getContainerProperties().setMissingTopicsFatal(false);
         return factory;
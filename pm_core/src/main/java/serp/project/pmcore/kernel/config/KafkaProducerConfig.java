@@ -23,6 +23,12 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${app.kafka.producer.linger-ms:5}")
+    private int lingerMs;
+
+    @Value("${app.kafka.producer.batch-size-bytes:65536}")
+    private int batchSizeBytes;
+
     @Bean
     public ProducerFactory<String, String> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -32,9 +38,15 @@ public class KafkaProducerConfig {
         
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
+        // Idempotence keeps per-partition order with several batches in flight
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+
+        // Let the outbox relay's pipelined sends fill larger batches
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeBytes);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
 
-        
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -0,0 +1,27 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.kernel.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "app.bulk")
+@Getter
+@Setter
+public class BulkOperationProperties {
+    /**
+     * Largest number of work items a single bulk request may carry
+     */
+    private int maxItems = 1000;
+    /**
+     * Work items written per JDBC batch
+     */
+    private int chunkSize = 200;
+}
@@ -0,0 +1,35 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.kernel.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "app.issue-counter")
+@Getter
+@Setter
+public class IssueCounterProperties {
+    /**
+     * Issue numbers reserved per project when it is idle; 1 keeps numbers gap-free except for rollbacks
+     */
+    private int minBlockSize = 1;
+    /**
+     * Upper bound for the block size of a busy project
+     */
+    private int maxBlockSize = 64;
+    /**
+     * A block used up within this window doubles the next block for that project
+     */
+    private long busyWindowMs = 5_000;
+    /**
+     * Largest range a single bulk reservation may take
+     */
+    private int maxReserveCount = 10_000;
+}
@@ -20,6 +20,9 @@ public class KafkaConsumerProperties {
     private List<String> topics = new ArrayList<>();
     private int concurrency = 1;
 
+    private boolean batchEnabled = false;
+    private int batchMaxRecords = 200;
+
     private int maxRetryAttempts = 5;
     private long initialBackoffMs = 1000;
     private long maxBackoffMs = 30000;
@@ -53,6 +56,22 @@ public class KafkaConsumerProperties {
         this.concurrency = concurrency;
     }
 
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+
+    public int getBatchMaxRecords() {
+        return Math.max(1, batchMaxRecords);
+    }
+
+    public void setBatchMaxRecords(int batchMaxRecords) {
+        this.batchMaxRecords = batchMaxRecords;
+    }
+
     public int getMaxRetryAttempts() {
         return maxRetryAttempts;
     }
@@ -18,7 +18,34 @@ import lombok.Setter;
 @Setter
 public class OutboxProperties {
     private int batchSize = 50;
+    /**
+     * Longest wait between polls; reached after repeated empty polls
+     */
     private long pollIntervalMs = 1000;
+    /**
+     * Scheduler tick and first back-off step once the outbox runs empty
+     */
+    private long minPollIntervalMs = 50;
+    /**
+     * Full batches relayed back-to-back in one tick before yielding the scheduler thread
+     */
+    private int maxDrainBatches = 20;
+    /**
+     * How long to wait for Kafka to acknowledge a batch before marking unacknowledged events failed
+     */
+    private long sendTimeoutMs = 10_000;
+    /**
+     * Listen for the NOTIFY sent when outbox rows are committed and relay immediately
+     */
+    private boolean notifyEnabled = true;
+    /**
+     * Poll interval of an idle relay while notifications are received
+     */
+    private long notifySafetyNetIntervalMs = 5_000;
+    /**
+     * Wait before reopening a lost listener connection
+     */
+    private long notifyReconnectDelayMs = 5_000;
     private int retentionDays = 7;
     private String cleanupCron = "0 0 3 * * *";
 }
\ No newline at end of file
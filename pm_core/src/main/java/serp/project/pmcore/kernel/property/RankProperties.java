@@ -0,0 +1,43 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.kernel.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "app.rank")
+@Getter
+@Setter
+public class RankProperties {
+    /**
+     * A project is queued for rebalancing once one of its ranks grows past this length
+     */
+    private int maxRankLength = 16;
+    /**
+     * Rows written per statement when a project is rebalanced
+     */
+    private int rebalanceBatchSize = 500;
+    /**
+     * Largest number of work items a single move may carry
+     */
+    private int maxMoveSize = 500;
+    /**
+     * Delay between runs that rebalance the projects queued by moves
+     */
+    private long rebalanceIntervalMs = 10_000;
+    /**
+     * Schedule of the sweep that finds projects with long or legacy ranks
+     */
+    private String sweepCron = "0 0 4 * * *";
+    /**
+     * Projects rebalanced per sweep
+     */
+    private int sweepLimit = 100;
+}
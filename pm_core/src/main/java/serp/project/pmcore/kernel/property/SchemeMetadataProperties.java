@@ -0,0 +1,41 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.kernel.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "app.scheme-metadata")
+@Getter
+@Setter
+public class SchemeMetadataProperties {
+    /**
+     * How long a node serves its copy before comparing it with the tenant's version in Redis
+     */
+    private long versionCheckIntervalMs = 1_000;
+    /**
+     * How long a copy may be served without a version check when Redis is unreachable
+     */
+    private long maxStalenessMs = 60_000;
+    /**
+     * Lookups that miss reload the tenant at most this often, so unknown ids cannot force a
+     * reload per request
+     */
+    private long missReloadIntervalMs = 1_000;
+    /**
+     * Tenants kept on one node; the least recently checked one is dropped beyond this
+     */
+    private int maxTenants = 1_000;
+    /**
+     * Compiled workflow graphs kept on one node, per tenant and workflow version; the least
+     * recently used one is dropped beyond this
+     */
+    private int maxCompiledWorkflows = 5_000;
+}
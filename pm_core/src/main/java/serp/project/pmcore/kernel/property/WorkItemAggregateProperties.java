@@ -0,0 +1,24 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.kernel.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "app.work-item-aggregate")
+@Getter
+@Setter
+public class WorkItemAggregateProperties {
+    /**
+     * How long a project's aggregate is kept in Redis before it is rebuilt from the table; bounds
+     * the drift of an aggregate that missed or double-applied an event
+     */
+    private long ttlSeconds = 900;
+}
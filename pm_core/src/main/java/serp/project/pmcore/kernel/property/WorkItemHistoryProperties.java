@@ -0,0 +1,41 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.kernel.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "app.work-item-history")
+@Getter
+@Setter
+public class WorkItemHistoryProperties {
+    /**
+     * Monthly partitions kept created ahead of the current month
+     */
+    private int partitionMonthsAhead = 2;
+
+    /**
+     * Whole months of history kept before their partitions are dropped; 0 keeps history forever
+     */
+    private int retentionMonths = 0;
+
+    /**
+     * Largest page of a work item's history
+     */
+    private int maxPageSize = 100;
+
+    /**
+     * Rows read per keyset page, each in a short transaction of its own, while a project's
+     * history is exported
+     */
+    private int exportPageSize = 1000;
+
+    private String partitionCron = "0 15 3 * * *";
+}
@@ -0,0 +1,27 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.kernel.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "app.work-item-search")
+@Getter
+@Setter
+public class WorkItemSearchProperties {
+    /**
+     * How long a CACHED count is reused for the same tenant and filter
+     */
+    private long countCacheTtlSeconds = 30;
+    /**
+     * Planner estimates below this are replaced by an exact count, which is cheap at that size
+     */
+    private long exactCountThreshold = 1_000;
+}
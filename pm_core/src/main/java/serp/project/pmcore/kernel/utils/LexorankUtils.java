@@ -5,13 +5,35 @@
 
 package serp.project.pmcore.kernel.utils;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * Simple Lexorank utility for generating lexicographic rank strings.
- * Uses mid-point string approach for ordering work items.
+ * Lexorank utility for generating lexicographic rank strings.
+ * <p>
+ * Ranks have the form {@code <bucket>|<body>}: a bucket digit (0-2) and a base-36 body that is
+ * {@link #BODY_WIDTH} characters wide. The body is read as a fraction, so a rank between two
+ * neighbours is their numeric midpoint and only needs an extra character when the neighbours
+ * are adjacent at the current width. Rebalancing rewrites a project's ranks evenly spaced at
+ * the base width in the next bucket, which keeps rank strings short.
+ * <p>
+ * Ranks written before buckets existed (plain letters, e.g. {@code "aaa"}) sort after every
+ * bucketed rank; they are still ordered with the old mid-point rules until the project is
+ * rebalanced.
  */
 public final class LexorankUtils {
 
-    private static final String INITIAL_RANK = "aaa";
+    public static final int BUCKET_COUNT = 3;
+    public static final int BODY_WIDTH = 6;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final BigInteger BASE = BigInteger.valueOf(DIGITS.length());
+    private static final BigInteger SPACE = BASE.pow(BODY_WIDTH);
+    // Gap left by appends to the end of a list: ~23k appends from the middle before halving starts
+    private static final BigInteger APPEND_STEP = BASE.pow(3);
+
+    private static final String LEGACY_INITIAL_RANK = "aaa";
 
     private LexorankUtils() {
     }
@@ -20,7 +42,7 @@ public final class LexorankUtils {
      * Generate the initial rank for a new work item when no other items exist.
      */
     public static String generateInitialRank() {
-        return INITIAL_RANK;
+        return format(0, SPACE.shiftRight(1), BODY_WIDTH);
     }
 
     /**
@@ -28,13 +50,36 @@ public final class LexorankUtils {
      */
     public static String generateRankAfter(String rank) {
         if (rank == null || rank.isEmpty()) {
-            return INITIAL_RANK;
+            return generateInitialRank();
         }
-        char lastChar = rank.charAt(rank.length() - 1);
-        if (lastChar < 'z') {
-            return rank.substring(0, rank.length() - 1) + (char) (lastChar + 1);
+        if (!isBucketed(rank)) {
+            return legacyRankAfter(rank);
         }
-        return rank + "a";
+        int bucket = bucketOf(rank);
+        BigInteger head = value(body(rank).substring(0, BODY_WIDTH), BODY_WIDTH);
+        BigInteger next = head.add(APPEND_STEP);
+        if (next.compareTo(SPACE) < 0) {
+            return format(bucket, next, BODY_WIDTH);
+        }
+        return midpoint(bucket, body(rank), null);
+    }
+
+    /**
+     * Generate a rank that comes before the given rank (prepend to start).
+     */
+    public static String generateRankBefore(String rank) {
+        if (rank == null || rank.isEmpty()) {
+            return generateInitialRank();
+        }
+        if (!isBucketed(rank)) {
+            return legacyRankBefore(rank);
+        }
+        int bucket = bucketOf(rank);
+        BigInteger head = value(body(rank).substring(0, BODY_WIDTH), BODY_WIDTH);
+        if (head.compareTo(APPEND_STEP) > 0) {
+            return format(bucket, head.subtract(APPEND_STEP), BODY_WIDTH);
+        }
+        return midpoint(bucket, null, body(rank));
     }
 
     /**
@@ -47,7 +92,174 @@ public final class LexorankUtils {
         if (after == null || after.isEmpty()) {
             return generateRankAfter(before);
         }
+        if (!isBucketed(before) || !isBucketed(after)) {
+            return isBucketed(before) ? generateRankAfter(before) : legacyRankBetween(before, after);
+        }
+        if (bucketOf(before) != bucketOf(after)) {
+            // Anything after before in its own bucket still sorts ahead of the later bucket
+            return generateRankAfter(before);
+        }
+        return midpoint(bucketOf(before), body(before), body(after));
+    }
+
+    /**
+     * Generate {@code count} evenly spaced ranks strictly between two ranks, in ascending order.
+     * Either bound may be null for the start or end of the list.
+     */
+    public static List<String> generateRanksBetween(String before, String after, int count) {
+        List<String> ranks = new ArrayList<>(count);
+        if (count <= 0) {
+            return ranks;
+        }
+        boolean legacy = (before != null && !before.isEmpty() && !isBucketed(before))
+                || (after != null && !after.isEmpty() && !isBucketed(after) && (before == null || before.isEmpty()));
+        if (legacy) {
+            String previous = before;
+            for (int i = 0; i < count; i++) {
+                previous = generateRankBetween(previous, after);
+                ranks.add(previous);
+            }
+            return ranks;
+        }
+
+        boolean hasBefore = before != null && !before.isEmpty();
+        boolean hasAfter = after != null && !after.isEmpty() && isBucketed(after)
+                && (!hasBefore || bucketOf(before) == bucketOf(after));
+        int bucket = hasBefore ? bucketOf(before) : (hasAfter ? bucketOf(after) : 0);
+
+        int width = Math.max(BODY_WIDTH, Math.max(
+                hasBefore ? body(before).length() : 0,
+                hasAfter ? body(after).length() : 0));
+        BigInteger low = hasBefore ? value(body(before), width) : BigInteger.ZERO;
+        BigInteger high = hasAfter ? value(body(after), width) : SPACE.multiply(BASE.pow(width - BODY_WIDTH));
+        BigInteger slots = BigInteger.valueOf(count + 1L);
+        while (high.subtract(low).compareTo(slots) <= 0) {
+            width++;
+            low = low.multiply(BASE);
+            high = high.multiply(BASE);
+        }
+        BigInteger step = high.subtract(low).divide(slots);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(format(bucket, low.add(step.multiply(BigInteger.valueOf(i))), width));
+        }
+        return ranks;
+    }
+
+    /**
+     * Generate {@code count} ranks evenly spread over the whole body space of a bucket at the
+     * base width, as written by a rebalance.
+     */
+    public static List<String> generateRebalancedRanks(int bucket, int count) {
+        List<String> ranks = new ArrayList<>(count);
+        int width = BODY_WIDTH;
+        BigInteger space = SPACE;
+        BigInteger slots = BigInteger.valueOf(count + 1L);
+        while (space.compareTo(slots) <= 0) {
+            width++;
+            space = space.multiply(BASE);
+        }
+        BigInteger step = space.divide(slots);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(format(bucket, step.multiply(BigInteger.valueOf(i)), width));
+        }
+        return ranks;
+    }
+
+    /**
+     * Bucket a rebalance of a list currently in the given bucket should write to.
+     * Legacy ranks move to bucket 0.
+     */
+    public static int nextBucket(String rank) {
+        if (rank == null || !isBucketed(rank)) {
+            return 0;
+        }
+        return (bucketOf(rank) + 1) % BUCKET_COUNT;
+    }
+
+    /**
+     * Whether a rank is too long or still in the legacy format and its list should be rebalanced.
+     */
+    public static boolean needsRebalance(String rank, int maxLength) {
+        return rank != null && (rank.length() > maxLength || !isBucketed(rank));
+    }
+
+    public static boolean isBucketed(String rank) {
+        return rank.length() > BODY_WIDTH + 1
+                && rank.charAt(1) == '|'
+                && rank.charAt(0) >= '0' && rank.charAt(0) < '0' + BUCKET_COUNT;
+    }
+
+    private static int bucketOf(String rank) {
+        return rank.charAt(0) - '0';
+    }
+
+    private static String body(String rank) {
+        return rank.substring(2);
+    }
+
+    /**
+     * Midpoint of two bodies in a bucket; a null bound stands for the start or end of the space.
+     */
+    private static String midpoint(int bucket, String lowBody, String highBody) {
+        int width = Math.max(BODY_WIDTH, Math.max(
+                lowBody != null ? lowBody.length() : 0,
+                highBody != null ? highBody.length() : 0));
+        BigInteger low = lowBody != null ? value(lowBody, width) : BigInteger.ZERO;
+        BigInteger high = highBody != null ? value(highBody, width) : SPACE.multiply(BASE.pow(width - BODY_WIDTH));
+        if (high.compareTo(low) <= 0) {
+            // Equal neighbours leave no room; sort right after low and let the id break the tie
+            high = low.add(BigInteger.ONE);
+        }
+        while (high.subtract(low).compareTo(BigInteger.ONE) <= 0) {
+            width++;
+            low = low.multiply(BASE);
+            high = high.multiply(BASE);
+        }
+        return format(bucket, low.add(high).shiftRight(1), width);
+    }
+
+    private static BigInteger value(String body, int width) {
+        BigInteger result = BigInteger.ZERO;
+        for (int i = 0; i < width; i++) {
+            int digit = i < body.length() ? DIGITS.indexOf(body.charAt(i)) : 0;
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid rank body: " + body);
+            }
+            result = result.multiply(BASE).add(BigInteger.valueOf(digit));
+        }
+        return result;
+    }
+
+    /**
+     * Format a body value at the given width; trailing zeros past the base width carry no order
+     * and are dropped.
+     */
+    private static String format(int bucket, BigInteger value, int width) {
+        char[] digits = new char[width];
+        BigInteger remaining = value;
+        for (int i = width - 1; i >= 0; i--) {
+            BigInteger[] division = remaining.divideAndRemainder(BASE);
+            digits[i] = DIGITS.charAt(division[1].intValue());
+            remaining = division[0];
+        }
+        int length = width;
+        while (length > BODY_WIDTH && digits[length - 1] == '0') {
+            length--;
+        }
+        return bucket + "|" + new String(digits, 0, length);
+    }
+
+    // ==================== Legacy ranks ====================
+
+    private static String legacyRankAfter(String rank) {
+        char lastChar = rank.charAt(rank.length() - 1);
+        if (lastChar < 'z') {
+            return rank.substring(0, rank.length() - 1) + (char) (lastChar + 1);
+        }
+        return rank + "a";
+    }
 
+    private static String legacyRankBetween(String before, String after) {
         int maxLen = Math.max(before.length(), after.length());
         String paddedBefore = padRight(before, maxLen, 'a');
         String paddedAfter = padRight(after, maxLen, 'a');
@@ -72,15 +284,15 @@ public final class LexorankUtils {
         return before + "n";
     }
 
-    private static String generateRankBefore(String rank) {
+    private static String legacyRankBefore(String rank) {
         if (rank == null || rank.isEmpty()) {
-            return INITIAL_RANK;
+            return LEGACY_INITIAL_RANK;
         }
         char firstChar = rank.charAt(0);
         if (firstChar > 'a') {
             return String.valueOf((char) (firstChar - 1)) + rank.substring(1);
         }
-        return "a" + generateRankBefore(rank.substring(1));
+        return "a" + legacyRankBefore(rank.substring(1));
     }
 
     private static String padRight(String s, int length, char padChar) {
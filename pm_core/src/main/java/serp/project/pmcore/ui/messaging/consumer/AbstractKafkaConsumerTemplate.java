@@ -7,19 +7,27 @@ package serp.project.pmcore.ui.messaging.consumer;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.HexFormat;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import serp.project.pmcore.core.domain.dto.message.KafkaEventContext;
+import serp.project.pmcore.core.domain.entity.ConsumerInboxEventEntity;
 import serp.project.pmcore.core.domain.enums.ConsumerInboxAcquireResult;
 import serp.project.pmcore.core.exception.KafkaNonRetryableException;
 import serp.project.pmcore.core.service.IConsumerInboxService;
@@ -34,14 +42,17 @@ public abstract class AbstractKafkaConsumerTemplate {
     private final JsonUtils jsonUtils;
     private final IConsumerInboxService consumerInboxService;
     private final KafkaEventHandlerStrategyRegistry strategyRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     protected AbstractKafkaConsumerTemplate(
             JsonUtils jsonUtils,
             IConsumerInboxService consumerInboxService,
-            KafkaEventHandlerStrategyRegistry strategyRegistry) {
+            KafkaEventHandlerStrategyRegistry strategyRegistry,
+            TransactionTemplate transactionTemplate) {
         this.jsonUtils = jsonUtils;
         this.consumerInboxService = consumerInboxService;
         this.strategyRegistry = strategyRegistry;
+        this.transactionTemplate = transactionTemplate;
     }
 
     protected final void processRecord(
@@ -94,15 +105,7 @@ public abstract class AbstractKafkaConsumerTemplate {
                     eventType,
                     tenantId);
 
-            beforeDispatch(envelope, context);
-
-            String resolvedEventType = eventType;
-            IKafkaEventHandlerStrategy strategy = strategyRegistry.findByEventType(eventType)
-                    .orElseThrow(() -> new KafkaNonRetryableException(
-                            "No Kafka strategy registered for eventType=" + resolvedEventType));
-            strategy.handle(envelope, context);
-
-            afterDispatch(envelope, context);
+            dispatch(envelope, context);
 
             consumerInboxService.markProcessed(consumerGroupId, eventId, record.offset());
             acknowledgeAfterCommit(acknowledgment);
@@ -146,6 +149,151 @@ public abstract class AbstractKafkaConsumerTemplate {
         }
     }
 
+    /**
+     * Processes a whole poll in one transaction: one statement acquires the inbox rows of every
+     * event, the acquired events are dispatched in order and one statement marks them processed,
+     * so the inbox costs two round trips per poll instead of at least three per record.
+     * <p>
+     * If any handler fails, the batch transaction is rolled back and the records are processed
+     * again one by one, each in its own transaction, so the records before the failing one are
+     * committed and the error handler retries or dead-letters from the failing record on.
+     * A record without a valid envelope ends the batch the same way.
+     */
+    protected final void processBatch(
+            List<ConsumerRecord<String, String>> records,
+            Acknowledgment acknowledgment,
+            String consumerGroupId) {
+        List<BatchEvent> events = new ArrayList<>(records.size());
+        KafkaNonRetryableException invalidEnvelope = null;
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                events.add(toBatchEvent(record));
+            } catch (KafkaNonRetryableException ex) {
+                invalidEnvelope = ex;
+                break;
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> dispatchBatch(events, consumerGroupId));
+        } catch (Exception ex) {
+            log.warn(
+                    "Kafka batch failed, processing records one by one: group={}, records={}, reason={}",
+                    consumerGroupId,
+                    events.size(),
+                    ex.getMessage());
+            for (int i = 0; i < events.size(); i++) {
+                ConsumerRecord<String, String> record = events.get(i).record();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> processRecord(record, null, consumerGroupId));
+                } catch (Exception recordEx) {
+                    throw new BatchListenerFailedException(recordEx.getMessage(), recordEx, i);
+                }
+            }
+        }
+
+        if (invalidEnvelope != null) {
+            int index = events.size();
+            log.warn(
+                    "Kafka non-retryable failure: group={}, topic={}, partition={}, offset={}, reason={}",
+                    consumerGroupId,
+                    records.get(index).topic(),
+                    records.get(index).partition(),
+                    records.get(index).offset(),
+                    invalidEnvelope.getMessage());
+            throw new BatchListenerFailedException(invalidEnvelope.getMessage(), invalidEnvelope, index);
+        }
+
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    private void dispatchBatch(List<BatchEvent> events, String consumerGroupId) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        long inboxStart = System.nanoTime();
+        List<ConsumerInboxEventEntity> unique = new ArrayList<>(events.size());
+        Set<String> seen = new HashSet<>();
+        for (BatchEvent event : events) {
+            if (seen.add(event.inbox().getEventId())) {
+                unique.add(event.inbox());
+            }
+        }
+        Map<String, ConsumerInboxAcquireResult> acquired =
+                consumerInboxService.acquireBatchForProcessing(consumerGroupId, unique);
+        long inboxNanos = System.nanoTime() - inboxStart;
+
+        List<ConsumerInboxEventEntity> processed = new ArrayList<>(unique.size());
+        Set<String> dispatched = new HashSet<>();
+        for (BatchEvent event : events) {
+            ConsumerInboxEventEntity inbox = event.inbox();
+            ConsumerInboxAcquireResult acquireResult = acquired.get(inbox.getEventId());
+            if (!acquireResult.shouldProcess() || !dispatched.add(inbox.getEventId())) {
+                log.info(
+                        "Kafka duplicate message skipped: group={}, eventId={}, eventType={}, topic={}, partition={}, offset={}, state={}",
+                        consumerGroupId,
+                        inbox.getEventId(),
+                        inbox.getEventType(),
+                        inbox.getTopic(),
+                        inbox.getPartitionNo(),
+                        inbox.getOffsetNo(),
+                        acquireResult.shouldProcess() ? "DUPLICATE_IN_BATCH" : acquireResult);
+                continue;
+            }
+            dispatch(event.envelope(), new KafkaEventContext(
+                    consumerGroupId,
+                    inbox.getTopic(),
+                    inbox.getPartitionNo(),
+                    inbox.getOffsetNo(),
+                    event.record().key(),
+                    inbox.getEventId(),
+                    inbox.getEventType(),
+                    inbox.getTenantId()));
+            processed.add(inbox);
+        }
+
+        long markStart = System.nanoTime();
+        consumerInboxService.markBatchProcessed(consumerGroupId, processed);
+        inboxNanos += System.nanoTime() - markStart;
+
+        log.info(
+                "Kafka batch processed successfully: group={}, records={}, processed={}, inboxMicrosPerRecord={}",
+                consumerGroupId,
+                events.size(),
+                processed.size(),
+                inboxNanos / 1_000 / events.size());
+    }
+
+    private BatchEvent toBatchEvent(ConsumerRecord<String, String> record) {
+        JsonNode envelope = parseAndValidateEnvelope(record.value());
+        ConsumerInboxEventEntity inbox = ConsumerInboxEventEntity.builder()
+                .eventId(requiredValue(envelope.at("/meta/id"), "Kafka payload missing meta.id"))
+                .eventType(requiredEventType(envelope.at("/meta/type"), "Kafka payload missing meta.type"))
+                .topic(record.topic())
+                .partitionNo(record.partition())
+                .offsetNo(record.offset())
+                .tenantId(optionalLong(envelope.at("/meta/tenantId")))
+                .payloadHash(payloadHash(record.value()))
+                .rawPayload(record.value())
+                .build();
+        return new BatchEvent(record, envelope, inbox);
+    }
+
+    private void dispatch(JsonNode envelope, KafkaEventContext context) {
+        beforeDispatch(envelope, context);
+
+        String eventType = context.eventType();
+        IKafkaEventHandlerStrategy strategy = strategyRegistry.findByEventType(eventType)
+                .orElseThrow(() -> new KafkaNonRetryableException(
+                        "No Kafka strategy registered for eventType=" + eventType));
+        strategy.handle(envelope, context);
+
+        afterDispatch(envelope, context);
+    }
+
     protected void beforeDispatch(JsonNode message, KafkaEventContext context) {
     }
 
@@ -248,4 +396,10 @@ public abstract class AbstractKafkaConsumerTemplate {
 
         acknowledgment.acknowledge();
     }
+
+    private record BatchEvent(
+            ConsumerRecord<String, String> record,
+            JsonNode envelope,
+            ConsumerInboxEventEntity inbox) {
+    }
 }
@@ -5,12 +5,15 @@
 
 package serp.project.pmcore.ui.messaging.consumer;
 
+import java.util.List;
+
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import serp.project.pmcore.core.service.IConsumerInboxService;
 import serp.project.pmcore.core.service.messaging.strategy.KafkaEventHandlerStrategyRegistry;
@@ -25,17 +28,28 @@ public class PmCoreKafkaConsumer extends AbstractKafkaConsumerTemplate {
     public PmCoreKafkaConsumer(
             JsonUtils jsonUtils,
             IConsumerInboxService consumerInboxService,
-            KafkaEventHandlerStrategyRegistry strategyRegistry) {
-        super(jsonUtils, consumerInboxService, strategyRegistry);
+            KafkaEventHandlerStrategyRegistry strategyRegistry,
+            TransactionTemplate transactionTemplate) {
+        super(jsonUtils, consumerInboxService, strategyRegistry, transactionTemplate);
     }
 
     @KafkaListener(
             id = "pmCoreKafkaInboundConsumer",
             topics = "#{@kafkaConsumerProperties.resolvedTopics}",
             containerFactory = "pmCoreKafkaListenerContainerFactory",
-            autoStartup = "${app.kafka.consumer.enabled:false}")
+            autoStartup = "#{@kafkaConsumerProperties.enabled && !@kafkaConsumerProperties.batchEnabled}")
     @Transactional(rollbackFor = Exception.class)
     public void consume(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
         processRecord(record, acknowledgment, consumerGroupId);
     }
+
+    @KafkaListener(
+            id = "pmCoreKafkaInboundBatchConsumer",
+            topics = "#{@kafkaConsumerProperties.resolvedTopics}",
+            containerFactory = "pmCoreKafkaBatchListenerContainerFactory",
+            autoStartup = "#{@kafkaConsumerProperties.enabled && @kafkaConsumerProperties.batchEnabled}",
+            properties = "max.poll.records=#{@kafkaConsumerProperties.batchMaxRecords}")
+    public void consumeBatch(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        processBatch(records, acknowledgment, consumerGroupId);
+    }
 }
@@ -12,10 +12,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import serp.project.pmcore.core.domain.dto.request.CreateProjectRequest;
+import serp.project.pmcore.core.domain.dto.request.CustomizeProjectSchemeRequest;
 import serp.project.pmcore.core.domain.dto.request.GetProjectParams;
 import serp.project.pmcore.core.domain.dto.request.UpdateProjectRequest;
 import serp.project.pmcore.core.domain.dto.response.GeneralResponse;
 import serp.project.pmcore.core.domain.dto.response.ProjectResponse;
+import serp.project.pmcore.core.domain.enums.SchemeType;
 import serp.project.pmcore.core.exception.AppException;
 import serp.project.pmcore.core.exception.ErrorCode;
 import serp.project.pmcore.core.usecase.ProjectUseCase;
@@ -105,6 +107,20 @@ public class ProjectController {
         return ResponseEntity.ok(responseUtils.success(response));
     }
 
+    @PatchMapping("/{id}/schemes/{schemeType}")
+    public ResponseEntity<GeneralResponse<?>> customizeProjectScheme(
+            @PathVariable Long id,
+            @PathVariable SchemeType schemeType,
+            @Valid @RequestBody CustomizeProjectSchemeRequest request) {
+        Long userId = authUtils.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        ProjectResponse response = projectUseCase.customizeProjectScheme(id, schemeType, request, tenantId, userId);
+        return ResponseEntity.ok(responseUtils.success(response));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<GeneralResponse<?>> deleteProject(@PathVariable Long id) {
         Long userId = authUtils.getCurrentUserId()
@@ -9,12 +9,24 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+import serp.project.pmcore.core.domain.dto.request.BulkUpdateWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.request.ChangeParentRequest;
 import serp.project.pmcore.core.domain.dto.request.CreateWorkItemRequest;
+import serp.project.pmcore.core.domain.dto.request.RankWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.request.TransitionWorkItemRequest;
 import serp.project.pmcore.core.domain.dto.response.GeneralResponse;
 import serp.project.pmcore.core.domain.dto.response.WorkItemResponse;
 import serp.project.pmcore.core.exception.AppException;
@@ -23,6 +35,9 @@ import serp.project.pmcore.core.usecase.WorkItemUseCase;
 import serp.project.pmcore.kernel.utils.AuthUtils;
 import serp.project.pmcore.kernel.utils.ResponseUtils;
 
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
 @RestController
 @RequestMapping("/api/v1/work-items")
 @RequiredArgsConstructor
@@ -44,4 +59,122 @@ public class WorkItemController {
         WorkItemResponse response = workItemUseCase.createWorkItem(request, tenantId, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(responseUtils.success(response));
     }
+
+    @PutMapping("/rank")
+    public ResponseEntity<GeneralResponse<?>> rankWorkItems(
+            @Valid @RequestBody RankWorkItemsRequest request) {
+        Long userId = authUtils.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        return ResponseEntity.ok(responseUtils.success(workItemUseCase.rankWorkItems(request, tenantId, userId)));
+    }
+
+    @PutMapping("/{workItemId}/parent")
+    public ResponseEntity<GeneralResponse<?>> changeParent(
+            @PathVariable Long workItemId,
+            @RequestBody ChangeParentRequest request) {
+        Long userId = authUtils.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        return ResponseEntity.ok(responseUtils.success(
+                workItemUseCase.changeParent(workItemId, request, tenantId, userId)));
+    }
+
+    @DeleteMapping("/{workItemId}")
+    public ResponseEntity<GeneralResponse<?>> deleteWorkItem(@PathVariable Long workItemId) {
+        Long userId = authUtils.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        workItemUseCase.deleteWorkItem(workItemId, tenantId, userId);
+        return ResponseEntity.ok(responseUtils.status("Work item deleted successfully"));
+    }
+
+    @PostMapping("/aggregates")
+    public ResponseEntity<GeneralResponse<?>> getWorkItemAggregate(@RequestBody WorkItemFilterRequest filter) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        return ResponseEntity.ok(responseUtils.success(workItemUseCase.getWorkItemAggregate(filter, tenantId)));
+    }
+
+    @GetMapping("/{workItemId}/rollup")
+    public ResponseEntity<GeneralResponse<?>> getWorkItemRollup(@PathVariable Long workItemId) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        return ResponseEntity.ok(responseUtils.success(workItemUseCase.getWorkItemRollup(workItemId, tenantId)));
+    }
+
+    @GetMapping("/{workItemId}/history")
+    public ResponseEntity<GeneralResponse<?>> getWorkItemHistory(
+            @PathVariable Long workItemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        return ResponseEntity.ok(responseUtils.success(
+                workItemUseCase.getWorkItemHistory(workItemId, cursor, limit, tenantId)));
+    }
+
+    /**
+     * Streams a project's work item history as newline-delimited JSON; {@code from} and
+     * {@code to} are epoch millis bounding {@code [from, to)}
+     */
+    @GetMapping("/history/export")
+    public ResponseEntity<StreamingResponseBody> exportProjectHistory(
+            @RequestParam Long projectId,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        Consumer<OutputStream> export = workItemUseCase.exportProjectHistory(projectId, from, to, tenantId);
+        StreamingResponseBody body = export::accept;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    @GetMapping("/{workItemId}/transitions")
+    public ResponseEntity<GeneralResponse<?>> getAvailableTransitions(@PathVariable Long workItemId) {
+        Long userId = authUtils.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        return ResponseEntity.ok(responseUtils.success(
+                workItemUseCase.getAvailableTransitions(workItemId, tenantId, userId)));
+    }
+
+    @PostMapping("/{workItemId}/transitions")
+    public ResponseEntity<GeneralResponse<?>> transitionWorkItem(
+            @PathVariable Long workItemId,
+            @Valid @RequestBody TransitionWorkItemRequest request) {
+        Long userId = authUtils.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        return ResponseEntity.ok(responseUtils.success(
+                workItemUseCase.transitionWorkItem(workItemId, request, tenantId, userId)));
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<GeneralResponse<?>> bulkUpdateWorkItems(
+            @Valid @RequestBody BulkUpdateWorkItemsRequest request) {
+        Long userId = authUtils.getCurrentUserId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(ErrorCode.UNAUTHORIZED));
+
+        return ResponseEntity.ok(responseUtils.success(
+                workItemUseCase.bulkUpdateWorkItems(request, tenantId, userId)));
+    }
 }
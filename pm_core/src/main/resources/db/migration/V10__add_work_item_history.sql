@@ -0,0 +1,83 @@
+-- Author: QuanTuanHuy
+-- Description: Part of Serp Project
+
+-- Append-only field-level change history of work items, written by the outbox relay when it
+-- first claims a work item event. The unique key lets the relay record an event again after a
+-- retried claim without duplicating its rows. Range partitioned by month on occurred_at, so old history is
+-- dropped a partition at a time instead of deleted row by row. Rows outside every monthly
+-- partition land in the default partition, so an insert never fails for lack of one.
+CREATE TABLE IF NOT EXISTS work_item_history (
+    id              BIGSERIAL,
+    tenant_id       BIGINT       NOT NULL,
+    project_id      BIGINT       NOT NULL,
+    work_item_id    BIGINT       NOT NULL,
+    outbox_event_id BIGINT       NOT NULL,
+    event_type      VARCHAR(100) NOT NULL,
+    actor_id        BIGINT,
+    changes         JSONB        NOT NULL,
+    occurred_at     TIMESTAMP    NOT NULL,
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE IF NOT EXISTS work_item_history_default PARTITION OF work_item_history DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_work_item_history_item
+    ON work_item_history (tenant_id, work_item_id, occurred_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_work_item_history_project
+    ON work_item_history (tenant_id, project_id, occurred_at, id);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_work_item_history_event
+    ON work_item_history (outbox_event_id, work_item_id, occurred_at);
+
+-- Creates the monthly partitions from the current month up to months_ahead months ahead. A
+-- partition cannot be added while the default partition holds rows of its range, so those rows
+-- are moved into the new table before it is attached.
+CREATE OR REPLACE FUNCTION ensure_work_item_history_partitions(months_ahead INT)
+RETURNS INT AS $$
+DECLARE
+    month_start TIMESTAMP;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    FOR i IN 0..GREATEST(months_ahead, 0) LOOP
+        month_start := date_trunc('month', LOCALTIMESTAMP) + make_interval(months => i);
+        partition_name := 'work_item_history_' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE work_item_history INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                           partition_name);
+            EXECUTE format('WITH moved AS (DELETE FROM work_item_history_default '
+                               'WHERE occurred_at >= %L AND occurred_at < %L RETURNING *) '
+                           'INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_start + INTERVAL '1 month', partition_name);
+            EXECUTE format('ALTER TABLE work_item_history ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, month_start + INTERVAL '1 month');
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops the monthly partitions that end at or before the cutoff
+CREATE OR REPLACE FUNCTION drop_work_item_history_partitions_before(cutoff TIMESTAMP)
+RETURNS INT AS $$
+DECLARE
+    partition_name TEXT;
+    dropped INT := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'work_item_history'::regclass
+        AND c.relname ~ '^work_item_history_[0-9]{6}$'
+    LOOP
+        IF to_date(right(partition_name, 6), 'YYYYMM') + INTERVAL '1 month' <= cutoff THEN
+            EXECUTE format('DROP TABLE %I', partition_name);
+            dropped := dropped + 1;
+        END IF;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT ensure_work_item_history_partitions(2);
@@ -0,0 +1,7 @@
+-- Author: QuanTuanHuy
+-- Description: Part of Serp Project
+
+-- The relay claim skips events queued behind a failed event of the same partition key,
+-- so a retry is published before the events that followed it. Failed rows are few.
+CREATE INDEX idx_outbox_events_failed_key ON outbox_events (partition_key, created_at)
+    WHERE status = 'FAILED';
@@ -0,0 +1,17 @@
+-- Author: QuanTuanHuy
+-- Description: Part of Serp Project
+
+-- Wakes the outbox relay when outbox rows are written. The notification is sent by the
+-- writing transaction and delivered on commit; Postgres folds identical notifications of
+-- one transaction into one, so a statement-level trigger costs one NOTIFY per commit.
+CREATE OR REPLACE FUNCTION notify_outbox_events() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('pm_outbox_events', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_outbox_events_notify
+    AFTER INSERT ON outbox_events
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_outbox_events();
@@ -0,0 +1,13 @@
+-- Author: QuanTuanHuy
+-- Description: Part of Serp Project
+
+-- Issue numbers are reserved in blocks with a single upsert per block, which needs one
+-- counter row per project to conflict on. counter holds the last reserved issue number.
+CREATE TABLE IF NOT EXISTS project_issue_counters (
+    tenant_id   BIGINT NOT NULL,
+    project_id  BIGINT NOT NULL,
+    counter     BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_project_issue_counters_project
+    ON project_issue_counters (tenant_id, project_id);
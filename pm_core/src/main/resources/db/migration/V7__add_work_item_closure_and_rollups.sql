@@ -0,0 +1,91 @@
+-- Author: QuanTuanHuy
+-- Description: Part of Serp Project
+
+-- Ancestry of work items as a closure table: one row per (ancestor, descendant) pair including
+-- each item paired with itself at depth 0, so a subtree is a single indexed lookup instead of a
+-- recursive walk over parent_id.
+CREATE TABLE IF NOT EXISTS work_item_closure (
+    tenant_id     BIGINT NOT NULL,
+    ancestor_id   BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth         INT    NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_work_item_closure_descendant ON work_item_closure (descendant_id, depth);
+
+-- Totals over each work item's subtree, the item itself included. Kept up to date incrementally
+-- by adding deltas to the ancestors of a changed item.
+CREATE TABLE IF NOT EXISTS work_item_rollups (
+    work_item_id            BIGINT PRIMARY KEY,
+    tenant_id               BIGINT NOT NULL,
+    descendant_count        INT    NOT NULL DEFAULT 0,
+    time_spent              BIGINT NOT NULL DEFAULT 0,
+    time_original_estimate  BIGINT NOT NULL DEFAULT 0,
+    time_remaining_estimate BIGINT NOT NULL DEFAULT 0,
+    updated_at              TIMESTAMP
+);
+
+INSERT INTO work_item_closure (tenant_id, ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree AS (
+    SELECT tenant_id, id AS ancestor_id, id AS descendant_id, 0 AS depth
+    FROM work_items
+    WHERE deleted_at IS NULL
+    UNION ALL
+    SELECT t.tenant_id, t.ancestor_id, w.id, t.depth + 1
+    FROM tree t
+    JOIN work_items w ON w.parent_id = t.descendant_id AND w.deleted_at IS NULL
+    WHERE t.depth < 32
+)
+SELECT tenant_id, ancestor_id, descendant_id, MIN(depth)
+FROM tree
+GROUP BY tenant_id, ancestor_id, descendant_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO work_item_rollups (work_item_id, tenant_id, descendant_count, time_spent,
+                               time_original_estimate, time_remaining_estimate, updated_at)
+SELECT c.ancestor_id, c.tenant_id, COUNT(*) - 1,
+       COALESCE(SUM(w.time_spent), 0),
+       COALESCE(SUM(w.time_original_estimate), 0),
+       COALESCE(SUM(w.time_remaining_estimate), 0),
+       NOW()
+FROM work_item_closure c
+JOIN work_items w ON w.id = c.descendant_id
+GROUP BY c.ancestor_id, c.tenant_id
+ON CONFLICT DO NOTHING;
+
+-- Time tracking changes of an existing work item are added to its own rollup and its ancestors'
+-- by whichever statement writes them. Creations, moves and deletions change the tree itself and
+-- are applied by the application under the project's hierarchy lock. Rollup rows are locked in
+-- id order, like the application does, so the two never deadlock on a shared ancestor.
+CREATE OR REPLACE FUNCTION propagate_work_item_time_changes() RETURNS trigger AS $$
+BEGIN
+    WITH ancestors AS (
+        SELECT r.work_item_id
+        FROM work_item_rollups r
+        JOIN work_item_closure c ON c.ancestor_id = r.work_item_id
+        WHERE c.descendant_id = NEW.id AND c.tenant_id = NEW.tenant_id
+        ORDER BY r.work_item_id
+        FOR UPDATE OF r
+    )
+    UPDATE work_item_rollups r
+    SET time_spent = r.time_spent + COALESCE(NEW.time_spent, 0) - COALESCE(OLD.time_spent, 0),
+        time_original_estimate = r.time_original_estimate
+            + COALESCE(NEW.time_original_estimate, 0) - COALESCE(OLD.time_original_estimate, 0),
+        time_remaining_estimate = r.time_remaining_estimate
+            + COALESCE(NEW.time_remaining_estimate, 0) - COALESCE(OLD.time_remaining_estimate, 0),
+        updated_at = NOW()
+    FROM ancestors a
+    WHERE r.work_item_id = a.work_item_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_work_items_time_rollup ON work_items;
+CREATE TRIGGER trg_work_items_time_rollup
+    AFTER UPDATE OF time_spent, time_original_estimate, time_remaining_estimate ON work_items
+    FOR EACH ROW
+    WHEN (OLD.time_spent IS DISTINCT FROM NEW.time_spent
+        OR OLD.time_original_estimate IS DISTINCT FROM NEW.time_original_estimate
+        OR OLD.time_remaining_estimate IS DISTINCT FROM NEW.time_remaining_estimate)
+    EXECUTE FUNCTION propagate_work_item_time_changes();
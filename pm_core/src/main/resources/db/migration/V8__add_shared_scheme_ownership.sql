@@ -0,0 +1,54 @@
+-- Author: QuanTuanHuy
+-- Description: Part of Serp Project
+
+-- Projects share the issue type, priority and workflow schemes they are created from. A scheme
+-- with an owner_project_id is a project's private copy, forked from source_scheme_id at
+-- source_version_no the first time the project customized it. version_no goes up on every change.
+ALTER TABLE issue_type_schemes
+    ADD COLUMN IF NOT EXISTS owner_project_id  BIGINT,
+    ADD COLUMN IF NOT EXISTS version_no        INT NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS source_scheme_id  BIGINT,
+    ADD COLUMN IF NOT EXISTS source_version_no INT;
+
+ALTER TABLE priority_schemes
+    ADD COLUMN IF NOT EXISTS owner_project_id  BIGINT,
+    ADD COLUMN IF NOT EXISTS version_no        INT NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS source_scheme_id  BIGINT,
+    ADD COLUMN IF NOT EXISTS source_version_no INT;
+
+ALTER TABLE workflow_schemes
+    ADD COLUMN IF NOT EXISTS owner_project_id  BIGINT,
+    ADD COLUMN IF NOT EXISTS version_no        INT NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS source_scheme_id  BIGINT,
+    ADD COLUMN IF NOT EXISTS source_version_no INT;
+
+CREATE INDEX IF NOT EXISTS idx_issue_type_schemes_owner ON issue_type_schemes (owner_project_id)
+    WHERE owner_project_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_priority_schemes_owner ON priority_schemes (owner_project_id)
+    WHERE owner_project_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_workflow_schemes_owner ON workflow_schemes (owner_project_id)
+    WHERE owner_project_id IS NOT NULL;
+
+-- Schemes deep-cloned at project creation stay private to their project
+DO $$
+BEGIN
+    IF to_regclass('projects') IS NOT NULL THEN
+        UPDATE issue_type_schemes s SET owner_project_id = p.id
+        FROM projects p
+        WHERE p.issue_type_scheme_id = s.id
+        AND p.tenant_id = s.tenant_id
+        AND s.description = 'Cloned for project ' || p.key;
+
+        UPDATE priority_schemes s SET owner_project_id = p.id
+        FROM projects p
+        WHERE p.priority_scheme_id = s.id
+        AND p.tenant_id = s.tenant_id
+        AND s.description = 'Cloned for project ' || p.key;
+
+        UPDATE workflow_schemes s SET owner_project_id = p.id
+        FROM projects p
+        WHERE p.workflow_scheme_id = s.id
+        AND p.tenant_id = s.tenant_id
+        AND s.description = 'Cloned for project ' || p.key;
+    END IF;
+END $$;
@@ -0,0 +1,20 @@
+-- Author: QuanTuanHuy
+-- Description: Part of Serp Project
+
+-- Index-backed keyword search over work items. Trigram GIN indexes serve substring and fuzzy
+-- matches on key and summary (ILIKE '%...%' and word similarity), and a stored tsvector over
+-- key, summary and description serves ranked full-text matches. The 'simple' configuration is
+-- used because summaries are written in more than one language; it lowercases without stemming.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Adding a stored generated column rewrites the table once
+ALTER TABLE work_items
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', COALESCE(key, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(summary, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_work_items_search_vector ON work_items USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_work_items_summary_trgm ON work_items USING GIN (summary gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_work_items_key_trgm ON work_items USING GIN (key gin_trgm_ops);
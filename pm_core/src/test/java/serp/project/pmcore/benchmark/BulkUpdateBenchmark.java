@@ -0,0 +1,167 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Reassigning {@code items} work items on a real Postgres, three ways: one UPDATE and one outbox
+ * row per item, a JDBC batch of UPDATEs with one outbox row per chunk, and one
+ * {@code UPDATE ... WHERE id = ANY(?)} with one outbox row per chunk.
+ * <p>
+ * Runs in a scratch schema that is dropped afterwards. Disabled unless a database is given:
+ * {@code ./mvnw test -Dtest=BulkUpdateBenchmark
+ * -Dpmcore.benchmark.jdbc-url=jdbc:postgresql://localhost:5432/serp_pm
+ * -Dpmcore.benchmark.username=... -Dpmcore.benchmark.password=...}
+ */
+@EnabledIfSystemProperty(named = "pmcore.benchmark.jdbc-url", matches = ".+")
+class BulkUpdateBenchmark {
+
+    private static final String PREFIX = "pmcore.benchmark.";
+    private static final String SCHEMA = "pm_bulk_update_bench";
+
+    private static final String OUTBOX_SQL = "INSERT INTO " + SCHEMA + ".outbox (payload) VALUES (?)";
+
+    private final int items = intProperty("items", 500);
+    private final int chunkSize = intProperty("chunk-size", 200);
+    private final int rounds = intProperty("rounds", 20);
+
+    @Test
+    void comparePerItemBatchAndArrayUpdates() throws Exception {
+        try (Connection connection = connect()) {
+            execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            execute(connection, "CREATE SCHEMA " + SCHEMA);
+            try {
+                execute(connection, "CREATE TABLE " + SCHEMA + ".items (id BIGINT PRIMARY KEY, assignee_id BIGINT, " +
+                        "updated_at TIMESTAMP)");
+                execute(connection, "CREATE TABLE " + SCHEMA + ".outbox (id BIGSERIAL PRIMARY KEY, payload TEXT)");
+                execute(connection, "INSERT INTO " + SCHEMA + ".items (id) SELECT g FROM generate_series(1, " + items + ") g");
+                connection.setAutoCommit(false);
+
+                double perItem = run(connection, this::updatePerItem);
+                double batch = run(connection, this::updateInBatches);
+                double array = run(connection, this::updateWithArray);
+
+                System.out.printf("Bulk reassign: %d items, chunk %d, %d rounds%n", items, chunkSize, rounds);
+                System.out.printf("  per item          %.0f items/s%n", perItem);
+                System.out.printf("  JDBC batch        %.0f items/s%n", batch);
+                System.out.printf("  WHERE id = ANY()  %.0f items/s%n", array);
+                assertEquals(items, count(connection, "SELECT count(*) FROM " + SCHEMA + ".items WHERE assignee_id = " + rounds));
+            } finally {
+                connection.setAutoCommit(true);
+                execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+    }
+
+    private double run(Connection connection, Updater updater) throws Exception {
+        long start = System.nanoTime();
+        for (int round = 1; round <= rounds; round++) {
+            updater.update(connection, round);
+            connection.commit();
+        }
+        return (double) items * rounds / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private void updatePerItem(Connection connection, long assigneeId) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + SCHEMA + ".items SET assignee_id = ?, updated_at = NOW() WHERE id = ?");
+             PreparedStatement outbox = connection.prepareStatement(OUTBOX_SQL)) {
+            for (long id = 1; id <= items; id++) {
+                update.setLong(1, assigneeId);
+                update.setLong(2, id);
+                update.executeUpdate();
+                outbox.setString(1, "{\"workItemId\":" + id + "}");
+                outbox.executeUpdate();
+            }
+        }
+    }
+
+    private void updateInBatches(Connection connection, long assigneeId) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + SCHEMA + ".items SET assignee_id = ?, updated_at = NOW() WHERE id = ?");
+             PreparedStatement outbox = connection.prepareStatement(OUTBOX_SQL)) {
+            for (long from = 1; from <= items; from += chunkSize) {
+                long to = Math.min(from + chunkSize - 1, items);
+                for (long id = from; id <= to; id++) {
+                    update.setLong(1, assigneeId);
+                    update.setLong(2, id);
+                    update.addBatch();
+                }
+                update.executeBatch();
+                outbox.setString(1, chunkPayload(from, to));
+                outbox.executeUpdate();
+            }
+        }
+    }
+
+    private void updateWithArray(Connection connection, long assigneeId) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + SCHEMA + ".items SET assignee_id = ?, updated_at = NOW() WHERE id = ANY(?)");
+             PreparedStatement outbox = connection.prepareStatement(OUTBOX_SQL)) {
+            for (long from = 1; from <= items; from += chunkSize) {
+                long to = Math.min(from + chunkSize - 1, items);
+                Long[] ids = new Long[(int) (to - from + 1)];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = from + i;
+                }
+                update.setLong(1, assigneeId);
+                update.setArray(2, connection.createArrayOf("bigint", ids));
+                update.executeUpdate();
+                outbox.setString(1, chunkPayload(from, to));
+                outbox.executeUpdate();
+            }
+        }
+    }
+
+    private static String chunkPayload(long from, long to) {
+        StringBuilder payload = new StringBuilder("{\"workItemIds\":[");
+        for (long id = from; id <= to; id++) {
+            payload.append(id).append(id < to ? "," : "");
+        }
+        return payload.append("]}").toString();
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                System.getProperty(PREFIX + "jdbc-url"),
+                System.getProperty(PREFIX + "username"),
+                System.getProperty(PREFIX + "password"));
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    @FunctionalInterface
+    private interface Updater {
+        void update(Connection connection, long assigneeId) throws Exception;
+    }
+}
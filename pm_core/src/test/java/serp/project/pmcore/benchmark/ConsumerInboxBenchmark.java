@@ -0,0 +1,203 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Consumer inbox bookkeeping for Kafka polls of {@code poll-size} records on a real Postgres:
+ * the per-record path (insert ON CONFLICT DO NOTHING, status SELECT on conflict, markProcessed
+ * UPDATE) against the batch path (one unnest insert with RETURNING and one unnest UPDATE per poll).
+ * Every poll carries {@code duplicate-percent} redelivered events so the conflict path is measured.
+ * Handler work is left out; only the inbox overhead per record is reported.
+ * <p>
+ * Runs in a scratch schema that is dropped afterwards. Disabled unless a database is given:
+ * {@code ./mvnw test -Dtest=ConsumerInboxBenchmark
+ * -Dpmcore.benchmark.jdbc-url=jdbc:postgresql://localhost:5432/serp_pm
+ * -Dpmcore.benchmark.username=... -Dpmcore.benchmark.password=...}
+ */
+@EnabledIfSystemProperty(named = "pmcore.benchmark.jdbc-url", matches = ".+")
+class ConsumerInboxBenchmark {
+
+    private static final String PREFIX = "pmcore.benchmark.";
+    private static final String SCHEMA = "pm_consumer_inbox_bench";
+
+    private final int pollSize = intProperty("poll-size", 200);
+    private final int polls = intProperty("polls", 50);
+    private final int duplicatePercent = intProperty("duplicate-percent", 5);
+
+    @Test
+    void comparePerRecordAndBatchInbox() throws Exception {
+        try (Connection connection = connect()) {
+            execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            execute(connection, "CREATE SCHEMA " + SCHEMA);
+            try {
+                execute(connection, "CREATE TABLE " + SCHEMA + ".inbox (id BIGSERIAL PRIMARY KEY, " +
+                        "consumer_group VARCHAR(120) NOT NULL, event_id VARCHAR(120) NOT NULL, " +
+                        "offset_no BIGINT NOT NULL, raw_payload JSONB, status VARCHAR(20) NOT NULL, " +
+                        "processed_at TIMESTAMP, UNIQUE (consumer_group, event_id))");
+                connection.setAutoCommit(false);
+
+                double perRecord = run(connection, "per-record", this::perRecordPoll);
+                double batch = run(connection, "batch", this::batchPoll);
+
+                System.out.printf("Consumer inbox: %d polls x %d records, %d%% redelivered%n",
+                        polls, pollSize, duplicatePercent);
+                System.out.printf("  per record  %.1f us/record%n", perRecord);
+                System.out.printf("  batch       %.1f us/record%n", batch);
+                assertEquals(2L * (pollSize + (polls - 1L) * (pollSize - duplicates())), processed(connection));
+            } finally {
+                connection.setAutoCommit(true);
+                execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+    }
+
+    private double run(Connection connection, String group, Poll poll) throws Exception {
+        String[] previous = new String[0];
+        long elapsed = 0;
+        for (int i = 0; i < polls; i++) {
+            String[] eventIds = new String[pollSize];
+            int duplicates = Math.min(duplicates(), previous.length);
+            System.arraycopy(previous, 0, eventIds, 0, duplicates);
+            for (int j = duplicates; j < pollSize; j++) {
+                eventIds[j] = UUID.randomUUID().toString();
+            }
+            long start = System.nanoTime();
+            poll.run(connection, group, eventIds, (long) i * pollSize);
+            connection.commit();
+            elapsed += System.nanoTime() - start;
+            previous = eventIds;
+        }
+        return elapsed / 1e3 / ((double) polls * pollSize);
+    }
+
+    private void perRecordPoll(Connection connection, String group, String[] eventIds, long firstOffset)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + SCHEMA + ".inbox " +
+                "(consumer_group, event_id, offset_no, raw_payload, status) VALUES (?, ?, ?, CAST(? AS jsonb), " +
+                "'PROCESSING') ON CONFLICT (consumer_group, event_id) DO NOTHING");
+             PreparedStatement select = connection.prepareStatement("SELECT status FROM " + SCHEMA + ".inbox " +
+                     "WHERE consumer_group = ? AND event_id = ?");
+             PreparedStatement mark = connection.prepareStatement("UPDATE " + SCHEMA + ".inbox " +
+                     "SET status = 'PROCESSED', offset_no = ?, processed_at = NOW() " +
+                     "WHERE consumer_group = ? AND event_id = ?")) {
+            for (int i = 0; i < eventIds.length; i++) {
+                insert.setString(1, group);
+                insert.setString(2, eventIds[i]);
+                insert.setLong(3, firstOffset + i);
+                insert.setString(4, payload(eventIds[i]));
+                if (insert.executeUpdate() == 0) {
+                    select.setString(1, group);
+                    select.setString(2, eventIds[i]);
+                    try (ResultSet rows = select.executeQuery()) {
+                        if (rows.next() && "PROCESSED".equals(rows.getString(1))) {
+                            continue;
+                        }
+                    }
+                }
+                mark.setLong(1, firstOffset + i);
+                mark.setString(2, group);
+                mark.setString(3, eventIds[i]);
+                mark.executeUpdate();
+            }
+        }
+    }
+
+    private void batchPoll(Connection connection, String group, String[] eventIds, long firstOffset)
+            throws SQLException {
+        Long[] offsets = new Long[eventIds.length];
+        String[] payloads = new String[eventIds.length];
+        for (int i = 0; i < eventIds.length; i++) {
+            offsets[i] = firstOffset + i;
+            payloads[i] = payload(eventIds[i]);
+        }
+
+        Array acquired;
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + SCHEMA + ".inbox " +
+                "(consumer_group, event_id, offset_no, raw_payload, status) " +
+                "SELECT ?, event_id, offset_no, CAST(raw_payload AS jsonb), 'PROCESSING' " +
+                "FROM unnest(CAST(? AS text[]), CAST(? AS bigint[]), CAST(? AS text[])) " +
+                "AS t(event_id, offset_no, raw_payload) " +
+                "ON CONFLICT (consumer_group, event_id) DO NOTHING RETURNING event_id")) {
+            insert.setString(1, group);
+            insert.setArray(2, connection.createArrayOf("text", eventIds));
+            insert.setArray(3, connection.createArrayOf("bigint", offsets));
+            insert.setArray(4, connection.createArrayOf("text", payloads));
+            List<String> ids = new ArrayList<>();
+            try (ResultSet rows = insert.executeQuery()) {
+                while (rows.next()) {
+                    ids.add(rows.getString(1));
+                }
+            }
+            acquired = connection.createArrayOf("text", ids.toArray());
+        }
+
+        try (PreparedStatement mark = connection.prepareStatement("UPDATE " + SCHEMA + ".inbox c " +
+                "SET status = 'PROCESSED', offset_no = t.offset_no, processed_at = NOW() " +
+                "FROM unnest(CAST(? AS text[]), CAST(? AS bigint[])) AS t(event_id, offset_no) " +
+                "WHERE c.consumer_group = ? AND c.event_id = t.event_id AND t.event_id = ANY(CAST(? AS text[]))")) {
+            mark.setArray(1, connection.createArrayOf("text", eventIds));
+            mark.setArray(2, connection.createArrayOf("bigint", offsets));
+            mark.setString(3, group);
+            mark.setArray(4, acquired);
+            mark.executeUpdate();
+        }
+    }
+
+    private int duplicates() {
+        return pollSize * duplicatePercent / 100;
+    }
+
+    private static String payload(String eventId) {
+        return "{\"meta\":{\"id\":\"" + eventId + "\",\"type\":\"PROJECT_UPDATED\"},\"data\":{}}";
+    }
+
+    private static long processed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "SELECT count(*) FROM " + SCHEMA + ".inbox WHERE status = 'PROCESSED'")) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                System.getProperty(PREFIX + "jdbc-url"),
+                System.getProperty(PREFIX + "username"),
+                System.getProperty(PREFIX + "password"));
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    @FunctionalInterface
+    private interface Poll {
+        void run(Connection connection, String group, String[] eventIds, long firstOffset) throws SQLException;
+    }
+}
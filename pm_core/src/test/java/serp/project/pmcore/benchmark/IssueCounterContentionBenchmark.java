@@ -0,0 +1,185 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Creators in one project competing for issue numbers on a real Postgres: the old
+ * SELECT FOR UPDATE counter held for the whole creation transaction against block reservation
+ * with a single upsert. Each creation inserts a row and holds its transaction for
+ * {@code work-ms} to stand in for the rest of createWorkItem.
+ * <p>
+ * Runs in a scratch schema that is dropped afterwards. Disabled unless a database is given:
+ * {@code ./mvnw test -Dtest=IssueCounterContentionBenchmark
+ * -Dpmcore.benchmark.jdbc-url=jdbc:postgresql://localhost:5432/serp_pm
+ * -Dpmcore.benchmark.username=... -Dpmcore.benchmark.password=...}
+ */
+@EnabledIfSystemProperty(named = "pmcore.benchmark.jdbc-url", matches = ".+")
+class IssueCounterContentionBenchmark {
+
+    private static final String PREFIX = "pmcore.benchmark.";
+    private static final String SCHEMA = "pm_issue_counter_bench";
+
+    private static final String RESERVE_SQL = "INSERT INTO " + SCHEMA + ".counters (project_id, counter) " +
+            "VALUES (1, ?) ON CONFLICT (project_id) DO UPDATE SET counter = counters.counter + EXCLUDED.counter " +
+            "RETURNING counter";
+
+    private final int threads = intProperty("threads", 16);
+    private final int itemsPerThread = intProperty("items-per-thread", 200);
+    private final int blockSize = intProperty("block-size", 64);
+    private final int workMs = intProperty("work-ms", 2);
+
+    @Test
+    void compareRowLockAndBlockAllocation() throws Exception {
+        try (Connection admin = connect()) {
+            execute(admin, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            execute(admin, "CREATE SCHEMA " + SCHEMA);
+            try {
+                execute(admin, "CREATE TABLE " + SCHEMA + ".counters (project_id BIGINT PRIMARY KEY, counter BIGINT NOT NULL)");
+                execute(admin, "CREATE TABLE " + SCHEMA + ".items (project_id BIGINT NOT NULL, issue_no BIGINT NOT NULL, " +
+                        "PRIMARY KEY (project_id, issue_no))");
+
+                double rowLock = run(this::createWithRowLock);
+                execute(admin, "TRUNCATE " + SCHEMA + ".counters, " + SCHEMA + ".items");
+                double blocks = run(this::createWithBlocks);
+
+                System.out.printf("Issue counter contention: %d threads x %d items, work %d ms, block %d%n",
+                        threads, itemsPerThread, workMs, blockSize);
+                System.out.printf("  SELECT FOR UPDATE  %.0f items/s%n", rowLock);
+                System.out.printf("  block reservation  %.0f items/s%n", blocks);
+                assertEquals((long) threads * itemsPerThread, count(admin));
+            } finally {
+                execute(admin, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+    }
+
+    private double run(Creator creator) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = connect()) {
+                        connection.setAutoCommit(false);
+                        creator.create(connection);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            return threads * itemsPerThread / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void createWithRowLock(Connection connection) throws Exception {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT counter FROM " + SCHEMA + ".counters WHERE project_id = 1 FOR UPDATE");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE " + SCHEMA + ".counters SET counter = ? WHERE project_id = 1");
+             PreparedStatement upsert = connection.prepareStatement(RESERVE_SQL)) {
+            for (int i = 0; i < itemsPerThread; i++) {
+                long issueNo;
+                try (ResultSet rows = select.executeQuery()) {
+                    if (rows.next()) {
+                        issueNo = rows.getLong(1) + 1;
+                        update.setLong(1, issueNo);
+                        update.executeUpdate();
+                    } else {
+                        upsert.setLong(1, 1);
+                        issueNo = returned(upsert);
+                    }
+                }
+                insertItem(connection, issueNo);
+            }
+        }
+    }
+
+    private void createWithBlocks(Connection connection) throws Exception {
+        try (Connection reserveConnection = connect();
+             PreparedStatement upsert = reserveConnection.prepareStatement(RESERVE_SQL)) {
+            reserveConnection.setAutoCommit(true);
+            long next = 1;
+            long end = 0;
+            for (int i = 0; i < itemsPerThread; i++) {
+                if (next > end) {
+                    upsert.setLong(1, blockSize);
+                    end = returned(upsert);
+                    next = end - blockSize + 1;
+                }
+                insertItem(connection, next++);
+            }
+        }
+    }
+
+    private void insertItem(Connection connection, long issueNo) throws Exception {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + SCHEMA + ".items (project_id, issue_no) VALUES (1, ?)")) {
+            insert.setLong(1, issueNo);
+            insert.executeUpdate();
+        }
+        Thread.sleep(workMs);
+        connection.commit();
+    }
+
+    private static long returned(PreparedStatement statement) throws SQLException {
+        try (ResultSet rows = statement.executeQuery()) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static long count(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT count(*) FROM " + SCHEMA + ".items")) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                System.getProperty(PREFIX + "jdbc-url"),
+                System.getProperty(PREFIX + "username"),
+                System.getProperty(PREFIX + "password"));
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    @FunctionalInterface
+    private interface Creator {
+        void create(Connection connection) throws Exception;
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Keyword search over {@code items} work items (1M by default) of one tenant on a real
+ * Postgres: a first page plus its exact count, read three ways. Leading-wildcard ILIKE before
+ * the V9 indexes exist, the same ILIKE once the trigram GIN indexes exist, and the V9 search
+ * (full text, substring and fuzzy matches) ordered by relevance.
+ * <p>
+ * Runs in a scratch schema that is dropped afterwards and needs the pg_trgm extension. Disabled
+ * unless a database is given:
+ * {@code ./mvnw test -Dtest=KeywordSearchBenchmark
+ * -Dpmcore.benchmark.jdbc-url=jdbc:postgresql://localhost:5432/serp_pm
+ * -Dpmcore.benchmark.username=... -Dpmcore.benchmark.password=...}
+ */
+@EnabledIfSystemProperty(named = "pmcore.benchmark.jdbc-url", matches = ".+")
+class KeywordSearchBenchmark {
+
+    private static final String PREFIX = "pmcore.benchmark.";
+    private static final String SCHEMA = "pm_keyword_search_bench";
+
+    private static final List<String> KEYWORDS = List.of("payment", "timeout", "checkout flow", "paymnet", "migrat");
+
+    private static final String LIKE_WHERE = " WHERE tenant_id = 1 AND deleted_at IS NULL" +
+            " AND (summary ILIKE ? OR key ILIKE ?)";
+    private static final String SEARCH_WHERE = " WHERE tenant_id = 1 AND deleted_at IS NULL" +
+            " AND (search_vector @@ websearch_to_tsquery('simple', ?) OR summary ILIKE ? OR key ILIKE ?" +
+            " OR ? <% summary)";
+    private static final String RELEVANCE = "CAST(ROUND((ts_rank_cd(search_vector, websearch_to_tsquery('simple', ?), 32)" +
+            " + word_similarity(?, COALESCE(summary, ''))) * 1000000) AS BIGINT)";
+
+    private final int items = intProperty("items", 1_000_000);
+    private final int rounds = intProperty("rounds", 5);
+    private final int pageSize = intProperty("page-size", 50);
+
+    @Test
+    void compareLikeTrigramAndFullTextSearch() throws Exception {
+        try (Connection connection = connect()) {
+            execute(connection, "CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            execute(connection, "CREATE SCHEMA " + SCHEMA);
+            try {
+                createItems(connection);
+
+                double like = run(connection, this::searchWithLike);
+                execute(connection, "CREATE INDEX ON " + SCHEMA + ".items USING GIN (summary gin_trgm_ops)");
+                execute(connection, "CREATE INDEX ON " + SCHEMA + ".items USING GIN (key gin_trgm_ops)");
+                execute(connection, "CREATE INDEX ON " + SCHEMA + ".items USING GIN (search_vector)");
+                execute(connection, "ANALYZE " + SCHEMA + ".items");
+                double trigram = run(connection, this::searchWithLike);
+                double search = run(connection, this::searchRanked);
+
+                System.out.printf("Keyword search: %d items, %d keywords x %d rounds, page %d + exact count%n",
+                        items, KEYWORDS.size(), rounds, pageSize);
+                System.out.printf("  ILIKE, no index        %.1f ms/search%n", like);
+                System.out.printf("  ILIKE, trigram GIN     %.1f ms/search%n", trigram);
+                System.out.printf("  ranked V9 search       %.1f ms/search%n", search);
+                assertTrue(matches(connection, "payment") > 0);
+            } finally {
+                execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+    }
+
+    private void createItems(Connection connection) throws SQLException {
+        execute(connection, "CREATE FUNCTION " + SCHEMA + ".word(seed BIGINT) RETURNS TEXT AS $$ " +
+                "SELECT (ARRAY['payment','checkout','timeout','login','report','export','import','search'," +
+                "'invoice','refund','migration','dashboard','mobile','crash','slow','billing','email','cache'," +
+                "'deploy','flow','permission','upload','sync','api','retry','order','customer','session'," +
+                "'token','notification','layout','filter','sprint','backlog','board','release','build'," +
+                "'config','audit','queue'])[1 + ((hashint8(seed) % 40 + 40) % 40)::INT] $$ LANGUAGE sql IMMUTABLE");
+        execute(connection, "CREATE TABLE " + SCHEMA + ".items (id BIGINT PRIMARY KEY, tenant_id BIGINT NOT NULL, " +
+                "key VARCHAR(32) NOT NULL, summary TEXT, description TEXT, deleted_at TIMESTAMP, " +
+                "search_vector TSVECTOR GENERATED ALWAYS AS (" +
+                "setweight(to_tsvector('simple', COALESCE(key, '')), 'A') || " +
+                "setweight(to_tsvector('simple', COALESCE(summary, '')), 'A') || " +
+                "setweight(to_tsvector('simple', COALESCE(description, '')), 'B')) STORED)");
+        String word = SCHEMA + ".word";
+        execute(connection, "INSERT INTO " + SCHEMA + ".items (id, tenant_id, key, summary, description) " +
+                "SELECT g, 1, 'PRJ' || (g % 50) || '-' || g, " +
+                word + "(g) || ' ' || " + word + "(g * 3 + 1) || ' ' || " + word + "(g * 7 + 2) || ' ' || " +
+                word + "(g * 11 + 3), " +
+                "(SELECT string_agg(" + word + "(g * 31 + k), ' ') FROM generate_series(1, 12) k) " +
+                "FROM generate_series(1, " + items + ") g");
+        execute(connection, "CREATE INDEX ON " + SCHEMA + ".items (tenant_id, id)");
+        execute(connection, "ANALYZE " + SCHEMA + ".items");
+    }
+
+    private double run(Connection connection, Search search) throws Exception {
+        for (String keyword : KEYWORDS) {
+            search.search(connection, keyword);
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (String keyword : KEYWORDS) {
+                search.search(connection, keyword);
+            }
+        }
+        return (System.nanoTime() - start) / 1e6 / (rounds * KEYWORDS.size());
+    }
+
+    private void searchWithLike(Connection connection, String keyword) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        try (PreparedStatement page = connection.prepareStatement(
+                "SELECT id, key, summary FROM " + SCHEMA + ".items" + LIKE_WHERE + " ORDER BY id LIMIT ?");
+             PreparedStatement count = connection.prepareStatement(
+                     "SELECT count(*) FROM " + SCHEMA + ".items" + LIKE_WHERE)) {
+            page.setString(1, pattern);
+            page.setString(2, pattern);
+            page.setInt(3, pageSize + 1);
+            drain(page);
+            count.setString(1, pattern);
+            count.setString(2, pattern);
+            drain(count);
+        }
+    }
+
+    private void searchRanked(Connection connection, String keyword) throws SQLException {
+        try (PreparedStatement page = connection.prepareStatement(
+                "SELECT id, key, summary, " + RELEVANCE + " AS relevance FROM " + SCHEMA + ".items" + SEARCH_WHERE +
+                        " ORDER BY relevance DESC, id DESC LIMIT ?");
+             PreparedStatement count = connection.prepareStatement(
+                     "SELECT count(*) FROM " + SCHEMA + ".items" + SEARCH_WHERE)) {
+            page.setString(1, keyword);
+            page.setString(2, keyword);
+            bindSearch(page, 3, keyword);
+            page.setInt(7, pageSize + 1);
+            drain(page);
+            bindSearch(count, 1, keyword);
+            drain(count);
+        }
+    }
+
+    private static void bindSearch(PreparedStatement statement, int from, String keyword) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        statement.setString(from, keyword);
+        statement.setString(from + 1, pattern);
+        statement.setString(from + 2, pattern);
+        statement.setString(from + 3, keyword);
+    }
+
+    private static void drain(PreparedStatement statement) throws SQLException {
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                rows.getLong(1);
+            }
+        }
+    }
+
+    private static long matches(Connection connection, String keyword) throws SQLException {
+        try (PreparedStatement count = connection.prepareStatement(
+                "SELECT count(*) FROM " + SCHEMA + ".items" + SEARCH_WHERE)) {
+            bindSearch(count, 1, keyword);
+            try (ResultSet rows = count.executeQuery()) {
+                rows.next();
+                return rows.getLong(1);
+            }
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                System.getProperty(PREFIX + "jdbc-url"),
+                System.getProperty(PREFIX + "username"),
+                System.getProperty(PREFIX + "password"));
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    @FunctionalInterface
+    private interface Search {
+        void search(Connection connection, String keyword) throws Exception;
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import serp.project.pmcore.kernel.utils.LexorankUtils;
+
+/**
+ * Rank length growth of the old letter mid-point ranks against bucketed base-36 ranks, and
+ * reorder throughput on a real Postgres: moving items with one UPDATE per item against the
+ * single VALUES statement used by WorkItemRankAdapter.
+ * <p>
+ * Runs in a scratch schema that is dropped afterwards. Disabled unless a database is given:
+ * {@code ./mvnw test -Dtest=RankingBenchmark
+ * -Dpmcore.benchmark.jdbc-url=jdbc:postgresql://localhost:5432/serp_pm
+ * -Dpmcore.benchmark.username=... -Dpmcore.benchmark.password=...}
+ */
+@EnabledIfSystemProperty(named = "pmcore.benchmark.jdbc-url", matches = ".+")
+class RankingBenchmark {
+
+    private static final String PREFIX = "pmcore.benchmark.";
+    private static final String SCHEMA = "pm_rank_bench";
+
+    private final int items = intProperty("items", 2_000);
+    private final int inserts = intProperty("inserts", 5_000);
+    private final int moves = intProperty("moves", 200);
+    private final int moveSize = intProperty("move-size", 50);
+    private final int maxRankLength = intProperty("max-rank-length", 16);
+
+    @Test
+    void rankLengthGrowth() {
+        List<String> legacy = new ArrayList<>();
+        String rank = "aaa";
+        for (int i = 0; i < items; i++) {
+            legacy.add(rank);
+            rank = LexorankUtils.generateRankAfter(rank);
+        }
+        List<String> bucketed = LexorankUtils.generateRebalancedRanks(0, items);
+
+        System.out.printf("Rank length after %d inserts into %d items%n", inserts, items);
+        for (String workload : List.of("same-spot", "random")) {
+            Growth old = grow(new ArrayList<>(legacy), workload, false);
+            Growth current = grow(new ArrayList<>(bucketed), workload, false);
+            Growth rebalanced = grow(new ArrayList<>(bucketed), workload, true);
+            System.out.printf("  %-9s legacy max %d, bucketed max %d, with rebalance max %d (%d rebalances)%n",
+                    workload, old.maxLength, current.maxLength, rebalanced.maxLength, rebalanced.rebalances);
+            assertTrue(rebalanced.maxLength <= maxRankLength + 1);
+        }
+    }
+
+    @Test
+    void compareSingleRowAndBulkMoves() throws Exception {
+        try (Connection connection = connect()) {
+            execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            execute(connection, "CREATE SCHEMA " + SCHEMA);
+            try {
+                execute(connection, "CREATE TABLE " + SCHEMA + ".items (id BIGINT PRIMARY KEY, " +
+                        "rank VARCHAR(255) NOT NULL, updated_at TIMESTAMP)");
+                List<String> ranks = LexorankUtils.generateRebalancedRanks(0, items);
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO " + SCHEMA + ".items (id, rank) VALUES (?, ?)")) {
+                    for (int i = 0; i < items; i++) {
+                        insert.setLong(1, i + 1);
+                        insert.setString(2, ranks.get(i));
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+                connection.setAutoCommit(false);
+
+                double singleRow = runMoves(connection, this::moveRowByRow);
+                double bulk = runMoves(connection, this::moveInOneStatement);
+
+                System.out.printf("Reorder throughput: %d moves of %d items over %d rows%n", moves, moveSize, items);
+                System.out.printf("  one UPDATE per item  %.0f moves/s%n", singleRow);
+                System.out.printf("  one VALUES statement %.0f moves/s%n", bulk);
+                assertEquals(items, count(connection));
+            } finally {
+                connection.setAutoCommit(true);
+                execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+    }
+
+    private Growth grow(List<String> ranks, String workload, boolean rebalance) {
+        Random random = new Random(42);
+        Growth growth = new Growth();
+        for (int i = 0; i < inserts; i++) {
+            int position = "same-spot".equals(workload) ? 1 : 1 + random.nextInt(ranks.size() - 1);
+            String rank = LexorankUtils.generateRankBetween(ranks.get(position - 1), ranks.get(position));
+            ranks.add(position, rank);
+            growth.maxLength = Math.max(growth.maxLength, rank.length());
+            if (rebalance && LexorankUtils.needsRebalance(rank, maxRankLength)) {
+                List<String> rewritten = LexorankUtils.generateRebalancedRanks(
+                        LexorankUtils.nextBucket(ranks.getFirst()), ranks.size());
+                ranks.clear();
+                ranks.addAll(rewritten);
+                growth.rebalances++;
+            }
+        }
+        return growth;
+    }
+
+    private double runMoves(Connection connection, Mover mover) throws Exception {
+        Random random = new Random(7);
+        long start = System.nanoTime();
+        for (int i = 0; i < moves; i++) {
+            long firstId = 1 + random.nextInt(items - moveSize);
+            List<String> ranks = LexorankUtils.generateRanksBetween(null, "0|000001", moveSize);
+            mover.move(connection, firstId, ranks);
+            connection.commit();
+        }
+        return moves / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private void moveRowByRow(Connection connection, long firstId, List<String> ranks) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + SCHEMA + ".items SET rank = ?, updated_at = NOW() WHERE id = ?")) {
+            for (int i = 0; i < ranks.size(); i++) {
+                update.setString(1, ranks.get(i));
+                update.setLong(2, firstId + i);
+                update.executeUpdate();
+            }
+        }
+    }
+
+    private void moveInOneStatement(Connection connection, long firstId, List<String> ranks) throws SQLException {
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < ranks.size(); i++) {
+            values.append(i > 0 ? ", " : "").append("(CAST(? AS BIGINT), CAST(? AS VARCHAR))");
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + SCHEMA + ".items w SET rank = v.rank, updated_at = NOW() " +
+                "FROM (VALUES " + values + ") AS v(id, rank) WHERE w.id = v.id")) {
+            for (int i = 0; i < ranks.size(); i++) {
+                update.setLong(2 * i + 1, firstId + i);
+                update.setString(2 * i + 2, ranks.get(i));
+            }
+            assertEquals(ranks.size(), update.executeUpdate());
+        }
+    }
+
+    private static long count(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT count(*) FROM " + SCHEMA + ".items")) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                System.getProperty(PREFIX + "jdbc-url"),
+                System.getProperty(PREFIX + "username"),
+                System.getProperty(PREFIX + "password"));
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    private static final class Growth {
+        private int maxLength;
+        private int rebalances;
+    }
+
+    @FunctionalInterface
+    private interface Mover {
+        void move(Connection connection, long firstId, List<String> ranks) throws SQLException;
+    }
+}
@@ -0,0 +1,234 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import serp.project.pmcore.core.domain.callback.KafkaSendCallback;
+import serp.project.pmcore.core.domain.entity.OutboxEventEntity;
+import serp.project.pmcore.core.domain.enums.OutboxEventStatus;
+import serp.project.pmcore.core.port.client.IKafkaPublisher;
+import serp.project.pmcore.core.port.store.IOutboxEventPort;
+import serp.project.pmcore.kernel.property.OutboxProperties;
+
+/**
+ * Kafka is stood in by a publisher that acknowledges every send at once, except the payloads
+ * listed in {@code failing} (rejected) and {@code unacknowledged} (never answered).
+ */
+class OutboxPollingPublisherTest {
+
+    private final Set<String> failing = new HashSet<>();
+    private final Set<String> unacknowledged = new HashSet<>();
+    private final List<String> sent = new ArrayList<>();
+
+    private IOutboxEventPort outboxEventPort;
+    private IWorkItemHistoryService workItemHistoryService;
+    private OutboxProperties properties;
+    private OutboxPollingPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventPort = mock(IOutboxEventPort.class);
+        workItemHistoryService = mock(IWorkItemHistoryService.class);
+        properties = new OutboxProperties();
+        properties.setBatchSize(3);
+        properties.setSendTimeoutMs(100);
+
+        IKafkaPublisher kafkaPublisher = mock(IKafkaPublisher.class);
+        doAnswer(invocation -> {
+            String payload = invocation.getArgument(1);
+            KafkaSendCallback callback = invocation.getArgument(3);
+            sent.add(payload);
+            if (failing.contains(payload)) {
+                callback.onComplete(false, invocation.getArgument(2), payload, new IllegalStateException("broker down"));
+            } else if (!unacknowledged.contains(payload)) {
+                callback.onComplete(true, invocation.getArgument(2), payload, null);
+            }
+            return null;
+        }).when(kafkaPublisher).sendMessageAsync(any(), any(), anyString(), any(KafkaSendCallback.class));
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        // Wake-ups relay on the calling thread
+        ExecutorService executorService = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executorService).execute(any());
+
+        publisher = new OutboxPollingPublisher(outboxEventPort, kafkaPublisher, properties, transactionTemplate,
+            executorService, workItemHistoryService, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void claimsPendingAndFailedEventsAndMarksThemPublished() {
+        OutboxEventEntity first = event(1L, "k1", OutboxEventStatus.PENDING);
+        OutboxEventEntity retried = event(2L, "k2", OutboxEventStatus.FAILED);
+        when(outboxEventPort.getEventsByStatuses(any(), anyInt())).thenReturn(List.of(first, retried));
+
+        publisher.pollAndPublish();
+
+        verify(outboxEventPort).getEventsByStatuses(
+            eq(List.of(OutboxEventStatus.PENDING, OutboxEventStatus.FAILED)), eq(3));
+        // Only first claims are appended to the history
+        verify(workItemHistoryService).recordOutboxEvents(List.of(first));
+        assertEquals(List.of(first, retried), updatedEvents());
+        assertEquals(OutboxEventStatus.PUBLISHED, first.getStatus());
+        assertEquals(OutboxEventStatus.PUBLISHED, retried.getStatus());
+    }
+
+    @Test
+    void fullBatchIsFollowedByTheNextClaim() {
+        when(outboxEventPort.getEventsByStatuses(any(), anyInt())).thenReturn(
+            List.of(event(1L, "k1", OutboxEventStatus.PENDING), event(2L, "k1", OutboxEventStatus.PENDING),
+                event(3L, "k1", OutboxEventStatus.PENDING)),
+            List.of(event(4L, "k1", OutboxEventStatus.PENDING)));
+
+        publisher.pollAndPublish();
+
+        verify(outboxEventPort, times(2)).getEventsByStatuses(any(), anyInt());
+        assertEquals(List.of("e1", "e2", "e3", "e4"), sent);
+    }
+
+    @Test
+    void failedSendHoldsBackTheRestOfItsKey() {
+        OutboxEventEntity failed = event(1L, "k1", OutboxEventStatus.PENDING);
+        OutboxEventEntity sameKey = event(2L, "k1", OutboxEventStatus.PENDING);
+        OutboxEventEntity otherKey = event(3L, "k2", OutboxEventStatus.PENDING);
+        failing.add("e1");
+        // A full batch, so the relay claims once more and finds nothing
+        when(outboxEventPort.getEventsByStatuses(any(), anyInt()))
+            .thenReturn(List.of(failed, sameKey, otherKey), List.of());
+
+        publisher.pollAndPublish();
+
+        assertEquals(List.of(failed, otherKey), updatedEvents());
+        assertEquals(OutboxEventStatus.FAILED, failed.getStatus());
+        assertEquals(1, failed.getRetryCount());
+        assertEquals("broker down", failed.getErrorMessage());
+        // Acknowledged, but left pending so it is published again after the retry
+        assertEquals(OutboxEventStatus.PENDING, sameKey.getStatus());
+        assertEquals(0, sameKey.getRetryCount());
+        assertNull(sameKey.getPublishedAt());
+        assertEquals(OutboxEventStatus.PUBLISHED, otherKey.getStatus());
+    }
+
+    @Test
+    void unacknowledgedSendHoldsBackTheRestOfItsKey() {
+        OutboxEventEntity timedOut = event(1L, "k1", OutboxEventStatus.PENDING);
+        OutboxEventEntity sameKey = event(2L, "k1", OutboxEventStatus.PENDING);
+        unacknowledged.add("e1");
+        when(outboxEventPort.getEventsByStatuses(any(), anyInt())).thenReturn(List.of(timedOut, sameKey));
+
+        publisher.pollAndPublish();
+
+        assertEquals(List.of(timedOut), updatedEvents());
+        assertEquals(OutboxEventStatus.FAILED, timedOut.getStatus());
+        assertTrue(timedOut.getErrorMessage().startsWith("Timed out"));
+        assertEquals(OutboxEventStatus.PENDING, sameKey.getStatus());
+    }
+
+    @Test
+    void deadEventNoLongerHoldsBackItsKey() {
+        OutboxEventEntity exhausted = event(1L, "k1", OutboxEventStatus.FAILED);
+        exhausted.setRetryCount(exhausted.getMaxRetries() - 1);
+        OutboxEventEntity sameKey = event(2L, "k1", OutboxEventStatus.PENDING);
+        failing.add("e1");
+        when(outboxEventPort.getEventsByStatuses(any(), anyInt())).thenReturn(List.of(exhausted, sameKey));
+
+        publisher.pollAndPublish();
+
+        assertEquals(List.of(exhausted, sameKey), updatedEvents());
+        assertEquals(OutboxEventStatus.DEAD, exhausted.getStatus());
+        assertEquals(OutboxEventStatus.PUBLISHED, sameKey.getStatus());
+    }
+
+    @Test
+    void eventsWithoutKeyAreNeverHeldBack() {
+        OutboxEventEntity failed = event(1L, null, OutboxEventStatus.PENDING);
+        OutboxEventEntity next = event(2L, null, OutboxEventStatus.PENDING);
+        failing.add("e1");
+        when(outboxEventPort.getEventsByStatuses(any(), anyInt())).thenReturn(List.of(failed, next));
+
+        publisher.pollAndPublish();
+
+        assertEquals(OutboxEventStatus.FAILED, failed.getStatus());
+        assertEquals(OutboxEventStatus.PUBLISHED, next.getStatus());
+    }
+
+    @Test
+    void wakeUpRelaysWithoutWaitingForThePoll() {
+        properties.setNotifySafetyNetIntervalMs(60_000);
+        publisher.setNotificationsActive(true);
+        when(outboxEventPort.getEventsByStatuses(any(), anyInt()))
+            .thenReturn(List.of(), List.of(event(1L, "k1", OutboxEventStatus.PENDING)));
+
+        publisher.pollAndPublish();
+        // An idle relay with notifications working waits out the safety-net interval
+        publisher.pollAndPublish();
+        verify(outboxEventPort, times(1)).getEventsByStatuses(any(), anyInt());
+
+        publisher.wakeUp();
+
+        verify(outboxEventPort, times(2)).getEventsByStatuses(any(), anyInt());
+        assertEquals(List.of("e1"), sent);
+    }
+
+    @Test
+    void idleRelayWithoutNotificationsBacksOffFromTheMinimumInterval() {
+        properties.setMinPollIntervalMs(60_000);
+        when(outboxEventPort.getEventsByStatuses(any(), anyInt())).thenReturn(List.of());
+
+        publisher.pollAndPublish();
+        publisher.pollAndPublish();
+
+        verify(outboxEventPort, times(1)).getEventsByStatuses(any(), anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEventEntity> updatedEvents() {
+        ArgumentCaptor<List<OutboxEventEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventPort).batchUpdateStatus(captor.capture());
+        return captor.getValue();
+    }
+
+    private OutboxEventEntity event(Long id, String partitionKey, OutboxEventStatus status) {
+        return OutboxEventEntity.builder()
+            .id(id)
+            .eventType("WORK_ITEM_UPDATED")
+            .topic("pm.work-item")
+            .partitionKey(partitionKey)
+            .payload("e" + id)
+            .status(status)
+            .build();
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.impl;
+
+import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity.Bucket;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity.Change;
+import serp.project.pmcore.core.domain.entity.WorkItemAggregateEntity.Facets;
+import serp.project.pmcore.core.domain.enums.WorkItemAggregateDimension;
+import serp.project.pmcore.core.port.client.ICachePort;
+import serp.project.pmcore.core.port.store.IWorkItemPort;
+import serp.project.pmcore.kernel.property.WorkItemAggregateProperties;
+
+class WorkItemAggregateServiceTest {
+    private static final String NAMESPACE = "work_item_aggregate";
+    private static final String KEY = "1:10";
+
+    private IWorkItemPort workItemPort;
+    private ICachePort cachePort;
+    private WorkItemAggregateService service;
+
+    @BeforeEach
+    void setUp() {
+        workItemPort = mock(IWorkItemPort.class);
+        cachePort = mock(ICachePort.class);
+        service = new WorkItemAggregateService(workItemPort, cachePort, new WorkItemAggregateProperties());
+    }
+
+    @Test
+    void updateMovesOnlyTheChangedBuckets() {
+        service.applyChange(1L, 10L, new Facets(1L, 7L, 3L, 4L, 5L), new Facets(2L, 7L, 3L, 4L, 5L));
+
+        assertEquals(Map.of(
+                "status:1:count", -1L, "status:1:estimate", -5L,
+                "status:2:count", 1L, "status:2:estimate", 5L), appliedDeltas());
+    }
+
+    @Test
+    void estimateChangeMovesEveryEstimateButNoCount() {
+        service.applyChange(1L, 10L, new Facets(1L, null, 3L, 4L, 5L), new Facets(1L, null, 3L, 4L, 8L));
+
+        assertEquals(Map.of(
+                "total:estimate", 3L, "status:1:estimate", 3L, "assignee:none:estimate", 3L,
+                "priority:3:estimate", 3L, "issue_type:4:estimate", 3L), appliedDeltas());
+    }
+
+    @Test
+    void bulkChangesAreAppliedAsOneNetIncrement() {
+        service.applyChanges(1L, 10L, List.of(
+                new Change(null, new Facets(1L, 7L, 3L, 4L, 2L)),
+                new Change(new Facets(1L, 7L, 3L, 4L, 2L), null),
+                new Change(new Facets(1L, 7L, 3L, 4L, 0L), new Facets(2L, 7L, 3L, 4L, 0L)),
+                new Change(null, new Facets(2L, 8L, 3L, 4L, 1L))));
+
+        assertEquals(Map.ofEntries(
+                entry("total:count", 1L), entry("total:estimate", 1L),
+                entry("status:1:count", -1L), entry("status:2:count", 2L), entry("status:2:estimate", 1L),
+                entry("assignee:8:count", 1L), entry("assignee:8:estimate", 1L),
+                entry("priority:3:count", 1L), entry("priority:3:estimate", 1L),
+                entry("issue_type:4:count", 1L), entry("issue_type:4:estimate", 1L)), appliedDeltas());
+    }
+
+    @Test
+    void changeThatMovesNothingSkipsRedis() {
+        Facets facets = new Facets(1L, 7L, 3L, 4L, 5L);
+
+        service.applyChanges(1L, 10L, List.of(new Change(facets, facets)));
+
+        verifyNoInteractions(cachePort);
+    }
+
+    @Test
+    void builtHashIsReadWithoutTheTable() {
+        when(cachePort.hashGetAll(NAMESPACE, KEY)).thenReturn(Map.of(
+                "generation", "9",
+                "total:count", "3", "total:estimate", "8",
+                "assignee:none:count", "1", "assignee:none:estimate", "0",
+                "assignee:7:count", "2", "assignee:7:estimate", "8",
+                "assignee:6:count", "0", "assignee:6:estimate", "0"));
+
+        WorkItemAggregateEntity aggregate = service.getAggregate(1L, projectFilter());
+
+        assertEquals(3L, aggregate.getCount());
+        assertEquals(8L, aggregate.getEstimate());
+        // Largest bucket first; buckets emptied by events are left out
+        assertEquals(List.of(new Bucket(7L, 2L, 8L), new Bucket(null, 1L, 0L)),
+                aggregate.getBuckets(WorkItemAggregateDimension.ASSIGNEE));
+        verifyNoInteractions(workItemPort);
+    }
+
+    @Test
+    void missingHashIsRebuiltAgainstTheGenerationReadBeforeTheScan() {
+        when(cachePort.hashGetAll(NAMESPACE, KEY)).thenReturn(Map.of("generation", "4"));
+        WorkItemAggregateEntity scanned = aggregate();
+        when(workItemPort.aggregateWorkItems(eq(1L), any())).thenReturn(scanned);
+        when(cachePort.hashPutAllIfVersion(anyString(), anyString(), anyString(), any(), anyMap(), any()))
+                .thenReturn(true);
+
+        assertSame(scanned, service.getAggregate(1L, projectFilter()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(cachePort).hashPutAllIfVersion(eq(NAMESPACE), eq(KEY), eq("generation"), eq("4"), fields.capture(),
+                eq(Duration.ofSeconds(900)));
+        assertEquals(Map.of(
+                "total:count", "2", "total:estimate", "6",
+                "status:1:count", "2", "status:1:estimate", "6"), fields.getValue());
+    }
+
+    @Test
+    void staleRebuildStillAnswersTheRead() {
+        // An event bumped the generation during the scan, so the guarded write stores nothing
+        when(cachePort.hashGetAll(NAMESPACE, KEY)).thenReturn(Map.of());
+        WorkItemAggregateEntity scanned = aggregate();
+        when(workItemPort.aggregateWorkItems(eq(1L), any())).thenReturn(scanned);
+        when(cachePort.hashPutAllIfVersion(anyString(), anyString(), anyString(), any(), anyMap(), any()))
+                .thenReturn(false);
+
+        assertSame(scanned, service.getAggregate(1L, projectFilter()));
+
+        verify(cachePort).hashPutAllIfVersion(eq(NAMESPACE), eq(KEY), eq("generation"), eq(null), anyMap(), any());
+        verify(cachePort, never()).hashPutAll(anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    void filteredReadBypassesTheHash() {
+        WorkItemFilterRequest filter = WorkItemFilterRequest.builder().projectId(10L).statusIds(List.of(1L)).build();
+        when(workItemPort.aggregateWorkItems(1L, filter)).thenReturn(aggregate());
+
+        service.getAggregate(1L, filter);
+
+        verifyNoInteractions(cachePort);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> appliedDeltas() {
+        ArgumentCaptor<Map<String, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(cachePort).hashIncrementVersioned(eq(NAMESPACE), eq(KEY), eq("generation"), eq("total:count"),
+                deltas.capture(), eq(Duration.ofSeconds(900)));
+        return deltas.getValue();
+    }
+
+    private WorkItemFilterRequest projectFilter() {
+        return WorkItemFilterRequest.builder().projectId(10L).build();
+    }
+
+    private WorkItemAggregateEntity aggregate() {
+        Map<WorkItemAggregateDimension, List<Bucket>> groups = new EnumMap<>(WorkItemAggregateDimension.class);
+        groups.put(WorkItemAggregateDimension.STATUS, new ArrayList<>(List.of(new Bucket(1L, 2L, 6L))));
+        return WorkItemAggregateEntity.builder()
+                .projectId(10L)
+                .count(2L)
+                .estimate(6L)
+                .groups(groups)
+                .build();
+    }
+}
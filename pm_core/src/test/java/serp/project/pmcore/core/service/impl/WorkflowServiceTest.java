@@ -0,0 +1,141 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import serp.project.pmcore.core.domain.entity.SchemeMetadataEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowStepEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowTransitionEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowTransitionRuleEntity;
+import serp.project.pmcore.core.domain.enums.TransitionRuleStage;
+import serp.project.pmcore.core.exception.AppException;
+import serp.project.pmcore.core.exception.ErrorCode;
+import serp.project.pmcore.core.service.ISchemeMetadataService;
+import serp.project.pmcore.core.service.workflow.CompiledWorkflow;
+import serp.project.pmcore.core.service.workflow.WorkflowCompiler;
+import serp.project.pmcore.kernel.property.SchemeMetadataProperties;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+class WorkflowServiceTest {
+    private static final long TENANT = 1L;
+    private static final long WORKFLOW = 100L;
+
+    private ISchemeMetadataService schemeMetadataService;
+    private WorkflowCompiler workflowCompiler;
+    private WorkflowService workflowService;
+
+    @BeforeEach
+    void setUp() {
+        schemeMetadataService = mock(ISchemeMetadataService.class);
+        workflowCompiler = spy(new WorkflowCompiler(new JsonUtils(new ObjectMapper())));
+        workflowService = new WorkflowService(schemeMetadataService, workflowCompiler, new SchemeMetadataProperties());
+    }
+
+    @Test
+    void reusesTheGraphWhileTheSnapshotIsUnchanged() {
+        snapshot(workflow(1));
+
+        CompiledWorkflow first = workflowService.getCompiledWorkflow(WORKFLOW, TENANT);
+        CompiledWorkflow second = workflowService.getCompiledWorkflow(WORKFLOW, TENANT);
+
+        assertSame(first, second);
+        verify(workflowCompiler, times(1)).compile(any(), any());
+    }
+
+    @Test
+    void recompilesWhenTheWorkflowVersionChanges() {
+        snapshot(workflow(1));
+        CompiledWorkflow first = workflowService.getCompiledWorkflow(WORKFLOW, TENANT);
+
+        snapshot(workflow(2));
+        CompiledWorkflow second = workflowService.getCompiledWorkflow(WORKFLOW, TENANT);
+
+        assertNotSame(first, second);
+        assertEquals(2, second.getVersionNo());
+        verify(workflowCompiler, times(2)).compile(any(), any());
+    }
+
+    @Test
+    void recompilesAgainstAReloadedSnapshotOfTheSameVersion() {
+        snapshot(workflow(1));
+        CompiledWorkflow first = workflowService.getCompiledWorkflow(WORKFLOW, TENANT);
+
+        snapshot(workflow(1));
+        CompiledWorkflow second = workflowService.getCompiledWorkflow(WORKFLOW, TENANT);
+
+        assertNotSame(first, second);
+        verify(workflowCompiler, times(2)).compile(any(), any());
+    }
+
+    @Test
+    void applyRejectsATransitionThatFailsItsValidators() {
+        snapshot(workflow(1));
+        WorkItemEntity workItem = WorkItemEntity.builder().statusId(1L).build();
+
+        AppException error = assertThrows(AppException.class,
+                () -> workflowService.applyTransition(WORKFLOW, workItem, 10L, 7L, TENANT));
+
+        assertEquals(ErrorCode.TRANSITION_VALIDATION_FAILED.name(), error.getErrorCode());
+        assertEquals(1L, workItem.getStatusId());
+    }
+
+    @Test
+    void applyMovesAValidWorkItem() {
+        snapshot(workflow(1));
+        WorkItemEntity workItem = WorkItemEntity.builder().statusId(1L).assigneeId(7L).build();
+
+        workflowService.applyTransitionTo(WORKFLOW, workItem, 2L, 7L, TENANT);
+
+        assertEquals(2L, workItem.getStatusId());
+    }
+
+    private void snapshot(WorkflowEntity workflow) {
+        SchemeMetadataEntity metadata = mock(SchemeMetadataEntity.class);
+        when(metadata.getWorkflow(WORKFLOW)).thenReturn(Optional.of(workflow));
+        when(schemeMetadataService.getSchemeMetadata(TENANT)).thenReturn(metadata);
+    }
+
+    private WorkflowEntity workflow(int versionNo) {
+        WorkflowTransitionRuleEntity assigned = WorkflowTransitionRuleEntity.builder()
+                .ruleStage(TransitionRuleStage.VALIDATOR)
+                .ruleKey(WorkflowCompiler.FIELD_REQUIRED)
+                .configJson("{\"fields\": [\"assigneeId\"]}")
+                .build();
+        return WorkflowEntity.builder()
+                .id(WORKFLOW)
+                .versionNo(versionNo)
+                .steps(List.of(
+                        WorkflowStepEntity.builder().statusId(1L).sequence(1).build(),
+                        WorkflowStepEntity.builder().statusId(2L).sequence(2).build()))
+                .transitions(List.of(WorkflowTransitionEntity.builder()
+                        .id(10L)
+                        .fromStatusId(1L)
+                        .toStatusId(2L)
+                        .rules(List.of(assigned))
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,236 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.service.workflow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import serp.project.pmcore.core.domain.entity.SchemeMetadataEntity;
+import serp.project.pmcore.core.domain.entity.StatusEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowStepEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowTransitionEntity;
+import serp.project.pmcore.core.domain.entity.WorkflowTransitionRuleEntity;
+import serp.project.pmcore.core.domain.enums.TransitionRuleStage;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+/**
+ * Workflow used throughout: To Do (1) -> In Progress (2) -> Done (3), a global Reopen into To Do,
+ * and a transition into a status that is not a step of the workflow.
+ */
+class WorkflowCompilerTest {
+    private static final long TODO = 1L;
+    private static final long IN_PROGRESS = 2L;
+    private static final long DONE = 3L;
+
+    private static final long START = 10L;
+    private static final long FINISH = 20L;
+    private static final long REOPEN = 30L;
+    private static final long DANGLING = 40L;
+
+    private WorkflowCompiler compiler;
+    private SchemeMetadataEntity metadata;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new WorkflowCompiler(new JsonUtils(new ObjectMapper()));
+        metadata = mock(SchemeMetadataEntity.class);
+    }
+
+    @Test
+    void stepsLeadOnlyToTheirOwnTransitions() {
+        CompiledWorkflow compiled = compiler.compile(workflow(transition(START, TODO, IN_PROGRESS),
+                transition(FINISH, IN_PROGRESS, DONE)), metadata);
+
+        assertEquals(List.of(START), availableIds(compiled, TODO));
+        assertEquals(List.of(FINISH), availableIds(compiled, IN_PROGRESS));
+        assertEquals(List.of(), availableIds(compiled, DONE));
+        assertTrue(compiled.getTransition(TODO, START).isPresent());
+        assertTrue(compiled.getTransition(IN_PROGRESS, START).isEmpty());
+    }
+
+    @Test
+    void globalTransitionLeavesEveryOtherStep() {
+        CompiledWorkflow compiled = compiler.compile(workflow(transition(START, TODO, IN_PROGRESS),
+                transition(FINISH, IN_PROGRESS, DONE), transition(REOPEN, null, TODO)), metadata);
+
+        assertEquals(List.of(START), availableIds(compiled, TODO));
+        assertEquals(List.of(FINISH, REOPEN), availableIds(compiled, IN_PROGRESS));
+        assertEquals(List.of(REOPEN), availableIds(compiled, DONE));
+        assertTrue(compiled.getTransition(TODO, REOPEN).isEmpty());
+        assertEquals(REOPEN, compiled.findTransitionTo(item(DONE), TODO, 7L).orElseThrow().id());
+    }
+
+    @Test
+    void transitionToAStatusOutsideTheWorkflowIsDropped() {
+        CompiledWorkflow compiled = compiler.compile(workflow(transition(START, TODO, IN_PROGRESS),
+                transition(DANGLING, TODO, 99L)), metadata);
+
+        assertEquals(List.of(START), availableIds(compiled, TODO));
+        assertTrue(compiled.getTransition(TODO, DANGLING).isEmpty());
+        assertFalse(compiled.hasStatus(99L));
+        assertEquals(List.of(), compiled.getAvailableTransitions(item(99L), 7L));
+    }
+
+    @Test
+    void unknownConditionNeverPasses() {
+        CompiledWorkflow compiled = compileStart(rule(TransitionRuleStage.CONDITION, "NO_SUCH_RULE", null));
+
+        assertEquals(List.of(), availableIds(compiled, TODO));
+    }
+
+    @Test
+    void badlyConfiguredConditionsNeverPass() {
+        CompiledWorkflow malformed = compileStart(
+                rule(TransitionRuleStage.CONDITION, WorkflowCompiler.USER_IN_LIST, "{\"userIds\": ["));
+        CompiledWorkflow unknownField = compileStart(
+                rule(TransitionRuleStage.CONDITION, WorkflowCompiler.FIELD_REQUIRED, "{\"fields\": [\"nope\"]}"));
+
+        assertEquals(List.of(), availableIds(malformed, TODO));
+        assertEquals(List.of(), availableIds(unknownField, TODO));
+    }
+
+    @Test
+    void disabledRuleIsIgnored() {
+        WorkflowTransitionRuleEntity disabled = rule(TransitionRuleStage.CONDITION, "NO_SUCH_RULE", null);
+        disabled.setIsEnabled(false);
+
+        CompiledWorkflow compiled = compileStart(disabled);
+
+        assertEquals(List.of(START), availableIds(compiled, TODO));
+    }
+
+    @Test
+    void conditionsAreCheckedAgainstTheActor() {
+        CompiledWorkflow compiled = compileStart(
+                rule(TransitionRuleStage.CONDITION, WorkflowCompiler.USER_IN_LIST, "{\"userIds\": [7, 8]}"));
+
+        assertEquals(List.of(START), availableIds(compiled, TODO));
+        assertEquals(List.of(), compiled.getAvailableTransitions(item(TODO), 9L));
+        assertEquals(List.of(), compiled.getAvailableTransitions(item(TODO), null));
+    }
+
+    @Test
+    void fieldRequiredChecksEveryListedField() {
+        CompiledTransition start = compileStart(rule(TransitionRuleStage.VALIDATOR, WorkflowCompiler.FIELD_REQUIRED,
+                "{\"fields\": [\"assigneeId\", \"description\"]}")).getTransition(TODO, START).orElseThrow();
+        WorkItemEntity workItem = item(TODO);
+
+        assertFalse(start.isValid(workItem, 7L));
+        workItem.setAssigneeId(7L);
+        workItem.setDescription("  ");
+        assertFalse(start.isValid(workItem, 7L));
+        workItem.setDescription("Steps to reproduce");
+        assertTrue(start.isValid(workItem, 7L));
+        // Validators do not hide the transition
+        assertTrue(start.isAvailable(item(TODO), 7L));
+    }
+
+    @Test
+    void postFunctionsRunInSequenceAfterTheStatusChange() {
+        WorkflowTransitionRuleEntity unassign = rule(TransitionRuleStage.POST_FUNCTION, WorkflowCompiler.UNASSIGN, null);
+        unassign.setSequence(2);
+        WorkflowTransitionRuleEntity assign = rule(TransitionRuleStage.POST_FUNCTION,
+                WorkflowCompiler.ASSIGN_TO_CURRENT_USER, null);
+        assign.setSequence(1);
+        WorkflowTransitionRuleEntity resolve = rule(TransitionRuleStage.POST_FUNCTION,
+                WorkflowCompiler.SET_RESOLUTION, "{\"resolutionId\": 5}");
+        resolve.setSequence(3);
+        WorkItemEntity workItem = item(TODO);
+
+        compileStart(unassign, assign, resolve).getTransition(TODO, START).orElseThrow().apply(workItem, 7L);
+
+        assertEquals(IN_PROGRESS, workItem.getStatusId());
+        assertNull(workItem.getAssigneeId());
+        assertEquals(5L, workItem.getResolutionId());
+    }
+
+    @Test
+    void brokenPostFunctionIsSkipped() {
+        CompiledTransition start = compileStart(
+                rule(TransitionRuleStage.POST_FUNCTION, WorkflowCompiler.SET_RESOLUTION, "{}"),
+                rule(TransitionRuleStage.POST_FUNCTION, "NO_SUCH_RULE", null),
+                rule(TransitionRuleStage.POST_FUNCTION, WorkflowCompiler.ASSIGN_TO_REPORTER, null))
+                .getTransition(TODO, START).orElseThrow();
+        WorkItemEntity workItem = item(TODO);
+        workItem.setReporterId(4L);
+
+        start.apply(workItem, 7L);
+
+        assertEquals(1, start.postFunctions().size());
+        assertEquals(4L, workItem.getAssigneeId());
+        assertNull(workItem.getResolutionId());
+    }
+
+    @Test
+    void targetStatusNameComesFromTheSnapshot() {
+        when(metadata.getStatus(IN_PROGRESS)).thenReturn(Optional.of(StatusEntity.builder().name("In Progress").build()));
+
+        CompiledTransition start = compileStart().getTransition(TODO, START).orElseThrow();
+
+        assertEquals("In Progress", start.toStatusName());
+    }
+
+    private CompiledWorkflow compileStart(WorkflowTransitionRuleEntity... rules) {
+        WorkflowTransitionEntity start = transition(START, TODO, IN_PROGRESS);
+        start.setRules(List.of(rules));
+        return compiler.compile(workflow(start), metadata);
+    }
+
+    private List<Long> availableIds(CompiledWorkflow compiled, long statusId) {
+        return compiled.getAvailableTransitions(item(statusId), 7L).stream().map(CompiledTransition::id).toList();
+    }
+
+    private WorkflowEntity workflow(WorkflowTransitionEntity... transitions) {
+        // Steps are listed out of sequence order on purpose
+        return WorkflowEntity.builder()
+                .id(100L)
+                .versionNo(1)
+                .steps(List.of(step(DONE, 3), step(TODO, 1), step(IN_PROGRESS, 2)))
+                .transitions(List.of(transitions))
+                .build();
+    }
+
+    private WorkflowStepEntity step(long statusId, int sequence) {
+        return WorkflowStepEntity.builder().statusId(statusId).sequence(sequence).build();
+    }
+
+    private WorkflowTransitionEntity transition(long id, Long fromStatusId, long toStatusId) {
+        return WorkflowTransitionEntity.builder()
+                .id(id)
+                .name("t" + id)
+                .fromStatusId(fromStatusId)
+                .toStatusId(toStatusId)
+                .build();
+    }
+
+    private WorkflowTransitionRuleEntity rule(TransitionRuleStage stage, String key, String configJson) {
+        return WorkflowTransitionRuleEntity.builder()
+                .transitionId(START)
+                .ruleStage(stage)
+                .ruleKey(key)
+                .configJson(configJson)
+                .isEnabled(true)
+                .build();
+    }
+
+    private WorkItemEntity item(long statusId) {
+        return WorkItemEntity.builder().id(500L).statusId(statusId).build();
+    }
+}
@@ -0,0 +1,261 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.core.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import serp.project.pmcore.core.domain.dto.message.BaseKafkaMessage;
+import serp.project.pmcore.core.domain.dto.message.WorkItemBulkEventPayload;
+import serp.project.pmcore.core.domain.dto.request.BulkUpdateWorkItemsRequest;
+import serp.project.pmcore.core.domain.dto.response.BulkOperationResponse;
+import serp.project.pmcore.core.domain.entity.ProjectEntity;
+import serp.project.pmcore.core.domain.entity.WorkItemEntity;
+import serp.project.pmcore.core.exception.ErrorCode;
+import serp.project.pmcore.core.service.IIssueTypeSchemeService;
+import serp.project.pmcore.core.service.IOutboxEventService;
+import serp.project.pmcore.core.service.IPrioritySchemeService;
+import serp.project.pmcore.core.service.IProjectService;
+import serp.project.pmcore.core.service.IWorkItemAggregateService;
+import serp.project.pmcore.core.service.IWorkItemHierarchyService;
+import serp.project.pmcore.core.service.IWorkItemHistoryService;
+import serp.project.pmcore.core.service.IWorkItemRankService;
+import serp.project.pmcore.core.service.IWorkItemService;
+import serp.project.pmcore.core.service.IWorkflowSchemeService;
+import serp.project.pmcore.core.service.IWorkflowService;
+import serp.project.pmcore.core.service.workflow.CompiledTransition;
+import serp.project.pmcore.kernel.property.BulkOperationProperties;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+/**
+ * Bulk updates against in-memory work items; transactions run their callback at once and the
+ * outbox payloads are captured before serialization.
+ */
+class WorkItemUseCaseTest {
+    private static final long TENANT = 1L;
+    private static final long USER = 7L;
+    private static final long PROJECT = 10L;
+
+    private final Map<Long, WorkItemEntity> workItems = new HashMap<>();
+
+    private IWorkItemService workItemService;
+    private IWorkflowService workflowService;
+    private JsonUtils jsonUtils;
+    private TransactionTemplate transactionTemplate;
+    private BulkOperationProperties properties;
+    private WorkItemUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        IProjectService projectService = mock(IProjectService.class);
+        when(projectService.getProjectById(PROJECT, TENANT))
+                .thenReturn(ProjectEntity.builder().id(PROJECT).workflowSchemeId(3L).build());
+        IWorkflowSchemeService workflowSchemeService = mock(IWorkflowSchemeService.class);
+        when(workflowSchemeService.resolveWorkflowId(eq(3L), anyLong(), eq(TENANT))).thenReturn(100L);
+
+        workItemService = mock(IWorkItemService.class);
+        when(workItemService.getWorkItemsByIds(any(), eq(TENANT))).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .filter(workItems::containsKey)
+                        .map(workItems::get)
+                        .toList());
+        when(workItemService.updateWorkItemFields(anyList(), any(), eq(TENANT), eq(USER)))
+                .thenAnswer(invocation -> new HashSet<>(invocation.<List<Long>>getArgument(0)));
+        when(workItemService.saveTransitionedWorkItems(anyList(), anyMap(), eq(TENANT), eq(USER)))
+                .thenAnswer(invocation -> new HashSet<>(invocation.<List<WorkItemEntity>>getArgument(0).stream()
+                        .map(WorkItemEntity::getId)
+                        .toList()));
+
+        workflowService = mock(IWorkflowService.class);
+        jsonUtils = mock(JsonUtils.class);
+        when(jsonUtils.toJson(any())).thenReturn("{}");
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        properties = new BulkOperationProperties();
+        properties.setChunkSize(2);
+
+        useCase = new WorkItemUseCase(projectService, workItemService, workflowSchemeService,
+                mock(IIssueTypeSchemeService.class), mock(IPrioritySchemeService.class), workflowService,
+                mock(IOutboxEventService.class), mock(IWorkItemRankService.class), mock(IWorkItemHierarchyService.class),
+                mock(IWorkItemAggregateService.class), mock(IWorkItemHistoryService.class), properties, jsonUtils,
+                transactionTemplate);
+    }
+
+    @Test
+    void eachChunkRunsInItsOwnTransactionWithOneEvent() {
+        addWorkItems(1L, 2L, 3L);
+
+        BulkOperationResponse response = useCase.bulkUpdateWorkItems(priorityChange(1L, 2L, 3L, 1L), TENANT, USER);
+
+        assertEquals(List.of(1L, 2L, 3L), response.getSucceededIds());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(workItemService).updateWorkItemFields(eq(List.of(1L, 2L)), any(), eq(TENANT), eq(USER));
+        verify(workItemService).updateWorkItemFields(eq(List.of(3L)), any(), eq(TENANT), eq(USER));
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)),
+                publishedPayloads().stream().map(WorkItemBulkEventPayload::getWorkItemIds).toList());
+    }
+
+    @Test
+    void failedChunkIsReportedWithoutUndoingTheOthers() {
+        addWorkItems(1L, 2L, 3L);
+        when(workItemService.updateWorkItemFields(eq(List.of(1L, 2L)), any(), eq(TENANT), eq(USER)))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        BulkOperationResponse response = useCase.bulkUpdateWorkItems(priorityChange(1L, 2L, 3L), TENANT, USER);
+
+        assertEquals(List.of(3L), response.getSucceededIds());
+        assertEquals(List.of(1L, 2L), response.getFailures().stream()
+                .map(BulkOperationResponse.Failure::getWorkItemId).toList());
+        assertEquals(ErrorCode.INTERNAL_SERVER_ERROR.name(), response.getFailures().get(0).getCode());
+        assertEquals(List.of(List.of(3L)),
+                publishedPayloads().stream().map(WorkItemBulkEventPayload::getWorkItemIds).toList());
+    }
+
+    @Test
+    void unchangedAndMissingItemsAreLeftOutOfTheWrite() {
+        addWorkItems(1L, 2L);
+        workItems.get(2L).setPriorityId(9L);
+        WorkItemEntity otherProject = workItem(3L);
+        otherProject.setProjectId(PROJECT + 1);
+        workItems.put(3L, otherProject);
+
+        BulkOperationResponse response = useCase.bulkUpdateWorkItems(priorityChange(1L, 2L, 3L, 4L), TENANT, USER);
+
+        assertEquals(List.of(1L), response.getSucceededIds());
+        assertEquals(List.of(2L), response.getUnchangedIds());
+        assertEquals(List.of(3L, 4L), response.getFailures().stream()
+                .map(BulkOperationResponse.Failure::getWorkItemId).toList());
+        verify(workItemService).updateWorkItemFields(eq(List.of(1L)), any(), eq(TENANT), eq(USER));
+        verify(workItemService, never()).updateWorkItemFields(eq(List.of(1L, 2L)), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void eventCarriesEachItemBeforeAndAfterPostFunctions() {
+        addWorkItems(1L, 2L);
+        workItems.get(2L).setStatusId(21L);
+        // The transition's post function resolves the item
+        when(workflowService.applyTransitionTo(eq(100L), any(), eq(21L), eq(USER), eq(TENANT))).thenAnswer(invocation -> {
+            WorkItemEntity workItem = invocation.getArgument(1);
+            workItem.setStatusId(21L);
+            workItem.setResolutionId(5L);
+            return transition();
+        });
+        BulkUpdateWorkItemsRequest request = BulkUpdateWorkItemsRequest.builder()
+                .projectId(PROJECT)
+                .workItemIds(List.of(1L, 2L))
+                .statusId(21L)
+                .unassign(true)
+                .build();
+
+        useCase.bulkUpdateWorkItems(request, TENANT, USER);
+
+        List<WorkItemBulkEventPayload.Item> items = publishedPayloads().get(0).getItems();
+        WorkItemBulkEventPayload.Item moved = items.get(0);
+        assertEquals(1L, moved.getWorkItemId());
+        assertEquals(30L, moved.getTransitionId());
+        assertEquals(20L, moved.getPreviousStatusId());
+        assertEquals(21L, moved.getStatusId());
+        assertNull(moved.getPreviousResolutionId());
+        assertEquals(5L, moved.getResolutionId());
+        assertEquals(USER, moved.getPreviousAssigneeId());
+        assertNull(moved.getAssigneeId());
+        assertEquals(8L, moved.getTimeOriginalEstimate());
+
+        // Already in the target status, so only unassigned
+        WorkItemBulkEventPayload.Item unassigned = items.get(1);
+        assertNull(unassigned.getTransitionId());
+        assertEquals(21L, unassigned.getPreviousStatusId());
+        assertEquals(21L, unassigned.getStatusId());
+        assertNull(unassigned.getAssigneeId());
+    }
+
+    @Test
+    void concurrentlyModifiedItemIsDroppedFromTheEvent() {
+        addWorkItems(1L, 2L);
+        when(workflowService.applyTransitionTo(eq(100L), any(), eq(21L), eq(USER), eq(TENANT))).thenAnswer(invocation -> {
+            invocation.<WorkItemEntity>getArgument(1).setStatusId(21L);
+            return transition();
+        });
+        when(workItemService.saveTransitionedWorkItems(anyList(), anyMap(), eq(TENANT), eq(USER)))
+                .thenReturn(Set.of(2L));
+        BulkUpdateWorkItemsRequest request = BulkUpdateWorkItemsRequest.builder()
+                .projectId(PROJECT)
+                .workItemIds(List.of(1L, 2L))
+                .statusId(21L)
+                .build();
+
+        BulkOperationResponse response = useCase.bulkUpdateWorkItems(request, TENANT, USER);
+
+        assertEquals(List.of(2L), response.getSucceededIds());
+        assertEquals(ErrorCode.WORK_ITEM_CONCURRENTLY_MODIFIED.name(), response.getFailures().get(0).getCode());
+        assertEquals(List.of(2L), publishedPayloads().get(0).getWorkItemIds());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WorkItemBulkEventPayload> publishedPayloads() {
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(jsonUtils, atLeastOnce()).toJson(messages.capture());
+        return messages.getAllValues().stream()
+                .map(message -> ((BaseKafkaMessage<WorkItemBulkEventPayload>) message).getData())
+                .toList();
+    }
+
+    private BulkUpdateWorkItemsRequest priorityChange(Long... workItemIds) {
+        return BulkUpdateWorkItemsRequest.builder()
+                .projectId(PROJECT)
+                .workItemIds(List.of(workItemIds))
+                .priorityId(9L)
+                .build();
+    }
+
+    private CompiledTransition transition() {
+        return new CompiledTransition(30L, "Start", 0, 1, 21L, "In Progress", List.of(), List.of(), List.of());
+    }
+
+    private void addWorkItems(Long... ids) {
+        for (Long id : ids) {
+            workItems.put(id, workItem(id));
+        }
+    }
+
+    private WorkItemEntity workItem(Long id) {
+        return WorkItemEntity.builder()
+                .id(id)
+                .tenantId(TENANT)
+                .projectId(PROJECT)
+                .issueTypeId(2L)
+                .statusId(20L)
+                .assigneeId(USER)
+                .priorityId(4L)
+                .timeOriginalEstimate(8L)
+                .build();
+    }
+}
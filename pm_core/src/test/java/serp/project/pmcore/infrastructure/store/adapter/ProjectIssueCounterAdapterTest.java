@@ -0,0 +1,160 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import serp.project.pmcore.kernel.property.IssueCounterProperties;
+
+/**
+ * The counter row is stood in by an {@link AtomicLong} that behaves like the reserving upsert.
+ */
+class ProjectIssueCounterAdapterTest {
+
+    private static final Long PROJECT_ID = 10L;
+    private static final Long TENANT_ID = 1L;
+
+    private final AtomicLong counter = new AtomicLong();
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private IssueCounterProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class),
+                eq(Long.class))).thenAnswer(invocation -> {
+                    MapSqlParameterSource params = invocation.getArgument(1);
+                    return counter.addAndGet(((Number) params.getValue("count")).longValue());
+                });
+        properties = new IssueCounterProperties();
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void numbersAreSequentialForASingleCreator() {
+        var adapter = new ProjectIssueCounterAdapter(jdbcTemplate, properties);
+
+        List<Long> issued = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            issued.add(adapter.getNextIssueNo(PROJECT_ID, TENANT_ID));
+        }
+
+        assertEquals(LongStream.rangeClosed(1, 300).boxed().toList(), issued);
+    }
+
+    @Test
+    void concurrentCreatorsNeverShareANumber() throws Exception {
+        var adapter = new ProjectIssueCounterAdapter(jdbcTemplate, properties);
+        int threads = 16;
+        int perThread = 500;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<Long> issued = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        issued.add(adapter.getNextIssueNo(PROJECT_ID, TENANT_ID));
+                    }
+                    return issued;
+                }));
+            }
+            Set<Long> unique = new HashSet<>();
+            for (Future<List<Long>> future : futures) {
+                unique.addAll(future.get());
+            }
+
+            assertEquals(threads * perThread, unique.size());
+            assertTrue(unique.stream().allMatch(issueNo -> issueNo >= 1 && issueNo <= counter.get()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void blockOfARolledBackReservationIsNotHandedOut() {
+        properties.setMinBlockSize(8);
+        var adapter = new ProjectIssueCounterAdapter(jdbcTemplate, properties);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertEquals(1L, adapter.getNextIssueNo(PROJECT_ID, TENANT_ID));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(9L, adapter.getNextIssueNo(PROJECT_ID, TENANT_ID));
+    }
+
+    @Test
+    void blockIsSharedOnceItsReservationCommits() {
+        properties.setMinBlockSize(8);
+        var adapter = new ProjectIssueCounterAdapter(jdbcTemplate, properties);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertEquals(1L, adapter.getNextIssueNo(PROJECT_ID, TENANT_ID));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(2L, adapter.getNextIssueNo(PROJECT_ID, TENANT_ID));
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(),
+                any(SqlParameterSource.class), eq(Long.class));
+    }
+
+    @Test
+    void busyProjectDoublesItsBlockAndReservesLessOften() {
+        var adapter = new ProjectIssueCounterAdapter(jdbcTemplate, properties);
+        List<Long> blockSizes = new ArrayList<>();
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class),
+                eq(Long.class))).thenAnswer(invocation -> {
+                    MapSqlParameterSource params = invocation.getArgument(1);
+                    long count = ((Number) params.getValue("count")).longValue();
+                    blockSizes.add(count);
+                    return counter.addAndGet(count);
+                });
+
+        for (int i = 0; i < 127; i++) {
+            assertEquals(i + 1L, adapter.getNextIssueNo(PROJECT_ID, TENANT_ID));
+        }
+
+        assertEquals(List.of(1L, 2L, 4L, 8L, 16L, 32L, 64L), blockSizes);
+        verify(jdbcTemplate, times(7)).queryForObject(anyString(),
+                any(SqlParameterSource.class), eq(Long.class));
+    }
+}
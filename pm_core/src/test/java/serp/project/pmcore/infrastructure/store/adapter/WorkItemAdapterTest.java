@@ -0,0 +1,98 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import serp.project.pmcore.core.domain.dto.request.BulkUpdateWorkItemsRequest;
+import serp.project.pmcore.core.port.client.ICachePort;
+import serp.project.pmcore.infrastructure.store.mapper.WorkItemMapper;
+import serp.project.pmcore.infrastructure.store.mapper.WorkItemRowMapper;
+import serp.project.pmcore.infrastructure.store.query.WorkItemQueryBuilder;
+import serp.project.pmcore.infrastructure.store.repository.IWorkItemRepository;
+import serp.project.pmcore.kernel.property.WorkItemSearchProperties;
+
+class WorkItemAdapterTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long USER_ID = 5L;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private WorkItemAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(11L, 12L));
+        adapter = new WorkItemAdapter(mock(IWorkItemRepository.class), new WorkItemMapper(), jdbcTemplate,
+                mock(WorkItemQueryBuilder.class), mock(WorkItemRowMapper.class), mock(ICachePort.class),
+                new WorkItemSearchProperties());
+    }
+
+    @Test
+    void dueDateIsBoundAsATimestamp() {
+        long dueDate = Instant.parse("2026-03-01T10:00:00Z").toEpochMilli();
+        var changes = BulkUpdateWorkItemsRequest.builder()
+                .projectId(3L)
+                .workItemIds(List.of(11L, 12L))
+                .dueDate(dueDate)
+                .build();
+
+        Set<Long> updated = adapter.updateFields(List.of(11L, 12L), changes, TENANT_ID, USER_ID);
+
+        MapSqlParameterSource params = captureParams();
+        assertEquals(Set.of(11L, 12L), updated);
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(dueDate), ZoneId.systemDefault()),
+                params.getValue("dueDate"));
+        assertFalse(params.hasValue("assigneeId"));
+    }
+
+    @Test
+    void clearedDueDateIsBoundAsNull() {
+        var changes = BulkUpdateWorkItemsRequest.builder()
+                .projectId(3L)
+                .workItemIds(List.of(11L))
+                .clearDueDate(true)
+                .build();
+
+        adapter.updateFields(List.of(11L), changes, TENANT_ID, USER_ID);
+
+        MapSqlParameterSource params = captureParams();
+        assertTrue(params.hasValue("dueDate"));
+        assertNull(params.getValue("dueDate"));
+    }
+
+    private MapSqlParameterSource captureParams() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).queryForList(sql.capture(), params.capture(), eq(Long.class));
+        assertTrue(sql.getValue().contains("due_date = :dueDate"));
+        return params.getValue();
+    }
+}
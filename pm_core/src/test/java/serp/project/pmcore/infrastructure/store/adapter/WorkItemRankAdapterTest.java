@@ -0,0 +1,71 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+class WorkItemRankAdapterTest {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private WorkItemRankAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(jdbcTemplate.update(anyString(), any(MapSqlParameterSource.class))).thenReturn(2);
+        adapter = new WorkItemRankAdapter(jdbcTemplate);
+    }
+
+    @Test
+    void moveStampsTheAuditColumns() {
+        adapter.updateRanks(10L, 1L, ranks(), 7L);
+
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        String sql = updateSql(params);
+        assertTrue(sql.contains("updated_at = NOW()"));
+        assertTrue(sql.contains("updated_by = :userId"));
+        assertEquals(7L, params.getValue().getValue("userId"));
+    }
+
+    @Test
+    void rebalanceRewritesOnlyTheRanks() {
+        adapter.updateRanks(10L, 1L, ranks(), null);
+
+        String sql = updateSql(ArgumentCaptor.forClass(MapSqlParameterSource.class));
+        assertTrue(sql.contains("SET rank = v.rank\n"));
+        assertFalse(sql.contains("updated_at"));
+        assertFalse(sql.contains("updated_by"));
+    }
+
+    private String updateSql(ArgumentCaptor<MapSqlParameterSource> params) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        return sql.getValue();
+    }
+
+    private Map<Long, String> ranks() {
+        Map<Long, String> ranks = new LinkedHashMap<>();
+        ranks.put(100L, "0|i00000");
+        ranks.put(101L, "0|r00000");
+        return ranks;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import serp.project.pmcore.core.service.OutboxPollingPublisher;
+import serp.project.pmcore.kernel.property.OutboxProperties;
+
+/**
+ * The listener connection is stood in by mocks; {@code getNotifications} returns the next
+ * scripted batch of notifications, or nothing after a short wait.
+ */
+class OutboxNotificationListenerTest {
+
+    private final AtomicInteger connectionsOpened = new AtomicInteger();
+
+    private OutboxPollingPublisher publisher;
+    private OutboxProperties properties;
+    private Connection connection;
+    private PGConnection pgConnection;
+    private Statement statement;
+    private OutboxNotificationListener listener;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        publisher = mock(OutboxPollingPublisher.class);
+        properties = new OutboxProperties();
+        properties.setNotifyReconnectDelayMs(10);
+
+        connection = mock(Connection.class);
+        pgConnection = mock(PGConnection.class);
+        statement = mock(Statement.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.isValid(anyInt())).thenReturn(true);
+
+        listener = new OutboxNotificationListener(publisher, properties, "jdbc:postgresql://db/pm", "pm", "pm") {
+            @Override
+            Connection openConnection() {
+                connectionsOpened.incrementAndGet();
+                return connection;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void listensAndWakesTheRelayOnNotifications() throws SQLException {
+        when(pgConnection.getNotifications(anyInt())).thenReturn(
+            new PGNotification[] { mock(PGNotification.class) },
+            new PGNotification[] { mock(PGNotification.class) })
+            .thenAnswer(invocation -> idle());
+
+        listener.start();
+
+        verify(statement, timeout(1_000)).execute("LISTEN pm_outbox_events");
+        verify(publisher, timeout(1_000)).setNotificationsActive(true);
+        // One catch-up wake-up on connect, then one per notification batch
+        verify(publisher, timeout(1_000).times(3)).wakeUp();
+    }
+
+    @Test
+    void reconnectsAndFallsBackToPollingWhenTheConnectionDies() throws SQLException {
+        when(pgConnection.getNotifications(anyInt())).thenAnswer(invocation -> idle());
+        when(connection.isValid(anyInt())).thenReturn(false, true);
+
+        listener.start();
+
+        verify(publisher, timeout(1_000)).setNotificationsActive(false);
+        verify(connection, timeout(1_000).atLeast(1)).close();
+        verify(publisher, timeout(1_000).atLeast(2)).setNotificationsActive(true);
+        assertTrue(connectionsOpened.get() >= 2);
+    }
+
+    @Test
+    void staysOnPollingWhenNotificationsAreDisabled() throws InterruptedException {
+        properties.setNotifyEnabled(false);
+
+        listener.start();
+        Thread.sleep(50);
+
+        verify(publisher, never()).setNotificationsActive(true);
+        verify(publisher, never()).wakeUp();
+        assertEquals(0, connectionsOpened.get());
+    }
+
+    private PGNotification[] idle() throws InterruptedException {
+        Thread.sleep(5);
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.infrastructure.store.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import serp.project.pmcore.core.domain.dto.filter.SortField;
+import serp.project.pmcore.core.domain.dto.filter.WorkItemFilterRequest;
+
+class WorkItemQueryBuilderTest {
+
+    private WorkItemQueryBuilder queryBuilder;
+
+    @BeforeEach
+    void setUp() {
+        queryBuilder = new WorkItemQueryBuilder(new BaseQueryBuilder());
+    }
+
+    @Test
+    void issueKeyIsAnExactKeyLookup() {
+        QueryResult query = queryBuilder.build(1L, keyword(" pm-42 "));
+
+        assertTrue(query.countSql().contains("w.key = :keywordKey"));
+        assertEquals("PM-42", query.params().getValue("keywordKey"));
+        assertFalse(query.dataSql().contains("search_vector"));
+        assertTrue(query.page().sortSpec().startsWith("rank:ASC"));
+    }
+
+    @Test
+    void shortKeywordFallsBackToIlike() {
+        QueryResult query = queryBuilder.build(1L, keyword("ab"));
+
+        assertTrue(query.countSql().contains("w.summary ILIKE :keywordLike"));
+        assertFalse(query.countSql().contains("search_vector"));
+        assertTrue(query.page().sortSpec().startsWith("rank:ASC"));
+    }
+
+    @Test
+    void keywordMatchesThroughTheIndexesOrderedByRelevance() {
+        QueryResult query = queryBuilder.build(1L, keyword("  Login Timeout "));
+
+        String where = query.countSql();
+        assertTrue(where.contains("w.search_vector @@ websearch_to_tsquery('simple', :keyword)"));
+        assertTrue(where.contains("OR w.summary ILIKE :keywordLike OR w.key ILIKE :keywordLike"));
+        assertTrue(where.contains("OR :keyword <% w.summary)"));
+        assertEquals("Login Timeout", query.params().getValue("keyword"));
+        assertEquals("%login timeout%", query.params().getValue("keywordLike"));
+
+        assertTrue(query.page().sortSpec().startsWith(WorkItemQueryBuilder.RELEVANCE_SORT + ":DESC"));
+        assertTrue(query.page().sortColumn().contains("ts_rank_cd(w.search_vector"));
+        assertTrue(query.dataSql().contains("ORDER BY " + query.page().sortColumn() + " DESC"));
+        // The count only filters
+        assertFalse(query.countSql().contains("ts_rank_cd"));
+    }
+
+    @Test
+    void requestedSortWinsOverRelevance() {
+        WorkItemFilterRequest filter = keyword("login timeout");
+        filter.setSort(SortField.builder().field("created_at").direction("DESC").build());
+
+        QueryResult query = queryBuilder.build(1L, filter);
+
+        assertEquals("w.created_at", query.page().sortColumn());
+        assertTrue(query.countSql().contains("w.search_vector @@"));
+    }
+
+    @Test
+    void relevanceIsNotSortableWithoutARankedKeyword() {
+        WorkItemFilterRequest filter = keyword("PM-42");
+        filter.setSort(SortField.builder().field(WorkItemQueryBuilder.RELEVANCE_SORT).direction("DESC").build());
+
+        QueryResult query = queryBuilder.build(1L, filter);
+
+        assertTrue(query.page().sortSpec().startsWith("rank:DESC"));
+        assertFalse(query.dataSql().contains("ts_rank_cd"));
+    }
+
+    private WorkItemFilterRequest keyword(String keyword) {
+        return WorkItemFilterRequest.builder()
+                .projectId(10L)
+                .keyword(keyword)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.kernel.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Ranks are compared with {@link String#compareTo}, which orders these ASCII ranks byte-wise
+ * like the "C" collation the database uses for them.
+ */
+class LexorankUtilsTest {
+
+    @Test
+    void initialRankIsTheMiddleOfBucketZero() {
+        assertEquals("0|i00000", LexorankUtils.generateInitialRank());
+        assertEquals(LexorankUtils.generateInitialRank(), LexorankUtils.generateRankAfter(null));
+        assertEquals(LexorankUtils.generateInitialRank(), LexorankUtils.generateRankBefore(""));
+    }
+
+    @Test
+    void appendsAndPrependsStepAtTheBaseWidth() {
+        assertEquals("0|i01000", LexorankUtils.generateRankAfter("0|i00000"));
+        assertEquals("0|hzz000", LexorankUtils.generateRankBefore("0|i00000"));
+        assertEquals("1|i01000", LexorankUtils.generateRankAfter("1|i00000zz"));
+    }
+
+    @Test
+    void rankBetweenIsTheNumericMidpoint() {
+        assertEquals("0|i00001", LexorankUtils.generateRankBetween("0|i00000", "0|i00002"));
+        assertEquals("0|i00000i", LexorankUtils.generateRankBetween("0|i00000", "0|i00001"));
+        assertEquals("0|i0000004", LexorankUtils.generateRankBetween("0|i00000", "0|i0000009"));
+    }
+
+    @Test
+    void rankBetweenAdjacentRanksGrowsByOneCharacter() {
+        String rank = LexorankUtils.generateRankBetween("0|i00000", "0|i00001");
+        String between = LexorankUtils.generateRankBetween("0|i00000", rank);
+        assertStrictlyBetween("0|i00000", between, rank);
+
+        String low = "0|i00000";
+        String high = "0|i00001";
+        for (int i = 0; i < 20; i++) {
+            String middle = LexorankUtils.generateRankBetween(low, high);
+            assertStrictlyBetween(low, middle, high);
+            high = middle;
+        }
+        assertTrue(high.length() <= "0|i00000".length() + 5, high);
+    }
+
+    @Test
+    void tiedNeighboursGetARankRightAfterThem() {
+        String rank = LexorankUtils.generateRankBetween("0|i00000", "0|i00000");
+        assertTrue(rank.compareTo("0|i00000") > 0, rank);
+        assertTrue(rank.startsWith("0|i00000"), rank);
+    }
+
+    @Test
+    void rankBetweenBucketsStaysInTheEarlierBucket() {
+        String rank = LexorankUtils.generateRankBetween("0|zzz000", "1|000100");
+        assertStrictlyBetween("0|zzz000", rank, "1|000100");
+        assertTrue(rank.startsWith("0|"), rank);
+    }
+
+    @Test
+    void appendingAtTheEndOfTheSpaceHalvesTheRemainingGap() {
+        String rank = LexorankUtils.generateRankAfter("0|zzzzzz");
+        assertTrue(rank.compareTo("0|zzzzzz") > 0, rank);
+        assertTrue(rank.startsWith("0|zzzzzz"), rank);
+        assertTrue(LexorankUtils.isBucketed(rank));
+
+        String last = "0|zzy000";
+        for (int i = 0; i < 10; i++) {
+            String next = LexorankUtils.generateRankAfter(last);
+            assertTrue(next.compareTo(last) > 0, next);
+            assertTrue(next.startsWith("0|"), next);
+            last = next;
+        }
+    }
+
+    @Test
+    void prependingAtTheStartOfTheSpaceHalvesTheRemainingGap() {
+        String rank = LexorankUtils.generateRankBefore("0|000001");
+        assertStrictlyBetween("0|000000", rank, "0|000001");
+    }
+
+    @Test
+    void ranksBetweenAreEvenlySpacedAndAscending() {
+        List<String> ranks = LexorankUtils.generateRanksBetween("0|i00000", "0|i00004", 3);
+        assertEquals(List.of("0|i00001", "0|i00002", "0|i00003"), ranks);
+
+        List<String> tight = LexorankUtils.generateRanksBetween("0|i00000", "0|i00001", 50);
+        assertEquals(50, tight.size());
+        assertAscending("0|i00000", tight, "0|i00001");
+
+        List<String> open = LexorankUtils.generateRanksBetween(null, null, 5);
+        assertAscending(null, open, null);
+        assertTrue(open.stream().allMatch(rank -> rank.startsWith("0|") && rank.length() == 8), open::toString);
+
+        assertTrue(LexorankUtils.generateRanksBetween("0|i00000", null, 0).isEmpty());
+    }
+
+    @Test
+    void rebalancedRanksSpanTheWholeBucketAtTheBaseWidth() {
+        List<String> ranks = LexorankUtils.generateRebalancedRanks(2, 1_000);
+        assertEquals(1_000, ranks.size());
+        assertAscending(null, ranks, null);
+        assertTrue(ranks.stream().allMatch(rank -> rank.startsWith("2|") && rank.length() == 8), ranks::toString);
+        assertTrue(ranks.getFirst().compareTo("2|020000") < 0, ranks.getFirst());
+        assertTrue(ranks.getLast().compareTo("2|zy0000") > 0, ranks.getLast());
+    }
+
+    @Test
+    void rebalanceMovesToTheNextBucket() {
+        assertEquals(1, LexorankUtils.nextBucket("0|i00000"));
+        assertEquals(2, LexorankUtils.nextBucket("1|i00000"));
+        assertEquals(0, LexorankUtils.nextBucket("2|i00000"));
+        assertEquals(0, LexorankUtils.nextBucket("aaa"));
+        assertEquals(0, LexorankUtils.nextBucket(null));
+    }
+
+    @Test
+    void longAndLegacyRanksNeedRebalance() {
+        assertFalse(LexorankUtils.needsRebalance("0|i00000", 12));
+        assertTrue(LexorankUtils.needsRebalance("0|i000000001", 10));
+        assertTrue(LexorankUtils.needsRebalance("aaa", 12));
+        assertFalse(LexorankUtils.needsRebalance(null, 12));
+    }
+
+    @Test
+    void legacyRanksKeepTheirOrderingRulesAndSortAfterBucketedRanks() {
+        assertEquals("aab", LexorankUtils.generateRankAfter("aaa"));
+        assertEquals("aaan", LexorankUtils.generateRankBetween("aaa", "aab"));
+        assertTrue("2|zzzzzz".compareTo("aaa") < 0);
+        assertFalse(LexorankUtils.isBucketed("aaa"));
+        assertFalse(LexorankUtils.isBucketed("3|i00000"));
+    }
+
+    private static void assertStrictlyBetween(String low, String rank, String high) {
+        assertTrue(rank.compareTo(low) > 0, rank + " should sort after " + low);
+        assertTrue(rank.compareTo(high) < 0, rank + " should sort before " + high);
+    }
+
+    private static void assertAscending(String low, List<String> ranks, String high) {
+        String previous = low;
+        for (String rank : ranks) {
+            if (previous != null) {
+                assertTrue(rank.compareTo(previous) > 0, rank + " should sort after " + previous);
+            }
+            previous = rank;
+        }
+        if (high != null) {
+            assertTrue(previous.compareTo(high) < 0, previous + " should sort before " + high);
+        }
+    }
+}
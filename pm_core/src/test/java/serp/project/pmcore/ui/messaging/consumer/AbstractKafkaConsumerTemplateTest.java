@@ -0,0 +1,184 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.pmcore.ui.messaging.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import serp.project.pmcore.core.domain.dto.message.KafkaEventContext;
+import serp.project.pmcore.core.domain.entity.ConsumerInboxEventEntity;
+import serp.project.pmcore.core.domain.enums.ConsumerInboxAcquireResult;
+import serp.project.pmcore.core.service.IConsumerInboxService;
+import serp.project.pmcore.core.service.messaging.strategy.IKafkaEventHandlerStrategy;
+import serp.project.pmcore.core.service.messaging.strategy.KafkaEventHandlerStrategyRegistry;
+import serp.project.pmcore.kernel.utils.JsonUtils;
+
+/**
+ * The inbox is stood in by a mock that acquires every event except those listed in
+ * {@code processedBefore}; the handler records the event ids it sees and fails on those listed in
+ * {@code failing}.
+ */
+class AbstractKafkaConsumerTemplateTest {
+    private static final String GROUP = "pm-core";
+
+    private final Set<String> processedBefore = new HashSet<>();
+    private final Set<String> failing = new HashSet<>();
+    private final List<String> handled = new ArrayList<>();
+
+    private IConsumerInboxService consumerInboxService;
+    private Acknowledgment acknowledgment;
+    private AbstractKafkaConsumerTemplate consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumerInboxService = mock(IConsumerInboxService.class);
+        when(consumerInboxService.acquireBatchForProcessing(eq(GROUP), anyList())).thenAnswer(invocation -> {
+            Map<String, ConsumerInboxAcquireResult> results = new HashMap<>();
+            for (ConsumerInboxEventEntity event : invocation.<List<ConsumerInboxEventEntity>>getArgument(1)) {
+                results.put(event.getEventId(), processedBefore.contains(event.getEventId())
+                        ? ConsumerInboxAcquireResult.ALREADY_PROCESSED : ConsumerInboxAcquireResult.ACQUIRED);
+            }
+            return results;
+        });
+        when(consumerInboxService.acquireForProcessing(eq(GROUP), anyString(), anyString(), anyString(), anyInt(),
+                anyLong(), any(), anyString(), anyString())).thenReturn(ConsumerInboxAcquireResult.ACQUIRED);
+
+        IKafkaEventHandlerStrategy strategy = mock(IKafkaEventHandlerStrategy.class);
+        doAnswer(invocation -> {
+            String eventId = invocation.<KafkaEventContext>getArgument(1).eventId();
+            if (failing.contains(eventId)) {
+                throw new IllegalStateException("handler failed on " + eventId);
+            }
+            handled.add(eventId);
+            return null;
+        }).when(strategy).handle(any(), any());
+        KafkaEventHandlerStrategyRegistry registry = mock(KafkaEventHandlerStrategyRegistry.class);
+        when(registry.findByEventType("WORK_ITEM_CREATED")).thenReturn(Optional.of(strategy));
+
+        // Each transaction runs on the calling thread
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        acknowledgment = mock(Acknowledgment.class);
+        consumer = new AbstractKafkaConsumerTemplate(new JsonUtils(new ObjectMapper()), consumerInboxService,
+                registry, transactionTemplate) {
+        };
+    }
+
+    @Test
+    void pollIsAcquiredAndMarkedWithOneCallEach() {
+        consumer.processBatch(List.of(record(0, "e1"), record(1, "e2"), record(2, "e3")), acknowledgment, GROUP);
+
+        assertEquals(List.of("e1", "e2", "e3"), handled);
+        assertEquals(List.of("e1", "e2", "e3"), eventIds(acquiredBatch()));
+        assertEquals(List.of("e1", "e2", "e3"), eventIds(markedBatch()));
+        verify(consumerInboxService, never()).acquireForProcessing(any(), any(), any(), any(), any(), any(), any(),
+                any(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void redeliveredAndRepeatedEventsAreDispatchedOnce() {
+        processedBefore.add("e1");
+
+        consumer.processBatch(List.of(record(0, "e1"), record(1, "e2"), record(2, "e2")), acknowledgment, GROUP);
+
+        assertEquals(List.of("e2"), handled);
+        // Acquired once per event id at its first offset; only dispatched events are marked processed
+        assertEquals(List.of("e1", "e2"), eventIds(acquiredBatch()));
+        assertEquals(List.of("e2"), eventIds(markedBatch()));
+        assertEquals(1L, markedBatch().get(0).getOffsetNo());
+    }
+
+    @Test
+    void failedHandlerFallsBackToRecordsAndReportsTheFailingIndex() {
+        failing.add("e2");
+
+        BatchListenerFailedException error = assertThrows(BatchListenerFailedException.class, () ->
+                consumer.processBatch(List.of(record(0, "e1"), record(1, "e2"), record(2, "e3")), acknowledgment,
+                        GROUP));
+
+        assertEquals(1, error.getIndex());
+        // e1 was handled in the rolled back batch and again on its own
+        assertEquals(List.of("e1", "e1"), handled);
+        verify(consumerInboxService).markProcessed(GROUP, "e1", 0L);
+        verify(consumerInboxService).markFailed(eq(GROUP), eq("e2"), anyString());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void invalidEnvelopeEndsTheBatchAtItsIndex() {
+        List<ConsumerRecord<String, String>> records = List.of(record(0, "e1"),
+                new ConsumerRecord<>("pm.work-item", 0, 1L, "k", "{\"meta\": {}}"), record(2, "e3"));
+
+        BatchListenerFailedException error = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.processBatch(records, acknowledgment, GROUP));
+
+        assertEquals(1, error.getIndex());
+        assertEquals(List.of("e1"), handled);
+        assertEquals(List.of("e1"), eventIds(markedBatch()));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ConsumerInboxEventEntity> acquiredBatch() {
+        ArgumentCaptor<List<ConsumerInboxEventEntity>> events = ArgumentCaptor.forClass(List.class);
+        verify(consumerInboxService, times(1)).acquireBatchForProcessing(eq(GROUP), events.capture());
+        return events.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ConsumerInboxEventEntity> markedBatch() {
+        ArgumentCaptor<List<ConsumerInboxEventEntity>> events = ArgumentCaptor.forClass(List.class);
+        verify(consumerInboxService, times(1)).markBatchProcessed(eq(GROUP), events.capture());
+        return events.getValue();
+    }
+
+    private List<String> eventIds(List<ConsumerInboxEventEntity> events) {
+        return events.stream().map(ConsumerInboxEventEntity::getEventId).toList();
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String eventId) {
+        String payload = "{\"meta\": {\"id\": \"" + eventId + "\", \"type\": \"work_item_created\", \"tenantId\": 1},"
+                + " \"data\": {}}";
+        return new ConsumerRecord<>("pm.work-item", 0, offset, "k", payload);
+    }
+}
@@ -178,6 +178,35 @@ public class SerpKafkaConsumerAutoConfiguration {
         return factory;
     }
 
+    /**
+     * Batch listener variant: the listener receives a whole poll and offsets are committed once
+     * the listener returns. Throw BatchListenerFailedException to commit the records before the
+     * failing index and send that record through retry/DLT.
+     */
+    @Bean(name = "batchKafkaListenerContainerFactory")
+    @ConditionalOnMissingBean(name = "batchKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConsumerFactory<Object, Object> consumerFactory,
+            CommonErrorHandler commonErrorHandler,
+            SerpKafkaProperties properties) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(commonErrorHandler);
+        factory.setBatchListener(true);
+
+        int concurrency = Math.max(1, properties.getConsumer().getListener().getConcurrency());
+        factory.setConcurrency(concurrency);
+
+        ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        containerProperties.setSyncCommits(properties.getConsumer().getListener().isSyncCommits());
+        containerProperties.setObservationEnabled(properties.getConsumer().isObservationEnabled());
+        containerProperties.setDeliveryAttemptHeader(true);
+
+        return factory;
+    }
+
     private void applyNonRetryableExceptions(DefaultErrorHandler errorHandler, SerpKafkaProperties properties) {
         for (String exceptionClassName : properties.getConsumer().getRetry().getNonRetryableExceptions()) {
             Class<? extends Exception> exceptionClass = resolveExceptionClass(exceptionClassName);
@@ -14,10 +14,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import io.github.serp.platform.redis.cache.RedisSerpCacheService;
 import io.github.serp.platform.redis.cache.SerpCacheService;
+import io.github.serp.platform.redis.codec.SerpRedisValueSerializer;
 import io.github.serp.platform.redis.key.DefaultSerpRedisKeyStrategy;
 import io.github.serp.platform.redis.key.SerpRedisKeyStrategy;
 import io.github.serp.platform.redis.lock.RedisSerpLockService;
@@ -30,13 +32,27 @@ import io.github.serp.platform.redis.properties.SerpRedisProperties;
 @ConditionalOnProperty(prefix = "serp.redis", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class SerpRedisAutoConfiguration {
 
+    @Bean
+    @ConditionalOnMissingBean(name = "serpRedisValueSerializer")
+    public RedisSerializer<Object> serpRedisValueSerializer(SerpRedisProperties properties) {
+        SerpRedisProperties.Codec codec = properties.getCodec();
+        return new SerpRedisValueSerializer(
+                codec.getFormat(),
+                codec.getCompression(),
+                codec.getCompressionThresholdBytes(),
+                codec.getTrustedPackages());
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "serpRedisTemplate")
-    public RedisTemplate<String, Object> serpRedisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> serpRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            RedisSerializer<Object> serpRedisValueSerializer) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(connectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(serpRedisValueSerializer);
         redisTemplate.afterPropertiesSet();
         return redisTemplate;
     }
@@ -5,16 +5,23 @@ Description: Part of Serp Project
 
 package io.github.serp.platform.redis.cache;
 
+import org.springframework.data.redis.connection.RedisZSetCommands;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +75,50 @@ public class RedisSerpCacheService implements SerpCacheService {
                 .map(type::cast);
     }
 
+    @Override
+    public Map<String, Object> multiGet(String namespace, List<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> resolvedKeys = keys.stream()
+                .map(key -> keyStrategy.cacheKey(namespace, key))
+                .toList();
+        List<Object> values = redisTemplate.opsForValue().multiGet(resolvedKeys);
+        if (values == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                result.put(keys.get(i), value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(String namespace, Map<String, ?> values, Duration ttl) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        Duration resolvedTtl = ttl == null ? resolveDefaultCacheTtl() : ttl;
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (Map.Entry<String, ?> entry : values.entrySet()) {
+                    ops.opsForValue().set(keyStrategy.cacheKey(namespace, entry.getKey()), entry.getValue(), resolvedTtl);
+                }
+                return null;
+            }
+        });
+    }
+
     @Override
     public void evict(String namespace, String key) {
         String cacheKey = keyStrategy.cacheKey(namespace, key);
@@ -217,6 +268,78 @@ public class RedisSerpCacheService implements SerpCacheService {
         return size == null ? 0L : size;
     }
 
+    @Override
+    public void sortedSetAddAll(String namespace, String key, Map<String, Double> scoredMembers, Duration ttl) {
+        if (scoredMembers == null || scoredMembers.isEmpty()) {
+            return;
+        }
+        String cacheKey = keyStrategy.cacheKey(namespace, key);
+        Set<ZSetOperations.TypedTuple<Object>> tuples = scoredMembers.entrySet().stream()
+                .map(entry -> ZSetOperations.TypedTuple.<Object>of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toSet());
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForZSet().add(cacheKey, tuples);
+                ops.expire(cacheKey, ttl == null ? resolveDefaultCacheTtl() : ttl);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void batchSortedSetUpdateIfPresent(String namespace, Collection<String> keys, String member, double score) {
+        if (keys == null || keys.isEmpty() || member == null) {
+            return;
+        }
+        byte[] memberBytes = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(member);
+        RedisZSetCommands.ZAddArgs args = RedisZSetCommands.ZAddArgs.ifExists().gt();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                byte[] keyBytes = keyStrategy.cacheKey(namespace, key).getBytes(StandardCharsets.UTF_8);
+                connection.zSetCommands().zAdd(keyBytes, score, memberBytes, args);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Map<String, Double> sortedSetReverseRangeByScore(String namespace, String key, double maxScore, long count) {
+        String cacheKey = keyStrategy.cacheKey(namespace, key);
+        Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(cacheKey, Double.NEGATIVE_INFINITY, maxScore, 0, count);
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                result.put(String.valueOf(tuple.getValue()), tuple.getScore());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void sortedSetRemove(String namespace, String key, String... members) {
+        if (members == null || members.length == 0) {
+            return;
+        }
+        String cacheKey = keyStrategy.cacheKey(namespace, key);
+        redisTemplate.opsForZSet().remove(cacheKey, (Object[]) members);
+    }
+
+    @Override
+    public void sortedSetRemoveRangeByRank(String namespace, String key, long start, long end) {
+        String cacheKey = keyStrategy.cacheKey(namespace, key);
+        redisTemplate.opsForZSet().removeRange(cacheKey, start, end);
+    }
+
     @Override
     public void hashPut(String namespace, String key, String field, String value) {
         String cacheKey = keyStrategy.cacheKey(namespace, key);
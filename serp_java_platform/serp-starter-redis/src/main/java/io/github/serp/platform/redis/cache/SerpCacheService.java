@@ -6,6 +6,7 @@ Description: Part of Serp Project
 package io.github.serp.platform.redis.cache;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +21,10 @@ public interface SerpCacheService {
 
     <T> Optional<T> get(String namespace, String key, Class<T> type);
 
+    Map<String, Object> multiGet(String namespace, List<String> keys);
+
+    void putAll(String namespace, Map<String, ?> values, Duration ttl);
+
     void evict(String namespace, String key);
 
     long evictByPattern(String namespace, String pattern, int batchSize);
@@ -50,6 +55,16 @@ public interface SerpCacheService {
 
     long getListSize(String namespace, String key);
 
+    void sortedSetAddAll(String namespace, String key, Map<String, Double> scoredMembers, Duration ttl);
+
+    void batchSortedSetUpdateIfPresent(String namespace, Collection<String> keys, String member, double score);
+
+    Map<String, Double> sortedSetReverseRangeByScore(String namespace, String key, double maxScore, long count);
+
+    void sortedSetRemove(String namespace, String key, String... members);
+
+    void sortedSetRemoveRangeByRank(String namespace, String key, long start, long end);
+
     void hashPut(String namespace, String key, String field, String value);
 
     void hashPutAll(String namespace, String key, Map<String, String> map);
@@ -0,0 +1,16 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project
+*/
+
+package io.github.serp.platform.redis.codec;
+
+/**
+ * Compression of encoded values at or above the configured threshold. ZSTD needs
+ * {@code com.github.luben:zstd-jni} on the classpath.
+ */
+public enum SerpRedisCompression {
+    NONE,
+    LZ4,
+    ZSTD
+}
@@ -0,0 +1,20 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project
+*/
+
+package io.github.serp.platform.redis.codec;
+
+/**
+ * Encoding of cached values. The format is recorded in each value's header, so switching it
+ * leaves existing entries readable.
+ */
+public enum SerpRedisValueFormat {
+    /**
+     * Plain JDK serialization without a header, as written before the codec existed
+     */
+    JDK,
+    JSON,
+    SMILE,
+    CBOR
+}
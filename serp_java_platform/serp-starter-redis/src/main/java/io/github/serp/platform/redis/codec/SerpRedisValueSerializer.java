@@ -0,0 +1,357 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project
+*/
+
+package io.github.serp.platform.redis.codec;
+
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * Redis value serializer that writes Jackson encoded values behind a small header:
+ * <pre>
+ * magic | format | compression | type id length (2 bytes) | type id | [raw length (4 bytes)] | body
+ * </pre>
+ * The type id is the value's class name and is checked against the trusted packages before the
+ * class is loaded, so a crafted entry cannot make a reader instantiate arbitrary types. Nested
+ * values whose declared type is not final, such as the elements of a collection or map, carry
+ * their class name in the body through Jackson default typing, checked by a
+ * {@link PolymorphicTypeValidator} built from the same trusted packages, so a {@code List} or
+ * {@code Map} of entities comes back as entities. Bodies at or above the compression threshold
+ * are compressed when that makes them smaller.
+ * <p>
+ * Values are mapped by their fields, like JDK serialization, and unknown properties are ignored,
+ * so a class can gain or lose fields without invalidating what is cached. Entries without the
+ * header are read as JDK serialized, so values written before the codec stay readable until they
+ * expire.
+ */
+public class SerpRedisValueSerializer implements RedisSerializer<Object> {
+    private static final byte MAGIC = (byte) 0xC5;
+
+    private static final int FIXED_HEADER_LENGTH = 5;
+    private static final int MAX_RAW_LENGTH = 512 * 1024 * 1024;
+    private static final int ZSTD_LEVEL = 3;
+    private static final String ZSTD_CLASS = "com.github.luben.zstd.Zstd";
+    private static final List<String> JDK_VALUE_PACKAGES = List.of("java.lang.", "java.util.", "java.time.", "java.math.");
+
+    private final SerpRedisValueFormat format;
+    private final SerpRedisCompression compression;
+    private final int compressionThreshold;
+    private final List<String> trustedPrefixes;
+    private final Map<SerpRedisValueFormat, ObjectMapper> mappers = new EnumMap<>(SerpRedisValueFormat.class);
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+    private final ConcurrentMap<String, Class<?>> resolvedTypes = new ConcurrentHashMap<>();
+    private final LZ4Compressor lz4Compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4SafeDecompressor lz4Decompressor = LZ4Factory.fastestInstance().safeDecompressor();
+
+    /**
+     * @param trustedPackages packages whose classes may be read besides java.lang, java.util,
+     *                        java.time and java.math; {@code *} trusts every class
+     */
+    public SerpRedisValueSerializer(
+            SerpRedisValueFormat format,
+            SerpRedisCompression compression,
+            int compressionThreshold,
+            Collection<String> trustedPackages) {
+        if (compression == SerpRedisCompression.ZSTD && !ClassUtils.isPresent(ZSTD_CLASS, null)) {
+            throw new IllegalStateException("serp.redis.codec.compression=ZSTD requires com.github.luben:zstd-jni");
+        }
+        this.format = format;
+        this.compression = compression;
+        this.compressionThreshold = Math.max(0, compressionThreshold);
+        this.trustedPrefixes = resolveTrustedPrefixes(trustedPackages);
+        PolymorphicTypeValidator validator = typeValidator(trustedPrefixes);
+        mappers.put(SerpRedisValueFormat.JSON, configure(JsonMapper.builder(), validator));
+        mappers.put(SerpRedisValueFormat.SMILE, configure(SmileMapper.builder(), validator));
+        mappers.put(SerpRedisValueFormat.CBOR, configure(CBORMapper.builder(), validator));
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (format == SerpRedisValueFormat.JDK) {
+            return jdkSerializer.serialize(value);
+        }
+
+        String typeId = typeId(value.getClass());
+        if (!isTrusted(typeId)) {
+            throw new SerializationException("Cannot cache " + typeId
+                    + ": add its package to serp.redis.codec.trusted-packages");
+        }
+        byte[] body;
+        try {
+            body = mappers.get(format).writeValueAsBytes(asRecordedType(value, typeId));
+        } catch (Exception ex) {
+            throw new SerializationException("Could not encode " + typeId, ex);
+        }
+
+        SerpRedisCompression applied = SerpRedisCompression.NONE;
+        int rawLength = body.length;
+        if (compression != SerpRedisCompression.NONE && body.length >= compressionThreshold) {
+            byte[] compressed = compress(compression, body);
+            if (compressed.length + Integer.BYTES < body.length) {
+                body = compressed;
+                applied = compression;
+            }
+        }
+
+        byte[] type = typeId.getBytes(StandardCharsets.UTF_8);
+        if (type.length > 0xFFFF) {
+            throw new SerializationException("Type id too long: " + typeId);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_HEADER_LENGTH + type.length
+                + (applied == SerpRedisCompression.NONE ? 0 : Integer.BYTES) + body.length);
+        buffer.put(MAGIC)
+                .put((byte) format.ordinal())
+                .put((byte) applied.ordinal())
+                .putShort((short) type.length)
+                .put(type);
+        if (applied != SerpRedisCompression.NONE) {
+            buffer.putInt(rawLength);
+        }
+        buffer.put(body);
+        return buffer.array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jdkSerializer.deserialize(bytes);
+        }
+        if (bytes.length < FIXED_HEADER_LENGTH) {
+            throw new SerializationException("Truncated cache value header");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        SerpRedisValueFormat valueFormat = decodeEnum(SerpRedisValueFormat.values(), buffer.get(), "format");
+        SerpRedisCompression valueCompression = decodeEnum(SerpRedisCompression.values(), buffer.get(), "compression");
+        int typeLength = Short.toUnsignedInt(buffer.getShort());
+        if (valueFormat == SerpRedisValueFormat.JDK || buffer.remaining() < typeLength) {
+            throw new SerializationException("Malformed cache value header");
+        }
+        String typeId = new String(bytes, buffer.position(), typeLength, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + typeLength);
+        Class<?> type = resolveType(typeId);
+
+        byte[] body = bytes;
+        int offset = buffer.position();
+        int length = buffer.remaining();
+        if (valueCompression != SerpRedisCompression.NONE) {
+            if (length < Integer.BYTES) {
+                throw new SerializationException("Truncated compressed cache value");
+            }
+            int rawLength = buffer.getInt();
+            if (rawLength < 0 || rawLength > MAX_RAW_LENGTH) {
+                throw new SerializationException("Invalid uncompressed length " + rawLength);
+            }
+            body = decompress(valueCompression, bytes, buffer.position(), buffer.remaining(), rawLength);
+            offset = 0;
+            length = rawLength;
+        }
+
+        try {
+            return mappers.get(valueFormat).readValue(body, offset, length, type);
+        } catch (Exception ex) {
+            throw new SerializationException("Could not decode " + typeId, ex);
+        }
+    }
+
+    private static ObjectMapper configure(MapperBuilder<?, ?> builder, PolymorphicTypeValidator validator) {
+        return builder
+                .findAndAddModules()
+                .activateDefaultTyping(validator, ObjectMapper.DefaultTyping.NON_FINAL)
+                .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+                .build();
+    }
+
+    private static List<String> resolveTrustedPrefixes(Collection<String> trustedPackages) {
+        List<String> prefixes = new ArrayList<>(JDK_VALUE_PACKAGES);
+        if (trustedPackages != null) {
+            for (String trustedPackage : trustedPackages) {
+                if (trustedPackage == null || trustedPackage.isBlank()) {
+                    continue;
+                }
+                String trimmed = trustedPackage.trim();
+                prefixes.add("*".equals(trimmed) ? "" : trimmed.endsWith(".") ? trimmed : trimmed + ".");
+            }
+        }
+        return List.copyOf(prefixes);
+    }
+
+    private static PolymorphicTypeValidator typeValidator(List<String> trustedPrefixes) {
+        BasicPolymorphicTypeValidator.Builder builder = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubTypeIsArray();
+        for (String prefix : trustedPrefixes) {
+            builder.allowIfSubType(prefix);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Class name recorded for a value. JDK collection implementations that cannot be
+     * instantiated by name (immutable, unmodifiable or view collections) are recorded as the
+     * general purpose implementation of their interface.
+     */
+    private static String typeId(Class<?> type) {
+        if (!type.getName().startsWith("java.") || Modifier.isPublic(type.getModifiers())) {
+            return type.getName();
+        }
+        if (SortedMap.class.isAssignableFrom(type)) {
+            return "java.util.TreeMap";
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return "java.util.LinkedHashMap";
+        }
+        if (SortedSet.class.isAssignableFrom(type)) {
+            return "java.util.TreeSet";
+        }
+        if (Set.class.isAssignableFrom(type)) {
+            return "java.util.LinkedHashSet";
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return "java.util.ArrayList";
+        }
+        return type.getName();
+    }
+
+    /**
+     * The value as an instance of its recorded class, so the body is typed the way the reader
+     * expects: a JDK collection recorded under its general purpose implementation is copied into one.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object asRecordedType(Object value, String typeId) {
+        if (typeId.equals(value.getClass().getName())) {
+            return value;
+        }
+        return switch (typeId) {
+            case "java.util.TreeMap" -> new TreeMap<>((SortedMap) value);
+            case "java.util.LinkedHashMap" -> new LinkedHashMap<>((Map) value);
+            case "java.util.TreeSet" -> new TreeSet<>((SortedSet) value);
+            case "java.util.LinkedHashSet" -> new LinkedHashSet<>((Collection) value);
+            case "java.util.ArrayList" -> new ArrayList<>((Collection) value);
+            default -> value;
+        };
+    }
+
+    private boolean isTrusted(String typeId) {
+        String elementType = typeId;
+        while (elementType.startsWith("[")) {
+            elementType = elementType.substring(1);
+        }
+        if (elementType.startsWith("L") && elementType.endsWith(";")) {
+            elementType = elementType.substring(1, elementType.length() - 1);
+        } else if (elementType.length() == 1 && !elementType.equals(typeId)) {
+            return true;
+        }
+        for (String prefix : trustedPrefixes) {
+            if (elementType.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Class<?> resolveType(String typeId) {
+        Class<?> type = resolvedTypes.get(typeId);
+        if (type != null) {
+            return type;
+        }
+        if (!isTrusted(typeId)) {
+            throw new SerializationException("Refusing to read untrusted type " + typeId);
+        }
+        try {
+            type = ClassUtils.forName(typeId, ClassUtils.getDefaultClassLoader());
+        } catch (ClassNotFoundException | LinkageError ex) {
+            throw new SerializationException("Unknown cached type " + typeId, ex);
+        }
+        resolvedTypes.putIfAbsent(typeId, type);
+        return type;
+    }
+
+    private byte[] compress(SerpRedisCompression algorithm, byte[] raw) {
+        return switch (algorithm) {
+            case LZ4 -> lz4Compressor.compress(raw);
+            case ZSTD -> com.github.luben.zstd.Zstd.compress(raw, ZSTD_LEVEL);
+            case NONE -> raw;
+        };
+    }
+
+    private byte[] decompress(SerpRedisCompression algorithm, byte[] source, int offset, int length, int rawLength) {
+        byte[] raw = new byte[rawLength];
+        try {
+            int written = switch (algorithm) {
+                case LZ4 -> lz4Decompressor.decompress(source, offset, length, raw, 0, rawLength);
+                case ZSTD -> {
+                    if (!ClassUtils.isPresent(ZSTD_CLASS, null)) {
+                        throw new SerializationException("Cached value is ZSTD compressed but zstd-jni is missing");
+                    }
+                    yield (int) com.github.luben.zstd.Zstd.decompressByteArray(
+                            raw, 0, rawLength, source, offset, length);
+                }
+                case NONE -> throw new SerializationException("Cached value is not compressed");
+            };
+            if (written != rawLength) {
+                throw new SerializationException("Decompressed " + written + " bytes, expected " + rawLength);
+            }
+        } catch (SerializationException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new SerializationException("Could not decompress cached value", ex);
+        }
+        return raw;
+    }
+
+    private static <E extends Enum<E>> E decodeEnum(E[] values, byte ordinal, String name) {
+        int index = Byte.toUnsignedInt(ordinal);
+        if (index >= values.length) {
+            throw new SerializationException("Unknown cache value " + name + " " + index);
+        }
+        return values[index];
+    }
+}
@@ -5,13 +5,20 @@ Description: Part of Serp Project
 
 package io.github.serp.platform.redis.properties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import io.github.serp.platform.redis.codec.SerpRedisCompression;
+import io.github.serp.platform.redis.codec.SerpRedisValueFormat;
+
 @ConfigurationProperties(prefix = "serp.redis")
 public class SerpRedisProperties {
     private boolean enabled = true;
     private Cache cache = new Cache();
     private Lock lock = new Lock();
+    private Codec codec = new Codec();
 
     public boolean isEnabled() {
         return enabled;
@@ -37,6 +44,14 @@ public class SerpRedisProperties {
         this.lock = lock;
     }
 
+    public Codec getCodec() {
+        return codec;
+    }
+
+    public void setCodec(Codec codec) {
+        this.codec = codec;
+    }
+
     public static class Cache {
         private String prefix = "serp:cache";
         private long defaultTtlSeconds = 300;
@@ -96,4 +111,43 @@ public class SerpRedisProperties {
             this.separator = separator;
         }
     }
+
+    public static class Codec {
+        private SerpRedisValueFormat format = SerpRedisValueFormat.JDK;
+        private SerpRedisCompression compression = SerpRedisCompression.LZ4;
+        private int compressionThresholdBytes = 1024;
+        private List<String> trustedPackages = new ArrayList<>();
+
+        public SerpRedisValueFormat getFormat() {
+            return format;
+        }
+
+        public void setFormat(SerpRedisValueFormat format) {
+            this.format = format;
+        }
+
+        public SerpRedisCompression getCompression() {
+            return compression;
+        }
+
+        public void setCompression(SerpRedisCompression compression) {
+            this.compression = compression;
+        }
+
+        public int getCompressionThresholdBytes() {
+            return compressionThresholdBytes;
+        }
+
+        public void setCompressionThresholdBytes(int compressionThresholdBytes) {
+            this.compressionThresholdBytes = compressionThresholdBytes;
+        }
+
+        public List<String> getTrustedPackages() {
+            return trustedPackages;
+        }
+
+        public void setTrustedPackages(List<String> trustedPackages) {
+            this.trustedPackages = trustedPackages;
+        }
+    }
 }
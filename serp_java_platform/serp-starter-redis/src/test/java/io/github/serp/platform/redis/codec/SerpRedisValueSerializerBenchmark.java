@@ -0,0 +1,198 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project
+*/
+
+package io.github.serp.platform.redis.codec;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Encode and decode time of the cache value codecs on the shapes services cache: one work item,
+ * a page of 50 work items and a project. The encoded size of each pair is printed once per
+ * trial. Not part of the test run; build the test classpath and start it with:
+ * {@code mvn -pl serp-starter-redis test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt}
+ * then {@code java -cp target/test-classes:target/classes:$(cat target/cp.txt)
+ * io.github.serp.platform.redis.codec.SerpRedisValueSerializerBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerpRedisValueSerializerBenchmark {
+
+    @Param({"JDK", "JSON", "JSON_LZ4", "SMILE", "SMILE_LZ4", "CBOR", "CBOR_ZSTD"})
+    public String codec;
+
+    @Param({"WORK_ITEM", "WORK_ITEM_PAGE", "PROJECT"})
+    public String shape;
+
+    private SerpRedisValueSerializer serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = codec.split("_");
+        SerpRedisCompression compression = parts.length > 1
+                ? SerpRedisCompression.valueOf(parts[1])
+                : SerpRedisCompression.NONE;
+        serializer = new SerpRedisValueSerializer(SerpRedisValueFormat.valueOf(parts[0]), compression, 1024,
+                List.of("io.github.serp.platform.redis.codec"));
+        value = switch (shape) {
+            case "WORK_ITEM" -> WorkItem.sample(1);
+            case "WORK_ITEM_PAGE" -> WorkItemPage.sample(50);
+            default -> Project.sample();
+        };
+        encoded = serializer.serialize(value);
+        System.out.printf("%n%s %s: %d bytes%n", codec, shape, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SerpRedisValueSerializerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    public static class WorkItem implements Serializable {
+        private Long id;
+        private Long tenantId;
+        private Long projectId;
+        private Long issueTypeId;
+        private Long issueNo;
+        private String key;
+        private String summary;
+        private String description;
+        private Long statusId;
+        private Long priorityId;
+        private Long resolutionId;
+        private Long assigneeId;
+        private Long reporterId;
+        private Long parentId;
+        private Long dueDate;
+        private String rank;
+        private Long timeOriginalEstimate;
+        private Long timeRemainingEstimate;
+        private Long timeSpent;
+        private String issueTypeName;
+        private String priorityName;
+        private String priorityColor;
+        private Long createdAt;
+        private Long createdBy;
+        private Long updatedAt;
+        private Long updatedBy;
+
+        static WorkItem sample(long id) {
+            WorkItem item = new WorkItem();
+            item.id = id;
+            item.tenantId = 12L;
+            item.projectId = 340L;
+            item.issueTypeId = 3L;
+            item.issueNo = id;
+            item.key = "PAY-" + id;
+            item.summary = "Checkout times out when the payment provider responds slowly";
+            item.description = "Steps to reproduce: add an item to the cart, pay with a saved card and wait. "
+                    + "The request is cancelled after 30 seconds while the provider is still processing, "
+                    + "and the order stays in pending payment until the reconciliation job runs.";
+            item.statusId = 21L;
+            item.priorityId = 2L;
+            item.assigneeId = 1_000L + id % 7;
+            item.reporterId = 1_001L;
+            item.parentId = 90L;
+            item.dueDate = 1_767_225_600_000L;
+            item.rank = "0|hzzzzz:" + id;
+            item.timeOriginalEstimate = 14_400L;
+            item.timeRemainingEstimate = 7_200L;
+            item.timeSpent = 7_200L;
+            item.issueTypeName = "Bug";
+            item.priorityName = "High";
+            item.priorityColor = "#FF5630";
+            item.createdAt = 1_760_000_000_000L + id;
+            item.createdBy = 1_001L;
+            item.updatedAt = 1_760_500_000_000L + id;
+            item.updatedBy = 1_002L;
+            return item;
+        }
+    }
+
+    public static class WorkItemPage implements Serializable {
+        private List<WorkItem> items;
+        private Long totalItems;
+        private String nextCursor;
+
+        static WorkItemPage sample(int size) {
+            WorkItemPage page = new WorkItemPage();
+            page.items = new ArrayList<>();
+            for (int i = 1; i <= size; i++) {
+                page.items.add(WorkItem.sample(i));
+            }
+            page.totalItems = 1_250L;
+            page.nextCursor = "eyJzIjoiY3JlYXRlZF9hdDpERVNDIiwidiI6MTc2MDAwMDAwMDA1MCwiaSI6NTB9";
+            return page;
+        }
+    }
+
+    public static class Project implements Serializable {
+        private Long id;
+        private String key;
+        private String name;
+        private String description;
+        private Long leadUserId;
+        private String projectTypeKey;
+        private Boolean isArchived;
+        private Long issueTypeSchemeId;
+        private Long workflowSchemeId;
+        private Long prioritySchemeId;
+        private Long createdAt;
+        private Long updatedAt;
+
+        static Project sample() {
+            Project project = new Project();
+            project.id = 340L;
+            project.key = "PAY";
+            project.name = "Payments";
+            project.description = "Checkout, refunds and payment provider integrations";
+            project.leadUserId = 1_001L;
+            project.projectTypeKey = "software";
+            project.isArchived = false;
+            project.issueTypeSchemeId = 5L;
+            project.workflowSchemeId = 6L;
+            project.prioritySchemeId = 7L;
+            project.createdAt = 1_700_000_000_000L;
+            project.updatedAt = 1_760_000_000_000L;
+            return project;
+        }
+    }
+}
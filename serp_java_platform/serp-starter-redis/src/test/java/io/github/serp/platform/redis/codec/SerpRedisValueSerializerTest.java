@@ -0,0 +1,177 @@
+/*
+Author: QuanTuanHuy
+Description: Part of Serp Project
+*/
+
+package io.github.serp.platform.redis.codec;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SerpRedisValueSerializerTest {
+    private static final List<String> TRUSTED = List.of("io.github.serp.platform.redis.codec");
+
+    @ParameterizedTest
+    @EnumSource(value = SerpRedisValueFormat.class, names = {"JSON", "SMILE", "CBOR"})
+    void shouldRoundTripEntityInEachFormat(SerpRedisValueFormat format) {
+        SerpRedisValueSerializer serializer = new SerpRedisValueSerializer(
+                format, SerpRedisCompression.NONE, 1024, TRUSTED);
+        SampleEntity entity = SampleEntity.sample(7L);
+
+        Object decoded = serializer.deserialize(serializer.serialize(entity));
+
+        assertThat(decoded).isInstanceOf(SampleEntity.class);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(entity);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SerpRedisCompression.class, names = {"LZ4", "ZSTD"})
+    void shouldCompressValuesAboveThreshold(SerpRedisCompression compression) {
+        SerpRedisValueSerializer plain = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, SerpRedisCompression.NONE, 0, TRUSTED);
+        SerpRedisValueSerializer compressed = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, compression, 256, TRUSTED);
+        SampleEntity entity = SampleEntity.sample(1L);
+        entity.description = "Checkout fails with a timeout when the payment provider is slow. ".repeat(40);
+
+        byte[] bytes = compressed.serialize(entity);
+
+        assertThat(bytes.length).isLessThan(plain.serialize(entity).length / 2);
+        assertThat(compressed.deserialize(bytes)).usingRecursiveComparison().isEqualTo(entity);
+        assertThat(plain.deserialize(bytes)).usingRecursiveComparison().isEqualTo(entity);
+    }
+
+    @Test
+    void shouldKeepSmallValuesUncompressed() {
+        SerpRedisValueSerializer plain = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.JSON, SerpRedisCompression.NONE, 0, List.of());
+        SerpRedisValueSerializer compressed = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.JSON, SerpRedisCompression.LZ4, 1024, List.of());
+
+        assertThat(compressed.serialize("short value")).isEqualTo(plain.serialize("short value"));
+    }
+
+    @Test
+    void shouldReadEntriesWrittenInAnotherFormat() {
+        SerpRedisValueSerializer cbor = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.CBOR, SerpRedisCompression.NONE, 0, TRUSTED);
+        SerpRedisValueSerializer json = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.JSON, SerpRedisCompression.LZ4, 0, TRUSTED);
+        SampleEntity entity = SampleEntity.sample(3L);
+
+        assertThat(json.deserialize(cbor.serialize(entity))).usingRecursiveComparison().isEqualTo(entity);
+    }
+
+    @Test
+    void shouldRestoreTopLevelJdkTypes() {
+        SerpRedisValueSerializer serializer = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, SerpRedisCompression.LZ4, 1024, List.of());
+
+        assertThat(serializer.deserialize(serializer.serialize(42L))).isEqualTo(42L);
+        assertThat(serializer.deserialize(serializer.serialize(List.of("a", "b"))))
+                .isInstanceOf(ArrayList.class)
+                .isEqualTo(List.of("a", "b"));
+        assertThat(serializer.deserialize(serializer.serialize(Map.of("k", "v")))).isEqualTo(Map.of("k", "v"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SerpRedisValueFormat.class, names = {"JSON", "SMILE", "CBOR"})
+    void shouldRoundTripCollectionsOfEntities(SerpRedisValueFormat format) {
+        SerpRedisValueSerializer serializer = new SerpRedisValueSerializer(
+                format, SerpRedisCompression.LZ4, 0, TRUSTED);
+        List<SampleEntity> page = List.of(SampleEntity.sample(1L), SampleEntity.sample(2L));
+        Map<String, SampleEntity> byKey = Map.of("PRJ-1", SampleEntity.sample(1L), "PRJ-2", SampleEntity.sample(2L));
+
+        Object decodedPage = serializer.deserialize(serializer.serialize(page));
+        Object decodedByKey = serializer.deserialize(serializer.serialize(byKey));
+
+        assertThat(decodedPage).asList()
+                .hasSize(2)
+                .allSatisfy(element -> assertThat(element).isInstanceOf(SampleEntity.class));
+        assertThat(decodedPage).usingRecursiveComparison().isEqualTo(page);
+        assertThat(decodedByKey).asInstanceOf(InstanceOfAssertFactories.MAP)
+                .hasSize(2)
+                .allSatisfy((key, value) -> assertThat(value).isInstanceOf(SampleEntity.class));
+        assertThat(decodedByKey).usingRecursiveComparison().isEqualTo(byKey);
+    }
+
+    @Test
+    void shouldRejectUntrustedNestedTypes() {
+        SerpRedisValueSerializer writer = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, SerpRedisCompression.NONE, 0, List.of("*"));
+        SerpRedisValueSerializer reader = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, SerpRedisCompression.NONE, 0, List.of());
+        byte[] bytes = writer.serialize(List.of(SampleEntity.sample(1L)));
+
+        assertThatThrownBy(() -> reader.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void shouldRejectUntrustedTypes() {
+        SerpRedisValueSerializer writer = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, SerpRedisCompression.NONE, 0, List.of("*"));
+        SerpRedisValueSerializer reader = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, SerpRedisCompression.NONE, 0, List.of());
+        byte[] bytes = writer.serialize(SampleEntity.sample(1L));
+
+        assertThatThrownBy(() -> reader.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("untrusted");
+        assertThatThrownBy(() -> reader.serialize(SampleEntity.sample(1L)))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("trusted-packages");
+    }
+
+    @Test
+    void shouldReadLegacyJdkSerializedValues() {
+        SerpRedisValueSerializer serializer = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, SerpRedisCompression.LZ4, 1024, List.of());
+        byte[] legacy = new JdkSerializationRedisSerializer().serialize(Map.of("legacy", 1));
+
+        assertThat(serializer.deserialize(legacy)).isEqualTo(Map.of("legacy", 1));
+    }
+
+    @Test
+    void shouldRoundTripNull() {
+        SerpRedisValueSerializer serializer = new SerpRedisValueSerializer(
+                SerpRedisValueFormat.SMILE, SerpRedisCompression.LZ4, 1024, List.of());
+
+        assertThat(serializer.deserialize(serializer.serialize(null))).isNull();
+    }
+
+    static class SampleEntity {
+        private Long id;
+        private String key;
+        private String summary;
+        private String description;
+        private Long statusId;
+        private Long assigneeId;
+        private Instant createdAt;
+        private List<String> labels;
+
+        static SampleEntity sample(long id) {
+            SampleEntity entity = new SampleEntity();
+            entity.id = id;
+            entity.key = "PRJ-" + id;
+            entity.summary = "Payment timeout on checkout";
+            entity.description = "Steps to reproduce";
+            entity.statusId = 3L;
+            entity.createdAt = Instant.parse("2025-01-02T03:04:05Z");
+            entity.labels = List.of("backend", "payments");
+            return entity;
+        }
+    }
+}